@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.benchmarks;
+
+import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderBookImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderImpl;
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.OrderType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building a {@link MarketOrderBookImpl} from the parsed prices and quantities, the same way the Exchange
+ * Adapters do it: a {@link MarketOrderImpl} per order with the total computed as price x quantity.
+ *
+ * @author gazbert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarketOrderBookBenchmark {
+
+    private static final String MARKET_ID = "btcusd";
+
+    @Param({"10", "100", "1000"})
+    private int depth;
+
+    private BigDecimal[] askPrices;
+    private BigDecimal[] bidPrices;
+    private BigDecimal[] quantities;
+
+
+    @Setup
+    public void setup() {
+        askPrices = new BigDecimal[depth];
+        bidPrices = new BigDecimal[depth];
+        quantities = new BigDecimal[depth];
+        for (int i = 0; i < depth; i++) {
+            askPrices[i] = new BigDecimal("1001.25").add(new BigDecimal(i));
+            bidPrices[i] = new BigDecimal("999.75").subtract(new BigDecimal(i));
+            quantities[i] = new BigDecimal("0.01234567").multiply(new BigDecimal(i + 1));
+        }
+    }
+
+    @Benchmark
+    public MarketOrderBook createMarketOrderBook() {
+        final List<MarketOrder> sellOrders = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            sellOrders.add(new MarketOrderImpl(OrderType.SELL, askPrices[i], quantities[i],
+                    askPrices[i].multiply(quantities[i])));
+        }
+
+        final List<MarketOrder> buyOrders = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            buyOrders.add(new MarketOrderImpl(OrderType.BUY, bidPrices[i], quantities[i],
+                    bidPrices[i].multiply(quantities[i])));
+        }
+        return new MarketOrderBookImpl(MARKET_ID, sellOrders, buyOrders);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the request signing and nonce generation the Exchange Adapters do for every authenticated call.
+ * <p>
+ * The signatures are built the same way as the adapters build them: the Bitstamp HMAC-SHA256 hex signature, the
+ * Kraken SHA-256 + HMAC-SHA512 Base64 signature, and the Gemini HMAC-SHA384 hex signature. The adapters create the
+ * {@link Mac} once at init and reset it for each request; {@link #bitstampSignatureNewMacPerRequest()} shows what
+ * that saves.
+ *
+ * @author gazbert
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SigningBenchmark {
+
+    private static final String KEY = "key123";
+    private static final String SECRET = "notGonnaTellYa";
+    private static final String CLIENT_ID = "clientId123";
+    private static final String KRAKEN_PATH = "/0/private/AddOrder";
+    private static final String KRAKEN_POST_DATA =
+            "nonce=1442427512&pair=XBTUSD&type=buy&ordertype=limit&price=1200.12&volume=0.0213";
+    private static final String GEMINI_PAYLOAD = "eyJyZXF1ZXN0IjoiL3YxL29yZGVyL25ldyIsIm5vbmNlIjoxNDQyNDI3NTEyfQ==";
+
+    private long nonce;
+    private SecretKeySpec bitstampKeySpec;
+    private Mac bitstampMac;
+    private Mac krakenMac;
+    private Mac geminiMac;
+
+
+    @Setup
+    public void setup() throws Exception {
+        nonce = System.currentTimeMillis() / 1000;
+
+        bitstampKeySpec = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        bitstampMac = Mac.getInstance("HmacSHA256");
+        bitstampMac.init(bitstampKeySpec);
+
+        krakenMac = Mac.getInstance("HmacSHA512");
+        krakenMac.init(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA512"));
+
+        geminiMac = Mac.getInstance("HmacSHA384");
+        geminiMac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA384"));
+    }
+
+    @Benchmark
+    public String nonce() {
+        nonce++;
+        return Long.toString(nonce);
+    }
+
+    @Benchmark
+    public String bitstampSignature() {
+        return bitstampSignature(bitstampMac);
+    }
+
+    @Benchmark
+    public String bitstampSignatureNewMacPerRequest() throws Exception {
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(bitstampKeySpec);
+        return bitstampSignature(mac);
+    }
+
+    @Benchmark
+    public String krakenSignature() throws Exception {
+        nonce++;
+        final MessageDigest md = MessageDigest.getInstance("SHA-256");
+        md.update((Long.toString(nonce) + KRAKEN_POST_DATA).getBytes(StandardCharsets.UTF_8));
+        final byte[] messageHash = md.digest();
+
+        krakenMac.reset();
+        krakenMac.update(KRAKEN_PATH.getBytes(StandardCharsets.UTF_8));
+        krakenMac.update(messageHash);
+        return Base64.getEncoder().encodeToString(krakenMac.doFinal());
+    }
+
+    @Benchmark
+    public String geminiSignature() {
+        geminiMac.reset();
+        geminiMac.update(GEMINI_PAYLOAD.getBytes(StandardCharsets.UTF_8));
+        return toHex(geminiMac.doFinal()).toLowerCase();
+    }
+
+    private String bitstampSignature(Mac mac) {
+        nonce++;
+        mac.reset();
+        mac.update(String.valueOf(nonce).getBytes(StandardCharsets.UTF_8));
+        mac.update(CLIENT_ID.getBytes(StandardCharsets.UTF_8));
+        mac.update(KEY.getBytes(StandardCharsets.UTF_8));
+        return toHex(mac.doFinal()).toUpperCase();
+    }
+
+    /*
+     * Same as the adapters' toHex().
+     */
+    private static String toHex(byte[] byteArrayToConvert) {
+        final StringBuilder hexString = new StringBuilder();
+        for (final byte aByte : byteArrayToConvert) {
+            hexString.append(String.format("%02x", aByte & 0xff));
+        }
+        return hexString.toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.benchmarks;
+
+import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
+import com.gazbert.bxbot.exchange.api.ExchangeConfig;
+import com.gazbert.bxbot.exchanges.trading.api.impl.BalanceInfoImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderBookImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.OrderStatusImpl;
+import com.gazbert.bxbot.trading.api.BalanceInfo;
+import com.gazbert.bxbot.trading.api.Fill;
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.OrderState;
+import com.gazbert.bxbot.trading.api.OrderStatus;
+import com.gazbert.bxbot.trading.api.OrderType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exchange Adapter that returns canned responses without going near the network. Used by the
+ * {@link TradingEngineBenchmark} so it measures the Trading Engine and Trading Strategy, not the exchange.
+ * <p>
+ * Orders are filled straight away - the open orders list is always empty - so the Example Scalping Strategy
+ * alternates between placing buy and sell orders each trade cycle.
+ * <p>
+ * The Trading Engine creates the adapter reflectively, so it must be public and have a no-arg constructor.
+ *
+ * @author gazbert
+ */
+public final class StubExchangeAdapter implements ExchangeAdapter {
+
+    static final String EMERGENCY_STOP_CURRENCY = "BTC";
+    private static final int ORDER_BOOK_DEPTH = 20;
+    private static final BigDecimal EXCHANGE_FEE = new BigDecimal("0.0025");
+
+    private final AtomicLong orderIdSequence = new AtomicLong();
+    private final Map<String, String> orderIdsByClientOrderId = new ConcurrentHashMap<>();
+    private final BalanceInfo balanceInfo;
+    private MarketOrderBook marketOrderBook;
+
+
+    public StubExchangeAdapter() {
+        final Map<String, BigDecimal> balancesAvailable = new HashMap<>();
+        balancesAvailable.put(EMERGENCY_STOP_CURRENCY, new BigDecimal("10.0"));
+        balanceInfo = new BalanceInfoImpl(balancesAvailable, new HashMap<>());
+    }
+
+    @Override
+    public void init(ExchangeConfig config) {
+        // nothing to configure
+    }
+
+    @Override
+    public String getImplName() {
+        return "Stub Exchange Adapter";
+    }
+
+    @Override
+    public MarketOrderBook getMarketOrders(String marketId) {
+        if (marketOrderBook == null) {
+            marketOrderBook = createMarketOrderBook(marketId);
+        }
+        return marketOrderBook;
+    }
+
+    @Override
+    public List<OpenOrder> getYourOpenOrders(String marketId) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price) {
+        return Long.toString(orderIdSequence.incrementAndGet());
+    }
+
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                              String clientOrderId) {
+        final String orderId = createOrder(marketId, orderType, quantity, price);
+        orderIdsByClientOrderId.put(clientOrderId, orderId);
+        return orderId;
+    }
+
+    @Override
+    public boolean supportsClientOrderIds() {
+        return true;
+    }
+
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) {
+        return orderIdsByClientOrderId.get(clientOrderId);
+    }
+
+    @Override
+    public boolean cancelOrder(String orderId, String marketId) {
+        return true;
+    }
+
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) {
+        return new OrderStatusImpl(orderId, marketId, null, OrderState.FILLED, null, null, null, null);
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    @Override
+    public List<Fill> getFills(String marketId, Date since) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public BigDecimal getLatestMarketPrice(String marketId) {
+        return new BigDecimal("1000.00");
+    }
+
+    @Override
+    public BalanceInfo getBalanceInfo() {
+        return balanceInfo;
+    }
+
+    @Override
+    public BigDecimal getPercentageOfBuyOrderTakenForExchangeFee(String marketId) {
+        return EXCHANGE_FEE;
+    }
+
+    @Override
+    public BigDecimal getPercentageOfSellOrderTakenForExchangeFee(String marketId) {
+        return EXCHANGE_FEE;
+    }
+
+    private static MarketOrderBook createMarketOrderBook(String marketId) {
+        final List<MarketOrder> sellOrders = new ArrayList<>(ORDER_BOOK_DEPTH);
+        final List<MarketOrder> buyOrders = new ArrayList<>(ORDER_BOOK_DEPTH);
+        final BigDecimal quantity = new BigDecimal("0.5");
+        for (int i = 0; i < ORDER_BOOK_DEPTH; i++) {
+            final BigDecimal askPrice = new BigDecimal(1001 + i);
+            final BigDecimal bidPrice = new BigDecimal(999 - i);
+            sellOrders.add(new MarketOrderImpl(OrderType.SELL, askPrice, quantity, askPrice.multiply(quantity)));
+            buyOrders.add(new MarketOrderImpl(OrderType.BUY, bidPrice, quantity, bidPrice.multiply(quantity)));
+        }
+        return new MarketOrderBookImpl(marketId, sellOrders, buyOrders);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.benchmarks;
+
+import com.gazbert.bxbot.core.engine.TradingEngine;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
+import com.gazbert.bxbot.core.mail.EmailAlerter;
+import com.gazbert.bxbot.domain.emailalerts.EmailAlertsConfig;
+import com.gazbert.bxbot.domain.engine.EngineConfig;
+import com.gazbert.bxbot.domain.exchange.ExchangeConfig;
+import com.gazbert.bxbot.domain.market.MarketConfig;
+import com.gazbert.bxbot.domain.strategy.StrategyConfig;
+import com.gazbert.bxbot.services.EmailAlertsConfigService;
+import com.gazbert.bxbot.services.EngineConfigService;
+import com.gazbert.bxbot.services.ExchangeConfigService;
+import com.gazbert.bxbot.services.MarketConfigService;
+import com.gazbert.bxbot.services.StrategyConfigService;
+import com.gazbert.bxbot.strategies.ExampleScalpingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a full Trading Engine trade cycle: the Emergency Stop check and the Example Scalping Strategy executing
+ * on a number of markets, against the {@link StubExchangeAdapter}.
+ * <p>
+ * The engine runs in its own thread with a long trade cycle interval. Each benchmark op triggers an immediate trade
+ * cycle and waits for the engine to publish the trade cycle finished event, so the time includes the hand-off to and
+ * from the engine thread.
+ * <p>
+ * The trade cycle allocates on the engine thread, and the GC profiler's gc.alloc.rate.norm only counts the benchmark
+ * thread - use gc.churn.Eden_Space.norm for the allocation per trade cycle.
+ *
+ * @author gazbert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradingEngineBenchmark {
+
+    private static final int MARKET_COUNT = 4;
+    private static final String STRATEGY_ID = "scalping-strategy";
+    private static final int TRADE_CYCLE_INTERVAL_SECS = 3600;
+    private static final long TRADE_CYCLE_TIMEOUT_SECS = 10;
+
+    private final Semaphore tradeCyclesFinished = new Semaphore(0);
+    private EngineEventBus engineEventBus;
+    private EmailAlerter emailAlerter;
+    private TradingEngine tradingEngine;
+
+
+    @Setup
+    public void setup() throws Exception {
+
+        engineEventBus = new EngineEventBus();
+        engineEventBus.subscribe(event -> {
+            if (event.getType() == EngineEventType.TRADE_CYCLE_FINISHED) {
+                tradeCyclesFinished.release();
+            }
+        });
+
+        emailAlerter = new EmailAlerter(new StubEmailAlertsConfigService());
+        tradingEngine = new TradingEngine(new StubExchangeConfigService(), new StubEngineConfigService(),
+                new StubStrategyConfigService(), new StubMarketConfigService(), emailAlerter, engineEventBus);
+
+        final Thread engineThread = new Thread(tradingEngine::start, "trading-engine");
+        engineThread.setDaemon(true);
+        engineThread.start();
+
+        // wait for the first trade cycle the engine runs on startup
+        awaitTradeCycle();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tradingEngine.shutdown();
+        engineEventBus.shutdown();
+        emailAlerter.shutdown();
+    }
+
+    @Benchmark
+    public void tradeCycle() throws Exception {
+        tradingEngine.triggerTradeCycle();
+        awaitTradeCycle();
+    }
+
+    private void awaitTradeCycle() throws InterruptedException {
+        if (!tradeCyclesFinished.tryAcquire(TRADE_CYCLE_TIMEOUT_SECS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Trading Engine did not finish trade cycle within "
+                    + TRADE_CYCLE_TIMEOUT_SECS + "s - is it still running? " + tradingEngine.isRunning());
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // Stub config services
+    // ------------------------------------------------------------------------
+
+    private static final class StubExchangeConfigService implements ExchangeConfigService {
+
+        @Override
+        public ExchangeConfig getExchangeConfig() {
+            final ExchangeConfig exchangeConfig = new ExchangeConfig();
+            exchangeConfig.setExchangeName("Stub Exchange");
+            exchangeConfig.setExchangeAdapter(StubExchangeAdapter.class.getName());
+            return exchangeConfig;
+        }
+
+        @Override
+        public List<ExchangeConfig> getAllExchangeConfig() {
+            return Collections.singletonList(getExchangeConfig());
+        }
+
+        @Override
+        public ExchangeConfig updateExchangeConfig(ExchangeConfig config) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubEngineConfigService implements EngineConfigService {
+
+        @Override
+        public EngineConfig getEngineConfig() {
+            return new EngineConfig("benchmark-bot", "Benchmark Bot", StubExchangeAdapter.EMERGENCY_STOP_CURRENCY,
+                    new BigDecimal("1.0"), TRADE_CYCLE_INTERVAL_SECS);
+        }
+
+        @Override
+        public EngineConfig updateEngineConfig(EngineConfig config) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubStrategyConfigService implements StrategyConfigService {
+
+        @Override
+        public List<StrategyConfig> getAllStrategyConfig() {
+            final Map<String, String> configItems = new HashMap<>();
+            configItems.put("counter-currency-buy-order-amount", "20");
+            configItems.put("minimum-percentage-gain", "0.02");
+            return Collections.singletonList(new StrategyConfig(STRATEGY_ID, "Scalping Strategy",
+                    "Example Scalping Strategy", ExampleScalpingStrategy.class.getName(), configItems));
+        }
+
+        @Override
+        public StrategyConfig getStrategyConfig(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyConfig updateStrategyConfig(StrategyConfig config) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyConfig createStrategyConfig(StrategyConfig config) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyConfig deleteStrategyConfig(String id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubMarketConfigService implements MarketConfigService {
+
+        @Override
+        public List<MarketConfig> getAllMarketConfig() {
+            final List<MarketConfig> markets = new ArrayList<>(MARKET_COUNT);
+            for (int i = 0; i < MARKET_COUNT; i++) {
+                final String counterCurrency = "CUR" + i;
+                markets.add(new MarketConfig("btc_" + counterCurrency.toLowerCase(), "BTC/" + counterCurrency,
+                        "BTC", counterCurrency, true, STRATEGY_ID));
+            }
+            return markets;
+        }
+
+        @Override
+        public MarketConfig getMarketConfig(String id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarketConfig createMarketConfig(MarketConfig config) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarketConfig updateMarketConfig(MarketConfig config) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarketConfig deleteMarketConfig(String id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class StubEmailAlertsConfigService implements EmailAlertsConfigService {
+
+        @Override
+        public EmailAlertsConfig getEmailAlertsConfig() {
+            return new EmailAlertsConfig(false, null);
+        }
+
+        @Override
+        public EmailAlertsConfig updateEmailAlertsConfig(EmailAlertsConfig config) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.core.config.exchange.AuthenticationConfigImpl;
+import com.gazbert.bxbot.core.config.exchange.ExchangeConfigImpl;
+import com.gazbert.bxbot.core.config.exchange.NetworkConfigImpl;
+import com.gazbert.bxbot.core.config.exchange.OptionalConfigImpl;
+import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
+import com.gazbert.bxbot.trading.api.BalanceInfo;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.google.common.io.ByteStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each Exchange Adapter's order book, balance, and open orders calls, plus an order cancel to cover the
+ * authenticated request signing and nonce generation.
+ * <p>
+ * The network is stubbed out by {@link StubExchangeConnections}; the canned responses are the JSON files the adapter
+ * unit tests use. So each benchmark covers everything the adapter does for a call apart from the network I/O:
+ * building and signing the request, reading the response, and parsing the JSON into Trading API objects.
+ *
+ * @author gazbert
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExchangeAdapterBenchmark {
+
+    private static final String KEY = "key123";
+    private static final String SECRET = "notGonnaTellYa";
+    private static final String ORDER_ID = "12345";
+
+    @Param({"bitfinex", "bitstamp", "gdax", "gemini", "huobi", "itbit", "kraken", "okcoin"})
+    private String exchange;
+
+    private ExchangeAdapter exchangeAdapter;
+    private String marketId;
+    private byte[] orderBookResponse;
+    private byte[] balanceResponse;
+    private byte[] openOrdersResponse;
+    private byte[] cancelOrderResponse;
+
+
+    @Setup
+    public void setup() throws Exception {
+
+        StubExchangeConnections.install();
+
+        final Map<String, String> authenticationItems = new HashMap<>();
+        authenticationItems.put("key", KEY);
+        authenticationItems.put("secret", SECRET);
+
+        final Map<String, String> optionalItems = new HashMap<>();
+        optionalItems.put("buy-fee", "0.25");
+        optionalItems.put("sell-fee", "0.25");
+
+        switch (exchange) {
+            case "bitfinex":
+                exchangeAdapter = new BitfinexExchangeAdapter();
+                marketId = "btcusd";
+                loadResponses("book.json", "balances.json", "orders.json", "order_cancel.json");
+                break;
+            case "bitstamp":
+                exchangeAdapter = new BitstampExchangeAdapter();
+                marketId = "btcusd";
+                authenticationItems.put("client-id", "clientId123");
+                loadResponses("order_book.json", "balance.json", "open_orders.json", "cancel_order.json");
+                break;
+            case "gdax":
+                exchangeAdapter = new GdaxExchangeAdapter();
+                marketId = "BTC-GBP";
+                authenticationItems.put("passphrase", "lePassPhrase");
+                loadResponses("book.json", "accounts.json", "orders.json", "cancel.json");
+                break;
+            case "gemini":
+                exchangeAdapter = new GeminiExchangeAdapter();
+                marketId = "ethbtc";
+                loadResponses("book.json", "balances.json", "orders.json", "order_cancel.json");
+                break;
+            case "huobi":
+                exchangeAdapter = new HuobiExchangeAdapter();
+                marketId = "BTC-USD";
+                optionalItems.put("account-info-market", "usd");
+                loadResponses("detail_btc.json", "get_account_info.json", "get_orders.json", "cancel_order.json");
+                break;
+            case "itbit":
+                exchangeAdapter = new ItBitExchangeAdapter();
+                marketId = "XBTUSD";
+                authenticationItems.put("userId", "userId123");
+                optionalItems.put("keep-alive-during-maintenance", "false");
+                loadResponses("order_book.json", "wallets.json", "orders.json", "cancel_order.json");
+                break;
+            case "kraken":
+                exchangeAdapter = new KrakenExchangeAdapter();
+                marketId = "XBTUSD";
+                optionalItems.put("keep-alive-during-maintenance", "false");
+                loadResponses("Depth.json", "Balance.json", "OpenOrders.json", "CancelOrder.json");
+                break;
+            case "okcoin":
+                exchangeAdapter = new OkCoinExchangeAdapter();
+                marketId = "btc_usd";
+                loadResponses("depth.json", "userinfo.json", "order_info.json", "cancel_order.json");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown exchange: " + exchange);
+        }
+
+        exchangeAdapter.init(exchangeConfig(authenticationItems, optionalItems));
+
+        // itBit fetches the wallet id on the first balance call and caches it - get that out of the way now.
+        balanceInfo();
+    }
+
+    @Benchmark
+    public MarketOrderBook marketOrders() throws Exception {
+        StubExchangeConnections.respondWith(orderBookResponse);
+        return exchangeAdapter.getMarketOrders(marketId);
+    }
+
+    @Benchmark
+    public BalanceInfo balanceInfo() throws Exception {
+        StubExchangeConnections.respondWith(balanceResponse);
+        return exchangeAdapter.getBalanceInfo();
+    }
+
+    @Benchmark
+    public List<OpenOrder> openOrders() throws Exception {
+        StubExchangeConnections.respondWith(openOrdersResponse);
+        return exchangeAdapter.getYourOpenOrders(marketId);
+    }
+
+    @Benchmark
+    public boolean cancelOrder() throws Exception {
+        StubExchangeConnections.respondWith(cancelOrderResponse);
+        return exchangeAdapter.cancelOrder(ORDER_ID, marketId);
+    }
+
+    // ------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------
+
+    private void loadResponses(String orderBook, String balance, String openOrders, String cancelOrder)
+            throws IOException {
+        orderBookResponse = loadResponse(orderBook);
+        balanceResponse = loadResponse(balance);
+        openOrdersResponse = loadResponse(openOrders);
+        cancelOrderResponse = loadResponse(cancelOrder);
+    }
+
+    private byte[] loadResponse(String fileName) throws IOException {
+        final String resource = "/exchange-data/" + exchange + "/" + fileName;
+        try (InputStream inputStream = getClass().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IOException("Missing exchange response: " + resource);
+            }
+            return ByteStreams.toByteArray(inputStream);
+        }
+    }
+
+    private static ExchangeConfigImpl exchangeConfig(Map<String, String> authenticationItems,
+                                                     Map<String, String> optionalItems) {
+
+        final AuthenticationConfigImpl authenticationConfig = new AuthenticationConfigImpl();
+        authenticationConfig.setItems(authenticationItems);
+
+        final NetworkConfigImpl networkConfig = new NetworkConfigImpl();
+        networkConfig.setConnectionTimeout(30);
+        networkConfig.setNonFatalErrorCodes(new ArrayList<>());
+        networkConfig.setNonFatalErrorMessages(new ArrayList<>());
+
+        final OptionalConfigImpl optionalConfig = new OptionalConfigImpl();
+        optionalConfig.setItems(optionalItems);
+
+        final ExchangeConfigImpl exchangeConfig = new ExchangeConfigImpl();
+        exchangeConfig.setAuthenticationConfig(authenticationConfig);
+        exchangeConfig.setNetworkConfig(networkConfig);
+        exchangeConfig.setOptionalConfig(optionalConfig);
+        return exchangeConfig;
+    }
+}
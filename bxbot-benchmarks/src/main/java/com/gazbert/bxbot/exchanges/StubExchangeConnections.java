@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+
+/**
+ * Replaces the JVM's HTTP and HTTPS connections with stubs that return a canned exchange response, so the Exchange
+ * Adapters can be benchmarked end-to-end - request signing, sending, and JSON parsing - without going down the wire.
+ * <p>
+ * The URL stream handler factory can only be set once per JVM, so this must be installed before any HTTP(S) URLs
+ * are created.
+ *
+ * @author gazbert
+ */
+final class StubExchangeConnections {
+
+    private static volatile byte[] response = new byte[0];
+
+    static {
+        URL.setURLStreamHandlerFactory(protocol ->
+                "https".equals(protocol) || "http".equals(protocol) ? new StubUrlStreamHandler() : null);
+    }
+
+    private StubExchangeConnections() {
+    }
+
+    /**
+     * Installs the stub connections. Safe to call more than once.
+     */
+    static void install() {
+        // the static initializer does the work
+    }
+
+    /**
+     * Sets the response body returned for every request until it is changed.
+     *
+     * @param responseBody the response body.
+     */
+    static void respondWith(byte[] responseBody) {
+        response = responseBody;
+    }
+
+    private static final class StubUrlStreamHandler extends URLStreamHandler {
+        @Override
+        protected URLConnection openConnection(URL url) {
+            return new StubHttpUrlConnection(url);
+        }
+    }
+
+    private static final class StubHttpUrlConnection extends HttpURLConnection {
+
+        StubHttpUrlConnection(URL url) {
+            super(url);
+        }
+
+        @Override
+        public void connect() {
+            connected = true;
+        }
+
+        @Override
+        public void disconnect() {
+            connected = false;
+        }
+
+        @Override
+        public boolean usingProxy() {
+            return false;
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return new OutputStream() {
+                @Override
+                public void write(int b) {
+                    // the request body is discarded
+                }
+            };
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(response);
+        }
+
+        @Override
+        public int getResponseCode() {
+            return HTTP_OK;
+        }
+
+        @Override
+        public String getResponseMessage() {
+            return "OK";
+        }
+    }
+}
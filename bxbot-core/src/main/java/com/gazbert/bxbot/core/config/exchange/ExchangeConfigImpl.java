@@ -36,12 +36,22 @@ import com.google.common.base.MoreObjects;
  */
 public class ExchangeConfigImpl implements ExchangeConfig {
 
+    private String id;
     private String exchangeName;
     private String exchangeAdapter;
     private AuthenticationConfig authenticationConfig;
     private NetworkConfig networkConfig;
     private OptionalConfig optionalConfig;
 
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     @Override
     public String getExchangeName() {
         return exchangeName;
@@ -89,6 +99,7 @@ public class ExchangeConfigImpl implements ExchangeConfig {
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
+                .add("id", id)
                 .add("exchangeName", exchangeName)
                 .add("exchangeAdapter", exchangeAdapter)
                 // WARNING - careful showing this!
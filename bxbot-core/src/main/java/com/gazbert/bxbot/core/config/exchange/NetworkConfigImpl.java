@@ -39,6 +39,10 @@ public class NetworkConfigImpl implements NetworkConfig {
     private Integer connectionTimeout;
     private List<Integer> nonFatalErrorCodes;
     private List<String> nonFatalErrorMessages;
+    private Integer maxRetries;
+    private Integer retryBackoff;
+    private Integer callDeadline;
+    private Integer keepAliveInterval;
 
     public NetworkConfigImpl() {
         nonFatalErrorCodes = new ArrayList<>();
@@ -72,12 +76,52 @@ public class NetworkConfigImpl implements NetworkConfig {
         this.nonFatalErrorMessages = nonFatalErrorMessages;
     }
 
+    @Override
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public Integer getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Integer retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Override
+    public Integer getCallDeadline() {
+        return callDeadline;
+    }
+
+    public void setCallDeadline(Integer callDeadline) {
+        this.callDeadline = callDeadline;
+    }
+
+    @Override
+    public Integer getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    public void setKeepAliveInterval(Integer keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("connectionTimeout", connectionTimeout)
                 .add("nonFatalErrorCodes", nonFatalErrorCodes)
                 .add("nonFatalErrorMessages", nonFatalErrorMessages)
+                .add("maxRetries", maxRetries)
+                .add("retryBackoff", retryBackoff)
+                .add("callDeadline", callDeadline)
+                .add("keepAliveInterval", keepAliveInterval)
                 .toString();
     }
 }
@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
+import com.gazbert.bxbot.exchange.api.ExchangeRequestListener;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapts how often an exchange lane polls its exchange to how the exchange is coping, so each exchange is traded on
+ * as often as it can sustain.
+ * <p>
+ * The controller listens to the lane's Exchange Adapter, which tells it about each request it sends to the exchange -
+ * each attempt, if a request is retried - how long it took, and if it failed with a network error. Calls the adapter
+ * answers from memory, e.g. fees it has cached, are not seen. At the end of each trade cycle, the controller adjusts
+ * the time the lane waits before the next trade cycle, AIMD style:
+ * <ul>
+ * <li>The exchange failed a request with one of the non-fatal HTTP status codes in its network config, e.g. 429 or
+ * 503: it is throttling us or struggling, so the wait is doubled.</li>
+ * <li>A request failed with another network error, e.g. a socket timeout: the wait is increased by half.</li>
+ * <li>The 90th percentile latency of the trade cycle's requests was more than twice the lowest seen in recent trade
+ * cycles: the exchange is slowing down, so the wait is increased by a quarter.</li>
+ * <li>Otherwise, the wait is shortened by a 20th of the range between the bounds.</li>
+ * </ul>
+ * A trade cycle that sent no requests to the exchange leaves the wait as it is, as does an adapter that does not report
+ * its requests. The wait always stays within the configured bounds; if both bounds are the same, the wait is fixed and
+ * nothing is adjusted.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author gazbert
+ */
+class AdaptivePollingController implements ExchangeRequestListener {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private static final double THROTTLED_BACKOFF_FACTOR = 2.0;
+    private static final double NETWORK_ERROR_BACKOFF_FACTOR = 1.5;
+    private static final double SLOW_EXCHANGE_BACKOFF_FACTOR = 1.25;
+
+    /*
+     * The latency percentile each trade cycle is judged on, and how many times the lowest recent one it can be before
+     * the exchange is considered to be slowing down.
+     */
+    private static final double LATENCY_PERCENTILE = 0.9;
+    private static final double MAX_LATENCY_INFLATION = 2.0;
+
+    /*
+     * Number of trade cycles the lowest latency percentile is taken over.
+     */
+    private static final int LATENCY_BASELINE_TRADE_CYCLES = 50;
+
+    /*
+     * Number of healthy trade cycles it takes to recover from the max wait to the min wait.
+     */
+    private static final int RECOVERY_TRADE_CYCLES = 20;
+
+    private final String exchangeId;
+    private final ExchangeAdapter exchangeAdapter;
+    private final String exchangeAdapterClassName;
+
+    /*
+     * The non-fatal HTTP status codes in the exchange's network config, e.g. 429 and 503.
+     */
+    private final Set<Integer> throttlingStatusCodes;
+
+    /*
+     * The current wait between trade cycles. Published as a gauge.
+     */
+    private final AtomicLong pollingPeriodMillis;
+
+    private long minPollingPeriodMillis;
+    private long maxPollingPeriodMillis;
+
+    /*
+     * What was seen since the last adjustment. Guarded by this.
+     */
+    private final List<Long> callLatencies = new ArrayList<>();
+    private int throttledCalls;
+    private int failedCalls;
+
+    /*
+     * The latency percentiles of the most recent trade cycles, oldest first. Guarded by this.
+     */
+    private final Deque<Long> recentLatencyPercentiles = new ArrayDeque<>();
+
+
+    AdaptivePollingController(String exchangeId, ExchangeAdapter exchangeAdapter,
+                              Collection<Integer> throttlingStatusCodes, AtomicLong pollingPeriodMillis) {
+        this.exchangeId = exchangeId;
+        this.exchangeAdapter = exchangeAdapter;
+        this.exchangeAdapterClassName = exchangeAdapter.getClass().getName();
+        this.throttlingStatusCodes = new HashSet<>(throttlingStatusCodes);
+        this.pollingPeriodMillis = pollingPeriodMillis;
+        exchangeAdapter.setExchangeRequestListener(this);
+    }
+
+    /*
+     * Sets the bounds the wait is kept within, and starts it at the given wait.
+     */
+    synchronized void configure(long initialPollingPeriodMillis, long minPollingPeriodMillis,
+                                long maxPollingPeriodMillis) {
+        this.minPollingPeriodMillis = minPollingPeriodMillis;
+        this.maxPollingPeriodMillis = maxPollingPeriodMillis;
+        pollingPeriodMillis.set(initialPollingPeriodMillis);
+    }
+
+    ExchangeAdapter getExchangeAdapter() {
+        return exchangeAdapter;
+    }
+
+    String getExchangeAdapterClassName() {
+        return exchangeAdapterClassName;
+    }
+
+    long getPollingPeriodMillis() {
+        return pollingPeriodMillis.get();
+    }
+
+    @Override
+    public synchronized void requestSucceeded(long latencyNanos) {
+        callLatencies.add(latencyNanos);
+    }
+
+    @Override
+    public synchronized void requestFailed(Integer httpStatusCode) {
+        if (httpStatusCode != null && throttlingStatusCodes.contains(httpStatusCode)) {
+            throttledCalls++;
+        } else {
+            failedCalls++;
+        }
+    }
+
+    /*
+     * Called by the lane at the end of each trade cycle.
+     */
+    synchronized long adjust() {
+
+        final long currentPollingPeriodMillis = pollingPeriodMillis.get();
+        if (minPollingPeriodMillis == maxPollingPeriodMillis) {
+            clearTradeCycle();
+            return currentPollingPeriodMillis;
+        }
+
+        final Long latencyPercentile = latencyPercentile();
+        final String reason;
+        long newPollingPeriodMillis = currentPollingPeriodMillis;
+
+        if (throttledCalls > 0) {
+            reason = throttledCalls + " call(s) throttled or failed by the exchange";
+            newPollingPeriodMillis = (long) (currentPollingPeriodMillis * THROTTLED_BACKOFF_FACTOR);
+
+        } else if (failedCalls > 0) {
+            reason = failedCalls + " call(s) failed with a network error";
+            newPollingPeriodMillis = (long) (currentPollingPeriodMillis * NETWORK_ERROR_BACKOFF_FACTOR);
+
+        } else if (latencyPercentile != null && isLatencyInflated(latencyPercentile)) {
+            reason = "p90 latency rose to " + TimeUnit.NANOSECONDS.toMillis(latencyPercentile) + "ms";
+            newPollingPeriodMillis = (long) (currentPollingPeriodMillis * SLOW_EXCHANGE_BACKOFF_FACTOR);
+
+        } else if (latencyPercentile != null) {
+            reason = "exchange is healthy";
+            newPollingPeriodMillis = currentPollingPeriodMillis - Math.max(1,
+                    (maxPollingPeriodMillis - minPollingPeriodMillis) / RECOVERY_TRADE_CYCLES);
+
+        } else {
+            reason = null; // no calls made, so nothing learned
+        }
+
+        newPollingPeriodMillis = Math.max(minPollingPeriodMillis, Math.min(maxPollingPeriodMillis,
+                newPollingPeriodMillis));
+        if (newPollingPeriodMillis != currentPollingPeriodMillis) {
+            pollingPeriodMillis.set(newPollingPeriodMillis);
+            LOG.info("Changed trade cycle interval on exchange {} from {}ms to {}ms - {}", exchangeId,
+                    currentPollingPeriodMillis, newPollingPeriodMillis, reason);
+        }
+
+        if (latencyPercentile != null) {
+            recentLatencyPercentiles.addLast(latencyPercentile);
+            if (recentLatencyPercentiles.size() > LATENCY_BASELINE_TRADE_CYCLES) {
+                recentLatencyPercentiles.removeFirst();
+            }
+        }
+        clearTradeCycle();
+        return newPollingPeriodMillis;
+    }
+
+    private Long latencyPercentile() {
+        if (callLatencies.isEmpty()) {
+            return null;
+        }
+        Collections.sort(callLatencies);
+        final int index = (int) Math.ceil(LATENCY_PERCENTILE * callLatencies.size()) - 1;
+        return callLatencies.get(Math.max(0, index));
+    }
+
+    private boolean isLatencyInflated(long latencyPercentile) {
+        if (recentLatencyPercentiles.isEmpty()) {
+            return false;
+        }
+        final long lowestLatencyPercentile = Collections.min(recentLatencyPercentiles);
+        return latencyPercentile > lowestLatencyPercentile * MAX_LATENCY_INFLATION;
+    }
+
+    private void clearTradeCycle() {
+        callLatencies.clear();
+        throttledCalls = 0;
+        failedCalls = 0;
+    }
+}
@@ -0,0 +1,495 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
+import com.gazbert.bxbot.core.marketdata.ConsolidatedOrderBook;
+import com.gazbert.bxbot.core.marketdata.MarketDataSnapshot;
+import com.gazbert.bxbot.core.marketdata.MarketInfoCache;
+import com.gazbert.bxbot.core.orders.OpenOrderTracker;
+import com.gazbert.bxbot.trading.api.BalanceInfo;
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.Fill;
+import com.gazbert.bxbot.trading.api.MarketInfo;
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.OrderNotReplacedException;
+import com.gazbert.bxbot.trading.api.OrderRejectedException;
+import com.gazbert.bxbot.trading.api.OrderRequest;
+import com.gazbert.bxbot.trading.api.OrderResult;
+import com.gazbert.bxbot.trading.api.OrderState;
+import com.gazbert.bxbot.trading.api.OrderStatus;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.gazbert.bxbot.trading.api.Ticker;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps the Exchange Adapter handed to the Trading Strategies so that orders placed, fills detected, and top-of-book
+ * updates are published on the {@link EngineEventBus}.
+ * <p>
+ * Open orders are tracked by an {@link OpenOrderTracker}, so {@link #isOrderOpen(String, String)} is answered from its
+ * index instead of fetching and scanning the open orders every time. A fill is detected when an order placed through
+ * this API no longer appears in the exchange's open orders, and was not cancelled through this API, or when
+ * {@link #getOrderStatus(String, String)} reports it as filled.
+ * <p>
+ * Tickers and order books are taken from the {@link MarketDataSnapshot} fetched at the start of the trade cycle when
+ * it has them, instead of calling the exchange for each market.
+ * <p>
+ * Orders are rounded to the market's tick and step sizes held in the {@link MarketInfoCache}, and rejected with an
+ * {@link OrderRejectedException} before they reach the exchange if they are too small.
+ * <p>
+ * Order books for markets registered with the {@link ConsolidatedOrderBook} are also merged into it. The exchange's
+ * fees for each market are fetched the first time its order book is consolidated, and then reused.
+ * <p>
+ * Each exchange gets its own instance. It is thread safe: when the exchange's lane runs its Trading Strategies
+ * concurrently, they all share it.
+ *
+ * @author gazbert
+ */
+class EventPublishingTradingApi implements TradingApi {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final TradingApi delegate;
+    private final EngineEventBus eventBus;
+    private final String exchangeId;
+    private final ConsolidatedOrderBook consolidatedOrderBook;
+    private final OpenOrderTracker openOrderTracker;
+    private final MarketDataSnapshot marketDataSnapshot;
+    private final MarketInfoCache marketInfoCache;
+
+    /*
+     * The exchange's buy and sell fees for each consolidated market, keyed by market id.
+     */
+    private final Map<String, MarketFees> feesByMarket = new ConcurrentHashMap<>();
+
+
+    EventPublishingTradingApi(TradingApi delegate, EngineEventBus eventBus) {
+        this(delegate, eventBus, null, null, new OpenOrderTracker(eventBus), new MarketDataSnapshot(),
+                new MarketInfoCache());
+    }
+
+    EventPublishingTradingApi(TradingApi delegate, EngineEventBus eventBus, String exchangeId,
+                              ConsolidatedOrderBook consolidatedOrderBook, OpenOrderTracker openOrderTracker,
+                              MarketDataSnapshot marketDataSnapshot, MarketInfoCache marketInfoCache) {
+        this.delegate = delegate;
+        this.eventBus = eventBus;
+        this.exchangeId = exchangeId;
+        this.consolidatedOrderBook = consolidatedOrderBook;
+        this.openOrderTracker = openOrderTracker;
+        this.marketDataSnapshot = marketDataSnapshot;
+        this.marketInfoCache = marketInfoCache;
+    }
+
+    @Override
+    public String getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public String getImplName() {
+        return delegate.getImplName();
+    }
+
+    @Override
+    public MarketOrderBook getMarketOrders(String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        MarketOrderBook orderBook = marketDataSnapshot.takeOrderBook(marketId);
+        if (orderBook == null) {
+            orderBook = delegate.getMarketOrders(marketId);
+        }
+        orderBookReceived(marketId, orderBook);
+        return orderBook;
+    }
+
+    @Override
+    public Map<String, MarketOrderBook> getMarketOrders(Collection<String> marketIds)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final Map<String, MarketOrderBook> orderBooks = delegate.getMarketOrders(marketIds);
+        orderBooks.forEach(this::orderBookReceived);
+        return orderBooks;
+    }
+
+    @Override
+    public List<OpenOrder> getYourOpenOrders(String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final long fetchStartTime = System.nanoTime();
+        final List<OpenOrder> openOrders = delegate.getYourOpenOrders(marketId);
+        if (openOrders != null) {
+            openOrderTracker.update(marketId, openOrders, fetchStartTime);
+        }
+        return openOrders;
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final long fetchStartTime = System.nanoTime();
+        final Map<String, List<OpenOrder>> openOrdersByMarket = delegate.getYourOpenOrders(marketIds);
+        openOrdersByMarket.forEach((marketId, openOrders) ->
+                openOrderTracker.update(marketId, openOrders, fetchStartTime));
+        return openOrdersByMarket;
+    }
+
+    /*
+     * Falls back to fetching the market's open orders if they are not in the tracker's index yet - which puts them in.
+     */
+    @Override
+    public boolean isOrderOpen(String orderId, String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final Boolean open = openOrderTracker.isOpen(marketId, orderId);
+        if (open != null) {
+            return open;
+        }
+        getYourOpenOrders(marketId);
+        return Boolean.TRUE.equals(openOrderTracker.isOpen(marketId, orderId));
+    }
+
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final OrderRequest order = marketInfoCache.prepareOrder(new OrderRequest(marketId, orderType, quantity, price));
+        final String orderId = delegate.createOrder(marketId, orderType, order.getQuantity(), order.getPrice());
+        orderPlaced(marketId, orderId, orderType, order.getQuantity(), order.getPrice());
+        return orderId;
+    }
+
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                              String clientOrderId) throws ExchangeNetworkException, TradingApiException {
+
+        final OrderRequest order = marketInfoCache.prepareOrder(new OrderRequest(marketId, orderType, quantity, price));
+        final String orderId = delegate.createOrder(marketId, orderType, order.getQuantity(), order.getPrice(),
+                clientOrderId);
+        orderPlaced(marketId, orderId, orderType, order.getQuantity(), order.getPrice());
+        return orderId;
+    }
+
+    @Override
+    public String newClientOrderId() {
+        return delegate.newClientOrderId();
+    }
+
+    @Override
+    public boolean supportsClientOrderIds() {
+        return delegate.supportsClientOrderIds();
+    }
+
+    /*
+     * An order found here was placed by a call that failed, so it is tracked from now on.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final String orderId = delegate.getOrderIdByClientOrderId(clientOrderId, marketId);
+        if (orderId != null) {
+            openOrderTracker.orderPlaced(marketId, orderId);
+        }
+        return orderId;
+    }
+
+    /*
+     * Orders too small for their market fail without being sent; the rest are sent in 1 batch.
+     */
+    @Override
+    public List<OrderResult> createOrders(List<OrderRequest> orderRequests)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final List<OrderRequest> ordersToSend = new ArrayList<>();
+        final OrderResult[] orderResults = new OrderResult[orderRequests.size()];
+        for (int i = 0; i < orderRequests.size(); i++) {
+            try {
+                ordersToSend.add(marketInfoCache.prepareOrder(orderRequests.get(i)));
+            } catch (OrderRejectedException e) {
+                orderResults[i] = OrderResult.failed(null, e);
+            }
+        }
+
+        final List<OrderResult> sentOrderResults = ordersToSend.isEmpty()
+                ? new ArrayList<>() : delegate.createOrders(ordersToSend);
+        for (int i = 0, sent = 0; i < orderResults.length; i++) {
+            if (orderResults[i] != null) {
+                continue;
+            }
+            final OrderRequest orderRequest = ordersToSend.get(sent);
+            final OrderResult orderResult = sentOrderResults.get(sent++);
+            if (orderResult.isSuccessful()) {
+                orderPlaced(orderRequest.getMarketId(), orderResult.getOrderId(), orderRequest.getType(),
+                        orderRequest.getQuantity(), orderRequest.getPrice());
+            }
+            orderResults[i] = orderResult;
+        }
+        return Arrays.asList(orderResults);
+    }
+
+    @Override
+    public boolean cancelOrder(String orderId, String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final boolean cancelled = delegate.cancelOrder(orderId, marketId);
+        if (cancelled) {
+            openOrderTracker.orderCancelled(marketId, orderId);
+        }
+        return cancelled;
+    }
+
+    /*
+     * The old order is no longer open, and the new one is published as placed. If the old order was cancelled but the
+     * new one could not be placed, the old order is still recorded as cancelled, so it is not reported as filled.
+     */
+    @Override
+    public String amendOrder(String orderId, String marketId, OrderType orderType, BigDecimal newPrice,
+                             BigDecimal newQuantity) throws ExchangeNetworkException, TradingApiException {
+
+        final OrderRequest order = marketInfoCache.prepareOrder(
+                new OrderRequest(marketId, orderType, newQuantity, newPrice));
+
+        boolean oldOrderCancelled = false;
+        try {
+            final String newOrderId = delegate.amendOrder(orderId, marketId, orderType, order.getPrice(),
+                    order.getQuantity());
+            if (newOrderId != null) {
+                oldOrderCancelled = true;
+                orderPlaced(marketId, newOrderId, orderType, order.getQuantity(), order.getPrice());
+            }
+            return newOrderId;
+
+        } catch (OrderNotReplacedException e) {
+            oldOrderCancelled = true;
+            throw e;
+
+        } finally {
+            if (oldOrderCancelled) {
+                openOrderTracker.orderCancelled(marketId, orderId);
+            }
+        }
+    }
+
+    @Override
+    public List<OrderResult> cancelOrders(List<String> orderIds, String marketId)
+            throws ExchangeNetworkException, TradingApiException {
+        return ordersCancelled(marketId, delegate.cancelOrders(orderIds, marketId));
+    }
+
+    @Override
+    public List<OrderResult> cancelAllOrders(String marketId) throws ExchangeNetworkException, TradingApiException {
+        return ordersCancelled(marketId, delegate.cancelAllOrders(marketId));
+    }
+
+    /*
+     * An order the exchange reports as filled or cancelled is no longer open, so the tracker's index is updated too.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final OrderStatus orderStatus = delegate.getOrderStatus(orderId, marketId);
+        if (orderStatus != null && marketId != null) {
+            if (orderStatus.getState() == OrderState.FILLED) {
+                openOrderTracker.orderFilled(marketId, orderId);
+            } else if (orderStatus.getState() == OrderState.CANCELLED) {
+                openOrderTracker.orderCancelled(marketId, orderId);
+            }
+        }
+        return orderStatus;
+    }
+
+    @Override
+    public boolean supportsOrderStatus() {
+        return delegate.supportsOrderStatus();
+    }
+
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws ExchangeNetworkException, TradingApiException {
+        return delegate.getFills(marketId, since);
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return delegate.supportsFills();
+    }
+
+    /*
+     * Answered from the cache the Trading Engine keeps refreshed; the exchange is not called.
+     */
+    @Override
+    public Map<String, MarketInfo> getMarketInfo() {
+        return marketInfoCache.getAll();
+    }
+
+    @Override
+    public MarketInfo getMarketInfo(String marketId) {
+        return marketInfoCache.get(marketId);
+    }
+
+    @Override
+    public BigDecimal getLatestMarketPrice(String marketId) throws ExchangeNetworkException, TradingApiException {
+        return delegate.getLatestMarketPrice(marketId);
+    }
+
+    @Override
+    public BalanceInfo getBalanceInfo() throws ExchangeNetworkException, TradingApiException {
+        return delegate.getBalanceInfo();
+    }
+
+    @Override
+    public BigDecimal getPercentageOfBuyOrderTakenForExchangeFee(String marketId)
+            throws TradingApiException, ExchangeNetworkException {
+        return delegate.getPercentageOfBuyOrderTakenForExchangeFee(marketId);
+    }
+
+    @Override
+    public BigDecimal getPercentageOfSellOrderTakenForExchangeFee(String marketId)
+            throws TradingApiException, ExchangeNetworkException {
+        return delegate.getPercentageOfSellOrderTakenForExchangeFee(marketId);
+    }
+
+    @Override
+    public Ticker getTicker(String marketId) throws TradingApiException, ExchangeNetworkException {
+        final Ticker ticker = marketDataSnapshot.takeTicker(marketId);
+        return ticker != null ? ticker : delegate.getTicker(marketId);
+    }
+
+    /*
+     * Tickers already in the snapshot are not fetched again.
+     */
+    @Override
+    public Map<String, Ticker> getTickers(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
+
+        final Map<String, Ticker> tickers = new LinkedHashMap<>();
+        final List<String> marketIdsToFetch = new ArrayList<>();
+        for (final String marketId : marketIds) {
+            final Ticker ticker = marketDataSnapshot.takeTicker(marketId);
+            tickers.put(marketId, ticker);
+            if (ticker == null) {
+                marketIdsToFetch.add(marketId);
+            }
+        }
+        if (!marketIdsToFetch.isEmpty()) {
+            tickers.putAll(delegate.getTickers(marketIdsToFetch));
+        }
+        return tickers;
+    }
+
+    private void orderPlaced(String marketId, String orderId, OrderType orderType, BigDecimal quantity,
+                             BigDecimal price) {
+        openOrderTracker.orderPlaced(marketId, orderId);
+        eventBus.publish(EngineEvent.builder(EngineEventType.ORDER_PLACED)
+                .marketId(marketId)
+                .detail("orderId", orderId)
+                .detail("type", orderType)
+                .detail("quantity", quantity)
+                .detail("price", price)
+                .build());
+    }
+
+    private List<OrderResult> ordersCancelled(String marketId, List<OrderResult> orderResults) {
+        for (final OrderResult orderResult : orderResults) {
+            if (orderResult.isSuccessful()) {
+                openOrderTracker.orderCancelled(marketId, orderResult.getOrderId());
+            }
+        }
+        return orderResults;
+    }
+
+    /*
+     * Publishes the order book's top of book, and consolidates it if its market is registered.
+     */
+    private void orderBookReceived(String marketId, MarketOrderBook orderBook) {
+
+        if (eventBus.hasSubscribers() && orderBook != null) {
+            final EngineEvent.Builder event = EngineEvent.builder(EngineEventType.TOP_OF_BOOK).marketId(marketId);
+            addBestOrder(event, "bid", orderBook.getBuyOrders());
+            addBestOrder(event, "ask", orderBook.getSellOrders());
+            eventBus.publish(event.build());
+        }
+
+        if (consolidatedOrderBook != null && orderBook != null
+                && consolidatedOrderBook.isRegistered(exchangeId, marketId)) {
+            consolidate(marketId, orderBook);
+        }
+    }
+
+    /*
+     * A failure fetching the fees must not fail the Trading Strategy's order book call - the book is just not
+     * consolidated this time, and the fees are fetched again next time.
+     */
+    private void consolidate(String marketId, MarketOrderBook orderBook) {
+        MarketFees fees = feesByMarket.get(marketId);
+        if (fees == null) {
+            try {
+                fees = new MarketFees(
+                        delegate.getPercentageOfBuyOrderTakenForExchangeFee(marketId),
+                        delegate.getPercentageOfSellOrderTakenForExchangeFee(marketId));
+                feesByMarket.put(marketId, fees);
+            } catch (TradingApiException | ExchangeNetworkException e) {
+                LOG.warn("Failed to get exchange fees for " + marketId + " market - not consolidating its order book."
+                        + " Details: " + e.getMessage());
+                return;
+            }
+        }
+        consolidatedOrderBook.update(exchangeId, marketId, orderBook, fees.buyFee, fees.sellFee);
+    }
+
+    private static void addBestOrder(EngineEvent.Builder event, String side, List<MarketOrder> orders) {
+        if (orders != null && !orders.isEmpty()) {
+            final MarketOrder bestOrder = orders.get(0);
+            event.detail(side + "Price", bestOrder.getPrice());
+            event.detail(side + "Quantity", bestOrder.getQuantity());
+        }
+    }
+
+    /*
+     * The exchange's fees for a market.
+     */
+    private static final class MarketFees {
+
+        private final BigDecimal buyFee;
+        private final BigDecimal sellFee;
+
+        MarketFees(BigDecimal buyFee, BigDecimal sellFee) {
+            this.buyFee = buyFee;
+            this.sellFee = sellFee;
+        }
+    }
+}
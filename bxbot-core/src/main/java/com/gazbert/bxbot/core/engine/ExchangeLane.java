@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.core.marketdata.MarketDataPrefetcher;
+import com.gazbert.bxbot.core.marketdata.MarketDataSnapshot;
+import com.gazbert.bxbot.core.marketdata.MarketInfoCache;
+import com.gazbert.bxbot.core.orders.OpenOrderTracker;
+import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.text.DecimalFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An exchange the Trading Engine is trading on, along with the Markets bound to it.
+ * <p>
+ * Each lane runs its trade cycles in its own thread, so a slow or unresponsive exchange only delays the Markets
+ * bound to it. The trade cycle state is only accessed by the lane's thread, apart from the tradeCycleMonitor and
+ * tradeCycleRequested flag, which are used to wake the lane up from other threads.
+ * <p>
+ * The Trading Strategies are executed in the lane's strategy executor so the lane thread can stop waiting for a
+ * Trading Strategy that overruns its execution timeout. There is at most 1 execution in progress per Market, so
+ * the executor never needs more threads than the lane has Markets. When the lane runs its Trading Strategies
+ * concurrently, the executor is bounded to the max number of concurrent Trading Strategies instead.
+ * <p>
+ * All calls to the exchange go through the lane's polling controller, which adjusts the time the lane waits in
+ * between trade cycles to how the exchange is coping.
+ *
+ * @author gazbert
+ */
+class ExchangeLane {
+
+    private final String id;
+    private final AdaptivePollingController pollingController;
+    private final TradingApi strategyTradingApi;
+    private final OpenOrderTracker openOrderTracker;
+    private final MarketDataSnapshot marketDataSnapshot;
+    private final MarketInfoCache marketInfoCache;
+    private final AtomicLong scheduleLagMillis;
+
+    /*
+     * The Markets (and their Trading Strategy implementations) to execute on this exchange.
+     * Read by the runtime REST API from other threads.
+     */
+    private final List<ScheduledMarket> scheduledMarkets = new CopyOnWriteArrayList<>();
+
+    /*
+     * Only ever used by the lane thread - DecimalFormat is not thread safe.
+     */
+    private final DecimalFormat decimalFormat = new DecimalFormat("#.########");
+
+    /*
+     * Created when the lane starts running. Only accessed by the lane thread.
+     */
+    private ExecutorService strategyExecutor;
+    private int maxConcurrentStrategies = 1;
+
+    /*
+     * Created when the lane starts running, if market data prefetching is enabled. Only accessed by the lane thread.
+     */
+    private MarketDataPrefetcher marketDataPrefetcher;
+
+    /*
+     * Monitor the lane waits on in between trade cycles. It is notified to wake the lane up early.
+     */
+    private final Object tradeCycleMonitor = new Object();
+
+    /*
+     * Set when an immediate (out of cycle) trade cycle has been requested. Guarded by the tradeCycleMonitor.
+     */
+    private boolean tradeCycleRequested;
+
+    /*
+     * Number of trade cycles started. Only accessed by the lane thread.
+     */
+    private long tradeCycleCount;
+
+    /*
+     * When the next trade cycle should start. Only accessed by the lane thread.
+     */
+    private long nextTradeCycleDueTime;
+
+
+    ExchangeLane(String id, AdaptivePollingController pollingController, TradingApi strategyTradingApi,
+                 OpenOrderTracker openOrderTracker, MarketDataSnapshot marketDataSnapshot,
+                 MarketInfoCache marketInfoCache, AtomicLong scheduleLagMillis) {
+        this.id = id;
+        this.pollingController = pollingController;
+        this.strategyTradingApi = strategyTradingApi;
+        this.openOrderTracker = openOrderTracker;
+        this.marketDataSnapshot = marketDataSnapshot;
+        this.marketInfoCache = marketInfoCache;
+        this.scheduleLagMillis = scheduleLagMillis;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    ExchangeAdapter getExchangeAdapter() {
+        return pollingController.getExchangeAdapter();
+    }
+
+    String getExchangeAdapterClassName() {
+        return pollingController.getExchangeAdapterClassName();
+    }
+
+    AdaptivePollingController getPollingController() {
+        return pollingController;
+    }
+
+    TradingApi getStrategyTradingApi() {
+        return strategyTradingApi;
+    }
+
+    OpenOrderTracker getOpenOrderTracker() {
+        return openOrderTracker;
+    }
+
+    MarketDataSnapshot getMarketDataSnapshot() {
+        return marketDataSnapshot;
+    }
+
+    MarketInfoCache getMarketInfoCache() {
+        return marketInfoCache;
+    }
+
+    AtomicLong getScheduleLagMillis() {
+        return scheduleLagMillis;
+    }
+
+    /*
+     * Must be called by the lane thread before it executes any Trading Strategies.
+     */
+    void startStrategyExecutor(int maxConcurrentStrategies) {
+        this.maxConcurrentStrategies = maxConcurrentStrategies;
+        final ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("bxbot-strategy-" + id + "-%d").setDaemon(true).build();
+        strategyExecutor = maxConcurrentStrategies > 1
+                ? Executors.newFixedThreadPool(maxConcurrentStrategies, threadFactory)
+                : Executors.newCachedThreadPool(threadFactory);
+    }
+
+    /*
+     * Must be called by the lane thread before its first trade cycle.
+     */
+    void startMarketDataPrefetcher(long leadTimeMillis) {
+        marketDataPrefetcher = new MarketDataPrefetcher(id, marketDataSnapshot, leadTimeMillis);
+    }
+
+    /*
+     * Null if market data prefetching is not enabled.
+     */
+    MarketDataPrefetcher getMarketDataPrefetcher() {
+        return marketDataPrefetcher;
+    }
+
+    ExecutorService getStrategyExecutor() {
+        return strategyExecutor;
+    }
+
+    int getMaxConcurrentStrategies() {
+        return maxConcurrentStrategies;
+    }
+
+    List<ScheduledMarket> getScheduledMarkets() {
+        return scheduledMarkets;
+    }
+
+    DecimalFormat getDecimalFormat() {
+        return decimalFormat;
+    }
+
+    long nextTradeCycleNumber() {
+        return ++tradeCycleCount;
+    }
+
+    long getNextTradeCycleDueTime() {
+        return nextTradeCycleDueTime;
+    }
+
+    void setNextTradeCycleDueTime(long nextTradeCycleDueTime) {
+        this.nextTradeCycleDueTime = nextTradeCycleDueTime;
+    }
+
+    Object getTradeCycleMonitor() {
+        return tradeCycleMonitor;
+    }
+
+    /*
+     * Must be called holding the tradeCycleMonitor.
+     */
+    boolean isTradeCycleRequested() {
+        return tradeCycleRequested;
+    }
+
+    /*
+     * Must be called holding the tradeCycleMonitor.
+     */
+    void setTradeCycleRequested(boolean tradeCycleRequested) {
+        this.tradeCycleRequested = tradeCycleRequested;
+    }
+
+    /*
+     * Wakes the lane up if it is sleeping in between trade cycles.
+     */
+    void wakeUp(boolean tradeCycleRequested) {
+        synchronized (tradeCycleMonitor) {
+            if (tradeCycleRequested) {
+                this.tradeCycleRequested = true;
+            }
+            tradeCycleMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("exchangeAdapter", getExchangeAdapterClassName())
+                .add("scheduledMarkets", scheduledMarkets)
+                .toString();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.domain.bot.MarketStatus;
+import com.gazbert.bxbot.strategy.api.TradingStrategy;
+import com.gazbert.bxbot.trading.api.Market;
+import com.google.common.base.MoreObjects;
+
+import java.util.Comparator;
+import java.util.concurrent.Future;
+
+/**
+ * A Market that has been scheduled for trading by the Trading Engine, along with the Trading Strategy that trades on it.
+ * <p>
+ * The paused flag and priority can be changed by the runtime REST API while the engine is running. They are held
+ * together in 1 immutable runtime state that is replaced in a single write, so the exchange's engine thread never sees
+ * a half-applied update. They are read at the start of each trade cycle, so any change takes effect at the next trade
+ * cycle.
+ * <p>
+ * The watchdog state (overrunning execution, consecutive overruns, and quarantine) is only accessed by the exchange's
+ * engine thread.
+ *
+ * @author gazbert
+ */
+class ScheduledMarket {
+
+    /*
+     * Highest priority first. List.sort() is stable, so markets with the same priority keep their load order.
+     */
+    static final Comparator<ScheduledMarket> BY_PRIORITY =
+            Comparator.comparingInt(ScheduledMarket::getPriority).reversed();
+
+    private final Market market;
+    private final TradingStrategy tradingStrategy;
+    private final String exchangeId;
+    private final long executionTimeoutMillis;
+    private volatile RuntimeState runtimeState = new RuntimeState(false, 0);
+
+    /*
+     * The last Trading Strategy execution if it overran its execution timeout and the engine stopped waiting for it.
+     * Null if the last execution finished in time.
+     */
+    private Future<?> overrunningExecution;
+    private int consecutiveOverruns;
+    private int quarantinedTradeCycles;
+
+
+    ScheduledMarket(Market market, TradingStrategy tradingStrategy, String exchangeId, long executionTimeoutMillis) {
+        this.market = market;
+        this.tradingStrategy = tradingStrategy;
+        this.exchangeId = exchangeId;
+        this.executionTimeoutMillis = executionTimeoutMillis;
+    }
+
+    Market getMarket() {
+        return market;
+    }
+
+    TradingStrategy getTradingStrategy() {
+        return tradingStrategy;
+    }
+
+    String getExchangeId() {
+        return exchangeId;
+    }
+
+    long getExecutionTimeoutMillis() {
+        return executionTimeoutMillis;
+    }
+
+    boolean isPaused() {
+        return runtimeState.paused;
+    }
+
+    int getPriority() {
+        return runtimeState.priority;
+    }
+
+    /*
+     * Sets the paused flag and priority together, in a single write.
+     */
+    void setRuntimeState(boolean paused, int priority) {
+        runtimeState = new RuntimeState(paused, priority);
+    }
+
+    Future<?> getOverrunningExecution() {
+        return overrunningExecution;
+    }
+
+    void setOverrunningExecution(Future<?> overrunningExecution) {
+        this.overrunningExecution = overrunningExecution;
+    }
+
+    int incrementConsecutiveOverruns() {
+        return ++consecutiveOverruns;
+    }
+
+    void resetConsecutiveOverruns() {
+        consecutiveOverruns = 0;
+    }
+
+    /*
+     * Skips the Trading Strategy for the given number of trade cycles.
+     */
+    void quarantine(int tradeCycles) {
+        quarantinedTradeCycles = tradeCycles;
+        consecutiveOverruns = 0;
+    }
+
+    /*
+     * Returns true if the Trading Strategy is quarantined for the current trade cycle, counting the trade cycle off.
+     */
+    boolean checkQuarantine() {
+        if (quarantinedTradeCycles > 0) {
+            quarantinedTradeCycles--;
+            return true;
+        }
+        return false;
+    }
+
+    MarketStatus toMarketStatus() {
+        final RuntimeState state = runtimeState;
+        return new MarketStatus(market.getId(), market.getName(), exchangeId, state.paused, state.priority);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("market", market)
+                .add("tradingStrategy", tradingStrategy.getClass().getSimpleName())
+                .add("exchangeId", exchangeId)
+                .add("paused", runtimeState.paused)
+                .add("priority", runtimeState.priority)
+                .add("executionTimeoutMillis", executionTimeoutMillis)
+                .toString();
+    }
+
+    /*
+     * The paused flag and priority, which the runtime REST API always changes together.
+     */
+    private static final class RuntimeState {
+
+        private final boolean paused;
+        private final int priority;
+
+        private RuntimeState(boolean paused, int priority) {
+            this.paused = paused;
+            this.priority = priority;
+        }
+    }
+}
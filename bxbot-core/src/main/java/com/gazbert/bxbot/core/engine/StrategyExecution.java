@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Trading Strategy execution submitted to an exchange's strategy executor by a concurrent trade cycle.
+ * <p>
+ * The executor has a fixed number of threads, so an execution can be queued before it starts. Its execution timeout
+ * is timed from when it starts, not from when it was submitted. An execution that is still queued after waiting for as
+ * long as its execution timeout is skipped for the trade cycle instead: it is not an overrun of the Trading Strategy.
+ *
+ * @author gazbert
+ */
+class StrategyExecution {
+
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    private static final long SKIPPED = Long.MIN_VALUE + 1;
+
+    private final ScheduledMarket scheduledMarket;
+    private final long submittedTime;
+
+    /*
+     * The System.nanoTime() the execution started at, or NOT_STARTED, or SKIPPED.
+     */
+    private final AtomicLong startTime = new AtomicLong(NOT_STARTED);
+
+
+    StrategyExecution(ScheduledMarket scheduledMarket) {
+        this.scheduledMarket = scheduledMarket;
+        this.submittedTime = System.nanoTime();
+    }
+
+    ScheduledMarket getScheduledMarket() {
+        return scheduledMarket;
+    }
+
+    /*
+     * Called by the strategy thread when it picks up the execution. Returns false if the execution has been skipped, in
+     * which case the Trading Strategy must not be executed.
+     */
+    boolean start() {
+        return startTime.compareAndSet(NOT_STARTED, System.nanoTime());
+    }
+
+    /*
+     * Skips the execution if it has not started yet. Returns false if it has already started.
+     */
+    boolean skipIfNotStarted() {
+        return startTime.compareAndSet(NOT_STARTED, SKIPPED);
+    }
+
+    boolean isStarted() {
+        final long start = startTime.get();
+        return start != NOT_STARTED && start != SKIPPED;
+    }
+
+    /*
+     * How long is left before the execution overruns its execution timeout or, if it has not started yet, before it
+     * has been queued for as long as its execution timeout. Negative or zero if that time has been reached.
+     */
+    long getMillisLeft() {
+        final long start = isStarted() ? startTime.get() : submittedTime;
+        return scheduledMarket.getExecutionTimeoutMillis()
+                - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -29,8 +29,19 @@ import com.gazbert.bxbot.core.config.exchange.NetworkConfigImpl;
 import com.gazbert.bxbot.core.config.exchange.OptionalConfigImpl;
 import com.gazbert.bxbot.core.config.market.MarketImpl;
 import com.gazbert.bxbot.core.config.strategy.StrategyConfigItems;
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
 import com.gazbert.bxbot.core.mail.EmailAlerter;
+import com.gazbert.bxbot.core.marketdata.ArbitrageOpportunity;
+import com.gazbert.bxbot.core.marketdata.ArbitrageScanner;
+import com.gazbert.bxbot.core.marketdata.ConsolidatedOrderBook;
+import com.gazbert.bxbot.core.marketdata.MarketDataPrefetcher;
+import com.gazbert.bxbot.core.marketdata.MarketDataSnapshot;
+import com.gazbert.bxbot.core.marketdata.MarketInfoCache;
+import com.gazbert.bxbot.core.orders.OpenOrderTracker;
 import com.gazbert.bxbot.core.util.ConfigurableComponentFactory;
+import com.gazbert.bxbot.domain.bot.MarketStatus;
 import com.gazbert.bxbot.domain.engine.EngineConfig;
 import com.gazbert.bxbot.domain.exchange.AuthenticationConfig;
 import com.gazbert.bxbot.domain.exchange.ExchangeConfig;
@@ -49,8 +60,15 @@ import com.gazbert.bxbot.trading.api.BalanceInfo;
 import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
 import com.gazbert.bxbot.trading.api.Market;
 import com.gazbert.bxbot.trading.api.TradingApiException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Component;
@@ -60,6 +78,17 @@ import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The main Trading Engine.
@@ -70,10 +99,33 @@ import java.util.*;
  * The only time the bot does not fail hard and fast is for network issues connecting to the exchange - it logs the error
  * and retries at next trade cycle.
  * <p>
+ * The engine can trade on more than 1 exchange; each configured exchange gets its own Exchange Adapter and its own
+ * execution lane. A lane runs the trade cycles for the Markets bound to its exchange in its own thread, so a slow or
+ * unresponsive exchange does not delay trading on the others. A fatal error in any lane shuts down the whole bot.
+ * <p>
+ * When trading on more than 1 exchange, the order books the Trading Strategies fetch are merged into a
+ * {@link ConsolidatedOrderBook}, which is scanned for cross-exchange spreads every trade cycle interval. Spreads found
+ * are published as {@link EngineEventType#ARBITRAGE_OPPORTUNITY} events.
+ * <p>
+ * Each Trading Strategy has an execution timeout - its own, or the trade cycle interval if it does not have one. If
+ * a Trading Strategy overruns it, the engine stops waiting for it and moves on to the next Market; the Trading
+ * Strategy is not executed again until the overrunning execution finishes. A Trading Strategy that overruns several
+ * trade cycles in a row is quarantined for a number of trade cycles and an Email Alert is sent.
+ * <p>
+ * By default, a lane executes its Trading Strategies one after the other. If the engine is configured with a max
+ * number of concurrent Trading Strategies, each lane executes a trade cycle's Trading Strategies at the same time on
+ * a bounded pool of threads instead, and waits for them all before finishing the trade cycle. Trading Strategies
+ * spend most of their time waiting on the exchange, so this lets a lane trade on many Markets without its trade
+ * cycles taking longer. A fatal error in one of them cancels the rest.
+ * <p>
  * To keep things simple:
- * - The engine is single threaded.
- * - The engine only supports trading on 1 exchange per instance of the bot, i.e. 1 Exchange Adapter per process.
- * - The engine only supports 1 Trading Strategy per Market.
+ * - Each lane runs its trade cycles in a single thread.
+ * - Every lane uses the engine's trade cycle interval and Emergency Stop config.
+ * - The engine only supports 1 Trading Strategy per Market on each exchange. The same Market id can be traded on
+ *   more than 1 exchange, so Markets are identified by their exchange id and Market id.
+ * <p>
+ * Markets can be paused, resumed, and re-prioritised at runtime; an immediate trade cycle can also be requested.
+ * These changes are picked up at the start of the next trade cycle - the bot does not need to be restarted.
  *
  * @author gazbert
  */
@@ -83,18 +135,76 @@ public class TradingEngine {
 
     private static final Logger LOG = LogManager.getLogger();
 
+    /*
+     * Marks the routine messages logged every trade cycle. The production log config rate-limits these.
+     */
+    private static final Marker TRADE_CYCLE = MarkerManager.getMarker("TRADE_CYCLE");
+
+    /*
+     * The ThreadContext key the current market id is stored under while its Trading Strategy executes.
+     * Log layouts include it using %X{market}.
+     */
+    private static final String MARKET_CONTEXT_KEY = "market";
+
     // Email Alert error message stuff
     private static final String CRITICAL_EMAIL_ALERT_SUBJECT = "CRITICAL Alert message from BX-bot";
+    private static final String WARNING_EMAIL_ALERT_SUBJECT = "WARNING Alert message from BX-bot";
     private static final String DETAILS_ERROR_MSG_LABEL = " Details: ";
     private static final String CAUSE_ERROR_MSG_LABEL = " Cause: ";
     private static final String NEWLINE = System.getProperty("line.separator");
     private static final String HORIZONTAL_RULE = "--------------------------------------------------" + NEWLINE;
 
+    // Metrics - published to the global Micrometer registry and exposed by the REST API's actuator endpoints.
+    private static final String TRADE_CYCLE_METRIC = "bxbot.engine.trade.cycle";
+    private static final String STRATEGY_EXECUTE_METRIC = "bxbot.strategy.execute";
+    private static final String SCHEDULE_LAG_METRIC = "bxbot.engine.schedule.lag";
+    private static final String POLLING_PERIOD_METRIC = "bxbot.engine.polling.period";
+    private static final String NETWORK_EXCEPTIONS_METRIC = "bxbot.engine.exchange.network.exceptions";
+    private static final String ARBITRAGE_OPPORTUNITIES_METRIC = "bxbot.arbitrage.opportunities";
+    private static final String STRATEGY_OVERRUNS_METRIC = "bxbot.strategy.overruns";
+    private static final String STRATEGY_QUARANTINES_METRIC = "bxbot.strategy.quarantines";
+
+    /*
+     * A Trading Strategy that overruns its execution timeout this many trade cycles in a row is quarantined.
+     */
+    private static final int MAX_CONSECUTIVE_STRATEGY_OVERRUNS = 3;
+
+    /*
+     * Number of trade cycles a quarantined Trading Strategy is not executed for.
+     */
+    private static final int STRATEGY_QUARANTINE_TRADE_CYCLES = 10;
+
+    /*
+     * Max number of instruments the arbitrage scanner checks at the same time.
+     */
+    private static final int ARBITRAGE_SCANNER_MAX_PARALLELISM = 4;
+
+    /*
+     * The ThreadContext key and metric tag the current exchange (lane) id is stored under.
+     */
+    private static final String EXCHANGE_CONTEXT_KEY = "exchange";
+
+    /*
+     * Name prefix for the threads the exchange lanes run in.
+     */
+    private static final String EXCHANGE_LANE_THREAD_NAME_PREFIX = "bxbot-exchange-";
+
     /*
      * Trade execution interval in secs. The time we wait/sleep in between trade cycles.
      */
     private static int tradeExecutionInterval;
 
+    /*
+     * Max number of Trading Strategies each exchange lane runs at the same time. 1 runs them one after the other.
+     */
+    private int maxConcurrentStrategies = 1;
+
+    /*
+     * How long before each trade cycle its market data is prefetched, in millis. 0 fetches it when the trade cycle
+     * starts.
+     */
+    private long marketDataPrefetchLeadTime;
+
     /*
      * Control flag decides if the Trading Engine lives or dies.
      */
@@ -111,19 +221,44 @@ public class TradingEngine {
     private static final Object IS_RUNNING_MONITOR = new Object();
 
     /*
-     * The thread the Trading Engine is running in.
+     * The thread the Trading Engine was started in.
      */
     private Thread engineThread;
 
+    /*
+     * How late the last trade cycle started compared to when it was due, keyed by exchange (lane) id. Published as
+     * gauges - the map is static because a gauge only holds a weak reference to its value and there is only ever
+     * 1 engine per bot.
+     */
+    private static final Map<String, AtomicLong> SCHEDULE_LAG_MILLIS = new ConcurrentHashMap<>();
+
+    /*
+     * The time each exchange (lane) waits in between trade cycles, keyed by exchange (lane) id. Published as gauges,
+     * like the schedule lag.
+     */
+    private static final Map<String, AtomicLong> POLLING_PERIOD_MILLIS = new ConcurrentHashMap<>();
+
     /*
      * Map of Trading Strategy descriptions from config.
      */
     private final Map<String, StrategyConfig> strategyDescriptions = new HashMap<>();
 
     /*
-     * List of cached Trading Strategy implementations for the Trade Engine to execute.
+     * The exchanges the engine trades on, in the order they were configured. The first one is the default exchange
+     * for Markets that are not bound to an exchange. Read by the runtime REST API from other threads.
      */
-    private final List<TradingStrategy> tradingStrategiesToExecute = new ArrayList<>();
+    private final List<ExchangeLane> exchangeLanes = new CopyOnWriteArrayList<>();
+
+    /*
+     * Order books for the same instrument on different exchanges, merged. Only used when trading on more than 1
+     * exchange.
+     */
+    private final ConsolidatedOrderBook consolidatedOrderBook = new ConsolidatedOrderBook();
+
+    /*
+     * Runs the arbitrage scanner. Only set when trading on more than 1 exchange.
+     */
+    private ScheduledExecutorService arbitrageScheduler;
 
     /*
      * The emergency stop currency value is used to prevent a catastrophic loss on the exchange.
@@ -145,7 +280,7 @@ public class TradingEngine {
     private String botName;
 
     private final EmailAlerter emailAlerter;
-    private ExchangeAdapter exchangeAdapter;
+    private final EngineEventBus engineEventBus;
 
     // Services
     private final ExchangeConfigService exchangeConfigService;
@@ -157,7 +292,7 @@ public class TradingEngine {
     @Autowired
     public TradingEngine(ExchangeConfigService exchangeConfigService, EngineConfigService engineConfigService,
                          StrategyConfigService strategyConfigService, MarketConfigService marketConfigService,
-                         EmailAlerter emailAlerter) {
+                         EmailAlerter emailAlerter, EngineEventBus engineEventBus) {
 
         LOG.info(() -> "Initialising Trading Engine...");
 
@@ -166,6 +301,7 @@ public class TradingEngine {
         this.strategyConfigService = strategyConfigService;
         this.marketConfigService = marketConfigService;
         this.emailAlerter = emailAlerter;
+        this.engineEventBus = engineEventBus;
     }
 
     public void start() throws IllegalStateException {
@@ -185,7 +321,7 @@ public class TradingEngine {
         engineThread = Thread.currentThread();
 
         initConfig();
-        runMainControlLoop();
+        runExchangeLanes();
     }
 
     private void initConfig() {
@@ -200,56 +336,169 @@ public class TradingEngine {
     }
 
     /*
-     * The main control loop.
+     * Runs each exchange lane in its own thread and waits for them all to finish. The first lane runs in the thread
+     * that started the engine, so a single exchange bot does not need any extra threads.
+     */
+    private void runExchangeLanes() {
+
+        LOG.info(() -> "Starting Trading Engine for " + botId + " on " + exchangeLanes.size() + " exchange(s)...");
+
+        final ArbitrageScanner arbitrageScanner = startArbitrageScanner();
+
+        final List<Thread> laneThreads = new ArrayList<>();
+        for (final ExchangeLane exchangeLane : exchangeLanes.subList(1, exchangeLanes.size())) {
+            final Thread laneThread = new Thread(() -> runMainControlLoop(exchangeLane),
+                    EXCHANGE_LANE_THREAD_NAME_PREFIX + exchangeLane.getId());
+            laneThreads.add(laneThread);
+            laneThread.start();
+        }
+
+        runMainControlLoop(exchangeLanes.get(0));
+
+        for (final Thread laneThread : laneThreads) {
+            try {
+                laneThread.join();
+            } catch (InterruptedException e) {
+                LOG.warn("Interrupted waiting for exchange lane thread " + laneThread.getName() + " to finish");
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (arbitrageScanner != null) {
+            arbitrageScheduler.shutdownNow();
+            arbitrageScanner.shutdown();
+        }
+
+        LOG.fatal("BX-bot " + botId + " is shutting down NOW!");
+        synchronized (IS_RUNNING_MONITOR) {
+            isRunning = false;
+        }
+    }
+
+    /*
+     * Scans the consolidated order book for cross-exchange spreads every trade cycle interval. Returns the scanner,
+     * or null if the bot is only trading on 1 exchange.
+     */
+    private ArbitrageScanner startArbitrageScanner() {
+
+        if (exchangeLanes.size() < 2) {
+            return null;
+        }
+
+        final int parallelism = Math.max(1,
+                Math.min(consolidatedOrderBook.getInstruments().size(), ARBITRAGE_SCANNER_MAX_PARALLELISM));
+        final long maxBookAgeMillis = 2 * tradeExecutionInterval * 1000L;
+        final ArbitrageScanner arbitrageScanner =
+                new ArbitrageScanner(consolidatedOrderBook, BigDecimal.ZERO, maxBookAgeMillis, parallelism);
+
+        arbitrageScheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("bxbot-arbitrage-scheduler-%d").setDaemon(true).build());
+        arbitrageScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                for (final ArbitrageOpportunity opportunity : arbitrageScanner.scan()) {
+                    LOG.info(TRADE_CYCLE, "Arbitrage opportunity: {}", opportunity);
+                    Metrics.counter(ARBITRAGE_OPPORTUNITIES_METRIC, "instrument", opportunity.getInstrument())
+                            .increment();
+                    engineEventBus.publish(EngineEvent.builder(EngineEventType.ARBITRAGE_OPPORTUNITY)
+                            .detail("instrument", opportunity.getInstrument())
+                            .detail("buyExchange", opportunity.getBuyExchangeId())
+                            .detail("buyMarketId", opportunity.getBuyMarketId())
+                            .detail("buyPrice", opportunity.getBuyPrice())
+                            .detail("sellExchange", opportunity.getSellExchangeId())
+                            .detail("sellMarketId", opportunity.getSellMarketId())
+                            .detail("sellPrice", opportunity.getSellPrice())
+                            .detail("quantity", opportunity.getQuantity())
+                            .build());
+                }
+            } catch (Exception e) {
+                // keep scanning - a scanner bug must not take down the trading lanes
+                LOG.error("Failed to scan for arbitrage opportunities", e);
+            }
+        }, tradeExecutionInterval, tradeExecutionInterval, TimeUnit.SECONDS);
+
+        return arbitrageScanner;
+    }
+
+    /*
+     * The main control loop for an exchange lane.
      * We loop infinitely unless an unexpected exception occurs.
      * The code fails hard and fast if an unexpected occurs. Network exceptions *should* recover.
      */
-    private void runMainControlLoop() {
-
-        LOG.info(() -> "Starting Trading Engine for " + botId + " ...");
+    private void runMainControlLoop(ExchangeLane exchangeLane) {
+
+        LOG.info(() -> "Starting trade cycles on exchange " + exchangeLane.getId() + " ...");
+        ThreadContext.put(EXCHANGE_CONTEXT_KEY, exchangeLane.getId());
+        exchangeLane.setNextTradeCycleDueTime(System.currentTimeMillis());
+        exchangeLane.startStrategyExecutor(maxConcurrentStrategies);
+        if (marketDataPrefetchLeadTime > 0) {
+            exchangeLane.startMarketDataPrefetcher(marketDataPrefetchLeadTime);
+        }
+        exchangeLane.getMarketInfoCache().refreshIfStale(exchangeLane.getExchangeAdapter());
 
         while (keepAlive) {
 
+            final long tradeCycleStartTime = System.nanoTime();
+            final long tradeCycleNumber = exchangeLane.nextTradeCycleNumber();
+            engineEventBus.publish(EngineEvent.builder(EngineEventType.TRADE_CYCLE_STARTED)
+                    .detail("tradeCycle", tradeCycleNumber)
+                    .detail(EXCHANGE_CONTEXT_KEY, exchangeLane.getId())
+                    .build());
+            exchangeLane.getScheduleLagMillis().set(
+                    Math.max(0, System.currentTimeMillis() - exchangeLane.getNextTradeCycleDueTime()));
+
             try {
 
-                LOG.info(() -> "*** Starting next trade cycle... ***");
+                LOG.info(TRADE_CYCLE, "*** Starting next trade cycle... ***");
 
                 // Emergency Stop Check MUST run at start of every trade cycle.
-                if (isEmergencyStopLimitBreached()) {
+                if (isEmergencyStopLimitBreached(exchangeLane)) {
+                    stopAllExchangeLanes();
                     break;
                 }
 
-                // Execute the Trading Strategies
-                for (final TradingStrategy tradingStrategy : tradingStrategiesToExecute) {
-                    LOG.info(() -> "Executing Trading Strategy ---> " + tradingStrategy.getClass().getSimpleName());
-                    tradingStrategy.execute();
-                }
+                // Execute the Trading Strategies - pick up any runtime priority changes first
+                final List<ScheduledMarket> marketsToExecute = new ArrayList<>(exchangeLane.getScheduledMarkets());
+                marketsToExecute.sort(ScheduledMarket.BY_PRIORITY);
+                exchangeLane.getMarketInfoCache().refreshIfStale(exchangeLane.getExchangeAdapter());
+                refreshOpenOrders(exchangeLane, marketsToExecute);
+                refreshMarketDataSnapshot(exchangeLane, marketsToExecute);
 
-                LOG.info(() -> "*** Sleeping " + tradeExecutionInterval + "s til next trade cycle... ***");
+                if (exchangeLane.getMaxConcurrentStrategies() > 1) {
+                    executeTradingStrategiesConcurrently(exchangeLane, marketsToExecute);
+                } else {
+                    for (final ScheduledMarket scheduledMarket : marketsToExecute) {
 
-                try {
-                    Thread.sleep(tradeExecutionInterval * 1000);
-                } catch (InterruptedException e) {
-                    LOG.warn("Control Loop thread interrupted when sleeping before next trade cycle");
-                    Thread.currentThread().interrupt();
+                        if (!keepAlive) {
+                            LOG.info(() -> "Shutdown requested - not executing any more Trading Strategies this trade cycle.");
+                            break;
+                        }
+
+                        if (isReadyToExecute(exchangeLane, scheduledMarket)) {
+                            executeTradingStrategy(exchangeLane, scheduledMarket);
+                        }
+                    }
                 }
 
+                finishTradeCycle(exchangeLane, tradeCycleNumber, tradeCycleStartTime, "success");
+
+                LOG.info(TRADE_CYCLE, "*** Sleeping {}s til next trade cycle... ***",
+                        exchangeLane.getPollingController().getPollingPeriodMillis() / 1000.0);
+                sleepUntilNextTradeCycle(exchangeLane);
+
             } catch (ExchangeNetworkException e) {
 
                 /*
                  * We have a network connection issue reported by Exchange Adapter when called directly from
                  * Trading Engine. Current policy is to log it and sleep until next trade cycle.
                  */
+                Metrics.counter(NETWORK_EXCEPTIONS_METRIC, EXCHANGE_CONTEXT_KEY, exchangeLane.getId()).increment();
+                finishTradeCycle(exchangeLane, tradeCycleNumber, tradeCycleStartTime, "network-error");
                 final String WARNING_MSG = "A network error has occurred in Exchange Adapter! " +
-                        "BX-bot will attempt next trade in " + tradeExecutionInterval + "s...";
+                        "BX-bot will attempt next trade in " +
+                        exchangeLane.getPollingController().getPollingPeriodMillis() / 1000.0 + "s...";
                 LOG.error(WARNING_MSG, e);
-
-                try {
-                    Thread.sleep(tradeExecutionInterval * 1000);
-                } catch (InterruptedException e1) {
-                    LOG.warn("Control Loop thread interrupted when sleeping before next trade cycle");
-                    Thread.currentThread().interrupt();
-                }
+                sleepUntilNextTradeCycle(exchangeLane);
 
             } catch (TradingApiException e) {
 
@@ -259,11 +508,10 @@ public class TradingEngine {
                  */
                 final String FATAL_ERROR_MSG = "A FATAL error has occurred in Exchange Adapter!";
                 LOG.fatal(FATAL_ERROR_MSG, e);
-                emailAlerter.sendMessage(CRITICAL_EMAIL_ALERT_SUBJECT,
-                        buildCriticalEmailAlertMsgContent(FATAL_ERROR_MSG +
-                                DETAILS_ERROR_MSG_LABEL + e.getMessage() +
-                                CAUSE_ERROR_MSG_LABEL + e.getCause(), e));
-                keepAlive = false;
+                sendCriticalEmailAlert(exchangeLane, FATAL_ERROR_MSG +
+                        DETAILS_ERROR_MSG_LABEL + e.getMessage() +
+                        CAUSE_ERROR_MSG_LABEL + e.getCause(), e);
+                stopAllExchangeLanes();
 
             } catch (StrategyException e) {
 
@@ -273,11 +521,10 @@ public class TradingEngine {
                  */
                 final String FATAL_ERROR_MSG = "A FATAL error has occurred in Trading Strategy!";
                 LOG.fatal(FATAL_ERROR_MSG, e);
-                emailAlerter.sendMessage(CRITICAL_EMAIL_ALERT_SUBJECT,
-                        buildCriticalEmailAlertMsgContent(FATAL_ERROR_MSG +
-                                DETAILS_ERROR_MSG_LABEL + e.getMessage() +
-                                CAUSE_ERROR_MSG_LABEL + e.getCause(), e));
-                keepAlive = false;
+                sendCriticalEmailAlert(exchangeLane, FATAL_ERROR_MSG +
+                        DETAILS_ERROR_MSG_LABEL + e.getMessage() +
+                        CAUSE_ERROR_MSG_LABEL + e.getCause(), e);
+                stopAllExchangeLanes();
 
             } catch (Exception e) {
 
@@ -287,50 +534,530 @@ public class TradingEngine {
                  */
                 final String FATAL_ERROR_MSG = "An unexpected FATAL error has occurred in Exchange Adapter or Trading Strategy!";
                 LOG.fatal(FATAL_ERROR_MSG, e);
-                emailAlerter.sendMessage(CRITICAL_EMAIL_ALERT_SUBJECT,
-                        buildCriticalEmailAlertMsgContent(FATAL_ERROR_MSG +
-                                DETAILS_ERROR_MSG_LABEL + e.getMessage() +
-                                CAUSE_ERROR_MSG_LABEL + e.getCause(), e));
-                keepAlive = false;
+                sendCriticalEmailAlert(exchangeLane, FATAL_ERROR_MSG +
+                        DETAILS_ERROR_MSG_LABEL + e.getMessage() +
+                        CAUSE_ERROR_MSG_LABEL + e.getCause(), e);
+                stopAllExchangeLanes();
             }
         }
 
-        LOG.fatal("BX-bot " + botId + " is shutting down NOW!");
-        synchronized (IS_RUNNING_MONITOR) {
-            isRunning = false;
+        // lets any overrunning Trading Strategy finish; the executor's threads are daemons
+        exchangeLane.getStrategyExecutor().shutdown();
+        if (exchangeLane.getMarketDataPrefetcher() != null) {
+            exchangeLane.getMarketDataPrefetcher().shutdown();
+        }
+
+        LOG.info(() -> "Stopped trade cycles on exchange " + exchangeLane.getId());
+        ThreadContext.remove(EXCHANGE_CONTEXT_KEY);
+    }
+
+    /*
+     * Refreshes the open orders the Trading Strategies check their orders against, in as few calls to the exchange as
+     * it allows. Skipped until a Trading Strategy has checked an order.
+     */
+    private static void refreshOpenOrders(ExchangeLane exchangeLane, List<ScheduledMarket> marketsToExecute) {
+
+        final OpenOrderTracker openOrderTracker = exchangeLane.getOpenOrderTracker();
+        if (!openOrderTracker.isInUse()) {
+            return;
+        }
+        openOrderTracker.refresh(exchangeLane.getExchangeAdapter(), unpausedMarketIds(marketsToExecute));
+    }
+
+    /*
+     * Fetches the tickers and order books the Trading Strategies use, in as few calls to the exchange as it allows.
+     * If they were prefetched while the lane was waiting for the trade cycle, the prefetch is used instead.
+     */
+    private static void refreshMarketDataSnapshot(ExchangeLane exchangeLane, List<ScheduledMarket> marketsToExecute) {
+
+        final MarketDataPrefetcher marketDataPrefetcher = exchangeLane.getMarketDataPrefetcher();
+        if (marketDataPrefetcher != null) {
+            marketDataPrefetcher.refresh(exchangeLane.getExchangeAdapter(), unpausedMarketIds(marketsToExecute));
+        } else {
+            exchangeLane.getMarketDataSnapshot().refresh(exchangeLane.getExchangeAdapter(),
+                    unpausedMarketIds(marketsToExecute));
+        }
+    }
+
+    private static List<String> unpausedMarketIds(List<ScheduledMarket> marketsToExecute) {
+        final List<String> marketIds = new ArrayList<>();
+        for (final ScheduledMarket scheduledMarket : marketsToExecute) {
+            if (!scheduledMarket.isPaused()) {
+                marketIds.add(scheduledMarket.getMarket().getId());
+            }
         }
+        return marketIds;
     }
 
     /*
-     * Shutdown the Trading Engine.
-     * Might be called from a different thread.
-     * TODO currently not used - but will eventually be called from Admin Console.
+     * Returns false if the Trading Strategy must be skipped this trade cycle.
+     */
+    private boolean isReadyToExecute(ExchangeLane exchangeLane, ScheduledMarket scheduledMarket)
+            throws StrategyException {
+
+        if (scheduledMarket.isPaused()) {
+            LOG.info(TRADE_CYCLE, "{} market is paused - skipping...", scheduledMarket.getMarket().getName());
+            return false;
+        }
+
+        if (scheduledMarket.checkQuarantine()) {
+            LOG.info(TRADE_CYCLE, "{} market is quarantined - skipping...", scheduledMarket.getMarket().getName());
+            return false;
+        }
+
+        if (isStillOverrunning(exchangeLane, scheduledMarket)) {
+            return false;
+        }
+
+        LOG.info(TRADE_CYCLE, "Executing Trading Strategy ---> {}",
+                scheduledMarket.getTradingStrategy().getClass().getSimpleName());
+        return true;
+    }
+
+    /*
+     * Executes the trade cycle's Trading Strategies at the same time, in priority order, as a single unit of work.
+     * The lane waits until each one has finished or overrun its execution timeout, timed from when it started
+     * executing - it can be queued first, as the lane only has max-concurrent-strategies threads. One that is still
+     * queued after waiting for as long as its execution timeout is skipped this trade cycle. If one of them fails, the
+     * others still executing are cancelled and the failure is rethrown, just as if the Trading Strategies had been
+     * executed one after the other.
+     */
+    private void executeTradingStrategiesConcurrently(ExchangeLane exchangeLane,
+                                                      List<ScheduledMarket> marketsToExecute)
+            throws StrategyException {
+
+        final CompletionService<ScheduledMarket> scope =
+                new ExecutorCompletionService<>(exchangeLane.getStrategyExecutor());
+        final Map<Future<ScheduledMarket>, StrategyExecution> executions = new LinkedHashMap<>();
+        boolean joined = false;
+
+        try {
+            for (final ScheduledMarket scheduledMarket : marketsToExecute) {
+
+                if (!keepAlive) {
+                    LOG.info(() -> "Shutdown requested - not executing any more Trading Strategies this trade cycle.");
+                    break;
+                }
+
+                if (isReadyToExecute(exchangeLane, scheduledMarket)) {
+                    final StrategyExecution strategyExecution = new StrategyExecution(scheduledMarket);
+                    executions.put(scope.submit(() -> {
+                        if (strategyExecution.start()) {
+                            runTradingStrategy(exchangeLane, scheduledMarket.getMarket(),
+                                    scheduledMarket.getTradingStrategy());
+                        }
+                        return scheduledMarket;
+                    }), strategyExecution);
+                }
+            }
+
+            while (!executions.isEmpty()) {
+
+                long waitMillis = Long.MAX_VALUE;
+                for (final StrategyExecution strategyExecution : executions.values()) {
+                    waitMillis = Math.min(waitMillis, strategyExecution.getMillisLeft());
+                }
+
+                final Future<ScheduledMarket> execution;
+                try {
+                    execution = waitMillis > 0 ? scope.poll(waitMillis, TimeUnit.MILLISECONDS) : scope.poll();
+                } catch (InterruptedException e) {
+                    LOG.warn("Control Loop thread interrupted waiting for Trading Strategies to finish executing");
+                    executions.forEach((overrunningExecution, strategyExecution) ->
+                            strategyExecution.getScheduledMarket().setOverrunningExecution(overrunningExecution));
+                    executions.clear();
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (execution != null) {
+                    final StrategyExecution strategyExecution = executions.remove(execution);
+                    if (strategyExecution == null) {
+                        continue; // skipped or abandoned earlier
+                    }
+                    try {
+                        execution.get();
+                        strategyExecution.getScheduledMarket().resetConsecutiveOverruns();
+                    } catch (ExecutionException e) {
+                        rethrowStrategyExecutionFailure(e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    abandonOverrunningExecutions(exchangeLane, executions);
+                }
+            }
+            joined = true;
+
+        } finally {
+            if (!joined) {
+                executions.keySet().forEach(execution -> execution.cancel(true));
+            }
+        }
+    }
+
+    /*
+     * Stops waiting for the Trading Strategies that have overrun their execution timeout and leaves them to finish in
+     * the background. Those that have been queued for as long as their execution timeout without starting are skipped
+     * this trade cycle; they have not overrun.
+     */
+    private void abandonOverrunningExecutions(ExchangeLane exchangeLane,
+                                              Map<Future<ScheduledMarket>, StrategyExecution> executions) {
+
+        final Iterator<Map.Entry<Future<ScheduledMarket>, StrategyExecution>> executionIterator =
+                executions.entrySet().iterator();
+        while (executionIterator.hasNext()) {
+            final Map.Entry<Future<ScheduledMarket>, StrategyExecution> execution = executionIterator.next();
+            final StrategyExecution strategyExecution = execution.getValue();
+            final ScheduledMarket scheduledMarket = strategyExecution.getScheduledMarket();
+
+            if (strategyExecution.getMillisLeft() > 0) {
+                continue;
+            }
+
+            if (strategyExecution.skipIfNotStarted()) {
+                executionIterator.remove();
+                LOG.warn("Trading Strategy for {} market was not started within its {}ms execution timeout - all "
+                                + "the strategy threads are busy. Skipping it this trade cycle...",
+                        scheduledMarket.getMarket().getName(), scheduledMarket.getExecutionTimeoutMillis());
+
+            } else if (strategyExecution.getMillisLeft() <= 0) {
+                // it may only just have started, so its time left is checked again
+                executionIterator.remove();
+                scheduledMarket.setOverrunningExecution(execution.getKey());
+                handleStrategyOverrun(exchangeLane, scheduledMarket);
+            }
+        }
+    }
+
+    /*
+     * Executes the Trading Strategy in the lane's strategy executor and waits up to its execution timeout for it to
+     * finish. If it overruns, the lane stops waiting and the execution is left to finish in the background.
+     */
+    private void executeTradingStrategy(ExchangeLane exchangeLane, ScheduledMarket scheduledMarket)
+            throws StrategyException {
+
+        final Future<?> execution = exchangeLane.getStrategyExecutor().submit(() -> {
+            runTradingStrategy(exchangeLane, scheduledMarket.getMarket(), scheduledMarket.getTradingStrategy());
+            return null;
+        });
+
+        try {
+            execution.get(scheduledMarket.getExecutionTimeoutMillis(), TimeUnit.MILLISECONDS);
+            scheduledMarket.resetConsecutiveOverruns();
+        } catch (TimeoutException e) {
+            scheduledMarket.setOverrunningExecution(execution);
+            handleStrategyOverrun(exchangeLane, scheduledMarket);
+        } catch (ExecutionException e) {
+            rethrowStrategyExecutionFailure(e);
+        } catch (InterruptedException e) {
+            LOG.warn("Control Loop thread interrupted waiting for Trading Strategy to finish executing");
+            scheduledMarket.setOverrunningExecution(execution);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Checks on the Trading Strategy's last execution if it overran. If it is still executing, that counts as another
+     * overrun and the Trading Strategy is skipped this trade cycle. If it has finished, its outcome is handled as if
+     * it had finished in time.
+     */
+    private boolean isStillOverrunning(ExchangeLane exchangeLane, ScheduledMarket scheduledMarket)
+            throws StrategyException {
+
+        final Future<?> overrunningExecution = scheduledMarket.getOverrunningExecution();
+        if (overrunningExecution == null) {
+            return false;
+        }
+
+        if (!overrunningExecution.isDone()) {
+            LOG.warn("Trading Strategy for {} market is still executing from an earlier trade cycle - skipping...",
+                    scheduledMarket.getMarket().getName());
+            handleStrategyOverrun(exchangeLane, scheduledMarket);
+            return true;
+        }
+
+        scheduledMarket.setOverrunningExecution(null);
+        try {
+            overrunningExecution.get();
+        } catch (ExecutionException e) {
+            rethrowStrategyExecutionFailure(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /*
+     * Reports a Trading Strategy overrun and quarantines the Trading Strategy if it keeps overrunning.
+     */
+    private void handleStrategyOverrun(ExchangeLane exchangeLane, ScheduledMarket scheduledMarket) {
+
+        final Market market = scheduledMarket.getMarket();
+        final String strategyName = scheduledMarket.getTradingStrategy().getClass().getSimpleName();
+        final long executionTimeoutMillis = scheduledMarket.getExecutionTimeoutMillis();
+        final int consecutiveOverruns = scheduledMarket.incrementConsecutiveOverruns();
+
+        LOG.warn("Trading Strategy {} for {} market overran its {}ms execution timeout - {} trade cycle(s) in a row",
+                strategyName, market.getName(), executionTimeoutMillis, consecutiveOverruns);
+        Metrics.counter(STRATEGY_OVERRUNS_METRIC, "strategy", strategyName, "market", market.getId(),
+                EXCHANGE_CONTEXT_KEY, exchangeLane.getId()).increment();
+        engineEventBus.publish(EngineEvent.builder(EngineEventType.STRATEGY_OVERRUN)
+                .marketId(market.getId())
+                .detail("strategy", strategyName)
+                .detail(EXCHANGE_CONTEXT_KEY, exchangeLane.getId())
+                .detail("executionTimeoutMillis", executionTimeoutMillis)
+                .detail("consecutiveOverruns", consecutiveOverruns)
+                .build());
+
+        if (consecutiveOverruns >= MAX_CONSECUTIVE_STRATEGY_OVERRUNS) {
+
+            scheduledMarket.quarantine(STRATEGY_QUARANTINE_TRADE_CYCLES);
+
+            final String quarantineMsg = "Trading Strategy " + strategyName + " for " + market.getName()
+                    + " market overran its execution timeout of " + executionTimeoutMillis + "ms "
+                    + consecutiveOverruns + " trade cycles in a row! It will not be executed for the next "
+                    + STRATEGY_QUARANTINE_TRADE_CYCLES + " trade cycles.";
+            LOG.error(quarantineMsg);
+            Metrics.counter(STRATEGY_QUARANTINES_METRIC, "strategy", strategyName, "market", market.getId(),
+                    EXCHANGE_CONTEXT_KEY, exchangeLane.getId()).increment();
+            engineEventBus.publish(EngineEvent.builder(EngineEventType.STRATEGY_QUARANTINED)
+                    .marketId(market.getId())
+                    .detail("strategy", strategyName)
+                    .detail(EXCHANGE_CONTEXT_KEY, exchangeLane.getId())
+                    .detail("tradeCycles", STRATEGY_QUARANTINE_TRADE_CYCLES)
+                    .build());
+            sendEmailAlert(WARNING_EMAIL_ALERT_SUBJECT, "A WARNING event has occurred on BX-bot.", exchangeLane,
+                    quarantineMsg,
+                    "The bot will keep trading on the other markets. Check the bot logs for more information.",
+                    null);
+        }
+    }
+
+    private static void rethrowStrategyExecutionFailure(ExecutionException e) throws StrategyException {
+        final Throwable cause = e.getCause();
+        if (cause instanceof StrategyException) {
+            throw (StrategyException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new StrategyException(cause);
+    }
+
+    /*
+     * Runs in the lane's strategy executor.
+     */
+    private static void runTradingStrategy(ExchangeLane exchangeLane, Market market,
+                                           TradingStrategy tradingStrategy) throws StrategyException {
+
+        final long startTime = System.nanoTime();
+        String outcome = "error";
+        ThreadContext.put(EXCHANGE_CONTEXT_KEY, exchangeLane.getId());
+        ThreadContext.put(MARKET_CONTEXT_KEY, market.getId());
+        try {
+            tradingStrategy.execute();
+            outcome = "success";
+        } finally {
+            ThreadContext.remove(MARKET_CONTEXT_KEY);
+            ThreadContext.remove(EXCHANGE_CONTEXT_KEY);
+            Timer.builder(STRATEGY_EXECUTE_METRIC)
+                    .tags("strategy", tradingStrategy.getClass().getSimpleName(), "market", market.getId(),
+                            EXCHANGE_CONTEXT_KEY, exchangeLane.getId(), "outcome", outcome)
+                    .register(Metrics.globalRegistry)
+                    .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /*
+     * Also lets the polling controller adjust the wait before the next trade cycle to how the exchange coped.
+     */
+    private void finishTradeCycle(ExchangeLane exchangeLane, long tradeCycleNumber, long tradeCycleStartTime,
+                                  String outcome) {
+
+        exchangeLane.getPollingController().adjust();
+
+        final long tradeCycleDuration = System.nanoTime() - tradeCycleStartTime;
+        Timer.builder(TRADE_CYCLE_METRIC)
+                .tags(EXCHANGE_CONTEXT_KEY, exchangeLane.getId(), "outcome", outcome)
+                .register(Metrics.globalRegistry)
+                .record(tradeCycleDuration, TimeUnit.NANOSECONDS);
+
+        engineEventBus.publish(EngineEvent.builder(EngineEventType.TRADE_CYCLE_FINISHED)
+                .detail("tradeCycle", tradeCycleNumber)
+                .detail(EXCHANGE_CONTEXT_KEY, exchangeLane.getId())
+                .detail("outcome", outcome)
+                .detail("durationMillis", TimeUnit.NANOSECONDS.toMillis(tradeCycleDuration))
+                .build());
+    }
+
+    /*
+     * Waits for the exchange's current trade cycle interval to elapse. Returns early if the engine is being shutdown or
+     * an immediate trade cycle has been requested.
+     */
+    private void sleepUntilNextTradeCycle(ExchangeLane exchangeLane) {
+
+        final long wakeUpTime = System.currentTimeMillis()
+                + exchangeLane.getPollingController().getPollingPeriodMillis();
+        exchangeLane.setNextTradeCycleDueTime(wakeUpTime);
+
+        final MarketDataPrefetcher marketDataPrefetcher = exchangeLane.getMarketDataPrefetcher();
+        if (marketDataPrefetcher != null && keepAlive) {
+            marketDataPrefetcher.prefetch(exchangeLane.getExchangeAdapter(),
+                    unpausedMarketIds(exchangeLane.getScheduledMarkets()), wakeUpTime);
+        }
+
+        final Object tradeCycleMonitor = exchangeLane.getTradeCycleMonitor();
+        synchronized (tradeCycleMonitor) {
+            while (keepAlive && !exchangeLane.isTradeCycleRequested()) {
+                final long timeToSleep = wakeUpTime - System.currentTimeMillis();
+                if (timeToSleep <= 0) {
+                    break;
+                }
+                try {
+                    tradeCycleMonitor.wait(timeToSleep);
+                } catch (InterruptedException e) {
+                    LOG.warn("Control Loop thread interrupted when sleeping before next trade cycle");
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            exchangeLane.setTradeCycleRequested(false);
+        }
+    }
+
+    /*
+     * Tells every lane to stop after the Trading Strategy it is currently executing (if any).
+     */
+    private void stopAllExchangeLanes() {
+        keepAlive = false;
+        wakeUp();
+    }
+
+    /**
+     * Shuts down the Trading Engine gracefully.
+     * <p>
+     * The Trading Strategies currently executing (if any) are allowed to finish; no further Trading Strategies are
+     * executed and every exchange lane exits its main control loop. Might be called from a different thread.
      */
     public void shutdown() {
 
         LOG.info(() -> "Shutdown request received!");
         LOG.info(() -> "Engine originally started in thread: " + engineThread);
 
-        keepAlive = false;
-        engineThread.interrupt(); // poke it in case bot is sleeping
+        stopAllExchangeLanes(); // pokes the lanes in case they are sleeping
+    }
+
+    /**
+     * Requests an immediate trade cycle on every exchange. If an exchange lane is sleeping, it is woken up and starts
+     * the next trade cycle straight away. If it is in the middle of a trade cycle, the next trade cycle starts as soon
+     * as the current one completes. Might be called from a different thread.
+     */
+    public void triggerTradeCycle() {
+        LOG.info(() -> "Immediate trade cycle requested!");
+        for (final ExchangeLane exchangeLane : exchangeLanes) {
+            exchangeLane.wakeUp(true);
+        }
+    }
+
+    /**
+     * Returns the runtime status of all the Markets the engine is trading on.
+     *
+     * @return the Market statuses; the list is empty if the engine has not loaded its config yet.
+     */
+    public List<MarketStatus> getMarketStatuses() {
+        final List<MarketStatus> marketStatuses = new ArrayList<>();
+        for (final ExchangeLane exchangeLane : exchangeLanes) {
+            for (final ScheduledMarket scheduledMarket : exchangeLane.getScheduledMarkets()) {
+                marketStatuses.add(scheduledMarket.toMarketStatus());
+            }
+        }
+        return marketStatuses;
+    }
+
+    /**
+     * Returns the runtime status of a given Market.
+     *
+     * @param exchangeId the id of the exchange the Market is traded on.
+     * @param marketId   the id of the Market.
+     * @return the Market status, or null if the engine is not trading on the Market.
+     */
+    public MarketStatus getMarketStatus(String exchangeId, String marketId) {
+        final ScheduledMarket scheduledMarket = findScheduledMarket(exchangeId, marketId);
+        return scheduledMarket == null ? null : scheduledMarket.toMarketStatus();
+    }
+
+    /**
+     * Pauses or resumes trading on a given Market, and sets its execution priority. Markets with a higher priority are
+     * executed first in each trade cycle. Both are applied together, so a trade cycle never sees 1 without the other.
+     * Takes effect at the next trade cycle.
+     *
+     * @param exchangeId the id of the exchange the Market is traded on.
+     * @param marketId   the id of the Market.
+     * @param paused     true to pause the Market, false to resume it.
+     * @param priority   the new priority.
+     * @return true if the Market was found, false otherwise.
+     */
+    public boolean updateMarketStatus(String exchangeId, String marketId, boolean paused, int priority) {
+        final ScheduledMarket scheduledMarket = findScheduledMarket(exchangeId, marketId);
+        if (scheduledMarket == null) {
+            return false;
+        }
+        scheduledMarket.setRuntimeState(paused, priority);
+        LOG.info(() -> "Market " + marketId + " on " + exchangeId + (paused ? " paused" : " resumed")
+                + " with priority " + priority + " - takes effect at next trade cycle.");
+        return true;
+    }
+
+    /**
+     * Returns the order books for the same instrument on different exchanges, merged into 1 view. It is only
+     * populated when the bot is trading on more than 1 exchange.
+     *
+     * @return the consolidated order book.
+     */
+    public ConsolidatedOrderBook getConsolidatedOrderBook() {
+        return consolidatedOrderBook;
     }
 
-    synchronized boolean isRunning() {
-        LOG.info(() -> "isRunning: " + isRunning);
-        return isRunning;
+    public boolean isRunning() {
+        synchronized (IS_RUNNING_MONITOR) {
+            LOG.debug(() -> "isRunning: " + isRunning);
+            return isRunning;
+        }
+    }
+
+    private ScheduledMarket findScheduledMarket(String exchangeId, String marketId) {
+        final ExchangeLane exchangeLane = findExchangeLane(exchangeId);
+        if (exchangeLane == null) {
+            return null;
+        }
+        for (final ScheduledMarket scheduledMarket : exchangeLane.getScheduledMarkets()) {
+            if (scheduledMarket.getMarket().getId().equals(marketId)) {
+                return scheduledMarket;
+            }
+        }
+        return null;
+    }
+
+    private void wakeUp() {
+        for (final ExchangeLane exchangeLane : exchangeLanes) {
+            exchangeLane.wakeUp(false);
+        }
     }
 
     /*
      * Checks if the Emergency Stop Currency (e.g. USD, BTC) wallet balance on exchange has gone *below* configured limit.
      * If the balance cannot be obtained or has dropped below the configured limit, we notify the main control loop to
-     * immediately shutdown the bot.
+     * immediately shutdown the bot. The check runs against every exchange the bot trades on.
      *
      * This check is here to help protect runaway losses due to:
      * - 'buggy' Trading Strategies
      * - Unforeseen bugs in the Trading Engine and Exchange Adapter
      * - the exchange sending corrupt order book data and the Trading Strategy being misled... this has happened.
      */
-    private boolean isEmergencyStopLimitBreached() throws TradingApiException, ExchangeNetworkException {
+    private boolean isEmergencyStopLimitBreached(ExchangeLane exchangeLane)
+            throws TradingApiException, ExchangeNetworkException {
 
         boolean isEmergencyStopLimitBreached = true;
 
@@ -338,11 +1065,11 @@ public class TradingEngine {
             return false;
         }
 
-        LOG.info(() -> "Performing Emergency Stop check...");
+        LOG.info(TRADE_CYCLE, "Performing Emergency Stop check...");
 
         BalanceInfo balanceInfo;
         try {
-            balanceInfo = exchangeAdapter.getBalanceInfo();
+            balanceInfo = exchangeLane.getExchangeAdapter().getBalanceInfo();
         } catch (TradingApiException e) {
             final String errorMsg = "Failed to get Balance info from exchange to perform Emergency Stop check - letting"
                     + " Trade Engine error policy decide what to do next...";
@@ -356,41 +1083,67 @@ public class TradingEngine {
         if (currentBalance == null) {
             final String errorMsg =
                     "Emergency stop check: Failed to get current Emergency Stop Currency balance as '"
-                            + emergencyStopCurrency + "' key into Balances map "
-                            + "returned null. Balances returned: " + balancesAvailable;
+                            + emergencyStopCurrency + "' key into Balances map for exchange " + exchangeLane.getId()
+                            + " returned null. Balances returned: " + balancesAvailable;
             LOG.error(errorMsg);
             throw new IllegalStateException(errorMsg);
         } else {
 
-            LOG.info(() -> "Emergency Stop Currency balance available on exchange is ["
-                    + new DecimalFormat("#.########").format(currentBalance) + "] "
-                    + emergencyStopCurrency);
+            final DecimalFormat decimalFormat = exchangeLane.getDecimalFormat();
+            if (LOG.isInfoEnabled(TRADE_CYCLE)) {
+                LOG.info(TRADE_CYCLE, "Emergency Stop Currency balance available on exchange is [{}] {}",
+                        decimalFormat.format(currentBalance), emergencyStopCurrency);
+                LOG.info(TRADE_CYCLE, "Balance that will stop ALL trading across ALL markets is [{}] {}",
+                        decimalFormat.format(emergencyStopBalance), emergencyStopCurrency);
+            }
 
-            LOG.info(() -> "Balance that will stop ALL trading across ALL markets is ["
-                    + new DecimalFormat("#.########").format(emergencyStopBalance) + "] " + emergencyStopCurrency);
+            final boolean isBalanceBelowEmergencyStopBalance = currentBalance.compareTo(emergencyStopBalance) < 0;
+            engineEventBus.publish(EngineEvent.builder(EngineEventType.EMERGENCY_STOP_CHECK)
+                    .detail(EXCHANGE_CONTEXT_KEY, exchangeLane.getId())
+                    .detail("currency", emergencyStopCurrency)
+                    .detail("balance", currentBalance)
+                    .detail("emergencyStopBalance", emergencyStopBalance)
+                    .detail("passed", !isBalanceBelowEmergencyStopBalance)
+                    .build());
 
-            if (currentBalance.compareTo(emergencyStopBalance) < 0) {
+            if (isBalanceBelowEmergencyStopBalance) {
                 final String balanceBlownErrorMsg =
                         "EMERGENCY STOP triggered! - Current Emergency Stop Currency [" + emergencyStopCurrency + "] wallet balance ["
-                                + new DecimalFormat("#.########").format(currentBalance) + "] on exchange "
+                                + decimalFormat.format(currentBalance) + "] on exchange "
                                 + "is lower than configured Emergency Stop balance ["
-                                + new DecimalFormat("#.########").format(emergencyStopBalance) + "] " + emergencyStopCurrency;
+                                + decimalFormat.format(emergencyStopBalance) + "] " + emergencyStopCurrency;
 
                 LOG.fatal(balanceBlownErrorMsg);
-                emailAlerter.sendMessage(CRITICAL_EMAIL_ALERT_SUBJECT,
-                        buildCriticalEmailAlertMsgContent(balanceBlownErrorMsg, null));
+                sendCriticalEmailAlert(exchangeLane, balanceBlownErrorMsg, null);
             } else {
 
                 isEmergencyStopLimitBreached = false;
-                LOG.info(() -> "Emergency Stop check PASSED!");
+                LOG.info(TRADE_CYCLE, "Emergency Stop check PASSED!");
             }
         }
         return isEmergencyStopLimitBreached;
     }
 
-    private String buildCriticalEmailAlertMsgContent(String errorDetails, Throwable exception) {
+    void sendCriticalEmailAlert(ExchangeLane exchangeLane, String errorDetails, Throwable exception) {
+        sendEmailAlert(CRITICAL_EMAIL_ALERT_SUBJECT, "A CRITICAL error event has occurred on BX-bot.", exchangeLane,
+                errorDetails, "The bot will shut down NOW! Check the bot logs for more information.", exception);
+    }
+
+    /*
+     * The alert content has the time of the event in it, so 2 alerts for the same failure never have the same content.
+     * They are deduplicated on the exchange and event details instead.
+     */
+    private void sendEmailAlert(String subject, String summary, ExchangeLane exchangeLane, String eventDetails,
+                                String actionTaken, Throwable exception) {
+        emailAlerter.sendMessage(subject,
+                buildEmailAlertMsgContent(summary, exchangeLane, eventDetails, actionTaken, exception),
+                exchangeLane.getId() + NEWLINE + eventDetails);
+    }
 
-        final StringBuilder msgContent = new StringBuilder("A CRITICAL error event has occurred on BX-bot.");
+    private String buildEmailAlertMsgContent(String summary, ExchangeLane exchangeLane, String eventDetails,
+                                             String actionTaken, Throwable exception) {
+
+        final StringBuilder msgContent = new StringBuilder(summary);
         msgContent.append(NEWLINE).append(NEWLINE);
 
         msgContent.append(HORIZONTAL_RULE);
@@ -404,7 +1157,8 @@ public class TradingEngine {
         msgContent.append(HORIZONTAL_RULE);
         msgContent.append("Exchange Adapter:");
         msgContent.append(NEWLINE).append(NEWLINE);
-        msgContent.append(exchangeAdapter.getClass().getName());
+        msgContent.append(exchangeLane.getExchangeAdapterClassName());
+        msgContent.append(" (exchange ").append(exchangeLane.getId()).append(")");
         msgContent.append(NEWLINE).append(NEWLINE);
 
         msgContent.append(HORIZONTAL_RULE);
@@ -416,13 +1170,13 @@ public class TradingEngine {
         msgContent.append(HORIZONTAL_RULE);
         msgContent.append("Event Details:");
         msgContent.append(NEWLINE).append(NEWLINE);
-        msgContent.append(errorDetails);
+        msgContent.append(eventDetails);
         msgContent.append(NEWLINE).append(NEWLINE);
 
         msgContent.append(HORIZONTAL_RULE);
         msgContent.append("Action Taken:");
         msgContent.append(NEWLINE).append(NEWLINE);
-        msgContent.append("The bot will shut down NOW! Check the bot logs for more information.");
+        msgContent.append(actionTaken);
         msgContent.append(NEWLINE).append(NEWLINE);
 
         if (exception != null) {
@@ -444,13 +1198,71 @@ public class TradingEngine {
 
     private void loadExchangeAdapterConfig() {
 
-        final ExchangeConfig domainExchangeConfig = exchangeConfigService.getExchangeConfig();
+        final List<ExchangeConfig> domainExchangeConfigs = exchangeConfigService.getAllExchangeConfig();
+        if (domainExchangeConfigs == null || domainExchangeConfigs.isEmpty()) {
+            final String errorMsg = "No Exchange config found! At least 1 exchange must be configured.";
+            LOG.fatal(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+
+        for (final ExchangeConfig domainExchangeConfig : domainExchangeConfigs) {
+
+            // The id is optional for single exchange configs - fall back to the exchange name
+            final String exchangeId = domainExchangeConfig.getId() != null
+                    ? domainExchangeConfig.getId() : domainExchangeConfig.getExchangeName();
+            if (findExchangeLane(exchangeId) != null) {
+                final String errorMsg = "Found duplicate Exchange! Exchange details: " + domainExchangeConfig;
+                LOG.fatal(errorMsg);
+                throw new IllegalArgumentException(errorMsg);
+            }
+
+            final ExchangeAdapter exchangeAdapter = loadExchangeAdapter(exchangeId, domainExchangeConfig);
+            final AtomicLong scheduleLagMillis = SCHEDULE_LAG_MILLIS.computeIfAbsent(exchangeId, id -> {
+                final AtomicLong lag = new AtomicLong();
+                TimeGauge.builder(SCHEDULE_LAG_METRIC, lag, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                        .tags(EXCHANGE_CONTEXT_KEY, id)
+                        .description("How late the last trade cycle started compared to when it was due")
+                        .register(Metrics.globalRegistry);
+                return lag;
+            });
+
+            final AtomicLong pollingPeriodMillis = POLLING_PERIOD_MILLIS.computeIfAbsent(exchangeId, id -> {
+                final AtomicLong period = new AtomicLong();
+                TimeGauge.builder(POLLING_PERIOD_METRIC, period, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                        .tags(EXCHANGE_CONTEXT_KEY, id)
+                        .description("How long the exchange waits in between trade cycles")
+                        .register(Metrics.globalRegistry);
+                return period;
+            });
+
+            // The exchange's throttling and overload responses are the non-fatal error codes in its network config
+            final NetworkConfig networkConfig = domainExchangeConfig.getNetworkConfig();
+            final List<Integer> throttlingStatusCodes = networkConfig != null
+                    && networkConfig.getNonFatalErrorCodes() != null
+                    ? networkConfig.getNonFatalErrorCodes() : Collections.emptyList();
+            final AdaptivePollingController pollingController = new AdaptivePollingController(exchangeId,
+                    exchangeAdapter, throttlingStatusCodes, pollingPeriodMillis);
+            final OpenOrderTracker openOrderTracker = new OpenOrderTracker(engineEventBus);
+            final MarketDataSnapshot marketDataSnapshot = new MarketDataSnapshot();
+            final MarketInfoCache marketInfoCache = new MarketInfoCache();
+            exchangeLanes.add(new ExchangeLane(exchangeId, pollingController,
+                    new EventPublishingTradingApi(pollingController.getExchangeAdapter(), engineEventBus, exchangeId,
+                            consolidatedOrderBook, openOrderTracker, marketDataSnapshot, marketInfoCache),
+                    openOrderTracker, marketDataSnapshot, marketInfoCache, scheduleLagMillis));
+            LOG.info(() -> "Registered exchange with Trading Engine - ID: " + exchangeId);
+        }
+    }
+
+    private static ExchangeAdapter loadExchangeAdapter(String exchangeId, ExchangeConfig domainExchangeConfig) {
+
         LOG.info(() -> "Fetched Exchange config from repository: " + domainExchangeConfig);
 
-        exchangeAdapter = ConfigurableComponentFactory.createComponent(domainExchangeConfig.getExchangeAdapter());
+        final ExchangeAdapter exchangeAdapter =
+                ConfigurableComponentFactory.createComponent(domainExchangeConfig.getExchangeAdapter());
         LOG.info(() -> "Trading Engine will use Exchange Adapter for: " + exchangeAdapter.getImplName());
 
         final ExchangeConfigImpl adapterExchangeConfig = new ExchangeConfigImpl();
+        adapterExchangeConfig.setId(exchangeId);
 
         // Fetch optional network config
         final NetworkConfig networkConfig = domainExchangeConfig.getNetworkConfig();
@@ -459,6 +1271,14 @@ public class TradingEngine {
             final NetworkConfigImpl adapterNetworkConfig = new NetworkConfigImpl();
             adapterNetworkConfig.setConnectionTimeout(networkConfig.getConnectionTimeout());
 
+            // Grab optional retry policy - the adapter uses its defaults for anything not set
+            adapterNetworkConfig.setMaxRetries(networkConfig.getMaxRetries());
+            adapterNetworkConfig.setRetryBackoff(networkConfig.getRetryBackoff());
+            adapterNetworkConfig.setCallDeadline(networkConfig.getCallDeadline());
+
+            // Grab optional keep-alive interval - connections are not kept warm if not set
+            adapterNetworkConfig.setKeepAliveInterval(networkConfig.getKeepAliveInterval());
+
             // Grab optional non-fatal error codes
             final List<Integer> nonFatalErrorCodes = networkConfig.getNonFatalErrorCodes();
             if (nonFatalErrorCodes != null) {
@@ -516,6 +1336,16 @@ public class TradingEngine {
         }
 
         exchangeAdapter.init(adapterExchangeConfig);
+        return exchangeAdapter;
+    }
+
+    private ExchangeLane findExchangeLane(String exchangeId) {
+        for (final ExchangeLane exchangeLane : exchangeLanes) {
+            if (exchangeLane.getId().equals(exchangeId)) {
+                return exchangeLane;
+            }
+        }
+        return null;
     }
 
     private void loadEngineConfig() {
@@ -527,10 +1357,40 @@ public class TradingEngine {
         botName = engineConfig.getBotName();
 
         tradeExecutionInterval = engineConfig.getTradeCycleInterval();
+        configureAdaptivePolling(engineConfig);
+        if (engineConfig.getMaxConcurrentStrategies() != null) {
+            maxConcurrentStrategies = engineConfig.getMaxConcurrentStrategies();
+        }
+        if (engineConfig.getMarketDataPrefetchLeadTime() != null) {
+            marketDataPrefetchLeadTime = engineConfig.getMarketDataPrefetchLeadTime();
+        }
         emergencyStopCurrency = engineConfig.getEmergencyStopCurrency();
         emergencyStopBalance = engineConfig.getEmergencyStopBalance();
     }
 
+    /*
+     * Each exchange starts at the trade cycle interval. If min and/or max bounds are set, the interval is adapted to how
+     * each exchange is coping within them; a missing bound is the trade cycle interval.
+     */
+    private void configureAdaptivePolling(EngineConfig engineConfig) {
+
+        final int minTradeCycleInterval = engineConfig.getMinTradeCycleInterval() != null
+                ? engineConfig.getMinTradeCycleInterval() : tradeExecutionInterval;
+        final int maxTradeCycleInterval = engineConfig.getMaxTradeCycleInterval() != null
+                ? engineConfig.getMaxTradeCycleInterval() : tradeExecutionInterval;
+        if (minTradeCycleInterval > tradeExecutionInterval || maxTradeCycleInterval < tradeExecutionInterval) {
+            final String errorMsg = "Trade cycle interval must be between the min and max trade cycle intervals!"
+                    + " Engine details: " + engineConfig;
+            LOG.fatal(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+
+        for (final ExchangeLane exchangeLane : exchangeLanes) {
+            exchangeLane.getPollingController().configure(tradeExecutionInterval * 1000L,
+                    minTradeCycleInterval * 1000L, maxTradeCycleInterval * 1000L);
+        }
+    }
+
     private void loadTradingStrategyConfig() {
 
         final List<StrategyConfig> strategies = strategyConfigService.getAllStrategyConfig();
@@ -547,8 +1407,8 @@ public class TradingEngine {
         final List<MarketConfig> markets = marketConfigService.getAllMarketConfig();
         LOG.info(() -> "Fetched Markets config from repository: " + markets);
 
-        // used only as crude mechanism for checking for duplicate Markets
-        final Set<Market> loadedMarkets = new HashSet<>();
+        // used only as crude mechanism for checking for duplicate Markets - keyed by exchange id and Market id
+        final Set<String> loadedMarkets = new HashSet<>();
 
         // Load em up and create the Strategies
         for (final MarketConfig market : markets) {
@@ -560,7 +1420,18 @@ public class TradingEngine {
             }
 
             final Market tradingMarket = new MarketImpl(marketName, market.getId(), market.getBaseCurrency(), market.getCounterCurrency());
-            final boolean wasAdded = loadedMarkets.add(tradingMarket);
+
+            // Get the exchange to trade this Market on - Markets not bound to an exchange use the first one
+            final ExchangeLane exchangeLane = market.getExchangeId() != null
+                    ? findExchangeLane(market.getExchangeId()) : exchangeLanes.get(0);
+            if (exchangeLane == null) {
+                final String errorMsg = "Failed to find matching Exchange for Market " + market
+                        + " - The Exchange [" + market.getExchangeId() + "] cannot be found in the Exchange config.";
+                LOG.error(errorMsg);
+                throw new IllegalArgumentException(errorMsg);
+            }
+
+            final boolean wasAdded = loadedMarkets.add(exchangeLane.getId() + "/" + market.getId());
             if (!wasAdded) {
                 final String errorMsg = "Found duplicate Market! Market details: " + market;
                 LOG.fatal(errorMsg);
@@ -591,12 +1462,18 @@ public class TradingEngine {
                  * Trading Strategy execution list.
                  */
                 final TradingStrategy strategyImpl = ConfigurableComponentFactory.createComponent(tradingStrategyClassname);
-                strategyImpl.init(exchangeAdapter, tradingMarket, tradingStrategyConfig);
+                strategyImpl.init(exchangeLane.getStrategyTradingApi(), tradingMarket, tradingStrategyConfig);
 
                 LOG.info(() -> "Initialized trading strategy successfully. Name: [" + tradingStrategy.getName()
                         + "] Class: " + tradingStrategy.getClassName());
 
-                tradingStrategiesToExecute.add(strategyImpl);
+                final int executionTimeout = tradingStrategy.getExecutionTimeout() != null
+                        ? tradingStrategy.getExecutionTimeout() : tradeExecutionInterval;
+                exchangeLane.getScheduledMarkets().add(new ScheduledMarket(
+                        tradingMarket, strategyImpl, exchangeLane.getId(), executionTimeout * 1000L));
+                if (exchangeLanes.size() > 1) {
+                    consolidatedOrderBook.registerMarket(exchangeLane.getId(), tradingMarket);
+                }
             } else {
 
                 // Game over. Config integrity blown - we can't find strat.
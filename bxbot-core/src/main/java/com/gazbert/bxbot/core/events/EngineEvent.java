@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.events;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An event published by the Trading Engine, e.g. a trade cycle starting, or an order being placed.
+ * <p>
+ * Events are immutable so they can be safely handed to listeners on other threads.
+ *
+ * @author gazbert
+ */
+public final class EngineEvent {
+
+    private final EngineEventType type;
+    private final long timestamp;
+    private final String marketId;
+    private final Map<String, Object> details;
+
+
+    private EngineEvent(EngineEventType type, String marketId, Map<String, Object> details) {
+        this.type = type;
+        this.timestamp = System.currentTimeMillis();
+        this.marketId = marketId;
+        this.details = Collections.unmodifiableMap(details);
+    }
+
+    /**
+     * Creates a new event builder.
+     *
+     * @param type the event type.
+     * @return the builder.
+     */
+    public static Builder builder(EngineEventType type) {
+        return new Builder(type);
+    }
+
+    public EngineEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns when the event was created.
+     *
+     * @return the event time in millis since the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the id of the Market the event relates to.
+     *
+     * @return the Market id, or null if the event is not for a specific Market.
+     */
+    public String getMarketId() {
+        return marketId;
+    }
+
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("type", type)
+                .add("timestamp", timestamp)
+                .add("marketId", marketId)
+                .add("details", details)
+                .toString();
+    }
+
+    /**
+     * Builds Engine Events.
+     */
+    public static final class Builder {
+
+        private final EngineEventType type;
+        private String marketId;
+        private final Map<String, Object> details = new LinkedHashMap<>();
+
+        private Builder(EngineEventType type) {
+            this.type = type;
+        }
+
+        public Builder marketId(String marketId) {
+            this.marketId = marketId;
+            return this;
+        }
+
+        public Builder detail(String name, Object value) {
+            details.put(name, value);
+            return this;
+        }
+
+        public EngineEvent build() {
+            return new EngineEvent(type, marketId, details);
+        }
+    }
+}
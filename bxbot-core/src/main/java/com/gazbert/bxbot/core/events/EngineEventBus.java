@@ -0,0 +1,210 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.events;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process event bus for publishing Trading Engine events to listeners, e.g. the REST API event stream.
+ * <p>
+ * Publishing never blocks: each subscriber has its own bounded buffer, and if a subscriber cannot keep up, the oldest
+ * events in its buffer are dropped to make room for new ones. Events are delivered to listeners on dispatcher
+ * threads, so a slow listener can never stall the Trading Engine thread, or other listeners.
+ *
+ * @author gazbert
+ */
+@Component
+public class EngineEventBus {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    /**
+     * Default number of events buffered for each subscriber before the oldest ones get dropped.
+     */
+    public static final int DEFAULT_SUBSCRIBER_BUFFER_SIZE = 1000;
+
+    private static final String DROPPED_EVENTS_METRIC = "bxbot.engine.events.dropped";
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher;
+
+
+    public EngineEventBus() {
+        dispatcher = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("bxbot-event-dispatcher-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Subscribes a listener to all events, using the default buffer size.
+     *
+     * @param listener the listener.
+     * @return the subscription; cancel it to stop receiving events.
+     */
+    public Subscription subscribe(EngineEventListener listener) {
+        return subscribe(listener, DEFAULT_SUBSCRIBER_BUFFER_SIZE);
+    }
+
+    /**
+     * Subscribes a listener to all events.
+     *
+     * @param listener   the listener.
+     * @param bufferSize the max number of events to buffer for the listener before dropping the oldest ones.
+     * @return the subscription; cancel it to stop receiving events.
+     */
+    public Subscription subscribe(EngineEventListener listener, int bufferSize) {
+        final Subscription subscription = new Subscription(listener, bufferSize);
+        subscriptions.add(subscription);
+        LOG.info(() -> "New event bus subscription: " + subscription);
+        return subscription;
+    }
+
+    /**
+     * Returns true if anyone is listening. Publishers can use this to avoid building events nobody will receive.
+     *
+     * @return true if there is at least 1 subscriber, false otherwise.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Publishes an event to all subscribers. Never blocks.
+     *
+     * @param event the event to publish.
+     */
+    public void publish(EngineEvent event) {
+        for (final Subscription subscription : subscriptions) {
+            subscription.enqueue(event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(Subscription::cancel);
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * A listener's subscription to the event bus.
+     */
+    public final class Subscription {
+
+        private final EngineEventListener listener;
+        private final ArrayBlockingQueue<EngineEvent> buffer;
+        private final AtomicBoolean dispatching = new AtomicBoolean(false);
+        private final AtomicLong droppedEventCount = new AtomicLong();
+        private volatile boolean cancelled;
+
+        private Subscription(EngineEventListener listener, int bufferSize) {
+            this.listener = listener;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Cancels the subscription. Any buffered events are discarded.
+         */
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Returns the number of events dropped because the listener could not keep up.
+         *
+         * @return the dropped event count.
+         */
+        public long getDroppedEventCount() {
+            return droppedEventCount.get();
+        }
+
+        private void enqueue(EngineEvent event) {
+            while (!buffer.offer(event)) {
+                if (buffer.poll() != null) {
+                    droppedEventCount.incrementAndGet();
+                    Metrics.counter(DROPPED_EVENTS_METRIC).increment();
+                }
+            }
+            scheduleDispatch();
+        }
+
+        private void scheduleDispatch() {
+            if (!cancelled && dispatching.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::dispatch);
+                } catch (RejectedExecutionException e) {
+                    dispatching.set(false); // bus is shutting down
+                }
+            }
+        }
+
+        /*
+         * Only 1 dispatcher thread at a time drains the buffer, so events are delivered in order.
+         */
+        private void dispatch() {
+            do {
+                EngineEvent event;
+                while (!cancelled && (event = buffer.poll()) != null) {
+                    try {
+                        listener.onEvent(event);
+                    } catch (Exception e) {
+                        LOG.warn("Event listener failed - cancelling its subscription: " + this, e);
+                        cancel();
+                    }
+                }
+                dispatching.set(false);
+            } while (!cancelled && !buffer.isEmpty() && dispatching.compareAndSet(false, true));
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("listener", listener)
+                    .add("bufferCapacity", buffer.size() + buffer.remainingCapacity())
+                    .add("droppedEventCount", droppedEventCount)
+                    .toString();
+        }
+    }
+}
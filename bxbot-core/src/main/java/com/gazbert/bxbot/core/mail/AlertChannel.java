@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+/**
+ * A channel for delivering alerts, e.g. email, webhook, file.
+ * <p>
+ * Channels are only ever called on the alert dispatcher thread, so implementations do not need to be thread safe.
+ *
+ * @author gazbert
+ */
+public interface AlertChannel {
+
+    /**
+     * Returns the channel name. Used for logging and metrics.
+     *
+     * @return the channel name.
+     */
+    String getName();
+
+    /**
+     * Sends an alert.
+     *
+     * @param subject    the alert subject.
+     * @param msgContent the alert message content.
+     * @throws Exception if the alert could not be sent. It is logged; the other channels still get the alert.
+     */
+    void send(String subject, String msgContent) throws Exception;
+}
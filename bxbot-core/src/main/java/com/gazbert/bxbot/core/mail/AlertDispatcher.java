@@ -0,0 +1,209 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Sends alerts to the configured Alert Channels on a single background thread, so the Trading Engine is never
+ * blocked waiting on a slow SMTP server or webhook.
+ * <p>
+ * Alerts are queued on a bounded queue; if the queue is full, the alert is logged and dropped.
+ * <p>
+ * Identical alerts (same subject and deduplication key) sent within the deduplication window are suppressed; the next
+ * time the alert is sent after the window, its content notes how many were suppressed. This stops a market that fails
+ * every trade cycle flooding the inbox. The deduplication key is the content, unless the sender gives one - e.g. the
+ * content without the time of the event, which differs between 2 alerts for the same failure.
+ * <p>
+ * Each channel is called in turn; a failing channel does not stop the alert going to the other channels.
+ *
+ * @author gazbert
+ */
+class AlertDispatcher {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final List<AlertChannel> alertChannels;
+    private final long deduplicationWindowMillis;
+    private final LongSupplier clock;
+    private final ThreadPoolExecutor executor;
+
+    /*
+     * Only ever touched by the dispatcher thread.
+     */
+    private final Map<AlertKey, DeduplicationState> recentAlerts = new HashMap<>();
+
+
+    AlertDispatcher(List<AlertChannel> alertChannels, long deduplicationWindowMillis, int queueCapacity) {
+        this(alertChannels, deduplicationWindowMillis, queueCapacity, System::currentTimeMillis);
+    }
+
+    AlertDispatcher(List<AlertChannel> alertChannels, long deduplicationWindowMillis, int queueCapacity,
+                    LongSupplier clock) {
+
+        this.alertChannels = alertChannels;
+        this.deduplicationWindowMillis = deduplicationWindowMillis;
+        this.clock = clock;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("bxbot-alert-dispatcher-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Queues an alert for sending. Never blocks.
+     *
+     * @param subject    the alert subject.
+     * @param msgContent the alert message content.
+     * @return true if the alert was queued, false if the queue was full or the dispatcher has been shutdown.
+     */
+    boolean dispatch(String subject, String msgContent) {
+        return dispatch(subject, msgContent, msgContent);
+    }
+
+    /**
+     * Queues an alert for sending. Never blocks.
+     *
+     * @param subject          the alert subject.
+     * @param msgContent       the alert message content.
+     * @param deduplicationKey identifies the alert, along with the subject, when checking for duplicates.
+     * @return true if the alert was queued, false if the queue was full or the dispatcher has been shutdown.
+     */
+    boolean dispatch(String subject, String msgContent, String deduplicationKey) {
+        try {
+            executor.execute(() -> send(subject, msgContent, deduplicationKey));
+            return true;
+        } catch (RejectedExecutionException e) {
+            Metrics.counter("bxbot.alerts.dropped").increment();
+            LOG.error("Alert queue full or shutdown. Dropping alert: Subject: " + subject + " Content: " + msgContent);
+            return false;
+        }
+    }
+
+    /**
+     * Stops accepting new alerts and waits for the queued alerts to be sent.
+     *
+     * @param timeoutMillis how long to wait for the queue to drain.
+     * @return true if all queued alerts were sent, false if the timeout expired first.
+     */
+    boolean shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------
+
+    private void send(String subject, String msgContent, String deduplicationKey) {
+
+        final long now = clock.getAsLong();
+        final AlertKey alertKey = new AlertKey(subject, deduplicationKey);
+        recentAlerts.values().removeIf(state -> now - state.lastSentTime >= deduplicationWindowMillis
+                && state.suppressedCount == 0);
+
+        final DeduplicationState state = recentAlerts.get(alertKey);
+        if (state != null && now - state.lastSentTime < deduplicationWindowMillis) {
+            state.suppressedCount++;
+            Metrics.counter("bxbot.alerts.suppressed").increment();
+            LOG.warn("Suppressing duplicate alert sent within deduplication window: Subject: " + subject);
+            return;
+        }
+
+        String content = msgContent;
+        if (state != null && state.suppressedCount > 0) {
+            content = msgContent + "\n\n(" + state.suppressedCount
+                    + " identical alert(s) suppressed since this alert was last sent.)";
+        }
+        recentAlerts.put(alertKey, new DeduplicationState(now));
+
+        for (final AlertChannel alertChannel : alertChannels) {
+            try {
+                alertChannel.send(subject, content);
+            } catch (Exception e) {
+                // not much we can do here, especially if the alert was critical - the bot is shutting down; just log it.
+                Metrics.counter("bxbot.alerts.failed", "channel", alertChannel.getName()).increment();
+                LOG.error("Failed to send alert using " + alertChannel.getName() + " channel. Details: "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+
+    /*
+     * Identifies an alert for deduplication.
+     */
+    private static final class AlertKey {
+
+        private final String subject;
+        private final String deduplicationKey;
+
+        AlertKey(String subject, String deduplicationKey) {
+            this.subject = subject;
+            this.deduplicationKey = deduplicationKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final AlertKey that = (AlertKey) o;
+            return Objects.equals(subject, that.subject) && Objects.equals(deduplicationKey, that.deduplicationKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(subject, deduplicationKey);
+        }
+    }
+
+    /*
+     * When an alert was last sent and how many duplicates have been suppressed since.
+     */
+    private static final class DeduplicationState {
+
+        private final long lastSentTime;
+        private int suppressedCount;
+
+        DeduplicationState(long lastSentTime) {
+            this.lastSentTime = lastSentTime;
+        }
+    }
+}
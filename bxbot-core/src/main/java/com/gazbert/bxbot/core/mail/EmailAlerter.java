@@ -29,17 +29,24 @@ import com.gazbert.bxbot.services.EmailAlertsConfigService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Assert;
 
-import javax.mail.*;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
-import java.util.Properties;
+import javax.annotation.PreDestroy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * A simple mail sender using SMTP and TLS. It sends plain/text email only.
+ * Sends alerts to the configured Alert Channels: plain/text email using SMTP and TLS, and optionally a webhook
+ * and/or a file.
+ * <p>
+ * Alerts are sent asynchronously on a background thread, so callers are never blocked by a slow mail server.
+ * Identical alerts sent within the deduplication window are suppressed. Queued alerts are flushed on shutdown.
  *
  * @author gazbert
  */
@@ -49,64 +56,87 @@ public class EmailAlerter {
 
     private static final Logger LOG = LogManager.getLogger();
 
-    private SmtpConfig smtpConfig;
-    private Properties smtpProps;
-    private boolean sendEmailAlertsEnabled;
+    private static final long DEFAULT_DEDUPLICATION_WINDOW_IN_SECS = 300;
+    private static final int DEFAULT_QUEUE_CAPACITY = 100;
+    private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = TimeUnit.SECONDS.toMillis(60);
+
+    private AlertDispatcher alertDispatcher;
 
     private final EmailAlertsConfigService emailAlertsConfigService;
 
 
-    @Autowired
     public EmailAlerter(EmailAlertsConfigService emailAlertsConfigService) {
-        this.emailAlertsConfigService = emailAlertsConfigService;
-        initialise();
+        this(emailAlertsConfigService, "", "", DEFAULT_DEDUPLICATION_WINDOW_IN_SECS, DEFAULT_QUEUE_CAPACITY);
     }
 
-    public void sendMessage(String subject, String msgContent) {
+    @Autowired
+    public EmailAlerter(EmailAlertsConfigService emailAlertsConfigService,
+                        @Value("${bxbot.alerts.webhook-url:}") String webhookUrl,
+                        @Value("${bxbot.alerts.file:}") String alertsFile,
+                        @Value("${bxbot.alerts.deduplication-window-secs:300}") long deduplicationWindowInSecs,
+                        @Value("${bxbot.alerts.queue-capacity:100}") int queueCapacity) {
 
-        if (sendEmailAlertsEnabled) {
+        this.emailAlertsConfigService = emailAlertsConfigService;
+        initialise(webhookUrl, alertsFile, deduplicationWindowInSecs, queueCapacity);
+    }
 
-            final Session session = Session.getInstance(smtpProps, new Authenticator() {
-                protected PasswordAuthentication getPasswordAuthentication() {
-                    return new PasswordAuthentication(smtpConfig.getAccountUsername(), smtpConfig.getAccountPassword());
-                }
-            });
+    /**
+     * Queues an alert for sending. Returns immediately; the alert is sent on a background thread.
+     *
+     * @param subject    the alert subject.
+     * @param msgContent the alert message content.
+     */
+    public void sendMessage(String subject, String msgContent) {
+        sendMessage(subject, msgContent, msgContent);
+    }
 
-            try {
-                final Message message = new MimeMessage(session);
-                message.setFrom(new InternetAddress(smtpConfig.getFromAddress()));
-                message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(smtpConfig.getToAddress()));
-                message.setSubject(subject);
-                message.setText(msgContent);
-
-                LOG.info(() -> "About to send following Email Alert with message content: " + msgContent);
-                Transport.send(message);
-
-            } catch (MessagingException e) {
-                // not much we can do here, especially if the alert was critical - the bot is shutting down; just log it.
-                LOG.error("Failed to send Email Alert. Details: " + e.getMessage(), e);
-            }
+    /**
+     * Queues an alert for sending. Returns immediately; the alert is sent on a background thread.
+     * <p>
+     * Use it for alerts whose content changes every time they are sent, e.g. because it has the time of the event in
+     * it: duplicates are spotted by their subject and deduplication key instead of their content.
+     *
+     * @param subject          the alert subject.
+     * @param msgContent       the alert message content.
+     * @param deduplicationKey identifies the alert, along with the subject, when checking for duplicates.
+     */
+    public void sendMessage(String subject, String msgContent, String deduplicationKey) {
+
+        if (alertDispatcher != null) {
+            alertDispatcher.dispatch(subject, msgContent, deduplicationKey);
         } else {
             LOG.warn("Email Alerts are disabled. Not sending the following message: Subject: "
                     + subject + " Content: " + msgContent);
         }
     }
 
+    /**
+     * Waits for any queued alerts to be sent. Called by Spring when the bot shuts down, so the final
+     * 'bot is shutting down' alert is not lost.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (alertDispatcher != null && !alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_IN_MILLIS)) {
+            LOG.error("Timed out waiting for queued alerts to be sent.");
+        }
+    }
+
     // ------------------------------------------------------------------------
     // Private utils
     // ------------------------------------------------------------------------
 
-    private void initialise() {
+    private void initialise(String webhookUrl, String alertsFile, long deduplicationWindowInSecs, int queueCapacity) {
+
+        final List<AlertChannel> alertChannels = new ArrayList<>();
 
         final EmailAlertsConfig emailAlertsConfig = emailAlertsConfigService.getEmailAlertsConfig();
         if (emailAlertsConfig != null) {
 
-            sendEmailAlertsEnabled = emailAlertsConfig.isEnabled();
-            if (sendEmailAlertsEnabled) {
+            if (emailAlertsConfig.isEnabled()) {
 
                 LOG.info(() -> "Email Alert for emergency bot shutdown is enabled. Loading SMTP config...");
 
-                smtpConfig = emailAlertsConfig.getSmtpConfig();
+                final SmtpConfig smtpConfig = emailAlertsConfig.getSmtpConfig();
 
                 if (smtpConfig == null) {
                     final String errorMsg = "Failed to initialise Email Alerter. " +
@@ -123,15 +153,31 @@ public class EmailAlerter {
                 LOG.info(() -> "From address: " + smtpConfig.getFromAddress());
                 LOG.info(() -> "To address: " + smtpConfig.getToAddress());
 
-                smtpProps = new Properties();
-                smtpProps.put("mail.smtp.auth", "true");
-                smtpProps.put("mail.smtp.starttls.enable", "true");
-                smtpProps.put("mail.smtp.host", smtpConfig.getHost());
-                smtpProps.put("mail.smtp.port", smtpConfig.getTlsPort());
+                alertChannels.add(new SmtpAlertChannel(smtpConfig));
 
             } else {
                 LOG.warn("Email Alerts are disabled. Are you sure you want to configure this?");
             }
         }
+
+        if (webhookUrl != null && !webhookUrl.trim().isEmpty()) {
+            try {
+                alertChannels.add(new WebhookAlertChannel(new URL(webhookUrl.trim())));
+                LOG.info(() -> "Webhook alerts enabled. Webhook URL: " + webhookUrl);
+            } catch (MalformedURLException e) {
+                final String errorMsg = "Failed to initialise Email Alerter. Invalid webhook URL: " + webhookUrl;
+                throw new IllegalStateException(errorMsg, e);
+            }
+        }
+
+        if (alertsFile != null && !alertsFile.trim().isEmpty()) {
+            alertChannels.add(new FileAlertChannel(Paths.get(alertsFile.trim())));
+            LOG.info(() -> "File alerts enabled. Alerts file: " + alertsFile);
+        }
+
+        if (!alertChannels.isEmpty()) {
+            alertDispatcher = new AlertDispatcher(alertChannels,
+                    TimeUnit.SECONDS.toMillis(deduplicationWindowInSecs), queueCapacity);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import com.gazbert.bxbot.domain.emailalerts.SmtpConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.mail.Authenticator;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.PasswordAuthentication;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.Properties;
+
+/**
+ * Sends alerts as plain/text email using SMTP and TLS.
+ * <p>
+ * The mail Session is created once and reused for every alert.
+ *
+ * @author gazbert
+ */
+class SmtpAlertChannel implements AlertChannel {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    /*
+     * Stop a slow or hung SMTP server holding up the alert dispatcher forever.
+     */
+    private static final String SMTP_TIMEOUT_IN_MILLIS = "30000";
+
+    private final SmtpConfig smtpConfig;
+    private final Session session;
+
+
+    SmtpAlertChannel(SmtpConfig smtpConfig) {
+
+        this.smtpConfig = smtpConfig;
+
+        final Properties smtpProps = new Properties();
+        smtpProps.put("mail.smtp.auth", "true");
+        smtpProps.put("mail.smtp.starttls.enable", "true");
+        smtpProps.put("mail.smtp.host", smtpConfig.getHost());
+        smtpProps.put("mail.smtp.port", smtpConfig.getTlsPort());
+        smtpProps.put("mail.smtp.connectiontimeout", SMTP_TIMEOUT_IN_MILLIS);
+        smtpProps.put("mail.smtp.timeout", SMTP_TIMEOUT_IN_MILLIS);
+        smtpProps.put("mail.smtp.writetimeout", SMTP_TIMEOUT_IN_MILLIS);
+
+        session = Session.getInstance(smtpProps, new Authenticator() {
+            protected PasswordAuthentication getPasswordAuthentication() {
+                return new PasswordAuthentication(smtpConfig.getAccountUsername(), smtpConfig.getAccountPassword());
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return "smtp";
+    }
+
+    @Override
+    public void send(String subject, String msgContent) throws MessagingException {
+
+        final Message message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(smtpConfig.getFromAddress()));
+        message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(smtpConfig.getToAddress()));
+        message.setSubject(subject);
+        message.setText(msgContent);
+
+        LOG.info(() -> "About to send following Email Alert with message content: " + msgContent);
+        Transport.send(message);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sends alerts as JSON to a webhook, e.g. a Slack or Mattermost incoming webhook, or an ops alerting service.
+ * <p>
+ * The alert is POSTed as: {"subject": "...", "message": "...", "text": "subject + message"}
+ * The 'text' field is included so chat webhooks display the alert without any extra config.
+ *
+ * @author gazbert
+ */
+class WebhookAlertChannel implements AlertChannel {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private static final int TIMEOUT_IN_MILLIS = 30 * 1000;
+
+    private final URL webhookUrl;
+
+
+    WebhookAlertChannel(URL webhookUrl) {
+        this.webhookUrl = webhookUrl;
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void send(String subject, String msgContent) throws IOException {
+
+        final JsonObject alert = new JsonObject();
+        alert.addProperty("subject", subject);
+        alert.addProperty("message", msgContent);
+        alert.addProperty("text", subject + "\n" + msgContent);
+        final byte[] payload = alert.toString().getBytes(StandardCharsets.UTF_8);
+
+        final HttpURLConnection connection = (HttpURLConnection) webhookUrl.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setConnectTimeout(TIMEOUT_IN_MILLIS);
+            connection.setReadTimeout(TIMEOUT_IN_MILLIS);
+            connection.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
+
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(payload);
+            }
+
+            final int responseCode = connection.getResponseCode();
+            if (responseCode < 200 || responseCode >= 300) {
+                throw new IOException("Webhook returned HTTP status " + responseCode + " for alert: " + subject);
+            }
+            LOG.info(() -> "Sent alert to webhook: " + subject);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
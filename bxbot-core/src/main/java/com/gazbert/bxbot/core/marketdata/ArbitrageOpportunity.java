@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.google.common.base.MoreObjects;
+
+import java.math.BigDecimal;
+
+/**
+ * A cross-exchange spread found by the {@link ArbitrageScanner}: the instrument can be bought on 1 exchange and sold on
+ * another for more, after fees.
+ *
+ * @author gazbert
+ */
+public final class ArbitrageOpportunity {
+
+    private final String instrument;
+    private final String buyExchangeId;
+    private final String buyMarketId;
+    private final BigDecimal buyPrice;
+    private final String sellExchangeId;
+    private final String sellMarketId;
+    private final BigDecimal sellPrice;
+    private final BigDecimal quantity;
+
+
+    ArbitrageOpportunity(String instrument, VenueBook buyVenue, VenueBook sellVenue) {
+        this.instrument = instrument;
+        this.buyExchangeId = buyVenue.getExchangeId();
+        this.buyMarketId = buyVenue.getMarketId();
+        this.buyPrice = buyVenue.getBestAsk().getPrice();
+        this.sellExchangeId = sellVenue.getExchangeId();
+        this.sellMarketId = sellVenue.getMarketId();
+        this.sellPrice = sellVenue.getBestBid().getPrice();
+        this.quantity = buyVenue.getBestAsk().getQuantity().min(sellVenue.getBestBid().getQuantity());
+    }
+
+    public String getInstrument() {
+        return instrument;
+    }
+
+    public String getBuyExchangeId() {
+        return buyExchangeId;
+    }
+
+    public String getBuyMarketId() {
+        return buyMarketId;
+    }
+
+    /**
+     * Returns the best ask on the buy exchange, including its buy fee.
+     *
+     * @return the fee-adjusted buy price.
+     */
+    public BigDecimal getBuyPrice() {
+        return buyPrice;
+    }
+
+    public String getSellExchangeId() {
+        return sellExchangeId;
+    }
+
+    public String getSellMarketId() {
+        return sellMarketId;
+    }
+
+    /**
+     * Returns the best bid on the sell exchange, less its sell fee.
+     *
+     * @return the fee-adjusted sell price.
+     */
+    public BigDecimal getSellPrice() {
+        return sellPrice;
+    }
+
+    /**
+     * Returns the quantity available at both the best ask and best bid.
+     *
+     * @return the quantity.
+     */
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Returns the profit per unit after fees.
+     *
+     * @return the sell price less the buy price.
+     */
+    public BigDecimal getSpread() {
+        return sellPrice.subtract(buyPrice);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("instrument", instrument)
+                .add("buyExchangeId", buyExchangeId)
+                .add("buyMarketId", buyMarketId)
+                .add("buyPrice", buyPrice)
+                .add("sellExchangeId", sellExchangeId)
+                .add("sellMarketId", sellMarketId)
+                .add("sellPrice", sellPrice)
+                .add("quantity", quantity)
+                .toString();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongSupplier;
+
+/**
+ * Scans the {@link ConsolidatedOrderBook} for cross-exchange spreads: an instrument whose best fee-adjusted bid on 1
+ * exchange is higher than its best fee-adjusted ask on another.
+ * <p>
+ * Instruments are scanned in parallel on a fixed size pool. An instrument is only rescanned if its book has been
+ * updated since the last scan, or the last scan found an opportunity (which might since have gone stale). Order books
+ * older than the max book age are ignored, so an exchange that has stopped responding does not produce phantom
+ * spreads.
+ * <p>
+ * {@link #scan()} is not re-entrant - call it from 1 thread.
+ *
+ * @author gazbert
+ */
+public class ArbitrageScanner {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final ConsolidatedOrderBook consolidatedOrderBook;
+    private final BigDecimal minSpreadFraction;
+    private final long maxBookAgeMillis;
+    private final LongSupplier clock;
+    private final ExecutorService executor;
+
+    /*
+     * Book version each instrument was last scanned at.
+     */
+    private final Map<String, Long> scannedVersions = new ConcurrentHashMap<>();
+
+    /*
+     * Opportunity found by the last scan of each instrument.
+     */
+    private final Map<String, ArbitrageOpportunity> opportunities = new ConcurrentHashMap<>();
+
+
+    /**
+     * Creates the scanner.
+     *
+     * @param consolidatedOrderBook the book to scan.
+     * @param minSpreadFraction     the minimum spread, as a fraction of the buy price, to report, e.g. 0.001 for 0.1%.
+     * @param maxBookAgeMillis      order books older than this are ignored.
+     * @param parallelism           the number of instruments to scan at the same time.
+     */
+    public ArbitrageScanner(ConsolidatedOrderBook consolidatedOrderBook, BigDecimal minSpreadFraction,
+                            long maxBookAgeMillis, int parallelism) {
+        this(consolidatedOrderBook, minSpreadFraction, maxBookAgeMillis, parallelism, System::currentTimeMillis);
+    }
+
+    ArbitrageScanner(ConsolidatedOrderBook consolidatedOrderBook, BigDecimal minSpreadFraction,
+                     long maxBookAgeMillis, int parallelism, LongSupplier clock) {
+        this.consolidatedOrderBook = consolidatedOrderBook;
+        this.minSpreadFraction = minSpreadFraction;
+        this.maxBookAgeMillis = maxBookAgeMillis;
+        this.clock = clock;
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                new ThreadFactoryBuilder().setNameFormat("bxbot-arbitrage-scanner-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Scans the instruments that have changed since the last scan.
+     *
+     * @return every opportunity currently open, across all instruments.
+     */
+    public List<ArbitrageOpportunity> scan() {
+
+        final long now = clock.getAsLong();
+        final List<Callable<Void>> scans = new ArrayList<>();
+        for (final InstrumentBook instrumentBook : consolidatedOrderBook.getInstrumentBooks()) {
+            final String instrument = instrumentBook.getInstrument();
+            final long version = instrumentBook.getVersion();
+            final Long scannedVersion = scannedVersions.get(instrument);
+            if (scannedVersion == null || scannedVersion != version || opportunities.containsKey(instrument)) {
+                scans.add(() -> {
+                    scanInstrument(instrumentBook, now);
+                    scannedVersions.put(instrument, version);
+                    return null;
+                });
+            }
+        }
+
+        try {
+            executor.invokeAll(scans);
+        } catch (InterruptedException e) {
+            LOG.warn("Interrupted scanning for arbitrage opportunities");
+            Thread.currentThread().interrupt();
+        }
+        return new ArrayList<>(opportunities.values());
+    }
+
+    /**
+     * Stops the scanner pool.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /*
+     * Finds the highest bid and lowest ask on different exchanges. Keeping the best 2 of each side means the best pair
+     * can still be found when 1 exchange has both the highest bid and the lowest ask.
+     */
+    private void scanInstrument(InstrumentBook instrumentBook, long now) {
+
+        VenueBook bestBidVenue = null;
+        VenueBook secondBestBidVenue = null;
+        VenueBook bestAskVenue = null;
+        VenueBook secondBestAskVenue = null;
+
+        for (final VenueBook venueBook : instrumentBook.getVenueBooks()) {
+
+            if (now - venueBook.getTimestamp() > maxBookAgeMillis) {
+                continue;
+            }
+
+            if (venueBook.getBestBid() != null) {
+                if (bestBidVenue == null || bidPrice(venueBook).compareTo(bidPrice(bestBidVenue)) > 0) {
+                    secondBestBidVenue = bestBidVenue;
+                    bestBidVenue = venueBook;
+                } else if (secondBestBidVenue == null
+                        || bidPrice(venueBook).compareTo(bidPrice(secondBestBidVenue)) > 0) {
+                    secondBestBidVenue = venueBook;
+                }
+            }
+
+            if (venueBook.getBestAsk() != null) {
+                if (bestAskVenue == null || askPrice(venueBook).compareTo(askPrice(bestAskVenue)) < 0) {
+                    secondBestAskVenue = bestAskVenue;
+                    bestAskVenue = venueBook;
+                } else if (secondBestAskVenue == null
+                        || askPrice(venueBook).compareTo(askPrice(secondBestAskVenue)) < 0) {
+                    secondBestAskVenue = venueBook;
+                }
+            }
+        }
+
+        ArbitrageOpportunity opportunity = null;
+        if (bestBidVenue != null && bestAskVenue != null) {
+            if (bestBidVenue != bestAskVenue) {
+                opportunity = toOpportunity(instrumentBook.getInstrument(), bestAskVenue, bestBidVenue);
+            } else {
+                final ArbitrageOpportunity withSecondBestAsk = secondBestAskVenue == null ? null
+                        : toOpportunity(instrumentBook.getInstrument(), secondBestAskVenue, bestBidVenue);
+                final ArbitrageOpportunity withSecondBestBid = secondBestBidVenue == null ? null
+                        : toOpportunity(instrumentBook.getInstrument(), bestAskVenue, secondBestBidVenue);
+                opportunity = best(withSecondBestAsk, withSecondBestBid);
+            }
+        }
+
+        if (opportunity != null) {
+            opportunities.put(instrumentBook.getInstrument(), opportunity);
+        } else {
+            opportunities.remove(instrumentBook.getInstrument());
+        }
+    }
+
+    private ArbitrageOpportunity toOpportunity(String instrument, VenueBook buyVenue, VenueBook sellVenue) {
+        final BigDecimal minSpread = askPrice(buyVenue).multiply(minSpreadFraction);
+        if (bidPrice(sellVenue).subtract(askPrice(buyVenue)).compareTo(minSpread) > 0) {
+            return new ArbitrageOpportunity(instrument, buyVenue, sellVenue);
+        }
+        return null;
+    }
+
+    private static ArbitrageOpportunity best(ArbitrageOpportunity a, ArbitrageOpportunity b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.getSpread().compareTo(b.getSpread()) >= 0 ? a : b;
+    }
+
+    private static BigDecimal bidPrice(VenueBook venueBook) {
+        return venueBook.getBestBid().getPrice();
+    }
+
+    private static BigDecimal askPrice(VenueBook venueBook) {
+        return venueBook.getBestAsk().getPrice();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.Market;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Merges the order books for the same instrument on different exchanges into 1 consolidated view.
+ * <p>
+ * Markets are matched on their base and counter currencies, e.g. the Bitstamp 'btcusd' and GDAX 'BTC-USD' markets are
+ * both the BTC/USD instrument. Prices are adjusted for each exchange's fees, so levels from different exchanges can be
+ * compared directly: bids are what a seller receives after the sell fee, asks are what a buyer pays including the buy
+ * fee.
+ * <p>
+ * Only registered markets are consolidated. Updates are merged incrementally - see {@link InstrumentBook}. This class
+ * is thread safe.
+ *
+ * @author gazbert
+ */
+public class ConsolidatedOrderBook {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    /*
+     * Instrument name for each registered market, keyed by exchange id + market id.
+     */
+    private final Map<VenueMarketKey, String> instrumentsByMarket = new ConcurrentHashMap<>();
+
+    private final Map<String, InstrumentBook> instrumentBooks = new ConcurrentHashMap<>();
+
+
+    /**
+     * Registers a market on an exchange so its order book updates are consolidated.
+     *
+     * @param exchangeId the id of the exchange.
+     * @param market     the market.
+     */
+    public void registerMarket(String exchangeId, Market market) {
+        final String instrument = toInstrument(market);
+        instrumentsByMarket.put(new VenueMarketKey(exchangeId, market.getId()), instrument);
+        instrumentBooks.computeIfAbsent(instrument, InstrumentBook::new);
+        LOG.info(() -> "Consolidating " + market.getId() + " market on exchange " + exchangeId
+                + " into instrument " + instrument);
+    }
+
+    /**
+     * Returns true if the market has been registered for consolidation.
+     *
+     * @param exchangeId the id of the exchange.
+     * @param marketId   the id of the market.
+     * @return true if the market is registered, false otherwise.
+     */
+    public boolean isRegistered(String exchangeId, String marketId) {
+        return instrumentsByMarket.containsKey(new VenueMarketKey(exchangeId, marketId));
+    }
+
+    /**
+     * Replaces an exchange's order book for a registered market. Updates for unregistered markets are ignored.
+     *
+     * @param exchangeId the id of the exchange.
+     * @param marketId   the id of the market.
+     * @param orderBook  the latest order book from the exchange.
+     * @param buyFee     the exchange's buy fee, e.g. 0.0025 for 0.25%.
+     * @param sellFee    the exchange's sell fee, e.g. 0.0025 for 0.25%.
+     */
+    public void update(String exchangeId, String marketId, MarketOrderBook orderBook, BigDecimal buyFee,
+                       BigDecimal sellFee) {
+        final String instrument = instrumentsByMarket.get(new VenueMarketKey(exchangeId, marketId));
+        if (instrument != null) {
+            instrumentBooks.get(instrument).update(
+                    VenueBook.fromOrderBook(exchangeId, marketId, orderBook, buyFee, sellFee));
+        }
+    }
+
+    /**
+     * Returns the instruments being consolidated, e.g. BTC/USD.
+     *
+     * @return the instrument names.
+     */
+    public Set<String> getInstruments() {
+        return Collections.unmodifiableSet(instrumentBooks.keySet());
+    }
+
+    /**
+     * Returns the best consolidated bids for an instrument, best (highest) first.
+     *
+     * @param instrument the instrument, e.g. BTC/USD.
+     * @param depth      the maximum number of price levels to return.
+     * @return the bids; empty if the instrument is unknown or no exchange has bids.
+     */
+    public List<ConsolidatedLevel> getBids(String instrument, int depth) {
+        final InstrumentBook instrumentBook = instrumentBooks.get(instrument);
+        return instrumentBook == null ? Collections.emptyList() : instrumentBook.getBids(depth);
+    }
+
+    /**
+     * Returns the best consolidated asks for an instrument, best (lowest) first.
+     *
+     * @param instrument the instrument, e.g. BTC/USD.
+     * @param depth      the maximum number of price levels to return.
+     * @return the asks; empty if the instrument is unknown or no exchange has asks.
+     */
+    public List<ConsolidatedLevel> getAsks(String instrument, int depth) {
+        final InstrumentBook instrumentBook = instrumentBooks.get(instrument);
+        return instrumentBook == null ? Collections.emptyList() : instrumentBook.getAsks(depth);
+    }
+
+    Collection<InstrumentBook> getInstrumentBooks() {
+        return instrumentBooks.values();
+    }
+
+    static String toInstrument(Market market) {
+        return market.getBaseCurrency().toUpperCase() + "/" + market.getCounterCurrency().toUpperCase();
+    }
+
+    /*
+     * Identifies a market on an exchange.
+     */
+    private static final class VenueMarketKey {
+
+        private final String exchangeId;
+        private final String marketId;
+
+        VenueMarketKey(String exchangeId, String marketId) {
+            this.exchangeId = exchangeId;
+            this.marketId = marketId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final VenueMarketKey that = (VenueMarketKey) o;
+            return Objects.equals(exchangeId, that.exchangeId) && Objects.equals(marketId, that.marketId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(exchangeId, marketId);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The consolidated order book for 1 instrument, e.g. BTC/USD, across every exchange that trades it.
+ * <p>
+ * The book is merged incrementally: when an exchange's order book is updated, only that exchange's previous levels
+ * are taken out of the consolidated view and its new levels put in - the other exchanges' levels are not touched.
+ * <p>
+ * Updates come from the exchange lane threads; reads come from the arbitrage scanner and other threads. The
+ * consolidated levels are guarded by this object's monitor. The per-exchange snapshots are immutable, so they can be
+ * read without locking.
+ *
+ * @author gazbert
+ */
+final class InstrumentBook {
+
+    private final String instrument;
+
+    /*
+     * Latest fee-adjusted order book from each exchange, keyed by exchange id.
+     */
+    private final Map<String, VenueBook> venueBooks = new ConcurrentHashMap<>();
+
+    /*
+     * Total quantity at each fee-adjusted price across all exchanges. Guarded by this.
+     */
+    private final NavigableMap<BigDecimal, BigDecimal> bids = new TreeMap<>(Collections.reverseOrder());
+    private final NavigableMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+
+    /*
+     * Incremented on every update - lets the scanner skip instruments that have not changed since it last looked.
+     */
+    private volatile long version;
+
+
+    InstrumentBook(String instrument) {
+        this.instrument = instrument;
+    }
+
+    String getInstrument() {
+        return instrument;
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    Collection<VenueBook> getVenueBooks() {
+        return venueBooks.values();
+    }
+
+    synchronized void update(VenueBook venueBook) {
+
+        final VenueBook previousVenueBook = venueBooks.put(venueBook.getExchangeId(), venueBook);
+        if (previousVenueBook != null) {
+            merge(bids, previousVenueBook.getBids(), false);
+            merge(asks, previousVenueBook.getAsks(), false);
+        }
+        merge(bids, venueBook.getBids(), true);
+        merge(asks, venueBook.getAsks(), true);
+        version++;
+    }
+
+    synchronized List<ConsolidatedLevel> getBids(int depth) {
+        return topLevels(bids, depth);
+    }
+
+    synchronized List<ConsolidatedLevel> getAsks(int depth) {
+        return topLevels(asks, depth);
+    }
+
+    private static void merge(NavigableMap<BigDecimal, BigDecimal> side, List<ConsolidatedLevel> levels, boolean add) {
+        for (final ConsolidatedLevel level : levels) {
+            final BigDecimal quantity = add ? level.getQuantity() : level.getQuantity().negate();
+            final BigDecimal total = side.merge(level.getPrice(), quantity, BigDecimal::add);
+            if (total.signum() <= 0) {
+                side.remove(level.getPrice());
+            }
+        }
+    }
+
+    private static List<ConsolidatedLevel> topLevels(NavigableMap<BigDecimal, BigDecimal> side, int depth) {
+        final List<ConsolidatedLevel> levels = new ArrayList<>(Math.min(depth, side.size()));
+        for (final Map.Entry<BigDecimal, BigDecimal> level : side.entrySet()) {
+            if (levels.size() == depth) {
+                break;
+            }
+            levels.add(new ConsolidatedLevel(level.getKey(), level.getValue()));
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fetches the tickers and order books for an exchange's next trade cycle while it is waiting for the trade cycle to
+ * start, so the Trading Strategies do not have to wait for them when it does.
+ * <p>
+ * Once a trade cycle has finished, the prefetch for the next one is scheduled to start a lead time before the next
+ * trade cycle is due. It refreshes the exchange's {@link MarketDataSnapshot} in the background. When the next trade
+ * cycle starts, the prefetched snapshot is used if it is fresh. It is discarded and fetched again if it is older than
+ * twice the lead time, e.g. because the trade cycle started late. If the trade cycle starts before the prefetch has
+ * begun, e.g. because an immediate trade cycle was requested, the prefetch is cancelled and the snapshot is fetched
+ * as before.
+ * <p>
+ * Each exchange gets its own instance, used by the exchange's engine thread only.
+ *
+ * @author gazbert
+ */
+public class MarketDataPrefetcher {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final MarketDataSnapshot marketDataSnapshot;
+    private final long leadTimeMillis;
+    private final ScheduledThreadPoolExecutor prefetchScheduler;
+
+    /*
+     * The prefetch for the next trade cycle, or null if there is none.
+     */
+    private ScheduledFuture<?> prefetch;
+
+    /*
+     * When the last prefetch finished fetching. Set by the prefetch thread.
+     */
+    private volatile long prefetchedTime;
+
+
+    public MarketDataPrefetcher(String exchangeId, MarketDataSnapshot marketDataSnapshot, long leadTimeMillis) {
+        this.marketDataSnapshot = marketDataSnapshot;
+        this.leadTimeMillis = leadTimeMillis;
+        prefetchScheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("bxbot-prefetch-" + exchangeId + "-%d").setDaemon(true).build());
+        prefetchScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Schedules the prefetch for the next trade cycle.
+     *
+     * @param exchangeAdapter   the exchange's adapter.
+     * @param marketIds         the ids of the markets the next trade cycle trades on.
+     * @param tradeCycleDueTime when the next trade cycle is due to start, in millis since the epoch.
+     */
+    public void prefetch(TradingApi exchangeAdapter, Collection<String> marketIds, long tradeCycleDueTime) {
+
+        cancelPrefetch();
+        final List<String> marketIdsToFetch = new ArrayList<>(marketIds);
+        final long delay = Math.max(0, tradeCycleDueTime - leadTimeMillis - System.currentTimeMillis());
+        prefetch = prefetchScheduler.schedule(() -> {
+            marketDataSnapshot.refresh(exchangeAdapter, marketIdsToFetch);
+            prefetchedTime = System.currentTimeMillis();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Makes sure the snapshot is fresh at the start of a trade cycle: waits for the prefetch if it is still fetching,
+     * and fetches the snapshot again if there was no prefetch or it is stale.
+     *
+     * @param exchangeAdapter the exchange's adapter.
+     * @param marketIds       the ids of the markets the trade cycle trades on.
+     */
+    public void refresh(TradingApi exchangeAdapter, Collection<String> marketIds) {
+
+        final ScheduledFuture<?> lastPrefetch = prefetch;
+        prefetch = null;
+
+        // Not cancelled if it has already started
+        if (lastPrefetch != null && !lastPrefetch.cancel(false)) {
+            try {
+                lastPrefetch.get();
+                final long prefetchAge = System.currentTimeMillis() - prefetchedTime;
+                if (prefetchAge <= 2 * leadTimeMillis) {
+                    return;
+                }
+                LOG.debug("Discarding prefetched market data - it is {}ms old", prefetchAge);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | CancellationException e) {
+                LOG.warn("Market data prefetch failed - fetching it now. Details: " + e.getMessage());
+            }
+        }
+        marketDataSnapshot.refresh(exchangeAdapter, marketIds);
+    }
+
+    /**
+     * Cancels any prefetch and stops the prefetch thread.
+     */
+    public void shutdown() {
+        cancelPrefetch();
+        prefetchScheduler.shutdownNow();
+    }
+
+    private void cancelPrefetch() {
+        if (prefetch != null) {
+            prefetch.cancel(false);
+            prefetch = null;
+        }
+    }
+}
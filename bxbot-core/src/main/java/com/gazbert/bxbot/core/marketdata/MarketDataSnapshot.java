@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.Ticker;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the tickers and order books fetched for an exchange's markets at the start of a trade cycle, so the Trading
+ * Strategies do not need a call to the exchange each.
+ * <p>
+ * The Trading Engine refreshes the snapshot at the start of each trade cycle, fetching the tickers and order books
+ * for all the exchange's markets in as few calls as the exchange allows. Only the markets a Trading Strategy has
+ * asked for a ticker or order book are fetched, so nothing is fetched until a Trading Strategy has used it.
+ * <p>
+ * Each ticker and order book in the snapshot is only handed out once: if a Trading Strategy asks for the same one
+ * again in the same trade cycle, it gets the latest from the exchange instead.
+ * <p>
+ * Each exchange gets its own instance. This class is thread safe.
+ *
+ * @author gazbert
+ */
+public class MarketDataSnapshot {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    /*
+     * Ids of the markets the Trading Strategies have asked for a ticker or order book.
+     */
+    private final Set<String> tickerMarketIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> orderBookMarketIds = ConcurrentHashMap.newKeySet();
+
+    /*
+     * The tickers and order books fetched this trade cycle that have not been handed out yet, keyed by market id.
+     */
+    private final Map<String, Ticker> tickers = new ConcurrentHashMap<>();
+    private final Map<String, MarketOrderBook> orderBooks = new ConcurrentHashMap<>();
+
+
+    /**
+     * Takes the market's ticker out of the snapshot.
+     *
+     * @param marketId the id of the market.
+     * @return the ticker, or null if it is not in the snapshot and the exchange needs asking.
+     */
+    public Ticker takeTicker(String marketId) {
+        tickerMarketIds.add(marketId);
+        return tickers.remove(marketId);
+    }
+
+    /**
+     * Takes the market's order book out of the snapshot.
+     *
+     * @param marketId the id of the market.
+     * @return the order book, or null if it is not in the snapshot and the exchange needs asking.
+     */
+    public MarketOrderBook takeOrderBook(String marketId) {
+        orderBookMarketIds.add(marketId);
+        return orderBooks.remove(marketId);
+    }
+
+    /**
+     * Replaces the snapshot with the latest tickers and order books from the exchange for the given markets. If the
+     * exchange cannot be reached, the snapshot is left empty, so Trading Strategies fall back to asking the exchange
+     * themselves.
+     *
+     * @param exchangeAdapter the exchange's adapter.
+     * @param marketIds       the ids of the markets to refresh.
+     */
+    public void refresh(TradingApi exchangeAdapter, Collection<String> marketIds) {
+
+        tickers.clear();
+        orderBooks.clear();
+
+        final List<String> tickersToFetch = wanted(tickerMarketIds, marketIds);
+        final List<String> orderBooksToFetch = wanted(orderBookMarketIds, marketIds);
+        try {
+            if (!tickersToFetch.isEmpty()) {
+                exchangeAdapter.getTickers(tickersToFetch).forEach((marketId, ticker) -> {
+                    if (ticker != null) {
+                        tickers.put(marketId, ticker);
+                    }
+                });
+            }
+            if (!orderBooksToFetch.isEmpty()) {
+                exchangeAdapter.getMarketOrders(orderBooksToFetch).forEach((marketId, orderBook) -> {
+                    if (orderBook != null) {
+                        orderBooks.put(marketId, orderBook);
+                    }
+                });
+            }
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            LOG.warn("Failed to refresh market data for markets " + marketIds + " - Trading Strategies will fetch"
+                    + " it from the exchange instead. Details: " + e.getMessage());
+            tickers.clear();
+            orderBooks.clear();
+        }
+    }
+
+    private static List<String> wanted(Set<String> wantedMarketIds, Collection<String> marketIds) {
+        final List<String> wanted = new ArrayList<>();
+        for (final String marketId : marketIds) {
+            if (wantedMarketIds.contains(marketId)) {
+                wanted.add(marketId);
+            }
+        }
+        return wanted;
+    }
+}
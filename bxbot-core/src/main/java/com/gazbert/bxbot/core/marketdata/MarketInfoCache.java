@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.MarketInfo;
+import com.gazbert.bxbot.trading.api.OrderRejectedException;
+import com.gazbert.bxbot.trading.api.OrderRequest;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the trading rules for an exchange's markets - the price tick size, quantity step size, and the minimum
+ * quantity and value of an order - so orders can be checked before they are sent to the exchange.
+ * <p>
+ * The Trading Engine loads the rules when it starts trading on the exchange, and refreshes them once they are an hour
+ * old. The rules rarely change, so if the exchange cannot be reached, the rules already loaded are kept and the
+ * refresh is tried again at the next trade cycle.
+ * <p>
+ * Each exchange gets its own instance. This class is thread safe.
+ *
+ * @author gazbert
+ */
+public class MarketInfoCache {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private static final long DEFAULT_REFRESH_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final long refreshIntervalNanos;
+
+    /*
+     * The trading rules for each market, keyed by market id. Replaced as a whole on each refresh.
+     */
+    private volatile Map<String, MarketInfo> marketInfoByMarket = Collections.emptyMap();
+
+    /*
+     * The System.nanoTime() of the last successful refresh, or null if the rules have not been loaded yet.
+     */
+    private volatile Long lastRefreshTime;
+
+
+    public MarketInfoCache() {
+        this(DEFAULT_REFRESH_INTERVAL_MILLIS);
+    }
+
+    public MarketInfoCache(long refreshIntervalMillis) {
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+    }
+
+    /**
+     * Returns the cached trading rules for all the exchange's markets.
+     *
+     * @return the trading rules for each market, keyed by market id.
+     */
+    public Map<String, MarketInfo> getAll() {
+        return new LinkedHashMap<>(marketInfoByMarket);
+    }
+
+    /**
+     * Returns the cached trading rules for a market.
+     *
+     * @param marketId the id of the market.
+     * @return the market's trading rules, or null if they are not known.
+     */
+    public MarketInfo get(String marketId) {
+        return marketInfoByMarket.get(marketId);
+    }
+
+    /**
+     * Fetches the trading rules from the exchange if they have not been loaded yet, or are older than the refresh
+     * interval. If the exchange cannot be reached, the rules already loaded are kept.
+     *
+     * @param exchangeAdapter the exchange's adapter.
+     */
+    public void refreshIfStale(TradingApi exchangeAdapter) {
+
+        final Long lastRefresh = lastRefreshTime;
+        if (lastRefresh != null && System.nanoTime() - lastRefresh < refreshIntervalNanos) {
+            return;
+        }
+
+        try {
+            marketInfoByMarket = Collections.unmodifiableMap(new LinkedHashMap<>(exchangeAdapter.getMarketInfo()));
+            lastRefreshTime = System.nanoTime();
+            LOG.info(() -> "Loaded trading rules for " + marketInfoByMarket.size() + " markets");
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            LOG.warn("Failed to refresh the market trading rules - keeping the ones already loaded until the next"
+                    + " trade cycle. Details: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Rounds an order's price to the market's tick size, and its quantity down to the market's step size, then checks
+     * it is not too small to place. Buy prices are rounded down and sell prices up, so the order is never placed at a
+     * worse price than asked for.
+     *
+     * @param orderRequest the order to check.
+     * @return the order with its price and quantity rounded, or the order as it is if the market's rules are not known.
+     * @throws OrderRejectedException if the order is for less than the market's minimum quantity or value.
+     */
+    public OrderRequest prepareOrder(OrderRequest orderRequest) throws OrderRejectedException {
+
+        final MarketInfo marketInfo = get(orderRequest.getMarketId());
+        if (marketInfo == null) {
+            return orderRequest;
+        }
+
+        final BigDecimal price = marketInfo.roundPrice(orderRequest.getPrice(),
+                orderRequest.getType() == OrderType.BUY ? RoundingMode.DOWN : RoundingMode.UP);
+        final BigDecimal quantity = marketInfo.roundQuantity(orderRequest.getQuantity());
+
+        if (quantity.signum() <= 0) {
+            throw new OrderRejectedException("Order quantity rounds down to 0 at the step size of "
+                    + marketInfo.getQuantityStepSize() + " for market " + orderRequest.getMarketId()
+                    + ". Order: " + orderRequest);
+        }
+
+        if (marketInfo.getMinQuantity() != null && quantity.compareTo(marketInfo.getMinQuantity()) < 0) {
+            throw new OrderRejectedException("Order quantity " + quantity.toPlainString() + " is below the minimum of "
+                    + marketInfo.getMinQuantity() + " for market " + orderRequest.getMarketId()
+                    + ". Order: " + orderRequest);
+        }
+
+        if (marketInfo.getMinNotional() != null && price != null
+                && quantity.multiply(price).compareTo(marketInfo.getMinNotional()) < 0) {
+            throw new OrderRejectedException("Order value " + quantity.multiply(price).toPlainString()
+                    + " is below the minimum of " + marketInfo.getMinNotional() + " for market "
+                    + orderRequest.getMarketId() + ". Order: " + orderRequest);
+        }
+
+        return new OrderRequest(orderRequest.getMarketId(), orderRequest.getType(), quantity, price);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.google.common.base.MoreObjects;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable snapshot of 1 exchange's order book for an instrument, with the prices adjusted for the exchange's
+ * fees.
+ *
+ * @author gazbert
+ */
+final class VenueBook {
+
+    private static final Comparator<ConsolidatedLevel> BY_PRICE = Comparator.comparing(ConsolidatedLevel::getPrice);
+
+    private final String exchangeId;
+    private final String marketId;
+    private final List<ConsolidatedLevel> bids;
+    private final List<ConsolidatedLevel> asks;
+    private final ConsolidatedLevel bestBid;
+    private final ConsolidatedLevel bestAsk;
+    private final long timestamp;
+
+
+    private VenueBook(String exchangeId, String marketId, List<ConsolidatedLevel> bids, List<ConsolidatedLevel> asks) {
+        this.exchangeId = exchangeId;
+        this.marketId = marketId;
+        this.bids = bids;
+        this.asks = asks;
+        // don't rely on the adapter returning the book sorted best first
+        this.bestBid = bids.stream().max(BY_PRICE).orElse(null);
+        this.bestAsk = asks.stream().min(BY_PRICE).orElse(null);
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /*
+     * Bids are what a seller receives after the sell fee: price * (1 - sellFee).
+     * Asks are what a buyer pays including the buy fee: price * (1 + buyFee).
+     */
+    static VenueBook fromOrderBook(String exchangeId, String marketId, MarketOrderBook orderBook,
+                                   BigDecimal buyFee, BigDecimal sellFee) {
+        return new VenueBook(exchangeId, marketId,
+                adjust(orderBook.getBuyOrders(), BigDecimal.ONE.subtract(sellFee)),
+                adjust(orderBook.getSellOrders(), BigDecimal.ONE.add(buyFee)));
+    }
+
+    String getExchangeId() {
+        return exchangeId;
+    }
+
+    String getMarketId() {
+        return marketId;
+    }
+
+    List<ConsolidatedLevel> getBids() {
+        return bids;
+    }
+
+    List<ConsolidatedLevel> getAsks() {
+        return asks;
+    }
+
+    ConsolidatedLevel getBestBid() {
+        return bestBid;
+    }
+
+    ConsolidatedLevel getBestAsk() {
+        return bestAsk;
+    }
+
+    /*
+     * When the order book was received, in millis since the epoch.
+     */
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    private static List<ConsolidatedLevel> adjust(List<MarketOrder> orders, BigDecimal feeMultiplier) {
+        if (orders == null || orders.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<ConsolidatedLevel> levels = new ArrayList<>(orders.size());
+        for (final MarketOrder order : orders) {
+            levels.add(new ConsolidatedLevel(order.getPrice().multiply(feeMultiplier), order.getQuantity()));
+        }
+        return Collections.unmodifiableList(levels);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("exchangeId", exchangeId)
+                .add("marketId", marketId)
+                .add("bestBid", bestBid)
+                .add("bestAsk", bestAsk)
+                .toString();
+    }
+}
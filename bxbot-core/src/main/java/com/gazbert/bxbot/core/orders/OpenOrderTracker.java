@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.orders;
+
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an index of your open orders on an exchange, so Trading Strategies can check if an order is still open without
+ * fetching and scanning all of them.
+ * <p>
+ * The index is keyed by market id, and holds the ids of each market's open orders. It is updated every time the open
+ * orders for a market are fetched, and orders placed and cancelled through the Trading API are added and removed as
+ * they happen. Once a Trading Strategy has used it, the Trading Engine also refreshes it at the start of each trade
+ * cycle, fetching the open orders for all the exchange's markets in 1 call if the exchange allows.
+ * <p>
+ * An order placed through the Trading API that disappears from the open orders, and was not cancelled through the
+ * Trading API, has been filled: an {@link EngineEventType#ORDER_FILLED} event is published for it.
+ * <p>
+ * Each exchange gets its own instance. This class is thread safe.
+ *
+ * @author gazbert
+ */
+public class OpenOrderTracker {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final EngineEventBus eventBus;
+
+    /*
+     * Ids of the open orders for each market, keyed by market id. A market is missing until its open orders have been
+     * fetched.
+     */
+    private final Map<String, Set<String>> openOrderIdsByMarket = new ConcurrentHashMap<>();
+
+    /*
+     * Orders placed through the Trading API that are still believed to be open, keyed by market id. Each order id is
+     * mapped to the System.nanoTime() it was placed at.
+     */
+    private final Map<String, Map<String, Long>> placedOrdersByMarket = new ConcurrentHashMap<>();
+
+    /*
+     * Set the first time a Trading Strategy asks about an order. Until then, refreshing the index each trade cycle
+     * would just waste calls to the exchange.
+     */
+    private volatile boolean inUse;
+
+
+    public OpenOrderTracker(EngineEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Records an order placed through the Trading API.
+     *
+     * @param marketId the id of the market.
+     * @param orderId  the id of the order.
+     */
+    public void orderPlaced(String marketId, String orderId) {
+        placedOrdersByMarket.computeIfAbsent(marketId, id -> new ConcurrentHashMap<>()).put(orderId, System.nanoTime());
+        final Set<String> openOrderIds = openOrderIdsByMarket.get(marketId);
+        if (openOrderIds != null) {
+            openOrderIds.add(orderId);
+        }
+    }
+
+    /**
+     * Records an order cancelled through the Trading API. It is not reported as filled.
+     *
+     * @param marketId the id of the market.
+     * @param orderId  the id of the order.
+     */
+    public void orderCancelled(String marketId, String orderId) {
+        final Map<String, Long> placedOrders = placedOrdersByMarket.get(marketId);
+        if (placedOrders != null) {
+            placedOrders.remove(orderId);
+        }
+        final Set<String> openOrderIds = openOrderIdsByMarket.get(marketId);
+        if (openOrderIds != null) {
+            openOrderIds.remove(orderId);
+        }
+    }
+
+    /**
+     * Records an order the exchange reported as filled when its status was fetched. If it was placed through the
+     * Trading API, an {@link EngineEventType#ORDER_FILLED} event is published for it, unless it has already been
+     * reported.
+     *
+     * @param marketId the id of the market.
+     * @param orderId  the id of the order.
+     */
+    public void orderFilled(String marketId, String orderId) {
+        final Set<String> openOrderIds = openOrderIdsByMarket.get(marketId);
+        if (openOrderIds != null) {
+            openOrderIds.remove(orderId);
+        }
+        final Map<String, Long> placedOrders = placedOrdersByMarket.get(marketId);
+        if (placedOrders != null && placedOrders.remove(orderId) != null) {
+            eventBus.publish(EngineEvent.builder(EngineEventType.ORDER_FILLED)
+                    .marketId(marketId)
+                    .detail("orderId", orderId)
+                    .build());
+        }
+    }
+
+    /**
+     * Replaces the index for a market with the open orders just fetched from the exchange, and reports any orders
+     * placed through the Trading API that have been filled.
+     * <p>
+     * Orders placed after the fetch started may not be in the open orders yet, so they are kept as open.
+     *
+     * @param marketId       the id of the market.
+     * @param openOrders     the market's open orders.
+     * @param fetchStartTime the System.nanoTime() the open orders started being fetched at.
+     */
+    public void update(String marketId, List<OpenOrder> openOrders, long fetchStartTime) {
+
+        final Set<String> openOrderIds = ConcurrentHashMap.newKeySet();
+        for (final OpenOrder openOrder : openOrders) {
+            openOrderIds.add(openOrder.getId());
+        }
+
+        final Map<String, Long> placedOrders = placedOrdersByMarket.get(marketId);
+        if (placedOrders != null) {
+            for (final Map.Entry<String, Long> placedOrder : placedOrders.entrySet()) {
+                final String orderId = placedOrder.getKey();
+                if (openOrderIds.contains(orderId)) {
+                    continue;
+                }
+                if (placedOrder.getValue() - fetchStartTime >= 0) {
+                    openOrderIds.add(orderId);
+                } else if (placedOrders.remove(orderId, placedOrder.getValue())) {
+                    eventBus.publish(EngineEvent.builder(EngineEventType.ORDER_FILLED)
+                            .marketId(marketId)
+                            .detail("orderId", orderId)
+                            .build());
+                }
+            }
+        }
+        openOrderIdsByMarket.put(marketId, openOrderIds);
+    }
+
+    /**
+     * Checks the index to see if an order is still open.
+     *
+     * @param marketId the id of the market.
+     * @param orderId  the id of the order.
+     * @return true if the order is open, false if it is not, or null if the market's open orders have not been
+     * fetched yet and the exchange needs asking.
+     */
+    public Boolean isOpen(String marketId, String orderId) {
+        inUse = true;
+        final Set<String> openOrderIds = openOrderIdsByMarket.get(marketId);
+        return openOrderIds == null ? null : openOrderIds.contains(orderId);
+    }
+
+    /**
+     * Returns true once a Trading Strategy has asked about an order.
+     *
+     * @return true if the index is in use, false otherwise.
+     */
+    public boolean isInUse() {
+        return inUse;
+    }
+
+    /**
+     * Refreshes the index for the given markets with the latest open orders from the exchange. If the exchange cannot
+     * be reached, the whole index is dropped, so Trading Strategies fall back to asking the exchange themselves.
+     *
+     * @param exchangeAdapter the exchange's adapter.
+     * @param marketIds       the ids of the markets to refresh.
+     */
+    public void refresh(TradingApi exchangeAdapter, Collection<String> marketIds) {
+
+        if (marketIds.isEmpty()) {
+            return;
+        }
+
+        final long fetchStartTime = System.nanoTime();
+        try {
+            final Map<String, List<OpenOrder>> openOrdersByMarket = exchangeAdapter.getYourOpenOrders(marketIds);
+            openOrdersByMarket.forEach((marketId, openOrders) -> update(marketId, openOrders, fetchStartTime));
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            LOG.warn("Failed to refresh open orders for markets " + marketIds + " - Trading Strategies will fetch"
+                    + " them from the exchange instead. Details: " + e.getMessage());
+            openOrderIdsByMarket.clear();
+        }
+    }
+}
@@ -37,6 +37,7 @@ import static org.junit.Assert.assertEquals;
  */
 public class TestExchangeConfigImpl {
 
+    private static final String EXCHANGE_ID = "bitstamp-main";
     private static final String EXCHANGE_NAME = "Bitstamp";
     private static final String EXCHANGE_ADAPTER = "com.gazbert.bxbot.exchanges.TestExchangeAdapter";
     private static final AuthenticationConfig AUTHENTICATION_CONFIG = new AuthenticationConfigImpl();
@@ -48,6 +49,7 @@ public class TestExchangeConfigImpl {
     public void testInitialisationWorksAsExpected() {
 
         final ExchangeConfigImpl exchangeConfig = new ExchangeConfigImpl();
+        assertEquals(null, exchangeConfig.getId());
         assertEquals(null, exchangeConfig.getExchangeName());
         assertEquals(null, exchangeConfig.getExchangeAdapter());
         assertEquals(null, exchangeConfig.getAuthenticationConfig());
@@ -60,6 +62,9 @@ public class TestExchangeConfigImpl {
 
         final ExchangeConfigImpl exchangeConfig = new ExchangeConfigImpl();
 
+        exchangeConfig.setId(EXCHANGE_ID);
+        assertEquals(EXCHANGE_ID, exchangeConfig.getId());
+
         exchangeConfig.setExchangeName(EXCHANGE_NAME);
         assertEquals(EXCHANGE_NAME, exchangeConfig.getExchangeName());
 
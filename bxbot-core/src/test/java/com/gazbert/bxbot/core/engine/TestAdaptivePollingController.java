@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
+import com.gazbert.bxbot.exchange.api.ExchangeRequestListener;
+import org.easymock.Capture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.newCapture;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the Adaptive Polling Controller backs off and recovers within its bounds as expected.
+ *
+ * @author gazbert
+ */
+public class TestAdaptivePollingController {
+
+    private static final String EXCHANGE_ID = "bitstamp";
+    private static final String MARKET_ID = "btcusd";
+    private static final long MIN_POLLING_PERIOD_MILLIS = 1000;
+    private static final long INITIAL_POLLING_PERIOD_MILLIS = 10000;
+    private static final long MAX_POLLING_PERIOD_MILLIS = 21000;
+
+    // (21000 - 1000) / 20
+    private static final long RECOVERY_STEP_MILLIS = 1000;
+
+    private static final long FAST_CALL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final List<Integer> NON_FATAL_ERROR_CODES = Arrays.asList(429, 503);
+
+    private ExchangeAdapter exchangeAdapter;
+    private Capture<ExchangeRequestListener> registeredListener;
+    private AdaptivePollingController pollingController;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        exchangeAdapter = createMock(ExchangeAdapter.class);
+        registeredListener = newCapture();
+        exchangeAdapter.setExchangeRequestListener(capture(registeredListener));
+        replay(exchangeAdapter);
+        pollingController = new AdaptivePollingController(EXCHANGE_ID, exchangeAdapter, NON_FATAL_ERROR_CODES,
+                new AtomicLong());
+        pollingController.configure(INITIAL_POLLING_PERIOD_MILLIS, MIN_POLLING_PERIOD_MILLIS, MAX_POLLING_PERIOD_MILLIS);
+    }
+
+    @Test
+    public void testHealthyExchangeIsPolledFasterUntilMinBoundIsReached() {
+
+        pollingController.requestSucceeded(FAST_CALL_NANOS);
+        assertEquals(INITIAL_POLLING_PERIOD_MILLIS - RECOVERY_STEP_MILLIS, pollingController.adjust());
+
+        for (int i = 0; i < 20; i++) {
+            pollingController.requestSucceeded(FAST_CALL_NANOS);
+            pollingController.adjust();
+        }
+        assertEquals(MIN_POLLING_PERIOD_MILLIS, pollingController.getPollingPeriodMillis());
+    }
+
+    @Test
+    public void testTradeCycleWithNoCallsLeavesPollingPeriodAlone() {
+        assertEquals(INITIAL_POLLING_PERIOD_MILLIS, pollingController.adjust());
+    }
+
+    @Test
+    public void testThrottledExchangeIsBackedOffUntilMaxBoundIsReached() {
+
+        pollingController.requestFailed(429);
+        pollingController.requestSucceeded(FAST_CALL_NANOS);
+        assertEquals(2 * INITIAL_POLLING_PERIOD_MILLIS, pollingController.adjust());
+
+        pollingController.requestFailed(503);
+        assertEquals(MAX_POLLING_PERIOD_MILLIS, pollingController.adjust());
+    }
+
+    @Test
+    public void testOtherNetworkErrorsBackOffLessThanThrottling() {
+
+        // no response, e.g. a socket timeout
+        pollingController.requestFailed(null);
+        assertEquals(INITIAL_POLLING_PERIOD_MILLIS * 3 / 2, pollingController.adjust());
+    }
+
+    @Test
+    public void testStatusCodesNotInNetworkConfigAreNotTreatedAsThrottling() {
+
+        pollingController.requestFailed(520);
+        assertEquals(INITIAL_POLLING_PERIOD_MILLIS * 3 / 2, pollingController.adjust());
+    }
+
+    @Test
+    public void testSlowingExchangeIsBackedOff() {
+
+        pollingController.requestSucceeded(FAST_CALL_NANOS);
+        pollingController.adjust();
+
+        // 2 slow calls in 10 push the 90th percentile up to 3 times the lowest
+        for (int i = 0; i < 8; i++) {
+            pollingController.requestSucceeded(FAST_CALL_NANOS);
+        }
+        pollingController.requestSucceeded(3 * FAST_CALL_NANOS);
+        pollingController.requestSucceeded(3 * FAST_CALL_NANOS);
+        assertEquals((INITIAL_POLLING_PERIOD_MILLIS - RECOVERY_STEP_MILLIS) * 5 / 4, pollingController.adjust());
+    }
+
+    @Test
+    public void testFixedPollingPeriodIsNeverAdjusted() {
+
+        pollingController.configure(INITIAL_POLLING_PERIOD_MILLIS, INITIAL_POLLING_PERIOD_MILLIS,
+                INITIAL_POLLING_PERIOD_MILLIS);
+        pollingController.requestFailed(429);
+        assertEquals(INITIAL_POLLING_PERIOD_MILLIS, pollingController.adjust());
+    }
+
+    @Test
+    public void testListensToTheExchangeAdaptersRequests() {
+        assertSame(pollingController, registeredListener.getValue());
+        verify(exchangeAdapter);
+    }
+}
@@ -0,0 +1,478 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.engine;
+
+import com.gazbert.bxbot.core.config.market.MarketImpl;
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
+import com.gazbert.bxbot.core.marketdata.ConsolidatedLevel;
+import com.gazbert.bxbot.core.marketdata.ConsolidatedOrderBook;
+import com.gazbert.bxbot.core.marketdata.MarketDataSnapshot;
+import com.gazbert.bxbot.core.marketdata.MarketInfoCache;
+import com.gazbert.bxbot.core.orders.OpenOrderTracker;
+import com.gazbert.bxbot.trading.api.MarketInfo;
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.OrderNotReplacedException;
+import com.gazbert.bxbot.trading.api.OrderRejectedException;
+import com.gazbert.bxbot.trading.api.OrderRequest;
+import com.gazbert.bxbot.trading.api.OrderResult;
+import com.gazbert.bxbot.trading.api.OrderState;
+import com.gazbert.bxbot.trading.api.OrderStatus;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.gazbert.bxbot.trading.api.Ticker;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.easymock.Capture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.newCapture;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the Trading API handed to the Trading Strategies publishes the expected events.
+ *
+ * @author gazbert
+ */
+public class TestEventPublishingTradingApi {
+
+    private static final String MARKET_ID = "btc_usd";
+    private static final String EXCHANGE_ID = "bitstamp";
+    private static final String ORDER_ID = "12345";
+    private static final BigDecimal PRICE = new BigDecimal("4000.12");
+    private static final BigDecimal QUANTITY = new BigDecimal("0.5");
+    private static final BigDecimal BEST_BID_PRICE = new BigDecimal("3999.10");
+    private static final BigDecimal BEST_ASK_PRICE = new BigDecimal("4001.20");
+
+    private TradingApi delegate;
+    private EngineEventBus engineEventBus;
+    private List<EngineEvent> eventsReceived;
+    private EventPublishingTradingApi tradingApi;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        delegate = createMock(TradingApi.class);
+        engineEventBus = new EngineEventBus();
+        eventsReceived = new CopyOnWriteArrayList<>();
+        engineEventBus.subscribe(eventsReceived::add);
+        tradingApi = new EventPublishingTradingApi(delegate, engineEventBus);
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        engineEventBus.shutdown();
+    }
+
+    @Test
+    public void testOrderPlacedAndFilledEventsArePublished() throws Exception {
+
+        final OpenOrder otherOpenOrder = createMock(OpenOrder.class);
+        expect(otherOpenOrder.getId()).andReturn("67890").anyTimes();
+
+        expect(delegate.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE)).andReturn(ORDER_ID);
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.singletonList(otherOpenOrder)).times(2);
+        replay(delegate, otherOpenOrder);
+
+        assertEquals(ORDER_ID, tradingApi.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE));
+
+        // order no longer open - it has been filled
+        tradingApi.getYourOpenOrders(MARKET_ID);
+        // fill is only reported once
+        tradingApi.getYourOpenOrders(MARKET_ID);
+
+        waitForEvents(2);
+        assertEquals(2, eventsReceived.size());
+
+        final EngineEvent orderPlaced = eventsReceived.get(0);
+        assertEquals(EngineEventType.ORDER_PLACED, orderPlaced.getType());
+        assertEquals(MARKET_ID, orderPlaced.getMarketId());
+        assertEquals(ORDER_ID, orderPlaced.getDetails().get("orderId"));
+        assertEquals(OrderType.BUY, orderPlaced.getDetails().get("type"));
+        assertEquals(QUANTITY, orderPlaced.getDetails().get("quantity"));
+        assertEquals(PRICE, orderPlaced.getDetails().get("price"));
+
+        final EngineEvent orderFilled = eventsReceived.get(1);
+        assertEquals(EngineEventType.ORDER_FILLED, orderFilled.getType());
+        assertEquals(ORDER_ID, orderFilled.getDetails().get("orderId"));
+
+        verify(delegate, otherOpenOrder);
+    }
+
+    @Test
+    public void testCancelledOrderIsNotReportedAsFilled() throws Exception {
+
+        expect(delegate.createOrder(MARKET_ID, OrderType.SELL, QUANTITY, PRICE)).andReturn(ORDER_ID);
+        expect(delegate.cancelOrder(ORDER_ID, MARKET_ID)).andReturn(true);
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.emptyList());
+        replay(delegate);
+
+        tradingApi.createOrder(MARKET_ID, OrderType.SELL, QUANTITY, PRICE);
+        assertTrue(tradingApi.cancelOrder(ORDER_ID, MARKET_ID));
+        tradingApi.getYourOpenOrders(MARKET_ID);
+
+        waitForEvents(2);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+
+        verify(delegate);
+    }
+
+    @Test
+    public void testOpenOrderChecksAreAnsweredFromTheIndexOnceFetched() throws Exception {
+
+        final OpenOrder openOrder = createMock(OpenOrder.class);
+        expect(openOrder.getId()).andReturn(ORDER_ID).anyTimes();
+
+        // only fetched for the first check
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.singletonList(openOrder));
+        expect(delegate.cancelOrder(ORDER_ID, MARKET_ID)).andReturn(true);
+        replay(delegate, openOrder);
+
+        assertTrue(tradingApi.isOrderOpen(ORDER_ID, MARKET_ID));
+        assertFalse(tradingApi.isOrderOpen("67890", MARKET_ID));
+
+        assertTrue(tradingApi.cancelOrder(ORDER_ID, MARKET_ID));
+        assertFalse(tradingApi.isOrderOpen(ORDER_ID, MARKET_ID));
+
+        verify(delegate, openOrder);
+    }
+
+    @Test
+    public void testOrderReportedAsFilledByItsStatusIsPublishedOnce() throws Exception {
+
+        final OrderStatus orderStatus = createMock(OrderStatus.class);
+        expect(orderStatus.getState()).andReturn(OrderState.FILLED).anyTimes();
+
+        expect(delegate.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE)).andReturn(ORDER_ID);
+        expect(delegate.getOrderStatus(ORDER_ID, MARKET_ID)).andReturn(orderStatus).times(2);
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.emptyList());
+        replay(delegate, orderStatus);
+
+        tradingApi.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE);
+        assertEquals(OrderState.FILLED, tradingApi.getOrderStatus(ORDER_ID, MARKET_ID).getState());
+        tradingApi.getOrderStatus(ORDER_ID, MARKET_ID);
+        assertFalse(tradingApi.isOrderOpen(ORDER_ID, MARKET_ID));
+
+        waitForEvents(3);
+        assertEquals(2, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+        assertEquals(EngineEventType.ORDER_FILLED, eventsReceived.get(1).getType());
+        assertEquals(ORDER_ID, eventsReceived.get(1).getDetails().get("orderId"));
+
+        verify(delegate, orderStatus);
+    }
+
+    @Test
+    public void testTopOfBookEventIsPublished() throws Exception {
+
+        final MarketOrder bestBid = createMock(MarketOrder.class);
+        expect(bestBid.getPrice()).andReturn(BEST_BID_PRICE);
+        expect(bestBid.getQuantity()).andReturn(QUANTITY);
+
+        final MarketOrder bestAsk = createMock(MarketOrder.class);
+        expect(bestAsk.getPrice()).andReturn(BEST_ASK_PRICE);
+        expect(bestAsk.getQuantity()).andReturn(QUANTITY);
+
+        final MarketOrderBook orderBook = createMock(MarketOrderBook.class);
+        expect(orderBook.getBuyOrders()).andReturn(Collections.singletonList(bestBid));
+        expect(orderBook.getSellOrders()).andReturn(Collections.singletonList(bestAsk));
+
+        expect(delegate.getMarketOrders(MARKET_ID)).andReturn(orderBook);
+        replay(delegate, orderBook, bestBid, bestAsk);
+
+        assertEquals(orderBook, tradingApi.getMarketOrders(MARKET_ID));
+
+        waitForEvents(1);
+        assertEquals(1, eventsReceived.size());
+
+        final EngineEvent topOfBook = eventsReceived.get(0);
+        assertEquals(EngineEventType.TOP_OF_BOOK, topOfBook.getType());
+        assertEquals(MARKET_ID, topOfBook.getMarketId());
+        assertEquals(BEST_BID_PRICE, topOfBook.getDetails().get("bidPrice"));
+        assertEquals(QUANTITY, topOfBook.getDetails().get("bidQuantity"));
+        assertEquals(BEST_ASK_PRICE, topOfBook.getDetails().get("askPrice"));
+        assertEquals(QUANTITY, topOfBook.getDetails().get("askQuantity"));
+
+        verify(delegate, orderBook, bestBid, bestAsk);
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testOrderBooksForRegisteredMarketsAreConsolidatedUsingCachedFees() throws Exception {
+
+        final MarketOrder bestBid = createMock(MarketOrder.class);
+        expect(bestBid.getPrice()).andReturn(BEST_BID_PRICE).anyTimes();
+        expect(bestBid.getQuantity()).andReturn(QUANTITY).anyTimes();
+
+        final MarketOrderBook orderBook = createMock(MarketOrderBook.class);
+        expect(orderBook.getBuyOrders()).andReturn(Collections.singletonList(bestBid)).anyTimes();
+        expect(orderBook.getSellOrders()).andReturn(Collections.emptyList()).anyTimes();
+
+        // fees only fetched once
+        expect(delegate.getMarketOrders(MARKET_ID)).andReturn(orderBook).times(2);
+        expect(delegate.getPercentageOfBuyOrderTakenForExchangeFee(MARKET_ID)).andReturn(new BigDecimal("0.0025"));
+        expect(delegate.getPercentageOfSellOrderTakenForExchangeFee(MARKET_ID)).andReturn(new BigDecimal("0.0025"));
+        replay(delegate, orderBook, bestBid);
+
+        final ConsolidatedOrderBook consolidatedOrderBook = new ConsolidatedOrderBook();
+        consolidatedOrderBook.registerMarket(EXCHANGE_ID, new MarketImpl("BTC/USD", MARKET_ID, "BTC", "USD"));
+        final EventPublishingTradingApi consolidatingTradingApi =
+                new EventPublishingTradingApi(delegate, engineEventBus, EXCHANGE_ID, consolidatedOrderBook,
+                        new OpenOrderTracker(engineEventBus), new MarketDataSnapshot(), new MarketInfoCache());
+
+        consolidatingTradingApi.getMarketOrders(MARKET_ID);
+        consolidatingTradingApi.getMarketOrders(MARKET_ID);
+
+        final List<ConsolidatedLevel> bids = consolidatedOrderBook.getBids("BTC/USD", 10);
+        assertEquals(1, bids.size());
+        assertEquals(0, BEST_BID_PRICE.multiply(new BigDecimal("0.9975")).compareTo(bids.get(0).getPrice()));
+        assertEquals(0, QUANTITY.compareTo(bids.get(0).getQuantity()));
+
+        verify(delegate, orderBook, bestBid);
+    }
+
+    @Test
+    public void testOnlyOrdersPlacedInABatchArePublishedAndTracked() throws Exception {
+
+        final List<OrderRequest> orderRequests = Arrays.asList(
+                new OrderRequest(MARKET_ID, OrderType.BUY, QUANTITY, PRICE),
+                new OrderRequest(MARKET_ID, OrderType.SELL, QUANTITY, PRICE));
+        expect(delegate.createOrders(orderRequests)).andReturn(Arrays.asList(
+                OrderResult.succeeded(ORDER_ID),
+                OrderResult.failed(null, new TradingApiException("Insufficient funds"))));
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.emptyList());
+        expect(delegate.cancelAllOrders(MARKET_ID)).andReturn(Collections.singletonList(OrderResult.succeeded(ORDER_ID)));
+        replay(delegate);
+
+        final List<OrderResult> orderResults = tradingApi.createOrders(orderRequests);
+        assertEquals(2, orderResults.size());
+
+        waitForEvents(1);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+        assertEquals(ORDER_ID, eventsReceived.get(0).getDetails().get("orderId"));
+        assertEquals(OrderType.BUY, eventsReceived.get(0).getDetails().get("type"));
+
+        // cancelled through the API, so not reported as filled when it leaves the open orders
+        tradingApi.cancelAllOrders(MARKET_ID);
+        assertFalse(tradingApi.isOrderOpen(ORDER_ID, MARKET_ID));
+
+        waitForEvents(2);
+        assertEquals(1, eventsReceived.size());
+        verify(delegate);
+    }
+
+    @Test
+    public void testAmendedOrderIsPublishedAsPlacedWithItsNewId() throws Exception {
+
+        final String newOrderId = "67890";
+        expect(delegate.amendOrder(ORDER_ID, MARKET_ID, OrderType.SELL, PRICE, QUANTITY)).andReturn(newOrderId);
+        expect(delegate.amendOrder(newOrderId, MARKET_ID, OrderType.SELL, PRICE, QUANTITY)).andReturn(null);
+        replay(delegate);
+
+        assertEquals(newOrderId, tradingApi.amendOrder(ORDER_ID, MARKET_ID, OrderType.SELL, PRICE, QUANTITY));
+
+        // already filled, so nothing was placed
+        assertNull(tradingApi.amendOrder(newOrderId, MARKET_ID, OrderType.SELL, PRICE, QUANTITY));
+
+        waitForEvents(2);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+        assertEquals(newOrderId, eventsReceived.get(0).getDetails().get("orderId"));
+        assertEquals(OrderType.SELL, eventsReceived.get(0).getDetails().get("type"));
+        verify(delegate);
+    }
+
+    @Test
+    public void testOrderCancelledButNotReplacedIsNotReportedAsFilled() throws Exception {
+
+        expect(delegate.createOrder(MARKET_ID, OrderType.SELL, QUANTITY, PRICE)).andReturn(ORDER_ID);
+        expect(delegate.amendOrder(ORDER_ID, MARKET_ID, OrderType.SELL, PRICE, QUANTITY)).andThrow(
+                new OrderNotReplacedException("Open the pod bay doors, HAL.", ORDER_ID, null));
+        expect(delegate.getYourOpenOrders(MARKET_ID)).andReturn(Collections.emptyList());
+        replay(delegate);
+
+        tradingApi.createOrder(MARKET_ID, OrderType.SELL, QUANTITY, PRICE);
+        try {
+            tradingApi.amendOrder(ORDER_ID, MARKET_ID, OrderType.SELL, PRICE, QUANTITY);
+            fail("Expected the order not to be replaced");
+        } catch (OrderNotReplacedException e) {
+            assertEquals(ORDER_ID, e.getCancelledOrderId());
+        }
+        // no longer open, but cancelled through the API
+        tradingApi.getYourOpenOrders(MARKET_ID);
+
+        waitForEvents(2);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+        verify(delegate);
+    }
+
+    @Test
+    public void testOrdersAreRoundedAndTooSmallOnesRejectedBeforeReachingTheExchange() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getMarketInfo()).andReturn(Collections.singletonMap(MARKET_ID, new MarketInfo() {
+            @Override
+            public String getMarketId() {
+                return MARKET_ID;
+            }
+
+            @Override
+            public BigDecimal getPriceTickSize() {
+                return new BigDecimal("0.05");
+            }
+
+            @Override
+            public BigDecimal getQuantityStepSize() {
+                return new BigDecimal("0.001");
+            }
+
+            @Override
+            public BigDecimal getMinQuantity() {
+                return new BigDecimal("0.01");
+            }
+
+            @Override
+            public BigDecimal getMinNotional() {
+                return null;
+            }
+        }));
+        replay(exchangeAdapter);
+
+        final MarketInfoCache marketInfoCache = new MarketInfoCache();
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+        final EventPublishingTradingApi checkingTradingApi = new EventPublishingTradingApi(delegate, engineEventBus,
+                EXCHANGE_ID, null, new OpenOrderTracker(engineEventBus), new MarketDataSnapshot(), marketInfoCache);
+
+        // 4000.12 buy price is rounded down to the 0.05 tick
+        expect(delegate.createOrder(MARKET_ID, OrderType.BUY, new BigDecimal("0.500"), new BigDecimal("4000.10")))
+                .andReturn(ORDER_ID);
+        final Capture<List<OrderRequest>> ordersSent = newCapture();
+        expect(delegate.createOrders(capture(ordersSent)))
+                .andReturn(Collections.singletonList(OrderResult.succeeded(ORDER_ID)));
+        replay(delegate);
+
+        assertEquals(ORDER_ID, checkingTradingApi.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE));
+        assertSame(marketInfoCache.get(MARKET_ID), checkingTradingApi.getMarketInfo(MARKET_ID));
+
+        try {
+            checkingTradingApi.createOrder(MARKET_ID, OrderType.BUY, new BigDecimal("0.005"), PRICE);
+            fail("Expected an OrderRejectedException for an order below the min quantity");
+        } catch (OrderRejectedException e) {
+            // not sent to the exchange
+        }
+
+        final List<OrderResult> orderResults = checkingTradingApi.createOrders(Arrays.asList(
+                new OrderRequest(MARKET_ID, OrderType.SELL, new BigDecimal("0.005"), PRICE),
+                new OrderRequest(MARKET_ID, OrderType.SELL, QUANTITY, PRICE)));
+        assertEquals(2, orderResults.size());
+        assertFalse(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getFailure() instanceof OrderRejectedException);
+        assertEquals(ORDER_ID, orderResults.get(1).getOrderId());
+
+        // only the 2nd order was sent, with its sell price rounded up to the 0.05 tick
+        assertEquals(1, ordersSent.getValue().size());
+        assertEquals(new BigDecimal("4000.15"), ordersSent.getValue().get(0).getPrice());
+
+        verify(delegate, exchangeAdapter);
+    }
+
+    @Test
+    public void testClientOrderIdIsPassedToTheExchangeAdapter() throws Exception {
+
+        final String clientOrderId = "c2b9a1f0-5d0e-4f6a-9b7e-3f1d2e4c5a6b";
+        expect(delegate.newClientOrderId()).andReturn(clientOrderId);
+        expect(delegate.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE, clientOrderId)).andReturn(ORDER_ID);
+        expect(delegate.getOrderIdByClientOrderId(clientOrderId, MARKET_ID)).andReturn(ORDER_ID);
+        replay(delegate);
+
+        assertEquals(clientOrderId, tradingApi.newClientOrderId());
+        assertEquals(ORDER_ID, tradingApi.createOrder(MARKET_ID, OrderType.BUY, QUANTITY, PRICE, clientOrderId));
+        assertEquals(ORDER_ID, tradingApi.getOrderIdByClientOrderId(clientOrderId, MARKET_ID));
+
+        waitForEvents(1);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_PLACED, eventsReceived.get(0).getType());
+        assertEquals(ORDER_ID, eventsReceived.get(0).getDetails().get("orderId"));
+        verify(delegate);
+    }
+
+    @Test
+    public void testTickersFromTheSnapshotAreOnlyHandedOutOnce() throws Exception {
+
+        final Ticker snapshotTicker = createMock(Ticker.class);
+        final Ticker latestTicker = createMock(Ticker.class);
+        final Map<String, Ticker> snapshotTickers = new LinkedHashMap<>();
+        snapshotTickers.put(MARKET_ID, snapshotTicker);
+
+        // 1st call is only to mark the ticker as wanted for the next snapshot
+        expect(delegate.getTicker(MARKET_ID)).andReturn(latestTicker).times(2);
+        expect(delegate.getTickers(Collections.singletonList(MARKET_ID))).andReturn(snapshotTickers);
+        replay(delegate, snapshotTicker, latestTicker);
+
+        final MarketDataSnapshot marketDataSnapshot = new MarketDataSnapshot();
+        final EventPublishingTradingApi snapshotTradingApi = new EventPublishingTradingApi(delegate, engineEventBus,
+                EXCHANGE_ID, null, new OpenOrderTracker(engineEventBus), marketDataSnapshot, new MarketInfoCache());
+
+        assertSame(latestTicker, snapshotTradingApi.getTicker(MARKET_ID));
+        marketDataSnapshot.refresh(delegate, Arrays.asList(MARKET_ID, "ltc_usd"));
+        assertSame(snapshotTicker, snapshotTradingApi.getTicker(MARKET_ID));
+        assertSame(latestTicker, snapshotTradingApi.getTicker(MARKET_ID));
+
+        verify(delegate, snapshotTicker, latestTicker);
+    }
+
+    private void waitForEvents(int expectedCount) throws Exception {
+        for (int i = 0; i < 20 && eventsReceived.size() < expectedCount; i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -23,8 +23,12 @@
 
 package com.gazbert.bxbot.core.engine;
 
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
 import com.gazbert.bxbot.core.mail.EmailAlerter;
 import com.gazbert.bxbot.core.util.ConfigurableComponentFactory;
+import com.gazbert.bxbot.domain.bot.MarketStatus;
 import com.gazbert.bxbot.domain.engine.EngineConfig;
 import com.gazbert.bxbot.domain.exchange.AuthenticationConfig;
 import com.gazbert.bxbot.domain.exchange.NetworkConfig;
@@ -33,6 +37,7 @@ import com.gazbert.bxbot.domain.market.MarketConfig;
 import com.gazbert.bxbot.domain.strategy.StrategyConfig;
 import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
 import com.gazbert.bxbot.exchange.api.ExchangeConfig;
+import com.gazbert.bxbot.exchange.api.ExchangeRequestListener;
 import com.gazbert.bxbot.services.EngineConfigService;
 import com.gazbert.bxbot.services.ExchangeConfigService;
 import com.gazbert.bxbot.services.MarketConfigService;
@@ -43,6 +48,9 @@ import com.gazbert.bxbot.trading.api.BalanceInfo;
 import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
 import com.gazbert.bxbot.trading.api.Market;
 import com.gazbert.bxbot.trading.api.TradingApiException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,12 +61,19 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.easymock.EasyMock.*;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 /**
  * Tests the behaviour of the Trading Engine is as expected.
@@ -87,6 +102,7 @@ public class TestTradingEngine {
 
     // for email alerts
     private static final String CRITICAL_EMAIL_ALERT_SUBJECT = "CRITICAL Alert message from BX-bot";
+    private static final String WARNING_EMAIL_ALERT_SUBJECT = "WARNING Alert message from BX-bot";
 
     // Exchange Adapter config
     private static final String EXCHANGE_ADAPTER_IMPL_CLASS = "com.my.adapters.DummyBitstampExchangeAdapter";
@@ -102,10 +118,17 @@ public class TestTradingEngine {
     private static final String EXCHANGE_ADAPTER_OTHER_CONFIG_ITEM_NAME = "sell-fee";
     private static final String EXCHANGE_ADAPTER_OTHER_CONFIG_ITEM_VALUE = "0.25";
 
+    // 2nd Exchange Adapter config - for the multi-exchange tests
+    private static final String EXCHANGE_ID = "bitstamp";
+    private static final String EXCHANGE_2_ID = "gdax";
+    private static final String EXCHANGE_2_ADAPTER_IMPL_CLASS = "com.my.adapters.DummyGdaxExchangeAdapter";
+    private static final String EXCHANGE_2_NAME = "GDAX";
+
     // Engine config
     private static final String ENGINE_EMERGENCY_STOP_CURRENCY = "BTC";
     private static final BigDecimal ENGINE_EMERGENCY_STOP_BALANCE = new BigDecimal("0.5");
     private static final int ENGINE_TRADE_CYCLE_INTERVAL = 1; // unrealistic, but 1 second speeds up tests ;-)
+    private static final int ENGINE_LONG_TRADE_CYCLE_INTERVAL = 60;
 
     // Strategies config
     private static final String STRATEGY_ID = "MyMacdStrategy_v3";
@@ -114,6 +137,7 @@ public class TestTradingEngine {
     private static final String STRATEGY_IMPL_CLASS = "com.my.strats.MyMacdStrategy";
     private static final String STRATEGY_CONFIG_ITEM_NAME = "btc-sell-order-amount";
     private static final String STRATEGY_CONFIG_ITEM_VALUE = "0.2";
+    private static final Integer STRATEGY_EXECUTION_TIMEOUT = 1;
 
     // Markets config
     private static final String MARKET_NAME = "BTC/USD";
@@ -121,11 +145,19 @@ public class TestTradingEngine {
     private static final String MARKET_BASE_CURRENCY = "BTC";
     private static final String MARKET_COUNTER_CURRENCY = "USD";
     private static final boolean MARKET_IS_ENABLED = true;
+    private static final String UNKNOWN_MARKET_ID = "unknown-market-id";
+    private static final int MARKET_PRIORITY = 5;
+    private static final String MARKET_2_NAME = "BTC/GBP";
+    private static final String MARKET_2_ID = "btc_gbp";
+    private static final String MARKET_2_COUNTER_CURRENCY = "GBP";
 
     // Mocks used by all tests
     private ExchangeAdapter exchangeAdapter;
     private TradingStrategy tradingStrategy;
+    private ExchangeAdapter exchangeAdapter2;
+    private TradingStrategy tradingStrategy2;
     private EmailAlerter emailAlerter;
+    private EngineEventBus engineEventBus;
     private ExchangeConfigService exchangeConfigService;
     private EngineConfigService engineConfigService;
     private StrategyConfigService strategyConfigService;
@@ -142,7 +174,10 @@ public class TestTradingEngine {
 
         exchangeAdapter = PowerMock.createMock(ExchangeAdapter.class);
         tradingStrategy = PowerMock.createMock(TradingStrategy.class);
+        exchangeAdapter2 = PowerMock.createMock(ExchangeAdapter.class);
+        tradingStrategy2 = PowerMock.createMock(TradingStrategy.class);
         emailAlerter = PowerMock.createMock(EmailAlerter.class);
+        engineEventBus = new EngineEventBus();
 
         exchangeConfigService = PowerMock.createMock(ExchangeConfigService.class);
         engineConfigService = PowerMock.createMock(EngineConfigService.class);
@@ -158,7 +193,7 @@ public class TestTradingEngine {
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
         assertFalse(tradingEngine.isRunning());
 
         PowerMock.verifyAll();
@@ -181,12 +216,12 @@ public class TestTradingEngine {
         // expect Email Alert to be sent
         emailAlerter.sendMessage(eq(CRITICAL_EMAIL_ALERT_SUBJECT),
                 contains("EMERGENCY STOP triggered! - Current Emergency Stop Currency [BTC] wallet balance [0.49999999]" +
-                        " on exchange is lower than configured Emergency Stop balance [0.5] BTC"));
+                        " on exchange is lower than configured Emergency Stop balance [0.5] BTC"), anyString());
 
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
         tradingEngine.start();
 
         waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
@@ -207,7 +242,7 @@ public class TestTradingEngine {
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         final Executor executor = Executors.newSingleThreadExecutor();
         executor.execute(tradingEngine::start);
@@ -248,7 +283,7 @@ public class TestTradingEngine {
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         final Executor executor = Executors.newSingleThreadExecutor();
         executor.execute(tradingEngine::start);
@@ -292,12 +327,12 @@ public class TestTradingEngine {
 
         // expect Email Alert to be sent
         emailAlerter.sendMessage(eq(CRITICAL_EMAIL_ALERT_SUBJECT), contains("A FATAL error has occurred in Trading" +
-                " Strategy! Details: " + exceptionErrorMsg));
+                " Strategy! Details: " + exceptionErrorMsg), anyString());
 
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         tradingEngine.start();
 
@@ -335,12 +370,12 @@ public class TestTradingEngine {
 
         // expect Email Alert to be sent
         emailAlerter.sendMessage(eq(CRITICAL_EMAIL_ALERT_SUBJECT), contains("An unexpected FATAL error has occurred in" +
-                " Exchange Adapter or Trading Strategy! Details: " + exceptionErrorMsg));
+                " Exchange Adapter or Trading Strategy! Details: " + exceptionErrorMsg), anyString());
 
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         tradingEngine.start();
 
@@ -375,12 +410,12 @@ public class TestTradingEngine {
 
         // expect Email Alert to be sent
         emailAlerter.sendMessage(eq(CRITICAL_EMAIL_ALERT_SUBJECT), contains("An unexpected FATAL error has occurred in" +
-                " Exchange Adapter or Trading Strategy! Details: " + exceptionErrorMsg));
+                " Exchange Adapter or Trading Strategy! Details: " + exceptionErrorMsg), anyString());
 
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         tradingEngine.start();
 
@@ -415,12 +450,12 @@ public class TestTradingEngine {
 
         // expect Email Alert to be sent
         emailAlerter.sendMessage(eq(CRITICAL_EMAIL_ALERT_SUBJECT), contains("A FATAL error has occurred in Exchange" +
-                " Adapter! Details: " + exceptionErrorMsg));
+                " Adapter! Details: " + exceptionErrorMsg), anyString());
 
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
 
         tradingEngine.start();
 
@@ -464,7 +499,7 @@ public class TestTradingEngine {
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
         final Executor executor = Executors.newSingleThreadExecutor();
         executor.execute(tradingEngine::start);
 
@@ -480,6 +515,510 @@ public class TestTradingEngine {
         PowerMock.verifyAll();
     }
 
+    /*
+     * Tests the engine publishes trade cycle and Emergency Stop check events on the event bus.
+     */
+    @Test
+    public void testEnginePublishesTradeCycleEvents() throws Exception {
+
+        setupConfigLoadingExpectations();
+
+        final Map<String, BigDecimal> balancesAvailable = new HashMap<>();
+        balancesAvailable.put(ENGINE_EMERGENCY_STOP_CURRENCY, new BigDecimal("0.5"));
+
+        final BalanceInfo balanceInfo = PowerMock.createMock(BalanceInfo.class);
+        expect(exchangeAdapter.getBalanceInfo()).andReturn(balanceInfo).atLeastOnce();
+        expect(balanceInfo.getBalancesAvailable()).andReturn(balancesAvailable).atLeastOnce();
+
+        tradingStrategy.execute();
+        expectLastCall().atLeastOnce();
+
+        PowerMock.replayAll();
+
+        final List<EngineEvent> eventsReceived = new CopyOnWriteArrayList<>();
+        engineEventBus.subscribe(eventsReceived::add);
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        waitForEngineStateChange(tradingEngine, EngineState.RUNNING, NUMBER_OF_TRADE_CYCLES);
+        tradingEngine.shutdown();
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        assertTrue(eventsReceived.size() >= 3);
+        assertEquals(EngineEventType.TRADE_CYCLE_STARTED, eventsReceived.get(0).getType());
+        assertEquals(1L, eventsReceived.get(0).getDetails().get("tradeCycle"));
+        assertEquals(EXCHANGE_NAME, eventsReceived.get(0).getDetails().get("exchange"));
+
+        assertEquals(EngineEventType.EMERGENCY_STOP_CHECK, eventsReceived.get(1).getType());
+        assertEquals(ENGINE_EMERGENCY_STOP_CURRENCY, eventsReceived.get(1).getDetails().get("currency"));
+        assertEquals(true, eventsReceived.get(1).getDetails().get("passed"));
+
+        assertEquals(EngineEventType.TRADE_CYCLE_FINISHED, eventsReceived.get(2).getType());
+        assertEquals("success", eventsReceived.get(2).getDetails().get("outcome"));
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the engine publishes trade cycle and Trading Strategy execution metrics.
+     */
+    @Test
+    public void testEngineRecordsTradeCycleMetrics() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        setupConfigLoadingExpectationsForNoEmergencyStopCheck();
+
+        // the strategy execution is recorded once it returns, so wait for the 2nd one to start
+        final CountDownLatch strategyExecuted = new CountDownLatch(2);
+        tradingStrategy.execute();
+        expectLastCall().andAnswer(() -> {
+            strategyExecuted.countDown();
+            return null;
+        }).atLeastOnce();
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        assertTrue(strategyExecuted.await(10 * ENGINE_TRADE_CYCLE_INTERVAL, TimeUnit.SECONDS));
+        tradingEngine.shutdown();
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        final Timer tradeCycleTimer = meterRegistry.find("bxbot.engine.trade.cycle")
+                .tags("exchange", EXCHANGE_NAME, "outcome", "success").timer();
+        assertNotNull(tradeCycleTimer);
+        assertTrue(tradeCycleTimer.count() >= 1);
+
+        final Timer strategyTimer = meterRegistry.find("bxbot.strategy.execute")
+                .tags("market", MARKET_ID, "outcome", "success").timer();
+        assertNotNull(strategyTimer);
+        assertTrue(strategyTimer.count() >= 1);
+
+        assertNotNull(meterRegistry.find("bxbot.engine.schedule.lag").tags("exchange", EXCHANGE_NAME).timeGauge());
+
+        Metrics.removeRegistry(meterRegistry);
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests Markets can be paused, resumed, and re-prioritised while the engine is running.
+     */
+    @Test
+    public void testMarketsCanBePausedResumedAndPrioritisedAtRuntime() throws Exception {
+
+        setupConfigLoadingExpectationsForNoEmergencyStopCheck();
+
+        tradingStrategy.execute();
+        expectLastCall().atLeastOnce();
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+        assertTrue(tradingEngine.getMarketStatuses().isEmpty());
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        waitForEngineStateChange(tradingEngine, EngineState.RUNNING, NUMBER_OF_TRADE_CYCLES);
+        assertTrue(tradingEngine.isRunning());
+
+        final List<MarketStatus> marketStatuses = tradingEngine.getMarketStatuses();
+        assertEquals(1, marketStatuses.size());
+        assertEquals(MARKET_ID, marketStatuses.get(0).getMarketId());
+        assertEquals(MARKET_NAME, marketStatuses.get(0).getMarketName());
+        assertEquals(EXCHANGE_NAME, marketStatuses.get(0).getExchangeId());
+        assertFalse(marketStatuses.get(0).getPaused());
+        assertEquals(Integer.valueOf(0), marketStatuses.get(0).getPriority());
+
+        assertTrue(tradingEngine.updateMarketStatus(EXCHANGE_NAME, MARKET_ID, true, MARKET_PRIORITY));
+        assertTrue(tradingEngine.getMarketStatus(EXCHANGE_NAME, MARKET_ID).getPaused());
+        assertEquals(Integer.valueOf(MARKET_PRIORITY), tradingEngine.getMarketStatus(EXCHANGE_NAME, MARKET_ID).getPriority());
+
+        assertTrue(tradingEngine.updateMarketStatus(EXCHANGE_NAME, MARKET_ID, false, 0));
+        assertFalse(tradingEngine.getMarketStatus(EXCHANGE_NAME, MARKET_ID).getPaused());
+        assertEquals(Integer.valueOf(0), tradingEngine.getMarketStatus(EXCHANGE_NAME, MARKET_ID).getPriority());
+
+        assertNull(tradingEngine.getMarketStatus(EXCHANGE_NAME, UNKNOWN_MARKET_ID));
+        assertFalse(tradingEngine.updateMarketStatus(EXCHANGE_NAME, UNKNOWN_MARKET_ID, true, MARKET_PRIORITY));
+        assertNull(tradingEngine.getMarketStatus(EXCHANGE_2_ID, MARKET_ID));
+        assertFalse(tradingEngine.updateMarketStatus(EXCHANGE_2_ID, MARKET_ID, true, MARKET_PRIORITY));
+
+        tradingEngine.shutdown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the engine executes an immediate trade cycle when requested, i.e. it does not wait for the trade cycle
+     * interval to elapse. Scenario is 1 scheduled trade cycle, then 1 requested trade cycle, and then we shut it down.
+     */
+    @Test
+    public void testEngineExecutesRequestedTradeCycleImmediately() throws Exception {
+
+        setupExchangeAdapterConfigExpectations();
+        expect(engineConfigService.getEngineConfig()).andReturn(someEngineConfigWithLongTradeCycleInterval());
+        setupStrategyAndMarketConfigExpectations();
+
+        // expect Trading Strategy to be invoked 2 times - the trade cycle interval never elapses in this test
+        tradingStrategy.execute();
+        expectLastCall().times(2);
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        waitForEngineStateChange(tradingEngine, EngineState.RUNNING, NUMBER_OF_TRADE_CYCLES);
+        assertTrue(tradingEngine.isRunning());
+
+        tradingEngine.triggerTradeCycle();
+        Thread.sleep(STATE_CHANGE_WAIT_INTERVAL_IN_SECS * 1000);
+
+        tradingEngine.shutdown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the engine trades on each exchange in its own lane: a Trading Strategy that blocks on the 1st exchange must
+     * not stop the Trading Strategy on the 2nd exchange from executing its trade cycles.
+     */
+    @Test
+    public void testSlowExchangeDoesNotDelayTradingOnOtherExchanges() throws Exception {
+
+        setupMultiExchangeConfigLoadingExpectations();
+
+        final CountDownLatch releaseBlockedStrategy = new CountDownLatch(1);
+
+        // expect Trading Strategy on the 1st exchange to block in its 1st trade cycle until the test releases it
+        tradingStrategy.execute();
+        expectLastCall().andAnswer(() -> {
+            releaseBlockedStrategy.await();
+            return null;
+        });
+
+        // expect Trading Strategy on the 2nd exchange to keep executing its trade cycles
+        tradingStrategy2.execute();
+        expectLastCall().times(2, Integer.MAX_VALUE);
+
+        // the blocked Trading Strategy overruns its execution timeout and might get quarantined
+        emailAlerter.sendMessage(anyString(), anyString(), anyString());
+        expectLastCall().anyTimes();
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        waitForEngineStateChange(tradingEngine, EngineState.RUNNING, NUMBER_OF_TRADE_CYCLES);
+        assertTrue(tradingEngine.isRunning());
+
+        assertEquals(EXCHANGE_ID, tradingEngine.getMarketStatus(EXCHANGE_ID, MARKET_ID).getExchangeId());
+        assertEquals(EXCHANGE_2_ID, tradingEngine.getMarketStatus(EXCHANGE_2_ID, MARKET_2_ID).getExchangeId());
+
+        // give the 2nd exchange lane time to run a few trade cycles
+        Thread.sleep(3 * ENGINE_TRADE_CYCLE_INTERVAL * 1000);
+
+        tradingEngine.shutdown();
+        releaseBlockedStrategy.countDown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the engine stops waiting for a Trading Strategy that overruns its execution timeout, does not execute it
+     * again while it is still running, and quarantines it after it has overrun 3 trade cycles in a row.
+     */
+    @Test
+    public void testOverrunningTradingStrategyIsTimedOutAndQuarantined() throws Exception {
+
+        setupExchangeAdapterConfigExpectations();
+        setupEngineConfigForNoEmergencyStopCheckExpectations();
+
+        final List<StrategyConfig> strategiesConfig = allTheStrategiesConfig();
+        strategiesConfig.get(0).setExecutionTimeout(STRATEGY_EXECUTION_TIMEOUT);
+        expect(strategyConfigService.getAllStrategyConfig()).andReturn(strategiesConfig);
+        expect(marketConfigService.getAllMarketConfig()).andReturn(allTheMarketsConfig());
+        expect(ConfigurableComponentFactory.createComponent(STRATEGY_IMPL_CLASS)).andReturn(tradingStrategy);
+        tradingStrategy.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+
+        final CountDownLatch releaseBlockedStrategy = new CountDownLatch(1);
+
+        // expect Trading Strategy to be executed only once - it blocks until the test releases it
+        tradingStrategy.execute();
+        expectLastCall().andAnswer(() -> {
+            releaseBlockedStrategy.await();
+            return null;
+        });
+
+        // expect Email Alert to be sent when it is quarantined
+        emailAlerter.sendMessage(eq(WARNING_EMAIL_ALERT_SUBJECT), contains("It will not be executed for the next 10 trade cycles."),
+                anyString());
+
+        PowerMock.replayAll();
+
+        final List<EngineEvent> watchdogEvents = new CopyOnWriteArrayList<>();
+        final CountDownLatch quarantined = new CountDownLatch(1);
+        engineEventBus.subscribe(event -> {
+            if (event.getType() == EngineEventType.STRATEGY_OVERRUN) {
+                watchdogEvents.add(event);
+            } else if (event.getType() == EngineEventType.STRATEGY_QUARANTINED) {
+                watchdogEvents.add(event);
+                quarantined.countDown();
+            }
+        });
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        assertTrue(quarantined.await(10 * ENGINE_TRADE_CYCLE_INTERVAL, TimeUnit.SECONDS));
+        assertTrue(tradingEngine.isRunning());
+
+        tradingEngine.shutdown();
+        releaseBlockedStrategy.countDown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        assertEquals(4, watchdogEvents.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(EngineEventType.STRATEGY_OVERRUN, watchdogEvents.get(i).getType());
+            assertEquals(MARKET_ID, watchdogEvents.get(i).getMarketId());
+            assertEquals(1000L, watchdogEvents.get(i).getDetails().get("executionTimeoutMillis"));
+            assertEquals(i + 1, watchdogEvents.get(i).getDetails().get("consecutiveOverruns"));
+        }
+        assertEquals(EngineEventType.STRATEGY_QUARANTINED, watchdogEvents.get(3).getType());
+        assertEquals(10, watchdogEvents.get(3).getDetails().get("tradeCycles"));
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests a Trading Strategy that has to wait for a free strategy thread is timed from when it starts executing, so
+     * it does not overrun its execution timeout. There are 3 Trading Strategies for 2 threads; each takes 70% of the
+     * execution timeout, so the 1 that waits finishes after the timeout has passed since the trade cycle started.
+     */
+    @Test
+    public void testQueuedTradingStrategyIsTimedFromWhenItStartsExecuting() throws Exception {
+
+        setupExchangeAdapterConfigExpectations();
+
+        final EngineConfig engineConfig = someEngineConfigForNoEmergencyStopCheck();
+        engineConfig.setMaxConcurrentStrategies(2);
+        expect(engineConfigService.getEngineConfig()).andReturn(engineConfig);
+
+        final List<MarketConfig> marketsConfig = allTheMarketsConfig();
+        marketsConfig.add(new MarketConfig(MARKET_2_ID, MARKET_2_NAME, MARKET_BASE_CURRENCY,
+                MARKET_2_COUNTER_CURRENCY, MARKET_IS_ENABLED, STRATEGY_ID));
+        marketsConfig.add(new MarketConfig("btc_eur", "BTC/EUR", MARKET_BASE_CURRENCY, "EUR",
+                MARKET_IS_ENABLED, STRATEGY_ID));
+
+        final List<StrategyConfig> strategiesConfig = allTheStrategiesConfig();
+        strategiesConfig.get(0).setExecutionTimeout(STRATEGY_EXECUTION_TIMEOUT);
+        expect(strategyConfigService.getAllStrategyConfig()).andReturn(strategiesConfig);
+        expect(marketConfigService.getAllMarketConfig()).andReturn(marketsConfig);
+
+        final TradingStrategy tradingStrategy3 = PowerMock.createMock(TradingStrategy.class);
+        expect(ConfigurableComponentFactory.createComponent(STRATEGY_IMPL_CLASS))
+                .andReturn(tradingStrategy).andReturn(tradingStrategy2).andReturn(tradingStrategy3);
+
+        final CountDownLatch strategiesExecuted = new CountDownLatch(6);
+        for (final TradingStrategy strategy : Arrays.asList(tradingStrategy, tradingStrategy2, tradingStrategy3)) {
+            strategy.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+            strategy.execute();
+            expectLastCall().andAnswer(() -> {
+                Thread.sleep(STRATEGY_EXECUTION_TIMEOUT * 700L);
+                strategiesExecuted.countDown();
+                return null;
+            }).atLeastOnce();
+        }
+
+        PowerMock.replayAll();
+
+        final List<EngineEvent> overruns = new CopyOnWriteArrayList<>();
+        engineEventBus.subscribe(event -> {
+            if (event.getType() == EngineEventType.STRATEGY_OVERRUN) {
+                overruns.add(event);
+            }
+        });
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        // 2 trade cycles
+        assertTrue(strategiesExecuted.await(10 * ENGINE_TRADE_CYCLE_INTERVAL, TimeUnit.SECONDS));
+        assertTrue(tradingEngine.isRunning());
+
+        tradingEngine.shutdown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+        assertEquals(0, overruns.size());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the Trading Strategies for Markets on the same exchange are executed at the same time when the engine is
+     * configured to run them concurrently. Each Trading Strategy waits for the other to start executing, so the trade
+     * cycle only completes if they are executing concurrently.
+     */
+    @Test
+    public void testTradingStrategiesOnSameExchangeAreExecutedConcurrently() throws Exception {
+
+        setupExchangeAdapterConfigExpectations();
+
+        final EngineConfig engineConfig = someEngineConfigForNoEmergencyStopCheck();
+        engineConfig.setMaxConcurrentStrategies(2);
+        expect(engineConfigService.getEngineConfig()).andReturn(engineConfig);
+
+        final MarketConfig marketConfig2 = new MarketConfig(MARKET_2_ID, MARKET_2_NAME, MARKET_BASE_CURRENCY,
+                MARKET_2_COUNTER_CURRENCY, MARKET_IS_ENABLED, STRATEGY_ID);
+        final List<MarketConfig> marketsConfig = allTheMarketsConfig();
+        marketsConfig.add(marketConfig2);
+
+        expect(strategyConfigService.getAllStrategyConfig()).andReturn(allTheStrategiesConfig());
+        expect(marketConfigService.getAllMarketConfig()).andReturn(marketsConfig);
+        expect(ConfigurableComponentFactory.createComponent(STRATEGY_IMPL_CLASS))
+                .andReturn(tradingStrategy).andReturn(tradingStrategy2);
+        tradingStrategy.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+        tradingStrategy2.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+
+        final CountDownLatch bothStrategiesExecuting = new CountDownLatch(2);
+        final CountDownLatch strategiesExecutedConcurrently = new CountDownLatch(2);
+        final Set<String> strategyThreadNames = new ConcurrentSkipListSet<>();
+
+        tradingStrategy.execute();
+        expectLastCall().andAnswer(() -> {
+            awaitOtherStrategy(bothStrategiesExecuting, strategiesExecutedConcurrently, strategyThreadNames);
+            return null;
+        }).atLeastOnce();
+        tradingStrategy2.execute();
+        expectLastCall().andAnswer(() -> {
+            awaitOtherStrategy(bothStrategiesExecuting, strategiesExecutedConcurrently, strategyThreadNames);
+            return null;
+        }).atLeastOnce();
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        assertTrue(strategiesExecutedConcurrently.await(10 * ENGINE_TRADE_CYCLE_INTERVAL, TimeUnit.SECONDS));
+        assertTrue(tradingEngine.isRunning());
+        assertEquals(2, strategyThreadNames.size());
+        for (final String strategyThreadName : strategyThreadNames) {
+            assertTrue(strategyThreadName.startsWith("bxbot-strategy-" + EXCHANGE_NAME + "-"));
+        }
+
+        tradingEngine.shutdown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the same Market id can be traded on more than 1 exchange, and each is paused on its own.
+     */
+    @Test
+    public void testSameMarketCanBeTradedOnMoreThanOneExchange() throws Exception {
+
+        setupMultiExchangeConfigLoadingExpectations(MARKET_ID);
+        tradingStrategy.execute();
+        expectLastCall().anyTimes();
+        tradingStrategy2.execute();
+        expectLastCall().anyTimes();
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+
+        final Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(tradingEngine::start);
+
+        waitForEngineStateChange(tradingEngine, EngineState.RUNNING, NUMBER_OF_TRADE_CYCLES);
+        assertTrue(tradingEngine.isRunning());
+        assertEquals(2, tradingEngine.getMarketStatuses().size());
+
+        assertTrue(tradingEngine.updateMarketStatus(EXCHANGE_2_ID, MARKET_ID, true, MARKET_PRIORITY));
+        assertTrue(tradingEngine.getMarketStatus(EXCHANGE_2_ID, MARKET_ID).getPaused());
+        assertFalse(tradingEngine.getMarketStatus(EXCHANGE_ID, MARKET_ID).getPaused());
+
+        tradingEngine.shutdown();
+
+        waitForEngineStateChange(tradingEngine, EngineState.SHUTDOWN, NUMBER_OF_TRADE_CYCLES);
+        assertFalse(tradingEngine.isRunning());
+
+        PowerMock.verifyAll();
+    }
+
+    /*
+     * Tests the engine fails to start if a Market is bound to an exchange that has not been configured.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEngineFailsToStartWhenMarketIsBoundToUnknownExchange() throws Exception {
+
+        expect(exchangeConfigService.getAllExchangeConfig()).andReturn(
+                Collections.singletonList(someExchangeConfig(EXCHANGE_ID, EXCHANGE_NAME, EXCHANGE_ADAPTER_IMPL_CLASS)));
+        expect(ConfigurableComponentFactory.createComponent(EXCHANGE_ADAPTER_IMPL_CLASS)).andReturn(exchangeAdapter);
+        expect(exchangeAdapter.getImplName()).andReturn(EXCHANGE_NAME);
+        exchangeAdapter.init(anyObject(ExchangeConfig.class));
+        exchangeAdapter.setExchangeRequestListener(anyObject(ExchangeRequestListener.class));
+        setupEngineConfigForNoEmergencyStopCheckExpectations();
+        expect(strategyConfigService.getAllStrategyConfig()).andReturn(allTheStrategiesConfig());
+
+        final MarketConfig marketConfig = new MarketConfig(MARKET_ID, MARKET_NAME, MARKET_BASE_CURRENCY,
+                MARKET_COUNTER_CURRENCY, MARKET_IS_ENABLED, STRATEGY_ID);
+        marketConfig.setExchangeId(EXCHANGE_2_ID);
+        expect(marketConfigService.getAllMarketConfig()).andReturn(Collections.singletonList(marketConfig));
+
+        PowerMock.replayAll();
+
+        final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
+        tradingEngine.start();
+    }
+
     /*
      * Tests the engine cannot be started more than once.
      */
@@ -504,7 +1043,7 @@ public class TestTradingEngine {
         PowerMock.replayAll();
 
         final TradingEngine tradingEngine = new TradingEngine(exchangeConfigService, engineConfigService,
-                strategyConfigService, marketConfigService, emailAlerter);
+                strategyConfigService, marketConfigService, emailAlerter, engineEventBus);
         final Executor executor = Executors.newSingleThreadExecutor();
         executor.execute(tradingEngine::start);
 
@@ -521,11 +1060,13 @@ public class TestTradingEngine {
     //  private utils
     // ------------------------------------------------------------------------------------------------
 
-    private void setupExchangeAdapterConfigExpectations() {
-        expect(exchangeConfigService.getExchangeConfig()).andReturn(someExchangeConfig());
+    private void setupExchangeAdapterConfigExpectations() throws Exception {
+        expect(exchangeConfigService.getAllExchangeConfig()).andReturn(Collections.singletonList(someExchangeConfig()));
         expect(ConfigurableComponentFactory.createComponent(EXCHANGE_ADAPTER_IMPL_CLASS)).andReturn(exchangeAdapter);
         expect(exchangeAdapter.getImplName()).andReturn(EXCHANGE_NAME);
         exchangeAdapter.init(anyObject(ExchangeConfig.class));
+        exchangeAdapter.setExchangeRequestListener(anyObject(ExchangeRequestListener.class));
+        expect(exchangeAdapter.getMarketInfo()).andReturn(new HashMap<>());
     }
 
     private void setupEngineConfigExpectations() {
@@ -540,22 +1081,64 @@ public class TestTradingEngine {
         expect(strategyConfigService.getAllStrategyConfig()).andReturn(allTheStrategiesConfig());
         expect(marketConfigService.getAllMarketConfig()).andReturn(allTheMarketsConfig());
         expect(ConfigurableComponentFactory.createComponent(STRATEGY_IMPL_CLASS)).andReturn(tradingStrategy);
-        tradingStrategy.init(eq(exchangeAdapter), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+        tradingStrategy.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
     }
 
-    private void setupConfigLoadingExpectations() {
+    private void setupConfigLoadingExpectations() throws Exception {
         setupExchangeAdapterConfigExpectations();
         setupEngineConfigExpectations();
         setupStrategyAndMarketConfigExpectations();
     }
 
-    private void setupConfigLoadingExpectationsForNoEmergencyStopCheck() {
+    private void setupMultiExchangeConfigLoadingExpectations() throws Exception {
+        setupMultiExchangeConfigLoadingExpectations(MARKET_2_ID);
+    }
+
+    private void setupMultiExchangeConfigLoadingExpectations(String market2Id) throws Exception {
+
+        expect(exchangeConfigService.getAllExchangeConfig()).andReturn(Arrays.asList(
+                someExchangeConfig(EXCHANGE_ID, EXCHANGE_NAME, EXCHANGE_ADAPTER_IMPL_CLASS),
+                someExchangeConfig(EXCHANGE_2_ID, EXCHANGE_2_NAME, EXCHANGE_2_ADAPTER_IMPL_CLASS)));
+        expect(ConfigurableComponentFactory.createComponent(EXCHANGE_ADAPTER_IMPL_CLASS)).andReturn(exchangeAdapter);
+        expect(exchangeAdapter.getImplName()).andReturn(EXCHANGE_NAME);
+        exchangeAdapter.init(anyObject(ExchangeConfig.class));
+        exchangeAdapter.setExchangeRequestListener(anyObject(ExchangeRequestListener.class));
+        expect(ConfigurableComponentFactory.createComponent(EXCHANGE_2_ADAPTER_IMPL_CLASS)).andReturn(exchangeAdapter2);
+        expect(exchangeAdapter2.getImplName()).andReturn(EXCHANGE_2_NAME);
+        exchangeAdapter2.init(anyObject(ExchangeConfig.class));
+        exchangeAdapter2.setExchangeRequestListener(anyObject(ExchangeRequestListener.class));
+        expect(exchangeAdapter.getMarketInfo()).andReturn(new HashMap<>());
+        expect(exchangeAdapter2.getMarketInfo()).andReturn(new HashMap<>());
+
+        setupEngineConfigForNoEmergencyStopCheckExpectations();
+
+        final MarketConfig marketConfig1 = new MarketConfig(MARKET_ID, MARKET_NAME, MARKET_BASE_CURRENCY,
+                MARKET_COUNTER_CURRENCY, MARKET_IS_ENABLED, STRATEGY_ID);
+        marketConfig1.setExchangeId(EXCHANGE_ID);
+        final MarketConfig marketConfig2 = new MarketConfig(market2Id, MARKET_2_NAME, MARKET_BASE_CURRENCY,
+                MARKET_2_COUNTER_CURRENCY, MARKET_IS_ENABLED, STRATEGY_ID);
+        marketConfig2.setExchangeId(EXCHANGE_2_ID);
+
+        expect(strategyConfigService.getAllStrategyConfig()).andReturn(allTheStrategiesConfig());
+        expect(marketConfigService.getAllMarketConfig()).andReturn(Arrays.asList(marketConfig1, marketConfig2));
+        expect(ConfigurableComponentFactory.createComponent(STRATEGY_IMPL_CLASS))
+                .andReturn(tradingStrategy).andReturn(tradingStrategy2);
+        tradingStrategy.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+        tradingStrategy2.init(isA(EventPublishingTradingApi.class), anyObject(Market.class), anyObject(com.gazbert.bxbot.strategy.api.StrategyConfig.class));
+    }
+
+    private void setupConfigLoadingExpectationsForNoEmergencyStopCheck() throws Exception {
         setupExchangeAdapterConfigExpectations();
         setupEngineConfigForNoEmergencyStopCheckExpectations();
         setupStrategyAndMarketConfigExpectations();
     }
 
     private static com.gazbert.bxbot.domain.exchange.ExchangeConfig someExchangeConfig() {
+        return someExchangeConfig(null, EXCHANGE_NAME, EXCHANGE_ADAPTER_IMPL_CLASS);
+    }
+
+    private static com.gazbert.bxbot.domain.exchange.ExchangeConfig someExchangeConfig(
+            String exchangeId, String exchangeName, String exchangeAdapterImplClass) {
 
         final AuthenticationConfig authenticationConfig = new AuthenticationConfig();
         authenticationConfig.getItems().put(EXCHANGE_ADAPTER_AUTHENTICATION_CONFIG_ITEM_NAME,
@@ -570,9 +1153,10 @@ public class TestTradingEngine {
         optionalConfig.getItems().put(EXCHANGE_ADAPTER_OTHER_CONFIG_ITEM_NAME, EXCHANGE_ADAPTER_OTHER_CONFIG_ITEM_VALUE);
 
         final com.gazbert.bxbot.domain.exchange.ExchangeConfig exchangeConfig = new com.gazbert.bxbot.domain.exchange.ExchangeConfig();
+        exchangeConfig.setId(exchangeId);
         exchangeConfig.setAuthenticationConfig(authenticationConfig);
-        exchangeConfig.setExchangeName(EXCHANGE_NAME);
-        exchangeConfig.setExchangeAdapter(EXCHANGE_ADAPTER_IMPL_CLASS);
+        exchangeConfig.setExchangeName(exchangeName);
+        exchangeConfig.setExchangeAdapter(exchangeAdapterImplClass);
         exchangeConfig.setNetworkConfig(networkConfig);
         exchangeConfig.setOptionalConfig(optionalConfig);
 
@@ -595,6 +1179,14 @@ public class TestTradingEngine {
         return engineConfig;
     }
 
+    private static EngineConfig someEngineConfigWithLongTradeCycleInterval() {
+        final EngineConfig engineConfig = new EngineConfig();
+        engineConfig.setEmergencyStopCurrency(ENGINE_EMERGENCY_STOP_CURRENCY);
+        engineConfig.setEmergencyStopBalance(BigDecimal.ZERO);
+        engineConfig.setTradeCycleInterval(ENGINE_LONG_TRADE_CYCLE_INTERVAL);
+        return engineConfig;
+    }
+
     private static List<StrategyConfig> allTheStrategiesConfig() {
 
         final Map<String, String> configItems = new HashMap<>();
@@ -616,6 +1208,17 @@ public class TestTradingEngine {
         return allMarkets;
     }
 
+    private static void awaitOtherStrategy(CountDownLatch bothStrategiesExecuting,
+                                           CountDownLatch strategiesExecutedConcurrently,
+                                           Set<String> strategyThreadNames) throws InterruptedException {
+        bothStrategiesExecuting.countDown();
+        if (bothStrategiesExecuting.await(STRATEGY_EXECUTION_TIMEOUT, TimeUnit.SECONDS)
+                && strategiesExecutedConcurrently.getCount() > 0) {
+            strategyThreadNames.add(Thread.currentThread().getName());
+            strategiesExecutedConcurrently.countDown();
+        }
+    }
+
     private static void waitForEngineStateChange(TradingEngine engine, EngineState engineState, int numberOfTradeCycles) {
         for (int i = 0; i < numberOfTradeCycles; i++) {
             try {
@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.events;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Engine Event Bus behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestEngineEventBus {
+
+    private static final String MARKET_ID = "btc_usd";
+    private static final int WAIT_TIMEOUT_IN_SECS = 5;
+
+    private EngineEventBus engineEventBus;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        engineEventBus = new EngineEventBus();
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        engineEventBus.shutdown();
+    }
+
+    @Test
+    public void testEventsAreDeliveredToSubscribersInOrder() throws Exception {
+
+        final int numberOfEvents = 100;
+        final List<EngineEvent> eventsReceived = new CopyOnWriteArrayList<>();
+        final CountDownLatch allEventsReceived = new CountDownLatch(numberOfEvents);
+
+        assertFalse(engineEventBus.hasSubscribers());
+        engineEventBus.subscribe(event -> {
+            eventsReceived.add(event);
+            allEventsReceived.countDown();
+        });
+        assertTrue(engineEventBus.hasSubscribers());
+
+        for (int i = 0; i < numberOfEvents; i++) {
+            engineEventBus.publish(someEvent(i));
+        }
+
+        assertTrue(allEventsReceived.await(WAIT_TIMEOUT_IN_SECS, TimeUnit.SECONDS));
+        for (int i = 0; i < numberOfEvents; i++) {
+            assertEquals(i, eventsReceived.get(i).getDetails().get("sequence"));
+            assertEquals(MARKET_ID, eventsReceived.get(i).getMarketId());
+        }
+    }
+
+    @Test
+    public void testOldestEventsAreDroppedWhenSubscriberCannotKeepUp() throws Exception {
+
+        final int bufferSize = 5;
+        final CountDownLatch listenerBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseListener = new CountDownLatch(1);
+        final List<EngineEvent> eventsReceived = new CopyOnWriteArrayList<>();
+
+        final EngineEventBus.Subscription subscription = engineEventBus.subscribe(event -> {
+            eventsReceived.add(event);
+            listenerBlocked.countDown();
+            releaseListener.await();
+        }, bufferSize);
+
+        // first event is taken by the listener, which then blocks
+        engineEventBus.publish(someEvent(0));
+        assertTrue(listenerBlocked.await(WAIT_TIMEOUT_IN_SECS, TimeUnit.SECONDS));
+
+        // publishing must never block, even though the listener is stuck
+        final int numberOfEvents = 20;
+        for (int i = 1; i <= numberOfEvents; i++) {
+            engineEventBus.publish(someEvent(i));
+        }
+        assertEquals(numberOfEvents - bufferSize, subscription.getDroppedEventCount());
+
+        releaseListener.countDown();
+        waitForEvents(eventsReceived, bufferSize + 1);
+
+        // listener gets the 1st event, then the newest events that fitted in its buffer
+        assertEquals(bufferSize + 1, eventsReceived.size());
+        assertEquals(0, eventsReceived.get(0).getDetails().get("sequence"));
+        for (int i = 1; i <= bufferSize; i++) {
+            assertEquals(numberOfEvents - bufferSize + i, eventsReceived.get(i).getDetails().get("sequence"));
+        }
+    }
+
+    @Test
+    public void testSubscriptionIsCancelledWhenListenerFails() throws Exception {
+
+        final CountDownLatch listenerCalled = new CountDownLatch(1);
+        final EngineEventBus.Subscription subscription = engineEventBus.subscribe(event -> {
+            listenerCalled.countDown();
+            throw new IllegalStateException("Client went away");
+        });
+
+        engineEventBus.publish(someEvent(0));
+        assertTrue(listenerCalled.await(WAIT_TIMEOUT_IN_SECS, TimeUnit.SECONDS));
+
+        for (int i = 0; i < WAIT_TIMEOUT_IN_SECS * 10 && !subscription.isCancelled(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(subscription.isCancelled());
+        assertFalse(engineEventBus.hasSubscribers());
+    }
+
+    @Test
+    public void testCancelledSubscriptionDoesNotReceiveEvents() throws Exception {
+
+        final List<EngineEvent> eventsReceived = new CopyOnWriteArrayList<>();
+        final EngineEventBus.Subscription subscription = engineEventBus.subscribe(eventsReceived::add);
+        subscription.cancel();
+
+        engineEventBus.publish(someEvent(0));
+        Thread.sleep(100);
+
+        assertTrue(eventsReceived.isEmpty());
+        assertFalse(engineEventBus.hasSubscribers());
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------------------------------
+
+    private static EngineEvent someEvent(int sequence) {
+        return EngineEvent.builder(EngineEventType.TOP_OF_BOOK)
+                .marketId(MARKET_ID)
+                .detail("sequence", sequence)
+                .build();
+    }
+
+    private static void waitForEvents(List<EngineEvent> eventsReceived, int expectedCount) throws Exception {
+        for (int i = 0; i < WAIT_TIMEOUT_IN_SECS * 10 && eventsReceived.size() < expectedCount; i++) {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Alert Dispatcher behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestAlertDispatcher {
+
+    private static final String SUBJECT = "CRITICAL Alert message from BX-bot";
+    private static final String MSG = "The exchange has blown up!";
+    private static final long DEDUPLICATION_WINDOW_MILLIS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+
+    @Test
+    public void testAlertIsSentToAllChannels() {
+
+        final RecordingAlertChannel channel1 = new RecordingAlertChannel();
+        final RecordingAlertChannel channel2 = new RecordingAlertChannel();
+        final AlertDispatcher alertDispatcher =
+                new AlertDispatcher(Arrays.asList(channel1, channel2), DEDUPLICATION_WINDOW_MILLIS, 10);
+
+        assertTrue(alertDispatcher.dispatch(SUBJECT, MSG));
+        assertTrue(alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_MILLIS));
+
+        assertEquals(Collections.singletonList(SUBJECT + ":" + MSG), channel1.alerts);
+        assertEquals(Collections.singletonList(SUBJECT + ":" + MSG), channel2.alerts);
+    }
+
+    @Test
+    public void testDuplicateAlertsAreSuppressedWithinWindowAndCountedWhenNextSent() {
+
+        // the clock is read once per alert, on the dispatcher thread: the last alert arrives after the window
+        final Iterator<Long> alertTimes = Arrays.asList(0L, 10L, 20L, 30L, DEDUPLICATION_WINDOW_MILLIS).iterator();
+        final RecordingAlertChannel channel = new RecordingAlertChannel();
+        final AlertDispatcher alertDispatcher = new AlertDispatcher(Collections.singletonList(channel),
+                DEDUPLICATION_WINDOW_MILLIS, 10, alertTimes::next);
+
+        alertDispatcher.dispatch(SUBJECT, MSG);
+        alertDispatcher.dispatch(SUBJECT, MSG);
+        alertDispatcher.dispatch(SUBJECT, MSG);
+        alertDispatcher.dispatch(SUBJECT, "A different alert");
+        alertDispatcher.dispatch(SUBJECT, MSG);
+        assertTrue(alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_MILLIS));
+
+        assertEquals(3, channel.alerts.size());
+        assertEquals(SUBJECT + ":" + MSG, channel.alerts.get(0));
+        assertEquals(SUBJECT + ":A different alert", channel.alerts.get(1));
+        assertTrue(channel.alerts.get(2).startsWith(SUBJECT + ":" + MSG));
+        assertTrue(channel.alerts.get(2).contains("2 identical alert(s) suppressed"));
+    }
+
+    @Test
+    public void testFailingChannelDoesNotStopAlertBeingSentToOtherChannels() {
+
+        final AlertChannel failingChannel = new AlertChannel() {
+            @Override
+            public String getName() {
+                return "failing";
+            }
+
+            @Override
+            public void send(String subject, String msgContent) throws Exception {
+                throw new Exception("SMTP server down");
+            }
+        };
+        final RecordingAlertChannel channel = new RecordingAlertChannel();
+        final AlertDispatcher alertDispatcher =
+                new AlertDispatcher(Arrays.asList(failingChannel, channel), DEDUPLICATION_WINDOW_MILLIS, 10);
+
+        alertDispatcher.dispatch(SUBJECT, MSG);
+        assertTrue(alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_MILLIS));
+
+        assertEquals(Collections.singletonList(SUBJECT + ":" + MSG), channel.alerts);
+    }
+
+    @Test
+    public void testAlertsAreDroppedWhenQueueIsFull() throws Exception {
+
+        final CountDownLatch channelBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseChannel = new CountDownLatch(1);
+        final RecordingAlertChannel channel = new RecordingAlertChannel() {
+            @Override
+            public void send(String subject, String msgContent) throws Exception {
+                channelBlocked.countDown();
+                releaseChannel.await();
+                super.send(subject, msgContent);
+            }
+        };
+        final AlertDispatcher alertDispatcher =
+                new AlertDispatcher(Collections.singletonList(channel), DEDUPLICATION_WINDOW_MILLIS, 1);
+
+        assertTrue(alertDispatcher.dispatch(SUBJECT, "alert 1"));
+        assertTrue(channelBlocked.await(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertTrue(alertDispatcher.dispatch(SUBJECT, "alert 2")); // queued
+        assertFalse(alertDispatcher.dispatch(SUBJECT, "alert 3")); // queue full
+
+        releaseChannel.countDown();
+        assertTrue(alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_MILLIS));
+
+        assertEquals(Arrays.asList(SUBJECT + ":alert 1", SUBJECT + ":alert 2"), channel.alerts);
+    }
+
+    @Test
+    public void testAlertsAreRejectedAfterShutdown() {
+
+        final RecordingAlertChannel channel = new RecordingAlertChannel();
+        final AlertDispatcher alertDispatcher =
+                new AlertDispatcher(Collections.singletonList(channel), DEDUPLICATION_WINDOW_MILLIS, 10);
+
+        assertTrue(alertDispatcher.shutdown(SHUTDOWN_TIMEOUT_MILLIS));
+        assertFalse(alertDispatcher.dispatch(SUBJECT, MSG));
+        assertTrue(channel.alerts.isEmpty());
+    }
+
+    // ------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------
+
+    private static class RecordingAlertChannel implements AlertChannel {
+
+        final List<String> alerts = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void send(String subject, String msgContent) throws Exception {
+            alerts.add(subject + ":" + msgContent);
+        }
+    }
+}
@@ -123,6 +123,7 @@ public class TestEmailAlerter {
 
         final EmailAlerter emailAlerter = new EmailAlerter(emailAlertsConfigService);
         emailAlerter.sendMessage(EMAIL_SUBJECT, EMAIL_MSG);
+        emailAlerter.shutdown(); // waits for the queued alert to be sent
 
         PowerMock.verifyAll();
     }
@@ -143,6 +144,7 @@ public class TestEmailAlerter {
 
         final EmailAlerter emailAlerter = new EmailAlerter(emailAlertsConfigService);
         emailAlerter.sendMessage(EMAIL_SUBJECT, EMAIL_MSG);
+        emailAlerter.shutdown();
 
         // expect to send message - check your inbox!
     }
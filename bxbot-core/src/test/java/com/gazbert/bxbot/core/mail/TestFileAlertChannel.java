@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the File Alert Channel behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestFileAlertChannel {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testAlertsAreAppendedToFile() throws Exception {
+
+        final Path alertsFile = temporaryFolder.getRoot().toPath().resolve("alerts.log");
+        final FileAlertChannel fileAlertChannel = new FileAlertChannel(alertsFile);
+
+        fileAlertChannel.send("Alert 1", "The exchange has blown up!");
+        fileAlertChannel.send("Alert 2", "The exchange is back up.");
+
+        final String alerts = new String(Files.readAllBytes(alertsFile), StandardCharsets.UTF_8);
+        assertTrue(alerts.contains("Alert 1"));
+        assertTrue(alerts.contains("The exchange has blown up!"));
+        assertTrue(alerts.contains("Alert 2"));
+        assertTrue(alerts.indexOf("Alert 1") < alerts.indexOf("Alert 2"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.mail;
+
+import com.google.common.io.ByteStreams;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the Webhook Alert Channel behaves as expected. Uses a local HTTP server; nothing goes down the wire.
+ *
+ * @author gazbert
+ */
+public class TestWebhookAlertChannel {
+
+    private static final String SUBJECT = "CRITICAL Alert message from BX-bot";
+    private static final String MSG = "The exchange has blown up!";
+
+    private HttpServer httpServer;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+    private final AtomicInteger responseCode = new AtomicInteger(200);
+
+
+    @Before
+    public void setupForEachTest() throws Exception {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/alerts", exchange -> {
+            receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            receivedBody.set(new String(ByteStreams.toByteArray(exchange.getRequestBody()), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(responseCode.get(), -1);
+            exchange.close();
+        });
+        httpServer.start();
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    public void testAlertIsPostedAsJson() throws Exception {
+
+        new WebhookAlertChannel(webhookUrl()).send(SUBJECT, MSG);
+
+        assertEquals("application/json; charset=UTF-8", receivedContentType.get());
+        final JsonObject alert = new JsonParser().parse(receivedBody.get()).getAsJsonObject();
+        assertEquals(SUBJECT, alert.get("subject").getAsString());
+        assertEquals(MSG, alert.get("message").getAsString());
+        assertEquals(SUBJECT + "\n" + MSG, alert.get("text").getAsString());
+    }
+
+    @Test(expected = IOException.class)
+    public void testSendFailsWhenWebhookReturnsErrorStatus() throws Exception {
+        responseCode.set(500);
+        new WebhookAlertChannel(webhookUrl()).send(SUBJECT, MSG);
+    }
+
+    // ------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------
+
+    private URL webhookUrl() throws Exception {
+        return new URL("http://localhost:" + httpServer.getAddress().getPort() + "/alerts");
+    }
+}
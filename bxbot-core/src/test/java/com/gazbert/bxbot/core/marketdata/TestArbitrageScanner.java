@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.core.config.market.MarketImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.gazbert.bxbot.core.marketdata.TestConsolidatedOrderBook.levels;
+import static com.gazbert.bxbot.core.marketdata.TestConsolidatedOrderBook.orderBook;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Arbitrage Scanner finds cross-exchange spreads as expected.
+ *
+ * @author gazbert
+ */
+public class TestArbitrageScanner {
+
+    private static final String BITSTAMP = "bitstamp";
+    private static final String GDAX = "gdax";
+    private static final String GEMINI = "gemini";
+    private static final String BTC_USD = "BTC/USD";
+    private static final String ETH_USD = "ETH/USD";
+    private static final BigDecimal NO_FEE = BigDecimal.ZERO;
+    private static final long MAX_BOOK_AGE_MILLIS = 10000;
+
+    private ConsolidatedOrderBook consolidatedOrderBook;
+    private AtomicLong clock;
+    private ArbitrageScanner arbitrageScanner;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        consolidatedOrderBook = new ConsolidatedOrderBook();
+        for (final String exchange : new String[]{BITSTAMP, GDAX, GEMINI}) {
+            consolidatedOrderBook.registerMarket(exchange, new MarketImpl(BTC_USD, "btcusd", "BTC", "USD"));
+            consolidatedOrderBook.registerMarket(exchange, new MarketImpl(ETH_USD, "ethusd", "ETH", "USD"));
+        }
+        clock = new AtomicLong(System.currentTimeMillis());
+        arbitrageScanner = new ArbitrageScanner(consolidatedOrderBook, NO_FEE, MAX_BOOK_AGE_MILLIS, 2, clock::get);
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        arbitrageScanner.shutdown();
+    }
+
+    @Test
+    public void testSpreadAcrossExchangesIsFound() {
+
+        update(BITSTAMP, "btcusd", "4000", "4010");
+        update(GDAX, "btcusd", "4020", "4030");  // GDAX bid is higher than Bitstamp ask
+        update(GEMINI, "btcusd", "3990", "4015");
+
+        final List<ArbitrageOpportunity> opportunities = arbitrageScanner.scan();
+        assertEquals(1, opportunities.size());
+
+        final ArbitrageOpportunity opportunity = opportunities.get(0);
+        assertEquals(BTC_USD, opportunity.getInstrument());
+        assertEquals(BITSTAMP, opportunity.getBuyExchangeId());
+        assertEquals(GDAX, opportunity.getSellExchangeId());
+        assertEquals(0, new BigDecimal("4010").compareTo(opportunity.getBuyPrice()));
+        assertEquals(0, new BigDecimal("4020").compareTo(opportunity.getSellPrice()));
+        assertEquals(0, new BigDecimal("10").compareTo(opportunity.getSpread()));
+        assertEquals(0, BigDecimal.ONE.compareTo(opportunity.getQuantity()));
+    }
+
+    @Test
+    public void testNoOpportunityWhenFeesEatTheSpread() {
+
+        final BigDecimal fee = new BigDecimal("0.005");
+        consolidatedOrderBook.update(BITSTAMP, "btcusd", orderBook(levels("4000", "1"), levels("4010", "1")), fee, fee);
+        consolidatedOrderBook.update(GDAX, "btcusd", orderBook(levels("4020", "1"), levels("4030", "1")), fee, fee);
+
+        assertTrue(arbitrageScanner.scan().isEmpty());
+    }
+
+    @Test
+    public void testBestPairIsFoundWhenOneExchangeHasBestBidAndBestAsk() {
+
+        update(BITSTAMP, "btcusd", "4050", "4000"); // crossed book on 1 exchange is not an arbitrage
+        update(GDAX, "btcusd", "4025", "4030");
+
+        final List<ArbitrageOpportunity> opportunities = arbitrageScanner.scan();
+        assertEquals(1, opportunities.size());
+        assertEquals(BITSTAMP, opportunities.get(0).getBuyExchangeId());
+        assertEquals(GDAX, opportunities.get(0).getSellExchangeId());
+        assertEquals(0, new BigDecimal("25").compareTo(opportunities.get(0).getSpread()));
+    }
+
+    @Test
+    public void testInstrumentsAreScannedIndependently() {
+
+        update(BITSTAMP, "btcusd", "4000", "4010");
+        update(GDAX, "btcusd", "4020", "4030");
+        update(BITSTAMP, "ethusd", "300", "301");
+        update(GEMINI, "ethusd", "302", "303");
+
+        final List<ArbitrageOpportunity> opportunities = arbitrageScanner.scan();
+        assertEquals(2, opportunities.size());
+
+        // only ETH/USD changes - BTC/USD opportunity is still reported
+        update(GEMINI, "ethusd", "299", "303");
+        final List<ArbitrageOpportunity> nextOpportunities = arbitrageScanner.scan();
+        assertEquals(1, nextOpportunities.size());
+        assertEquals(BTC_USD, nextOpportunities.get(0).getInstrument());
+    }
+
+    @Test
+    public void testStaleOrderBooksAreIgnored() {
+
+        update(BITSTAMP, "btcusd", "4000", "4010");
+        update(GDAX, "btcusd", "4020", "4030");
+        assertEquals(1, arbitrageScanner.scan().size());
+
+        clock.addAndGet(2 * MAX_BOOK_AGE_MILLIS);
+        assertTrue(arbitrageScanner.scan().isEmpty());
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------------------------------
+
+    private void update(String exchange, String marketId, String bid, String ask) {
+        consolidatedOrderBook.update(exchange, marketId, orderBook(levels(bid, "1"), levels(ask, "1")),
+                NO_FEE, NO_FEE);
+    }
+}
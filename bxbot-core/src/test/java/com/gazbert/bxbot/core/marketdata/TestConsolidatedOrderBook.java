@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.core.config.market.MarketImpl;
+import com.gazbert.bxbot.trading.api.MarketOrder;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Consolidated Order Book merges order books across exchanges as expected.
+ *
+ * @author gazbert
+ */
+public class TestConsolidatedOrderBook {
+
+    private static final String BITSTAMP = "bitstamp";
+    private static final String GDAX = "gdax";
+    private static final String BITSTAMP_MARKET_ID = "btcusd";
+    private static final String GDAX_MARKET_ID = "BTC-USD";
+    private static final String INSTRUMENT = "BTC/USD";
+    private static final BigDecimal NO_FEE = BigDecimal.ZERO;
+    private static final int DEPTH = 10;
+
+    private ConsolidatedOrderBook consolidatedOrderBook;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        consolidatedOrderBook = new ConsolidatedOrderBook();
+        consolidatedOrderBook.registerMarket(BITSTAMP, new MarketImpl("BTC/USD", BITSTAMP_MARKET_ID, "BTC", "USD"));
+        consolidatedOrderBook.registerMarket(GDAX, new MarketImpl("BTC/USD", GDAX_MARKET_ID, "btc", "usd"));
+    }
+
+    @Test
+    public void testMarketsWithSameCurrenciesAreMergedIntoOneInstrument() {
+        assertEquals(1, consolidatedOrderBook.getInstruments().size());
+        assertTrue(consolidatedOrderBook.getInstruments().contains(INSTRUMENT));
+        assertTrue(consolidatedOrderBook.isRegistered(GDAX, GDAX_MARKET_ID));
+        assertFalse(consolidatedOrderBook.isRegistered(BITSTAMP, GDAX_MARKET_ID));
+    }
+
+    @Test
+    public void testLevelsFromDifferentExchangesAreMergedBestFirst() {
+
+        consolidatedOrderBook.update(BITSTAMP, BITSTAMP_MARKET_ID,
+                orderBook(levels("4000", "1", "3990", "2"), levels("4010", "1")), NO_FEE, NO_FEE);
+        consolidatedOrderBook.update(GDAX, GDAX_MARKET_ID,
+                orderBook(levels("4005", "0.5", "4000.00", "1.5"), levels("4008", "3")), NO_FEE, NO_FEE);
+
+        final List<ConsolidatedLevel> bids = consolidatedOrderBook.getBids(INSTRUMENT, DEPTH);
+        assertEquals(3, bids.size());
+        assertLevel(bids.get(0), "4005", "0.5");
+        assertLevel(bids.get(1), "4000", "2.5"); // same price on both exchanges
+        assertLevel(bids.get(2), "3990", "2");
+
+        final List<ConsolidatedLevel> asks = consolidatedOrderBook.getAsks(INSTRUMENT, DEPTH);
+        assertEquals(2, asks.size());
+        assertLevel(asks.get(0), "4008", "3");
+        assertLevel(asks.get(1), "4010", "1");
+
+        assertEquals(1, consolidatedOrderBook.getBids(INSTRUMENT, 1).size());
+    }
+
+    @Test
+    public void testUpdateOnlyReplacesThatExchangesLevels() {
+
+        consolidatedOrderBook.update(BITSTAMP, BITSTAMP_MARKET_ID,
+                orderBook(levels("4000", "1"), levels("4010", "1")), NO_FEE, NO_FEE);
+        consolidatedOrderBook.update(GDAX, GDAX_MARKET_ID,
+                orderBook(levels("4000", "2"), levels("4010", "2")), NO_FEE, NO_FEE);
+
+        consolidatedOrderBook.update(BITSTAMP, BITSTAMP_MARKET_ID,
+                orderBook(levels("3999", "4"), levels("4010", "0.25")), NO_FEE, NO_FEE);
+
+        final List<ConsolidatedLevel> bids = consolidatedOrderBook.getBids(INSTRUMENT, DEPTH);
+        assertEquals(2, bids.size());
+        assertLevel(bids.get(0), "4000", "2");
+        assertLevel(bids.get(1), "3999", "4");
+
+        final List<ConsolidatedLevel> asks = consolidatedOrderBook.getAsks(INSTRUMENT, DEPTH);
+        assertEquals(1, asks.size());
+        assertLevel(asks.get(0), "4010", "2.25");
+    }
+
+    @Test
+    public void testPricesAreAdjustedForExchangeFees() {
+
+        consolidatedOrderBook.update(BITSTAMP, BITSTAMP_MARKET_ID,
+                orderBook(levels("4000", "1"), levels("4010", "1")), new BigDecimal("0.0025"), new BigDecimal("0.005"));
+
+        // bid is what the seller gets after the sell fee, ask is what the buyer pays including the buy fee
+        assertLevel(consolidatedOrderBook.getBids(INSTRUMENT, DEPTH).get(0), "3980", "1");
+        assertLevel(consolidatedOrderBook.getAsks(INSTRUMENT, DEPTH).get(0), "4020.025", "1");
+    }
+
+    @Test
+    public void testUpdatesForUnregisteredMarketsAreIgnored() {
+
+        consolidatedOrderBook.update(BITSTAMP, "ltcusd", orderBook(levels("50", "1"), levels("51", "1")),
+                NO_FEE, NO_FEE);
+
+        assertTrue(consolidatedOrderBook.getBids(INSTRUMENT, DEPTH).isEmpty());
+        assertTrue(consolidatedOrderBook.getAsks("LTC/USD", DEPTH).isEmpty());
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------------------------------
+
+    static MarketOrderBook orderBook(List<MarketOrder> bids, List<MarketOrder> asks) {
+        final MarketOrderBook orderBook = createMock(MarketOrderBook.class);
+        expect(orderBook.getBuyOrders()).andReturn(bids).anyTimes();
+        expect(orderBook.getSellOrders()).andReturn(asks).anyTimes();
+        replay(orderBook);
+        return orderBook;
+    }
+
+    /*
+     * Price/quantity pairs.
+     */
+    static List<MarketOrder> levels(String... pricesAndQuantities) {
+        final List<MarketOrder> orders = new ArrayList<>();
+        for (int i = 0; i < pricesAndQuantities.length; i += 2) {
+            final MarketOrder order = createMock(MarketOrder.class);
+            expect(order.getPrice()).andReturn(new BigDecimal(pricesAndQuantities[i])).anyTimes();
+            expect(order.getQuantity()).andReturn(new BigDecimal(pricesAndQuantities[i + 1])).anyTimes();
+            replay(order);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    private static void assertLevel(ConsolidatedLevel level, String price, String quantity) {
+        assertEquals(0, new BigDecimal(price).compareTo(level.getPrice()));
+        assertEquals(0, new BigDecimal(quantity).compareTo(level.getQuantity()));
+    }
+}
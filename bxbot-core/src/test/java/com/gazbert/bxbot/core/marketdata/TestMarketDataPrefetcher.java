@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.Ticker;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the Market Data Prefetcher uses fresh prefetches and discards stale ones.
+ *
+ * @author gazbert
+ */
+public class TestMarketDataPrefetcher {
+
+    private static final String EXCHANGE_ID = "bitstamp";
+    private static final String BTC_USD = "btc_usd";
+    private static final List<String> MARKET_IDS = Collections.singletonList(BTC_USD);
+    private static final long LEAD_TIME_MILLIS = 50;
+
+    private MarketDataSnapshot marketDataSnapshot;
+    private MarketDataPrefetcher marketDataPrefetcher;
+    private Ticker ticker;
+    private Map<String, Ticker> tickers;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        marketDataSnapshot = new MarketDataSnapshot();
+        marketDataPrefetcher = new MarketDataPrefetcher(EXCHANGE_ID, marketDataSnapshot, LEAD_TIME_MILLIS);
+        ticker = createMock(Ticker.class);
+        tickers = Collections.singletonMap(BTC_USD, ticker);
+
+        // a Trading Strategy has used the ticker
+        marketDataSnapshot.takeTicker(BTC_USD);
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        marketDataPrefetcher.shutdown();
+    }
+
+    @Test
+    public void testFreshPrefetchIsUsedWhenTradeCycleStarts() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getTickers(MARKET_IDS)).andReturn(tickers).once();
+        replay(exchangeAdapter);
+
+        // trade cycle due within the lead time, so the prefetch starts straight away
+        marketDataPrefetcher.prefetch(exchangeAdapter, MARKET_IDS, System.currentTimeMillis());
+        marketDataPrefetcher.refresh(exchangeAdapter, MARKET_IDS);
+        assertSame(ticker, marketDataSnapshot.takeTicker(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testStalePrefetchIsDiscarded() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getTickers(MARKET_IDS)).andReturn(tickers).times(2);
+        replay(exchangeAdapter);
+
+        marketDataPrefetcher.prefetch(exchangeAdapter, MARKET_IDS, System.currentTimeMillis());
+
+        // trade cycle starts late
+        Thread.sleep(4 * LEAD_TIME_MILLIS);
+        marketDataPrefetcher.refresh(exchangeAdapter, MARKET_IDS);
+        assertSame(ticker, marketDataSnapshot.takeTicker(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testPrefetchIsCancelledWhenTradeCycleStartsEarly() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getTickers(MARKET_IDS)).andReturn(tickers).once();
+        replay(exchangeAdapter);
+
+        // immediate trade cycle requested long before the prefetch is due
+        marketDataPrefetcher.prefetch(exchangeAdapter, MARKET_IDS, System.currentTimeMillis() + 60000);
+        marketDataPrefetcher.refresh(exchangeAdapter, MARKET_IDS);
+        assertSame(ticker, marketDataSnapshot.takeTicker(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.MarketOrderBook;
+import com.gazbert.bxbot.trading.api.Ticker;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the Market Data Snapshot fetches the tickers and order books in as few calls as possible.
+ *
+ * @author gazbert
+ */
+public class TestMarketDataSnapshot {
+
+    private static final String BTC_USD = "btc_usd";
+    private static final String LTC_USD = "ltc_usd";
+    private static final String ETH_USD = "eth_usd";
+
+    private MarketDataSnapshot marketDataSnapshot;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        marketDataSnapshot = new MarketDataSnapshot();
+    }
+
+    @Test
+    public void testNothingIsFetchedUntilAskedFor() {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        replay(exchangeAdapter);
+
+        marketDataSnapshot.refresh(exchangeAdapter, Arrays.asList(BTC_USD, LTC_USD));
+        assertNull(marketDataSnapshot.takeTicker(BTC_USD));
+        assertNull(marketDataSnapshot.takeOrderBook(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testRefreshFetchesWantedMarketsInOneCallEach() throws Exception {
+
+        final Ticker btcTicker = createMock(Ticker.class);
+        final Ticker ltcTicker = createMock(Ticker.class);
+        final Map<String, Ticker> tickers = new LinkedHashMap<>();
+        tickers.put(BTC_USD, btcTicker);
+        tickers.put(LTC_USD, ltcTicker);
+
+        final MarketOrderBook ltcOrderBook = createMock(MarketOrderBook.class);
+        final Map<String, MarketOrderBook> orderBooks = new LinkedHashMap<>();
+        orderBooks.put(LTC_USD, ltcOrderBook);
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getTickers(Arrays.asList(BTC_USD, LTC_USD))).andReturn(tickers);
+        expect(exchangeAdapter.getMarketOrders(Collections.singletonList(LTC_USD))).andReturn(orderBooks);
+        replay(exchangeAdapter);
+
+        // mark what the Trading Strategies want; ETH market is not being traded this cycle
+        marketDataSnapshot.takeTicker(BTC_USD);
+        marketDataSnapshot.takeTicker(LTC_USD);
+        marketDataSnapshot.takeTicker(ETH_USD);
+        marketDataSnapshot.takeOrderBook(LTC_USD);
+
+        marketDataSnapshot.refresh(exchangeAdapter, Arrays.asList(BTC_USD, LTC_USD));
+        assertSame(btcTicker, marketDataSnapshot.takeTicker(BTC_USD));
+        assertSame(ltcTicker, marketDataSnapshot.takeTicker(LTC_USD));
+        assertSame(ltcOrderBook, marketDataSnapshot.takeOrderBook(LTC_USD));
+        assertNull(marketDataSnapshot.takeOrderBook(BTC_USD));
+
+        // handed out once only
+        assertNull(marketDataSnapshot.takeTicker(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testFailedRefreshLeavesTheSnapshotEmpty() throws Exception {
+
+        final Map<String, Ticker> tickers = new LinkedHashMap<>();
+        tickers.put(BTC_USD, createMock(Ticker.class));
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getTickers(Collections.singletonList(BTC_USD))).andReturn(tickers);
+        expect(exchangeAdapter.getMarketOrders(Collections.singletonList(BTC_USD)))
+                .andThrow(new ExchangeNetworkException("Connection timed out"));
+        replay(exchangeAdapter);
+
+        marketDataSnapshot.takeTicker(BTC_USD);
+        marketDataSnapshot.takeOrderBook(BTC_USD);
+
+        marketDataSnapshot.refresh(exchangeAdapter, Collections.singletonList(BTC_USD));
+        assertNull(marketDataSnapshot.takeTicker(BTC_USD));
+        assertNull(marketDataSnapshot.takeOrderBook(BTC_USD));
+
+        verify(exchangeAdapter);
+    }
+}
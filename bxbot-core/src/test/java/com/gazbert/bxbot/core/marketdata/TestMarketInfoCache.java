@@ -0,0 +1,170 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.marketdata;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.MarketInfo;
+import com.gazbert.bxbot.trading.api.OrderRejectedException;
+import com.gazbert.bxbot.trading.api.OrderRequest;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the Market Info Cache keeps the market trading rules refreshed and checks orders against them as expected.
+ *
+ * @author gazbert
+ */
+public class TestMarketInfoCache {
+
+    private static final String BTC_USD = "btc_usd";
+    private static final String LTC_USD = "ltc_usd";
+
+    private static final MarketInfo BTC_USD_INFO = marketInfo(BTC_USD, new BigDecimal("0.01"),
+            new BigDecimal("0.001"), new BigDecimal("0.01"), new BigDecimal("10"));
+
+
+    @Test
+    public void testRulesAreOnlyFetchedAgainOnceStale() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getMarketInfo()).andReturn(Collections.singletonMap(BTC_USD, BTC_USD_INFO));
+        replay(exchangeAdapter);
+
+        final MarketInfoCache marketInfoCache = new MarketInfoCache();
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+
+        assertSame(BTC_USD_INFO, marketInfoCache.get(BTC_USD));
+        assertNull(marketInfoCache.get(LTC_USD));
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsTheRulesAlreadyLoaded() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getMarketInfo()).andReturn(Collections.singletonMap(BTC_USD, BTC_USD_INFO));
+        expect(exchangeAdapter.getMarketInfo()).andThrow(new ExchangeNetworkException("Connection timed out"));
+        replay(exchangeAdapter);
+
+        // refresh every time it is asked
+        final MarketInfoCache marketInfoCache = new MarketInfoCache(0);
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+
+        final Map<String, MarketInfo> marketInfo = marketInfoCache.getAll();
+        assertEquals(1, marketInfo.size());
+        assertSame(BTC_USD_INFO, marketInfo.get(BTC_USD));
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testOrderIsRoundedToTheMarketsTickAndStepSizes() throws Exception {
+
+        final MarketInfoCache marketInfoCache = loadedCache();
+
+        final OrderRequest buyOrder = marketInfoCache.prepareOrder(
+                new OrderRequest(BTC_USD, OrderType.BUY, new BigDecimal("0.12345678"), new BigDecimal("4000.129")));
+        assertEquals(new BigDecimal("0.123"), buyOrder.getQuantity());
+        assertEquals(new BigDecimal("4000.12"), buyOrder.getPrice());
+
+        final OrderRequest sellOrder = marketInfoCache.prepareOrder(
+                new OrderRequest(BTC_USD, OrderType.SELL, new BigDecimal("0.12345678"), new BigDecimal("4000.121")));
+        assertEquals(new BigDecimal("4000.13"), sellOrder.getPrice());
+    }
+
+    @Test
+    public void testOrderIsLeftAsItIsWhenTheMarketsRulesAreNotKnown() throws Exception {
+
+        final OrderRequest orderRequest =
+                new OrderRequest(LTC_USD, OrderType.BUY, new BigDecimal("0.12345678"), new BigDecimal("50.129"));
+        assertSame(orderRequest, loadedCache().prepareOrder(orderRequest));
+    }
+
+    @Test(expected = OrderRejectedException.class)
+    public void testOrderBelowMinQuantityIsRejected() throws Exception {
+        loadedCache().prepareOrder(
+                new OrderRequest(BTC_USD, OrderType.BUY, new BigDecimal("0.009"), new BigDecimal("4000.12")));
+    }
+
+    @Test(expected = OrderRejectedException.class)
+    public void testOrderBelowMinNotionalIsRejected() throws Exception {
+        loadedCache().prepareOrder(
+                new OrderRequest(BTC_USD, OrderType.SELL, new BigDecimal("0.02"), new BigDecimal("400.12")));
+    }
+
+    private static MarketInfoCache loadedCache() throws Exception {
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getMarketInfo()).andReturn(Collections.singletonMap(BTC_USD, BTC_USD_INFO));
+        replay(exchangeAdapter);
+
+        final MarketInfoCache marketInfoCache = new MarketInfoCache();
+        marketInfoCache.refreshIfStale(exchangeAdapter);
+        return marketInfoCache;
+    }
+
+    private static MarketInfo marketInfo(String marketId, BigDecimal priceTickSize, BigDecimal quantityStepSize,
+                                         BigDecimal minQuantity, BigDecimal minNotional) {
+        return new MarketInfo() {
+            @Override
+            public String getMarketId() {
+                return marketId;
+            }
+
+            @Override
+            public BigDecimal getPriceTickSize() {
+                return priceTickSize;
+            }
+
+            @Override
+            public BigDecimal getQuantityStepSize() {
+                return quantityStepSize;
+            }
+
+            @Override
+            public BigDecimal getMinQuantity() {
+                return minQuantity;
+            }
+
+            @Override
+            public BigDecimal getMinNotional() {
+                return minNotional;
+            }
+        };
+    }
+}
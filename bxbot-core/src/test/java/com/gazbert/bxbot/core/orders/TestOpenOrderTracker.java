@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.core.orders;
+
+import com.gazbert.bxbot.core.events.EngineEvent;
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import com.gazbert.bxbot.core.events.EngineEventType;
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.TradingApi;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Open Order Tracker indexes open orders and detects fills as expected.
+ *
+ * @author gazbert
+ */
+public class TestOpenOrderTracker {
+
+    private static final String BTC_USD = "btc_usd";
+    private static final String LTC_USD = "ltc_usd";
+    private static final String ORDER_ID = "12345";
+    private static final String OTHER_ORDER_ID = "67890";
+
+    private EngineEventBus engineEventBus;
+    private List<EngineEvent> eventsReceived;
+    private OpenOrderTracker openOrderTracker;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        engineEventBus = new EngineEventBus();
+        eventsReceived = new CopyOnWriteArrayList<>();
+        engineEventBus.subscribe(eventsReceived::add);
+        openOrderTracker = new OpenOrderTracker(engineEventBus);
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        engineEventBus.shutdown();
+    }
+
+    @Test
+    public void testMarketIsNotIndexedUntilItsOpenOrdersAreFetched() {
+
+        assertFalse(openOrderTracker.isInUse());
+        assertNull(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+        assertTrue(openOrderTracker.isInUse());
+
+        openOrderTracker.update(BTC_USD, Collections.singletonList(openOrder(ORDER_ID)), System.nanoTime());
+        assertTrue(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+        assertFalse(openOrderTracker.isOpen(BTC_USD, OTHER_ORDER_ID));
+        assertNull(openOrderTracker.isOpen(LTC_USD, ORDER_ID));
+    }
+
+    @Test
+    public void testPlacedOrderMissingFromOpenOrdersIsReportedAsFilledOnce() throws Exception {
+
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), System.nanoTime());
+        openOrderTracker.orderPlaced(BTC_USD, ORDER_ID);
+        assertTrue(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), System.nanoTime());
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), System.nanoTime());
+        assertFalse(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+
+        waitForEvents(2);
+        assertEquals(1, eventsReceived.size());
+        assertEquals(EngineEventType.ORDER_FILLED, eventsReceived.get(0).getType());
+        assertEquals(BTC_USD, eventsReceived.get(0).getMarketId());
+        assertEquals(ORDER_ID, eventsReceived.get(0).getDetails().get("orderId"));
+    }
+
+    @Test
+    public void testOrderPlacedAfterFetchStartedIsKeptOpen() throws Exception {
+
+        final long fetchStartTime = System.nanoTime();
+        openOrderTracker.orderPlaced(BTC_USD, ORDER_ID);
+
+        // fetch started before the order was placed, so it might not be in the open orders yet
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), fetchStartTime);
+        assertTrue(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+
+        waitForEvents(1);
+        assertTrue(eventsReceived.isEmpty());
+    }
+
+    @Test
+    public void testCancelledOrderIsNotReportedAsFilled() throws Exception {
+
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), System.nanoTime());
+        openOrderTracker.orderPlaced(BTC_USD, ORDER_ID);
+        openOrderTracker.orderCancelled(BTC_USD, ORDER_ID);
+        assertFalse(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+
+        openOrderTracker.update(BTC_USD, Collections.emptyList(), System.nanoTime());
+
+        waitForEvents(1);
+        assertTrue(eventsReceived.isEmpty());
+    }
+
+    @Test
+    public void testRefreshFetchesOpenOrdersForAllMarketsInOneCall() throws Exception {
+
+        final Map<String, List<OpenOrder>> openOrdersByMarket = new LinkedHashMap<>();
+        openOrdersByMarket.put(BTC_USD, Collections.singletonList(openOrder(ORDER_ID)));
+        openOrdersByMarket.put(LTC_USD, Collections.singletonList(openOrder(OTHER_ORDER_ID)));
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getYourOpenOrders(Arrays.asList(BTC_USD, LTC_USD))).andReturn(openOrdersByMarket);
+        replay(exchangeAdapter);
+
+        openOrderTracker.refresh(exchangeAdapter, Arrays.asList(BTC_USD, LTC_USD));
+
+        assertTrue(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+        assertFalse(openOrderTracker.isOpen(BTC_USD, OTHER_ORDER_ID));
+        assertTrue(openOrderTracker.isOpen(LTC_USD, OTHER_ORDER_ID));
+
+        verify(exchangeAdapter);
+    }
+
+    @Test
+    public void testFailedRefreshDropsTheIndex() throws Exception {
+
+        openOrderTracker.update(BTC_USD, Collections.singletonList(openOrder(ORDER_ID)), System.nanoTime());
+
+        final TradingApi exchangeAdapter = createMock(TradingApi.class);
+        expect(exchangeAdapter.getYourOpenOrders(Collections.singletonList(BTC_USD)))
+                .andThrow(new ExchangeNetworkException("Connection timed out"));
+        replay(exchangeAdapter);
+
+        openOrderTracker.refresh(exchangeAdapter, Collections.singletonList(BTC_USD));
+        assertNull(openOrderTracker.isOpen(BTC_USD, ORDER_ID));
+
+        verify(exchangeAdapter);
+    }
+
+    private static OpenOrder openOrder(String id) {
+        final OpenOrder openOrder = createMock(OpenOrder.class);
+        expect(openOrder.getId()).andReturn(id).anyTimes();
+        replay(openOrder);
+        return openOrder;
+    }
+
+    private void waitForEvents(int expectedCount) throws Exception {
+        for (int i = 0; i < 20 && eventsReceived.size() < expectedCount; i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.domain.bot;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+/**
+ * Domain object representing the runtime status of a Market the bot is trading on.
+ * <p>
+ * A paused Market is skipped by the Trading Engine until it is resumed. Markets with a higher priority are
+ * executed first in each trade cycle; Markets with the same priority are executed in the order they were loaded.
+ * <p>
+ * The same Market id can be traded on more than 1 exchange, so a Market is identified by its exchange id and Market id.
+ *
+ * @author gazbert
+ */
+public class MarketStatus {
+
+    private String marketId;
+    private String marketName;
+    private String exchangeId;
+    private Boolean paused;
+    private Integer priority;
+
+
+    // required for jackson
+    public MarketStatus() {
+    }
+
+    public MarketStatus(String marketId, String marketName, String exchangeId, Boolean paused, Integer priority) {
+        this.marketId = marketId;
+        this.marketName = marketName;
+        this.exchangeId = exchangeId;
+        this.paused = paused;
+        this.priority = priority;
+    }
+
+    public String getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(String marketId) {
+        this.marketId = marketId;
+    }
+
+    public String getMarketName() {
+        return marketName;
+    }
+
+    public void setMarketName(String marketName) {
+        this.marketName = marketName;
+    }
+
+    public String getExchangeId() {
+        return exchangeId;
+    }
+
+    public void setExchangeId(String exchangeId) {
+        this.exchangeId = exchangeId;
+    }
+
+    /**
+     * Returns the paused flag.
+     *
+     * @return true if paused, false if not, or null if not set - e.g. left out of an update request.
+     */
+    public Boolean getPaused() {
+        return paused;
+    }
+
+    public void setPaused(Boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Returns the priority.
+     *
+     * @return the priority, or null if not set - e.g. left out of an update request.
+     */
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MarketStatus that = (MarketStatus) o;
+        return Objects.equal(marketId, that.marketId)
+                && Objects.equal(exchangeId, that.exchangeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(marketId, exchangeId);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("marketId", marketId)
+                .add("marketName", marketName)
+                .add("exchangeId", exchangeId)
+                .add("paused", paused)
+                .add("priority", priority)
+                .toString();
+    }
+}
@@ -39,6 +39,10 @@ public class EngineConfig {
     private String emergencyStopCurrency;
     private BigDecimal emergencyStopBalance;
     private int tradeCycleInterval;
+    private Integer maxConcurrentStrategies;
+    private Integer minTradeCycleInterval;
+    private Integer maxTradeCycleInterval;
+    private Integer marketDataPrefetchLeadTime;
 
     // required for jackson
     public EngineConfig() {
@@ -94,6 +98,38 @@ public class EngineConfig {
         this.tradeCycleInterval = tradeCycleInterval;
     }
 
+    public Integer getMaxConcurrentStrategies() {
+        return maxConcurrentStrategies;
+    }
+
+    public void setMaxConcurrentStrategies(Integer maxConcurrentStrategies) {
+        this.maxConcurrentStrategies = maxConcurrentStrategies;
+    }
+
+    public Integer getMinTradeCycleInterval() {
+        return minTradeCycleInterval;
+    }
+
+    public void setMinTradeCycleInterval(Integer minTradeCycleInterval) {
+        this.minTradeCycleInterval = minTradeCycleInterval;
+    }
+
+    public Integer getMaxTradeCycleInterval() {
+        return maxTradeCycleInterval;
+    }
+
+    public void setMaxTradeCycleInterval(Integer maxTradeCycleInterval) {
+        this.maxTradeCycleInterval = maxTradeCycleInterval;
+    }
+
+    public Integer getMarketDataPrefetchLeadTime() {
+        return marketDataPrefetchLeadTime;
+    }
+
+    public void setMarketDataPrefetchLeadTime(Integer marketDataPrefetchLeadTime) {
+        this.marketDataPrefetchLeadTime = marketDataPrefetchLeadTime;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -102,6 +138,10 @@ public class EngineConfig {
                 .add("emergencyStopCurrency", emergencyStopCurrency)
                 .add("emergencyStopBalance", emergencyStopBalance)
                 .add("tradeCycleInterval", tradeCycleInterval)
+                .add("maxConcurrentStrategies", maxConcurrentStrategies)
+                .add("minTradeCycleInterval", minTradeCycleInterval)
+                .add("maxTradeCycleInterval", maxTradeCycleInterval)
+                .add("marketDataPrefetchLeadTime", marketDataPrefetchLeadTime)
                 .toString();
     }
 }
@@ -38,6 +38,10 @@ public class NetworkConfig {
     private Integer connectionTimeout;
     private List<Integer> nonFatalErrorCodes;
     private List<String> nonFatalErrorMessages;
+    private Integer maxRetries;
+    private Integer retryBackoff;
+    private Integer callDeadline;
+    private Integer keepAliveInterval;
 
 
     public NetworkConfig() {
@@ -69,12 +73,48 @@ public class NetworkConfig {
         this.nonFatalErrorMessages = nonFatalErrorMessages;
     }
 
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public Integer getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Integer retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    public Integer getCallDeadline() {
+        return callDeadline;
+    }
+
+    public void setCallDeadline(Integer callDeadline) {
+        this.callDeadline = callDeadline;
+    }
+
+    public Integer getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    public void setKeepAliveInterval(Integer keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
                 .add("connectionTimeout", connectionTimeout)
                 .add("nonFatalErrorCodes", nonFatalErrorCodes)
                 .add("nonFatalErrorMessages", nonFatalErrorMessages)
+                .add("maxRetries", maxRetries)
+                .add("retryBackoff", retryBackoff)
+                .add("callDeadline", callDeadline)
+                .add("keepAliveInterval", keepAliveInterval)
                 .toString();
     }
 }
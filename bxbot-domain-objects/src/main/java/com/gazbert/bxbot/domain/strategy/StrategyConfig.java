@@ -40,6 +40,7 @@ public class StrategyConfig {
     private String name;
     private String description;
     private String className;
+    private Integer executionTimeout;
     private Map<String, String> configItems = new HashMap<>();
 
 
@@ -52,6 +53,7 @@ public class StrategyConfig {
         this.name = other.name;
         this.description = other.description;
         this.className = other.className;
+        this.executionTimeout = other.executionTimeout;
         this.configItems = other.configItems;
     }
 
@@ -95,6 +97,14 @@ public class StrategyConfig {
         this.className = className;
     }
 
+    public Integer getExecutionTimeout() {
+        return executionTimeout;
+    }
+
+    public void setExecutionTimeout(Integer executionTimeout) {
+        this.executionTimeout = executionTimeout;
+    }
+
     public Map<String, String> getConfigItems() {
         return configItems;
     }
@@ -123,6 +133,7 @@ public class StrategyConfig {
                 .add("name", name)
                 .add("description", description)
                 .add("className", className)
+                .add("executionTimeout", executionTimeout)
                 .add("configItems", configItems)
                 .toString();
     }
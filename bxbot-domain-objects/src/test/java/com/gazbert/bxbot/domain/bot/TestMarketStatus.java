@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.domain.bot;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests a MarketStatus domain object behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestMarketStatus {
+
+    private static final String MARKET_ID = "btc_usd";
+    private static final String MARKET_NAME = "BTC/USD";
+    private static final String EXCHANGE_ID = "bitstamp";
+    private static final boolean PAUSED = true;
+    private static final Integer PRIORITY = 5;
+
+    @Test
+    public void testInitialisationWorksAsExpected() {
+
+        final MarketStatus marketStatus = new MarketStatus(MARKET_ID, MARKET_NAME, EXCHANGE_ID, PAUSED, PRIORITY);
+
+        assertEquals(MARKET_ID, marketStatus.getMarketId());
+        assertEquals(MARKET_NAME, marketStatus.getMarketName());
+        assertEquals(EXCHANGE_ID, marketStatus.getExchangeId());
+        assertEquals(PAUSED, marketStatus.getPaused());
+        assertEquals(PRIORITY, marketStatus.getPriority());
+    }
+
+    @Test
+    public void testSettersWorkAsExpected() {
+
+        final MarketStatus marketStatus = new MarketStatus();
+        assertEquals(null, marketStatus.getMarketId());
+        assertEquals(null, marketStatus.getMarketName());
+        assertEquals(null, marketStatus.getExchangeId());
+        assertNull(marketStatus.getPaused());
+        assertNull(marketStatus.getPriority());
+
+        marketStatus.setMarketId(MARKET_ID);
+        assertEquals(MARKET_ID, marketStatus.getMarketId());
+
+        marketStatus.setMarketName(MARKET_NAME);
+        assertEquals(MARKET_NAME, marketStatus.getMarketName());
+
+        marketStatus.setExchangeId(EXCHANGE_ID);
+        assertEquals(EXCHANGE_ID, marketStatus.getExchangeId());
+
+        marketStatus.setPaused(PAUSED);
+        assertTrue(marketStatus.getPaused());
+
+        marketStatus.setPriority(PRIORITY);
+        assertEquals(PRIORITY, marketStatus.getPriority());
+    }
+}
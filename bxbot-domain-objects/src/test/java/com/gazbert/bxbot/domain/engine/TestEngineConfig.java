@@ -41,6 +41,10 @@ public class TestEngineConfig {
     private static final String EMERGENCY_STOP_CURRENCY = "BTC";
     private static final BigDecimal EMERGENCY_STOP_BALANCE = new BigDecimal("1.5");
     private static final int TRADE_CYCLE_INTERVAL = 30;
+    private static final Integer MAX_CONCURRENT_STRATEGIES = 8;
+    private static final Integer MIN_TRADE_CYCLE_INTERVAL = 5;
+    private static final Integer MAX_TRADE_CYCLE_INTERVAL = 120;
+    private static final Integer MARKET_DATA_PREFETCH_LEAD_TIME = 500;
 
     @Test
     public void testInitialisationWorksAsExpected() {
@@ -64,6 +68,10 @@ public class TestEngineConfig {
         assertEquals(null, engineConfig.getEmergencyStopCurrency());
         assertEquals(null, engineConfig.getEmergencyStopBalance());
         assertEquals(0, engineConfig.getTradeCycleInterval());
+        assertEquals(null, engineConfig.getMaxConcurrentStrategies());
+        assertEquals(null, engineConfig.getMinTradeCycleInterval());
+        assertEquals(null, engineConfig.getMaxTradeCycleInterval());
+        assertEquals(null, engineConfig.getMarketDataPrefetchLeadTime());
 
         engineConfig.setBotId(BOT_ID);
         assertEquals(BOT_ID, engineConfig.getBotId());
@@ -79,5 +87,17 @@ public class TestEngineConfig {
 
         engineConfig.setTradeCycleInterval(TRADE_CYCLE_INTERVAL);
         assertEquals(TRADE_CYCLE_INTERVAL, engineConfig.getTradeCycleInterval());
+
+        engineConfig.setMaxConcurrentStrategies(MAX_CONCURRENT_STRATEGIES);
+        assertEquals(MAX_CONCURRENT_STRATEGIES, engineConfig.getMaxConcurrentStrategies());
+
+        engineConfig.setMinTradeCycleInterval(MIN_TRADE_CYCLE_INTERVAL);
+        assertEquals(MIN_TRADE_CYCLE_INTERVAL, engineConfig.getMinTradeCycleInterval());
+
+        engineConfig.setMaxTradeCycleInterval(MAX_TRADE_CYCLE_INTERVAL);
+        assertEquals(MAX_TRADE_CYCLE_INTERVAL, engineConfig.getMaxTradeCycleInterval());
+
+        engineConfig.setMarketDataPrefetchLeadTime(MARKET_DATA_PREFETCH_LEAD_TIME);
+        assertEquals(MARKET_DATA_PREFETCH_LEAD_TIME, engineConfig.getMarketDataPrefetchLeadTime());
     }
 }
@@ -39,6 +39,10 @@ import static org.junit.Assert.assertTrue;
 public class TestNetworkConfig {
 
     private static final Integer CONNECTION_TIMEOUT = 30;
+    private static final Integer MAX_RETRIES = 2;
+    private static final Integer RETRY_BACKOFF = 250;
+    private static final Integer CALL_DEADLINE = 10000;
+    private static final Integer KEEP_ALIVE_INTERVAL = 4000;
     private static final List<Integer> NON_FATAL_ERROR_CODES = Arrays.asList(502, 503, 504);
     private static final List<String> NON_FATAL_ERROR_MESSAGES = Arrays.asList(
             "Connection refused", "Connection reset", "Remote host closed connection during handshake");
@@ -50,6 +54,10 @@ public class TestNetworkConfig {
         assertEquals(null, networkConfig.getConnectionTimeout());
         assertTrue(networkConfig.getNonFatalErrorCodes().isEmpty());
         assertTrue(networkConfig.getNonFatalErrorMessages().isEmpty());
+        assertEquals(null, networkConfig.getMaxRetries());
+        assertEquals(null, networkConfig.getRetryBackoff());
+        assertEquals(null, networkConfig.getCallDeadline());
+        assertEquals(null, networkConfig.getKeepAliveInterval());
     }
 
     @Test
@@ -65,5 +73,17 @@ public class TestNetworkConfig {
 
         networkConfig.setNonFatalErrorMessages(NON_FATAL_ERROR_MESSAGES);
         assertEquals(NON_FATAL_ERROR_MESSAGES, networkConfig.getNonFatalErrorMessages());
+
+        networkConfig.setMaxRetries(MAX_RETRIES);
+        assertEquals(MAX_RETRIES, networkConfig.getMaxRetries());
+
+        networkConfig.setRetryBackoff(RETRY_BACKOFF);
+        assertEquals(RETRY_BACKOFF, networkConfig.getRetryBackoff());
+
+        networkConfig.setCallDeadline(CALL_DEADLINE);
+        assertEquals(CALL_DEADLINE, networkConfig.getCallDeadline());
+
+        networkConfig.setKeepAliveInterval(KEEP_ALIVE_INTERVAL);
+        assertEquals(KEEP_ALIVE_INTERVAL, networkConfig.getKeepAliveInterval());
     }
 }
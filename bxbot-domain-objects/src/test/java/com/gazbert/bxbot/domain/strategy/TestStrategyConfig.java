@@ -42,6 +42,7 @@ public class TestStrategyConfig {
     private static final String LABEL = "MACD Long Position Algo";
     private static final String DESCRIPTION = "Uses MACD as indicator and takes long position in base currency.";
     private static final String CLASSNAME = "com.gazbert.nova.algos.MacdLongBase";
+    private static final Integer EXECUTION_TIMEOUT = 30;
     private static final Map<String, String> CONFIG_ITEMS = new HashMap<>();
 
 
@@ -64,6 +65,7 @@ public class TestStrategyConfig {
         assertEquals(null, strategyConfig.getName());
         assertEquals(null, strategyConfig.getDescription());
         assertEquals(null, strategyConfig.getClassName());
+        assertEquals(null, strategyConfig.getExecutionTimeout());
         assertTrue(strategyConfig.getConfigItems().isEmpty());
 
         strategyConfig.setId(ID);
@@ -78,6 +80,9 @@ public class TestStrategyConfig {
         strategyConfig.setClassName(CLASSNAME);
         assertEquals(CLASSNAME, strategyConfig.getClassName());
 
+        strategyConfig.setExecutionTimeout(EXECUTION_TIMEOUT);
+        assertEquals(EXECUTION_TIMEOUT, strategyConfig.getExecutionTimeout());
+
         strategyConfig.setConfigItems(CONFIG_ITEMS);
         assertEquals(CONFIG_ITEMS, strategyConfig.getConfigItems());
     }
@@ -85,7 +90,9 @@ public class TestStrategyConfig {
     @Test
     public void testCloningWorksAsExpected() {
         final StrategyConfig strategyConfig = new StrategyConfig(ID, LABEL, DESCRIPTION, CLASSNAME, CONFIG_ITEMS);
+        strategyConfig.setExecutionTimeout(EXECUTION_TIMEOUT);
         final StrategyConfig clonedStrategyConfig = new StrategyConfig(strategyConfig);
         assertEquals(clonedStrategyConfig, strategyConfig);
+        assertEquals(EXECUTION_TIMEOUT, clonedStrategyConfig.getExecutionTimeout());
     }
 }
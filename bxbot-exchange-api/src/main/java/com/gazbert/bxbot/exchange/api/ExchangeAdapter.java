@@ -45,4 +45,16 @@ public interface ExchangeAdapter extends TradingApi {
      * @param config configuration for the Exchange Adapter.
      */
     void init(ExchangeConfig config);
+
+    /**
+     * Called once by the Trading Engine when it starts up, with the listener the adapter should tell
+     * about each request it sends to the exchange. Adapters that do not report their requests can leave it as it is;
+     * the exchange is then polled at the trade cycle interval.
+     *
+     * @param listener the listener to tell about each request.
+     * @since 1.2
+     */
+    default void setExchangeRequestListener(ExchangeRequestListener listener) {
+        // requests are not reported
+    }
 }
@@ -31,6 +31,17 @@ package com.gazbert.bxbot.exchange.api;
  */
 public interface ExchangeConfig {
 
+    /**
+     * Returns the id of the exchange. It tells apart exchanges that use the same Exchange Adapter, e.g. two accounts
+     * on the same exchange.
+     *
+     * @return the exchange id if present, null otherwise.
+     * @since 1.2
+     */
+    default String getId() {
+        return null;
+    }
+
     /**
      * Returns the name of the exchange.
      *
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchange.api;
+
+/**
+ * Told about each request an Exchange Adapter sends to the exchange - each attempt, if a request is retried. The
+ * Trading Engine registers one to adapt how often it polls the exchange to how the exchange is coping.
+ * <p>
+ * Implementations must be thread safe, and quick: they are called on the thread that sent the request.
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public interface ExchangeRequestListener {
+
+    /**
+     * Called when the exchange answered a request.
+     *
+     * @param latencyNanos how long the request took, in nanos.
+     */
+    void requestSucceeded(long latencyNanos);
+
+    /**
+     * Called when a request failed with a network error, i.e. the adapter threw an
+     * {@link com.gazbert.bxbot.trading.api.ExchangeNetworkException} for it.
+     *
+     * @param httpStatusCode the HTTP status code the exchange answered with, or null if there was no answer, e.g.
+     *                       the request timed out.
+     */
+    void requestFailed(Integer httpStatusCode);
+}
@@ -53,4 +53,47 @@ public interface NetworkConfig {
      * @return the connection timeout value if present, null otherwise.
      */
     Integer getConnectionTimeout();
+
+    /**
+     * Fetches (optional) maximum number of times an idempotent request is retried after a network error.
+     *
+     * @return the maximum number of retries if present, null otherwise.
+     * @since 1.2
+     */
+    default Integer getMaxRetries() {
+        return null;
+    }
+
+    /**
+     * Fetches (optional) base delay in millis to back off for before retrying a request. It is doubled for each
+     * retry, and a random amount of it is used, so retries from many bots do not all arrive together.
+     *
+     * @return the base retry backoff in millis if present, null otherwise.
+     * @since 1.2
+     */
+    default Integer getRetryBackoff() {
+        return null;
+    }
+
+    /**
+     * Fetches (optional) deadline in millis for a request to the exchange, including all its retries.
+     *
+     * @return the request deadline in millis if present, null otherwise.
+     * @since 1.2
+     */
+    default Integer getCallDeadline() {
+        return null;
+    }
+
+    /**
+     * Fetches (optional) interval in millis for keeping connections to the exchange open between trade cycles. If set,
+     * the adapter opens its connections when it is initialised, and sends a heartbeat to the exchange when a
+     * connection has been idle this long.
+     *
+     * @return the keep-alive interval in millis if present, null otherwise.
+     * @since 1.2
+     */
+    default Integer getKeepAliveInterval() {
+        return null;
+    }
 }
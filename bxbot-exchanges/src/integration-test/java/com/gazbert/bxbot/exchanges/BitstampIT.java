@@ -81,10 +81,15 @@ public class BitstampIT {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         exchangeConfig = createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
 
         // no optional config for this adapter
     }
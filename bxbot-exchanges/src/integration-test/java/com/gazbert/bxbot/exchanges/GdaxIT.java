@@ -79,6 +79,10 @@ public class GdaxIT {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.25");
@@ -87,6 +91,7 @@ public class GdaxIT {
         exchangeConfig = createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
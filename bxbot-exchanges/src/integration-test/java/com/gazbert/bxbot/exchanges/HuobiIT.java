@@ -84,6 +84,10 @@ public class HuobiIT {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.25");
@@ -93,6 +97,7 @@ public class HuobiIT {
         exchangeConfig = createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -24,18 +24,48 @@ package com.gazbert.bxbot.exchanges;
 
 import com.gazbert.bxbot.exchange.api.AuthenticationConfig;
 import com.gazbert.bxbot.exchange.api.ExchangeConfig;
+import com.gazbert.bxbot.exchange.api.ExchangeRequestListener;
 import com.gazbert.bxbot.exchange.api.NetworkConfig;
 import com.gazbert.bxbot.exchange.api.OptionalConfig;
 import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.Fill;
+import com.gazbert.bxbot.trading.api.OpenOrder;
+import com.gazbert.bxbot.trading.api.OrderResult;
+import com.gazbert.bxbot.trading.api.OrderState;
 import com.gazbert.bxbot.trading.api.TradingApiException;
 import com.google.common.base.MoreObjects;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.*;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
 import java.net.*;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * Base class for shared Exchange Adapter functionality.
@@ -97,11 +127,144 @@ abstract class AbstractExchangeAdapter {
      */
     private static final String NON_FATAL_ERROR_MESSAGES_PROPERTY_NAME = "non-fatal-error-messages";
 
+    /**
+     * Name of max-retries property in config file.
+     */
+    private static final String MAX_RETRIES_PROPERTY_NAME = "max-retries";
+
+    /**
+     * Name of retry-backoff property in config file.
+     */
+    private static final String RETRY_BACKOFF_PROPERTY_NAME = "retry-backoff";
+
+    /**
+     * Name of call-deadline property in config file.
+     */
+    private static final String CALL_DEADLINE_PROPERTY_NAME = "call-deadline";
+
+    /**
+     * Name of keep-alive-interval property in config file.
+     */
+    private static final String KEEP_ALIVE_INTERVAL_PROPERTY_NAME = "keep-alive-interval";
+
     /**
      * Exchange Adapter config file location.
      */
     private static final String EXCHANGE_CONFIG_FILE = "config/exchange.xml";
 
+    /**
+     * Timer metric for the latency of each request sent to the exchange.
+     */
+    private static final String HTTP_REQUESTS_METRIC = "bxbot.exchange.http.requests";
+
+    /**
+     * Distribution summary metric for the size of each response received from the exchange.
+     */
+    private static final String HTTP_RESPONSE_SIZE_METRIC = "bxbot.exchange.http.response.size";
+
+    /**
+     * Counter metric for network errors that are reported to the engine as {@link ExchangeNetworkException}.
+     */
+    private static final String NETWORK_ERRORS_METRIC = "bxbot.exchange.network.errors";
+
+    /**
+     * Counter metric for requests retried after a network error.
+     */
+    private static final String HTTP_RETRIES_METRIC = "bxbot.exchange.http.retries";
+
+    /**
+     * HTTP status codes an exchange answers with when it is throttling us or overloaded: 429 Too Many Requests and
+     * 503 Service Unavailable. Retrying them straight away only adds to the load, so they are only retried after the
+     * time the exchange asks for in a Retry-After header.
+     */
+    private static final Set<Integer> THROTTLING_STATUS_CODES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList(429, HttpURLConnection.HTTP_UNAVAILABLE)));
+
+    /**
+     * Timer metric for parsing exchange JSON responses.
+     */
+    private static final String JSON_PARSE_METRIC = "bxbot.exchange.json.parse";
+
+    /**
+     * Counter metric for heartbeats sent to keep idle connections to the exchange open.
+     */
+    private static final String HEARTBEATS_METRIC = "bxbot.exchange.heartbeats";
+
+    /**
+     * Metric outcome tag values.
+     */
+    private static final String SUCCESS_OUTCOME = "success";
+    private static final String NETWORK_ERROR_OUTCOME = "network-error";
+    private static final String ERROR_OUTCOME = "error";
+
+    /**
+     * Replaces order/account ids in URL paths so they do not blow up the number of metric time series.
+     */
+    private static final String ID_PATH_SEGMENT = "{id}";
+
+    /**
+     * The max number of order calls submitted to an exchange at the same time by
+     * {@link #submitConcurrently(List, OrderCall)}.
+     */
+    private static final int MAX_CONCURRENT_ORDER_CALLS = 8;
+
+    /**
+     * Shared by all the adapters for submitting batches of orders concurrently. Its threads are daemons and time out
+     * when idle; when they are all busy, the calling thread submits the order itself.
+     */
+    private static final ExecutorService ORDER_CALL_EXECUTOR = new ThreadPoolExecutor(
+            0, MAX_CONCURRENT_ORDER_CALLS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("bxbot-order-call-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * The max number of calls made to an exchange at the same time by a {@link CompositeCall}, on top of the calling
+     * thread.
+     */
+    private static final int MAX_CONCURRENT_COMPOSITE_CALLS = 8;
+
+    /**
+     * Shared by all the adapters for making the calls of a {@link CompositeCall} in parallel. Its threads are daemons
+     * and time out when idle; when they are all busy, the calling thread makes the call itself.
+     */
+    private static final ExecutorService COMPOSITE_CALL_EXECUTOR = new ThreadPoolExecutor(
+            0, MAX_CONCURRENT_COMPOSITE_CALLS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("bxbot-composite-call-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    /**
+     * Shared by all the adapters for sending heartbeats to keep idle connections open. Its thread is a daemon.
+     */
+    private static final ScheduledExecutorService HEARTBEAT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("bxbot-heartbeat-%d").setDaemon(true).build());
+
+    /**
+     * Shared by all the adapters for bootstrapping their sessions, and refreshing their session values, in the
+     * background. Its thread is a daemon.
+     */
+    private static final ScheduledExecutorService SESSION_REFRESH_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("bxbot-session-refresh-%d").setDaemon(true).build());
+
+    /**
+     * How often in MINUTES the session values are refreshed in the background.
+     */
+    private static final long SESSION_REFRESH_INTERVAL = 60;
+
+    /**
+     * Used until the Trading Engine registers its listener.
+     */
+    private static final ExchangeRequestListener NO_OP_REQUEST_LISTENER = new ExchangeRequestListener() {
+        @Override
+        public void requestSucceeded(long latencyNanos) {
+            // nobody listening
+        }
+
+        @Override
+        public void requestFailed(Integer httpStatusCode) {
+            // nobody listening
+        }
+    };
+
     /**
      * The connection timeout in SECONDS for terminating hung connections to the exchange.
      */
@@ -119,11 +282,66 @@ abstract class AbstractExchangeAdapter {
      */
     private final Set<String> nonFatalNetworkErrorMessages;
 
+    /**
+     * The max number of times an idempotent request is retried after an {@link ExchangeNetworkException}.
+     */
+    private int maxRetries;
+
+    /**
+     * The base delay in MILLIS to back off for before retrying a request. It is doubled for each retry.
+     */
+    private int retryBackoff;
+
+    /**
+     * The deadline in MILLIS for a request, including all its retries. If not set, it is the connection timeout for
+     * each attempt the request is allowed, i.e. max-retries + 1 of them.
+     */
+    private Integer callDeadline;
+
+    /**
+     * The interval in MILLIS after which an idle connection to the exchange is sent a heartbeat. If not set,
+     * connections are not warmed up or kept open between trade cycles.
+     */
+    private Integer keepAliveInterval;
+
+    /**
+     * The System.nanoTime() each of the exchange's hosts was last sent a request at, keyed by scheme, host, and port.
+     */
+    private final Map<String, Long> lastRequestTimes = new ConcurrentHashMap<>();
+
+    /**
+     * The heartbeats scheduled by {@link #keepConnectionsWarm(String...)}.
+     */
+    private final List<ScheduledFuture<?>> heartbeats = new CopyOnWriteArrayList<>();
+
+    /**
+     * Resolves the account-level values declared by {@link #declareSessionValue(String, ExchangeCall)}.
+     */
+    private final SessionBootstrap sessionBootstrap =
+            new SessionBootstrap(COMPOSITE_CALL_EXECUTOR, SESSION_REFRESH_EXECUTOR, SESSION_REFRESH_INTERVAL,
+                    TimeUnit.MINUTES);
+
     /**
      * Enforce specific format setting of decimal numbers.
      */
     private DecimalFormatSymbols decimalFormatSymbols;
 
+    /**
+     * Estimates the exchange's time from the Date header of its responses.
+     */
+    private final ExchangeClock exchangeClock = new ExchangeClock();
+
+    /*
+     * Held by a nonce-signed request from taking its nonce until it has been sent - not while it waits for the
+     * response. Fair, so requests are sent in the order they asked for it.
+     */
+    private final ReentrantLock nonceLock = new ReentrantLock(true);
+
+    /**
+     * Told about each attempt at a request to the exchange.
+     */
+    private volatile ExchangeRequestListener exchangeRequestListener = NO_OP_REQUEST_LISTENER;
+
 
     /**
      * Constructor sets some sensible defaults for the network config
@@ -131,6 +349,8 @@ abstract class AbstractExchangeAdapter {
      */
     AbstractExchangeAdapter() {
         connectionTimeout = 30;
+        maxRetries = 2;
+        retryBackoff = 250;
         nonFatalNetworkErrorCodes = new HashSet<>();
         nonFatalNetworkErrorMessages = new HashSet<>();
 
@@ -139,8 +359,30 @@ abstract class AbstractExchangeAdapter {
         decimalFormatSymbols.setDecimalSeparator('.');
     }
 
+    /**
+     * Registers the listener told about each request. Each attempt made by
+     * {@link #sendNetworkRequest(URL, String, String, Map)} is reported to it; heartbeats are not.
+     *
+     * @param listener the listener to tell about each request.
+     */
+    public void setExchangeRequestListener(ExchangeRequestListener listener) {
+        exchangeRequestListener = listener;
+    }
+
     /**
      * Makes a request to the Exchange.
+     * <p>
+     * Idempotent requests - see {@link #isIdempotent(String, Map)} - that fail with an {@link ExchangeNetworkException}
+     * are retried up to max-retries times. Before each retry, it backs off for a random time up to the retry-backoff,
+     * doubled for each retry, so a flaky exchange is not hit by every bot at once. All the attempts must fit in the
+     * call-deadline: the time left is shared between the attempts still allowed, so a hung first attempt cannot use it
+     * all up, and it gives up rather than back off past the deadline.
+     * <p>
+     * A request the exchange throttled, i.e. answered with a 429 or 503, is only retried if the response has a
+     * Retry-After header, and it then waits that long instead.
+     * <p>
+     * Non-idempotent requests, e.g. placing an order, are never retried: the exchange might have acted on the first
+     * one even though the response was lost.
      *
      * @param url            the URL to invoke.
      * @param postData       optional post data to send. This can be null.
@@ -155,12 +397,90 @@ abstract class AbstractExchangeAdapter {
     ExchangeHttpResponse sendNetworkRequest(URL url, String httpMethod, String postData, Map<String, String> requestHeaders)
             throws TradingApiException, ExchangeNetworkException {
 
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(
+                callDeadline != null ? callDeadline : connectionTimeout * 1000L * (maxRetries + 1));
+        final boolean retryable = maxRetries > 0 && isIdempotent(httpMethod, requestHeaders);
+
+        int retries = 0;
+        while (true) {
+            final long timeLeftInMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            final int attemptsLeft = retryable ? maxRetries - retries + 1 : 1;
+            final int timeoutInMillis = (int) Math.max(1,
+                    Math.min(connectionTimeout * 1000L, timeLeftInMillis / attemptsLeft));
+            final Attempt attempt = new Attempt();
+            try {
+                return sendNetworkRequestOnce(url, httpMethod, postData, requestHeaders, timeoutInMillis, attempt);
+
+            } catch (ExchangeNetworkException e) {
+
+                if (!retryable || retries == maxRetries) {
+                    throw e;
+                }
+
+                final long backoffInMillis;
+                if (attempt.isThrottled()) {
+                    // The exchange decides when we can come back, if at all
+                    backoffInMillis = attempt.retryAfterMillis;
+                    if (backoffInMillis < 0) {
+                        throw e;
+                    }
+                } else {
+                    // Full jitter: a random backoff up to the (exponentially growing) cap
+                    final long backoffCapInMillis = (long) retryBackoff << Math.min(retries, 20);
+                    backoffInMillis = ThreadLocalRandom.current().nextLong(backoffCapInMillis + 1);
+                }
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffInMillis) >= deadline) {
+                    throw e;
+                }
+
+                retries++;
+                Metrics.counter(HTTP_RETRIES_METRIC, "adapter", getClass().getSimpleName(), "endpoint",
+                        toEndpointTag(url)).increment();
+                LOG.warn("Retry {} of {} for {} in {}ms after network error: {}",
+                        retries, maxRetries, toEndpointTag(url), backoffInMillis, e.getMessage());
+                try {
+                    Thread.sleep(backoffInMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decides if a request can safely be sent again after a network error. Only GET requests are retried by default:
+     * the exchange APIs use them for fetching market data and account info, which can be fetched again without side
+     * effects. Adapters that cannot replay a GET, e.g. because it carries a single-use nonce, should override this.
+     *
+     * @param httpMethod     the HTTP method, e.g. GET, POST, DELETE
+     * @param requestHeaders the request headers. This can be null.
+     * @return true if the request can be retried, false otherwise.
+     */
+    boolean isIdempotent(String httpMethod, Map<String, String> requestHeaders) {
+        return "GET".equalsIgnoreCase(httpMethod);
+    }
+
+    /*
+     * Makes a single attempt at a request to the Exchange.
+     */
+    private ExchangeHttpResponse sendNetworkRequestOnce(URL url, String httpMethod, String postData,
+                                                        Map<String, String> requestHeaders, int timeoutInMillis,
+                                                        Attempt attempt)
+            throws TradingApiException, ExchangeNetworkException {
+
         HttpURLConnection exchangeConnection = null;
         final StringBuilder exchangeResponse = new StringBuilder();
 
+        final String endpoint = toEndpointTag(url);
+        final long requestStartTime = System.nanoTime();
+        final long requestSentTime = System.currentTimeMillis();
+        lastRequestTimes.put(toConnectionKey(url), requestStartTime);
+        String outcome = ERROR_OUTCOME;
+
         try {
 
-            LOG.debug(() -> "Using following URL for API call: " + url);
+            LOG.debug("Using following URL for API call: {}", url);
 
             exchangeConnection = (HttpURLConnection) url.openConnection();
             exchangeConnection.setUseCaches(false);
@@ -174,25 +494,33 @@ abstract class AbstractExchangeAdapter {
             if (requestHeaders != null) {
                 for (final Map.Entry<String, String> requestHeader : requestHeaders.entrySet()) {
                     exchangeConnection.setRequestProperty(requestHeader.getKey(), requestHeader.getValue());
-                    LOG.debug(() -> "Setting following request header: " + requestHeader);
+                    LOG.debug("Setting following request header: {}", requestHeader);
                 }
             }
 
             // Add a timeout so we don't get blocked indefinitely; timeout on URLConnection is in millis.
-            final int timeoutInMillis = connectionTimeout * 1000;
             exchangeConnection.setConnectTimeout(timeoutInMillis);
             exchangeConnection.setReadTimeout(timeoutInMillis);
 
             if (httpMethod.equalsIgnoreCase("POST") && postData != null) {
-                LOG.debug(() -> "Doing POST with request body: " + postData);
-                final OutputStreamWriter outputPostStream = new OutputStreamWriter(exchangeConnection.getOutputStream(), "UTF-8");
-                outputPostStream.write(postData);
+                LOG.debug("Doing POST with request body: {}", postData);
+                final byte[] postBody = postData.getBytes("UTF-8");
+                if (nonceLock.isHeldByCurrentThread()) {
+                    // Stream the body, so the request has been sent when it is closed and the next nonce can go
+                    exchangeConnection.setFixedLengthStreamingMode(postBody.length);
+                }
+                final OutputStream outputPostStream = exchangeConnection.getOutputStream();
+                outputPostStream.write(postBody);
                 outputPostStream.close();
+                releaseNonceLock();
             }
 
             // Grab the response - we just block here as per Connection API
+            final CountingInputStream countingInputStream = new CountingInputStream(exchangeConnection.getInputStream());
+            releaseNonceLock();
+            sampleExchangeClock(exchangeConnection, requestSentTime);
             final BufferedReader responseInputStream = new BufferedReader(new InputStreamReader(
-                    exchangeConnection.getInputStream(), "UTF-8"));
+                    countingInputStream, "UTF-8"));
 
             // Read the JSON response lines into our response buffer
             String responseLine;
@@ -201,6 +529,13 @@ abstract class AbstractExchangeAdapter {
             }
             responseInputStream.close();
 
+            DistributionSummary.builder(HTTP_RESPONSE_SIZE_METRIC)
+                    .baseUnit("bytes")
+                    .tags("adapter", getClass().getSimpleName(), "endpoint", endpoint)
+                    .register(Metrics.globalRegistry)
+                    .record(countingInputStream.getCount());
+
+            outcome = SUCCESS_OUTCOME;
             return new ExchangeHttpResponse(exchangeConnection.getResponseCode(), exchangeConnection.getResponseMessage(),
                     exchangeResponse.toString());
 
@@ -210,6 +545,8 @@ abstract class AbstractExchangeAdapter {
             throw new TradingApiException(errorMsg, e);
 
         } catch (SocketTimeoutException e) {
+            outcome = NETWORK_ERROR_OUTCOME;
+            countNetworkError(endpoint, "socket-timeout");
             final String errorMsg = IO_SOCKET_TIMEOUT_ERROR_MSG;
             LOG.error(errorMsg, e);
             throw new ExchangeNetworkException(errorMsg, e);
@@ -217,6 +554,8 @@ abstract class AbstractExchangeAdapter {
         } catch (FileNotFoundException | UnknownHostException e) {
             // Huobi started throwing FileNotFoundException as of 8 Nov 2015 :-/
             // EC2 started throwing UnknownHostException for BTC-e, GDAX, as of 14 July 2016 :-/
+            outcome = NETWORK_ERROR_OUTCOME;
+            countNetworkError(endpoint, "unreachable");
             final String errorMsg = "Failed to connect to Exchange. It's dead Jim!";
             LOG.error(errorMsg, e);
             throw new ExchangeNetworkException(errorMsg, e);
@@ -228,12 +567,18 @@ abstract class AbstractExchangeAdapter {
 
                 if (e.getMessage() != null && nonFatalNetworkErrorMessages.contains(e.getMessage())) {
 
+                    outcome = NETWORK_ERROR_OUTCOME;
+                    countNetworkError(endpoint, "non-fatal-message");
                     final String errorMsg = "Failed to connect to Exchange. SSL Connection was refused or reset by the server.";
                     LOG.error(errorMsg, e);
                     throw new ExchangeNetworkException(errorMsg, e);
 
                 } else if (exchangeConnection != null && nonFatalNetworkErrorCodes.contains(exchangeConnection.getResponseCode())) {
 
+                    outcome = NETWORK_ERROR_OUTCOME;
+                    attempt.failedStatusCode = exchangeConnection.getResponseCode();
+                    attempt.retryAfterMillis = getRetryAfterMillis(exchangeConnection);
+                    countNetworkError(endpoint, String.valueOf(exchangeConnection.getResponseCode()));
                     final String errorMsg = IO_5XX_TIMEOUT_ERROR_MSG;
                     LOG.error(errorMsg, e);
                     throw new ExchangeNetworkException(errorMsg, e);
@@ -265,14 +610,124 @@ abstract class AbstractExchangeAdapter {
                 throw new TradingApiException(errorMsg, e1);
             }
         } finally {
-            if (exchangeConnection != null) {
+            // A failed request is not retried while holding up the next nonce
+            releaseNonceLock();
+
+            // A response that was read to the end leaves the connection in the JDK's pool for the next request to
+            // reuse; after an error it is closed, in case it is broken.
+            if (exchangeConnection != null && !SUCCESS_OUTCOME.equals(outcome)) {
                 exchangeConnection.disconnect();
             }
+
+            final long latencyNanos = System.nanoTime() - requestStartTime;
+            Timer.builder(HTTP_REQUESTS_METRIC)
+                    .tags("adapter", getClass().getSimpleName(), "method", httpMethod, "endpoint", endpoint,
+                            "outcome", outcome)
+                    .register(Metrics.globalRegistry)
+                    .record(latencyNanos, TimeUnit.NANOSECONDS);
+
+            if (SUCCESS_OUTCOME.equals(outcome)) {
+                exchangeRequestListener.requestSucceeded(latencyNanos);
+            } else if (NETWORK_ERROR_OUTCOME.equals(outcome)) {
+                exchangeRequestListener.requestFailed(attempt.failedStatusCode);
+            }
+        }
+    }
+
+    /**
+     * Returns the exchange's current time, estimated from the Date header of its responses. Use it instead of
+     * System.currentTimeMillis() for request timestamps, so they are not rejected when our clock drifts.
+     *
+     * @return the exchange's time in millis since the epoch.
+     */
+    long currentTimeMillis() {
+        return exchangeClock.currentTimeMillis();
+    }
+
+    /**
+     * Returns the next nonce for an authenticated request. It is the exchange's current time in millis, or 1 more
+     * than the last nonce if that is later, so nonces keep increasing even when requests are sent faster than 1 a
+     * milli, and across restarts.
+     *
+     * Only call it from a request sent with {@link #sendInNonceOrder(ExchangeCall)}, else the request can reach the
+     * exchange after one with a later nonce.
+     *
+     * @param nonce the adapter's last nonce; it is updated to the one returned.
+     * @return the next nonce.
+     */
+    long nextNonce(AtomicLong nonce) {
+        final long exchangeTime = currentTimeMillis();
+        return nonce.updateAndGet(lastNonce -> Math.max(lastNonce + 1, exchangeTime));
+    }
+
+    /**
+     * Sends an authenticated request that is signed with a nonce. Exchanges reject a nonce lower than the last one they
+     * have seen, and requests sent at the same time can reach them in any order - so these requests are sent 1 at a
+     * time, in the order their nonces are taken. The request takes its nonce and is sent inside the given call.
+     * Public requests, and requests to exchanges that sign with a timestamp instead, are not held up.
+     * <p>
+     * Only taking the nonce, signing and sending the request are done 1 at a time: the next request can be sent as
+     * soon as this one has been written to the exchange, while this one is still waiting for its response. A request
+     * with no body is written when its response is asked for, so it is held until the response headers arrive. 2
+     * requests sent on different connections a moment apart can still, rarely, reach the exchange out of order. A
+     * request that cannot be sent within the connection timeout, because the ones before it are slow to send, fails
+     * with an {@link ExchangeNetworkException}.
+     *
+     * @param request the call that takes the nonce, signs the request and sends it.
+     * @return the response from the exchange.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange, or the request
+     *                                  could not be sent in time.
+     * @throws TradingApiException      if the request failed for any other reason.
+     */
+    ExchangeHttpResponse sendInNonceOrder(ExchangeCall<ExchangeHttpResponse> request)
+            throws ExchangeNetworkException, TradingApiException {
+        try {
+            if (!nonceLock.tryLock(connectionTimeout, TimeUnit.SECONDS)) {
+                final String errorMsg = "Timed out after " + connectionTimeout + "s waiting to send a nonce-signed "
+                        + "request to the exchange.";
+                LOG.error(errorMsg);
+                throw new ExchangeNetworkException(errorMsg);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeNetworkException("Interrupted waiting to send a nonce-signed request to the exchange.", e);
+        }
+        try {
+            return request.call();
+        } finally {
+            releaseNonceLock();
         }
     }
 
+    /**
+     * Parses an exchange JSON response and records how long it took.
+     *
+     * @param gson     the adapter's Gson instance.
+     * @param json     the JSON to parse.
+     * @param classOfT the class to parse the JSON into.
+     * @param <T>      the type to parse the JSON into.
+     * @return the parsed object.
+     */
+    <T> T fromJson(Gson gson, String json, Class<T> classOfT) {
+        return timeJsonParse(classOfT.getSimpleName(), () -> gson.fromJson(json, classOfT));
+    }
+
+    /**
+     * Parses an exchange JSON response into a generic type and records how long it took.
+     *
+     * @param gson    the adapter's Gson instance.
+     * @param json    the JSON to parse.
+     * @param typeOfT the generic type to parse the JSON into.
+     * @param <T>     the type to parse the JSON into.
+     * @return the parsed object.
+     */
+    <T> T fromJson(Gson gson, String json, Type typeOfT) {
+        return timeJsonParse(TypeToken.get(typeOfT).getRawType().getSimpleName(), () -> gson.fromJson(json, typeOfT));
+    }
+
     /**
      * Sets the network config for the exchange adapter. This helper method expects the network config to be present.
+     * It also publishes the exchange clock metrics, tagged with the exchange id, or the adapter name if there is none.
      *
      * @param exchangeConfig the exchange config.
      * @throws IllegalArgumentException if the network config is not set.
@@ -305,6 +760,101 @@ abstract class AbstractExchangeAdapter {
             nonFatalNetworkErrorMessages.addAll(nonFatalErrorMessagesFromConfig);
         }
         LOG.info(() -> NON_FATAL_ERROR_MESSAGES_PROPERTY_NAME + ": " + nonFatalNetworkErrorMessages);
+
+        final Integer maxRetriesFromConfig = networkConfig.getMaxRetries();
+        if (maxRetriesFromConfig != null) {
+            maxRetries = maxRetriesFromConfig;
+        }
+        LOG.info(() -> MAX_RETRIES_PROPERTY_NAME + ": " + maxRetries);
+
+        final Integer retryBackoffFromConfig = networkConfig.getRetryBackoff();
+        if (retryBackoffFromConfig != null) {
+            retryBackoff = retryBackoffFromConfig;
+        }
+        LOG.info(() -> RETRY_BACKOFF_PROPERTY_NAME + ": " + retryBackoff);
+
+        callDeadline = networkConfig.getCallDeadline();
+        LOG.info(() -> CALL_DEADLINE_PROPERTY_NAME + ": " + (callDeadline != null ? callDeadline
+                : "not set - using " + CONNECTION_TIMEOUT_PROPERTY_NAME + " for each attempt"));
+
+        keepAliveInterval = networkConfig.getKeepAliveInterval();
+        LOG.info(() -> KEEP_ALIVE_INTERVAL_PROPERTY_NAME + ": " + (keepAliveInterval != null ? keepAliveInterval
+                : "not set - connections are opened on first use"));
+
+        final String adapterName = getClass().getSimpleName();
+        final String exchangeId = exchangeConfig.getId();
+        exchangeClock.publishMetrics(adapterName, exchangeId != null ? exchangeId : adapterName);
+    }
+
+    /**
+     * Opens connections to the exchange's API hosts, so the first trade cycle does not pay for the DNS lookup and
+     * TCP and TLS handshakes, and keeps them open by sending a heartbeat to any that have been idle for the
+     * keep-alive-interval. Adapters call it at the end of init. It does nothing if the keep-alive-interval is not set.
+     * <p>
+     * The connections are pooled by the JDK and reused by {@link #sendNetworkRequest(URL, String, String, Map)}.
+     * The heartbeat is an unauthenticated GET request, so each URL must be a public API call, and a cheap one - e.g.
+     * the exchange's server time. The response is read to the end, so the connection goes back in the pool, and its
+     * status is ignored. Failures are only logged: the next request just opens a new connection.
+     * <p>
+     * Each heartbeat response is also a sample for the exchange clock, so the clock has its first estimate of the
+     * exchange's time before the first trade cycle signs a request with it.
+     *
+     * @param heartbeatUrls a public API call on each of the exchange's API hosts. URLs on a host that already has one
+     *                      are ignored.
+     */
+    void keepConnectionsWarm(String... heartbeatUrls) {
+
+        if (keepAliveInterval == null) {
+            return;
+        }
+
+        final Set<String> connectionKeys = new HashSet<>();
+        for (final String heartbeatUrl : heartbeatUrls) {
+            try {
+                final URL url = new URL(heartbeatUrl);
+                if (!connectionKeys.add(toConnectionKey(url))) {
+                    continue; // public and authenticated APIs share a host, so share a connection
+                }
+                sendHeartbeat(url);
+
+                // Checking every half interval means an idle connection gets its heartbeat soon after the interval
+                final long checkInterval = Math.max(1, keepAliveInterval / 2);
+                heartbeats.add(HEARTBEAT_EXECUTOR.scheduleWithFixedDelay(() -> {
+                    final Long lastRequestTime = lastRequestTimes.get(toConnectionKey(url));
+                    if (lastRequestTime == null || System.nanoTime() - lastRequestTime
+                            >= TimeUnit.MILLISECONDS.toNanos(keepAliveInterval)) {
+                        sendHeartbeat(url);
+                    }
+                }, checkInterval, checkInterval, TimeUnit.MILLISECONDS));
+
+            } catch (MalformedURLException e) {
+                LOG.warn("Not keeping connection warm for invalid URL: " + heartbeatUrl, e);
+            }
+        }
+    }
+
+    /**
+     * Declares an account-level value the adapter needs before it can trade, e.g. a wallet id. The values are fetched
+     * in parallel by {@link #bootstrapSession()} at the end of init, and then refreshed hourly in the background. A
+     * call that needs a value before then fetches them itself. Adapters declare their values as fields.
+     *
+     * @param name     the name of the value, for logging.
+     * @param resolver the call that fetches the value from the exchange.
+     * @param <T>      the type of the value.
+     * @return the value.
+     */
+    <T> SessionBootstrap.SessionValue<T> declareSessionValue(String name, ExchangeCall<T> resolver) {
+        return sessionBootstrap.declare(name, resolver);
+    }
+
+    /**
+     * Fetches the values declared by {@link #declareSessionValue(String, ExchangeCall)} in the background, so init
+     * does not wait for them, but the first trade cycle usually does not have to either. Adapters call it at the end
+     * of init, once they are ready to send authenticated requests. A call that needs a value while it is being fetched
+     * waits for it.
+     */
+    void bootstrapSession() {
+        SESSION_REFRESH_EXECUTOR.execute(sessionBootstrap::start);
     }
 
     /**
@@ -397,6 +947,105 @@ abstract class AbstractExchangeAdapter {
         return sortedQueryString.toString();
     }
 
+    /**
+     * Creates the map a batch open orders call returns, with an empty list for each of the markets asked for.
+     *
+     * @param marketIds the ids of the markets.
+     * @return the open orders for each market, keyed by market id, in the order the markets were asked for.
+     */
+    Map<String, List<OpenOrder>> createOpenOrdersByMarket(Collection<String> marketIds) {
+        final Map<String, List<OpenOrder>> openOrdersByMarket = new LinkedHashMap<>();
+        for (final String marketId : marketIds) {
+            openOrdersByMarket.put(marketId, new ArrayList<>());
+        }
+        return openOrdersByMarket;
+    }
+
+    /**
+     * Works out the state of an order from what the exchange says about it.
+     *
+     * @param open           true if the order is still on the exchange's order book.
+     * @param cancelled      true if the order was cancelled, expired, or was rejected.
+     * @param filledQuantity the quantity of the order that has been filled.
+     * @return the state of the order.
+     */
+    OrderState toOrderState(boolean open, boolean cancelled, BigDecimal filledQuantity) {
+        if (open) {
+            return filledQuantity.signum() > 0 ? OrderState.PARTIALLY_FILLED : OrderState.OPEN;
+        }
+        return cancelled ? OrderState.CANCELLED : OrderState.FILLED;
+    }
+
+    /**
+     * Sorts Fills oldest first, the order a Fills call returns them in.
+     *
+     * @param fills the Fills to sort.
+     * @return the sorted Fills.
+     */
+    List<Fill> sortOldestFirst(List<Fill> fills) {
+        fills.sort(Comparator.comparing(Fill::getCreationDate));
+        return fills;
+    }
+
+    /**
+     * Submits a batch of order calls to the exchange concurrently, for exchanges that cannot place or cancel several
+     * orders in 1 call. Calls that are signed with a nonce are still sent 1 at a time, but wait for their responses
+     * together - see {@link #sendInNonceOrder(ExchangeCall)}.
+     *
+     * @param items     the order requests or order ids to submit.
+     * @param orderCall places or cancels 1 order, returning its result.
+     * @param <T>       the type of the items.
+     * @return the result of each call, in the same order as the items.
+     */
+    <T> List<OrderResult> submitConcurrently(List<T> items, OrderCall<T> orderCall) {
+
+        final List<Future<OrderResult>> futures = new ArrayList<>();
+        for (final T item : items) {
+            futures.add(ORDER_CALL_EXECUTOR.submit(() -> orderCall.submit(item)));
+        }
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        for (final Future<OrderResult> future : futures) {
+            try {
+                orderResults.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                orderResults.add(OrderResult.failed(null, new TradingApiException("Interrupted submitting order", e)));
+            } catch (ExecutionException e) {
+                final String errorMsg = "Unexpected error submitting order to exchange.";
+                LOG.error(errorMsg, e.getCause());
+                orderResults.add(OrderResult.failed(null, new TradingApiException(errorMsg, e.getCause())));
+            }
+        }
+        return orderResults;
+    }
+
+    /**
+     * Creates a {@link CompositeCall} for assembling a result from several calls to the exchange made in parallel.
+     *
+     * @return a new composite call.
+     */
+    CompositeCall newCompositeCall() {
+        return new CompositeCall(COMPOSITE_CALL_EXECUTOR);
+    }
+
+    /**
+     * Finds the market id an exchange's order belongs to. The exchanges are not consistent about the case of their
+     * market ids, so they are compared ignoring case.
+     *
+     * @param marketIds        the ids of the markets asked for.
+     * @param exchangeMarketId the market id the exchange returned for the order.
+     * @return the matching market id as it was asked for, or null if the order is for a market that was not asked for.
+     */
+    String findMarketIdIgnoringCase(Collection<String> marketIds, String exchangeMarketId) {
+        for (final String marketId : marketIds) {
+            if (marketId.equalsIgnoreCase(exchangeMarketId)) {
+                return marketId;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the decimal format symbols for using with BigDecimals with the exchanges. Specifically, the decimal
      * point symbol is set to a '.'
@@ -407,6 +1056,23 @@ abstract class AbstractExchangeAdapter {
         return decimalFormatSymbols;
     }
 
+    /**
+     * Places or cancels 1 order in a batch submitted by {@link #submitConcurrently(List, OrderCall)}.
+     *
+     * @param <T> the type of the order request or order id.
+     */
+    @FunctionalInterface
+    interface OrderCall<T> {
+
+        /**
+         * Places or cancels the order. Exchange failures must be returned as a failed result, not thrown.
+         *
+         * @param item the order request or order id.
+         * @return the result.
+         */
+        OrderResult submit(T item);
+    }
+
     /**
      * Wrapper for holding Exchange HTTP response.
      */
@@ -444,10 +1110,150 @@ abstract class AbstractExchangeAdapter {
         }
     }
 
+    /*
+     * What came back from a single attempt at a request, for deciding if and when it can be retried.
+     */
+    private static final class Attempt {
+
+        /*
+         * The HTTP status code of a non-fatal error response, or null if the attempt did not fail with one.
+         */
+        private Integer failedStatusCode;
+
+        /*
+         * How long the exchange asked us to wait in its Retry-After header, or -1 if it did not say.
+         */
+        private long retryAfterMillis = -1;
+
+        private boolean isThrottled() {
+            return failedStatusCode != null && THROTTLING_STATUS_CODES.contains(failedStatusCode);
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Util methods
     // ------------------------------------------------------------------------------------------------
 
+    private <T> T timeJsonParse(String type, Supplier<T> parser) {
+        return Timer.builder(JSON_PARSE_METRIC)
+                .tags("adapter", getClass().getSimpleName(), "type", type)
+                .register(Metrics.globalRegistry)
+                .record(parser);
+    }
+
+    /*
+     * Lets the next nonce-signed request be sent, if this thread is sending one.
+     */
+    private void releaseNonceLock() {
+        if (nonceLock.isHeldByCurrentThread()) {
+            nonceLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the heartbeats scheduled by {@link #keepConnectionsWarm(String...)}.
+     */
+    void stopKeepingConnectionsWarm() {
+        heartbeats.forEach(heartbeat -> heartbeat.cancel(false));
+        heartbeats.clear();
+    }
+
+    /*
+     * Sends a GET request to the URL to open, or keep open, a pooled connection to its host, and samples the exchange
+     * clock from the response.
+     */
+    private void sendHeartbeat(URL url) {
+
+        lastRequestTimes.put(toConnectionKey(url), System.nanoTime());
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) url.openConnection();
+            connection.setUseCaches(false);
+            connection.setRequestMethod("GET");
+            connection.setConnectTimeout(connectionTimeout * 1000);
+            connection.setReadTimeout(connectionTimeout * 1000);
+
+            // Timed from after the handshakes, which would otherwise skew the estimate of when the exchange replied
+            connection.connect();
+            final long requestSentTime = System.currentTimeMillis();
+            final int statusCode = connection.getResponseCode();
+            sampleExchangeClock(connection, requestSentTime);
+            final InputStream responseStream = statusCode >= HttpURLConnection.HTTP_BAD_REQUEST
+                    ? connection.getErrorStream() : connection.getInputStream();
+            if (responseStream != null) {
+                try (InputStream drainedStream = responseStream) {
+                    ByteStreams.exhaust(drainedStream);
+                }
+            }
+            Metrics.counter(HEARTBEATS_METRIC, "adapter", getClass().getSimpleName(), "outcome", SUCCESS_OUTCOME)
+                    .increment();
+            LOG.debug("Heartbeat to {} returned {}", url.getHost(), statusCode);
+
+        } catch (IOException | RuntimeException e) {
+            Metrics.counter(HEARTBEATS_METRIC, "adapter", getClass().getSimpleName(), "outcome", ERROR_OUTCOME)
+                    .increment();
+            LOG.warn("Heartbeat to {} failed: {}", url.getHost(), e.getMessage());
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /*
+     * Feeds the exchange clock from the response's Date header, if it has one.
+     */
+    private void sampleExchangeClock(HttpURLConnection exchangeConnection, long requestSentTime) {
+        final long responseReceivedTime = System.currentTimeMillis();
+        final long exchangeDate = exchangeConnection.getHeaderFieldDate("Date", 0);
+        if (exchangeDate > 0) {
+            exchangeClock.sample(requestSentTime, responseReceivedTime, exchangeDate);
+        }
+    }
+
+    /*
+     * Reads the Retry-After header, which is either a number of seconds or an HTTP date. Returns -1 if it is missing
+     * or cannot be read.
+     */
+    private static long getRetryAfterMillis(HttpURLConnection exchangeConnection) {
+        final String retryAfter = exchangeConnection.getHeaderField("Retry-After");
+        if (retryAfter == null) {
+            return -1;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            final long retryAt = exchangeConnection.getHeaderFieldDate("Retry-After", -1);
+            return retryAt < 0 ? -1 : Math.max(0, retryAt - System.currentTimeMillis());
+        }
+    }
+
+    private void countNetworkError(String endpoint, String reason) {
+        Metrics.counter(NETWORK_ERRORS_METRIC, "adapter", getClass().getSimpleName(), "endpoint", endpoint,
+                "reason", reason).increment();
+    }
+
+    /*
+     * Uses the URL path as the endpoint tag. Path segments that look like order/account ids (all digits, or long
+     * hex/UUID strings) are replaced so each endpoint maps to a single time series.
+     */
+    private static String toEndpointTag(URL url) {
+        final String[] segments = url.getPath().split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            final String segment = segments[i];
+            if (segment.matches("\\d+") || (segment.length() >= 16 && segment.matches("[0-9a-fA-F-]+"))) {
+                segments[i] = ID_PATH_SEGMENT;
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /*
+     * The JDK pools connections by scheme, host, and port.
+     */
+    private static String toConnectionKey(URL url) {
+        return url.getProtocol() + "://" + url.getAuthority();
+    }
+
     private static String assertItemExists(String itemName, String itemValue) {
         if (itemValue == null || itemValue.length() == 0) {
             final String errorMsg = itemName + CONFIG_IS_NULL_OR_ZERO_LENGTH + EXCHANGE_CONFIG_FILE + " ?";
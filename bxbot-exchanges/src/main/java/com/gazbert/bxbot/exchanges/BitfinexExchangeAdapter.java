@@ -47,6 +47,9 @@ import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -72,9 +75,10 @@ import java.util.*;
  * This adapter will use the <em>Taker</em> fees to keep things simple for now.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response). Calls made from a single thread are executed in order. Bitfinex rejects a nonce lower than
+ * the last one it has seen, so authenticated calls are sent 1 at a time; public calls hold no lock while they wait.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -103,6 +107,21 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private static final String AUTHENTICATED_API_URL = PUBLIC_API_BASE_URL;
 
+    /**
+     * The v2 public API URI - only used for fetching the tickers for several markets in 1 call; v1 has no equivalent.
+     */
+    private static final String PUBLIC_API_V2_BASE_URL = "https://api.bitfinex.com/v2/";
+
+    /**
+     * The max number of orders the exchange places in an 'order/new/multi' call.
+     */
+    private static final int MAX_ORDERS_PER_MULTI_ORDER_CALL = 10;
+
+    /**
+     * Client order ids are kept below 2^45, so they survive the exchange's JSON number handling intact.
+     */
+    private static final long MAX_CLIENT_ORDER_ID = 1L << 45;
+
     /**
      * Used for reporting unexpected errors.
      */
@@ -123,10 +142,16 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private static final String SECRET_PROPERTY_NAME = "secret";
 
+    /**
+     * How long in hours the fees are cached for. They only change when the account's 30 day volume moves tier.
+     */
+    private static final long FEE_SCHEDULE_TIME_TO_LIVE = 24;
+
     /**
      * Nonce used for sending authenticated messages to the exchange.
+     * Atomic because Trading Strategies on the same exchange can call the adapter concurrently.
      */
-    private long nonce = 0;
+    private final AtomicLong nonce = new AtomicLong();
 
     /**
      * Used to indicate if we have initialised the MAC authentication protocol.
@@ -154,6 +179,12 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private Gson gson;
 
+    /**
+     * The fees for each base currency, taken from the account_infos API call.
+     */
+    private final FeeSchedule feeSchedule = new FeeSchedule(FEE_SCHEDULE_TIME_TO_LIVE, TimeUnit.HOURS,
+            this::getFeeSchedule);
+
 
     @Override
     public void init(ExchangeConfig config) {
@@ -162,9 +193,9 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         setAuthenticationConfig(config);
         setNetworkConfig(config);
 
-        nonce = System.currentTimeMillis() / 1000; // set the initial nonce used in the secure messaging.
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "symbols");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -177,9 +208,9 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("book/" + marketId);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final BitfinexOrderBook orderBook = gson.fromJson(response.getPayload(), BitfinexOrderBook.class);
+            final BitfinexOrderBook orderBook = fromJson(gson, response.getPayload(), BitfinexOrderBook.class);
 
             final List<MarketOrder> buyOrders = new ArrayList<>();
             for (BitfinexMarketOrder bitfinexBuyOrder : orderBook.bids) {
@@ -213,17 +244,24 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
 
     @Override
     public List<OpenOrder> getYourOpenOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+        return getYourOpenOrders(Collections.singletonList(marketId)).get(marketId);
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("orders", null);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
-            final BitfinexOpenOrders bitfinexOpenOrders = gson.fromJson(response.getPayload(), BitfinexOpenOrders.class);
+            final BitfinexOpenOrders bitfinexOpenOrders = fromJson(gson, response.getPayload(), BitfinexOpenOrders.class);
 
-            final List<OpenOrder> ordersToReturn = new ArrayList<>();
+            final Map<String, List<OpenOrder>> ordersToReturn = createOpenOrdersByMarket(marketIds);
             for (final BitfinexOpenOrder bitfinexOpenOrder : bitfinexOpenOrders) {
 
-                if (!marketId.equalsIgnoreCase(bitfinexOpenOrder.symbol)) {
+                final String marketId = findMarketIdIgnoringCase(marketIds, bitfinexOpenOrder.symbol);
+                if (marketId == null) {
                     continue;
                 }
 
@@ -252,7 +290,7 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
                         bitfinexOpenOrder.price.multiply(bitfinexOpenOrder.original_amount) // total - not provided by finex :-(
                 );
 
-                ordersToReturn.add(order);
+                ordersToReturn.get(marketId).add(order);
             }
             return ordersToReturn;
 
@@ -267,56 +305,190 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
     @Override
     public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price) throws
             TradingApiException, ExchangeNetworkException {
+        return createOrder(marketId, orderType, quantity, price, null);
+    }
+
+    /*
+     * The client order id is sent as the order's 'cid'.
+     */
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                              String clientOrderId) throws TradingApiException, ExchangeNetworkException {
 
         try {
             final Map<String, Object> params = createRequestParamMap();
+            addNewOrderParams(params, marketId, orderType, quantity, price);
+            if (clientOrderId != null) {
+                params.put("cid", Long.parseLong(clientOrderId));
+            }
 
-            params.put("symbol", marketId);
-
-            // note we need to limit amount and price to 8 decimal places else exchange will barf
-            params.put("amount", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(quantity));
-            params.put("price", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(price));
-
-            params.put("exchange", "bitfinex");
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/new", params);
+            LOG.debug("Create Order response: {}", response);
 
-            if (orderType == OrderType.BUY) {
-                params.put("side", "buy");
-            } else if (orderType == OrderType.SELL) {
-                params.put("side", "sell");
-            } else {
-                final String errorMsg = "Invalid order type: " + orderType
-                        + " - Can only be "
-                        + OrderType.BUY.getStringValue() + " or "
-                        + OrderType.SELL.getStringValue();
+            final BitfinexNewOrderResponse createOrderResponse = fromJson(gson, response.getPayload(), BitfinexNewOrderResponse.class);
+            final long id = createOrderResponse.order_id;
+            if (id == 0) {
+                final String errorMsg = "Failed to place order on exchange. Error response: " + response;
                 LOG.error(errorMsg);
-                throw new IllegalArgumentException(errorMsg);
+                throw new TradingApiException(errorMsg);
+            } else {
+                return Long.toString(createOrderResponse.order_id);
             }
 
-            // 'type' is either "market" / "limit" / "stop" / "trailing-stop" / "fill-or-kill" / "exchange market" /
-            // "exchange limit" / "exchange stop" / "exchange trailing-stop" / "exchange fill-or-kill".
-            // (type starting by "exchange " are exchange orders, others are margin trading orders)
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
 
-            // this adapter only supports 'exchange limit orders'
-            params.put("type", "exchange limit");
+    /*
+     * Uses the 'order/cancel/replace' call, which cancels the order and places the new one in 1 call.
+     */
+    @Override
+    public String amendOrder(String orderId, String marketId, OrderType orderType, BigDecimal newPrice,
+                             BigDecimal newQuantity) throws TradingApiException, ExchangeNetworkException {
 
-            // This adapter does not currently support hidden orders.
-            // Exchange API notes: "true if the order should be hidden. Default is false."
-            // If you try and set "is_hidden" to false, the exchange barfs and sends a 401 back. Nice.
-            //params.put("is_hidden", "false");
+        try {
+            final Map<String, Object> params = createRequestParamMap();
+            params.put("order_id", Long.parseLong(orderId));
+            addNewOrderParams(params, marketId, orderType, newQuantity, newPrice);
 
-            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/new", params);
-            LOG.debug(() -> "Create Order response: " + response);
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/cancel/replace", params);
+            LOG.debug("Amend Order response: {}", response);
 
-            final BitfinexNewOrderResponse createOrderResponse = gson.fromJson(response.getPayload(), BitfinexNewOrderResponse.class);
-            final long id = createOrderResponse.order_id;
-            if (id == 0) {
-                final String errorMsg = "Failed to place order on exchange. Error response: " + response;
+            final BitfinexNewOrderResponse replaceOrderResponse =
+                    fromJson(gson, response.getPayload(), BitfinexNewOrderResponse.class);
+            if (replaceOrderResponse.id == 0) {
+                final String errorMsg = "Failed to amend order on exchange. Error response: " + response;
                 LOG.error(errorMsg);
                 throw new TradingApiException(errorMsg);
+            }
+            return Long.toString(replaceOrderResponse.id);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            // Exchange returns a 400 HTTP Status if the order id was not recognised, e.g. it has been filled.
+            if (e.getCause() != null && e.getCause().getMessage() != null && e.getCause().getMessage().contains("400")) {
+                final String errorMsg = "Failed to amend order on exchange. Did not recognise Order Id: " + orderId;
+                LOG.error(errorMsg, e);
+                return null;
             } else {
-                return Long.toString(createOrderResponse.order_id);
+                throw e;
+            }
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * Uses the 'order/new/multi' call, which places up to 10 orders at a time. The orders in each call are placed or
+     * failed together.
+     */
+    @Override
+    public List<OrderResult> createOrders(List<OrderRequest> orderRequests) throws TradingApiException,
+            ExchangeNetworkException {
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        for (int i = 0; i < orderRequests.size(); i += MAX_ORDERS_PER_MULTI_ORDER_CALL) {
+            final List<OrderRequest> batch =
+                    orderRequests.subList(i, Math.min(i + MAX_ORDERS_PER_MULTI_ORDER_CALL, orderRequests.size()));
+            try {
+                for (final long orderId : createMultipleOrders(batch)) {
+                    orderResults.add(OrderResult.succeeded(Long.toString(orderId)));
+                }
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                for (int j = 0; j < batch.size(); j++) {
+                    orderResults.add(OrderResult.failed(null, e));
+                }
+            }
+        }
+        return orderResults;
+    }
+
+    /*
+     * Uses the 'order/cancel/multi' call. The orders are cancelled or failed together. marketId is not needed for
+     * cancelling orders on this exchange.
+     */
+    @Override
+    public List<OrderResult> cancelOrders(List<String> orderIds, String marketIdNotNeeded) throws TradingApiException,
+            ExchangeNetworkException {
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        try {
+            final List<Long> orderIdsToCancel = new ArrayList<>();
+            for (final String orderId : orderIds) {
+                orderIdsToCancel.add(Long.parseLong(orderId));
+            }
+
+            final Map<String, Object> params = createRequestParamMap();
+            params.put("order_ids", orderIdsToCancel);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/cancel/multi", params);
+            LOG.debug("Cancel Orders response: {}", response);
+
+            // Exchange returns a result message if successful, a 400 HTTP Status if it failed.
+            final BitfinexCancelMultiResponse cancelMultiResponse =
+                    fromJson(gson, response.getPayload(), BitfinexCancelMultiResponse.class);
+            if (cancelMultiResponse.result == null) {
+                throw new TradingApiException("Failed to cancel orders on exchange. Details: " + response);
+            }
+            for (final String orderId : orderIds) {
+                orderResults.add(OrderResult.succeeded(orderId));
             }
 
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            LOG.error("Failed to cancel orders " + orderIds + " on exchange.", e);
+            for (final String orderId : orderIds) {
+                orderResults.add(OrderResult.failed(orderId, e));
+            }
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+        return orderResults;
+    }
+
+    /*
+     * The cid must be an integer on this exchange.
+     */
+    @Override
+    public String newClientOrderId() {
+        return String.valueOf(ThreadLocalRandom.current().nextLong(1, MAX_CLIENT_ORDER_ID));
+    }
+
+    @Override
+    public boolean supportsClientOrderIds() {
+        return true;
+    }
+
+    /*
+     * The open orders are searched first, then the inactive ones. marketId is not needed for looking up orders on this
+     * exchange.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final long cid = Long.parseLong(clientOrderId);
+            for (final String orderList : Arrays.asList("orders", "orders/hist")) {
+
+                final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange(orderList, null);
+                LOG.debug("Order by Client Order Id response: {}", response);
+
+                final BitfinexOpenOrders bitfinexOrders = fromJson(gson, response.getPayload(), BitfinexOpenOrders.class);
+                for (final BitfinexOpenOrder bitfinexOrder : bitfinexOrders) {
+                    if (bitfinexOrder.cid != null && bitfinexOrder.cid == cid) {
+                        return Long.toString(bitfinexOrder.id);
+                    }
+                }
+            }
+
+            LOG.info(() -> "No order found for client order id: " + clientOrderId);
+            return null;
+
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
         } catch (Exception e) {
@@ -336,10 +508,10 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
             params.put("order_id", Long.parseLong(orderId));
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/cancel", params);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
             // Exchange returns order id and other details if successful, a 400 HTTP Status if the order id was not recognised.
-            gson.fromJson(response.getPayload(), BitfinexCancelOrderResponse.class);
+            fromJson(gson, response.getPayload(), BitfinexCancelOrderResponse.class);
             return true;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -356,14 +528,63 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /**
+     * Places a batch of orders in a single 'order/new/multi' call.
+     *
+     * @param orderRequests the orders to place.
+     * @return the ids of the orders placed, in the same order as the requests.
+     * @throws ExchangeNetworkException if there is a network issue connecting to exchange.
+     * @throws TradingApiException      if the orders were not placed.
+     */
+    private List<Long> createMultipleOrders(List<OrderRequest> orderRequests) throws TradingApiException,
+            ExchangeNetworkException {
+
+        try {
+            final List<Map<String, Object>> orders = new ArrayList<>();
+            for (final OrderRequest orderRequest : orderRequests) {
+                final Map<String, Object> order = new HashMap<>();
+                addNewOrderParams(order, orderRequest.getMarketId(), orderRequest.getType(),
+                        orderRequest.getQuantity(), orderRequest.getPrice());
+                orders.add(order);
+            }
+
+            final Map<String, Object> params = createRequestParamMap();
+            params.put("orders", orders);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/new/multi", params);
+            LOG.debug("Create Orders response: {}", response);
+
+            final BitfinexNewOrderMultiResponse createOrdersResponse =
+                    fromJson(gson, response.getPayload(), BitfinexNewOrderMultiResponse.class);
+            if (!"success".equals(createOrdersResponse.status) || createOrdersResponse.order_ids == null
+                    || createOrdersResponse.order_ids.size() != orderRequests.size()) {
+                final String errorMsg = "Failed to place orders on exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+            final List<Long> orderIds = new ArrayList<>();
+            for (final BitfinexNewOrderResponse order : createOrdersResponse.order_ids) {
+                orderIds.add(order.id);
+            }
+            return orderIds;
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     @Override
     public BigDecimal getLatestMarketPrice(String marketId) throws TradingApiException, ExchangeNetworkException {
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("pubticker/" + marketId);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final BitfinexTicker ticker = gson.fromJson(response.getPayload(), BitfinexTicker.class);
+            final BitfinexTicker ticker = fromJson(gson, response.getPayload(), BitfinexTicker.class);
             return ticker.last_price;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -379,9 +600,9 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("balances", null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
-            final BitfinexBalances allAccountBalances = gson.fromJson(response.getPayload(), BitfinexBalances.class);
+            final BitfinexBalances allAccountBalances = fromJson(gson, response.getPayload(), BitfinexBalances.class);
             final HashMap<String, BigDecimal> balancesAvailable = new HashMap<>();
 
             /*
@@ -417,15 +638,7 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
             ExchangeNetworkException {
 
         try {
-            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("account_infos", null);
-            LOG.debug(() -> "Buy Fee response: " + response);
-
-            // Nightmare to adapt! Just take the top-level taker fees.
-            final BitfinexAccountInfos bitfinexAccountInfos = gson.fromJson(response.getPayload(), BitfinexAccountInfos.class);
-            final BigDecimal fee = bitfinexAccountInfos.get(0).taker_fees;
-
-            // adapt the % into BigDecimal format
-            return fee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP);
+            return feeSchedule.getFees(toBaseCurrency(marketId)).getTakerFee();
 
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
@@ -439,16 +652,40 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
     public BigDecimal getPercentageOfSellOrderTakenForExchangeFee(String marketId) throws TradingApiException,
             ExchangeNetworkException {
 
+        try {
+            return feeSchedule.getFees(toBaseCurrency(marketId)).getTakerFee();
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /**
+     * Fetches the fees from the account_infos API call.
+     * <p>
+     * Bitfinex gives the fees for each base currency, e.g. BTC covers btcusd and btceur, and the top-level fees for
+     * anything else.
+     */
+    private Map<String, FeeSchedule.MarketFees> getFeeSchedule() throws TradingApiException, ExchangeNetworkException {
+
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("account_infos", null);
-            LOG.debug(() -> "Sell Fee response: " + response);
+            LOG.debug("Fee Schedule response: {}", response);
 
-            // Nightmare to adapt! Just take the top-level taker fees.
-            final BitfinexAccountInfos bitfinexAccountInfos = gson.fromJson(response.getPayload(), BitfinexAccountInfos.class);
-            final BigDecimal fee = bitfinexAccountInfos.get(0).taker_fees;
+            final BitfinexAccountInfos bitfinexAccountInfos = fromJson(gson, response.getPayload(), BitfinexAccountInfos.class);
+            final BitfinexAccountInfo accountInfo = bitfinexAccountInfos.get(0);
 
-            // adapt the % into BigDecimal format
-            return fee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP);
+            final Map<String, FeeSchedule.MarketFees> schedule = new HashMap<>();
+            schedule.put(FeeSchedule.ALL_MARKETS, toMarketFees(accountInfo.maker_fees, accountInfo.taker_fees));
+            if (accountInfo.fees != null) {
+                for (final BitfinexPairFee pairFee : accountInfo.fees) {
+                    schedule.put(pairFee.pairs.toLowerCase(), toMarketFees(pairFee.maker_fees, pairFee.taker_fees));
+                }
+            }
+            return schedule;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
@@ -469,9 +706,9 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("pubticker/" + marketId);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final BitfinexTicker ticker = gson.fromJson(response.getPayload(), BitfinexTicker.class);
+            final BitfinexTicker ticker = fromJson(gson, response.getPayload(), BitfinexTicker.class);
             return new TickerImpl(
                     ticker.last_price,
                     ticker.bid,
@@ -492,6 +729,149 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /*
+     * Uses the v2 'tickers' call to fetch all the markets in 1 call. It does not return a timestamp, and gives the
+     * daily change instead of the open price, so the open is worked out from the last price.
+     */
+    @Override
+    public Map<String, Ticker> getTickers(Collection<String> marketIds) throws TradingApiException,
+            ExchangeNetworkException {
+
+        try {
+            final StringJoiner symbols = new StringJoiner(",");
+            for (final String marketId : marketIds) {
+                symbols.add(toV2Symbol(marketId));
+            }
+
+            final ExchangeHttpResponse response = sendPublicV2RequestToExchange("tickers?symbols=" + symbols);
+            LOG.debug("Tickers response: {}", response);
+
+            final BitfinexV2Tickers v2Tickers = fromJson(gson, response.getPayload(), BitfinexV2Tickers.class);
+            final Map<String, List<String>> v2TickersBySymbol = new HashMap<>();
+            for (final List<String> v2Ticker : v2Tickers) {
+                v2TickersBySymbol.put(v2Ticker.get(0), v2Ticker);
+            }
+
+            final Map<String, Ticker> tickers = new LinkedHashMap<>();
+            for (final String marketId : marketIds) {
+                final List<String> v2Ticker = v2TickersBySymbol.get(toV2Symbol(marketId));
+                if (v2Ticker == null) {
+                    final String errorMsg = "Failed to get Ticker for market " + marketId + " from Exchange. Details: "
+                            + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+                // [SYMBOL, BID, BID_SIZE, ASK, ASK_SIZE, DAILY_CHANGE, DAILY_CHANGE_PERC, LAST_PRICE, VOLUME, HIGH, LOW]
+                final BigDecimal last = new BigDecimal(v2Ticker.get(7));
+                tickers.put(marketId, new TickerImpl(
+                        last,
+                        new BigDecimal(v2Ticker.get(1)),
+                        new BigDecimal(v2Ticker.get(3)),
+                        new BigDecimal(v2Ticker.get(10)),
+                        new BigDecimal(v2Ticker.get(9)),
+                        last.subtract(new BigDecimal(v2Ticker.get(5))),
+                        new BigDecimal(v2Ticker.get(8)),
+                        null, // vwap not supplied by Bitfinex
+                        null)); // timestamp not supplied by Bitfinex v2 tickers
+            }
+            return tickers;
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * marketId is not needed for getting the order status on this exchange.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final Map<String, Object> params = createRequestParamMap();
+            params.put("order_id", Long.parseLong(orderId));
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/status", params);
+            LOG.debug("Order Status response: {}", response);
+
+            final BitfinexOpenOrder bitfinexOrder = fromJson(gson, response.getPayload(), BitfinexOpenOrder.class);
+            return new OrderStatusImpl(
+                    Long.toString(bitfinexOrder.id),
+                    bitfinexOrder.symbol,
+                    toOrderType(bitfinexOrder.side),
+                    toOrderState(bitfinexOrder.is_live, bitfinexOrder.is_cancelled, bitfinexOrder.executed_amount),
+                    bitfinexOrder.price,
+                    bitfinexOrder.original_amount,
+                    bitfinexOrder.executed_amount,
+                    bitfinexOrder.executed_amount.signum() == 0 ? null : bitfinexOrder.avg_execution_price);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the latest 500 trades since the given date/time are fetched - the max the exchange returns in 1 call.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final Map<String, Object> params = createRequestParamMap();
+            params.put("symbol", marketId);
+            params.put("timestamp", Long.toString(since.getTime() / 1000)); // UNIX time in secs
+            params.put("limit_trades", 500);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("mytrades", params);
+            LOG.debug("Fills response: {}", response);
+
+            final BitfinexTrades bitfinexTrades = fromJson(gson, response.getPayload(), BitfinexTrades.class);
+
+            final List<Fill> fills = new ArrayList<>();
+            for (final BitfinexTrade bitfinexTrade : bitfinexTrades) {
+                // 'finex timestamps are in secs with a decimal fraction, e.g. "1444141857.0"
+                final Date creationDate = new Date(new BigDecimal(bitfinexTrade.timestamp).movePointRight(3).longValue());
+                if (creationDate.before(since)) {
+                    continue; // exchange only filters to the second
+                }
+                fills.add(new FillImpl(
+                        Long.toString(bitfinexTrade.tid),
+                        Long.toString(bitfinexTrade.order_id),
+                        marketId,
+                        toOrderType(bitfinexTrade.type.toLowerCase()),
+                        creationDate,
+                        bitfinexTrade.price,
+                        bitfinexTrade.amount,
+                        bitfinexTrade.fee_amount.abs())); // 'finex returns fees as a negative amount
+            }
+            return sortOldestFirst(fills);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  GSON classes for JSON responses.
     //  See https://www.bitfinex.com/pages/api
@@ -536,7 +916,45 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
     }
 
     /**
-     * GSON class for receiving your open orders in 'orders' API call response.
+     * GSON class for receiving your trades in 'mytrades' API call response.
+     */
+    private static class BitfinexTrades extends ArrayList<BitfinexTrade> {
+        private static final long serialVersionUID = -1743221850734621452L;
+    }
+
+    /**
+     * GSON class for mapping returned trade from 'mytrades' API call response.
+     */
+    private static class BitfinexTrade {
+
+        public BigDecimal price;
+        public BigDecimal amount;
+        public String timestamp;
+        public String exchange;
+        public String type; // e.g. "Sell"
+        public String fee_currency;
+        public BigDecimal fee_amount;
+        public long tid;
+        public long order_id;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("price", price)
+                    .add("amount", amount)
+                    .add("timestamp", timestamp)
+                    .add("exchange", exchange)
+                    .add("type", type)
+                    .add("fee_currency", fee_currency)
+                    .add("fee_amount", fee_amount)
+                    .add("tid", tid)
+                    .add("order_id", order_id)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class for receiving your open orders in 'orders' and 'orders/hist' API call responses.
      */
     private static class BitfinexOpenOrders extends ArrayList<BitfinexOpenOrder> {
         private static final long serialVersionUID = 5516523641153401953L;
@@ -548,6 +966,7 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
     private static class BitfinexOpenOrder {
 
         public long id;
+        public Long cid;
         public String symbol;
         public String exchange;
         public BigDecimal price;
@@ -567,6 +986,7 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         public String toString() {
             return MoreObjects.toStringHelper(this)
                     .add("id", id)
+                    .add("cid", cid)
                     .add("symbol", symbol)
                     .add("exchange", exchange)
                     .add("price", price)
@@ -614,6 +1034,14 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /**
+     * GSON class for a Bitfinex v2 'tickers' API call response. Each ticker is an array of values; the numbers are
+     * read as Strings so they keep their precision.
+     */
+    private static class BitfinexV2Tickers extends ArrayList<List<String>> {
+        private static final long serialVersionUID = 5516521641453401953L;
+    }
+
     /**
      * GSON class for holding Bitfinex response from 'account_infos' API call.
      * <p>
@@ -796,6 +1224,38 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /**
+     * GSON class for Bitfinex 'order/new/multi' response.
+     */
+    private static class BitfinexNewOrderMultiResponse {
+
+        public List<BitfinexNewOrderResponse> order_ids;
+        public String status; // e.g. "success"
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("order_ids", order_ids)
+                    .add("status", status)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class for Bitfinex 'order/cancel/multi' response.
+     */
+    private static class BitfinexCancelMultiResponse {
+
+        public String result; // e.g. "Orders cancelled"
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("result", result)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for Bitfinex 'order/cancel' response.
      */
@@ -864,6 +1324,28 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /**
+     * Makes a public API call to the Bitfinex exchange using the v2 API.
+     *
+     * @param apiMethod the API method to call, including any query string.
+     * @return the response from the exchange.
+     * @throws ExchangeNetworkException if there is a network issue connecting to exchange.
+     * @throws TradingApiException      if anything unexpected happens.
+     */
+    private ExchangeHttpResponse sendPublicV2RequestToExchange(String apiMethod) throws ExchangeNetworkException,
+            TradingApiException {
+
+        try {
+            final URL url = new URL(PUBLIC_API_V2_BASE_URL + apiMethod);
+            return makeNetworkRequest(url, "GET", null, createHeaderParamMap());
+
+        } catch (MalformedURLException e) {
+            final String errorMsg = UNEXPECTED_IO_ERROR_MSG;
+            LOG.error(errorMsg, e);
+            throw new TradingApiException(errorMsg, e);
+        }
+    }
+
     /**
      * <p>
      * Makes an authenticated API call to the Bitfinex exchange.
@@ -903,6 +1385,14 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private ExchangeHttpResponse sendAuthenticatedRequestToExchange(String apiMethod, Map<String, Object> params)
             throws ExchangeNetworkException, TradingApiException {
+        return sendInNonceOrder(() -> signAndSendAuthenticatedRequest(apiMethod, params));
+    }
+
+    /*
+     * Takes the nonce for the request, signs it and sends it. Only called by sendInNonceOrder.
+     */
+    private ExchangeHttpResponse signAndSendAuthenticatedRequest(String apiMethod, Map<String, Object> params)
+            throws ExchangeNetworkException, TradingApiException {
 
         if (!initializedMACAuthentication) {
             final String errorMsg = "MAC Message security layer has not been initialized.";
@@ -918,8 +1408,7 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
             }
 
             // nonce is required by Bitfinex in every request
-            params.put("nonce", Long.toString(nonce));
-            nonce++; // increment ready for next call.
+            params.put("nonce", Long.toString(nextNonce(nonce)));
 
             // must include the method in request param too
             params.put("request", "/" + BITFINEX_API_VERSION + "/" + apiMethod);
@@ -935,15 +1424,19 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
             requestHeaders.put("X-BFX-APIKEY", key);
             requestHeaders.put("X-BFX-PAYLOAD", base64payload);
 
-            // Add the signature
-            mac.reset(); // force reset
-            mac.update(base64payload.getBytes("UTF-8"));
-
             /*
+             * Add the signature.
              * signature = HMAC-SHA384(payload, api-secret) as hexadecimal - MUST be in LOWERCASE else signature fails.
              * See: http://bitcoin.stackexchange.com/questions/25835/bitfinex-api-call-returns-400-bad-request
+             *
+             * The MAC is shared, so it is locked while signing - but never while talking to the exchange.
              */
-            final String signature = toHex(mac.doFinal()).toLowerCase();
+            final String signature;
+            synchronized (mac) {
+                mac.reset(); // force reset
+                mac.update(base64payload.getBytes("UTF-8"));
+                signature = toHex(mac.doFinal()).toLowerCase();
+            }
             requestHeaders.put("X-BFX-SIGNATURE", signature);
 
             // payload is JSON for this exchange
@@ -1023,6 +1516,102 @@ public final class BitfinexExchangeAdapter extends AbstractExchangeAdapter imple
         gson = gsonBuilder.create();
     }
 
+    /**
+     * Adapts Bitfinex maker and taker fee percentages into BigDecimal format.
+     *
+     * @param makerFee the maker fee %.
+     * @param takerFee the taker fee %.
+     * @return the fees as fractions of the order value.
+     */
+    private static FeeSchedule.MarketFees toMarketFees(BigDecimal makerFee, BigDecimal takerFee) {
+        return new FeeSchedule.MarketFees(makerFee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP),
+                takerFee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP));
+    }
+
+    /**
+     * Returns the base currency of a market, e.g. btc for btcusd. Bitfinex market ids are 2 three letter currencies.
+     *
+     * @param marketId the id of the market.
+     * @return the base currency, lower case.
+     */
+    private static String toBaseCurrency(String marketId) {
+        return marketId.substring(0, 3).toLowerCase();
+    }
+
+    /**
+     * Adds the params for a new order to an 'order/new' request, or to an order in an 'order/new/multi' request.
+     *
+     * @param params    the params to add to.
+     * @param marketId  the id of the market.
+     * @param orderType the type of order.
+     * @param quantity  the amount of units to buy/sell.
+     * @param price     the price per unit.
+     */
+    private void addNewOrderParams(Map<String, Object> params, String marketId, OrderType orderType,
+                                   BigDecimal quantity, BigDecimal price) {
+
+        params.put("symbol", marketId);
+
+        // note we need to limit amount and price to 8 decimal places else exchange will barf
+        params.put("amount", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(quantity));
+        params.put("price", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(price));
+
+        params.put("exchange", "bitfinex");
+
+        if (orderType == OrderType.BUY) {
+            params.put("side", "buy");
+        } else if (orderType == OrderType.SELL) {
+            params.put("side", "sell");
+        } else {
+            final String errorMsg = "Invalid order type: " + orderType
+                    + " - Can only be "
+                    + OrderType.BUY.getStringValue() + " or "
+                    + OrderType.SELL.getStringValue();
+            LOG.error(errorMsg);
+            throw new IllegalArgumentException(errorMsg);
+        }
+
+        // 'type' is either "market" / "limit" / "stop" / "trailing-stop" / "fill-or-kill" / "exchange market" /
+        // "exchange limit" / "exchange stop" / "exchange trailing-stop" / "exchange fill-or-kill".
+        // (type starting by "exchange " are exchange orders, others are margin trading orders)
+
+        // this adapter only supports 'exchange limit orders'
+        params.put("type", "exchange limit");
+
+        // This adapter does not currently support hidden orders.
+        // Exchange API notes: "true if the order should be hidden. Default is false."
+        // If you try and set "is_hidden" to false, the exchange barfs and sends a 401 back. Nice.
+        //params.put("is_hidden", "false");
+    }
+
+    /**
+     * Converts a v1 market id into a v2 trading pair symbol, e.g. btcusd into tBTCUSD.
+     *
+     * @param marketId the v1 market id.
+     * @return the v2 symbol.
+     */
+    private static String toV2Symbol(String marketId) {
+        return "t" + marketId.toUpperCase();
+    }
+
+    /**
+     * Converts a Bitfinex order side into an OrderType.
+     *
+     * @param side the Bitfinex order side: "buy" or "sell".
+     * @return the order type.
+     * @throws TradingApiException if the order side is not recognised.
+     */
+    private OrderType toOrderType(String side) throws TradingApiException {
+        switch (side) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received. Value: " + side);
+        }
+    }
+
     /*
      * Hack for unit-testing map params passed to transport layer.
      */
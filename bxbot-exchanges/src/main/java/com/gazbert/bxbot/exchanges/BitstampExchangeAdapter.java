@@ -39,6 +39,7 @@ import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -49,6 +50,8 @@ import java.text.DecimalFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -71,9 +74,10 @@ import java.util.*;
  * </pre>
  * </p>
  * <p>
- * This Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * This Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response). Calls made from a single thread are executed in order. Bitstamp only accepts a nonce
+ * higher than the last one it was sent, so private API calls wait their turn; public calls are not held up.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -122,10 +126,22 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private static final String SECRET_PROPERTY_NAME = "secret";
 
+    /**
+     * How long in hours the fees are cached for. They only change when the account's 30 day volume moves tier, and
+     * every balance call refreshes them anyway.
+     */
+    private static final long FEE_SCHEDULE_TIME_TO_LIVE = 24;
+
+    /**
+     * Suffix of the fee fields in the balance API call response, e.g. btcusd_fee.
+     */
+    private static final String FEE_FIELD_SUFFIX = "_fee";
+
     /**
      * Nonce used for sending authenticated messages to the exchange.
+     * Atomic because Trading Strategies on the same exchange can call the adapter concurrently.
      */
-    private long nonce = 0;
+    private final AtomicLong nonce = new AtomicLong();
 
     /**
      * Used to indicate if we have initialised the MAC authentication protocol.
@@ -158,6 +174,12 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private Gson gson;
 
+    /**
+     * The fees for each market, taken from the balance API call.
+     */
+    private final FeeSchedule feeSchedule = new FeeSchedule(FEE_SCHEDULE_TIME_TO_LIVE, TimeUnit.HOURS,
+            this::getFeeSchedule);
+
 
     @Override
     public void init(ExchangeConfig config) {
@@ -166,9 +188,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
         setAuthenticationConfig(config);
         setNetworkConfig(config);
 
-        nonce = System.currentTimeMillis() / 1000; // set the initial nonce used in the secure messaging.
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(API_BASE_URL + "trading-pairs-info/");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -181,9 +203,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("order_book/" + marketId);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final BitstampOrderBook bitstampOrderBook = gson.fromJson(response.getPayload(), BitstampOrderBook.class);
+            final BitstampOrderBook bitstampOrderBook = fromJson(gson, response.getPayload(), BitstampOrderBook.class);
 
             final List<MarketOrder> buyOrders = new ArrayList<>();
             final List<List<BigDecimal>> bitstampBuyOrders = bitstampOrderBook.bids;
@@ -222,9 +244,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("open_orders/" + marketId, null);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
-            final BitstampOrderResponse[] myOpenOrders = gson.fromJson(response.getPayload(), BitstampOrderResponse[].class);
+            final BitstampOrderResponse[] myOpenOrders = fromJson(gson, response.getPayload(), BitstampOrderResponse[].class);
 
             // No need to filter on marketId; exchange does this for us.
             final List<OpenOrder> ordersToReturn = new ArrayList<>();
@@ -291,9 +313,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
                 throw new IllegalArgumentException(errorMsg);
             }
 
-            LOG.debug(() -> "Create Order response: " + response);
+            LOG.debug("Create Order response: {}", response);
 
-            final BitstampOrderResponse createOrderResponse = gson.fromJson(response.getPayload(), BitstampOrderResponse.class);
+            final BitstampOrderResponse createOrderResponse = fromJson(gson, response.getPayload(), BitstampOrderResponse.class);
             final long id = createOrderResponse.id;
             if (id == 0) {
                 final String errorMsg = "Failed to place order on exchange. Error response: " + response;
@@ -311,6 +333,17 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /*
+     * The exchange does not take client order ids, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        final String errorMsg = getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     /*
      * marketId is not needed for cancelling orders on this exchange.
      */
@@ -322,9 +355,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
             params.put("id", orderId);
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("cancel_order", params);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
-            final BitstampCancelOrderResponse cancelOrderResponse = gson.fromJson(response.getPayload(), BitstampCancelOrderResponse.class);
+            final BitstampCancelOrderResponse cancelOrderResponse = fromJson(gson, response.getPayload(), BitstampCancelOrderResponse.class);
             if (!orderId.equals(String.valueOf(cancelOrderResponse.id))) {
                 final String errorMsg = "Failed to cancel order on exchange. Error response: " + response;
                 LOG.error(errorMsg);
@@ -346,9 +379,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker/" + marketId);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final BitstampTicker bitstampTicker = gson.fromJson(response.getPayload(), BitstampTicker.class);
+            final BitstampTicker bitstampTicker = fromJson(gson, response.getPayload(), BitstampTicker.class);
             return bitstampTicker.last;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -364,9 +397,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("balance", null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
-            final BitstampBalance balances = gson.fromJson(response.getPayload(), BitstampBalance.class);
+            final BitstampBalance balances = fromJson(gson, response.getPayload(), BitstampBalance.class);
 
             final Map<String, BigDecimal> balancesAvailable = new HashMap<>();
             balancesAvailable.put("BTC", balances.btc_available);
@@ -382,6 +415,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
             balancesOnOrder.put("LTC", balances.ltc_reserved);
             balancesOnOrder.put("XRP", balances.xrp_reserved);
 
+            // the fees come back with the balances, so keep them fresh while we're here
+            feeSchedule.update(toFeeSchedule(balances));
+
             return new BalanceInfoImpl(balancesAvailable, balancesOnOrder);
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -397,26 +433,8 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
             ExchangeNetworkException {
 
         try {
-            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("balance", null);
-            LOG.debug(() -> "Buy Fee response: " + response);
-
-            final BitstampBalance balances = gson.fromJson(response.getPayload(), BitstampBalance.class);
-
-            // Ouch!
-            final Class<?> clazz = balances.getClass();
-            final Field[] fields = clazz.getDeclaredFields();
-            for (final Field field : fields) {
-                if (field.getName().startsWith(marketId)) {
-                    final BigDecimal fee = (BigDecimal) field.get(balances);
-                    // adapt the % into BigDecimal format
-                    return fee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP);
-                }
-            }
-
-            final String errorMsg = "Unable to map marketId to currency balances returned from the Exchange. "
-                    + "MarketId: " + marketId + " BitstampBalances: " + balances;
-            LOG.error(errorMsg);
-            throw new IllegalArgumentException(errorMsg);
+            // Bitstamp charges the same fee whether the order makes or takes liquidity
+            return feeSchedule.getFees(marketId).getTakerFee();
 
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
@@ -430,27 +448,29 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
     public BigDecimal getPercentageOfSellOrderTakenForExchangeFee(String marketId) throws TradingApiException,
             ExchangeNetworkException {
 
+        try {
+            // Bitstamp charges the same fee whether the order makes or takes liquidity
+            return feeSchedule.getFees(marketId).getTakerFee();
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /**
+     * Fetches the fee for every market from the balance API call.
+     */
+    private Map<String, FeeSchedule.MarketFees> getFeeSchedule() throws TradingApiException, ExchangeNetworkException {
+
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("balance", null);
-            LOG.debug(() -> "Sell Fee response: " + response);
-
-            final BitstampBalance balances = gson.fromJson(response.getPayload(), BitstampBalance.class);
-
-            // Ouch!
-            final Class<?> clazz = balances.getClass();
-            final Field[] fields = clazz.getDeclaredFields();
-            for (final Field field : fields) {
-                if (field.getName().startsWith(marketId)) {
-                    final BigDecimal fee = (BigDecimal) field.get(balances);
-                    // adapt the % into BigDecimal format
-                    return fee.divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP);
-                }
-            }
+            LOG.debug("Fee Schedule response: {}", response);
 
-            final String errorMsg = "Unable to map marketId to currency balances returned from the Exchange. "
-                    + "MarketId: " + marketId + " BitstampBalances: " + balances;
-            LOG.error(errorMsg);
-            throw new IllegalArgumentException(errorMsg);
+            final BitstampBalance balances = fromJson(gson, response.getPayload(), BitstampBalance.class);
+            return toFeeSchedule(balances);
 
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
@@ -470,9 +490,9 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker/" + marketId);
-            LOG.debug(() -> "Ticker response: " + response);
+            LOG.debug("Ticker response: {}", response);
 
-            final BitstampTicker bitstampTicker = gson.fromJson(response.getPayload(), BitstampTicker.class);
+            final BitstampTicker bitstampTicker = fromJson(gson, response.getPayload(), BitstampTicker.class);
             return new TickerImpl(
                     bitstampTicker.last,
                     bitstampTicker.bid,
@@ -492,6 +512,121 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * marketId is used to find the quantity traded; the exchange keys the amounts of each transaction by currency.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("id", orderId);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order_status", params);
+            LOG.debug("Order Status response: {}", response);
+
+            final BitstampOrderStatus orderStatus = fromJson(gson, response.getPayload(), BitstampOrderStatus.class);
+            if (orderStatus.status == null) {
+                final String errorMsg = "Failed to get order status from exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+            final String baseCurrency = marketId.substring(0, 3);
+            BigDecimal filledQuantity = BigDecimal.ZERO;
+            BigDecimal filledValue = BigDecimal.ZERO;
+            if (orderStatus.transactions != null) {
+                for (final JsonObject transaction : orderStatus.transactions) {
+                    final BigDecimal quantity = transaction.get(baseCurrency).getAsBigDecimal().abs();
+                    filledQuantity = filledQuantity.add(quantity);
+                    filledValue = filledValue.add(quantity.multiply(transaction.get("price").getAsBigDecimal()));
+                }
+            }
+
+            final OrderState state = toOrderState(
+                    "Open".equals(orderStatus.status) || "In Queue".equals(orderStatus.status),
+                    "Canceled".equals(orderStatus.status),
+                    filledQuantity);
+
+            return new OrderStatusImpl(
+                    orderId,
+                    marketId,
+                    toOrderType(orderStatus.type),
+                    state,
+                    null, // price - not provided by stamp :-(
+                    orderStatus.amount_remaining == null ? null : orderStatus.amount_remaining.add(filledQuantity),
+                    filledQuantity,
+                    filledQuantity.signum() == 0 ? null : filledValue.divide(filledQuantity, 8, RoundingMode.HALF_EVEN));
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the latest 1000 transactions are fetched - the max the exchange returns in 1 call.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("offset", "0");
+            params.put("limit", "1000");
+            params.put("sort", "desc");
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("user_transactions/" + marketId, params);
+            LOG.debug("Fills response: {}", response);
+
+            final JsonObject[] transactions = fromJson(gson, response.getPayload(), JsonObject[].class);
+
+            // Amounts are keyed by currency, and the price by market, e.g. btc, usd, and btc_usd for btcusd
+            final String baseCurrency = marketId.substring(0, 3);
+            final String priceKey = baseCurrency + "_" + marketId.substring(3);
+
+            final List<Fill> fills = new ArrayList<>();
+            for (final JsonObject transaction : transactions) {
+                if (transaction.get("type").getAsInt() != 2) {
+                    continue; // deposit, withdrawal, or transfer
+                }
+                final Date creationDate = gson.fromJson(transaction.get("datetime"), Date.class);
+                if (creationDate.before(since)) {
+                    continue;
+                }
+                final BigDecimal quantity = transaction.get(baseCurrency).getAsBigDecimal();
+                fills.add(new FillImpl(
+                        transaction.get("id").getAsString(),
+                        transaction.get("order_id").getAsString(),
+                        marketId,
+                        quantity.signum() > 0 ? OrderType.BUY : OrderType.SELL,
+                        creationDate,
+                        transaction.get(priceKey).getAsBigDecimal(),
+                        quantity.abs(),
+                        transaction.get("fee").getAsBigDecimal()));
+            }
+            return sortOldestFirst(fills);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  GSON classes for JSON responses.
     //  See https://www.bitstamp.net/api/
@@ -652,6 +787,28 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
         }
     }
 
+    /**
+     * GSON class for Bitstamp order status response. The transactions are the order's fills; their amounts are keyed
+     * by currency, so they are left as JSON objects.
+     */
+    private static class BitstampOrderStatus {
+
+        public String status; // Open, In Queue, Finished, or Canceled
+        public String type; // 0 = buy; 1 = sell
+        public BigDecimal amount_remaining;
+        public List<JsonObject> transactions;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("status", status)
+                    .add("type", type)
+                    .add("amount_remaining", amount_remaining)
+                    .add("transactions", transactions)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for Bitstamp cancel order response.
      */
@@ -739,6 +896,14 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
      */
     private ExchangeHttpResponse sendAuthenticatedRequestToExchange(String apiMethod, Map<String, String> params) throws
             ExchangeNetworkException, TradingApiException {
+        return sendInNonceOrder(() -> signAndSendAuthenticatedRequest(apiMethod, params));
+    }
+
+    /*
+     * Takes the nonce for the request, signs it and sends it. Only called by sendInNonceOrder.
+     */
+    private ExchangeHttpResponse signAndSendAuthenticatedRequest(String apiMethod, Map<String, String> params)
+            throws ExchangeNetworkException, TradingApiException {
 
         if (!initializedMACAuthentication) {
             final String errorMsg = "MAC Message security layer has not been initialized.";
@@ -753,15 +918,11 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
                 params = createRequestParamMap();
             }
 
-            params.put("key", key);
-            params.put("nonce", Long.toString(nonce));
+            // grab the nonce for this call - it is based on the exchange's time so it survives restarts
+            final long requestNonce = nextNonce(nonce);
 
-            // Create MAC message for signature
-            // message = nonce + client_id + api_key
-            mac.reset(); // force reset
-            mac.update(String.valueOf(nonce).getBytes("UTF-8"));
-            mac.update(clientId.getBytes("UTF-8"));
-            mac.update(key.getBytes("UTF-8"));
+            params.put("key", key);
+            params.put("nonce", Long.toString(requestNonce));
 
             /*
              * Signature is a HMAC-SHA256 encoded message containing: nonce, client ID and API key.
@@ -769,13 +930,20 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
              * This code must be converted to it's hexadecimal representation (64 uppercase characters).
              *
              * signature = hmac.new(API_SECRET, msg=message, digestmod=hashlib.sha256).hexdigest().upper()
+             *
+             * The MAC is shared, so it is locked while signing - but never while talking to the exchange.
              */
-            final String signature = toHex(mac.doFinal()).toUpperCase();
+            final String signature;
+            synchronized (mac) {
+                // message = nonce + client_id + api_key
+                mac.reset(); // force reset
+                mac.update(String.valueOf(requestNonce).getBytes("UTF-8"));
+                mac.update(clientId.getBytes("UTF-8"));
+                mac.update(key.getBytes("UTF-8"));
+                signature = toHex(mac.doFinal()).toUpperCase();
+            }
             params.put("signature", signature);
 
-            // increment ready for next call...
-            nonce++;
-
             // Build the URL with query param args in it
             final StringBuilder postData = new StringBuilder("");
             for (final Map.Entry<String, String> param : params.entrySet()) {
@@ -865,6 +1033,50 @@ public final class BitstampExchangeAdapter extends AbstractExchangeAdapter imple
         gson = gsonBuilder.create();
     }
 
+    /**
+     * Converts a Bitstamp order type into an OrderType.
+     *
+     * @param bitstampOrderType the Bitstamp order type: 0 = buy; 1 = sell.
+     * @return the order type, or null if the exchange did not provide it.
+     * @throws TradingApiException if the order type is not recognised.
+     */
+    private OrderType toOrderType(String bitstampOrderType) throws TradingApiException {
+        if (bitstampOrderType == null) {
+            return null;
+        } else if ("0".equals(bitstampOrderType)) {
+            return OrderType.BUY;
+        } else if ("1".equals(bitstampOrderType)) {
+            return OrderType.SELL;
+        }
+        throw new TradingApiException("Unrecognised order type received. Value: " + bitstampOrderType);
+    }
+
+    /**
+     * Adapts the &lt;market&gt;_fee fields in a balance response into a fee schedule keyed by market id.
+     *
+     * @param balances the balance response.
+     * @return the fees for each market.
+     * @throws IllegalAccessException if a fee field cannot be read.
+     */
+    private static Map<String, FeeSchedule.MarketFees> toFeeSchedule(BitstampBalance balances)
+            throws IllegalAccessException {
+
+        final Map<String, FeeSchedule.MarketFees> schedule = new HashMap<>();
+
+        // Ouch!
+        for (final Field field : BitstampBalance.class.getDeclaredFields()) {
+            if (field.getName().endsWith(FEE_FIELD_SUFFIX) && field.get(balances) != null) {
+                // adapt the % into BigDecimal format
+                final BigDecimal fee = ((BigDecimal) field.get(balances))
+                        .divide(new BigDecimal("100"), 8, BigDecimal.ROUND_HALF_UP);
+                final String marketId = field.getName()
+                        .substring(0, field.getName().length() - FEE_FIELD_SUFFIX.length());
+                schedule.put(marketId, new FeeSchedule.MarketFees(fee, fee));
+            }
+        }
+        return schedule;
+    }
+
     /*
      * Hack for unit-testing map params passed to transport layer.
      */
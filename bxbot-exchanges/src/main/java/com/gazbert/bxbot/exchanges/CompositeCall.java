@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A result assembled from several calls to the exchange, e.g. a ticker built from a ticker endpoint and a 24 hour
+ * stats endpoint. The adapter adds a {@link Part} for each call, then executes them all at once: the first part runs
+ * on the calling thread and the others run in parallel on the shared executor, so the result takes as long as the
+ * slowest call rather than the sum of them.
+ * <p>
+ * Parts that change slowly can be served from an {@link ExpiringCache}; they then only call the exchange when the
+ * cached value has expired.
+ * <p>
+ * Create a new instance for each result, using {@link AbstractExchangeAdapter#newCompositeCall()}. This class is not
+ * thread safe.
+ *
+ * @author gazbert
+ */
+class CompositeCall {
+
+    private final ExecutorService executor;
+    private final List<Part<?>> parts = new ArrayList<>();
+
+
+    CompositeCall(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Adds a call to the result.
+     *
+     * @param call the call.
+     * @param <T>  the type of the call's result.
+     * @return the part, for fetching the call's result once executed.
+     */
+    <T> Part<T> add(ExchangeCall<T> call) {
+        final Part<T> part = new Part<>(call);
+        parts.add(part);
+        return part;
+    }
+
+    /**
+     * Makes all the calls and waits for them to finish. If any of them fail, the failure of the first one added is
+     * thrown, so the caller sees the same exception as if the calls had been made one after another.
+     *
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange.
+     * @throws TradingApiException      if a call failed for any reason other than a network error.
+     */
+    void execute() throws ExchangeNetworkException, TradingApiException {
+
+        final List<Future<?>> futures = new ArrayList<>();
+        for (final Part<?> part : parts.subList(Math.min(1, parts.size()), parts.size())) {
+            futures.add(executor.submit(part::run));
+        }
+
+        Throwable failure = null;
+        if (!parts.isEmpty()) {
+            try {
+                parts.get(0).run();
+            } catch (Exception | Error e) {
+                failure = e;
+            }
+        }
+
+        for (final Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new TradingApiException("Interrupted waiting for call to exchange", e);
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure instanceof ExchangeNetworkException) {
+            throw (ExchangeNetworkException) failure;
+        } else if (failure instanceof TradingApiException) {
+            throw (TradingApiException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new TradingApiException("Unexpected error calling exchange", failure);
+        }
+    }
+
+    /**
+     * A call that makes up part of the result.
+     *
+     * @param <T> the type of the call's result.
+     */
+    static final class Part<T> {
+
+        private final ExchangeCall<T> call;
+        private T result;
+
+        private Part(ExchangeCall<T> call) {
+            this.call = call;
+        }
+
+        private Void run() throws ExchangeNetworkException, TradingApiException {
+            result = call.call();
+            return null;
+        }
+
+        /**
+         * Returns the call's result.
+         *
+         * @return the result, once {@link CompositeCall#execute()} has returned.
+         */
+        T get() {
+            return result;
+        }
+    }
+}
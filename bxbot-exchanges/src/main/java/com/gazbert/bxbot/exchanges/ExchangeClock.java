@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Keeps an estimate of how far an exchange's clock is from ours, and of the round trip time to the exchange, so
+ * nonces and request timestamps can be based on the exchange's time instead of our own.
+ * <p>
+ * It is fed a sample from every response the exchange sends back: the time the request was sent, the time the
+ * response arrived, and the exchange's time from the response's HTTP <code>Date</code> header. The exchange is
+ * assumed to have stamped the response halfway through the round trip. The <code>Date</code> header only has whole
+ * seconds, so each sample is out by up to half a second either way; the estimates are a moving average of the
+ * samples, which smooths this out as requests are sent at different points in the second.
+ * <p>
+ * The offset, round trip time, and one-way latency estimates are published as gauges tagged with the adapter name
+ * and the exchange id, so exchanges that use the same adapter each get their own.
+ * <p>
+ * Each adapter gets its own instance. This class is thread safe.
+ *
+ * @author gazbert
+ */
+class ExchangeClock {
+
+    /**
+     * Gauge metric for the estimated offset in millis of the exchange's clock from ours. Positive if it is ahead.
+     */
+    private static final String CLOCK_OFFSET_METRIC = "bxbot.exchange.clock.offset";
+
+    /**
+     * Gauge metric for the estimated round trip time in millis to the exchange.
+     */
+    private static final String ROUND_TRIP_TIME_METRIC = "bxbot.exchange.round.trip.time";
+
+    /**
+     * Gauge metric for the estimated one-way latency in millis to the exchange.
+     */
+    private static final String ONE_WAY_LATENCY_METRIC = "bxbot.exchange.one.way.latency";
+
+    /**
+     * The weight given to each new sample in the moving averages.
+     */
+    private static final double SAMPLE_WEIGHT = 0.1;
+
+    /**
+     * The Date header rounds the exchange's time down to the second; this puts the sample in the middle of it.
+     */
+    private static final long HALF_A_SECOND_IN_MILLIS = 500;
+
+    private volatile double offsetInMillis;
+    private volatile double roundTripTimeInMillis;
+    private volatile boolean sampled;
+    private boolean published;
+
+
+    /**
+     * Publishes the estimates as gauges. Only the first call does anything: the adapter's exchange id is not known
+     * until it is initialised, and the gauges only ever report this clock.
+     *
+     * @param adapterName the name of the adapter.
+     * @param exchangeId  the id of the exchange the adapter trades on.
+     */
+    synchronized void publishMetrics(String adapterName, String exchangeId) {
+
+        if (published) {
+            return;
+        }
+        Gauge.builder(CLOCK_OFFSET_METRIC, this, ExchangeClock::getOffsetInMillis)
+                .tags("adapter", adapterName, "exchange", exchangeId)
+                .baseUnit("milliseconds")
+                .register(Metrics.globalRegistry);
+        Gauge.builder(ROUND_TRIP_TIME_METRIC, this, ExchangeClock::getRoundTripTimeInMillis)
+                .tags("adapter", adapterName, "exchange", exchangeId)
+                .baseUnit("milliseconds")
+                .register(Metrics.globalRegistry);
+        Gauge.builder(ONE_WAY_LATENCY_METRIC, this, ExchangeClock::getOneWayLatencyInMillis)
+                .tags("adapter", adapterName, "exchange", exchangeId)
+                .baseUnit("milliseconds")
+                .register(Metrics.globalRegistry);
+        published = true;
+    }
+
+    /**
+     * Adds a sample taken from a response's HTTP <code>Date</code> header.
+     *
+     * @param requestSentTime      our System.currentTimeMillis() when the request was sent.
+     * @param responseReceivedTime our System.currentTimeMillis() when the response arrived.
+     * @param exchangeDateInMillis the exchange's time from the Date header, in millis.
+     */
+    synchronized void sample(long requestSentTime, long responseReceivedTime, long exchangeDateInMillis) {
+
+        final long roundTripTime = Math.max(0, responseReceivedTime - requestSentTime);
+        final double offset = exchangeDateInMillis + HALF_A_SECOND_IN_MILLIS - (requestSentTime + roundTripTime / 2.0);
+
+        if (sampled) {
+            offsetInMillis += SAMPLE_WEIGHT * (offset - offsetInMillis);
+            roundTripTimeInMillis += SAMPLE_WEIGHT * (roundTripTime - roundTripTimeInMillis);
+        } else {
+            offsetInMillis = offset;
+            roundTripTimeInMillis = roundTripTime;
+            sampled = true;
+        }
+    }
+
+    /**
+     * Returns the exchange's current time, as best we know it.
+     *
+     * @return the exchange's time in millis since the epoch. It is our time until the exchange has been sampled.
+     */
+    long currentTimeMillis() {
+        return System.currentTimeMillis() + Math.round(offsetInMillis);
+    }
+
+    double getOffsetInMillis() {
+        return offsetInMillis;
+    }
+
+    double getRoundTripTimeInMillis() {
+        return roundTripTimeInMillis;
+    }
+
+    double getOneWayLatencyInMillis() {
+        return roundTripTimeInMillis / 2;
+    }
+}
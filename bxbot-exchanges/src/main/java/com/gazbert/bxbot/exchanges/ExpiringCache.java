@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the results of calls to the exchange that change slowly, e.g. 24 hour stats, for a fixed time to live.
+ * <p>
+ * A value is fetched from the exchange when it is first asked for, and again once it has expired. Failed calls are not
+ * cached. If the same key is asked for on several threads while it is missing, each of them may call the exchange;
+ * the last value fetched is kept.
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <K> the type of the key, e.g. a market id.
+ * @param <V> the type of the cached value.
+ * @author gazbert
+ */
+class ExpiringCache<K, V> {
+
+    private final long timeToLiveInNanos;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+
+    ExpiringCache(long timeToLive, TimeUnit unit) {
+        this.timeToLiveInNanos = unit.toNanos(timeToLive);
+    }
+
+    /**
+     * Returns the cached value for the key, fetching it from the exchange if it is missing or has expired.
+     *
+     * @param key  the key.
+     * @param call the call that fetches the value from the exchange.
+     * @return the value.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange.
+     * @throws TradingApiException      if the call failed for any reason other than a network error.
+     */
+    V get(K key, ExchangeCall<V> call) throws ExchangeNetworkException, TradingApiException {
+
+        final Entry<V> entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.fetchedAt < timeToLiveInNanos) {
+            return entry.value;
+        }
+
+        final long fetchedAt = System.nanoTime();
+        final V value = call.call();
+        entries.put(key, new Entry<>(value, fetchedAt));
+        return value;
+    }
+
+    /**
+     * Caches a value that came back from the exchange as part of another call, restarting its time to live.
+     *
+     * @param key   the key.
+     * @param value the value.
+     */
+    void put(K key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime()));
+    }
+
+    /**
+     * Drops the cached value for the key, so the next {@link #get(Object, ExchangeCall)} fetches it from the exchange.
+     *
+     * @param key the key.
+     */
+    void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Drops all the cached values.
+     */
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long fetchedAt;
+
+        private Entry(V value, long fetchedAt) {
+            this.value = value;
+            this.fetchedAt = fetchedAt;
+        }
+    }
+}
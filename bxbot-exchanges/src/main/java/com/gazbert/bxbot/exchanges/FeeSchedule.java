@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import com.google.common.base.MoreObjects;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds an exchange's maker and taker fees for each market, so fee queries are served from memory instead of calling
+ * the exchange every time.
+ * <p>
+ * The whole schedule is fetched from the exchange in one call when a fee is first asked for, and again once it has
+ * expired. Fees rarely change - usually only when the account moves to a different 30 day volume tier - so the time to
+ * live can be long. Adapters that get the fees back as part of another call, e.g. fetching the balances, can
+ * {@link #update(Map)} the schedule for free, and {@link #invalidate()} drops it if the fees are known to be stale.
+ * <p>
+ * Markets missing from the schedule get the fees held under {@link #ALL_MARKETS}, if there are any.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author gazbert
+ */
+class FeeSchedule {
+
+    /**
+     * Key for the fees that apply to any market not in the schedule.
+     */
+    static final String ALL_MARKETS = "*";
+
+    private static final String SCHEDULE = "schedule";
+
+    private final ExpiringCache<String, Map<String, MarketFees>> cache;
+    private final ExchangeCall<Map<String, MarketFees>> fetchSchedule;
+
+
+    /**
+     * Creates a fee schedule.
+     *
+     * @param timeToLive    how long the fees are kept before being fetched again.
+     * @param unit          the unit of the time to live.
+     * @param fetchSchedule the call that fetches the fees for all the markets from the exchange, keyed by market id.
+     */
+    FeeSchedule(long timeToLive, TimeUnit unit, ExchangeCall<Map<String, MarketFees>> fetchSchedule) {
+        this.cache = new ExpiringCache<>(timeToLive, unit);
+        this.fetchSchedule = fetchSchedule;
+    }
+
+    /**
+     * Returns the fees for a market, fetching the schedule from the exchange if it is missing or has expired.
+     *
+     * @param marketId the market id.
+     * @return the fees for the market.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange.
+     * @throws TradingApiException      if the schedule could not be fetched, or it has no fees for the market.
+     */
+    MarketFees getFees(String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final Map<String, MarketFees> schedule = cache.get(SCHEDULE, fetchSchedule);
+
+        final MarketFees fees = schedule.getOrDefault(marketId, schedule.get(ALL_MARKETS));
+        if (fees == null) {
+            throw new TradingApiException("No fees for market in the exchange's fee schedule. MarketId: " + marketId
+                    + " Fee schedule: " + schedule);
+        }
+        return fees;
+    }
+
+    /**
+     * Replaces the schedule with fees that came back from the exchange as part of another call.
+     *
+     * @param schedule the fees for all the markets, keyed by market id.
+     */
+    void update(Map<String, MarketFees> schedule) {
+        cache.put(SCHEDULE, schedule);
+    }
+
+    /**
+     * Drops the schedule, so the next fee query fetches it from the exchange.
+     */
+    void invalidate() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The maker and taker fees for a market, as fractions of the order value, e.g. 0.0025 for 0.25%.
+     */
+    static final class MarketFees {
+
+        private final BigDecimal makerFee;
+        private final BigDecimal takerFee;
+
+        MarketFees(BigDecimal makerFee, BigDecimal takerFee) {
+            this.makerFee = makerFee;
+            this.takerFee = takerFee;
+        }
+
+        BigDecimal getMakerFee() {
+            return makerFee;
+        }
+
+        BigDecimal getTakerFee() {
+            return takerFee;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("makerFee", makerFee)
+                    .add("takerFee", takerFee)
+                    .toString();
+        }
+    }
+}
@@ -38,14 +38,17 @@ import org.apache.logging.log4j.Logger;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import javax.xml.bind.DatatypeConverter;
+import java.io.FileNotFoundException;
 import java.io.UnsupportedEncodingException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.*;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <p>
@@ -68,6 +71,7 @@ import java.util.*;
  * <p>
  * The adapter currently only supports <a href="https://docs.gdax.com/#place-a-new-order">Limit Orders</a>.
  * It was originally developed and tested for BTC-GBP market, but it should work for BTC-USD.
+ * Orders can be tagged with a client order id (the GDAX client_oid) and looked up by it afterwards.
  * </p>
  * <p>
  * Exchange fees are loaded from the exchange.xml file on startup; they are not fetched from the exchange
@@ -80,9 +84,9 @@ import java.util.*;
  * {@link java.math.RoundingMode#HALF_EVEN}, E.g. 250.176 would be sent to the exchange as 250.18.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response), but no lock is held while it waits. Calls made from a single thread are executed in order.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -141,6 +145,11 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
      */
     private static final String SELL_FEE_PROPERTY_NAME = "sell-fee";
 
+    /**
+     * How long in SECONDS the 24 hour stats for a market are cached for. They barely change between trade cycles.
+     */
+    private static final long STATS_CACHE_TIME_TO_LIVE = 60;
+
     /**
      * Exchange buy fees in % in {@link BigDecimal} format.
      */
@@ -182,6 +191,12 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
      */
     private Gson gson;
 
+    /**
+     * The 24 hour stats for each market, keyed by market id.
+     */
+    private final ExpiringCache<String, GdaxStats> statsCache =
+            new ExpiringCache<>(STATS_CACHE_TIME_TO_LIVE, TimeUnit.SECONDS);
+
     @Override
     public void init(ExchangeConfig config) {
 
@@ -192,6 +207,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
 
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "time");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -202,6 +218,15 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
     @Override
     public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price) throws
             TradingApiException, ExchangeNetworkException {
+        return createOrder(marketId, orderType, quantity, price, null);
+    }
+
+    /*
+     * The client order id must be a UUID - see newClientOrderId().
+     */
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                              String clientOrderId) throws TradingApiException, ExchangeNetworkException {
 
         try {
 
@@ -211,7 +236,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
              * stp param optional           - (Self-trade prevention flag) defaults to 'dc' Decrease & Cancel
              * post_only param optional     - defaults to 'false'
              * time_in_force param optional - defaults to 'GTC' Good til Cancel
-             * client_oid param is optional - thia adapter does not use it.
+             * client_oid param optional      - the client order id, if one was given.
              */
             final Map<String, String> params = createRequestParamMap();
 
@@ -236,11 +261,15 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
             // note we need to limit size to 8 decimal places else exchange will barf
             params.put("size", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(quantity));
 
+            if (clientOrderId != null) {
+                params.put("client_oid", clientOrderId);
+            }
+
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("POST", "orders", params);
-            LOG.debug(() -> "Create Order response: " + response);
+            LOG.debug("Create Order response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
-                final GdaxOrder createOrderResponse = gson.fromJson(response.getPayload(), GdaxOrder.class);
+                final GdaxOrder createOrderResponse = fromJson(gson, response.getPayload(), GdaxOrder.class);
                 if (createOrderResponse != null && (createOrderResponse.id != null && !createOrderResponse.id.isEmpty())) {
                     return createOrderResponse.id;
                 } else {
@@ -272,7 +301,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         try {
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("DELETE", "orders/" + orderId, null);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
                 // 1 Nov 2017 - GDAX API no longer returns cancelled orderId in array payload; it returns [null]...
@@ -291,24 +320,97 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         }
     }
 
+    /*
+     * GDAX cannot place several orders in 1 call, but it signs requests with a timestamp instead of a nonce, so the
+     * orders are placed concurrently.
+     */
+    @Override
+    public List<OrderResult> createOrders(List<OrderRequest> orderRequests) {
+        return submitConcurrently(orderRequests, orderRequest -> {
+            try {
+                return OrderResult.succeeded(createOrder(orderRequest.getMarketId(), orderRequest.getType(),
+                        orderRequest.getQuantity(), orderRequest.getPrice()));
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                return OrderResult.failed(null, e);
+            }
+        });
+    }
+
+    /*
+     * Cancelled concurrently, like createOrders. marketId is not needed for cancelling orders on this exchange.
+     */
+    @Override
+    public List<OrderResult> cancelOrders(List<String> orderIds, String marketIdNotNeeded) {
+        return submitConcurrently(orderIds, orderId -> {
+            try {
+                return cancelOrder(orderId, marketIdNotNeeded)
+                        ? OrderResult.succeeded(orderId)
+                        : OrderResult.failed(orderId, new TradingApiException("Exchange did not cancel order " + orderId));
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                return OrderResult.failed(orderId, e);
+            }
+        });
+    }
+
+    /*
+     * Uses 'DELETE orders?product_id=' to cancel all the market's orders in 1 call. The exchange returns the ids of
+     * the orders it cancelled.
+     */
+    @Override
+    public List<OrderResult> cancelAllOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final ExchangeHttpResponse response =
+                    sendAuthenticatedRequestToExchange("DELETE", "orders?product_id=" + marketId, null);
+            LOG.debug("Cancel All Orders response: {}", response);
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+                final String[] cancelledOrderIds = fromJson(gson, response.getPayload(), String[].class);
+                final List<OrderResult> orderResults = new ArrayList<>();
+                for (final String orderId : cancelledOrderIds) {
+                    orderResults.add(OrderResult.succeeded(orderId));
+                }
+                return orderResults;
+            } else {
+                final String errorMsg = "Failed to cancel all orders on exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     @Override
     public List<OpenOrder> getYourOpenOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+        return getYourOpenOrders(Collections.singletonList(marketId)).get(marketId);
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
 
         try {
 
             // we use default request no-param call - only open or un-settled orders are returned.
             // As soon as an order is no longer open and settled, it will no longer appear in the default request.
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("GET", "orders", null);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final GdaxOrder[] gdaxOpenOrders = gson.fromJson(response.getPayload(), GdaxOrder[].class);
+                final GdaxOrder[] gdaxOpenOrders = fromJson(gson, response.getPayload(), GdaxOrder[].class);
 
-                final List<OpenOrder> ordersToReturn = new ArrayList<>();
+                final Map<String, List<OpenOrder>> ordersToReturn = createOpenOrdersByMarket(marketIds);
                 for (final GdaxOrder openOrder : gdaxOpenOrders) {
 
-                    if (!marketId.equalsIgnoreCase(openOrder.product_id)) {
+                    final String marketId = findMarketIdIgnoringCase(marketIds, openOrder.product_id);
+                    if (marketId == null) {
                         continue;
                     }
 
@@ -336,7 +438,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                             openOrder.price.multiply(openOrder.size)        // total - not provided by GDAX
                     );
 
-                    ordersToReturn.add(order);
+                    ordersToReturn.get(marketId).add(order);
                 }
                 return ordersToReturn;
             } else {
@@ -362,11 +464,11 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
             params.put("level", "2"); //  "2" = Top 50 bids and asks (aggregated)
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("products/" + marketId + "/book", params);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final GdaxBookWrapper orderBook = gson.fromJson(response.getPayload(), GdaxBookWrapper.class);
+                final GdaxBookWrapper orderBook = fromJson(gson, response.getPayload(), GdaxBookWrapper.class);
 
                 final List<MarketOrder> buyOrders = new ArrayList<>();
                 for (GdaxMarketOrder gdaxBuyOrder : orderBook.bids) {
@@ -409,11 +511,11 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("GET", "accounts", null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final GdaxAccount[] gdaxAccounts = gson.fromJson(response.getPayload(), GdaxAccount[].class);
+                final GdaxAccount[] gdaxAccounts = fromJson(gson, response.getPayload(), GdaxAccount[].class);
 
                 final HashMap<String, BigDecimal> balancesAvailable = new HashMap<>();
                 final HashMap<String, BigDecimal> balancesOnHold = new HashMap<>();
@@ -444,10 +546,10 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         try {
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("products/" + marketId + "/ticker", null);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
-                final GdaxTicker gdaxTicker = gson.fromJson(response.getPayload(), GdaxTicker.class);
+                final GdaxTicker gdaxTicker = fromJson(gson, response.getPayload(), GdaxTicker.class);
                 return gdaxTicker.price;
             } else {
                 final String errorMsg = "Failed to get market ticker from exchange. Details: " + response;
@@ -491,11 +593,19 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
 
         try {
 
-            final ExchangeHttpResponse tickerResponse = sendPublicRequestToExchange("products/" + marketId + "/ticker", null);
-            LOG.debug(() -> "Ticker response: " + tickerResponse);
+            // The ticker and the (cached) 24 hour stats are fetched in parallel
+            final CompositeCall compositeCall = newCompositeCall();
+            final CompositeCall.Part<ExchangeHttpResponse> tickerPart = compositeCall.add(
+                    () -> sendPublicRequestToExchange("products/" + marketId + "/ticker", null));
+            final CompositeCall.Part<GdaxStats> statsPart = compositeCall.add(
+                    () -> statsCache.get(marketId, () -> getStats(marketId)));
+            compositeCall.execute();
+
+            final ExchangeHttpResponse tickerResponse = tickerPart.get();
+            LOG.debug("Ticker response: {}", tickerResponse);
 
             if (tickerResponse.getStatusCode() == HttpURLConnection.HTTP_OK) {
-                final GdaxTicker gdaxTicker = gson.fromJson(tickerResponse.getPayload(), GdaxTicker.class);
+                final GdaxTicker gdaxTicker = fromJson(gson, tickerResponse.getPayload(), GdaxTicker.class);
 
                 final TickerImpl ticker = new TickerImpl(
                         gdaxTicker.price,
@@ -508,20 +618,11 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                         null, // vwap - not supplied by GDAX
                         Date.from(Instant.parse(gdaxTicker.time)).getTime());
 
-                // Now we need to call the stats operation to get the 24hr indicators
-                final ExchangeHttpResponse statsResponse = sendPublicRequestToExchange("products/" + marketId + "/stats", null);
-                LOG.debug(() -> "Stats response: " + statsResponse);
-
-                if (statsResponse.getStatusCode() == HttpURLConnection.HTTP_OK) {
-                    final GdaxStats gdaxStats = gson.fromJson(statsResponse.getPayload(), GdaxStats.class);
-                    ticker.setLow(gdaxStats.low);
-                    ticker.setHigh(gdaxStats.high);
-                    ticker.setOpen(gdaxStats.open);
-                } else {
-                    final String errorMsg = "Failed to get stats from exchange. Details: " + statsResponse;
-                    LOG.error(errorMsg);
-                    throw new TradingApiException(errorMsg);
-                }
+                // The stats operation supplies the 24hr indicators
+                final GdaxStats gdaxStats = statsPart.get();
+                ticker.setLow(gdaxStats.low);
+                ticker.setHigh(gdaxStats.high);
+                ticker.setOpen(gdaxStats.open);
 
                 return ticker;
 
@@ -539,6 +640,213 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         }
     }
 
+    /*
+     * Fetches the 24 hour stats for a market.
+     */
+    private GdaxStats getStats(String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final ExchangeHttpResponse statsResponse = sendPublicRequestToExchange("products/" + marketId + "/stats", null);
+        LOG.debug("Stats response: {}", statsResponse);
+
+        if (statsResponse.getStatusCode() == HttpURLConnection.HTTP_OK) {
+            return fromJson(gson, statsResponse.getPayload(), GdaxStats.class);
+        } else {
+            final String errorMsg = "Failed to get stats from exchange. Details: " + statsResponse;
+            LOG.error(errorMsg);
+            throw new TradingApiException(errorMsg);
+        }
+    }
+
+    @Override
+    public boolean supportsClientOrderIds() {
+        return true;
+    }
+
+    /*
+     * marketId is not needed for looking up orders on this exchange. The exchange answers 404 for a client order id it
+     * has no order for; the transport layer reports it as an ExchangeNetworkException caused by a FileNotFoundException.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final ExchangeHttpResponse response =
+                    sendAuthenticatedRequestToExchange("GET", "orders/client:" + clientOrderId, null);
+            LOG.debug("Order by Client Order Id response: {}", response);
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+                final GdaxOrder gdaxOrder = fromJson(gson, response.getPayload(), GdaxOrder.class);
+                return gdaxOrder.id;
+            } else {
+                final String errorMsg = "Failed to get order by client order id from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException e) {
+            if (e.getCause() instanceof FileNotFoundException) {
+                LOG.info(() -> "No order found for client order id: " + clientOrderId);
+                return null;
+            }
+            throw e;
+        } catch (TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * The exchange forgets orders that were cancelled before any of them was filled, and answers 404 for them; the
+     * transport layer reports it as an ExchangeNetworkException caused by a FileNotFoundException. The marketId is only
+     * used for the status of those orders.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId)
+            throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("GET", "orders/" + orderId, null);
+            LOG.debug("Order Status response: {}", response);
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final GdaxOrder gdaxOrder = fromJson(gson, response.getPayload(), GdaxOrder.class);
+                final OrderState state = toOrderState(
+                        !"done".equals(gdaxOrder.status),
+                        "canceled".equals(gdaxOrder.done_reason),
+                        gdaxOrder.filled_size);
+
+                return new OrderStatusImpl(
+                        gdaxOrder.id,
+                        gdaxOrder.product_id,
+                        toOrderType(gdaxOrder.side),
+                        state,
+                        gdaxOrder.price,
+                        gdaxOrder.size,
+                        gdaxOrder.filled_size,
+                        gdaxOrder.filled_size.signum() == 0 ? null
+                                : gdaxOrder.executed_value.divide(gdaxOrder.filled_size, 8, RoundingMode.HALF_EVEN));
+            } else {
+                final String errorMsg = "Failed to get order status from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException e) {
+            if (e.getCause() instanceof FileNotFoundException) {
+                LOG.info(() -> "Order not found, so it was cancelled with nothing filled. Order id: " + orderId);
+                return new OrderStatusImpl(orderId, marketId, null, OrderState.CANCELLED, null, null,
+                        BigDecimal.ZERO, null);
+            }
+            throw e;
+        } catch (TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * The price tick size is the product's quote_increment, and the minimum order value its min_market_funds.
+     */
+    @Override
+    public Map<String, MarketInfo> getMarketInfo() throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final ExchangeHttpResponse response = sendPublicRequestToExchange("products", null);
+            LOG.debug("Products response: {}", response);
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final GdaxProduct[] gdaxProducts = fromJson(gson, response.getPayload(), GdaxProduct[].class);
+
+                final Map<String, MarketInfo> marketInfo = new LinkedHashMap<>();
+                for (final GdaxProduct gdaxProduct : gdaxProducts) {
+                    marketInfo.put(gdaxProduct.id, new MarketInfoImpl(
+                            gdaxProduct.id,
+                            gdaxProduct.quote_increment,
+                            gdaxProduct.base_increment,
+                            gdaxProduct.base_min_size,
+                            gdaxProduct.min_market_funds));
+                }
+                return marketInfo;
+            } else {
+                final String errorMsg = "Failed to get products from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the first page of fills is fetched - the latest 100, the max the exchange returns in 1 call.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("product_id", marketId);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("GET", "fills", params);
+            LOG.debug("Fills response: {}", response);
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final GdaxFill[] gdaxFills = fromJson(gson, response.getPayload(), GdaxFill[].class);
+
+                final List<Fill> fills = new ArrayList<>();
+                for (final GdaxFill gdaxFill : gdaxFills) {
+                    final Date creationDate = Date.from(Instant.parse(gdaxFill.created_at));
+                    if (creationDate.before(since)) {
+                        continue;
+                    }
+                    fills.add(new FillImpl(
+                            Long.toString(gdaxFill.trade_id),
+                            gdaxFill.order_id,
+                            marketId,
+                            toOrderType(gdaxFill.side),
+                            creationDate,
+                            gdaxFill.price,
+                            gdaxFill.size,
+                            gdaxFill.fee));
+                }
+                return sortOldestFirst(fills);
+            } else {
+                final String errorMsg = "Failed to get fills from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  GSON classes for JSON responses.
     //  See https://docs.gdax.com/#api
@@ -552,6 +860,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
     private static class GdaxOrder {
 
         public String id;
+        public String client_oid;     // only set if the order was placed with a client order id
         public BigDecimal price;
         public BigDecimal size;
         public String product_id;     // e.g. "BTC-GBP", "BTC-USD"
@@ -563,13 +872,16 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         public String created_at;     // e.g. "2014-11-14 06:39:55.189376+00"
         public BigDecimal fill_fees;
         public BigDecimal filled_size;
+        public BigDecimal executed_value;
         public String status;          // e.g. "open"
+        public String done_reason;     // "filled" or "canceled" once status is "done"
         public boolean settled;
 
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(this)
                     .add("id", id)
+                    .add("client_oid", client_oid)
                     .add("price", price)
                     .add("size", size)
                     .add("product_id", product_id)
@@ -581,12 +893,47 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                     .add("created_at", created_at)
                     .add("fill_fees", fill_fees)
                     .add("filled_size", filled_size)
+                    .add("executed_value", executed_value)
                     .add("status", status)
+                    .add("done_reason", done_reason)
                     .add("settled", settled)
                     .toString();
         }
     }
 
+    /**
+     * GSON class for GDAX '/fills' API call response.
+     */
+    private static class GdaxFill {
+
+        public long trade_id;
+        public String product_id;   // e.g. "BTC-GBP", "BTC-USD"
+        public BigDecimal price;
+        public BigDecimal size;
+        public String order_id;
+        public String created_at;   // e.g. "2014-11-07T22:19:28.578544Z"
+        public String liquidity;    // "M" for maker, "T" for taker
+        public BigDecimal fee;
+        public boolean settled;
+        public String side;         // "buy" or "sell"
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("trade_id", trade_id)
+                    .add("product_id", product_id)
+                    .add("price", price)
+                    .add("size", size)
+                    .add("order_id", order_id)
+                    .add("created_at", created_at)
+                    .add("liquidity", liquidity)
+                    .add("fee", fee)
+                    .add("settled", settled)
+                    .add("side", side)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for GDAX '/products/{marketId}/book' API call response.
      */
@@ -614,6 +961,35 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         private static final long serialVersionUID = -4919711220797077759L;
     }
 
+    /**
+     * GSON class for GDAX '/products' API call response.
+     */
+    private static class GdaxProduct {
+
+        public String id;
+        public String base_currency;
+        public String quote_currency;
+        public BigDecimal base_min_size;
+        public BigDecimal base_max_size;
+        public BigDecimal base_increment;
+        public BigDecimal quote_increment;
+        public BigDecimal min_market_funds;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("id", id)
+                    .add("base_currency", base_currency)
+                    .add("quote_currency", quote_currency)
+                    .add("base_min_size", base_min_size)
+                    .add("base_max_size", base_max_size)
+                    .add("base_increment", base_increment)
+                    .add("quote_increment", quote_increment)
+                    .add("min_market_funds", min_market_funds)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for GDAX '/products/{marketId}/ticker' API call response.
      */
@@ -806,8 +1182,8 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                 params = createRequestParamMap();
             }
 
-            // Get UNIX time in secs
-            final String timestamp = Long.toString(System.currentTimeMillis() / 1000);
+            // Get UNIX time in secs, as the exchange sees it - GDAX rejects requests more than 30 secs out
+            final String timestamp = Long.toString(currentTimeMillis() / 1000);
 
             // Build the request
             final String invocationUrl;
@@ -816,7 +1192,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
             switch (httpMethod) {
 
                 case "GET":
-                    LOG.debug(() -> "Building secure GET request...");
+                    LOG.debug("Building secure GET request...");
                     // Build (optional) query param string
                     final StringBuilder queryParamBuilder = new StringBuilder();
                     for (final Map.Entry<String, String> param : params.entrySet()) {
@@ -829,7 +1205,7 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                     }
 
                     final String queryParams = queryParamBuilder.toString();
-                    LOG.debug(() -> "Query param string: " + queryParams);
+                    LOG.debug("Query param string: {}", queryParams);
 
                     if (params.isEmpty()) {
                         invocationUrl = AUTHENTICATED_API_URL + apiMethod;
@@ -839,13 +1215,13 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                     break;
 
                 case "POST":
-                    LOG.debug(() -> "Building secure POST request...");
+                    LOG.debug("Building secure POST request...");
                     invocationUrl = AUTHENTICATED_API_URL + apiMethod;
                     requestBody = gson.toJson(params);
                     break;
 
                 case "DELETE":
-                    LOG.debug(() -> "Building secure DELETE request...");
+                    LOG.debug("Building secure DELETE request...");
                     invocationUrl = AUTHENTICATED_API_URL + apiMethod;
                     break;
 
@@ -859,10 +1235,14 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
                     apiMethod +
                     requestBody;
 
-            // Sign the signature string and Base64 encode it
-            mac.reset();
-            mac.update(signatureBuilder.getBytes("UTF-8"));
-            final String signature = DatatypeConverter.printBase64Binary(mac.doFinal());
+            // Sign the signature string and Base64 encode it - the MAC is shared, so it is locked while signing
+            final byte[] macDigest;
+            synchronized (mac) {
+                mac.reset();
+                mac.update(signatureBuilder.getBytes("UTF-8"));
+                macDigest = mac.doFinal();
+            }
+            final String signature = DatatypeConverter.printBase64Binary(macDigest);
 
             // Request headers required by Exchange
             final Map<String, String> requestHeaders = createHeaderParamMap();
@@ -947,6 +1327,24 @@ public final class GdaxExchangeAdapter extends AbstractExchangeAdapter implement
         gson = gsonBuilder.create();
     }
 
+    /**
+     * Converts a GDAX order side into an OrderType.
+     *
+     * @param side the GDAX order side: "buy" or "sell".
+     * @return the order type.
+     * @throws TradingApiException if the order side is not recognised.
+     */
+    private OrderType toOrderType(String side) throws TradingApiException {
+        switch (side) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received. Value: " + side);
+        }
+    }
+
     /*
      * Hack for unit-testing request params passed to transport layer.
      */
@@ -28,9 +28,11 @@ import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
 import com.gazbert.bxbot.exchange.api.ExchangeConfig;
 import com.gazbert.bxbot.exchange.api.OptionalConfig;
 import com.gazbert.bxbot.exchanges.trading.api.impl.BalanceInfoImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.FillImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderBookImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.OpenOrderImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.OrderStatusImpl;
 import com.gazbert.bxbot.trading.api.*;
 import com.google.common.base.MoreObjects;
 import com.google.gson.Gson;
@@ -51,6 +53,7 @@ import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -88,9 +91,10 @@ import java.util.*;
  * round accordingly.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response). Calls made from a single thread are executed in order. Every private API call carries a
+ * nonce that Gemini requires to increase, so those calls are sent 1 at a time; public calls hold no lock.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -151,8 +155,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
 
     /**
      * Nonce used for sending authenticated messages to the exchange.
+     * Atomic because Trading Strategies on the same exchange can call the adapter concurrently.
      */
-    private long nonce = 0;
+    private final AtomicLong nonce = new AtomicLong();
 
     /**
      * Markets on the exchange. Used for determining order price truncation/rounding policy.
@@ -218,9 +223,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         setNetworkConfig(config);
         setOptionalConfig(config);
 
-        nonce = System.currentTimeMillis() / 1000; // set the initial nonce used in the secure messaging.
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "symbols");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -276,9 +281,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
             //params.put("options", "not supported");
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/new", params);
-            LOG.debug(() -> "Create Order response: " + response);
+            LOG.debug("Create Order response: {}", response);
 
-            final GeminiOpenOrder createOrderResponse = gson.fromJson(response.getPayload(), GeminiOpenOrder.class);
+            final GeminiOpenOrder createOrderResponse = fromJson(gson, response.getPayload(), GeminiOpenOrder.class);
             final long id = createOrderResponse.order_id;
             if (id == 0) {
                 final String errorMsg = "Failed to place order on exchange. Error response: " + response;
@@ -296,6 +301,17 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /*
+     * This adapter does not send client order ids to the exchange, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        final String errorMsg = getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     @Override
     public boolean cancelOrder(String orderId, String marketIdNotNeeded) throws TradingApiException, ExchangeNetworkException {
 
@@ -305,10 +321,10 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("order_id", orderId);
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/cancel", params);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
             // Exchange returns order id and other details if successful, a 400 HTTP Status if the order id was not recognised.
-            gson.fromJson(response.getPayload(), GeminiOpenOrder.class);
+            fromJson(gson, response.getPayload(), GeminiOpenOrder.class);
             return true;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -327,18 +343,25 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
 
     @Override
     public List<OpenOrder> getYourOpenOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+        return getYourOpenOrders(Collections.singletonList(marketId)).get(marketId);
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
 
         try {
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("orders", null);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
-            final GeminiOpenOrders geminiOpenOrders = gson.fromJson(response.getPayload(), GeminiOpenOrders.class);
+            final GeminiOpenOrders geminiOpenOrders = fromJson(gson, response.getPayload(), GeminiOpenOrders.class);
 
-            final List<OpenOrder> ordersToReturn = new ArrayList<>();
+            final Map<String, List<OpenOrder>> ordersToReturn = createOpenOrdersByMarket(marketIds);
             for (final GeminiOpenOrder geminiOpenOrder : geminiOpenOrders) {
 
-                if (!marketId.equalsIgnoreCase(geminiOpenOrder.symbol)) {
+                final String marketId = findMarketIdIgnoringCase(marketIds, geminiOpenOrder.symbol);
+                if (marketId == null) {
                     continue;
                 }
 
@@ -366,7 +389,7 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
                         geminiOpenOrder.price.multiply(geminiOpenOrder.original_amount) // total - not provided by Gemini :-(
                 );
 
-                ordersToReturn.add(order);
+                ordersToReturn.get(marketId).add(order);
             }
             return ordersToReturn;
 
@@ -384,9 +407,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         try {
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("book/" + marketId);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final GeminiOrderBook orderBook = gson.fromJson(response.getPayload(), GeminiOrderBook.class);
+            final GeminiOrderBook orderBook = fromJson(gson, response.getPayload(), GeminiOrderBook.class);
 
             final List<MarketOrder> buyOrders = new ArrayList<>();
             for (GeminiMarketOrder geminiBuyOrder : orderBook.bids) {
@@ -424,9 +447,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         try {
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("pubticker/" + marketId);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final GeminiTicker ticker = gson.fromJson(response.getPayload(), GeminiTicker.class);
+            final GeminiTicker ticker = fromJson(gson, response.getPayload(), GeminiTicker.class);
             return ticker.last;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -443,9 +466,9 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         try {
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("balances", null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
-            final GeminiBalances allAccountBalances = gson.fromJson(response.getPayload(), GeminiBalances.class);
+            final GeminiBalances allAccountBalances = fromJson(gson, response.getPayload(), GeminiBalances.class);
             final HashMap<String, BigDecimal> balancesAvailable = new HashMap<>();
 
             // This adapter only supports 'exchange' account type.
@@ -488,6 +511,94 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         return "Gemini REST API v1";
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * marketId is not needed for getting the order status on this exchange.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("order_id", orderId);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order/status", params);
+            LOG.debug("Order Status response: {}", response);
+
+            final GeminiOpenOrder geminiOrder = fromJson(gson, response.getPayload(), GeminiOpenOrder.class);
+            return new OrderStatusImpl(
+                    Long.toString(geminiOrder.order_id),
+                    geminiOrder.symbol,
+                    toOrderType(geminiOrder.side),
+                    toOrderState(geminiOrder.is_live, geminiOrder.is_cancelled, geminiOrder.executed_amount),
+                    geminiOrder.price,
+                    geminiOrder.original_amount,
+                    geminiOrder.executed_amount,
+                    geminiOrder.executed_amount.signum() == 0 ? null : geminiOrder.avg_execution_price);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the first 500 trades since the given date/time are fetched - the max the exchange returns in 1 call.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("symbol", marketId);
+            params.put("timestamp", Long.toString(since.getTime() / 1000)); // UNIX time in secs
+            params.put("limit_trades", "500");
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("mytrades", params);
+            LOG.debug("Fills response: {}", response);
+
+            final GeminiTrades geminiTrades = fromJson(gson, response.getPayload(), GeminiTrades.class);
+
+            final List<Fill> fills = new ArrayList<>();
+            for (final GeminiTrade geminiTrade : geminiTrades) {
+                final Date creationDate = Date.from(Instant.ofEpochMilli(geminiTrade.timestampms));
+                if (creationDate.before(since)) {
+                    continue; // exchange only filters to the second
+                }
+                fills.add(new FillImpl(
+                        Long.toString(geminiTrade.tid),
+                        Long.toString(geminiTrade.order_id),
+                        marketId,
+                        toOrderType(geminiTrade.type.toLowerCase()),
+                        creationDate,
+                        geminiTrade.price,
+                        geminiTrade.amount,
+                        geminiTrade.fee_amount));
+            }
+            return sortOldestFirst(fills);
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  GSON classes for JSON responses.
     //  See https://docs.gemini.com/rest-api/
@@ -603,6 +714,44 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /**
+     * GSON class for holding a mytrades API call response.
+     */
+    private static class GeminiTrades extends ArrayList<GeminiTrade> {
+        private static final long serialVersionUID = -5402624374567913620L;
+    }
+
+    /**
+     * GSON class for a Gemini trade returned from the mytrades API call.
+     */
+    private static class GeminiTrade {
+
+        public BigDecimal price;
+        public BigDecimal amount;
+        public long timestampms; // timestamp in millis as a long
+        public String type; // Buy|Sell
+        public boolean aggressor;
+        public String fee_currency;
+        public BigDecimal fee_amount;
+        public long tid;
+        public long order_id;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("price", price)
+                    .add("amount", amount)
+                    .add("timestampms", timestampms)
+                    .add("type", type)
+                    .add("aggressor", aggressor)
+                    .add("fee_currency", fee_currency)
+                    .add("fee_amount", fee_amount)
+                    .add("tid", tid)
+                    .add("order_id", order_id)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for holding an active orders API call response.
      */
@@ -737,6 +886,14 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
      */
     private ExchangeHttpResponse sendAuthenticatedRequestToExchange(String apiMethod, Map<String, String> params)
             throws ExchangeNetworkException, TradingApiException {
+        return sendInNonceOrder(() -> signAndSendAuthenticatedRequest(apiMethod, params));
+    }
+
+    /*
+     * Takes the nonce for the request, signs it and sends it. Only called by sendInNonceOrder.
+     */
+    private ExchangeHttpResponse signAndSendAuthenticatedRequest(String apiMethod, Map<String, String> params)
+            throws ExchangeNetworkException, TradingApiException {
 
         if (!initializedMACAuthentication) {
             final String errorMsg = "MAC Message security layer has not been initialized.";
@@ -755,8 +912,7 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("request", "/" + GEMINI_API_VERSION + "/" + apiMethod);
 
             // nonce is required by Gemini in every request
-            params.put("nonce", Long.toString(nonce));
-            nonce++;
+            params.put("nonce", Long.toString(nextNonce(nonce)));
 
             // JSON-ify the param dictionary
             final String paramsInJson = gson.toJson(params);
@@ -764,10 +920,13 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
             // Need to base64 encode payload as per API
             final String base64payload = DatatypeConverter.printBase64Binary(paramsInJson.getBytes("UTF-8"));
 
-            // Create the signature
-            mac.reset(); // force reset
-            mac.update(base64payload.getBytes("UTF-8"));
-            final String signature = toHex(mac.doFinal()).toLowerCase();
+            // Create the signature - the MAC is shared, so it is locked while signing
+            final String signature;
+            synchronized (mac) {
+                mac.reset(); // force reset
+                mac.update(base64payload.getBytes("UTF-8"));
+                signature = toHex(mac.doFinal()).toLowerCase();
+            }
 
             // Request headers required by Exchange
             final Map<String, String> requestHeaders = createHeaderParamMap();
@@ -864,6 +1023,24 @@ public final class GeminiExchangeAdapter extends AbstractExchangeAdapter impleme
         gson = gsonBuilder.create();
     }
 
+    /**
+     * Converts a Gemini order side into an OrderType.
+     *
+     * @param side the Gemini order side: "buy" or "sell".
+     * @return the order type.
+     * @throws TradingApiException if the order side is not recognised.
+     */
+    private OrderType toOrderType(String side) throws TradingApiException {
+        switch (side) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received. Value: " + side);
+        }
+    }
+
     /*
      * Hack for unit-testing map params passed to transport layer.
      */
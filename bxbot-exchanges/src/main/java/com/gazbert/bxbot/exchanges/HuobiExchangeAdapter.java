@@ -28,9 +28,11 @@ import com.gazbert.bxbot.exchange.api.ExchangeAdapter;
 import com.gazbert.bxbot.exchange.api.ExchangeConfig;
 import com.gazbert.bxbot.exchange.api.OptionalConfig;
 import com.gazbert.bxbot.exchanges.trading.api.impl.BalanceInfoImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.FillImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderBookImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.OpenOrderImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.OrderStatusImpl;
 import com.gazbert.bxbot.trading.api.*;
 import com.google.common.base.MoreObjects;
 import com.google.gson.*;
@@ -112,9 +114,9 @@ import java.util.*;
  * the order amount, but to 4 decimal places.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response), but no lock is held while it waits. Calls made from a single thread are executed in order.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -144,6 +146,12 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
      */
     private static final String AUTHENTICATED_API_URL = "https://api.huobi.com/api" + HUOBI_API_VERSION + "/";
 
+    /**
+     * The public API call used for keeping connections open. The public API is also served over HTTPS, so it keeps the
+     * authenticated API's connection open too.
+     */
+    private static final String HEARTBEAT_API_CALL = "staticmarket/ticker_btc_json.js";
+
     /**
      * Used for reporting unexpected errors.
      */
@@ -267,6 +275,7 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
 
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + HEARTBEAT_API_CALL, "https://api.huobi.com/" + HEARTBEAT_API_CALL);
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -303,9 +312,9 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
             }
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange(apiCall, marketIdForAuthenticatedRequest, params);
-            LOG.debug(() -> "Create Order response: " + response);
+            LOG.debug("Create Order response: {}", response);
 
-            final HuobiOrderResponse createOrderResponse = gson.fromJson(response.getPayload(), HuobiOrderResponse.class);
+            final HuobiOrderResponse createOrderResponse = fromJson(gson, response.getPayload(), HuobiOrderResponse.class);
             if (createOrderResponse.result != null && createOrderResponse.result.equalsIgnoreCase("success")) {
                 return Long.toString(createOrderResponse.id);
             } else {
@@ -322,6 +331,17 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    /*
+     * The exchange does not take client order ids, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        final String errorMsg = getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     @Override
     public boolean cancelOrder(String orderId, String marketId) throws TradingApiException, ExchangeNetworkException {
 
@@ -334,9 +354,9 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("cancel_order",
                     marketIdForAuthenticatedRequest, params);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
-            final HuobiCancelOrderResponse cancelOrderResponse = gson.fromJson(response.getPayload(), HuobiCancelOrderResponse.class);
+            final HuobiCancelOrderResponse cancelOrderResponse = fromJson(gson, response.getPayload(), HuobiCancelOrderResponse.class);
             if (cancelOrderResponse.result != null && cancelOrderResponse.result.equalsIgnoreCase("success")) {
                 return true;
             } else {
@@ -364,10 +384,10 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("get_orders",
                     marketIdForAuthenticatedRequest, params);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
             final HuobiOpenOrderResponseWrapper huobiOpenOrdersWrapper
-                    = gson.fromJson(response.getPayload(), HuobiOpenOrderResponseWrapper.class);
+                    = fromJson(gson, response.getPayload(), HuobiOpenOrderResponseWrapper.class);
 
             if (huobiOpenOrdersWrapper.code == 0) {
 
@@ -422,6 +442,140 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final String marketIdForAuthenticatedRequest = getAuthenticatedMarketIdForGivenPublicMarketId(marketId);
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("coin_type", "1"); // "1" = BTC
+            params.put("id", orderId);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order_info",
+                    marketIdForAuthenticatedRequest, params);
+            LOG.debug("Order Info response: {}", response);
+
+            final HuobiOrderInfo huobiOrderInfo = fromJson(gson, response.getPayload(), HuobiOrderInfo.class);
+
+            if (huobiOrderInfo.code == 0) {
+
+                // status: 0 = unfilled, 1 = partially filled, 2 = filled, 3 = cancelled, 4 = abandoned, 5 = abnormal,
+                // 6 = partially filled then cancelled, 7 = queuing
+                final OrderState state = toOrderState(
+                        huobiOrderInfo.status == 0 || huobiOrderInfo.status == 1 || huobiOrderInfo.status == 7,
+                        huobiOrderInfo.status == 3 || huobiOrderInfo.status == 4 || huobiOrderInfo.status == 6,
+                        huobiOrderInfo.processed_amount);
+
+                return new OrderStatusImpl(
+                        Long.toString(huobiOrderInfo.id),
+                        marketId,
+                        toOrderType(huobiOrderInfo.type),
+                        state,
+                        huobiOrderInfo.order_price,
+                        huobiOrderInfo.order_amount,
+                        huobiOrderInfo.processed_amount,
+                        huobiOrderInfo.processed_amount.signum() == 0 ? null : huobiOrderInfo.processed_price);
+
+            } else if (huobiOrderInfo.code == 1) {
+                final String errorMsg = "Failed to get Order Info from exchange - server busy. Error response: "
+                        + response;
+                LOG.error(errorMsg);
+                throw new ExchangeNetworkException(errorMsg);
+
+            } else {
+                final String errorMsg = "Failed to get Order Info from exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Huobi's REST API does not provide your individual trades, so each of your latest deal orders is returned as a
+     * single Fill: the quantity is the amount processed, the price is the average processed price, and the creation
+     * date is when the order was last processed. The fee is not provided. The exchange only returns your latest 10
+     * deal orders.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+            final String marketIdForAuthenticatedRequest = getAuthenticatedMarketIdForGivenPublicMarketId(marketId);
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("coin_type", "1"); // "1" = BTC
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("get_new_deal_orders",
+                    marketIdForAuthenticatedRequest, params);
+            LOG.debug("Deal Orders response: {}", response);
+
+            // exchange returns JSON object for failed fetches, but an array of deal orders for successful fetches
+            final JsonElement dealOrdersJson = fromJson(gson, response.getPayload(), JsonElement.class);
+
+            if (dealOrdersJson.isJsonArray()) {
+
+                final HuobiDealOrder[] huobiDealOrders = gson.fromJson(dealOrdersJson, HuobiDealOrder[].class);
+
+                final List<Fill> fills = new ArrayList<>();
+                for (final HuobiDealOrder dealOrder : huobiDealOrders) {
+
+                    final Date creationDate = new Date(dealOrder.last_processed_time * 1000);
+                    if (dealOrder.processed_amount.signum() == 0 || creationDate.before(since)) {
+                        continue;
+                    }
+
+                    final String orderId = Long.toString(dealOrder.id);
+                    fills.add(new FillImpl(
+                            orderId,
+                            orderId,
+                            marketId,
+                            toOrderType(dealOrder.type),
+                            creationDate,
+                            dealOrder.processed_price,
+                            dealOrder.processed_amount,
+                            null)); // fee is not provided by Huobi
+                }
+                return sortOldestFirst(fills);
+            }
+
+            final HuobiMessageBase errorResponse = gson.fromJson(dealOrdersJson, HuobiMessageBase.class);
+            if (errorResponse.code == 1) {
+                final String errorMsg = "Failed to get Deal Orders from exchange - server busy. Error response: "
+                        + response;
+                LOG.error(errorMsg);
+                throw new ExchangeNetworkException(errorMsg);
+
+            } else {
+                final String errorMsg = "Failed to get Deal Orders from exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     @Override
     public MarketOrderBook getMarketOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
 
@@ -441,9 +595,9 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
             }
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange(apiCall);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final HuobiOrderBookWrapper orderBook = gson.fromJson(response.getPayload(), HuobiOrderBookWrapper.class);
+            final HuobiOrderBookWrapper orderBook = fromJson(gson, response.getPayload(), HuobiOrderBookWrapper.class);
 
             // adapt BUYs
             final List<MarketOrder> buyOrders = new ArrayList<>();
@@ -483,9 +637,9 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
         try {
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("get_account_info", accountInfoMarket, null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
-            final HuobiAccountInfo huobiAccountInfo = gson.fromJson(response.getPayload(), HuobiAccountInfo.class);
+            final HuobiAccountInfo huobiAccountInfo = fromJson(gson, response.getPayload(), HuobiAccountInfo.class);
             if (huobiAccountInfo.code == 0) {
 
                 // adapt
@@ -540,9 +694,9 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
             }
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange(apiCall);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final HuobiTickerWrapper tickerWrapper = gson.fromJson(response.getPayload(), HuobiTickerWrapper.class);
+            final HuobiTickerWrapper tickerWrapper = fromJson(gson, response.getPayload(), HuobiTickerWrapper.class);
             return tickerWrapper.ticker.last;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -653,6 +807,70 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    /**
+     * GSON class for order_info API call response.
+     */
+    private static class HuobiOrderInfo extends HuobiMessageBase {
+
+        public long id;
+        public int type; // 1=buy 2=sell
+        public BigDecimal order_price;
+        public BigDecimal order_amount;
+        public BigDecimal processed_price; // average price the order was processed at
+        public BigDecimal processed_amount;
+        public BigDecimal vot;
+        public BigDecimal fee;
+        public BigDecimal total;
+        public int status;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("id", id)
+                    .add("type", type)
+                    .add("order_price", order_price)
+                    .add("order_amount", order_amount)
+                    .add("processed_price", processed_price)
+                    .add("processed_amount", processed_amount)
+                    .add("vot", vot)
+                    .add("fee", fee)
+                    .add("total", total)
+                    .add("status", status)
+                    .add("code", code)
+                    .add("message", message)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class for get_new_deal_orders API call response.
+     */
+    private static class HuobiDealOrder {
+
+        public long id;
+        public int type; // 1=buy 2=sell
+        public BigDecimal order_price;
+        public BigDecimal order_amount;
+        public BigDecimal processed_price; // average price the order was processed at
+        public BigDecimal processed_amount;
+        public long last_processed_time; // unix timestamp in secs
+        public int status;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("id", id)
+                    .add("type", type)
+                    .add("order_price", order_price)
+                    .add("order_amount", order_amount)
+                    .add("processed_price", processed_price)
+                    .add("processed_amount", processed_amount)
+                    .add("last_processed_time", last_processed_time)
+                    .add("status", status)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for REST Order Book (detail_btc_json.js) API call response.
      * <p>
@@ -1006,7 +1224,7 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
             final Map<String, String> signatureParams = new HashMap<>(params);
             signatureParams.put("method", apiMethod);
             signatureParams.put("access_key", key);
-            signatureParams.put("created", Long.toString(System.currentTimeMillis() / 1000)); // unix time in secs
+            signatureParams.put("created", Long.toString(currentTimeMillis() / 1000)); // exchange's unix time in secs
             signatureParams.put("secret_key", secret);
 
             final String sortedQueryString = createAlphabeticallySortedQueryString(signatureParams);
@@ -1072,8 +1290,12 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
             return "";
         }
 
-        messageDigest.update(stringToHash.getBytes("UTF-8"));
-        final byte[] md5HashInBytes = messageDigest.digest();
+        // the digest is shared, so it is locked while hashing - but never while talking to the exchange
+        final byte[] md5HashInBytes;
+        synchronized (messageDigest) {
+            messageDigest.update(stringToHash.getBytes("UTF-8"));
+            md5HashInBytes = messageDigest.digest();
+        }
 
         final StringBuilder md5HashAsLowerCaseString = new StringBuilder();
         for (final byte md5HashByte : md5HashInBytes) {
@@ -1138,6 +1360,17 @@ public final class HuobiExchangeAdapter extends AbstractExchangeAdapter implemen
         gson = gsonBuilder.create();
     }
 
+    private static OrderType toOrderType(int type) throws TradingApiException {
+        switch (type) {
+            case 1:
+                return OrderType.BUY;
+            case 2:
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received from exchange. Value: " + type);
+        }
+    }
+
     /**
      * <p>
      * Returns the authenticated request marketId for a given public request marketId. The mapping is done here
@@ -50,6 +50,7 @@ import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -93,9 +94,10 @@ import java.util.*;
  * in the exchange.xml config file, the bot will stay alive and wait until the next trade cycle.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response). Calls made from a single thread are executed in order. Authenticated calls are signed with
+ * a nonce as well as a timestamp, and itBit rejects a nonce that does not increase, so they are sent 1 at a time.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -177,13 +179,16 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
     /**
      * Nonce used for sending authenticated messages to the exchange.
+     * Atomic because Trading Strategies on the same exchange can call the adapter concurrently.
      */
-    private long nonce = 0;
+    private final AtomicLong nonce = new AtomicLong();
 
     /**
-     * The UUID of the wallet in use on the exchange.
+     * The UUID of the wallet in use on the exchange. Every order call needs it, so it is fetched in the background at
+     * the end of init, and kept.
      */
-    private String walletId;
+    private final SessionBootstrap.SessionValue<String> walletId =
+            declareSessionValue("walletId", this::fetchWalletId);
 
     /**
      * Exchange buy fees in % in {@link BigDecimal} format.
@@ -240,9 +245,11 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         setNetworkConfig(config);
         setOptionalConfig(config);
 
-        nonce = System.currentTimeMillis() / 1000; // set the initial nonce used in the secure messaging.
         initSecureMessageLayer();
         initGson();
+        // the exchange has no public call that is not for a market
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "markets/XBTUSD/ticker");
+        bootstrapSession();
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -258,11 +265,6 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
         try {
 
-            if (walletId == null) {
-                // need to fetch walletId if first API call
-                getBalanceInfo();
-            }
-
             final Map<String, String> params = createRequestParamMap();
             params.put("type", "limit");
 
@@ -300,13 +302,13 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
             // params.put("clientOrderIdentifier", "id_123");
 
             response = sendAuthenticatedRequestToExchange(
-                    "POST", "wallets/" + walletId + "/orders", params);
+                    "POST", "wallets/" + walletId.get() + "/orders", params);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Create Order response: " + response);
+                LOG.debug("Create Order response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_CREATED) {
-                final ItBitNewOrderResponse itBitNewOrderResponse = gson.fromJson(response.getPayload(),
+                final ItBitNewOrderResponse itBitNewOrderResponse = fromJson(gson, response.getPayload(),
                         ItBitNewOrderResponse.class);
                 return itBitNewOrderResponse.id;
             } else {
@@ -330,6 +332,17 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    /*
+     * This adapter does not send client order ids to the exchange, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        final String errorMsg = getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     /*
      * marketId is not needed for cancelling orders on this exchange.
      */
@@ -340,19 +353,14 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
         try {
 
-            if (walletId == null) {
-                // need to fetch walletId if first API call
-                getBalanceInfo();
-            }
-
             response = sendAuthenticatedRequestToExchange(
-                    "DELETE", "wallets/" + walletId + "/orders/" + orderId, null);
+                    "DELETE", "wallets/" + walletId.get() + "/orders/" + orderId, null);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Cancel Order response: " + response);
+                LOG.debug("Cancel Order response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_ACCEPTED) {
-                gson.fromJson(response.getPayload(), ItBitCancelOrderResponse.class);
+                fromJson(gson, response.getPayload(), ItBitCancelOrderResponse.class);
                 return true;
             } else {
                 final String errorMsg = "Failed to cancel order on exchange. Details: " + response;
@@ -378,34 +386,36 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
     @Override
     public List<OpenOrder> getYourOpenOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+        return getYourOpenOrders(Collections.singletonList(marketId)).get(marketId);
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
 
         ExchangeHttpResponse response = null;
 
         try {
 
-            if (walletId == null) {
-                // need to fetch walletId if first API call
-                getBalanceInfo();
-            }
-
             final Map<String, String> params = createRequestParamMap();
             params.put("status", "open"); // we only want open orders
 
             response = sendAuthenticatedRequestToExchange(
-                    "GET", "wallets/" + walletId + "/orders", params);
+                    "GET", "wallets/" + walletId.get() + "/orders", params);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Open Orders response: " + response);
+                LOG.debug("Open Orders response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final ItBitYourOrder[] itBitOpenOrders = gson.fromJson(response.getPayload(), ItBitYourOrder[].class);
+                final ItBitYourOrder[] itBitOpenOrders = fromJson(gson, response.getPayload(), ItBitYourOrder[].class);
 
                 // adapt
-                final List<OpenOrder> ordersToReturn = new ArrayList<>();
+                final Map<String, List<OpenOrder>> ordersToReturn = createOpenOrdersByMarket(marketIds);
                 for (final ItBitYourOrder itBitOpenOrder : itBitOpenOrders) {
 
-                    if (!marketId.equalsIgnoreCase(itBitOpenOrder.instrument)) {
+                    final String marketId = findMarketIdIgnoringCase(marketIds, itBitOpenOrder.instrument);
+                    if (marketId == null) {
                         continue;
                     }
 
@@ -432,7 +442,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
                             itBitOpenOrder.amount,
                             itBitOpenOrder.price.multiply(itBitOpenOrder.amount)); // total - not provided by itBit
 
-                    ordersToReturn.add(order);
+                    ordersToReturn.get(marketId).add(order);
                 }
                 return ordersToReturn;
             } else {
@@ -456,6 +466,142 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * marketId is not needed for getting the order status on this exchange.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+
+            response = sendAuthenticatedRequestToExchange(
+                    "GET", "wallets/" + walletId.get() + "/orders/" + orderId, null);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Order Status response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final ItBitYourOrder itBitOrder = fromJson(gson, response.getPayload(), ItBitYourOrder.class);
+
+                // status is one of: submitted, open, filled, cancelled, rejected
+                final OrderState state = toOrderState(
+                        "submitted".equals(itBitOrder.status) || "open".equals(itBitOrder.status),
+                        "cancelled".equals(itBitOrder.status) || "rejected".equals(itBitOrder.status),
+                        itBitOrder.amountFilled);
+
+                return new OrderStatusImpl(
+                        itBitOrder.id,
+                        itBitOrder.instrument,
+                        toOrderType(itBitOrder.side),
+                        state,
+                        itBitOrder.price,
+                        itBitOrder.amount,
+                        itBitOrder.amountFilled,
+                        itBitOrder.amountFilled.signum() == 0 ? null : itBitOrder.volumeWeightedAveragePrice);
+            } else {
+                final String errorMsg = "Failed to get order status from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+
+            if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+            }
+
+            final String unexpectedErrorMsg = UNEXPECTED_ERROR_MSG + (response == null ? "NULL RESPONSE" : response);
+            LOG.error(unexpectedErrorMsg, e);
+            throw new TradingApiException(unexpectedErrorMsg, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the first page of trades is fetched - the latest 50, the max the exchange returns in 1 call. The wallet's
+     * trades are not filtered by market on the exchange, so the other markets' trades are dropped here.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("rangeStart", since.toInstant().toString());
+            params.put("perPage", "50");
+
+            response = sendAuthenticatedRequestToExchange(
+                    "GET", "wallets/" + walletId.get() + "/trades", params);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Trades response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final ItBitTrades itBitTrades = fromJson(gson, response.getPayload(), ItBitTrades.class);
+
+                final List<Fill> fills = new ArrayList<>();
+                for (final ItBitTrade itBitTrade : itBitTrades.tradingHistory) {
+
+                    if (!marketId.equalsIgnoreCase(itBitTrade.instrument)) {
+                        continue;
+                    }
+
+                    final Date creationDate = Date.from(Instant.parse(itBitTrade.timestamp));
+                    if (creationDate.before(since)) {
+                        continue;
+                    }
+
+                    fills.add(new FillImpl(
+                            itBitTrade.executionId,
+                            itBitTrade.orderId,
+                            marketId,
+                            toOrderType(itBitTrade.direction),
+                            creationDate,
+                            itBitTrade.rate,
+                            itBitTrade.currency1Amount,
+                            itBitTrade.commissionPaid));
+                }
+                return sortOldestFirst(fills);
+            } else {
+                final String errorMsg = "Failed to get trades from exchange. Details: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+
+            if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+            }
+
+            final String unexpectedErrorMsg = UNEXPECTED_ERROR_MSG + (response == null ? "NULL RESPONSE" : response);
+            LOG.error(unexpectedErrorMsg, e);
+            throw new TradingApiException(unexpectedErrorMsg, e);
+        }
+    }
+
     @Override
     public MarketOrderBook getMarketOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
 
@@ -464,12 +610,12 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         try {
             response = sendPublicRequestToExchange("markets/" + marketId + "/order_book");
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Market Orders response: " + response);
+                LOG.debug("Market Orders response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final ItBitOrderBookWrapper orderBook = gson.fromJson(response.getPayload(), ItBitOrderBookWrapper.class);
+                final ItBitOrderBookWrapper orderBook = fromJson(gson, response.getPayload(), ItBitOrderBookWrapper.class);
 
                 final List<MarketOrder> buyOrders = new ArrayList<>();
                 for (ItBitMarketOrder itBitBuyOrder : orderBook.bids) {
@@ -522,12 +668,12 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
             response = sendPublicRequestToExchange("markets/" + marketId + "/ticker");
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Latest Market Price response: " + response);
+                LOG.debug("Latest Market Price response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final ItBitTicker itBitTicker = gson.fromJson(response.getPayload(), ItBitTicker.class);
+                final ItBitTicker itBitTicker = fromJson(gson, response.getPayload(), ItBitTicker.class);
                 return itBitTicker.lastPrice;
             } else {
                 final String errorMsg = "Failed to get market ticker from exchange. Details: " + response;
@@ -562,24 +708,18 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
             response = sendAuthenticatedRequestToExchange("GET", "wallets", params);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Balance Info response: " + response);
+                LOG.debug("Balance Info response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final ItBitWallet[] itBitWallets = gson.fromJson(response.getPayload(), ItBitWallet[].class);
+                final ItBitWallet[] itBitWallets = fromJson(gson, response.getPayload(), ItBitWallet[].class);
 
                 // assume only 1 trading account wallet being used on exchange
                 final ItBitWallet exchangeWallet = itBitWallets[0];
 
-                /*
-                 * If this is the first time to fetch the balance/wallet info, store the wallet UUID for future calls.
-                 * The Trading Engine will always call this method first, before any user Trading Strategies are invoked,
-                 * so any of the other Trading API methods that rely on the wallet UUID will be satisfied.
-                 */
-                if (walletId == null) {
-                    walletId = exchangeWallet.id;
-                }
+                // keep the wallet UUID fresh while we're here
+                walletId.set(exchangeWallet.id);
 
                 // adapt
                 final Map<String, BigDecimal> balancesAvailable = new HashMap<>();
@@ -613,6 +753,37 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    /**
+     * Fetches the UUID of the wallet in use on the exchange. Called when the session is bootstrapped.
+     */
+    private String fetchWalletId() throws TradingApiException, ExchangeNetworkException {
+
+        final Map<String, String> params = createRequestParamMap();
+        params.put("userId", userId);
+
+        final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("GET", "wallets", params);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Wallet Id response: {}", response);
+        }
+
+        if (response.getStatusCode() != HttpURLConnection.HTTP_OK) {
+            final String errorMsg = "Failed to get your wallet from exchange. Details: " + response;
+            LOG.error(errorMsg);
+            throw new TradingApiException(errorMsg);
+        }
+
+        final ItBitWallet[] itBitWallets = fromJson(gson, response.getPayload(), ItBitWallet[].class);
+        if (itBitWallets == null || itBitWallets.length == 0) {
+            final String errorMsg = "No wallets found on exchange for userId: " + userId
+                    + " - create a wallet before trading. Details: " + response;
+            LOG.error(errorMsg);
+            throw new TradingApiException(errorMsg);
+        }
+
+        // assume only 1 trading account wallet being used on exchange
+        return itBitWallets[0].id;
+    }
+
     @Override
     public BigDecimal getPercentageOfBuyOrderTakenForExchangeFee(String marketId) throws TradingApiException,
             ExchangeNetworkException {
@@ -646,12 +817,12 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
             response = sendPublicRequestToExchange("markets/" + marketId + "/ticker");
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Ticker response: " + response);
+                LOG.debug("Ticker response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final ItBitTicker itBitTicker = gson.fromJson(response.getPayload(), ItBitTicker.class);
+                final ItBitTicker itBitTicker = fromJson(gson, response.getPayload(), ItBitTicker.class);
                 return new TickerImpl(
                         itBitTicker.lastPrice,
                         itBitTicker.bid,
@@ -762,6 +933,67 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
     private static class ItBitOrderMetadata {
     }
 
+    /**
+     * GSON class for holding itBit trades returned from:
+     * "Get Trades" /wallets/{walletId}/trades{?lastExecutionId,page,perPage,rangeStart,rangeEnd} API call.
+     */
+    private static class ItBitTrades {
+
+        public String totalNumberOfRecords;
+        public String currentPageNumber;
+        public String latestExecutionId;
+        public String recordsPerPage;
+        public List<ItBitTrade> tradingHistory;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("totalNumberOfRecords", totalNumberOfRecords)
+                    .add("currentPageNumber", currentPageNumber)
+                    .add("latestExecutionId", latestExecutionId)
+                    .add("recordsPerPage", recordsPerPage)
+                    .add("tradingHistory", tradingHistory)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class for holding an itBit trade - the execution of (part of) one of your orders.
+     */
+    private static class ItBitTrade {
+
+        public String executionId;
+        public String orderId;
+        public String timestamp; // e.g. "2015-05-11T14:48:01.9870000Z"
+        public String instrument; // the marketId e.g. 'XBTUSD'
+        public String direction; // 'buy' or 'sell'
+        public String currency1;
+        public BigDecimal currency1Amount;
+        public String currency2;
+        public BigDecimal currency2Amount;
+        public BigDecimal rate;
+        public BigDecimal commissionPaid;
+        public String commissionCurrency;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("executionId", executionId)
+                    .add("orderId", orderId)
+                    .add("timestamp", timestamp)
+                    .add("instrument", instrument)
+                    .add("direction", direction)
+                    .add("currency1", currency1)
+                    .add("currency1Amount", currency1Amount)
+                    .add("currency2", currency2)
+                    .add("currency2Amount", currency2Amount)
+                    .add("rate", rate)
+                    .add("commissionPaid", commissionPaid)
+                    .add("commissionCurrency", commissionCurrency)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class for holding itBit ticker returned from:
      * "Get Order Book" /markets/{tickerSymbol}/order_book API call.
@@ -921,6 +1153,14 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
      */
     private ExchangeHttpResponse sendAuthenticatedRequestToExchange(String httpMethod, String apiMethod, Map<String, String> params)
             throws ExchangeNetworkException, TradingApiException {
+        return sendInNonceOrder(() -> signAndSendAuthenticatedRequest(httpMethod, apiMethod, params));
+    }
+
+    /*
+     * Takes the nonce for the request, signs it and sends it. Only called by sendInNonceOrder.
+     */
+    private ExchangeHttpResponse signAndSendAuthenticatedRequest(String httpMethod, String apiMethod, Map<String, String> params)
+            throws ExchangeNetworkException, TradingApiException {
 
         if (!initializedMACAuthentication) {
             final String errorMsg = "MAC Message security layer has not been initialized.";
@@ -930,11 +1170,11 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
         try {
 
-            // Generate new UNIX time in secs
-            final String unixTime = Long.toString(System.currentTimeMillis());
+            // Generate new UNIX time in millis, as the exchange sees it
+            final String unixTime = Long.toString(currentTimeMillis());
 
-            // increment nonce for use in this call
-            nonce++;
+            // get the nonce for use in this call
+            final long requestNonce = nextNonce(nonce);
 
             if (params == null) {
                 // create empty map for non-param API calls
@@ -956,7 +1196,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
             switch (httpMethod) {
 
                 case "GET":
-                    LOG.debug(() -> "Building secure GET request...");
+                    LOG.debug("Building secure GET request...");
 
                     // Build (optional) query param string
                     final StringBuilder queryParamBuilder = new StringBuilder();
@@ -972,7 +1212,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
                     }
 
                     final String queryParams = queryParamBuilder.toString();
-                    LOG.debug(() -> "Query param string: " + queryParams);
+                    LOG.debug("Query param string: {}", queryParams);
 
                     if (params.isEmpty()) {
                         invocationUrl = AUTHENTICATED_API_URL + apiMethod;
@@ -986,7 +1226,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
                     break;
 
                 case "POST":
-                    LOG.debug(() -> "Building secure POST request...");
+                    LOG.debug("Building secure POST request...");
 
                     invocationUrl = AUTHENTICATED_API_URL + apiMethod;
                     signatureParamList.add(invocationUrl);
@@ -996,7 +1236,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
                     break;
 
                 case "DELETE":
-                    LOG.debug(() -> "Building secure DELETE request...");
+                    LOG.debug("Building secure DELETE request...");
 
                     invocationUrl = AUTHENTICATED_API_URL + apiMethod;
                     signatureParamList.add(invocationUrl);
@@ -1008,7 +1248,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
             }
 
             // Add the nonce
-            signatureParamList.add(Long.toString(nonce));
+            signatureParamList.add(Long.toString(requestNonce));
 
             // Add the UNIX time
             signatureParamList.add(unixTime);
@@ -1019,10 +1259,10 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
              * '["GET","https://api.itbit.com/v1/wallets/7e037345-1288-4c39-12fe-d0f99a475a98","","5","1405385860202"]'
              */
             final String signatureParamsInJson = gson.toJson(signatureParamList);
-            LOG.debug(() -> "Signature params in JSON: " + signatureParamsInJson);
+            LOG.debug("Signature params in JSON: {}", signatureParamsInJson);
 
             // Prepend the string version of the nonce to the JSON-encoded array string
-            final String noncePrependedToJson = Long.toString(nonce) + signatureParamsInJson;
+            final String noncePrependedToJson = Long.toString(requestNonce) + signatureParamsInJson;
 
             // Construct the SHA-256 hash of the noncePrependedToJson. Call this the message hash.
             final MessageDigest md = MessageDigest.getInstance("SHA-256");
@@ -1031,11 +1271,16 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
 
             // Prepend the UTF-8 encoded request URL to the message hash.
             // Generate the SHA-512 HMAC of the prependRequestUrlToMsgHash using your API secret as the key.
-            mac.reset(); // force reset
-            mac.update(invocationUrl.getBytes("UTF-8"));
-            mac.update(messageHash);
+            // The MAC is shared, so it is locked while signing - but never while talking to the exchange.
+            final byte[] macDigest;
+            synchronized (mac) {
+                mac.reset(); // force reset
+                mac.update(invocationUrl.getBytes("UTF-8"));
+                mac.update(messageHash);
+                macDigest = mac.doFinal();
+            }
 
-            final String signature = DatatypeConverter.printBase64Binary(mac.doFinal());
+            final String signature = DatatypeConverter.printBase64Binary(macDigest);
 
             // Request headers required by Exchange
             final Map<String, String> requestHeaders = createHeaderParamMap();
@@ -1047,7 +1292,7 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
             requestHeaders.put("Authorization", key + ":" + signature);
 
             requestHeaders.put("X-Auth-Timestamp", unixTime);
-            requestHeaders.put("X-Auth-Nonce", Long.toString(nonce));
+            requestHeaders.put("X-Auth-Nonce", Long.toString(requestNonce));
 
             final URL url = new URL(invocationUrl);
             return makeNetworkRequest(url, httpMethod, requestBody, requestHeaders);
@@ -1087,6 +1332,15 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         }
     }
 
+    /*
+     * Authenticated GETs carry a nonce the exchange will not accept twice, so only public GETs are retried.
+     */
+    @Override
+    boolean isIdempotent(String httpMethod, Map<String, String> requestHeaders) {
+        return super.isIdempotent(httpMethod, requestHeaders)
+                && (requestHeaders == null || !requestHeaders.containsKey("X-Auth-Nonce"));
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Config methods
     // ------------------------------------------------------------------------------------------------
@@ -1136,6 +1390,17 @@ public final class ItBitExchangeAdapter extends AbstractExchangeAdapter implemen
         gson = gsonBuilder.create();
     }
 
+    private static OrderType toOrderType(String side) throws TradingApiException {
+        switch (side) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received from exchange. Value: " + side);
+        }
+    }
+
     private static boolean isExchangeUndergoingMaintenance(ExchangeHttpResponse response) {
         if (response != null) {
             final String payload = response.getPayload();
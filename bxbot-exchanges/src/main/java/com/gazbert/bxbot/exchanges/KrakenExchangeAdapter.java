@@ -46,6 +46,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -85,13 +87,18 @@ import java.util.*;
  * and we need to be able to filter only the orders for the given market id.
  * </p>
  * <p>
+ * Orders can be tagged with a client order id, sent as the Kraken userref, and looked up by it afterwards. The
+ * userref must be a 32-bit integer, so this adapter hands out random positive integers for client order ids.
+ * </p>
+ * <p>
  * The exchange regularly goes down for maintenance. If the keep-alive-during-maintenance config-item is set to true
  * in the exchange.xml config file, the bot will stay alive and wait until the next trade cycle.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response). Calls made from a single thread are executed in order. Private API calls are sent 1 at a
+ * time, because Kraken rejects a nonce lower than the last one it has seen; public calls are not held up.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -180,6 +187,41 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
      */
     private static final String FAILED_TO_CANCEL_ORDER = "Failed to Cancel Order on exchange. Details: ";
 
+    /**
+     * Error message for when API call to Edit Order fails.
+     */
+    private static final String FAILED_TO_EDIT_ORDER = "Failed to Edit Order on exchange. Details: ";
+
+    /**
+     * The error the exchange returns for an order that is not on the book.
+     */
+    private static final String UNKNOWN_ORDER_ERROR = "EOrder:Unknown order";
+
+    /**
+     * The max number of orders the exchange cancels in a 'CancelOrderBatch' call.
+     */
+    private static final int MAX_ORDERS_PER_CANCEL_ORDER_BATCH_CALL = 50;
+
+    /**
+     * Error message for when API call to Query Orders fails.
+     */
+    private static final String FAILED_TO_GET_ORDER_STATUS = "Failed to get Order Status from exchange. Details: ";
+
+    /**
+     * Error message for when API call to Trades History fails.
+     */
+    private static final String FAILED_TO_GET_TRADES_HISTORY = "Failed to get Trades History from exchange. Details: ";
+
+    /**
+     * Error message for when API call to get Asset Pairs fails.
+     */
+    private static final String FAILED_TO_GET_ASSET_PAIRS = "Failed to get Asset Pairs from exchange. Details: ";
+
+    /**
+     * Error message for when API call to get Orders by client order id fails.
+     */
+    private static final String FAILED_TO_GET_ORDERS_BY_USERREF = "Failed to get Orders by userref from exchange. Details: ";
+
     /**
      * Name of PUBLIC key prop in config file.
      */
@@ -212,8 +254,9 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
 
     /**
      * Nonce used for sending authenticated messages to the exchange.
+     * Atomic because Trading Strategies on the same exchange can call the adapter concurrently.
      */
-    private long nonce = 0;
+    private final AtomicLong nonce = new AtomicLong();
 
     /**
      * Exchange buy fees in % in {@link BigDecimal} format.
@@ -265,9 +308,9 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
         setNetworkConfig(config);
         setOptionalConfig(config);
 
-        nonce = System.currentTimeMillis() / 1000; // set the initial nonce used in the secure messaging.
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "Time");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -288,14 +331,14 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             response = sendPublicRequestToExchange("Depth", params);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Market Orders response: " + response);
+                LOG.debug("Market Orders response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenMarketOrderBookResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 final List<String> errors = krakenResponse.error;
                 if (errors == null || errors.isEmpty()) {
@@ -355,6 +398,12 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
 
     @Override
     public List<OpenOrder> getYourOpenOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
+        return getYourOpenOrders(Collections.singletonList(marketId)).get(marketId);
+    }
+
+    @Override
+    public Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
 
         ExchangeHttpResponse response = null;
 
@@ -363,19 +412,19 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             response = sendAuthenticatedRequestToExchange("OpenOrders", null);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Open Orders response: " + response);
+                LOG.debug("Open Orders response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenOpenOrderResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 final List<String> errors = krakenResponse.error;
                 if (errors == null || errors.isEmpty()) {
 
-                    final List<OpenOrder> openOrders = new ArrayList<>();
+                    final Map<String, List<OpenOrder>> openOrders = createOpenOrdersByMarket(marketIds);
 
                     // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
                     final KrakenOpenOrderResult krakenOpenOrderResult = (KrakenOpenOrderResult) krakenResponse.result;
@@ -388,7 +437,8 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
                             final KrakenOpenOrder krakenOpenOrder = openOrder.getValue();
                             final KrakenOpenOrderDescription krakenOpenOrderDescription = krakenOpenOrder.descr;
 
-                            if (!marketId.equalsIgnoreCase(krakenOpenOrderDescription.pair)) {
+                            final String marketId = findMarketIdIgnoringCase(marketIds, krakenOpenOrderDescription.pair);
+                            if (marketId == null) {
                                 continue;
                             }
 
@@ -417,7 +467,7 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
                                     krakenOpenOrderDescription.price.multiply(krakenOpenOrder.vol)
                             );
 
-                            openOrders.add(order);
+                            openOrders.get(marketId).add(order);
                         }
                     }
 
@@ -452,6 +502,15 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
     @Override
     public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price) throws
             TradingApiException, ExchangeNetworkException {
+        return createOrder(marketId, orderType, quantity, price, null);
+    }
+
+    /*
+     * The client order id is sent as the order's userref.
+     */
+    @Override
+    public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                              String clientOrderId) throws TradingApiException, ExchangeNetworkException {
 
         ExchangeHttpResponse response = null;
 
@@ -477,45 +536,508 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("price", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(price));
             params.put("volume", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(quantity));
 
+            if (clientOrderId != null) {
+                params.put("userref", clientOrderId);
+            }
+
             response = sendAuthenticatedRequestToExchange("AddOrder", params);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Create Order response: " + response);
+                LOG.debug("Create Order response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenAddOrderResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                    final KrakenAddOrderResult krakenAddOrderResult = (KrakenAddOrderResult) krakenResponse.result;
+
+                    // Just return the first one. Why an array?
+                    return krakenAddOrderResult.txid.get(0);
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_ADD_ORDER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_ADD_ORDER + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean cancelOrder(String orderId, String marketIdNotNeeded) throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("txid", orderId);
+
+            response = sendAuthenticatedRequestToExchange("CancelOrder", params);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cancel Order response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenCancelOrderResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                    final KrakenCancelOrderResult krakenCancelOrderResult = (KrakenCancelOrderResult) krakenResponse.result;
+                    if (krakenCancelOrderResult != null) {
+                        if (krakenCancelOrderResult.count > 0) {
+                            return true;
+                        } else {
+                            final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                            LOG.error(errorMsg);
+                            return false;
+                        }
+                    } else {
+                        final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                        LOG.error(errorMsg);
+                        return false;
+                    }
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * Uses the 'EditOrder' call, which cancels the order and places the new one in 1 call. The order type is not
+     * needed; the new order keeps the type of the old one.
+     */
+    @Override
+    public String amendOrder(String orderId, String marketId, OrderType orderTypeNotNeeded, BigDecimal newPrice,
+                             BigDecimal newQuantity) throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("txid", orderId);
+            params.put("pair", marketId);
+            params.put("price", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(newPrice));
+            params.put("volume", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(newQuantity));
+
+            response = sendAuthenticatedRequestToExchange("EditOrder", params);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Amend Order response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenEditOrderResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    final KrakenEditOrderResult krakenEditOrderResult = (KrakenEditOrderResult) krakenResponse.result;
+                    if ("ok".equals(krakenEditOrderResult.status) && krakenEditOrderResult.txid != null) {
+                        return krakenEditOrderResult.txid;
+                    }
+                    final String errorMsg = FAILED_TO_EDIT_ORDER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    // The order has gone from the book, e.g. it has been filled.
+                    if (errors.contains(UNKNOWN_ORDER_ERROR)) {
+                        LOG.error(FAILED_TO_EDIT_ORDER + response);
+                        return null;
+                    }
+
+                    final String errorMsg = FAILED_TO_EDIT_ORDER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_EDIT_ORDER + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * Uses the 'CancelOrderBatch' call, which cancels up to 50 orders at a time. It only returns how many orders were
+     * cancelled, so if that is fewer than asked for, each order's status is fetched to find out which ones were.
+     * marketId is not needed for cancelling orders on this exchange.
+     */
+    @Override
+    public List<OrderResult> cancelOrders(List<String> orderIds, String marketIdNotNeeded) throws TradingApiException,
+            ExchangeNetworkException {
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        for (int i = 0; i < orderIds.size(); i += MAX_ORDERS_PER_CANCEL_ORDER_BATCH_CALL) {
+            final List<String> batch =
+                    orderIds.subList(i, Math.min(i + MAX_ORDERS_PER_CANCEL_ORDER_BATCH_CALL, orderIds.size()));
+            try {
+                if (cancelOrderBatch(batch) == batch.size()) {
+                    for (final String orderId : batch) {
+                        orderResults.add(OrderResult.succeeded(orderId));
+                    }
+                } else {
+                    for (final String orderId : batch) {
+                        orderResults.add(checkOrderCancelled(orderId));
+                    }
+                }
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                for (final String orderId : batch) {
+                    orderResults.add(OrderResult.failed(orderId, e));
+                }
+            }
+        }
+        return orderResults;
+    }
+
+    /**
+     * Cancels a batch of orders in a single 'CancelOrderBatch' call.
+     *
+     * @param orderIds the ids of the orders to cancel.
+     * @return the number of orders cancelled.
+     * @throws ExchangeNetworkException if there is a network issue connecting to exchange.
+     * @throws TradingApiException      if the exchange rejected the call.
+     */
+    private int cancelOrderBatch(List<String> orderIds) throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            for (int i = 0; i < orderIds.size(); i++) {
+                params.put("orders[" + i + "]", orderIds.get(i));
+            }
+
+            response = sendAuthenticatedRequestToExchange("CancelOrderBatch", params);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Cancel Order Batch response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenCancelOrderResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+                    final KrakenCancelOrderResult krakenCancelOrderResult = (KrakenCancelOrderResult) krakenResponse.result;
+                    return krakenCancelOrderResult == null ? 0 : krakenCancelOrderResult.count;
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * Finds out if an order in a 'CancelOrderBatch' call was one of the ones cancelled.
+     */
+    private OrderResult checkOrderCancelled(String orderId) {
+        try {
+            final OrderStatus orderStatus = getOrderStatus(orderId, null);
+            if (orderStatus.getState() == OrderState.CANCELLED) {
+                return OrderResult.succeeded(orderId);
+            }
+            return OrderResult.failed(orderId, new TradingApiException(FAILED_TO_CANCEL_ORDER + orderStatus));
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            return OrderResult.failed(orderId, e);
+        }
+    }
+
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * marketId is not needed for getting the order status on this exchange.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
+
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("txid", orderId);
+
+            response = sendAuthenticatedRequestToExchange("QueryOrders", params);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Query Orders response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenQueryOrdersResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                    final KrakenQueryOrdersResult krakenQueryOrdersResult = (KrakenQueryOrdersResult) krakenResponse.result;
+                    final KrakenOpenOrder krakenOrder = krakenQueryOrdersResult.get(orderId);
+                    if (krakenOrder == null) {
+                        final String errorMsg = FAILED_TO_GET_ORDER_STATUS + response;
+                        LOG.error(errorMsg);
+                        throw new TradingApiException(errorMsg);
+                    }
+
+                    final OrderState state = toOrderState(
+                            "pending".equals(krakenOrder.status) || "open".equals(krakenOrder.status),
+                            "canceled".equals(krakenOrder.status) || "expired".equals(krakenOrder.status),
+                            krakenOrder.vol_exec);
+
+                    return new OrderStatusImpl(
+                            orderId,
+                            krakenOrder.descr.pair,
+                            toOrderType(krakenOrder.descr.type),
+                            state,
+                            krakenOrder.descr.price,
+                            krakenOrder.vol,
+                            krakenOrder.vol_exec,
+                            krakenOrder.vol_exec.signum() == 0 ? null : krakenOrder.price); // price == avg fill price
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_GET_ORDER_STATUS + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_GET_ORDER_STATUS + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * The market id is the pair's altname, e.g. XBTUSD. Older pairs have no tick_size, so the price tick size comes
+     * from their pair_decimals instead; the quantity step size always comes from the lot_decimals.
+     */
+    @Override
+    public Map<String, MarketInfo> getMarketInfo() throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response;
+
+        try {
+
+            response = sendPublicRequestToExchange("AssetPairs", null);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Asset Pairs response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenAssetPairsResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                    final KrakenAssetPairsResult assetPairsResult = (KrakenAssetPairsResult) krakenResponse.result;
+
+                    final Map<String, MarketInfo> marketInfo = new LinkedHashMap<>();
+                    for (final KrakenAssetPair assetPair : assetPairsResult.values()) {
+                        marketInfo.put(assetPair.altname, new MarketInfoImpl(
+                                assetPair.altname,
+                                assetPair.tick_size != null
+                                        ? assetPair.tick_size : BigDecimal.ONE.scaleByPowerOfTen(-assetPair.pair_decimals),
+                                BigDecimal.ONE.scaleByPowerOfTen(-assetPair.lot_decimals),
+                                assetPair.ordermin,
+                                assetPair.costmin));
+                    }
+                    return marketInfo;
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_GET_ASSET_PAIRS + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_GET_ASSET_PAIRS + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * The userref must be a 32-bit integer on this exchange.
+     */
+    @Override
+    public String newClientOrderId() {
+        return String.valueOf(ThreadLocalRandom.current().nextInt(1, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean supportsClientOrderIds() {
+        return true;
+    }
+
+    /*
+     * The open orders are searched first, then the closed ones. marketId is not needed for looking up orders on this
+     * exchange.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketIdNotNeeded)
+            throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response = null;
 
-                final List<String> errors = krakenResponse.error;
-                if (errors == null || errors.isEmpty()) {
+        try {
+            final Map<String, String> params = createRequestParamMap();
+            params.put("userref", clientOrderId);
 
-                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
-                    final KrakenAddOrderResult krakenAddOrderResult = (KrakenAddOrderResult) krakenResponse.result;
+            response = sendAuthenticatedRequestToExchange("OpenOrders", params);
 
-                    // Just return the first one. Why an array?
-                    return krakenAddOrderResult.txid.get(0);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Open Orders by userref response: {}", response);
+            }
 
-                } else {
+            final KrakenOpenOrderResult krakenOpenOrderResult = (KrakenOpenOrderResult) getOrdersByUserrefResult(
+                    response, new TypeToken<KrakenResponse<KrakenOpenOrderResult>>() {
+                    }.getType());
+            if (krakenOpenOrderResult.open != null && !krakenOpenOrderResult.open.isEmpty()) {
+                return krakenOpenOrderResult.open.keySet().iterator().next();
+            }
 
-                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
-                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
-                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
-                    }
+            response = sendAuthenticatedRequestToExchange("ClosedOrders", params);
 
-                    final String errorMsg = FAILED_TO_ADD_ORDER + response;
-                    LOG.error(errorMsg);
-                    throw new TradingApiException(errorMsg);
-                }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Closed Orders by userref response: {}", response);
+            }
 
-            } else {
-                final String errorMsg = FAILED_TO_ADD_ORDER + response;
-                LOG.error(errorMsg);
-                throw new TradingApiException(errorMsg);
+            final KrakenClosedOrderResult krakenClosedOrderResult = (KrakenClosedOrderResult) getOrdersByUserrefResult(
+                    response, new TypeToken<KrakenResponse<KrakenClosedOrderResult>>() {
+                    }.getType());
+            if (krakenClosedOrderResult.closed != null && !krakenClosedOrderResult.closed.isEmpty()) {
+                return krakenClosedOrderResult.closed.keySet().iterator().next();
             }
 
+            return null;
+
         } catch (ExchangeNetworkException | TradingApiException e) {
             throw e;
         } catch (Exception e) {
@@ -524,45 +1046,96 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /*
+     * Unwraps the result of an OpenOrders or ClosedOrders call made to look up orders by userref.
+     */
+    private Object getOrdersByUserrefResult(ExchangeHttpResponse response, Type resultType)
+            throws TradingApiException, ExchangeNetworkException {
+
+        if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+            final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+            final List<String> errors = krakenResponse.error;
+            if (errors == null || errors.isEmpty()) {
+                // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                return krakenResponse.result;
+            }
+
+            if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+            }
+        }
+
+        final String errorMsg = FAILED_TO_GET_ORDERS_BY_USERREF + response;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     @Override
-    public boolean cancelOrder(String orderId, String marketIdNotNeeded) throws TradingApiException, ExchangeNetworkException {
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * Only the first page of trades is fetched - the exchange returns 50 in 1 call. Trades History is not filtered by
+     * market on the exchange, so the other markets' trades are dropped here.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
 
         ExchangeHttpResponse response = null;
 
         try {
             final Map<String, String> params = createRequestParamMap();
-            params.put("txid", orderId);
+            params.put("start", Long.toString(since.getTime() / 1000));
 
-            response = sendAuthenticatedRequestToExchange("CancelOrder", params);
+            response = sendAuthenticatedRequestToExchange("TradesHistory", params);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Cancel Order response: " + response);
+                LOG.debug("Trades History response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
-                final Type resultType = new TypeToken<KrakenResponse<KrakenCancelOrderResult>>() {
+                final Type resultType = new TypeToken<KrakenResponse<KrakenTradesHistoryResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 final List<String> errors = krakenResponse.error;
                 if (errors == null || errors.isEmpty()) {
 
                     // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
-                    final KrakenCancelOrderResult krakenCancelOrderResult = (KrakenCancelOrderResult) krakenResponse.result;
-                    if (krakenCancelOrderResult != null) {
-                        if (krakenCancelOrderResult.count > 0) {
-                            return true;
-                        } else {
-                            final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
-                            LOG.error(errorMsg);
-                            return false;
+                    final KrakenTradesHistoryResult krakenTradesHistoryResult =
+                            (KrakenTradesHistoryResult) krakenResponse.result;
+
+                    final List<Fill> fills = new ArrayList<>();
+                    if (krakenTradesHistoryResult.trades != null) {
+                        for (final Map.Entry<String, KrakenTrade> trade : krakenTradesHistoryResult.trades.entrySet()) {
+
+                            final KrakenTrade krakenTrade = trade.getValue();
+                            if (!isSameMarket(marketId, krakenTrade.pair)) {
+                                continue;
+                            }
+
+                            final Date creationDate = new Date((long) (krakenTrade.time * 1000));
+                            if (creationDate.before(since)) {
+                                continue;
+                            }
+
+                            fills.add(new FillImpl(
+                                    trade.getKey(),
+                                    krakenTrade.ordertxid,
+                                    marketId,
+                                    toOrderType(krakenTrade.type),
+                                    creationDate,
+                                    krakenTrade.price,
+                                    krakenTrade.vol,
+                                    krakenTrade.fee));
                         }
-                    } else {
-                        final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
-                        LOG.error(errorMsg);
-                        return false;
                     }
+                    return sortOldestFirst(fills);
 
                 } else {
 
@@ -571,13 +1144,13 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
                         throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
                     }
 
-                    final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                    final String errorMsg = FAILED_TO_GET_TRADES_HISTORY + response;
                     LOG.error(errorMsg);
                     throw new TradingApiException(errorMsg);
                 }
 
             } else {
-                final String errorMsg = FAILED_TO_CANCEL_ORDER + response;
+                final String errorMsg = FAILED_TO_GET_TRADES_HISTORY + response;
                 LOG.error(errorMsg);
                 throw new TradingApiException(errorMsg);
             }
@@ -603,14 +1176,14 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             response = sendPublicRequestToExchange("Ticker", params);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Latest Market Price response: " + response);
+                LOG.debug("Latest Market Price response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenTickerResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 final List<String> errors = krakenResponse.error;
                 if (errors == null || errors.isEmpty()) {
@@ -657,14 +1230,14 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             response = sendAuthenticatedRequestToExchange("Balance", null);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Balance Info response: " + response);
+                LOG.debug("Balance Info response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenBalanceResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 if (krakenResponse != null) {
                     final List<String> errors = krakenResponse.error;
@@ -747,32 +1320,93 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             response = sendPublicRequestToExchange("Ticker", params);
 
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Ticker response: " + response);
+                LOG.debug("Ticker response: {}", response);
             }
 
             if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
 
                 final Type resultType = new TypeToken<KrakenResponse<KrakenTickerResult>>() {
                 }.getType();
-                final KrakenResponse krakenResponse = gson.fromJson(response.getPayload(), resultType);
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
 
                 final List<String> errors = krakenResponse.error;
                 if (errors == null || errors.isEmpty()) {
 
                     // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
                     final KrakenTickerResult tickerResult = (KrakenTickerResult) krakenResponse.result;
+                    return toTicker(tickerResult);
+
+                } else {
+
+                    if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
+                        LOG.warn(() -> UNDER_MAINTENANCE_WARNING_MESSAGE);
+                        throw new ExchangeNetworkException(UNDER_MAINTENANCE_WARNING_MESSAGE);
+                    }
+
+                    final String errorMsg = FAILED_TO_GET_TICKER + response;
+                    LOG.error(errorMsg);
+                    throw new TradingApiException(errorMsg);
+                }
+
+            } else {
+                final String errorMsg = FAILED_TO_GET_TICKER + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    /*
+     * The Ticker call takes a comma separated list of pairs, so the Tickers for all the markets are fetched in 1 call.
+     */
+    @Override
+    public Map<String, Ticker> getTickers(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
+
+        ExchangeHttpResponse response;
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("pair", String.join(",", marketIds));
+
+            response = sendPublicRequestToExchange("Ticker", params);
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Tickers response: {}", response);
+            }
+
+            if (response.getStatusCode() == HttpURLConnection.HTTP_OK) {
+
+                final Type resultType = new TypeToken<KrakenResponse<KrakenTickersResult>>() {
+                }.getType();
+                final KrakenResponse krakenResponse = fromJson(gson, response.getPayload(), resultType);
+
+                final List<String> errors = krakenResponse.error;
+                if (errors == null || errors.isEmpty()) {
+
+                    // Assume we'll always get something here if errors array is empty; else blow fast wih NPE
+                    final KrakenTickersResult tickersResult = (KrakenTickersResult) krakenResponse.result;
+
+                    final Map<String, Ticker> tickers = new LinkedHashMap<>();
+                    for (final String marketId : marketIds) {
+                        final KrakenTickerResult tickerResult = findTickerResult(tickersResult, marketId);
+                        if (tickerResult == null) {
+                            final String errorMsg = FAILED_TO_GET_TICKER + "no Ticker for market " + marketId
+                                    + " in response: " + response;
+                            LOG.error(errorMsg);
+                            throw new TradingApiException(errorMsg);
+                        }
+                        tickers.put(marketId, toTicker(tickerResult));
+                    }
+                    return tickers;
 
-                    // ouch!
-                    return new TickerImpl(
-                            new BigDecimal(tickerResult.get("c")), // last trade
-                            new BigDecimal(tickerResult.get("b")), // bid
-                            new BigDecimal(tickerResult.get("a")), // ask
-                            new BigDecimal(tickerResult.get("l")), // low 24h
-                            new BigDecimal(tickerResult.get("h")), // high 24hr
-                            new BigDecimal(tickerResult.get("o")), // open
-                            new BigDecimal(tickerResult.get("v")), // volume 24hr
-                            new BigDecimal(tickerResult.get("p")), // vwap 24hr
-                            null);                                 // timestamp not supplied by Kraken
                 } else {
 
                     if (isExchangeUndergoingMaintenance(response) && keepAliveDuringMaintenance) {
@@ -855,6 +1489,12 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
     private static class KrakenTickerResult extends HashMap<String, String> {
     }
 
+    /**
+     * GSON class that wraps a Ticker API call result for several pairs - the Tickers keyed by pair.
+     */
+    private static class KrakenTickersResult extends HashMap<String, KrakenTickerResult> {
+    }
+
     /**
      * GSON class that wraps an Open Order API call result - your open orders.
      */
@@ -939,6 +1579,113 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /**
+     * GSON class that wraps a QueryOrders API call result - the orders asked for, keyed by txid.
+     */
+    private static class KrakenQueryOrdersResult extends HashMap<String, KrakenOpenOrder> {
+    }
+
+    /**
+     * GSON class that wraps an Asset Pairs API call result.
+     */
+    private static class KrakenAssetPairsResult extends HashMap<String, KrakenAssetPair> {
+    }
+
+    /**
+     * GSON class the represents a Kraken Asset Pair - the trading rules for a market.
+     */
+    private static class KrakenAssetPair {
+
+        public String altname;      // e.g. "XBTUSD"
+        public String base;         // e.g. "XXBT"
+        public String quote;        // e.g. "ZUSD"
+        public int pair_decimals;   // price precision
+        public int lot_decimals;    // volume precision
+        public BigDecimal tick_size;
+        public BigDecimal ordermin;
+        public BigDecimal costmin;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("altname", altname)
+                    .add("base", base)
+                    .add("quote", quote)
+                    .add("pair_decimals", pair_decimals)
+                    .add("lot_decimals", lot_decimals)
+                    .add("tick_size", tick_size)
+                    .add("ordermin", ordermin)
+                    .add("costmin", costmin)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class that wraps a Closed Orders API call result - your closed orders.
+     */
+    private static class KrakenClosedOrderResult {
+
+        public Map<String, KrakenOpenOrder> closed;
+        public int count;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("closed", closed)
+                    .add("count", count)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class that wraps a TradesHistory API call result.
+     */
+    private static class KrakenTradesHistoryResult {
+
+        public Map<String, KrakenTrade> trades;
+        public int count;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("trades", trades)
+                    .add("count", count)
+                    .toString();
+        }
+    }
+
+    /**
+     * GSON class the represents a Kraken Trade.
+     */
+    private static class KrakenTrade {
+
+        // field names map to the JSON arg names
+        public String ordertxid;
+        public String pair;     // e.g. "XXBTZEUR"
+        public double time;     // unix timestamp in secs
+        public String type;     // "buy" or "sell"
+        public String ordertype;
+        public BigDecimal price;
+        public BigDecimal cost;
+        public BigDecimal fee;
+        public BigDecimal vol;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("ordertxid", ordertxid)
+                    .add("pair", pair)
+                    .add("time", time)
+                    .add("type", type)
+                    .add("ordertype", ordertype)
+                    .add("price", price)
+                    .add("cost", cost)
+                    .add("fee", fee)
+                    .add("vol", vol)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class representing an AddOrder result.
      */
@@ -971,6 +1718,35 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /**
+     * GSON class representing an EditOrder result.
+     */
+    private static class KrakenEditOrderResult {
+
+        public KrakenAddOrderResultDescription descr;
+        public String txid; // the id of the new order
+        public String originaltxid;
+        public BigDecimal volume;
+        public BigDecimal price;
+        public int orders_cancelled;
+        public String status; // "ok" or "err"
+        public String error_message;
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("descr", descr)
+                    .add("txid", txid)
+                    .add("originaltxid", originaltxid)
+                    .add("volume", volume)
+                    .add("price", price)
+                    .add("orders_cancelled", orders_cancelled)
+                    .add("status", status)
+                    .add("error_message", error_message)
+                    .toString();
+        }
+    }
+
     /**
      * GSON class representing a CancelOrder result.
      */
@@ -1021,68 +1797,92 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
         public KrakenTickerResult deserialize(JsonElement json, Type type, JsonDeserializationContext context)
                 throws JsonParseException {
 
-            final KrakenTickerResult krakenTickerResult = new KrakenTickerResult();
             if (json.isJsonObject()) {
 
                 final JsonObject jsonObject = json.getAsJsonObject();
 
                 // assume 1 (KV) entry as per API spec - the K is the market id, the V is a Map of ticker params
                 final JsonElement tickerParams = jsonObject.entrySet().iterator().next().getValue();
+                return deserializeTickerParams(tickerParams.getAsJsonObject(), context);
+            }
+            return new KrakenTickerResult();
+        }
 
-                final JsonObject tickerMap = tickerParams.getAsJsonObject();
-                for (Map.Entry<String, JsonElement> jsonTickerParam : tickerMap.entrySet()) {
-
-                    final String key = jsonTickerParam.getKey();
-                    switch (key) {
-                        case "c":
-                            final List<String> lastTradeDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("c", lastTradeDetails.get(0));
-                            break;
-
-                        case "b":
-                            final List<String> bidDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("b", bidDetails.get(0));
-                            break;
-
-                        case "a":
-                            final List<String> askDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("a", askDetails.get(0));
-                            break;
-
-                        case "l":
-                            final List<String> lowDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("l", lowDetails.get(1));
-                            break;
-
-                        case "h":
-                            final List<String> highDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("h", highDetails.get(1));
-                            break;
-
-                        case "o":
-                            final String openDetails = context.deserialize(jsonTickerParam.getValue(), String.class);
-                            krakenTickerResult.put("o", openDetails);
-                            break;
-
-                        case "v":
-                            final List<String> volumeDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("v", volumeDetails.get(1));
-                            break;
-
-                        case "p":
-                            final List<String> vWapDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
-                            krakenTickerResult.put("p", vWapDetails.get(1));
-                            break;
-
-                        default:
-                            LOG.warn("Received unexpected Ticker param - ignoring: " + key);
-                    }
+        static KrakenTickerResult deserializeTickerParams(JsonObject tickerMap, JsonDeserializationContext context) {
+
+            final KrakenTickerResult krakenTickerResult = new KrakenTickerResult();
+            for (Map.Entry<String, JsonElement> jsonTickerParam : tickerMap.entrySet()) {
+
+                final String key = jsonTickerParam.getKey();
+                switch (key) {
+                    case "c":
+                        final List<String> lastTradeDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("c", lastTradeDetails.get(0));
+                        break;
+
+                    case "b":
+                        final List<String> bidDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("b", bidDetails.get(0));
+                        break;
+
+                    case "a":
+                        final List<String> askDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("a", askDetails.get(0));
+                        break;
+
+                    case "l":
+                        final List<String> lowDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("l", lowDetails.get(1));
+                        break;
+
+                    case "h":
+                        final List<String> highDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("h", highDetails.get(1));
+                        break;
+
+                    case "o":
+                        final String openDetails = context.deserialize(jsonTickerParam.getValue(), String.class);
+                        krakenTickerResult.put("o", openDetails);
+                        break;
+
+                    case "v":
+                        final List<String> volumeDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("v", volumeDetails.get(1));
+                        break;
+
+                    case "p":
+                        final List<String> vWapDetails = context.deserialize(jsonTickerParam.getValue(), List.class);
+                        krakenTickerResult.put("p", vWapDetails.get(1));
+                        break;
+
+                    default:
+                        LOG.warn("Received unexpected Ticker param - ignoring: " + key);
                 }
             }
             return krakenTickerResult;
         }
     }
 
+    /**
+     * Custom GSON Deserializer for Ticker API call result for several pairs. Each pair's Ticker params are
+     * deserialized the same way as {@link KrakenTickerResultDeserializer} does for a single pair.
+     */
+    private static class KrakenTickersResultDeserializer implements JsonDeserializer<KrakenTickersResult> {
+
+        public KrakenTickersResult deserialize(JsonElement json, Type type, JsonDeserializationContext context)
+                throws JsonParseException {
+
+            final KrakenTickersResult krakenTickersResult = new KrakenTickersResult();
+            if (json.isJsonObject()) {
+                for (final Map.Entry<String, JsonElement> jsonTicker : json.getAsJsonObject().entrySet()) {
+                    krakenTickersResult.put(jsonTicker.getKey(), KrakenTickerResultDeserializer.deserializeTickerParams(
+                            jsonTicker.getValue().getAsJsonObject(), context));
+                }
+            }
+            return krakenTickersResult;
+        }
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Transport layer methods
     // ------------------------------------------------------------------------------------------------
@@ -1162,6 +1962,14 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
      */
     private ExchangeHttpResponse sendAuthenticatedRequestToExchange(String apiMethod, Map<String, String> params)
             throws ExchangeNetworkException, TradingApiException {
+        return sendInNonceOrder(() -> signAndSendAuthenticatedRequest(apiMethod, params));
+    }
+
+    /*
+     * Takes the nonce for the request, signs it and sends it. Only called by sendInNonceOrder.
+     */
+    private ExchangeHttpResponse signAndSendAuthenticatedRequest(String apiMethod, Map<String, String> params)
+            throws ExchangeNetworkException, TradingApiException {
 
         if (!initializedMACAuthentication) {
             final String errorMsg = "MAC Message security layer has not been initialized.";
@@ -1178,8 +1986,8 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
 
             // The nonce is required by Kraken in every request.
             // It MUST be incremented each time and the nonce param MUST match the value used in signature.
-            nonce++;
-            params.put("nonce", Long.toString(nonce));
+            final long requestNonce = nextNonce(nonce);
+            params.put("nonce", Long.toString(requestNonce));
 
             // Current adapter does not support optional 2FA
             // params.put("otp", "false");
@@ -1198,20 +2006,24 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
             // And now the tricky part... ;-o
 
             final byte[] pathInBytes = ("/" + KRAKEN_API_VERSION + KRAKEN_PRIVATE_PATH + apiMethod).getBytes("UTF-8");
-            final String noncePrependedToPostData = Long.toString(nonce) + postData;
+            final String noncePrependedToPostData = Long.toString(requestNonce) + postData;
 
             // Create sha256 hash of nonce and post data:
             final MessageDigest md = MessageDigest.getInstance("SHA-256");
             md.update(noncePrependedToPostData.getBytes("UTF-8"));
             final byte[] messageHash = md.digest();
 
-            // Create hmac_sha512 digest of path and previous sha256 hash
-            mac.reset(); // force reset
-            mac.update(pathInBytes);
-            mac.update(messageHash);
+            // Create hmac_sha512 digest of path and previous sha256 hash - the MAC is shared, so it is locked while signing
+            final byte[] macDigest;
+            synchronized (mac) {
+                mac.reset(); // force reset
+                mac.update(pathInBytes);
+                mac.update(messageHash);
+                macDigest = mac.doFinal();
+            }
 
             // Signature in Base64
-            final String signature = Base64.getEncoder().encodeToString(mac.doFinal());
+            final String signature = Base64.getEncoder().encodeToString(macDigest);
 
             // Request headers required by Exchange
             final Map<String, String> requestHeaders = createHeaderParamMap();
@@ -1298,9 +2110,57 @@ public final class KrakenExchangeAdapter extends AbstractExchangeAdapter impleme
     private void initGson() {
         final GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder.registerTypeAdapter(KrakenTickerResult.class, new KrakenTickerResultDeserializer());
+        gsonBuilder.registerTypeAdapter(KrakenTickersResult.class, new KrakenTickersResultDeserializer());
         gson = gsonBuilder.create();
     }
 
+    private static OrderType toOrderType(String type) throws TradingApiException {
+        switch (type) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received from exchange. Value: " + type);
+        }
+    }
+
+    /*
+     * Trades History returns the full pair name, e.g. XXBTZEUR for the XBTEUR market.
+     */
+    private static boolean isSameMarket(String marketId, String pair) {
+        if (marketId.equalsIgnoreCase(pair)) {
+            return true;
+        }
+        return pair.length() == 8 && marketId.equalsIgnoreCase(pair.substring(1, 4) + pair.substring(5));
+    }
+
+    private static Ticker toTicker(KrakenTickerResult tickerResult) {
+        // ouch!
+        return new TickerImpl(
+                new BigDecimal(tickerResult.get("c")), // last trade
+                new BigDecimal(tickerResult.get("b")), // bid
+                new BigDecimal(tickerResult.get("a")), // ask
+                new BigDecimal(tickerResult.get("l")), // low 24h
+                new BigDecimal(tickerResult.get("h")), // high 24hr
+                new BigDecimal(tickerResult.get("o")), // open
+                new BigDecimal(tickerResult.get("v")), // volume 24hr
+                new BigDecimal(tickerResult.get("p")), // vwap 24hr
+                null);                                 // timestamp not supplied by Kraken
+    }
+
+    /*
+     * The Tickers are keyed by the full pair name, e.g. XXBTZEUR for the XBTEUR market.
+     */
+    private static KrakenTickerResult findTickerResult(KrakenTickersResult tickersResult, String marketId) {
+        for (final Map.Entry<String, KrakenTickerResult> tickerResult : tickersResult.entrySet()) {
+            if (isSameMarket(marketId, tickerResult.getKey())) {
+                return tickerResult.getValue();
+            }
+        }
+        return null;
+    }
+
     private static boolean isExchangeUndergoingMaintenance(ExchangeHttpResponse response) {
         if (response != null) {
             final String payload = response.getPayload();
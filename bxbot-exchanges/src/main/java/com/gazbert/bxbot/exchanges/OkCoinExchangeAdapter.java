@@ -71,9 +71,9 @@ import java.util.*;
  * config accordingly.
  * </p>
  * <p>
- * The Exchange Adapter is <em>not</em> thread safe. It expects to be called using a single thread in order to
- * preserve trade execution order. The {@link URLConnection} achieves this by blocking/waiting on the input stream
- * (response) for each API call.
+ * The Exchange Adapter is thread safe; the Trading Engine calls it from several threads when it executes the Trading
+ * Strategies for the exchange concurrently. Each API call blocks its calling thread waiting on the {@link URLConnection}
+ * input stream (response), but no lock is held while it waits. Calls made from a single thread are executed in order.
  * </p>
  * <p>
  * The {@link TradingApi} calls will throw a {@link ExchangeNetworkException} if a network error occurs trying to
@@ -179,6 +179,7 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
 
         initSecureMessageLayer();
         initGson();
+        keepConnectionsWarm(PUBLIC_API_BASE_URL + "ticker.do?symbol=btc_usd");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -214,9 +215,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("amount", new DecimalFormat("#.########", getDecimalFormatSymbols()).format(quantity));
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("trade.do", params);
-            LOG.debug(() -> "Create Order response: " + response);
+            LOG.debug("Create Order response: {}", response);
 
-            final OKCoinTradeResponse createOrderResponse = gson.fromJson(response.getPayload(), OKCoinTradeResponse.class);
+            final OKCoinTradeResponse createOrderResponse = fromJson(gson, response.getPayload(), OKCoinTradeResponse.class);
             if (createOrderResponse.result) {
                 return Long.toString(createOrderResponse.order_id);
             } else {
@@ -233,6 +234,17 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    /*
+     * The exchange does not take client order ids, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        final String errorMsg = getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId;
+        LOG.error(errorMsg);
+        throw new TradingApiException(errorMsg);
+    }
+
     @Override
     public boolean cancelOrder(String orderId, String marketId) throws TradingApiException, ExchangeNetworkException {
 
@@ -242,9 +254,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("symbol", marketId);
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("cancel_order.do", params);
-            LOG.debug(() -> "Cancel Order response: " + response);
+            LOG.debug("Cancel Order response: {}", response);
 
-            final OKCoinCancelOrderResponse cancelOrderResponse = gson.fromJson(response.getPayload(), OKCoinCancelOrderResponse.class);
+            final OKCoinCancelOrderResponse cancelOrderResponse = fromJson(gson, response.getPayload(), OKCoinCancelOrderResponse.class);
             if (cancelOrderResponse.result) {
                 return true;
             } else {
@@ -271,9 +283,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("order_id", "-1"); // -1 means bring back all the orders
 
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order_info.do", params);
-            LOG.debug(() -> "Open Orders response: " + response);
+            LOG.debug("Open Orders response: {}", response);
 
-            final OKCoinOrderInfoWrapper orderInfoWrapper = gson.fromJson(response.getPayload(), OKCoinOrderInfoWrapper.class);
+            final OKCoinOrderInfoWrapper orderInfoWrapper = fromJson(gson, response.getPayload(), OKCoinOrderInfoWrapper.class);
             if (orderInfoWrapper.result) {
 
                 final List<OpenOrder> ordersToReturn = new ArrayList<>();
@@ -320,6 +332,121 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
         }
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("symbol", marketId);
+            params.put("order_id", orderId);
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order_info.do", params);
+            LOG.debug("Order Status response: {}", response);
+
+            final OKCoinOrderInfoWrapper orderInfoWrapper = fromJson(gson, response.getPayload(), OKCoinOrderInfoWrapper.class);
+            if (orderInfoWrapper.result && !orderInfoWrapper.orders.isEmpty()) {
+
+                final OKCoinOpenOrder okCoinOrder = orderInfoWrapper.orders.get(0);
+
+                // status: -1 = cancelled, 0 = unfilled, 1 = partially filled, 2 = fully filled, 4 = cancel in process
+                final OrderState state = toOrderState(
+                        okCoinOrder.status == 0 || okCoinOrder.status == 1 || okCoinOrder.status == 4,
+                        okCoinOrder.status == -1,
+                        okCoinOrder.deal_amount);
+
+                return new OrderStatusImpl(
+                        Long.toString(okCoinOrder.order_id),
+                        marketId,
+                        toOrderType(okCoinOrder.type),
+                        state,
+                        okCoinOrder.price,
+                        okCoinOrder.amount,
+                        okCoinOrder.deal_amount,
+                        okCoinOrder.deal_amount.signum() == 0 ? null : okCoinOrder.avg_price);
+
+            } else {
+                final String errorMsg = "Failed to get Order Status from exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    /*
+     * OKCoin's REST API does not provide your individual trades, so each completed order that has been (partly) filled
+     * is returned as a single Fill: the quantity is the amount dealt, the price is the average fill price, and the
+     * creation date is when the order was created. The fee is not provided. Only the first page of completed orders is
+     * fetched - the latest 200, the max the exchange returns in 1 call.
+     */
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+
+        try {
+
+            final Map<String, String> params = createRequestParamMap();
+            params.put("symbol", marketId);
+            params.put("status", "1"); // 1 means completed orders
+            params.put("current_page", "1");
+            params.put("page_length", "200");
+
+            final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("order_history.do", params);
+            LOG.debug("Order History response: {}", response);
+
+            final OKCoinOrderInfoWrapper orderHistoryWrapper = fromJson(gson, response.getPayload(), OKCoinOrderInfoWrapper.class);
+            if (orderHistoryWrapper.result) {
+
+                final List<Fill> fills = new ArrayList<>();
+                for (final OKCoinOpenOrder okCoinOrder : orderHistoryWrapper.orders) {
+
+                    final Date creationDate = new Date(okCoinOrder.create_date);
+                    if (okCoinOrder.deal_amount.signum() == 0 || creationDate.before(since)) {
+                        continue;
+                    }
+
+                    final String orderId = Long.toString(okCoinOrder.order_id);
+                    fills.add(new FillImpl(
+                            orderId,
+                            orderId,
+                            marketId,
+                            toOrderType(okCoinOrder.type),
+                            creationDate,
+                            okCoinOrder.avg_price,
+                            okCoinOrder.deal_amount,
+                            null)); // fee - not provided by OKCoin :-(
+                }
+                return sortOldestFirst(fills);
+
+            } else {
+                final String errorMsg = "Failed to get Order History from exchange. Error response: " + response;
+                LOG.error(errorMsg);
+                throw new TradingApiException(errorMsg);
+            }
+
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error(UNEXPECTED_ERROR_MSG, e);
+            throw new TradingApiException(UNEXPECTED_ERROR_MSG, e);
+        }
+    }
+
     @Override
     public MarketOrderBook getMarketOrders(String marketId) throws TradingApiException, ExchangeNetworkException {
 
@@ -329,9 +456,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("symbol", marketId);
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("depth.do", params);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final OKCoinDepthWrapper orderBook = gson.fromJson(response.getPayload(), OKCoinDepthWrapper.class);
+            final OKCoinDepthWrapper orderBook = fromJson(gson, response.getPayload(), OKCoinDepthWrapper.class);
 
             final List<MarketOrder> buyOrders = new ArrayList<>();
             for (OKCoinMarketOrder okCoinBuyOrder : orderBook.bids) {
@@ -383,9 +510,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("symbol", marketId);
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker.do", params);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final OKCoinTickerWrapper tickerWrapper = gson.fromJson(response.getPayload(), OKCoinTickerWrapper.class);
+            final OKCoinTickerWrapper tickerWrapper = fromJson(gson, response.getPayload(), OKCoinTickerWrapper.class);
             return tickerWrapper.ticker.last;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -401,9 +528,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
 
         try {
             final ExchangeHttpResponse response = sendAuthenticatedRequestToExchange("userinfo.do", null);
-            LOG.debug(() -> "Balance Info response: " + response);
+            LOG.debug("Balance Info response: {}", response);
 
-            final OKCoinUserInfoWrapper userInfoWrapper = gson.fromJson(response.getPayload(), OKCoinUserInfoWrapper.class);
+            final OKCoinUserInfoWrapper userInfoWrapper = fromJson(gson, response.getPayload(), OKCoinUserInfoWrapper.class);
             if (userInfoWrapper.result) {
 
                 final Map<String, BigDecimal> balancesAvailable = new HashMap<>();
@@ -464,9 +591,9 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             params.put("symbol", marketId);
 
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker.do", params);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final OKCoinTickerWrapper tickerWrapper = gson.fromJson(response.getPayload(), OKCoinTickerWrapper.class);
+            final OKCoinTickerWrapper tickerWrapper = fromJson(gson, response.getPayload(), OKCoinTickerWrapper.class);
             return new TickerImpl(
                     tickerWrapper.ticker.last,
                     tickerWrapper.ticker.buy,
@@ -522,7 +649,7 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
     }
 
     /**
-     * GSON class for wrapping order_info.do response.
+     * GSON class for wrapping order_info.do and order_history.do responses.
      */
     private static class OKCoinOrderInfoWrapper extends OKCoinMessageBase {
 
@@ -839,7 +966,7 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
 
             String sortedQueryString = createAlphabeticallySortedQueryString(params);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Sorted Query String without secret: " + sortedQueryString);
+                LOG.debug("Sorted Query String without secret: {}", sortedQueryString);
             }
 
             // Add secret key to Query String
@@ -859,7 +986,7 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
                 payload.append("=");
                 payload.append(URLEncoder.encode(param.getValue(), "UTF-8"));
             }
-            LOG.debug(() -> "Using following URL encoded POST payload for API call: " + payload);
+            LOG.debug("Using following URL encoded POST payload for API call: {}", payload);
 
             final Map<String, String> requestHeaders = createHeaderParamMap();
             requestHeaders.put("Content-Type", "application/x-www-form-urlencoded");
@@ -888,8 +1015,12 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
             return "";
         }
 
-        messageDigest.update(stringToHash.getBytes("UTF-8"));
-        final byte[] md5HashInBytes = messageDigest.digest();
+        // the digest is shared, so it is locked while hashing - but never while talking to the exchange
+        final byte[] md5HashInBytes;
+        synchronized (messageDigest) {
+            messageDigest.update(stringToHash.getBytes("UTF-8"));
+            md5HashInBytes = messageDigest.digest();
+        }
 
         final StringBuilder md5HashAsUpperCaseString = new StringBuilder();
         for (final byte md5HashByte : md5HashInBytes) {
@@ -951,6 +1082,17 @@ public final class OkCoinExchangeAdapter extends AbstractExchangeAdapter impleme
         gson = gsonBuilder.create();
     }
 
+    private static OrderType toOrderType(String type) throws TradingApiException {
+        switch (type) {
+            case "buy":
+                return OrderType.BUY;
+            case "sell":
+                return OrderType.SELL;
+            default:
+                throw new TradingApiException("Unrecognised order type received from exchange. Value: " + type);
+        }
+    }
+
     /*
      * Hack for unit-testing map params passed to transport layer.
      */
@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the account-level values an adapter needs before it can trade, e.g. the id of the wallet orders are placed
+ * in, all at once - so the trading path pays for 1 round of parallel calls, rather than 1 call per value it needs.
+ * <p>
+ * Adapters declare each value with the call that fetches it from the exchange, and start the session in the
+ * background at the end of init with {@link #start()}. If a value is needed before then, the first
+ * {@link SessionValue#get()} starts it instead. Starting it fetches all the values in parallel, waits for them, and then refreshes them in the
+ * background. A value that could not be fetched then, e.g. because the exchange was down, is fetched by the next
+ * {@link SessionValue#get()} instead.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author gazbert
+ */
+class SessionBootstrap {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final ExecutorService resolveExecutor;
+    private final ScheduledExecutorService refreshExecutor;
+    private final long refreshInterval;
+    private final TimeUnit refreshIntervalUnit;
+    private final List<SessionValue<?>> sessionValues = new CopyOnWriteArrayList<>();
+    private final List<ScheduledFuture<?>> refreshes = new CopyOnWriteArrayList<>();
+    private boolean started;
+
+
+    /**
+     * Creates a session bootstrap.
+     *
+     * @param resolveExecutor     used for fetching the values in parallel when the session is started.
+     * @param refreshExecutor     used for refreshing the values in the background.
+     * @param refreshInterval     how often the values are refreshed.
+     * @param refreshIntervalUnit the unit of the refresh interval.
+     */
+    SessionBootstrap(ExecutorService resolveExecutor, ScheduledExecutorService refreshExecutor, long refreshInterval,
+                     TimeUnit refreshIntervalUnit) {
+        this.resolveExecutor = resolveExecutor;
+        this.refreshExecutor = refreshExecutor;
+        this.refreshInterval = refreshInterval;
+        this.refreshIntervalUnit = refreshIntervalUnit;
+    }
+
+    /**
+     * Declares a value to be fetched when the session is started.
+     *
+     * @param name     the name of the value, for logging.
+     * @param resolver the call that fetches the value from the exchange.
+     * @param <T>      the type of the value.
+     * @return the value, to be read on the trading path.
+     */
+    <T> SessionValue<T> declare(String name, ExchangeCall<T> resolver) {
+        final SessionValue<T> sessionValue = new SessionValue<>(this, name, resolver);
+        sessionValues.add(sessionValue);
+        return sessionValue;
+    }
+
+    /**
+     * Starts the session, if it has not been started already. The values not already known are fetched in parallel,
+     * and waited for; failures are logged and left for the next {@link SessionValue#get()} to retry. All the values are
+     * then refreshed in the background at the refresh interval.
+     * <p>
+     * Callers that arrive while the session is being started wait for it.
+     */
+    synchronized void start() {
+
+        if (started) {
+            return;
+        }
+        started = true;
+
+        final List<Future<?>> resolutions = new ArrayList<>();
+        for (final SessionValue<?> sessionValue : sessionValues) {
+            if (sessionValue.value == null) {
+                resolutions.add(resolveExecutor.submit(sessionValue::refreshQuietly));
+            }
+        }
+
+        for (final Future<?> resolution : resolutions) {
+            try {
+                resolution.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn("Interrupted bootstrapping session - the rest of its values will be fetched on first use");
+                started = false;
+                return;
+            } catch (ExecutionException e) {
+                LOG.error("Unexpected error bootstrapping session", e.getCause());
+            }
+        }
+
+        for (final SessionValue<?> sessionValue : sessionValues) {
+            refreshes.add(refreshExecutor.scheduleWithFixedDelay(
+                    sessionValue::refreshQuietly, refreshInterval, refreshInterval, refreshIntervalUnit));
+        }
+    }
+
+    /**
+     * Stops refreshing the values in the background. The next {@link SessionValue#get()} starts the session again.
+     */
+    synchronized void stop() {
+        refreshes.forEach(refresh -> refresh.cancel(false));
+        refreshes.clear();
+        started = false;
+    }
+
+    /**
+     * An account-level value fetched from the exchange when the session is started.
+     *
+     * @param <T> the type of the value.
+     */
+    static final class SessionValue<T> {
+
+        private final SessionBootstrap sessionBootstrap;
+        private final String name;
+        private final ExchangeCall<T> resolver;
+        private volatile T value;
+
+        private SessionValue(SessionBootstrap sessionBootstrap, String name, ExchangeCall<T> resolver) {
+            this.sessionBootstrap = sessionBootstrap;
+            this.name = name;
+            this.resolver = resolver;
+        }
+
+        /**
+         * Returns the value, starting the session first if this is the first value asked for. It is only fetched on
+         * its own if it could not be fetched when the session was started.
+         *
+         * @return the value.
+         * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange.
+         * @throws TradingApiException      if the value could not be fetched for any other reason.
+         */
+        T get() throws ExchangeNetworkException, TradingApiException {
+            T current = value;
+            if (current != null) {
+                return current;
+            }
+            sessionBootstrap.start();
+            current = value;
+            if (current != null) {
+                return current;
+            }
+            LOG.warn(() -> name + " was not fetched when the session was bootstrapped - fetching it now");
+            return resolve();
+        }
+
+        /**
+         * Stores a value that came back from the exchange as part of another call.
+         *
+         * @param value the value.
+         */
+        void set(T value) {
+            this.value = value;
+        }
+
+        private T resolve() throws ExchangeNetworkException, TradingApiException {
+            final T resolved = resolver.call();
+            value = resolved;
+            return resolved;
+        }
+
+        private void refreshQuietly() {
+            try {
+                resolve();
+                LOG.info(() -> "Fetched " + name + " for session");
+            } catch (Exception e) {
+                LOG.warn("Failed to fetch " + name + " for session - it will be fetched again later", e);
+            }
+        }
+    }
+}
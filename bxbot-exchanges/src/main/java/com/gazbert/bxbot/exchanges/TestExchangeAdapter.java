@@ -28,6 +28,7 @@ import com.gazbert.bxbot.exchange.api.ExchangeConfig;
 import com.gazbert.bxbot.exchanges.trading.api.impl.BalanceInfoImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderBookImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.MarketOrderImpl;
+import com.gazbert.bxbot.exchanges.trading.api.impl.OrderStatusImpl;
 import com.gazbert.bxbot.exchanges.trading.api.impl.TickerImpl;
 import com.gazbert.bxbot.trading.api.*;
 import com.google.common.base.MoreObjects;
@@ -96,9 +97,9 @@ public final class TestExchangeAdapter extends AbstractExchangeAdapter implement
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("order_book/" + marketId);
-            LOG.debug(() -> "Market Orders response: " + response);
+            LOG.debug("Market Orders response: {}", response);
 
-            final BitstampOrderBook bitstampOrderBook = gson.fromJson(response.getPayload(), BitstampOrderBook.class);
+            final BitstampOrderBook bitstampOrderBook = fromJson(gson, response.getPayload(), BitstampOrderBook.class);
 
             final List<MarketOrder> buyOrders = new ArrayList<>();
             final List<List<BigDecimal>> bitstampBuyOrders = bitstampOrderBook.bids;
@@ -143,6 +144,15 @@ public final class TestExchangeAdapter extends AbstractExchangeAdapter implement
         return "DUMMY_ORDER_ID: " + UUID.randomUUID().toString();
     }
 
+    /*
+     * Client order ids are not kept, so orders cannot be looked up by them.
+     */
+    @Override
+    public String getOrderIdByClientOrderId(String clientOrderId, String marketId) throws TradingApiException {
+        throw new TradingApiException(getImplName() + " cannot look up orders by client order id. Client order id: "
+                + clientOrderId);
+    }
+
     /*
      * marketId is not needed for cancelling orders on this exchange.
      */
@@ -151,14 +161,38 @@ public final class TestExchangeAdapter extends AbstractExchangeAdapter implement
         return true;
     }
 
+    @Override
+    public boolean supportsOrderStatus() {
+        return true;
+    }
+
+    /*
+     * Orders are never left open, so they are all filled straight away.
+     */
+    @Override
+    public OrderStatus getOrderStatus(String orderId, String marketId) throws TradingApiException,
+            ExchangeNetworkException {
+        return new OrderStatusImpl(orderId, marketId, null, OrderState.FILLED, null, null, null, null);
+    }
+
+    @Override
+    public boolean supportsFills() {
+        return true;
+    }
+
+    @Override
+    public List<Fill> getFills(String marketId, Date since) throws TradingApiException, ExchangeNetworkException {
+        return new ArrayList<>();
+    }
+
     @Override
     public BigDecimal getLatestMarketPrice(String marketId) throws TradingApiException, ExchangeNetworkException {
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker/" + marketId);
-            LOG.debug(() -> "Latest Market Price response: " + response);
+            LOG.debug("Latest Market Price response: {}", response);
 
-            final BitstampTicker bitstampTicker = gson.fromJson(response.getPayload(), BitstampTicker.class);
+            final BitstampTicker bitstampTicker = fromJson(gson, response.getPayload(), BitstampTicker.class);
             return bitstampTicker.last;
 
         } catch (ExchangeNetworkException | TradingApiException e) {
@@ -211,9 +245,9 @@ public final class TestExchangeAdapter extends AbstractExchangeAdapter implement
 
         try {
             final ExchangeHttpResponse response = sendPublicRequestToExchange("ticker/" + marketId);
-            LOG.debug(() -> "Ticker response: " + response);
+            LOG.debug("Ticker response: {}", response);
 
-            final BitstampTicker bitstampTicker = gson.fromJson(response.getPayload(), BitstampTicker.class);
+            final BitstampTicker bitstampTicker = fromJson(gson, response.getPayload(), BitstampTicker.class);
             return new TickerImpl(
                     bitstampTicker.last,
                     bitstampTicker.bid,
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import com.gazbert.bxbot.trading.api.Fill;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * A Fill implementation that can be used by Exchange Adapters.
+ *
+ * @author gazbert
+ */
+public final class FillImpl implements Fill {
+
+    private String id;
+    private String orderId;
+    private String marketId;
+    private OrderType type;
+    private Date creationDate;
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private BigDecimal fee;
+
+
+    public FillImpl(String id, String orderId, String marketId, OrderType type, Date creationDate,
+                    BigDecimal price, BigDecimal quantity, BigDecimal fee) {
+        this.id = id;
+        this.orderId = orderId;
+        this.marketId = marketId;
+        this.type = type;
+        if (creationDate != null) {
+            this.creationDate = new Date(creationDate.getTime());
+        }
+        this.price = price;
+        this.quantity = quantity;
+        this.fee = fee;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(String orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(String marketId) {
+        this.marketId = marketId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public void setType(OrderType type) {
+        this.type = type;
+    }
+
+    public Date getCreationDate() {
+        if (creationDate != null) {
+            return new Date(creationDate.getTime());
+        }
+        return null;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        if (creationDate != null) {
+            this.creationDate = new Date(creationDate.getTime());
+        }
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getFee() {
+        return fee;
+    }
+
+    public void setFee(BigDecimal fee) {
+        this.fee = fee;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FillImpl fill = (FillImpl) o;
+        return Objects.equal(id, fill.id) &&
+                Objects.equal(orderId, fill.orderId) &&
+                Objects.equal(marketId, fill.marketId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id, orderId, marketId);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("orderId", orderId)
+                .add("marketId", marketId)
+                .add("type", type)
+                .add("creationDate", creationDate)
+                .add("price", price)
+                .add("quantity", quantity)
+                .add("fee", fee)
+                .toString();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import com.gazbert.bxbot.trading.api.MarketInfo;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import java.math.BigDecimal;
+
+/**
+ * A Market Info implementation that can be used by Exchange Adapters.
+ *
+ * @author gazbert
+ */
+public final class MarketInfoImpl implements MarketInfo {
+
+    private String marketId;
+    private BigDecimal priceTickSize;
+    private BigDecimal quantityStepSize;
+    private BigDecimal minQuantity;
+    private BigDecimal minNotional;
+
+
+    public MarketInfoImpl(String marketId, BigDecimal priceTickSize, BigDecimal quantityStepSize,
+                          BigDecimal minQuantity, BigDecimal minNotional) {
+        this.marketId = marketId;
+        this.priceTickSize = priceTickSize;
+        this.quantityStepSize = quantityStepSize;
+        this.minQuantity = minQuantity;
+        this.minNotional = minNotional;
+    }
+
+    public String getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(String marketId) {
+        this.marketId = marketId;
+    }
+
+    public BigDecimal getPriceTickSize() {
+        return priceTickSize;
+    }
+
+    public void setPriceTickSize(BigDecimal priceTickSize) {
+        this.priceTickSize = priceTickSize;
+    }
+
+    public BigDecimal getQuantityStepSize() {
+        return quantityStepSize;
+    }
+
+    public void setQuantityStepSize(BigDecimal quantityStepSize) {
+        this.quantityStepSize = quantityStepSize;
+    }
+
+    public BigDecimal getMinQuantity() {
+        return minQuantity;
+    }
+
+    public void setMinQuantity(BigDecimal minQuantity) {
+        this.minQuantity = minQuantity;
+    }
+
+    public BigDecimal getMinNotional() {
+        return minNotional;
+    }
+
+    public void setMinNotional(BigDecimal minNotional) {
+        this.minNotional = minNotional;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MarketInfoImpl marketInfo = (MarketInfoImpl) o;
+        return Objects.equal(marketId, marketInfo.marketId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(marketId);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("marketId", marketId)
+                .add("priceTickSize", priceTickSize)
+                .add("quantityStepSize", quantityStepSize)
+                .add("minQuantity", minQuantity)
+                .add("minNotional", minNotional)
+                .toString();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import com.gazbert.bxbot.trading.api.OrderState;
+import com.gazbert.bxbot.trading.api.OrderStatus;
+import com.gazbert.bxbot.trading.api.OrderType;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+import java.math.BigDecimal;
+
+/**
+ * An Order Status implementation that can be used by Exchange Adapters.
+ *
+ * @author gazbert
+ */
+public final class OrderStatusImpl implements OrderStatus {
+
+    private String id;
+    private String marketId;
+    private OrderType type;
+    private OrderState state;
+    private BigDecimal price;
+    private BigDecimal originalQuantity;
+    private BigDecimal filledQuantity;
+    private BigDecimal averageFillPrice;
+
+
+    public OrderStatusImpl(String id, String marketId, OrderType type, OrderState state, BigDecimal price,
+                           BigDecimal originalQuantity, BigDecimal filledQuantity, BigDecimal averageFillPrice) {
+        this.id = id;
+        this.marketId = marketId;
+        this.type = type;
+        this.state = state;
+        this.price = price;
+        this.originalQuantity = originalQuantity;
+        this.filledQuantity = filledQuantity;
+        this.averageFillPrice = averageFillPrice;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(String marketId) {
+        this.marketId = marketId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public void setType(OrderType type) {
+        this.type = type;
+    }
+
+    public OrderState getState() {
+        return state;
+    }
+
+    public void setState(OrderState state) {
+        this.state = state;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public BigDecimal getOriginalQuantity() {
+        return originalQuantity;
+    }
+
+    public void setOriginalQuantity(BigDecimal originalQuantity) {
+        this.originalQuantity = originalQuantity;
+    }
+
+    public BigDecimal getFilledQuantity() {
+        return filledQuantity;
+    }
+
+    public void setFilledQuantity(BigDecimal filledQuantity) {
+        this.filledQuantity = filledQuantity;
+    }
+
+    public BigDecimal getAverageFillPrice() {
+        return averageFillPrice;
+    }
+
+    public void setAverageFillPrice(BigDecimal averageFillPrice) {
+        this.averageFillPrice = averageFillPrice;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderStatusImpl orderStatus = (OrderStatusImpl) o;
+        return Objects.equal(id, orderStatus.id) &&
+                Objects.equal(marketId, orderStatus.marketId) &&
+                state == orderStatus.state;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id, marketId, state);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("marketId", marketId)
+                .add("type", type)
+                .add("state", state)
+                .add("price", price)
+                .add("originalQuantity", originalQuantity)
+                .add("filledQuantity", filledQuantity)
+                .add("averageFillPrice", averageFillPrice)
+                .toString();
+    }
+}
@@ -0,0 +1,612 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.exchange.api.ExchangeConfig;
+import com.gazbert.bxbot.exchange.api.ExchangeRequestListener;
+import com.gazbert.bxbot.exchange.api.NetworkConfig;
+import com.gazbert.bxbot.exchanges.AbstractExchangeAdapter.ExchangeHttpResponse;
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the Abstract Exchange Adapter retries idempotent requests after network errors as expected.
+ *
+ * @author gazbert
+ */
+public class TestAbstractExchangeAdapter {
+
+    private static final int HTTP_BAD_GATEWAY = 502;
+    private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String TICKER_JSON = "{\"last\": \"2300.00\"}";
+
+    private HttpServer exchange;
+    private AtomicInteger requestsReceived;
+    private AtomicInteger failuresToSend;
+    private volatile int failureStatusCode;
+    private volatile String retryAfter;
+    private AtomicInteger heartbeatsReceived;
+    private Set<Integer> clientPorts;
+    private List<Long> noncesReceived;
+    private URL url;
+    private String baseUrl;
+
+
+    @Before
+    public void setupBeforeEachTest() throws Exception {
+
+        requestsReceived = new AtomicInteger();
+        failuresToSend = new AtomicInteger();
+        failureStatusCode = HTTP_BAD_GATEWAY;
+        retryAfter = null;
+        heartbeatsReceived = new AtomicInteger();
+        clientPorts = ConcurrentHashMap.newKeySet();
+        noncesReceived = new CopyOnWriteArrayList<>();
+
+        exchange = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        exchange.createContext("/ticker", httpExchange -> {
+            requestsReceived.incrementAndGet();
+            clientPorts.add(httpExchange.getRemoteAddress().getPort());
+            final boolean fail = failuresToSend.getAndDecrement() > 0;
+            final byte[] body = (fail ? "Bad Gateway" : TICKER_JSON).getBytes(StandardCharsets.UTF_8);
+            if (fail && retryAfter != null) {
+                httpExchange.getResponseHeaders().add("Retry-After", retryAfter);
+            }
+            httpExchange.sendResponseHeaders(fail ? failureStatusCode : 200, body.length);
+            try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        exchange.createContext("/private", httpExchange -> {
+            noncesReceived.add(Long.valueOf(httpExchange.getRequestURI().getQuery().substring("nonce=".length())));
+            final byte[] body = TICKER_JSON.getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        exchange.createContext("/time", httpExchange -> {
+            heartbeatsReceived.incrementAndGet();
+            clientPorts.add(httpExchange.getRemoteAddress().getPort());
+            final byte[] body = "{\"epoch\":1505342000}".getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        exchange.start();
+
+        baseUrl = "http://localhost:" + exchange.getAddress().getPort() + "/";
+        url = new URL(baseUrl + "ticker");
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        exchange.stop(0);
+    }
+
+    @Test
+    public void testGetIsRetriedUntilItSucceeds() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, null);
+        failuresToSend.set(2);
+
+        final ExchangeHttpResponse response = exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(TICKER_JSON, response.getPayload());
+        assertEquals(3, requestsReceived.get());
+    }
+
+    @Test
+    public void testEachAttemptIsReportedToTheRequestListener() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, null);
+        final List<Integer> failedStatusCodes = new ArrayList<>();
+        final AtomicInteger successfulRequests = new AtomicInteger();
+        exchangeAdapter.setExchangeRequestListener(new ExchangeRequestListener() {
+            @Override
+            public void requestSucceeded(long latencyNanos) {
+                successfulRequests.incrementAndGet();
+            }
+
+            @Override
+            public void requestFailed(Integer httpStatusCode) {
+                failedStatusCodes.add(httpStatusCode);
+            }
+        });
+        failuresToSend.set(2);
+
+        exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+
+        assertEquals(Arrays.asList(HTTP_BAD_GATEWAY, HTTP_BAD_GATEWAY), failedStatusCodes);
+        assertEquals(1, successfulRequests.get());
+    }
+
+    @Test
+    public void testGetIsNotRetriedMoreThanMaxRetries() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(1, 10, null);
+        failuresToSend.set(2);
+
+        try {
+            exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+            fail("Expected an ExchangeNetworkException once the retries were used up");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(2, requestsReceived.get());
+        }
+    }
+
+    @Test
+    public void testThrottledGetIsNotRetriedWithoutRetryAfter() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, null);
+        failureStatusCode = HTTP_TOO_MANY_REQUESTS;
+        failuresToSend.set(1);
+
+        try {
+            exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+            fail("Expected an ExchangeNetworkException - a throttled request must not be retried straight away");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(1, requestsReceived.get());
+        }
+    }
+
+    @Test
+    public void testThrottledGetIsRetriedAfterTheTimeTheExchangeAsksFor() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, 5000);
+        failureStatusCode = HTTP_SERVICE_UNAVAILABLE;
+        retryAfter = "1";
+        failuresToSend.set(1);
+
+        final long startTime = System.nanoTime();
+        final ExchangeHttpResponse response = exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals(2, requestsReceived.get());
+        assertTrue(System.nanoTime() - startTime >= 1_000_000_000L);
+    }
+
+    @Test
+    public void testThrottledGetIsNotRetriedIfRetryAfterIsPastTheCallDeadline() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, 500);
+        failureStatusCode = HTTP_TOO_MANY_REQUESTS;
+        retryAfter = "60";
+        failuresToSend.set(1);
+
+        try {
+            exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+            fail("Expected an ExchangeNetworkException - the exchange asked us to wait past the call deadline");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(1, requestsReceived.get());
+        }
+    }
+
+    @Test
+    public void testPostIsNeverRetried() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(2, 10, null);
+        failuresToSend.set(1);
+
+        try {
+            exchangeAdapter.sendNetworkRequest(url, "POST", "type=buy&amount=1", Collections.emptyMap());
+            fail("Expected an ExchangeNetworkException - placing an order must never be retried");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(1, requestsReceived.get());
+        }
+    }
+
+    @Test
+    public void testRetriesGiveUpRatherThanBackOffPastTheCallDeadline() throws Exception {
+
+        // a backoff of up to 10s would blow the 200ms deadline unless the random pick is tiny, so it must give up
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(50, 10000, 200);
+        failuresToSend.set(50);
+
+        final long startTime = System.nanoTime();
+        try {
+            exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+            fail("Expected an ExchangeNetworkException once the call deadline was reached");
+        } catch (ExchangeNetworkException e) {
+            assertTrue(System.nanoTime() - startTime < 2_000_000_000L);
+            assertTrue(requestsReceived.get() < 50);
+        }
+    }
+
+    @Test
+    public void testGetThatTimesOutIsRetriedWithinTheCallDeadline() throws Exception {
+
+        // hangs past the call deadline the first time, answers straight away after that
+        final AtomicInteger slowRequestsReceived = new AtomicInteger();
+        final HttpServer slowExchange = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        slowExchange.setExecutor(Executors.newCachedThreadPool());
+        slowExchange.createContext("/ticker", httpExchange -> {
+            if (slowRequestsReceived.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(2500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            final byte[] body = TICKER_JSON.getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        slowExchange.start();
+        try {
+            final URL slowUrl = new URL("http://localhost:" + slowExchange.getAddress().getPort() + "/ticker");
+
+            // the first attempt gets half the deadline, leaving the other half for the retry
+            final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(1, 10, 2000);
+
+            final long startTime = System.nanoTime();
+            final ExchangeHttpResponse response = exchangeAdapter.sendNetworkRequest(slowUrl, "GET", null, null);
+            assertEquals(TICKER_JSON, response.getPayload());
+            assertEquals(2, slowRequestsReceived.get());
+            assertTrue(System.nanoTime() - startTime < 2_000_000_000L);
+        } finally {
+            slowExchange.stop(0);
+        }
+    }
+
+    @Test
+    public void testNoncesAreBasedOnExchangeTimeAndAlwaysIncrease() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+        exchangeAdapter.sendNetworkRequest(url, "GET", null, null); // samples the Date header
+
+        final long before = System.currentTimeMillis();
+        final AtomicLong nonce = new AtomicLong();
+        final long firstNonce = exchangeAdapter.nextNonce(nonce);
+        assertTrue(Math.abs(firstNonce - before) < 2000);
+
+        // a nonce left ahead of the clock, e.g. by a burst of calls, is never reused
+        nonce.set(firstNonce + 60000);
+        assertEquals(firstNonce + 60001, exchangeAdapter.nextNonce(nonce));
+        assertEquals(firstNonce + 60002, exchangeAdapter.nextNonce(nonce));
+    }
+
+    @Test
+    public void testNonceSignedRequestsAreSentInNonceOrder() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+        final AtomicLong nonce = new AtomicLong();
+        final List<Long> noncesSent = new CopyOnWriteArrayList<>();
+
+        final ExecutorService callers = Executors.newFixedThreadPool(8);
+        final List<Future<ExchangeHttpResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            responses.add(callers.submit(() -> exchangeAdapter.sendInNonceOrder(() -> {
+                final long requestNonce = exchangeAdapter.nextNonce(nonce);
+                noncesSent.add(requestNonce);
+                return exchangeAdapter.sendNetworkRequest(privateUrl(requestNonce), "POST", "", null);
+            })));
+        }
+        for (final Future<ExchangeHttpResponse> response : responses) {
+            assertEquals(TICKER_JSON, response.get().getPayload());
+        }
+        callers.shutdown();
+
+        assertEquals(40, noncesSent.size());
+        for (int i = 1; i < noncesSent.size(); i++) {
+            assertTrue(noncesSent.get(i) > noncesSent.get(i - 1));
+        }
+        assertEquals(new HashSet<>(noncesSent), new HashSet<>(noncesReceived));
+    }
+
+    @Test
+    public void testNonceSignedRequestIsNotHeldUpWaitingForTheResponseToTheOneBefore() throws Exception {
+
+        // answers after a second, on its own thread for each request
+        final HttpServer slowExchange = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        slowExchange.setExecutor(Executors.newCachedThreadPool());
+        slowExchange.createContext("/private", httpExchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final byte[] body = TICKER_JSON.getBytes(StandardCharsets.UTF_8);
+            httpExchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = httpExchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        slowExchange.start();
+        try {
+            final URL slowUrl = new URL("http://localhost:" + slowExchange.getAddress().getPort() + "/private");
+            final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+
+            final ExecutorService callers = Executors.newFixedThreadPool(2);
+            final long start = System.currentTimeMillis();
+            final List<Future<ExchangeHttpResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                responses.add(callers.submit(() -> exchangeAdapter.sendInNonceOrder(() ->
+                        exchangeAdapter.sendNetworkRequest(slowUrl, "POST", "", null))));
+            }
+            for (final Future<ExchangeHttpResponse> response : responses) {
+                assertEquals(TICKER_JSON, response.get().getPayload());
+            }
+            callers.shutdown();
+
+            assertTrue(System.currentTimeMillis() - start < 1900);
+        } finally {
+            slowExchange.stop(0);
+        }
+    }
+
+    @Test
+    public void testNonceSignedRequestFailsIfItCannotBeSentInTime() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+
+        // a request that is stuck sending
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch releaseStuckRequest = new CountDownLatch(1);
+        final ExecutorService callers = Executors.newSingleThreadExecutor();
+        callers.submit(() -> exchangeAdapter.sendInNonceOrder(() -> {
+            sending.countDown();
+            try {
+                releaseStuckRequest.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        try {
+            exchangeAdapter.sendInNonceOrder(() -> exchangeAdapter.sendNetworkRequest(
+                    privateUrl(exchangeAdapter.nextNonce(new AtomicLong())), "POST", "", null));
+            fail("Expected ExchangeNetworkException");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(0, noncesReceived.size());
+        } finally {
+            releaseStuckRequest.countDown();
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    public void testSuccessfulRequestsReuseTheSameConnection() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+
+        exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+        exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+
+        assertEquals(2, requestsReceived.get());
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    public void testConnectionsAreWarmedUpAndKeptOpenWhileIdle() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithNetworkConfig(0, 10, null, 100);
+        try {
+            // public and authenticated APIs on the same host share a connection
+            exchangeAdapter.keepConnectionsWarm(baseUrl + "time", baseUrl + "time?authenticated");
+            assertEquals(1, heartbeatsReceived.get());
+
+            Thread.sleep(500);
+            assertTrue(heartbeatsReceived.get() >= 3);
+
+            // the first request after being idle uses a warm connection rather than opening a new one
+            exchangeAdapter.stopKeepingConnectionsWarm();
+            Thread.sleep(100);
+            final int connectionsOpened = clientPorts.size();
+            exchangeAdapter.sendNetworkRequest(url, "GET", null, null);
+            assertEquals(connectionsOpened, clientPorts.size());
+
+        } finally {
+            exchangeAdapter.stopKeepingConnectionsWarm();
+        }
+    }
+
+    @Test
+    public void testConnectionIsNotSentAHeartbeatUntilItHasBeenIdleForTheInterval() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithNetworkConfig(0, 10, null, 400);
+        try {
+            exchangeAdapter.keepConnectionsWarm(baseUrl + "time");
+            assertEquals(1, heartbeatsReceived.get());
+
+            // checked after half the interval, but not idle for long enough yet
+            Thread.sleep(300);
+            assertEquals(1, heartbeatsReceived.get());
+
+        } finally {
+            exchangeAdapter.stopKeepingConnectionsWarm();
+        }
+    }
+
+    @Test
+    public void testConnectionsAreNotWarmedUpIfKeepAliveIntervalNotSet() throws Exception {
+
+        final AbstractExchangeAdapter exchangeAdapter = adapterWithRetryPolicy(0, 10, null);
+        exchangeAdapter.keepConnectionsWarm(baseUrl + "time");
+        assertEquals(0, heartbeatsReceived.get());
+    }
+
+    @Test
+    public void testExchangeClockIsSampledWhenConnectionsAreWarmedUp() throws Exception {
+
+        // The exchange's clock is an hour ahead of ours. The test HttpServer always sends our time in its Date header,
+        // so this exchange is a plain socket.
+        final long exchangeClockOffset = TimeUnit.HOURS.toMillis(1);
+        final SimpleDateFormat httpDateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss zzz", Locale.US);
+        httpDateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final ExecutorService skewedExchangeExecutor = Executors.newSingleThreadExecutor();
+        try (ServerSocket skewedExchange = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            skewedExchangeExecutor.submit(() -> {
+                try (Socket socket = skewedExchange.accept()) {
+                    final BufferedReader request = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                    String requestLine = request.readLine();
+                    while (requestLine != null && !requestLine.isEmpty()) {
+                        requestLine = request.readLine();
+                    }
+                    final String exchangeDate = httpDateFormat.format(
+                            new Date(System.currentTimeMillis() + exchangeClockOffset));
+                    socket.getOutputStream().write(("HTTP/1.1 200 OK\r\nDate: " + exchangeDate
+                            + "\r\nContent-Length: 2\r\nConnection: close\r\n\r\n{}")
+                            .getBytes(StandardCharsets.US_ASCII));
+                }
+                return null;
+            });
+
+            final AbstractExchangeAdapter exchangeAdapter = adapterWithNetworkConfig(0, 10, null, 60000);
+            try {
+                exchangeAdapter.keepConnectionsWarm("http://" + skewedExchange.getInetAddress().getHostAddress()
+                        + ":" + skewedExchange.getLocalPort() + "/time");
+
+                // the Date header only has whole seconds
+                final long exchangeTime = System.currentTimeMillis() + exchangeClockOffset;
+                assertTrue(Math.abs(exchangeAdapter.currentTimeMillis() - exchangeTime) < 1500);
+
+            } finally {
+                exchangeAdapter.stopKeepingConnectionsWarm();
+            }
+        } finally {
+            skewedExchangeExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExchangeClockMetricsAreTaggedWithTheExchange() throws Exception {
+
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            // two accounts on the same exchange use the same adapter class
+            adapterWithNetworkConfig("bitstamp-main", 0, 10, null, null);
+            adapterWithNetworkConfig("bitstamp-hedge", 0, 10, null, null);
+
+            final Gauge mainClockOffset = meterRegistry.find("bxbot.exchange.clock.offset")
+                    .tags("exchange", "bitstamp-main").gauge();
+            final Gauge hedgeClockOffset = meterRegistry.find("bxbot.exchange.clock.offset")
+                    .tags("exchange", "bitstamp-hedge").gauge();
+            assertNotNull(mainClockOffset);
+            assertNotNull(hedgeClockOffset);
+            assertNotSame(mainClockOffset, hedgeClockOffset);
+
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    private URL privateUrl(long nonce) {
+        try {
+            return new URL(baseUrl + "private?nonce=" + nonce);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AbstractExchangeAdapter adapterWithRetryPolicy(Integer maxRetries, Integer retryBackoff,
+                                                                  Integer callDeadline) {
+        return adapterWithNetworkConfig(maxRetries, retryBackoff, callDeadline, null);
+    }
+
+    private static AbstractExchangeAdapter adapterWithNetworkConfig(Integer maxRetries, Integer retryBackoff,
+                                                                    Integer callDeadline, Integer keepAliveInterval) {
+        return adapterWithNetworkConfig(null, maxRetries, retryBackoff, callDeadline, keepAliveInterval);
+    }
+
+    private static AbstractExchangeAdapter adapterWithNetworkConfig(String exchangeId, Integer maxRetries,
+                                                                    Integer retryBackoff, Integer callDeadline,
+                                                                    Integer keepAliveInterval) {
+
+        final NetworkConfig networkConfig = createMock(NetworkConfig.class);
+        expect(networkConfig.getConnectionTimeout()).andReturn(5);
+        expect(networkConfig.getNonFatalErrorCodes()).andReturn(
+                Arrays.asList(HTTP_BAD_GATEWAY, HTTP_SERVICE_UNAVAILABLE, HTTP_TOO_MANY_REQUESTS));
+        expect(networkConfig.getNonFatalErrorMessages()).andReturn(Collections.emptyList());
+        expect(networkConfig.getMaxRetries()).andReturn(maxRetries);
+        expect(networkConfig.getRetryBackoff()).andReturn(retryBackoff);
+        expect(networkConfig.getCallDeadline()).andReturn(callDeadline);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(keepAliveInterval);
+
+        final ExchangeConfig exchangeConfig = createMock(ExchangeConfig.class);
+        expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(exchangeId);
+        replay(networkConfig, exchangeConfig);
+
+        final AbstractExchangeAdapter exchangeAdapter = new AbstractExchangeAdapter() {
+        };
+        exchangeAdapter.setNetworkConfig(exchangeConfig);
+        return exchangeAdapter;
+    }
+}
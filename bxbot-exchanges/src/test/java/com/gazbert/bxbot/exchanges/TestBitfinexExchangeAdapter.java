@@ -36,13 +36,17 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,34 +67,53 @@ public class TestBitfinexExchangeAdapter {
     // Canned JSON responses from exchange - expected to reside on filesystem relative to project root
     private static final String BOOK_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/book.json";
     private static final String ORDERS_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/orders.json";
+    private static final String ORDERS_HIST_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/orders_hist.json";
     private static final String BALANCE_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/balances.json";
     private static final String PUB_TICKER_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/pubticker.json";
     private static final String ACCOUNT_INFOS_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/account_infos.json";
     private static final String ORDER_NEW_BUY_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/order_new_buy.json";
     private static final String ORDER_NEW_SELL_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/order_new_sell.json";
     private static final String ORDER_CANCEL_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/order_cancel.json";
+    private static final String ORDER_NEW_MULTI_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/order_new_multi.json";
+    private static final String ORDER_CANCEL_MULTI_JSON_RESPONSE =
+            "./src/test/exchange-data/bitfinex/order_cancel_multi.json";
+    private static final String ORDER_STATUS_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/order_status.json";
+    private static final String ORDER_CANCEL_REPLACE_JSON_RESPONSE =
+            "./src/test/exchange-data/bitfinex/order_cancel_replace.json";
+    private static final String MYTRADES_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/mytrades.json";
+    private static final String TICKERS_V2_JSON_RESPONSE = "./src/test/exchange-data/bitfinex/tickers_v2.json";
 
     // Exchange API calls
     private static final String BOOK = "book";
     private static final String ORDERS = "orders";
+    private static final String ORDERS_HIST = "orders/hist";
     private static final String BALANCES = "balances";
     private static final String PUB_TICKER = "pubticker";
     private static final String ACCOUNT_INFOS = "account_infos";
     private static final String ORDER_NEW = "order/new";
     private static final String ORDER_CANCEL = "order/cancel";
+    private static final String ORDER_CANCEL_REPLACE = "order/cancel/replace";
+    private static final String ORDER_NEW_MULTI = "order/new/multi";
+    private static final String ORDER_CANCEL_MULTI = "order/cancel/multi";
+    private static final String ORDER_STATUS = "order/status";
+    private static final String MYTRADES = "mytrades";
 
     // Canned test data
     private static final String MARKET_ID = "btcusd";
+    private static final String UNKNOWN_MARKET_ID = "dogeusd";
+    private static final String OTHER_MARKET_ID = "ltcusd";
     private static final BigDecimal BUY_ORDER_PRICE = new BigDecimal("200.18");
     private static final BigDecimal BUY_ORDER_QUANTITY = new BigDecimal("0.03");
     private static final BigDecimal SELL_ORDER_PRICE = new BigDecimal("300.176");
     private static final BigDecimal SELL_ORDER_QUANTITY = new BigDecimal("0.03");
     private static final String ORDER_ID_TO_CANCEL = "426152651";
+    private static final String CLIENT_ORDER_ID = "1234567890";
 
     // Mocked out methods
     private static final String MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD = "createRequestParamMap";
     private static final String MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD = "sendAuthenticatedRequestToExchange";
     private static final String MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD = "sendPublicRequestToExchange";
+    private static final String MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD = "sendPublicV2RequestToExchange";
     private static final String MOCKED_CREATE_REQUEST_HEADER_MAP_METHOD = "createHeaderParamMap";
     private static final String MOCKED_MAKE_NETWORK_REQUEST_METHOD = "makeNetworkRequest";
 
@@ -124,10 +147,15 @@ public class TestBitfinexExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         // optional config not needed for this adapter
     }
 
@@ -245,6 +273,204 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreateOrderSendsClientOrderIdAsTheCid() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_NEW_BUY_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, Object> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("symbol", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("amount", new DecimalFormat("#.########").format(BUY_ORDER_QUANTITY))).andStubReturn(null);
+        expect(requestParamMap.put("price", new DecimalFormat("#.########").format(BUY_ORDER_PRICE))).andStubReturn(null);
+        expect(requestParamMap.put("exchange", "bitfinex")).andStubReturn(null);
+        expect(requestParamMap.put("side", "buy")).andStubReturn(null);
+        expect(requestParamMap.put("type", "exchange limit")).andStubReturn(null);
+        expect(requestParamMap.put("cid", Long.parseLong(CLIENT_ORDER_ID))).andReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_NEW),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final String orderId = exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY,
+                BUY_ORDER_PRICE, CLIENT_ORDER_ID);
+        assertEquals("425116925", orderId);
+        assertTrue(exchangeAdapter.supportsClientOrderIds());
+
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Id By Client Order Id tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingOrderIdByClientOrderIdFindsOpenOrder() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertEquals("423760243", exchangeAdapter.getOrderIdByClientOrderId("9876543210", MARKET_ID));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testGettingOrderIdByClientOrderIdFindsInactiveOrder() throws Exception {
+
+        // Load the canned responses from the exchange
+        final byte[] openOrders = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse openOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(openOrders, StandardCharsets.UTF_8));
+        final byte[] inactiveOrders = Files.readAllBytes(Paths.get(ORDERS_HIST_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse inactiveOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(inactiveOrders, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS),
+                eq(null)).andReturn(openOrdersResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS_HIST),
+                eq(null)).andReturn(inactiveOrdersResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertEquals("423760101", exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, MARKET_ID));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testGettingOrderIdByUnknownClientOrderIdReturnsNull() throws Exception {
+
+        // Load the canned responses from the exchange
+        final byte[] openOrders = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse openOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(openOrders, StandardCharsets.UTF_8));
+        final byte[] inactiveOrders = Files.readAllBytes(Paths.get(ORDERS_HIST_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse inactiveOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(inactiveOrders, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS),
+                eq(null)).andReturn(openOrdersResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS_HIST),
+                eq(null)).andReturn(inactiveOrdersResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertNull(exchangeAdapter.getOrderIdByClientOrderId("42", MARKET_ID));
+
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Amend Order tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAmendOrderIsSuccessful() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_CANCEL_REPLACE_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, Object> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("order_id", Long.parseLong(ORDER_ID_TO_CANCEL))).andStubReturn(null);
+        expect(requestParamMap.put("symbol", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("amount", new DecimalFormat("#.########").format(BUY_ORDER_QUANTITY))).andStubReturn(null);
+        expect(requestParamMap.put("price", new DecimalFormat("#.########").format(BUY_ORDER_PRICE))).andStubReturn(null);
+        expect(requestParamMap.put("exchange", "bitfinex")).andStubReturn(null);
+        expect(requestParamMap.put("side", "buy")).andStubReturn(null);
+        expect(requestParamMap.put("type", "exchange limit")).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_CANCEL_REPLACE), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final String orderId = exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY,
+                BUY_ORDER_PRICE, BUY_ORDER_QUANTITY);
+        assertTrue(orderId.equals("426152652"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testAmendOrderReturnsNullWhenOrderIsNotRecognised() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_CANCEL_REPLACE), anyObject(Map.class)).
+                andThrow(new TradingApiException("Order not found",
+                        new IOException("Server returned HTTP response code: 400")));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertNull(exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY, BUY_ORDER_PRICE,
+                BUY_ORDER_QUANTITY));
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testAmendOrderHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_CANCEL_REPLACE), anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("Everything you've learned in school as 'obvious' becomes" +
+                        " less and less obvious"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY, BUY_ORDER_PRICE, BUY_ORDER_QUANTITY);
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Cancel Order tests
     // ------------------------------------------------------------------------------------------------
@@ -321,6 +547,135 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Batch Order tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreatingSeveralOrdersInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_NEW_MULTI_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_NEW_MULTI), anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults = exchangeAdapter.createOrders(Arrays.asList(
+                new OrderRequest(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE),
+                new OrderRequest(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE)));
+
+        assertTrue(orderResults.size() == 2);
+        assertTrue(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getOrderId().equals("448383727"));
+        assertTrue(orderResults.get(1).isSuccessful());
+        assertTrue(orderResults.get(1).getOrderId().equals("448383728"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreatingSeveralOrdersReportsEachOrderInAFailedCallAsFailed() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_NEW_MULTI), anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("Those aren't the droids you're looking for."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults = exchangeAdapter.createOrders(Arrays.asList(
+                new OrderRequest(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE),
+                new OrderRequest(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE)));
+
+        assertTrue(orderResults.size() == 2);
+        for (final OrderResult orderResult : orderResults) {
+            assertFalse(orderResult.isSuccessful());
+            assertNull(orderResult.getOrderId());
+            assertTrue(orderResult.getFailure() instanceof ExchangeNetworkException);
+        }
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCancellingSeveralOrdersInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_CANCEL_MULTI_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, Object> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("order_ids", Arrays.asList(Long.parseLong(ORDER_ID_TO_CANCEL), 448383727L)))
+                .andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_CANCEL_MULTI), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for cancelling orders on this exchange.
+        final List<OrderResult> orderResults =
+                exchangeAdapter.cancelOrders(Arrays.asList(ORDER_ID_TO_CANCEL, "448383727"), null);
+
+        assertTrue(orderResults.size() == 2);
+        assertTrue(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderResults.get(1).isSuccessful());
+        assertTrue(orderResults.get(1).getOrderId().equals("448383727"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCancellingSeveralOrdersReportsEachOrderInAFailedCallAsFailed() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_CANCEL_MULTI), anyObject(Map.class)).
+                andThrow(new TradingApiException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults =
+                exchangeAdapter.cancelOrders(Arrays.asList(ORDER_ID_TO_CANCEL, "448383727"), null);
+
+        assertTrue(orderResults.size() == 2);
+        assertTrue(orderResults.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        for (final OrderResult orderResult : orderResults) {
+            assertFalse(orderResult.isSuccessful());
+            assertTrue(orderResult.getFailure() instanceof TradingApiException);
+        }
+
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Market Orders tests
     // ------------------------------------------------------------------------------------------------
@@ -442,6 +797,37 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingYourOpenOrdersForSeveralMarketsInOneRequest() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, List<OpenOrder>> openOrders = exchangeAdapter.getYourOpenOrders(
+                Arrays.asList(MARKET_ID, "ltcusd", UNKNOWN_MARKET_ID));
+
+        // the exchange returns the orders for all markets - the ones for markets not asked for are left out
+        assertEquals(3, openOrders.size());
+        assertEquals(2, openOrders.get(MARKET_ID).size());
+        assertEquals(MARKET_ID, openOrders.get(MARKET_ID).get(0).getMarketId());
+        assertEquals(1, openOrders.get("ltcusd").size());
+        assertEquals("ltcusd", openOrders.get("ltcusd").get(0).getMarketId());
+        assertTrue(openOrders.get(UNKNOWN_MARKET_ID).isEmpty());
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingYourOpenOrdersHandlesExchangeNetworkException() throws Exception {
 
@@ -477,6 +863,131 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderStatusSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_STATUS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, Object> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("order_id", Long.parseLong(ORDER_ID_TO_CANCEL))).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_STATUS),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for getting order status on this exchange.
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+
+        // assert some key stuff; we're not testing GSON here.
+        assertTrue(orderStatus.getId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderStatus.getMarketId().equals(MARKET_ID));
+        assertTrue(orderStatus.getType() == OrderType.BUY);
+        assertTrue(orderStatus.getState() == OrderState.PARTIALLY_FILLED);
+        assertTrue(orderStatus.getPrice().compareTo(new BigDecimal("400.0")) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(new BigDecimal("0.5")) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(new BigDecimal("0.2")) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("399.5")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_STATUS),
+                anyObject(Map.class)).andThrow(new ExchangeNetworkException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingFillsSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(MYTRADES_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, Object> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("symbol", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("timestamp", "1444141858")).andStubReturn(null);
+        expect(requestParamMap.put("limit_trades", 500)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(MYTRADES),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(MARKET_ID, new Date(1444141858000L));
+
+        // oldest fill first
+        assertTrue(fills.size() == 2);
+        assertTrue(fills.get(0).getId().equals("11970838"));
+        assertTrue(fills.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(fills.get(0).getMarketId().equals(MARKET_ID));
+        assertTrue(fills.get(0).getType() == OrderType.BUY);
+        assertTrue(fills.get(0).getCreationDate().getTime() == 1444141860000L);
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("400.0")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.1")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.08")) == 0);
+
+        assertTrue(fills.get(1).getId().equals("11970839"));
+        assertTrue(fills.get(1).getCreationDate().getTime() == 1444141862500L);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(MYTRADES),
+                anyObject(Map.class)).andThrow(new IllegalStateException("Never tell me the odds!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, new Date(1444141858000L));
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Latest Market Price tests
     // ------------------------------------------------------------------------------------------------
@@ -707,6 +1218,33 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingExchangeFeesIsServedFromFeeSchedule() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ACCOUNT_INFOS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire - account_infos must only be called once
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ACCOUNT_INFOS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertTrue(exchangeAdapter.getPercentageOfBuyOrderTakenForExchangeFee(MARKET_ID)
+                .compareTo(new BigDecimal("0.0020")) == 0);
+        assertTrue(exchangeAdapter.getPercentageOfSellOrderTakenForExchangeFee(MARKET_ID)
+                .compareTo(new BigDecimal("0.0020")) == 0);
+        assertTrue(exchangeAdapter.getPercentageOfBuyOrderTakenForExchangeFee("ethusd")
+                .compareTo(new BigDecimal("0.0020")) == 0); // top-level fees
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingExchangeSellingFeeHandlesTimeoutException() throws Exception {
 
@@ -813,6 +1351,79 @@ public class TestBitfinexExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingTickersForSeveralMarketsInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TICKERS_V2_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD,
+                "tickers?symbols=tLTCUSD,tBTCUSD").andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, Ticker> tickers = exchangeAdapter.getTickers(Arrays.asList(OTHER_MARKET_ID, MARKET_ID));
+        assertEquals(Arrays.asList(OTHER_MARKET_ID, MARKET_ID), new ArrayList<>(tickers.keySet()));
+
+        final Ticker ticker = tickers.get(MARKET_ID);
+        assertTrue(ticker.getLast().compareTo(new BigDecimal("7995.5")) == 0);
+        assertTrue(ticker.getBid().compareTo(new BigDecimal("7995.4")) == 0);
+        assertTrue(ticker.getAsk().compareTo(new BigDecimal("7995.5")) == 0);
+        assertTrue(ticker.getLow().compareTo(new BigDecimal("7810.1")) == 0);
+        assertTrue(ticker.getHigh().compareTo(new BigDecimal("8120")) == 0);
+        assertTrue(ticker.getOpen().compareTo(new BigDecimal("7874.0")) == 0);
+        assertTrue(ticker.getVolume().compareTo(new BigDecimal("23458.12478122")) == 0);
+        assertNull(ticker.getVwap()); // vwap not supplied by finex
+        assertNull(ticker.getTimestamp()); // timestamp not supplied by finex v2 tickers
+
+        assertTrue(tickers.get(OTHER_MARKET_ID).getOpen().compareTo(new BigDecimal("149.33")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingTickersHandlesMarketMissingFromResponse() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TICKERS_V2_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD,
+                "tickers?symbols=tBTCUSD,tDOGEUSD").andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getTickers(Arrays.asList(MARKET_ID, UNKNOWN_MARKET_ID));
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingTickersHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitfinexExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitfinexExchangeAdapter.class, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_V2_REQUEST_TO_EXCHANGE_METHOD,
+                "tickers?symbols=tBTCUSD").andThrow(new ExchangeNetworkException("These aren't the droids you're looking for."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getTickers(Collections.singletonList(MARKET_ID));
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Non Exchange visiting tests
     // ------------------------------------------------------------------------------------------------
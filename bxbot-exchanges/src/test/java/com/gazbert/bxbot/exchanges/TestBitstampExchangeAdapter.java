@@ -69,6 +69,8 @@ public class TestBitstampExchangeAdapter {
     private static final String BUY_JSON_RESPONSE = "./src/test/exchange-data/bitstamp/buy.json";
     private static final String SELL_JSON_RESPONSE = "./src/test/exchange-data/bitstamp/sell.json";
     private static final String CANCEL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/bitstamp/cancel_order.json";
+    private static final String ORDER_STATUS_JSON_RESPONSE = "./src/test/exchange-data/bitstamp/order_status.json";
+    private static final String USER_TRANSACTIONS_JSON_RESPONSE = "./src/test/exchange-data/bitstamp/user_transactions.json";
 
     // Exchange API calls
     private static final String ORDER_BOOK = "order_book/";
@@ -78,6 +80,8 @@ public class TestBitstampExchangeAdapter {
     private static final String BUY = "buy/";
     private static final String SELL = "sell/";
     private static final String CANCEL_ORDER = "cancel_order";
+    private static final String ORDER_STATUS = "order_status";
+    private static final String USER_TRANSACTIONS = "user_transactions/";
 
     // Canned test data
     private static final String MARKET_ID = "btcusd";
@@ -129,10 +133,15 @@ public class TestBitstampExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         // optional config not needed for this adapter
     }
 
@@ -476,6 +485,128 @@ public class TestBitstampExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderStatusSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_STATUS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("id", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final BitstampExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitstampExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_STATUS),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+
+        // assert some key stuff; we're not testing GSON here.
+        assertTrue(orderStatus.getId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderStatus.getMarketId().equals(MARKET_ID));
+        assertTrue(orderStatus.getType() == OrderType.SELL);
+        assertTrue(orderStatus.getState() == OrderState.PARTIALLY_FILLED);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(new BigDecimal("0.03")) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("2500.00")) == 0);
+
+        // the values below are not provided by Bitstamp
+        assertNull(orderStatus.getPrice());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitstampExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitstampExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(ORDER_STATUS), anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingFillsSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(USER_TRANSACTIONS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final BitstampExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitstampExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(USER_TRANSACTIONS + MARKET_ID), anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(MARKET_ID,
+                bitstampExchangeDateFormat.parse("2017-07-01 00:00:00"));
+
+        // deposit and older trade are not returned; oldest fill first
+        assertTrue(fills.size() == 2);
+        assertTrue(fills.get(0).getId().equals("15783920"));
+        assertTrue(fills.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(fills.get(0).getMarketId().equals(MARKET_ID));
+        assertTrue(fills.get(0).getType() == OrderType.SELL);
+        assertTrue(fills.get(0).getCreationDate().getTime() == bitstampExchangeDateFormat.parse("2017-07-01 14:43:16").getTime());
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("2500.00")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.0625")) == 0);
+
+        assertTrue(fills.get(1).getId().equals("15783925"));
+        assertTrue(fills.get(1).getType() == OrderType.BUY);
+        assertTrue(fills.get(1).getQuantity().compareTo(new BigDecimal("0.02")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final BitstampExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitstampExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(USER_TRANSACTIONS + MARKET_ID), anyObject(Map.class)).
+                andThrow(new IllegalStateException("Never tell me the odds!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, bitstampExchangeDateFormat.parse("2017-07-01 00:00:00"));
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Latest Market Price tests
     // ------------------------------------------------------------------------------------------------
@@ -697,6 +828,32 @@ public class TestBitstampExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingExchangeFeesIsServedFromFeeScheduleRefreshedByBalanceInfo() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(BALANCE_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire - balance must only be called once
+        final BitstampExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                BitstampExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(BALANCE),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getBalanceInfo();
+        assertTrue(exchangeAdapter.getPercentageOfBuyOrderTakenForExchangeFee(MARKET_ID)
+                .compareTo(new BigDecimal("0.0025")) == 0);
+        assertTrue(exchangeAdapter.getPercentageOfSellOrderTakenForExchangeFee(MARKET_ID)
+                .compareTo(new BigDecimal("0.0025")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingExchangeSellingFeeHandlesTimeoutException() throws Exception {
 
@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the Composite Call makes its calls in parallel and reports failures as expected.
+ *
+ * @author gazbert
+ */
+public class TestCompositeCall {
+
+    private ExecutorService executor;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testCallsAreMadeInParallel() throws Exception {
+
+        // each call waits for the other, so this only completes if they run at the same time
+        final CountDownLatch bothCalled = new CountDownLatch(2);
+        final CompositeCall compositeCall = new CompositeCall(executor);
+        final CompositeCall.Part<String> ticker = compositeCall.add(() -> awaitOther(bothCalled, "ticker"));
+        final CompositeCall.Part<String> stats = compositeCall.add(() -> awaitOther(bothCalled, "stats"));
+
+        compositeCall.execute();
+
+        assertEquals("ticker", ticker.get());
+        assertEquals("stats", stats.get());
+    }
+
+    @Test
+    public void testFailureOfFirstCallAddedIsThrown() throws Exception {
+
+        final CompositeCall compositeCall = new CompositeCall(executor);
+        compositeCall.add(() -> {
+            throw new ExchangeNetworkException("Who are those guys?");
+        });
+        compositeCall.add(() -> {
+            throw new TradingApiException("Think you used enough dynamite there, Butch?");
+        });
+
+        try {
+            compositeCall.execute();
+            fail("Expected the first call's ExchangeNetworkException");
+        } catch (ExchangeNetworkException e) {
+            assertEquals("Who are those guys?", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFailureOfLaterCallIsThrown() throws Exception {
+
+        final CompositeCall compositeCall = new CompositeCall(executor);
+        final CompositeCall.Part<String> ticker = compositeCall.add(() -> "ticker");
+        compositeCall.add(() -> {
+            throw new TradingApiException("Kid, the next time I say, 'Let's go someplace like Bolivia,' let's go"
+                    + " someplace like Bolivia.");
+        });
+
+        try {
+            compositeCall.execute();
+            fail("Expected the second call's TradingApiException");
+        } catch (TradingApiException e) {
+            assertTrue(e.getMessage().startsWith("Kid"));
+            assertEquals("ticker", ticker.get());
+        }
+    }
+
+    private static String awaitOther(CountDownLatch bothCalled, String result) throws TradingApiException {
+        bothCalled.countDown();
+        try {
+            if (!bothCalled.await(5, TimeUnit.SECONDS)) {
+                throw new TradingApiException("Calls were not made in parallel");
+            }
+        } catch (InterruptedException e) {
+            throw new TradingApiException("Interrupted", e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Exchange Clock estimates the exchange's clock offset and round trip time as expected.
+ *
+ * @author gazbert
+ */
+public class TestExchangeClock {
+
+    private static final long SENT_TIME = 1_500_000_000_000L;
+
+    @Test
+    public void testItIsOurTimeUntilSampled() {
+
+        final ExchangeClock exchangeClock = new ExchangeClock();
+        final long before = System.currentTimeMillis();
+        final long exchangeTime = exchangeClock.currentTimeMillis();
+        assertTrue(exchangeTime >= before && exchangeTime <= System.currentTimeMillis());
+    }
+
+    @Test
+    public void testFirstSampleSetsOffsetAndRoundTripTime() {
+
+        final ExchangeClock exchangeClock = new ExchangeClock();
+
+        // 200ms round trip; exchange stamped the response 5 secs ahead of us, in the middle of the second
+        exchangeClock.sample(SENT_TIME, SENT_TIME + 200, SENT_TIME + 100 + 5000 - 500);
+
+        assertEquals(5000, exchangeClock.getOffsetInMillis(), 0.001);
+        assertEquals(200, exchangeClock.getRoundTripTimeInMillis(), 0.001);
+        assertEquals(100, exchangeClock.getOneWayLatencyInMillis(), 0.001);
+
+        final long expectedTime = System.currentTimeMillis() + 5000;
+        assertTrue(Math.abs(exchangeClock.currentTimeMillis() - expectedTime) < 1000);
+    }
+
+    @Test
+    public void testWholeSecondDateHeadersAverageOut() {
+
+        final ExchangeClock exchangeClock = new ExchangeClock();
+
+        // Exchange clock is 2300ms behind ours; the Date header rounds its time down to the second
+        final long offset = -2300;
+        for (int i = 0; i < 500; i++) {
+            final long sentTime = SENT_TIME + i * 137;
+            final long exchangeTime = sentTime + 50 + offset;
+            exchangeClock.sample(sentTime, sentTime + 100, exchangeTime - Math.floorMod(exchangeTime, 1000));
+        }
+
+        assertEquals(offset, exchangeClock.getOffsetInMillis(), 250);
+        assertEquals(100, exchangeClock.getRoundTripTimeInMillis(), 0.001);
+    }
+}
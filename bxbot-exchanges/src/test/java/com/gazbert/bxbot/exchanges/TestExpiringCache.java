@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the Expiring Cache only calls the exchange when a value is missing or has expired.
+ *
+ * @author gazbert
+ */
+public class TestExpiringCache {
+
+    private static final String MARKET_ID = "BTC-GBP";
+
+    private final AtomicInteger callsMade = new AtomicInteger();
+
+
+    @Test
+    public void testValueIsFetchedOnceUntilItExpires() throws Exception {
+
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(50, TimeUnit.MILLISECONDS);
+
+        assertEquals(1, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+        assertEquals(1, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+
+        Thread.sleep(100);
+        assertEquals(2, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+    }
+
+    @Test
+    public void testInvalidatedValueIsFetchedAgain() throws Exception {
+
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(1, TimeUnit.HOURS);
+
+        assertEquals(1, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+        cache.invalidate(MARKET_ID);
+        assertEquals(2, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+        cache.invalidateAll();
+        assertEquals(3, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+    }
+
+    @Test
+    public void testFailedCallIsNotCached() throws Exception {
+
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(1, TimeUnit.HOURS);
+
+        try {
+            cache.get(MARKET_ID, () -> {
+                throw new ExchangeNetworkException("The rent is too damn high!");
+            });
+            fail("Expected the call's ExchangeNetworkException");
+        } catch (ExchangeNetworkException e) {
+            assertEquals(1, (int) cache.get(MARKET_ID, callsMade::incrementAndGet));
+        }
+    }
+}
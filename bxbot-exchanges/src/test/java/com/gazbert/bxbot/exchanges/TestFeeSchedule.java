@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.exchanges.FeeSchedule.MarketFees;
+import com.gazbert.bxbot.trading.api.TradingApiException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the Fee Schedule serves fee queries from memory, and only calls the exchange when the fees are missing.
+ *
+ * @author gazbert
+ */
+public class TestFeeSchedule {
+
+    private static final String BTC_USD = "btcusd";
+    private static final String LTC_USD = "ltcusd";
+
+    private static final MarketFees BTC_USD_FEES = new MarketFees(new BigDecimal("0.001"), new BigDecimal("0.002"));
+    private static final MarketFees DEFAULT_FEES = new MarketFees(new BigDecimal("0.0025"), new BigDecimal("0.0025"));
+
+    private final AtomicInteger callsMade = new AtomicInteger();
+
+
+    @Test
+    public void testScheduleIsFetchedOnceForAllMarkets() throws Exception {
+
+        final FeeSchedule feeSchedule = new FeeSchedule(1, TimeUnit.HOURS, this::fetchSchedule);
+
+        assertSame(BTC_USD_FEES, feeSchedule.getFees(BTC_USD));
+        assertSame(DEFAULT_FEES, feeSchedule.getFees(LTC_USD)); // not in the schedule
+        assertSame(BTC_USD_FEES, feeSchedule.getFees(BTC_USD));
+        assertEquals(1, callsMade.get());
+    }
+
+    @Test
+    public void testScheduleIsFetchedAgainOnceInvalidated() throws Exception {
+
+        final FeeSchedule feeSchedule = new FeeSchedule(1, TimeUnit.HOURS, this::fetchSchedule);
+
+        feeSchedule.getFees(BTC_USD);
+        feeSchedule.invalidate();
+        feeSchedule.getFees(BTC_USD);
+        assertEquals(2, callsMade.get());
+    }
+
+    @Test
+    public void testUpdatedScheduleIsServedWithoutCallingTheExchange() throws Exception {
+
+        final FeeSchedule feeSchedule = new FeeSchedule(1, TimeUnit.HOURS, this::fetchSchedule);
+
+        final Map<String, MarketFees> schedule = new HashMap<>();
+        schedule.put(LTC_USD, DEFAULT_FEES);
+        feeSchedule.update(schedule);
+
+        assertSame(DEFAULT_FEES, feeSchedule.getFees(LTC_USD));
+        assertEquals(0, callsMade.get());
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testMarketMissingFromScheduleWithoutDefaultFeesIsRejected() throws Exception {
+
+        final FeeSchedule feeSchedule = new FeeSchedule(1, TimeUnit.HOURS,
+                () -> Collections.singletonMap(BTC_USD, BTC_USD_FEES));
+        feeSchedule.getFees(LTC_USD);
+    }
+
+    private Map<String, MarketFees> fetchSchedule() {
+        callsMade.incrementAndGet();
+        final Map<String, MarketFees> schedule = new HashMap<>();
+        schedule.put(BTC_USD, BTC_USD_FEES);
+        schedule.put(FeeSchedule.ALL_MARKETS, DEFAULT_FEES);
+        return schedule;
+    }
+}
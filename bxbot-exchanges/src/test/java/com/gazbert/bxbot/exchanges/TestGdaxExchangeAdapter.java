@@ -34,6 +34,7 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.FileNotFoundException;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -44,7 +45,10 @@ import java.time.Instant;
 import java.util.*;
 
 import static org.easymock.EasyMock.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -65,16 +69,23 @@ public class TestGdaxExchangeAdapter {
     private static final String NEW_BUY_ORDER_JSON_RESPONSE = "./src/test/exchange-data/gdax/new_buy_order.json";
     private static final String NEW_SELL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/gdax/new_sell_order.json";
     private static final String CANCEL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/gdax/cancel.json";
+    private static final String CANCEL_ALL_ORDERS_JSON_RESPONSE = "./src/test/exchange-data/gdax/cancel_all.json";
     private static final String STATS_JSON_RESPONSE = "./src/test/exchange-data/gdax/stats.json";
+    private static final String ORDER_JSON_RESPONSE = "./src/test/exchange-data/gdax/order.json";
+    private static final String FILLS_JSON_RESPONSE = "./src/test/exchange-data/gdax/fills.json";
+    private static final String PRODUCTS_JSON_RESPONSE = "./src/test/exchange-data/gdax/products.json";
+    private static final String ORDER_BY_CLIENT_OID_JSON_RESPONSE = "./src/test/exchange-data/gdax/order_by_client_oid.json";
 
     // Canned test data
     private static final String MARKET_ID = "BTC-GBP";
+    private static final String UNKNOWN_MARKET_ID = "DOGE-USD";
     private static final String ORDER_BOOK_DEPTH_LEVEL = "2"; //  "2" = Top 50 bids and asks (aggregated)
     private static final BigDecimal BUY_ORDER_PRICE = new BigDecimal("200.18");
     private static final BigDecimal BUY_ORDER_QUANTITY = new BigDecimal("0.01");
     private static final BigDecimal SELL_ORDER_PRICE = new BigDecimal("300.176");
     private static final BigDecimal SELL_ORDER_QUANTITY = new BigDecimal("0.01");
     private static final String ORDER_ID_TO_CANCEL = "3ecf7a12-fc89-4d3d-baef-f158f80b3bd3";
+    private static final String CLIENT_ORDER_ID = "d50ec984-77a8-460a-b958-66f114b0de9b";
 
     // Exchange API calls
     private static final String BOOK = "products/" + MARKET_ID + "/book";
@@ -84,6 +95,10 @@ public class TestGdaxExchangeAdapter {
     private static final String NEW_ORDER = "orders";
     private static final String CANCEL_ORDER = "orders/" + ORDER_ID_TO_CANCEL;
     private static final String STATS = "products/" + MARKET_ID + "/stats";
+    private static final String ORDER_STATUS = "orders/" + ORDER_ID_TO_CANCEL;
+    private static final String FILLS = "fills";
+    private static final String PRODUCTS = "products";
+    private static final String ORDER_BY_CLIENT_OID = "orders/client:" + CLIENT_ORDER_ID;
 
     // Mocked out methods
     private static final String MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD = "createRequestParamMap";
@@ -124,6 +139,10 @@ public class TestGdaxExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = PowerMock.createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.25");
@@ -132,6 +151,7 @@ public class TestGdaxExchangeAdapter {
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -207,6 +227,42 @@ public class TestGdaxExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreateOrderWithClientOrderIdIsSuccessful() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(NEW_BUY_ORDER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("size", new DecimalFormat("#.########").format(BUY_ORDER_QUANTITY))).andStubReturn(null);
+        expect(requestParamMap.put("price", new DecimalFormat("#.##").format(BUY_ORDER_PRICE))).andStubReturn(null);
+        expect(requestParamMap.put("side", "buy")).andStubReturn(null);
+        expect(requestParamMap.put("product_id", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("client_oid", CLIENT_ORDER_ID)).andReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("POST"),
+                eq(NEW_ORDER), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final String orderId = exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE,
+                CLIENT_ORDER_ID);
+        assertTrue(orderId.equals("193d2ad9-e671-4d66-9211-7f75f6380231"));
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testCreateOrderHandlesExchangeNetworkException() throws Exception {
 
@@ -310,6 +366,84 @@ public class TestGdaxExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Batch Order tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testCreatingSeveralOrdersReportsEachOrderSeparately() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, "createOrder");
+
+        expect(exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE))
+                .andReturn(ORDER_ID_TO_CANCEL);
+        expect(exchangeAdapter.createOrder(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE))
+                .andThrow(new ExchangeNetworkException("These aren't the droids you're looking for."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults = exchangeAdapter.createOrders(Arrays.asList(
+                new OrderRequest(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE),
+                new OrderRequest(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE)));
+
+        assertTrue(orderResults.size() == 2);
+        assertTrue(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertFalse(orderResults.get(1).isSuccessful());
+        assertNull(orderResults.get(1).getOrderId());
+        assertTrue(orderResults.get(1).getFailure() instanceof ExchangeNetworkException);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testCancellingAllOrdersOnAMarketInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(CANCEL_ALL_ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("DELETE"),
+                eq("orders?product_id=" + MARKET_ID), eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults = exchangeAdapter.cancelAllOrders(MARKET_ID);
+        assertTrue(orderResults.size() == 2);
+        assertTrue(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderResults.get(1).getOrderId().equals("9a5c2b7d-21ba-4e11-9fd6-0cdf32e5c9a1"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testCancellingAllOrdersHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("DELETE"),
+                eq("orders?product_id=" + MARKET_ID), eq(null)).
+                andThrow(new ExchangeNetworkException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.cancelAllOrders(MARKET_ID);
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Your Open Orders tests
     // ------------------------------------------------------------------------------------------------
@@ -348,6 +482,38 @@ public class TestGdaxExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingYourOpenOrdersForSeveralMarketsInOneRequest() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDERS), eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, List<OpenOrder>> openOrders = exchangeAdapter.getYourOpenOrders(
+                Arrays.asList(MARKET_ID, "BTC-USD", UNKNOWN_MARKET_ID));
+
+        // the exchange returns the orders for all markets - the ones for markets not asked for are left out
+        assertEquals(3, openOrders.size());
+        assertEquals(2, openOrders.get(MARKET_ID).size());
+        assertEquals(MARKET_ID, openOrders.get(MARKET_ID).get(0).getMarketId());
+        assertEquals(1, openOrders.get("BTC-USD").size());
+        assertEquals("BTC-USD", openOrders.get("BTC-USD").get(0).getMarketId());
+        assertTrue(openOrders.get(UNKNOWN_MARKET_ID).isEmpty());
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingYourOpenOrdersHandlesExchangeNetworkException() throws Exception {
 
@@ -477,6 +643,272 @@ public class TestGdaxExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingOrderStatusSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_STATUS), eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for getting order status on this exchange.
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+
+        // assert some key stuff; we're not testing GSON here.
+        assertTrue(orderStatus.getId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderStatus.getMarketId().equals(MARKET_ID));
+        assertTrue(orderStatus.getType() == OrderType.BUY);
+        assertTrue(orderStatus.getState() == OrderState.FILLED);
+        assertTrue(orderStatus.getPrice().compareTo(new BigDecimal("270.00000000")) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(new BigDecimal("0.01000000")) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(new BigDecimal("0.01000000")) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("269.50")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testGettingOrderStatusReturnsCancelledWhenOrderNotFound() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        // the exchange answers 404 for an order cancelled with nothing filled
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_STATUS), eq(null)).andThrow(new ExchangeNetworkException(
+                "Failed to connect to Exchange. It's dead Jim!", new FileNotFoundException(ORDER_STATUS)));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        assertTrue(orderStatus.getId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderStatus.getMarketId().equals(MARKET_ID));
+        assertTrue(orderStatus.getState() == OrderState.CANCELLED);
+        assertTrue(orderStatus.getFilledQuantity().signum() == 0);
+        assertNull(orderStatus.getAverageFillPrice());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_STATUS), eq(null)).andThrow(new ExchangeNetworkException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Id by Client Order Id tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingOrderIdByClientOrderIdSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_BY_CLIENT_OID_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_BY_CLIENT_OID), eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for looking up orders on this exchange.
+        assertEquals("193d2ad9-e671-4d66-9211-7f75f6380231",
+                exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, null));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testGettingOrderIdByClientOrderIdReturnsNullWhenOrderNotFound() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        // the transport layer reports a 404 as a network error caused by a FileNotFoundException
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_BY_CLIENT_OID), eq(null)).andThrow(new ExchangeNetworkException(
+                "Failed to connect to Exchange. It's dead Jim!", new FileNotFoundException(ORDER_BY_CLIENT_OID)));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertNull(exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, null));
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderIdByClientOrderIdHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER_BY_CLIENT_OID), eq(null)).andThrow(new ExchangeNetworkException("Where's the money, Lebowski?"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingFillsSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(FILLS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("product_id", MARKET_ID)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(FILLS), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(MARKET_ID, Date.from(Instant.parse("2015-10-15T00:00:00Z")));
+
+        // older fill is not returned; oldest fill first
+        assertTrue(fills.size() == 2);
+        assertTrue(fills.get(0).getId().equals("73"));
+        assertTrue(fills.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(fills.get(0).getMarketId().equals(MARKET_ID));
+        assertTrue(fills.get(0).getType() == OrderType.BUY);
+        assertTrue(fills.get(0).getCreationDate().equals(Date.from(Instant.parse("2015-10-15T21:11:02.024Z"))));
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("270.00000000")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.00500000")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.003375")) == 0);
+
+        assertTrue(fills.get(1).getId().equals("74"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(FILLS), anyObject(Map.class)).andThrow(new IllegalStateException("Never tell me the odds!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, Date.from(Instant.parse("2015-10-15T00:00:00Z")));
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Market Info tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingMarketInfoSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(PRODUCTS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(PRODUCTS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, MarketInfo> marketInfo = exchangeAdapter.getMarketInfo();
+        assertEquals(2, marketInfo.size());
+
+        final MarketInfo btcGbp = marketInfo.get(MARKET_ID);
+        assertEquals(MARKET_ID, btcGbp.getMarketId());
+        assertTrue(btcGbp.getPriceTickSize().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(btcGbp.getQuantityStepSize().compareTo(new BigDecimal("0.00000001")) == 0);
+        assertTrue(btcGbp.getMinQuantity().compareTo(new BigDecimal("0.001")) == 0);
+        assertTrue(btcGbp.getMinNotional().compareTo(new BigDecimal("10")) == 0);
+
+        assertTrue(marketInfo.get("ETH-BTC").getPriceTickSize().compareTo(new BigDecimal("0.00001")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingMarketInfoHandlesUnexpectedHttpStatusCode() throws Exception {
+
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(500, "Internal Server Error", "");
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(PRODUCTS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getMarketInfo();
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Latest Market Price tests
     // ------------------------------------------------------------------------------------------------
@@ -650,12 +1082,75 @@ public class TestGdaxExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingTickerServesStatsFromCache() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encodedTicker = Files.readAllBytes(Paths.get(TICKER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse tickerExchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encodedTicker, StandardCharsets.UTF_8));
+
+        final byte[] encodedStats = Files.readAllBytes(Paths.get(STATS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse statsExchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encodedStats, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+
+        // ticker is fetched every time, but the stats only once
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
+                eq(null)).andReturn(tickerExchangeResponse).times(2);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(STATS),
+                eq(null)).andReturn(statsExchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getTicker(MARKET_ID);
+        final Ticker ticker = exchangeAdapter.getTicker(MARKET_ID);
+
+        assertTrue(ticker.getLast().compareTo(new BigDecimal("14744.9")) == 0);
+        assertTrue(ticker.getHigh().compareTo(new BigDecimal("14899.00000000")) == 0);
+        assertTrue(ticker.getLow().compareTo(new BigDecimal("13409.97000000")) == 0);
+        assertTrue(ticker.getOpen().compareTo(new BigDecimal("13609.53000000")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingTickerHandlesFailedStatsCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encodedTicker = Files.readAllBytes(Paths.get(TICKER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse tickerExchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encodedTicker, StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse statsExchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(500, "Internal Server Error", "");
+
+        // Partial mock so we do not send stuff down the wire
+        final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
+                eq(null)).andReturn(tickerExchangeResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(STATS),
+                eq(null)).andReturn(statsExchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getTicker(MARKET_ID);
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingTickerHandlesExchangeNetworkException() throws Exception {
 
         // Partial mock so we do not send stuff down the wire
         final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
                 GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(STATS),
+                eq(null)).andStubReturn(new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", "{}"));
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
                 eq(null)).andThrow(new ExchangeNetworkException(
                 "Listen, Herr Mac, I don't know what kind of people you're used to dealing with, but nobody tells" +
@@ -674,6 +1169,8 @@ public class TestGdaxExchangeAdapter {
         // Partial mock so we do not send stuff down the wire
         final GdaxExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
                 GdaxExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(STATS),
+                eq(null)).andStubReturn(new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", "{}"));
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
                 eq(null)).andThrow(new IllegalArgumentException("Indiana Jones. I always knew some day you'd come " +
                 "walking back through my door. I never doubted that. Something made it inevitable." +
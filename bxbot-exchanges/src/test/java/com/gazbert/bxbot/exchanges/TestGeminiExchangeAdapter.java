@@ -43,6 +43,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,8 @@ public class TestGeminiExchangeAdapter {
     private static final String ORDER_NEW_BUY_JSON_RESPONSE = "./src/test/exchange-data/gemini/order_new_buy.json";
     private static final String ORDER_NEW_SELL_JSON_RESPONSE = "./src/test/exchange-data/gemini/order_new_sell.json";
     private static final String ORDER_CANCEL_JSON_RESPONSE = "./src/test/exchange-data/gemini/order_cancel.json";
+    private static final String ORDER_STATUS_JSON_RESPONSE = "./src/test/exchange-data/gemini/order_status.json";
+    private static final String MYTRADES_JSON_RESPONSE = "./src/test/exchange-data/gemini/mytrades.json";
 
     // Exchange API calls
     private static final String BOOK = "book";
@@ -76,9 +79,12 @@ public class TestGeminiExchangeAdapter {
     private static final String ORDERS = "orders";
     private static final String ORDER_NEW = "order/new";
     private static final String ORDER_CANCEL = "order/cancel";
+    private static final String ORDER_STATUS = "order/status";
+    private static final String MYTRADES = "mytrades";
 
     // Canned test data
     private static final String ETH_BTC_MARKET_ID = "ethbtc";
+    private static final String UNKNOWN_MARKET_ID = "dogeusd";
     private static final String BTC_USD_MARKET_ID = "btcusd";
     private static final BigDecimal BUY_ORDER_PRICE = new BigDecimal("0.00001");
     private static final BigDecimal BUY_ORDER_QUANTITY = new BigDecimal("0.001");
@@ -124,6 +130,10 @@ public class TestGeminiExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = PowerMock.createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.25");
@@ -132,6 +142,7 @@ public class TestGeminiExchangeAdapter {
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -473,6 +484,130 @@ public class TestGeminiExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderStatusSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_STATUS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("order_id", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final GeminiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GeminiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_STATUS),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for getting order status on this exchange.
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+
+        // assert some key stuff; we're not testing GSON here.
+        assertTrue(orderStatus.getId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(orderStatus.getMarketId().equals(ETH_BTC_MARKET_ID));
+        assertTrue(orderStatus.getType() == OrderType.SELL);
+        assertTrue(orderStatus.getState() == OrderState.CANCELLED);
+        assertTrue(orderStatus.getPrice().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(new BigDecimal("1")) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(new BigDecimal("0.4")) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("0.0095")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GeminiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GeminiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_STATUS),
+                anyObject(Map.class)).andThrow(new ExchangeNetworkException("It's a trap!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingFillsSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(MYTRADES_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("symbol", ETH_BTC_MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("timestamp", "1470419470")).andStubReturn(null);
+        expect(requestParamMap.put("limit_trades", "500")).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final GeminiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GeminiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(MYTRADES),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(ETH_BTC_MARKET_ID, new Date(1470419470223L));
+
+        // oldest fill first
+        assertTrue(fills.size() == 2);
+        assertTrue(fills.get(0).getId().equals("107317526"));
+        assertTrue(fills.get(0).getOrderId().equals(ORDER_ID_TO_CANCEL));
+        assertTrue(fills.get(0).getMarketId().equals(ETH_BTC_MARKET_ID));
+        assertTrue(fills.get(0).getType() == OrderType.SELL);
+        assertTrue(fills.get(0).getCreationDate().getTime() == 1470419475500L);
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("0.0095")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.3")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.000007125")) == 0);
+
+        assertTrue(fills.get(1).getId().equals("107317527"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final GeminiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GeminiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(MYTRADES),
+                anyObject(Map.class)).andThrow(new IllegalStateException("Never tell me the odds!"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(ETH_BTC_MARKET_ID, new Date(1470419470223L));
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Latest Market Price tests
     // ------------------------------------------------------------------------------------------------
@@ -573,6 +708,37 @@ public class TestGeminiExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingYourOpenOrdersForSeveralMarketsInOneRequest() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final GeminiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                GeminiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDERS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, List<OpenOrder>> openOrders = exchangeAdapter.getYourOpenOrders(
+                Arrays.asList(ETH_BTC_MARKET_ID, BTC_USD_MARKET_ID, UNKNOWN_MARKET_ID));
+
+        // the exchange returns the orders for all markets - the ones for markets not asked for are left out
+        assertEquals(3, openOrders.size());
+        assertEquals(2, openOrders.get(ETH_BTC_MARKET_ID).size());
+        assertEquals(ETH_BTC_MARKET_ID, openOrders.get(ETH_BTC_MARKET_ID).get(0).getMarketId());
+        assertEquals(1, openOrders.get(BTC_USD_MARKET_ID).size());
+        assertEquals(BTC_USD_MARKET_ID, openOrders.get(BTC_USD_MARKET_ID).get(0).getMarketId());
+        assertTrue(openOrders.get(UNKNOWN_MARKET_ID).isEmpty());
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingYourOpenOrdersHandlesExchangeNetworkException() throws Exception {
 
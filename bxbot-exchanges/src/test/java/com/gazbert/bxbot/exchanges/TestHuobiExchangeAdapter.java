@@ -41,6 +41,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,8 @@ public class TestHuobiExchangeAdapter {
     private static final String ORDER_ERROR_JSON_RESPONSE = "./src/test/exchange-data/huobi/order-error.json";
     private static final String CANCEL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/huobi/cancel_order.json";
     private static final String CANCEL_ORDER_ERROR_JSON_RESPONSE = "./src/test/exchange-data/huobi/cancel_order-error.json";
+    private static final String ORDER_INFO_JSON_RESPONSE = "./src/test/exchange-data/huobi/order_info.json";
+    private static final String GET_NEW_DEAL_ORDERS_JSON_RESPONSE = "./src/test/exchange-data/huobi/get_new_deal_orders.json";
 
     // Exchange API calls
     private static final String GET_ACCOUNT_INFO = "get_account_info";
@@ -83,6 +86,8 @@ public class TestHuobiExchangeAdapter {
     private static final String SELL_ORDER = "sell";
     private static final String BUY_ORDER = "buy";
     private static final String CANCEL_ORDER = "cancel_order";
+    private static final String ORDER_INFO = "order_info";
+    private static final String GET_NEW_DEAL_ORDERS = "get_new_deal_orders";
 
     // Canned test data
     private static final String AUTHENTICATED_REQUESTS_MARKET_ID = "usd";
@@ -134,6 +139,10 @@ public class TestHuobiExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = PowerMock.createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.2");
@@ -143,6 +152,7 @@ public class TestHuobiExchangeAdapter {
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -468,6 +478,127 @@ public class TestHuobiExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderStatusSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_INFO_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("coin_type", "1")).andStubReturn(null); // 1 = BTC
+        expect(requestParamMap.put("id", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final HuobiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                HuobiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_INFO),
+                eq(AUTHENTICATED_REQUESTS_MARKET_ID), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        assertEquals(ORDER_ID_TO_CANCEL, orderStatus.getId());
+        assertEquals(MARKET_ID, orderStatus.getMarketId());
+        assertEquals(OrderType.BUY, orderStatus.getType());
+        assertEquals(OrderState.CANCELLED, orderStatus.getState());
+        assertTrue(orderStatus.getPrice().compareTo(BUY_ORDER_PRICE) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(BUY_ORDER_QUANTITY) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(BigDecimal.ZERO) == 0);
+        assertNull(orderStatus.getAverageFillPrice());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final HuobiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                HuobiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ORDER_INFO),
+                eq(AUTHENTICATED_REQUESTS_MARKET_ID), anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("Houston, we have a problem."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingFillsSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(GET_NEW_DEAL_ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final HuobiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                HuobiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(GET_NEW_DEAL_ORDERS), eq(AUTHENTICATED_REQUESTS_MARKET_ID), anyObject(Map.class))
+                .andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(MARKET_ID, new Date(1444334000000L));
+
+        // the oldest deal order was processed before the since date
+        assertTrue(fills.size() == 2);
+
+        assertEquals("38471950", fills.get(0).getId());
+        assertEquals("38471950", fills.get(0).getOrderId());
+        assertEquals(MARKET_ID, fills.get(0).getMarketId());
+        assertEquals(OrderType.BUY, fills.get(0).getType());
+        assertTrue(fills.get(0).getCreationDate().getTime() == 1444334900000L);
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("200.17")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.004")) == 0);
+
+        // the fee is not provided by Huobi
+        assertNull(fills.get(0).getFee());
+
+        assertEquals("38471990", fills.get(1).getId());
+        assertEquals(OrderType.SELL, fills.get(1).getType());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final HuobiExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                HuobiExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(GET_NEW_DEAL_ORDERS), eq(AUTHENTICATED_REQUESTS_MARKET_ID), anyObject(Map.class)).
+                andThrow(new IllegalStateException("We just put Sir Isaac Newton in the driver's seat."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, new Date());
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Market Orders tests
     // ------------------------------------------------------------------------------------------------
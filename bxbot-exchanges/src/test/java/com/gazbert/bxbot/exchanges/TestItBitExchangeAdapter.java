@@ -45,6 +45,8 @@ import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.easymock.EasyMock.*;
 import static org.junit.Assert.*;
@@ -61,6 +63,7 @@ public class TestItBitExchangeAdapter {
 
     // Canned test data
     private static final String MARKET_ID = "XBTUSD";
+    private static final String UNKNOWN_MARKET_ID = "XDGUSD";
     private static final String WALLET_ID = "62827e93-f19b-67bf-8d2f-663fa4f0f1ad";
     private static final BigDecimal BUY_ORDER_PRICE = new BigDecimal("200.18");
     private static final BigDecimal BUY_ORDER_QUANTITY = new BigDecimal("0.01");
@@ -76,6 +79,8 @@ public class TestItBitExchangeAdapter {
     private static final String NEW_ORDER_BUY_JSON_RESPONSE = "./src/test/exchange-data/itbit/new_order_buy.json";
     private static final String NEW_ORDER_SELL_JSON_RESPONSE = "./src/test/exchange-data/itbit/new_order_sell.json";
     private static final String CANCEL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/itbit/cancel_order.json";
+    private static final String ORDER_JSON_RESPONSE = "./src/test/exchange-data/itbit/order.json";
+    private static final String TRADES_JSON_RESPONSE = "./src/test/exchange-data/itbit/trades.json";
 
     // Exchange API calls
     private static final String WALLETS = "wallets";
@@ -84,6 +89,8 @@ public class TestItBitExchangeAdapter {
     private static final String TICKER = "markets/" + MARKET_ID + "/ticker";
     private static final String NEW_ORDER = "wallets/" + WALLET_ID + "/orders"; // same as ORDERS but uses POST
     private static final String CANCEL_ORDER = "wallets/" + WALLET_ID + "/orders/" + ORDER_ID_TO_CANCEL;
+    private static final String ORDER = CANCEL_ORDER; // same as CANCEL_ORDER but uses GET
+    private static final String TRADES = "wallets/" + WALLET_ID + "/trades";
 
     // Mocked out methods
     private static final String MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD = "createRequestParamMap";
@@ -129,6 +136,10 @@ public class TestItBitExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = PowerMock.createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.5");
@@ -138,6 +149,7 @@ public class TestItBitExchangeAdapter {
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -173,7 +185,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final String orderId = exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE);
@@ -211,7 +223,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final String orderId = exchangeAdapter.createOrder(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE);
@@ -231,7 +243,7 @@ public class TestItBitExchangeAdapter {
                 " you've got to be willing to pay the ultimate price. It's not tragic to die doing what you love."));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         exchangeAdapter.createOrder(MARKET_ID, OrderType.SELL, SELL_ORDER_QUANTITY, SELL_ORDER_PRICE);
@@ -249,7 +261,7 @@ public class TestItBitExchangeAdapter {
                 " and hesitation will cause your worst fears to come true."));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE);
@@ -276,7 +288,7 @@ public class TestItBitExchangeAdapter {
                 eq(CANCEL_ORDER), eq(null)).andReturn(exchangeResponse);
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         // marketId arg not needed for cancelling orders on this exchange.
@@ -297,7 +309,7 @@ public class TestItBitExchangeAdapter {
                 new ExchangeNetworkException("Peace, through superior firepower!"));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         // marketId arg not needed for cancelling orders on this exchange.
@@ -319,7 +331,7 @@ public class TestItBitExchangeAdapter {
                         " how people get hurt."));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         // marketId arg not needed for cancelling orders on this exchange.
@@ -356,7 +368,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final List<OpenOrder> openOrders = exchangeAdapter.getYourOpenOrders(MARKET_ID);
@@ -375,12 +387,53 @@ public class TestItBitExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingYourOpenOrdersForSeveralMarketsInOneRequest() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(OPEN_ORDERS_JSON_RESPONSE));
+
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("status", "open")).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(OPEN_ORDERS), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+
+        setMockedWalletId(exchangeAdapter);
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, List<OpenOrder>> openOrders = exchangeAdapter.getYourOpenOrders(
+                Arrays.asList(MARKET_ID, "XBTEUR", UNKNOWN_MARKET_ID));
+
+        // the exchange returns the orders for all markets - the ones for markets not asked for are left out
+        assertEquals(3, openOrders.size());
+        assertEquals(2, openOrders.get(MARKET_ID).size());
+        assertEquals(MARKET_ID, openOrders.get(MARKET_ID).get(0).getMarketId());
+        assertEquals(1, openOrders.get("XBTEUR").size());
+        assertEquals("XBTEUR", openOrders.get("XBTEUR").get(0).getMarketId());
+        assertTrue(openOrders.get(UNKNOWN_MARKET_ID).isEmpty());
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingYourOpenOrdersHandlesExchangeNetworkException() throws Exception {
 
         // Partial mock so we do not send stuff down the wire
-        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMock(ItBitExchangeAdapter.class,
-                MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
 
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
                 eq("GET"), eq(OPEN_ORDERS), anyObject(Map.class)).andThrow(
@@ -392,7 +445,7 @@ public class TestItBitExchangeAdapter {
                         " song. If you'd like to hear it I can sing it for you."));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.getYourOpenOrders(MARKET_ID);
         PowerMock.verifyAll();
     }
@@ -401,18 +454,137 @@ public class TestItBitExchangeAdapter {
     public void testGettingYourOpenOrdersHandlesUnexpectedException() throws Exception {
 
         // Partial mock so we do not send stuff down the wire
-        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMock(ItBitExchangeAdapter.class,
-                MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
 
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
                 eq(OPEN_ORDERS), anyObject(Map.class)).andThrow(new IllegalStateException("Hello, HAL. Do you read me, HAL?"));
 
         PowerMock.replayAll();
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.getYourOpenOrders(MARKET_ID);
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingOrderStatusSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ORDER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER), eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for getting order status on this exchange.
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+        assertEquals(ORDER_ID_TO_CANCEL, orderStatus.getId());
+        assertEquals(MARKET_ID, orderStatus.getMarketId());
+        assertEquals(OrderType.BUY, orderStatus.getType());
+        assertEquals(OrderState.FILLED, orderStatus.getState());
+        assertTrue(orderStatus.getPrice().compareTo(BUY_ORDER_PRICE) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(BUY_ORDER_QUANTITY) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(BUY_ORDER_QUANTITY) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("200.17")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(ORDER), eq(null)).andThrow(
+                new ExchangeNetworkException("Get away from her, you bitch!"));
+
+        PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingFillsSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TRADES_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(TRADES), anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(
+                MARKET_ID, Date.from(Instant.parse("2015-10-01T18:11:06.847Z")));
+
+        // the XBTSGD trade is for another market
+        assertTrue(fills.size() == 2);
+
+        assertEquals("331", fills.get(0).getId());
+        assertEquals(ORDER_ID_TO_CANCEL, fills.get(0).getOrderId());
+        assertEquals(MARKET_ID, fills.get(0).getMarketId());
+        assertEquals(OrderType.BUY, fills.get(0).getType());
+        assertEquals(Date.from(Instant.parse("2015-10-01T18:12:01.123Z")), fills.get(0).getCreationDate());
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("200.17")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.004")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.0020017")) == 0);
+
+        assertEquals("332", fills.get(1).getId());
+        assertTrue(fills.get(1).getQuantity().compareTo(new BigDecimal("0.006")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(TRADES), anyObject(Map.class)).andThrow(
+                new IllegalArgumentException("Game over, man! Game over!"));
+
+        PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, new Date());
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Market Orders tests
     // ------------------------------------------------------------------------------------------------
@@ -433,6 +605,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
         final MarketOrderBook marketOrderBook = exchangeAdapter.getMarketOrders(MARKET_ID);
 
@@ -489,6 +662,7 @@ public class TestItBitExchangeAdapter {
                 andThrow(new IllegalArgumentException("I have to return some videotapes"));
 
         PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
         exchangeAdapter.getMarketOrders(MARKET_ID);
         PowerMock.verifyAll();
@@ -514,6 +688,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
         final BigDecimal latestMarketPrice = exchangeAdapter.getLatestMarketPrice(MARKET_ID).setScale(
                 8, BigDecimal.ROUND_HALF_UP);
@@ -583,6 +758,7 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
 
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
         final BalanceInfo balanceInfo = exchangeAdapter.getBalanceInfo();
 
@@ -601,8 +777,8 @@ public class TestItBitExchangeAdapter {
     public void testGettingBalanceInfoHandlesExchangeNetworkException() throws Exception {
 
         // Partial mock so we do not send stuff down the wire
-        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMock(ItBitExchangeAdapter.class,
-                MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
                 eq(WALLETS), anyObject(Map.class)).
                 andThrow(new ExchangeNetworkException("You were in a 4g inverted dive with a MiG28?"));
@@ -616,8 +792,8 @@ public class TestItBitExchangeAdapter {
     public void testGettingBalanceInfoHandlesUnexpectedException() throws Exception {
 
         // Partial mock so we do not send stuff down the wire
-        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMock(ItBitExchangeAdapter.class,
-                MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
                 eq(WALLETS), anyObject(Map.class)).
                 andThrow(new IllegalStateException("Tower, this is Ghost Rider requesting a flyby... " +
@@ -647,6 +823,7 @@ public class TestItBitExchangeAdapter {
                 andReturn(exchangeResponse);
 
         PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final Ticker ticker = exchangeAdapter.getTicker(MARKET_ID);
@@ -704,6 +881,7 @@ public class TestItBitExchangeAdapter {
         PowerMock.replayAll();
 
         final ItBitExchangeAdapter exchangeAdapter = new ItBitExchangeAdapter();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final BigDecimal sellPercentageFee = exchangeAdapter.getPercentageOfSellOrderTakenForExchangeFee(MARKET_ID);
@@ -718,6 +896,7 @@ public class TestItBitExchangeAdapter {
         PowerMock.replayAll();
 
         final ItBitExchangeAdapter exchangeAdapter = new ItBitExchangeAdapter();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final BigDecimal buyPercentageFee = exchangeAdapter.getPercentageOfBuyOrderTakenForExchangeFee(MARKET_ID);
@@ -732,6 +911,7 @@ public class TestItBitExchangeAdapter {
         PowerMock.replayAll();
 
         final ItBitExchangeAdapter exchangeAdapter = new ItBitExchangeAdapter();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         assertTrue(exchangeAdapter.getImplName().equals("itBit REST API v1"));
@@ -747,11 +927,112 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.replayAll();
         final ItBitExchangeAdapter exchangeAdapter = new ItBitExchangeAdapter();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
         assertNotNull(exchangeAdapter);
         PowerMock.verify();
     }
 
+    @Test
+    public void testInitFetchesTheWalletIdInTheBackground() throws Exception {
+
+        // Load the canned responses from the exchange
+        final AbstractExchangeAdapter.ExchangeHttpResponse walletsResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                200, "OK", new String(Files.readAllBytes(Paths.get(WALLETS_JSON_RESPONSE)), StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse cancelResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                202, "Accepted", new String(Files.readAllBytes(Paths.get(CANCEL_ORDER_JSON_RESPONSE)), StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire - wallets must be called by init, not the order call
+        final CountDownLatch walletsCalled = new CountDownLatch(1);
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(WALLETS), anyObject(Map.class)).andAnswer(() -> {
+                    walletsCalled.countDown();
+                    return walletsResponse;
+                });
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("DELETE"),
+                eq(CANCEL_ORDER), eq(null)).andReturn(cancelResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+        assertTrue(walletsCalled.await(5, TimeUnit.SECONDS));
+
+        assertTrue(exchangeAdapter.cancelOrder(ORDER_ID_TO_CANCEL, null));
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testWalletIdIsFetchedOnlyOnceIfTheFirstOrderCallRacesInit() throws Exception {
+
+        // Load the canned responses from the exchange
+        final AbstractExchangeAdapter.ExchangeHttpResponse walletsResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                200, "OK", new String(Files.readAllBytes(Paths.get(WALLETS_JSON_RESPONSE)), StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse cancelResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                202, "Accepted", new String(Files.readAllBytes(Paths.get(CANCEL_ORDER_JSON_RESPONSE)), StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire - wallets must only be called once, by init or the order call
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(WALLETS), anyObject(Map.class)).andReturn(walletsResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("DELETE"),
+                eq(CANCEL_ORDER), eq(null)).andReturn(cancelResponse).times(2);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertTrue(exchangeAdapter.cancelOrder(ORDER_ID_TO_CANCEL, null));
+        assertTrue(exchangeAdapter.cancelOrder(ORDER_ID_TO_CANCEL, null));
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testWalletIdIsFetchedAgainIfBootstrappingTheSessionFailed() throws Exception {
+
+        // Load the canned responses from the exchange
+        final AbstractExchangeAdapter.ExchangeHttpResponse walletsResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                200, "OK", new String(Files.readAllBytes(Paths.get(WALLETS_JSON_RESPONSE)), StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse cancelResponse = new AbstractExchangeAdapter.ExchangeHttpResponse(
+                202, "Accepted", new String(Files.readAllBytes(Paths.get(CANCEL_ORDER_JSON_RESPONSE)), StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire - wallets call fails bootstrapping the session, then the
+        // order call fetches it
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(WALLETS), anyObject(Map.class)).andThrow(new ExchangeNetworkException("Game over, man! Game over!"));
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(WALLETS), anyObject(Map.class)).andReturn(walletsResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("DELETE"),
+                eq(CANCEL_ORDER), eq(null)).andReturn(cancelResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertTrue(exchangeAdapter.cancelOrder(ORDER_ID_TO_CANCEL, null));
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testOrderCallFailsIfThereAreNoWallets() throws Exception {
+
+        final AbstractExchangeAdapter.ExchangeHttpResponse walletsResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", "[]");
+
+        // Partial mock so we do not send stuff down the wire - both the session bootstrap and the retry find no wallet
+        final ItBitExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                ItBitExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq("GET"),
+                eq(WALLETS), anyObject(Map.class)).andReturn(walletsResponse).times(2);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.cancelOrder(ORDER_ID_TO_CANCEL, null);
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testExchangeAdapterThrowsExceptionIfUserIdConfigIsMissing() throws Exception {
 
@@ -856,6 +1137,7 @@ public class TestItBitExchangeAdapter {
                 .andReturn(exchangeResponse);
 
         PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         final BigDecimal lastMarketPrice = exchangeAdapter.getLatestMarketPrice(MARKET_ID);
@@ -879,6 +1161,7 @@ public class TestItBitExchangeAdapter {
                 .andThrow(new ExchangeNetworkException("Release the Kraken!"));
 
         PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         exchangeAdapter.getLatestMarketPrice(MARKET_ID);
@@ -902,6 +1185,7 @@ public class TestItBitExchangeAdapter {
                         " No matter how huge and powerful. And her blood is a deadly venom."));
 
         PowerMock.replayAll();
+        setMockedWalletId(exchangeAdapter);
         exchangeAdapter.init(exchangeConfig);
 
         exchangeAdapter.getLatestMarketPrice(MARKET_ID);
@@ -942,7 +1226,7 @@ public class TestItBitExchangeAdapter {
         // for precursor getBalanceInfo() call
         final BalanceInfo balanceInfo = PowerMock.createMock(BalanceInfo.class);
         expect(exchangeAdapter.getBalanceInfo()).andStubReturn(balanceInfo);
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
 
         final URL url = new URL(AUTHENTICATED_API_URL + NEW_ORDER);
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_MAKE_NETWORK_REQUEST_METHOD,
@@ -990,7 +1274,7 @@ public class TestItBitExchangeAdapter {
         // for precursor getBalanceInfo() call
         final BalanceInfo balanceInfo = PowerMock.createMock(BalanceInfo.class);
         expect(exchangeAdapter.getBalanceInfo()).andStubReturn(balanceInfo);
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
 
         final URL url = new URL(AUTHENTICATED_API_URL + NEW_ORDER);
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_MAKE_NETWORK_REQUEST_METHOD,
@@ -1038,7 +1322,7 @@ public class TestItBitExchangeAdapter {
         // for precursor getBalanceInfo() call
         final BalanceInfo balanceInfo = PowerMock.createMock(BalanceInfo.class);
         expect(exchangeAdapter.getBalanceInfo()).andStubReturn(balanceInfo);
-        Whitebox.setInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME, WALLET_ID);
+        setMockedWalletId(exchangeAdapter);
 
         final URL url = new URL(AUTHENTICATED_API_URL + NEW_ORDER);
         PowerMock.expectPrivate(exchangeAdapter, MOCKED_MAKE_NETWORK_REQUEST_METHOD,
@@ -1055,4 +1339,16 @@ public class TestItBitExchangeAdapter {
 
         PowerMock.verifyAll();
     }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Util methods
+    // ------------------------------------------------------------------------------------------------
+
+    /*
+     * Sets the wallet id as if it had already been fetched, so tests do not need to mock the wallets call.
+     */
+    private static void setMockedWalletId(ItBitExchangeAdapter exchangeAdapter) {
+        Whitebox.<SessionBootstrap.SessionValue<String>>getInternalState(exchangeAdapter, MOCKED_WALLET_ID_FIELD_NAME)
+                .set(WALLET_ID);
+    }
 }
\ No newline at end of file
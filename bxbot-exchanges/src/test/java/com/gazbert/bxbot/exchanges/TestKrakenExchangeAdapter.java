@@ -39,7 +39,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +66,7 @@ public class TestKrakenExchangeAdapter {
     private static final String BALANCE_ERROR_JSON_RESPONSE = "./src/test/exchange-data/kraken/Balance-error.json";
     private static final String TICKER_JSON_RESPONSE = "./src/test/exchange-data/kraken/Ticker.json";
     private static final String TICKER_ERROR_JSON_RESPONSE = "./src/test/exchange-data/kraken/Ticker-error.json";
+    private static final String TICKER_MULTIPLE_JSON_RESPONSE = "./src/test/exchange-data/kraken/Ticker-multiple.json";
     private static final String OPEN_ORDERS_JSON_RESPONSE = "./src/test/exchange-data/kraken/OpenOrders.json";
     private static final String OPEN_ORDERS_ERROR_JSON_RESPONSE = "./src/test/exchange-data/kraken/OpenOrders-error.json";
     private static final String ADD_ORDER_BUY_JSON_RESPONSE = "./src/test/exchange-data/kraken/AddOrder-buy.json";
@@ -71,6 +74,18 @@ public class TestKrakenExchangeAdapter {
     private static final String ADD_ORDER_ERROR_JSON_RESPONSE = "./src/test/exchange-data/kraken/AddOrder-error.json";
     private static final String CANCEL_ORDER_JSON_RESPONSE = "./src/test/exchange-data/kraken/CancelOrder.json";
     private static final String CANCEL_ORDER_ERROR_JSON_RESPONSE = "./src/test/exchange-data/kraken/CancelOrder-error.json";
+    private static final String QUERY_ORDERS_JSON_RESPONSE = "./src/test/exchange-data/kraken/QueryOrders.json";
+    private static final String QUERY_ORDERS_CANCELED_JSON_RESPONSE =
+            "./src/test/exchange-data/kraken/QueryOrders-canceled.json";
+    private static final String CANCEL_ORDER_BATCH_JSON_RESPONSE = "./src/test/exchange-data/kraken/CancelOrderBatch.json";
+    private static final String EDIT_ORDER_JSON_RESPONSE = "./src/test/exchange-data/kraken/EditOrder.json";
+    private static final String EDIT_ORDER_UNKNOWN_ORDER_JSON_RESPONSE =
+            "./src/test/exchange-data/kraken/EditOrder-unknown-order.json";
+    private static final String TRADES_HISTORY_JSON_RESPONSE = "./src/test/exchange-data/kraken/TradesHistory.json";
+    private static final String ASSET_PAIRS_JSON_RESPONSE = "./src/test/exchange-data/kraken/AssetPairs.json";
+    private static final String OPEN_ORDERS_USERREF_JSON_RESPONSE = "./src/test/exchange-data/kraken/OpenOrders-userref.json";
+    private static final String CLOSED_ORDERS_USERREF_JSON_RESPONSE =
+            "./src/test/exchange-data/kraken/ClosedOrders-userref.json";
 
     // Exchange API calls
     private static final String DEPTH = "Depth";
@@ -79,15 +94,25 @@ public class TestKrakenExchangeAdapter {
     private static final String OPEN_ORDERS = "OpenOrders";
     private static final String ADD_ORDER = "AddOrder";
     private static final String CANCEL_ORDER = "CancelOrder";
+    private static final String QUERY_ORDERS = "QueryOrders";
+    private static final String CANCEL_ORDER_BATCH = "CancelOrderBatch";
+    private static final String EDIT_ORDER = "EditOrder";
+    private static final String TRADES_HISTORY = "TradesHistory";
+    private static final String CLOSED_ORDERS = "ClosedOrders";
+    private static final String ASSET_PAIRS = "AssetPairs";
 
     // Canned test data
     // Market id must be the same as the Asset Pair id. See: https://www.kraken.com/help/api#get-tradable-pairs
     private static final String MARKET_ID = "XBTUSD";
+    private static final String UNKNOWN_MARKET_ID = "XDGUSD";
+    private static final String OTHER_MARKET_ID = "LTCUSD";
     private static final BigDecimal BUY_ORDER_PRICE = new BigDecimal("456.41");
     private static final BigDecimal BUY_ORDER_QUANTITY = new BigDecimal("0.001");
     private static final BigDecimal SELL_ORDER_PRICE = new BigDecimal("758.17");
     private static final BigDecimal SELL_ORDER_QUANTITY = new BigDecimal("0.001");
     private static final String ORDER_ID_TO_CANCEL = "OLD2Z4-L4C7H-MKH5BW";
+    private static final String OTHER_ORDER_ID_TO_CANCEL = "OQCLML-BW3P3-BUCMWZ";
+    private static final String CLIENT_ORDER_ID = "1749502307";
 
     // Mocked out methods
     private static final String MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD = "createRequestParamMap";
@@ -131,6 +156,10 @@ public class TestKrakenExchangeAdapter {
         expect(networkConfig.getConnectionTimeout()).andReturn(30);
         expect(networkConfig.getNonFatalErrorCodes()).andReturn(nonFatalNetworkErrorCodes);
         expect(networkConfig.getNonFatalErrorMessages()).andReturn(nonFatalNetworkErrorMessages);
+        expect(networkConfig.getMaxRetries()).andReturn(2);
+        expect(networkConfig.getRetryBackoff()).andReturn(250);
+        expect(networkConfig.getCallDeadline()).andReturn(null);
+        expect(networkConfig.getKeepAliveInterval()).andReturn(null);
 
         optionalConfig = PowerMock.createMock(OptionalConfig.class);
         expect(optionalConfig.getItem("buy-fee")).andReturn("0.1");
@@ -140,6 +169,7 @@ public class TestKrakenExchangeAdapter {
         exchangeConfig = PowerMock.createMock(ExchangeConfig.class);
         expect(exchangeConfig.getAuthenticationConfig()).andReturn(authenticationConfig);
         expect(exchangeConfig.getNetworkConfig()).andReturn(networkConfig);
+        expect(exchangeConfig.getId()).andReturn(null);
         expect(exchangeConfig.getOptionalConfig()).andReturn(optionalConfig);
     }
 
@@ -327,6 +357,39 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void testGettingYourOpenOrdersForSeveralMarketsInOneRequest() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(OPEN_ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(OPEN_ORDERS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, List<OpenOrder>> openOrders = exchangeAdapter.getYourOpenOrders(
+                Arrays.asList(MARKET_ID, "XBTEUR", UNKNOWN_MARKET_ID));
+
+        // the exchange returns the orders for all markets - the ones for markets not asked for are left out
+        assertEquals(3, openOrders.size());
+        assertEquals(2, openOrders.get(MARKET_ID).size());
+        assertEquals(MARKET_ID, openOrders.get(MARKET_ID).get(0).getMarketId());
+        assertEquals(1, openOrders.get("XBTEUR").size());
+        assertEquals("XBTEUR", openOrders.get("XBTEUR").get(0).getMarketId());
+        assertTrue(openOrders.get(UNKNOWN_MARKET_ID).isEmpty());
+
+        PowerMock.verifyAll();
+    }
+
     @Test(expected = ExchangeNetworkException.class)
     public void testGettingYourOpenOrdersHandlesExchangeNetworkException() throws Exception {
 
@@ -400,6 +463,43 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreateOrderWithClientOrderIdSendsUserref() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ADD_ORDER_BUY_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("pair", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("type", "buy")).andStubReturn(null);
+        expect(requestParamMap.put("ordertype", "limit")).andStubReturn(null);
+        expect(requestParamMap.put("price", new DecimalFormat("#.########").format(BUY_ORDER_PRICE))).andStubReturn(null);
+        expect(requestParamMap.put("volume", new DecimalFormat("#.########").format(BUY_ORDER_QUANTITY))).andStubReturn(null);
+        expect(requestParamMap.put("userref", CLIENT_ORDER_ID)).andReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(ADD_ORDER),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final String orderId = exchangeAdapter.createOrder(MARKET_ID, OrderType.BUY, BUY_ORDER_QUANTITY, BUY_ORDER_PRICE,
+                CLIENT_ORDER_ID);
+        assertTrue(orderId.equals("OLD2Z4-L4C9H-MKH5BX"));
+
+        PowerMock.verifyAll();
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testCreateOrderToSellIsSuccessful() throws Exception {
@@ -495,6 +595,84 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Amend Order tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAmendOrderIsSuccessful() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(EDIT_ORDER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("txid", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+        expect(requestParamMap.put("pair", MARKET_ID)).andStubReturn(null);
+        expect(requestParamMap.put("price", new DecimalFormat("#.########").format(BUY_ORDER_PRICE))).andStubReturn(null);
+        expect(requestParamMap.put("volume", new DecimalFormat("#.########").format(BUY_ORDER_QUANTITY))).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(EDIT_ORDER),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final String orderId = exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY,
+                BUY_ORDER_PRICE, BUY_ORDER_QUANTITY);
+        assertTrue(orderId.equals("OFVXHJ-KPQ3B-VS7ELA"));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void testAmendOrderReturnsNullWhenOrderIsNotRecognised() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(EDIT_ORDER_UNKNOWN_ORDER_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(EDIT_ORDER),
+                anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        assertNull(exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY, BUY_ORDER_PRICE,
+                BUY_ORDER_QUANTITY));
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testAmendOrderHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(EDIT_ORDER),
+                anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("The Matrix is a system, Neo."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.amendOrder(ORDER_ID_TO_CANCEL, MARKET_ID, OrderType.BUY, BUY_ORDER_PRICE, BUY_ORDER_QUANTITY);
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Cancel Order tests
     // ------------------------------------------------------------------------------------------------
@@ -587,6 +765,278 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCancellingSeveralOrdersInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(CANCEL_ORDER_BATCH_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("orders[0]", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+        expect(requestParamMap.put("orders[1]", OTHER_ORDER_ID_TO_CANCEL)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(CANCEL_ORDER_BATCH), eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults =
+                exchangeAdapter.cancelOrders(Arrays.asList(ORDER_ID_TO_CANCEL, OTHER_ORDER_ID_TO_CANCEL), MARKET_ID);
+        assertEquals(2, orderResults.size());
+        assertEquals(ORDER_ID_TO_CANCEL, orderResults.get(0).getOrderId());
+        assertTrue(orderResults.get(0).isSuccessful());
+        assertEquals(OTHER_ORDER_ID_TO_CANCEL, orderResults.get(1).getOrderId());
+        assertTrue(orderResults.get(1).isSuccessful());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCancellingSeveralOrdersChecksEachOrderWhenNotAllWereCancelled() throws Exception {
+
+        // Load the canned responses from the exchange - only 1 of the 2 orders gets cancelled
+        final AbstractExchangeAdapter.ExchangeHttpResponse cancelResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(
+                        Files.readAllBytes(Paths.get(CANCEL_ORDER_JSON_RESPONSE)), StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse openOrderResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(
+                        Files.readAllBytes(Paths.get(QUERY_ORDERS_JSON_RESPONSE)), StandardCharsets.UTF_8));
+        final AbstractExchangeAdapter.ExchangeHttpResponse canceledOrderResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(
+                        Files.readAllBytes(Paths.get(QUERY_ORDERS_CANCELED_JSON_RESPONSE)), StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(CANCEL_ORDER_BATCH), anyObject(Map.class)).andReturn(cancelResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                eq(QUERY_ORDERS), anyObject(Map.class)).andReturn(openOrderResponse).andReturn(canceledOrderResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<OrderResult> orderResults =
+                exchangeAdapter.cancelOrders(Arrays.asList(ORDER_ID_TO_CANCEL, OTHER_ORDER_ID_TO_CANCEL), MARKET_ID);
+        assertEquals(2, orderResults.size());
+        assertEquals(ORDER_ID_TO_CANCEL, orderResults.get(0).getOrderId());
+        assertFalse(orderResults.get(0).isSuccessful());
+        assertTrue(orderResults.get(0).getFailure() instanceof TradingApiException);
+        assertEquals(OTHER_ORDER_ID_TO_CANCEL, orderResults.get(1).getOrderId());
+        assertTrue(orderResults.get(1).isSuccessful());
+
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Status tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderStatusSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(QUERY_ORDERS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("txid", ORDER_ID_TO_CANCEL)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(QUERY_ORDERS),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final OrderStatus orderStatus = exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        assertEquals(ORDER_ID_TO_CANCEL, orderStatus.getId());
+        assertEquals(MARKET_ID, orderStatus.getMarketId());
+        assertEquals(OrderType.BUY, orderStatus.getType());
+        assertEquals(OrderState.PARTIALLY_FILLED, orderStatus.getState());
+        assertTrue(orderStatus.getPrice().compareTo(new BigDecimal("456.410")) == 0);
+        assertTrue(orderStatus.getOriginalQuantity().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(orderStatus.getFilledQuantity().compareTo(new BigDecimal("0.004")) == 0);
+        assertTrue(orderStatus.getAverageFillPrice().compareTo(new BigDecimal("456.39")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = ExchangeNetworkException.class)
+    public void testGettingOrderStatusHandlesExchangeNetworkException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(QUERY_ORDERS),
+                anyObject(Map.class)).
+                andThrow(new ExchangeNetworkException("There is no spoon."));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderStatus(ORDER_ID_TO_CANCEL, MARKET_ID);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Order Id by Client Order Id tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testNewClientOrderIdIsAPositive32BitInteger() throws Exception {
+
+        final KrakenExchangeAdapter exchangeAdapter = new KrakenExchangeAdapter();
+        for (int i = 0; i < 100; i++) {
+            final int userref = Integer.parseInt(exchangeAdapter.newClientOrderId());
+            assertTrue(userref > 0);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderIdByClientOrderIdSearchesClosedOrdersWhenNotOpen() throws Exception {
+
+        // Load the canned responses from the exchange
+        final byte[] openEncoded = Files.readAllBytes(Paths.get(OPEN_ORDERS_USERREF_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse openOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(openEncoded, StandardCharsets.UTF_8));
+        final byte[] closedEncoded = Files.readAllBytes(Paths.get(CLOSED_ORDERS_USERREF_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse closedOrdersResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(closedEncoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("userref", CLIENT_ORDER_ID)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(OPEN_ORDERS),
+                eq(requestParamMap)).andReturn(openOrdersResponse);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(CLOSED_ORDERS),
+                eq(requestParamMap)).andReturn(closedOrdersResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        // marketId arg not needed for looking up orders on this exchange.
+        assertEquals("OLD2Z4-L4C9H-MKH5BX", exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, null));
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    @SuppressWarnings("unchecked")
+    public void testGettingOrderIdByClientOrderIdHandlesErrorResponse() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(OPEN_ORDERS_ERROR_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("userref", CLIENT_ORDER_ID)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(OPEN_ORDERS),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getOrderIdByClientOrderId(CLIENT_ORDER_ID, null);
+        PowerMock.verifyAll();
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    //  Get Fills tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingFillsSucceeds() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TRADES_HISTORY_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(TRADES_HISTORY),
+                anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final List<Fill> fills = exchangeAdapter.getFills(MARKET_ID, new Date(1469653600000L));
+
+        // the LTC/EUR trade is for another market
+        assertTrue(fills.size() == 2);
+
+        assertEquals("TCWJEG-FL4SZ-3FKGH6", fills.get(0).getId());
+        assertEquals("OQCLML-BW3P3-BUCMWZ", fills.get(0).getOrderId());
+        assertEquals(MARKET_ID, fills.get(0).getMarketId());
+        assertEquals(OrderType.SELL, fills.get(0).getType());
+        assertEquals(new Date(1469653650567L), fills.get(0).getCreationDate());
+        assertTrue(fills.get(0).getPrice().compareTo(new BigDecimal("699.1")) == 0);
+        assertTrue(fills.get(0).getQuantity().compareTo(new BigDecimal("0.003")) == 0);
+        assertTrue(fills.get(0).getFee().compareTo(new BigDecimal("0.00545")) == 0);
+
+        assertEquals("THVRQM-33VKH-UCI7BS", fills.get(1).getId());
+        assertEquals(ORDER_ID_TO_CANCEL, fills.get(1).getOrderId());
+        assertEquals(OrderType.BUY, fills.get(1).getType());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingFillsHandlesUnexpectedException() throws Exception {
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_AUTHENTICATED_REQUEST_TO_EXCHANGE_METHOD, eq(TRADES_HISTORY),
+                anyObject(Map.class)).
+                andThrow(new IllegalStateException("What is real? How do you define real?"));
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getFills(MARKET_ID, new Date());
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Balance Info tests
     // ------------------------------------------------------------------------------------------------
@@ -768,6 +1218,66 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    // ------------------------------------------------------------------------------------------------
+    //  Get Market Info tests
+    // ------------------------------------------------------------------------------------------------
+
+    @Test
+    public void testGettingMarketInfoSuccessfully() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(ASSET_PAIRS_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(ASSET_PAIRS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, MarketInfo> marketInfo = exchangeAdapter.getMarketInfo();
+        assertEquals(2, marketInfo.size());
+
+        final MarketInfo xbtUsd = marketInfo.get(MARKET_ID);
+        assertTrue(xbtUsd.getPriceTickSize().compareTo(new BigDecimal("0.1")) == 0);
+        assertTrue(xbtUsd.getQuantityStepSize().compareTo(new BigDecimal("0.00000001")) == 0);
+        assertTrue(xbtUsd.getMinQuantity().compareTo(new BigDecimal("0.0001")) == 0);
+        assertTrue(xbtUsd.getMinNotional().compareTo(new BigDecimal("0.5")) == 0);
+
+        // older pairs have no tick_size or costmin
+        final MarketInfo ltcEur = marketInfo.get("LTCEUR");
+        assertTrue(ltcEur.getPriceTickSize().compareTo(new BigDecimal("0.01")) == 0);
+        assertTrue(ltcEur.getMinQuantity().compareTo(new BigDecimal("0.1")) == 0);
+        assertNull(ltcEur.getMinNotional());
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingMarketInfoHandlesExchangeErrorResponse() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TICKER_ERROR_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(ASSET_PAIRS),
+                eq(null)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getMarketInfo();
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Get Latest Market Price tests
     // ------------------------------------------------------------------------------------------------
@@ -866,6 +1376,66 @@ public class TestKrakenExchangeAdapter {
         PowerMock.verifyAll();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGettingTickersForSeveralMarketsInOneCall() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TICKER_MULTIPLE_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Mock out param map so we can assert the contents passed to the transport layer are what we expect.
+        final Map<String, String> requestParamMap = PowerMock.createMock(Map.class);
+        expect(requestParamMap.put("pair", MARKET_ID + "," + OTHER_MARKET_ID)).andStubReturn(null);
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD,
+                MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD);
+
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_CREATE_REQUEST_PARAM_MAP_METHOD).andReturn(requestParamMap);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
+                eq(requestParamMap)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        final Map<String, Ticker> tickers = exchangeAdapter.getTickers(Arrays.asList(MARKET_ID, OTHER_MARKET_ID));
+        assertEquals(Arrays.asList(MARKET_ID, OTHER_MARKET_ID), new ArrayList<>(tickers.keySet()));
+
+        assertTrue(tickers.get(MARKET_ID).getLast().compareTo(new BigDecimal("657.99900")) == 0);
+        assertTrue(tickers.get(MARKET_ID).getVolume().compareTo(new BigDecimal("1152.99666422")) == 0);
+
+        assertTrue(tickers.get(OTHER_MARKET_ID).getLast().compareTo(new BigDecimal("3.77000")) == 0);
+        assertTrue(tickers.get(OTHER_MARKET_ID).getBid().compareTo(new BigDecimal("3.76500")) == 0);
+        assertTrue(tickers.get(OTHER_MARKET_ID).getAsk().compareTo(new BigDecimal("3.78900")) == 0);
+        assertTrue(tickers.get(OTHER_MARKET_ID).getOpen().compareTo(new BigDecimal("3.74400")) == 0);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = TradingApiException.class)
+    public void testGettingTickersHandlesMarketMissingFromResponse() throws Exception {
+
+        // Load the canned response from the exchange
+        final byte[] encoded = Files.readAllBytes(Paths.get(TICKER_MULTIPLE_JSON_RESPONSE));
+        final AbstractExchangeAdapter.ExchangeHttpResponse exchangeResponse =
+                new AbstractExchangeAdapter.ExchangeHttpResponse(200, "OK", new String(encoded, StandardCharsets.UTF_8));
+
+        // Partial mock so we do not send stuff down the wire
+        final KrakenExchangeAdapter exchangeAdapter = PowerMock.createPartialMockAndInvokeDefaultConstructor(
+                KrakenExchangeAdapter.class, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD);
+        PowerMock.expectPrivate(exchangeAdapter, MOCKED_SEND_PUBLIC_REQUEST_TO_EXCHANGE_METHOD, eq(TICKER),
+                anyObject(Map.class)).andReturn(exchangeResponse);
+
+        PowerMock.replayAll();
+        exchangeAdapter.init(exchangeConfig);
+
+        exchangeAdapter.getTickers(Arrays.asList(MARKET_ID, UNKNOWN_MARKET_ID));
+        PowerMock.verifyAll();
+    }
+
     // ------------------------------------------------------------------------------------------------
     //  Non Exchange visiting tests
     // ------------------------------------------------------------------------------------------------
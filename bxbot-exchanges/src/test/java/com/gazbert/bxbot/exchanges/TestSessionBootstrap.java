@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges;
+
+import com.gazbert.bxbot.exchanges.SessionBootstrap.SessionValue;
+import com.gazbert.bxbot.trading.api.ExchangeNetworkException;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Session Bootstrap fetches all its values in parallel when the session is started by the first one needed.
+ *
+ * @author gazbert
+ */
+public class TestSessionBootstrap {
+
+    private static final String WALLET_ID = "62827e93-f19b-67bf-8d2f-663fa4f0f1ad";
+    private static final String ACCOUNT_ID = "12345";
+
+    private final AtomicInteger callsMade = new AtomicInteger();
+
+    private ExecutorService resolveExecutor;
+    private ScheduledExecutorService refreshExecutor;
+    private SessionBootstrap sessionBootstrap;
+
+
+    @Before
+    public void setupBeforeEachTest() {
+        resolveExecutor = Executors.newFixedThreadPool(2);
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor();
+        sessionBootstrap = new SessionBootstrap(resolveExecutor, refreshExecutor, 1, TimeUnit.HOURS);
+    }
+
+    @After
+    public void tearDownAfterEachTest() {
+        sessionBootstrap.stop();
+        resolveExecutor.shutdownNow();
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testValuesAreFetchedInParallelOnStart() throws Exception {
+
+        // each call waits for the other, so they only complete if they are made at the same time
+        final CountDownLatch bothCallsMade = new CountDownLatch(2);
+        final SessionValue<String> walletId = sessionBootstrap.declare("walletId", () -> {
+            bothCallsMade.countDown();
+            assertTrue(Uninterruptibles.awaitUninterruptibly(bothCallsMade, 5, TimeUnit.SECONDS));
+            callsMade.incrementAndGet();
+            return WALLET_ID;
+        });
+        final SessionValue<String> accountId = sessionBootstrap.declare("accountId", () -> {
+            bothCallsMade.countDown();
+            assertTrue(Uninterruptibles.awaitUninterruptibly(bothCallsMade, 5, TimeUnit.SECONDS));
+            callsMade.incrementAndGet();
+            return ACCOUNT_ID;
+        });
+
+        sessionBootstrap.start();
+        assertEquals(2, callsMade.get());
+
+        assertEquals(WALLET_ID, walletId.get());
+        assertEquals(ACCOUNT_ID, accountId.get());
+        assertEquals(2, callsMade.get());
+    }
+
+    @Test
+    public void testValueNotFetchedOnStartIsFetchedOnFirstUse() throws Exception {
+
+        final SessionValue<String> walletId = sessionBootstrap.declare("walletId", () -> {
+            if (callsMade.incrementAndGet() == 1) {
+                throw new ExchangeNetworkException("Houston, we have a problem.");
+            }
+            return WALLET_ID;
+        });
+
+        sessionBootstrap.start();
+        assertEquals(WALLET_ID, walletId.get());
+        assertEquals(WALLET_ID, walletId.get());
+        assertEquals(2, callsMade.get());
+    }
+
+    @Test
+    public void testSessionIsStartedByTheFirstValueAskedFor() throws Exception {
+
+        final SessionValue<String> walletId = sessionBootstrap.declare("walletId", () -> {
+            callsMade.incrementAndGet();
+            return WALLET_ID;
+        });
+        final SessionValue<String> accountId = sessionBootstrap.declare("accountId", () -> {
+            callsMade.incrementAndGet();
+            return ACCOUNT_ID;
+        });
+        assertEquals(0, callsMade.get());
+
+        assertEquals(WALLET_ID, walletId.get());
+        assertEquals(2, callsMade.get());
+
+        assertEquals(ACCOUNT_ID, accountId.get());
+        assertEquals(2, callsMade.get());
+    }
+
+    @Test
+    public void testValuesAreRefreshedInTheBackground() throws Exception {
+
+        final SessionBootstrap refreshingBootstrap =
+                new SessionBootstrap(resolveExecutor, refreshExecutor, 20, TimeUnit.MILLISECONDS);
+        final SessionValue<Integer> refreshes = refreshingBootstrap.declare("refreshes", callsMade::incrementAndGet);
+
+        refreshingBootstrap.start();
+        Thread.sleep(200);
+        assertTrue(refreshes.get() > 2);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import com.gazbert.bxbot.trading.api.OrderType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the Fill impl behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestFillImpl {
+
+    private static final String ID = "98765";
+    private static final String ORDER_ID = "abc_123_def_456_ghi_789";
+    private static final String MARKET_ID = "BTC_USD";
+    private static final Date CREATION_DATE = new Date();
+    private static final BigDecimal PRICE = new BigDecimal("671.91");
+    private static final BigDecimal QUANTITY = new BigDecimal("0.01433434");
+    private static final BigDecimal FEE = new BigDecimal("0.02408");
+
+
+    @Test
+    public void testFillIsInitialisedAsExpected() {
+
+        final FillImpl fill = new FillImpl(ID, ORDER_ID, MARKET_ID, OrderType.SELL, CREATION_DATE, PRICE, QUANTITY, FEE);
+
+        assertEquals(ID, fill.getId());
+        assertEquals(ORDER_ID, fill.getOrderId());
+        assertEquals(MARKET_ID, fill.getMarketId());
+        assertEquals(OrderType.SELL, fill.getType());
+        assertEquals(CREATION_DATE, fill.getCreationDate());
+        assertEquals(PRICE, fill.getPrice());
+        assertEquals(QUANTITY, fill.getQuantity());
+        assertEquals(FEE, fill.getFee());
+    }
+
+    @Test
+    public void testSettersWorkAsExpected() {
+
+        final FillImpl fill = new FillImpl(null, null, null, null, null, null, null, null);
+        assertEquals(null, fill.getId());
+        assertEquals(null, fill.getOrderId());
+        assertEquals(null, fill.getMarketId());
+        assertEquals(null, fill.getType());
+        assertEquals(null, fill.getCreationDate());
+        assertEquals(null, fill.getPrice());
+        assertEquals(null, fill.getQuantity());
+        assertEquals(null, fill.getFee());
+
+        fill.setId(ID);
+        assertEquals(ID, fill.getId());
+
+        fill.setOrderId(ORDER_ID);
+        assertEquals(ORDER_ID, fill.getOrderId());
+
+        fill.setMarketId(MARKET_ID);
+        assertEquals(MARKET_ID, fill.getMarketId());
+
+        fill.setType(OrderType.BUY);
+        assertEquals(OrderType.BUY, fill.getType());
+
+        fill.setCreationDate(CREATION_DATE);
+        assertEquals(CREATION_DATE, fill.getCreationDate());
+
+        fill.setPrice(PRICE);
+        assertEquals(PRICE, fill.getPrice());
+
+        fill.setQuantity(QUANTITY);
+        assertEquals(QUANTITY, fill.getQuantity());
+
+        fill.setFee(FEE);
+        assertEquals(FEE, fill.getFee());
+    }
+}
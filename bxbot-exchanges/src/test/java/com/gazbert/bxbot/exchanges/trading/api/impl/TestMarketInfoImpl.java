@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the Market Info impl behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestMarketInfoImpl {
+
+    private static final String MARKET_ID = "BTC_USD";
+    private static final BigDecimal PRICE_TICK_SIZE = new BigDecimal("0.01");
+    private static final BigDecimal QUANTITY_STEP_SIZE = new BigDecimal("0.00000001");
+    private static final BigDecimal MIN_QUANTITY = new BigDecimal("0.001");
+    private static final BigDecimal MIN_NOTIONAL = new BigDecimal("10");
+
+
+    @Test
+    public void testMarketInfoIsInitialisedAsExpected() {
+
+        final MarketInfoImpl marketInfo = new MarketInfoImpl(MARKET_ID, PRICE_TICK_SIZE, QUANTITY_STEP_SIZE,
+                MIN_QUANTITY, MIN_NOTIONAL);
+
+        assertEquals(MARKET_ID, marketInfo.getMarketId());
+        assertEquals(PRICE_TICK_SIZE, marketInfo.getPriceTickSize());
+        assertEquals(QUANTITY_STEP_SIZE, marketInfo.getQuantityStepSize());
+        assertEquals(MIN_QUANTITY, marketInfo.getMinQuantity());
+        assertEquals(MIN_NOTIONAL, marketInfo.getMinNotional());
+    }
+
+    @Test
+    public void testSettersWorkAsExpected() {
+
+        final MarketInfoImpl marketInfo = new MarketInfoImpl(null, null, null, null, null);
+        assertEquals(null, marketInfo.getMarketId());
+        assertEquals(null, marketInfo.getPriceTickSize());
+        assertEquals(null, marketInfo.getQuantityStepSize());
+        assertEquals(null, marketInfo.getMinQuantity());
+        assertEquals(null, marketInfo.getMinNotional());
+
+        marketInfo.setMarketId(MARKET_ID);
+        assertEquals(MARKET_ID, marketInfo.getMarketId());
+
+        marketInfo.setPriceTickSize(PRICE_TICK_SIZE);
+        assertEquals(PRICE_TICK_SIZE, marketInfo.getPriceTickSize());
+
+        marketInfo.setQuantityStepSize(QUANTITY_STEP_SIZE);
+        assertEquals(QUANTITY_STEP_SIZE, marketInfo.getQuantityStepSize());
+
+        marketInfo.setMinQuantity(MIN_QUANTITY);
+        assertEquals(MIN_QUANTITY, marketInfo.getMinQuantity());
+
+        marketInfo.setMinNotional(MIN_NOTIONAL);
+        assertEquals(MIN_NOTIONAL, marketInfo.getMinNotional());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.exchanges.trading.api.impl;
+
+import com.gazbert.bxbot.trading.api.OrderState;
+import com.gazbert.bxbot.trading.api.OrderType;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the Order Status impl behaves as expected.
+ *
+ * @author gazbert
+ */
+public class TestOrderStatusImpl {
+
+    private static final String ID = "abc_123_def_456_ghi_789";
+    private static final String MARKET_ID = "BTC_USD";
+    private static final BigDecimal PRICE = new BigDecimal("671.91");
+    private static final BigDecimal ORIGINAL_QUANTITY = new BigDecimal("0.01433434");
+    private static final BigDecimal FILLED_QUANTITY = new BigDecimal("0.00112112");
+    private static final BigDecimal AVERAGE_FILL_PRICE = new BigDecimal("671.90");
+
+
+    @Test
+    public void testOrderStatusIsInitialisedAsExpected() {
+
+        final OrderStatusImpl orderStatus = new OrderStatusImpl(ID, MARKET_ID, OrderType.SELL,
+                OrderState.PARTIALLY_FILLED, PRICE, ORIGINAL_QUANTITY, FILLED_QUANTITY, AVERAGE_FILL_PRICE);
+
+        assertEquals(ID, orderStatus.getId());
+        assertEquals(MARKET_ID, orderStatus.getMarketId());
+        assertEquals(OrderType.SELL, orderStatus.getType());
+        assertEquals(OrderState.PARTIALLY_FILLED, orderStatus.getState());
+        assertEquals(PRICE, orderStatus.getPrice());
+        assertEquals(ORIGINAL_QUANTITY, orderStatus.getOriginalQuantity());
+        assertEquals(FILLED_QUANTITY, orderStatus.getFilledQuantity());
+        assertEquals(AVERAGE_FILL_PRICE, orderStatus.getAverageFillPrice());
+    }
+
+    @Test
+    public void testSettersWorkAsExpected() {
+
+        final OrderStatusImpl orderStatus = new OrderStatusImpl(null, null, null, null, null, null, null, null);
+        assertEquals(null, orderStatus.getId());
+        assertEquals(null, orderStatus.getMarketId());
+        assertEquals(null, orderStatus.getType());
+        assertEquals(null, orderStatus.getState());
+        assertEquals(null, orderStatus.getPrice());
+        assertEquals(null, orderStatus.getOriginalQuantity());
+        assertEquals(null, orderStatus.getFilledQuantity());
+        assertEquals(null, orderStatus.getAverageFillPrice());
+
+        orderStatus.setId(ID);
+        assertEquals(ID, orderStatus.getId());
+
+        orderStatus.setMarketId(MARKET_ID);
+        assertEquals(MARKET_ID, orderStatus.getMarketId());
+
+        orderStatus.setType(OrderType.BUY);
+        assertEquals(OrderType.BUY, orderStatus.getType());
+
+        orderStatus.setState(OrderState.FILLED);
+        assertEquals(OrderState.FILLED, orderStatus.getState());
+
+        orderStatus.setPrice(PRICE);
+        assertEquals(PRICE, orderStatus.getPrice());
+
+        orderStatus.setOriginalQuantity(ORIGINAL_QUANTITY);
+        assertEquals(ORIGINAL_QUANTITY, orderStatus.getOriginalQuantity());
+
+        orderStatus.setFilledQuantity(FILLED_QUANTITY);
+        assertEquals(FILLED_QUANTITY, orderStatus.getFilledQuantity());
+
+        orderStatus.setAverageFillPrice(AVERAGE_FILL_PRICE);
+        assertEquals(AVERAGE_FILL_PRICE, orderStatus.getAverageFillPrice());
+    }
+}
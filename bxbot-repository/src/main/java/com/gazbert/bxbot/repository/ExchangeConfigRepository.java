@@ -24,8 +24,13 @@ package com.gazbert.bxbot.repository;
 
 import com.gazbert.bxbot.domain.exchange.ExchangeConfig;
 
+import java.util.List;
+
 /**
  * The Exchange configuration repository.
+ * <p>
+ * The bot can be configured to trade on more than 1 exchange. The get() and save() operations work on the first
+ * exchange in the config; findAll() returns every exchange in the order it was configured.
  *
  * @author gazbert
  */
@@ -33,5 +38,7 @@ public interface ExchangeConfigRepository {
 
     ExchangeConfig get();
 
+    List<ExchangeConfig> findAll();
+
     ExchangeConfig save(ExchangeConfig config);
 }
@@ -81,6 +81,10 @@ public class EngineConfigRepositoryXmlDatastore implements EngineConfigRepositor
         externalEngineConfig.setEmergencyStopCurrency(internalEngineConfig.getEmergencyStopCurrency());
         externalEngineConfig.setEmergencyStopBalance(internalEngineConfig.getEmergencyStopBalance());
         externalEngineConfig.setTradeCycleInterval(internalEngineConfig.getTradeCycleInterval());
+        externalEngineConfig.setMaxConcurrentStrategies(internalEngineConfig.getMaxConcurrentStrategies());
+        externalEngineConfig.setMinTradeCycleInterval(internalEngineConfig.getMinTradeCycleInterval());
+        externalEngineConfig.setMaxTradeCycleInterval(internalEngineConfig.getMaxTradeCycleInterval());
+        externalEngineConfig.setMarketDataPrefetchLeadTime(internalEngineConfig.getMarketDataPrefetchLeadTime());
         return externalEngineConfig;
     }
 
@@ -92,6 +96,10 @@ public class EngineConfigRepositoryXmlDatastore implements EngineConfigRepositor
         internalEngineConfig.setEmergencyStopCurrency(externalEngineConfig.getEmergencyStopCurrency());
         internalEngineConfig.setEmergencyStopBalance(externalEngineConfig.getEmergencyStopBalance());
         internalEngineConfig.setTradeCycleInterval(externalEngineConfig.getTradeCycleInterval());
+        internalEngineConfig.setMaxConcurrentStrategies(externalEngineConfig.getMaxConcurrentStrategies());
+        internalEngineConfig.setMinTradeCycleInterval(externalEngineConfig.getMinTradeCycleInterval());
+        internalEngineConfig.setMaxTradeCycleInterval(externalEngineConfig.getMaxTradeCycleInterval());
+        internalEngineConfig.setMarketDataPrefetchLeadTime(externalEngineConfig.getMarketDataPrefetchLeadTime());
         return internalEngineConfig;
     }
 }
@@ -35,11 +35,19 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static com.gazbert.bxbot.datastore.FileLocations.EXCHANGE_CONFIG_XML_FILENAME;
 import static com.gazbert.bxbot.datastore.FileLocations.EXCHANGE_CONFIG_XSD_FILENAME;
 
 /**
  * An XML datastore implementation of the Exchange config repository.
+ * <p>
+ * The exchange.xml root element is either a single &lt;exchange&gt; or an &lt;exchanges&gt; list of them. Saving
+ * updates the exchange with the same id (or the first exchange if the id is not set) and keeps the root element the
+ * config was loaded with.
  *
  * @author gazbert
  */
@@ -53,10 +61,16 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
     public ExchangeConfig get() {
 
         LOG.info(() -> "Fetching ExchangeConfig...");
+        return adaptInternalToExternalConfig(loadInternalExchangeConfigs().get(0));
+    }
 
-        final ExchangeType internalEngineConfig = ConfigurationManager.loadConfig(ExchangeType.class,
-                EXCHANGE_CONFIG_XML_FILENAME, EXCHANGE_CONFIG_XSD_FILENAME);
-        return adaptInternalToExternalConfig(internalEngineConfig);
+    @Override
+    public List<ExchangeConfig> findAll() {
+
+        LOG.info(() -> "Fetching all ExchangeConfig...");
+        return loadInternalExchangeConfigs().stream()
+                .map(ExchangeConfigRepositoryXmlDatastore::adaptInternalToExternalConfig)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -64,13 +78,59 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
 
         LOG.info(() -> "About to save ExchangeConfig: " + config);
 
-        final ExchangeType internalExchangeConfig = adaptExternalToInternalConfig(config);
-        ConfigurationManager.saveConfig(ExchangeType.class, internalExchangeConfig, EXCHANGE_CONFIG_XML_FILENAME);
+        final Object rootElement = loadInternalRootElement();
+        if (rootElement instanceof ExchangesType) {
+
+            final List<ExchangeType> internalExchangeConfigs = ((ExchangesType) rootElement).getExchanges();
+            final int index = indexOf(internalExchangeConfigs, config.getId());
+            final ExchangeType internalExchangeConfig =
+                    adaptExternalToInternalConfig(config, internalExchangeConfigs.get(index));
+            internalExchangeConfigs.set(index, internalExchangeConfig);
+            ConfigurationManager.saveConfig(ExchangesType.class, (ExchangesType) rootElement,
+                    EXCHANGE_CONFIG_XML_FILENAME);
+
+            return adaptInternalToExternalConfig(loadInternalExchangeConfigs().get(index));
+
+        } else {
+            final ExchangeType internalExchangeConfig =
+                    adaptExternalToInternalConfig(config, (ExchangeType) rootElement);
+            ConfigurationManager.saveConfig(ExchangeType.class, internalExchangeConfig, EXCHANGE_CONFIG_XML_FILENAME);
+
+            return adaptInternalToExternalConfig(loadInternalExchangeConfigs().get(0));
+        }
+    }
 
-        final ExchangeType internalEngineConfig = ConfigurationManager.loadConfig(ExchangeType.class,
+    // ------------------------------------------------------------------------------------------------
+    // Util methods
+    // ------------------------------------------------------------------------------------------------
+
+    private static Object loadInternalRootElement() {
+        return ConfigurationManager.loadConfigRootElement(ExchangeType.class,
                 EXCHANGE_CONFIG_XML_FILENAME, EXCHANGE_CONFIG_XSD_FILENAME);
+    }
+
+    private static List<ExchangeType> loadInternalExchangeConfigs() {
+        final Object rootElement = loadInternalRootElement();
+        if (rootElement instanceof ExchangesType) {
+            return ((ExchangesType) rootElement).getExchanges();
+        } else {
+            return Collections.singletonList((ExchangeType) rootElement);
+        }
+    }
 
-        return adaptInternalToExternalConfig(internalEngineConfig);
+    /*
+     * Returns the index of the exchange with the given id; the first exchange is used if id is not set.
+     */
+    private static int indexOf(List<ExchangeType> internalExchangeConfigs, String id) {
+        if (id == null) {
+            return 0;
+        }
+        for (int i = 0; i < internalExchangeConfigs.size(); i++) {
+            if (id.equals(internalExchangeConfigs.get(i).getId())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Exchange id [" + id + "] was not found in the Exchange config.");
     }
 
     // ------------------------------------------------------------------------------------------------
@@ -87,6 +147,10 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
         networkConfig.setConnectionTimeout(internalExchangeConfig.getNetworkConfig().getConnectionTimeout());
         networkConfig.setNonFatalErrorCodes(internalExchangeConfig.getNetworkConfig().getNonFatalErrorCodes().getCodes());
         networkConfig.setNonFatalErrorMessages(internalExchangeConfig.getNetworkConfig().getNonFatalErrorMessages().getMessages());
+        networkConfig.setMaxRetries(internalExchangeConfig.getNetworkConfig().getMaxRetries());
+        networkConfig.setRetryBackoff(internalExchangeConfig.getNetworkConfig().getRetryBackoff());
+        networkConfig.setCallDeadline(internalExchangeConfig.getNetworkConfig().getCallDeadline());
+        networkConfig.setKeepAliveInterval(internalExchangeConfig.getNetworkConfig().getKeepAliveInterval());
 
         final OptionalConfig optionalConfig = new OptionalConfig();
         final OptionalConfigType internalOptionalConfig = internalExchangeConfig.getOptionalConfig();
@@ -96,6 +160,7 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
         }
 
         final ExchangeConfig exchangeConfig = new ExchangeConfig();
+        exchangeConfig.setId(internalExchangeConfig.getId());
         exchangeConfig.setAuthenticationConfig(authenticationConfig);
         exchangeConfig.setExchangeName(internalExchangeConfig.getName());
         exchangeConfig.setExchangeAdapter(internalExchangeConfig.getAdapter());
@@ -104,7 +169,8 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
         return exchangeConfig;
     }
 
-    private static ExchangeType adaptExternalToInternalConfig(ExchangeConfig externalExchangeConfig) {
+    private static ExchangeType adaptExternalToInternalConfig(ExchangeConfig externalExchangeConfig,
+                                                              ExchangeType existingExchangeConfig) {
 
         final NonFatalErrorCodesType nonFatalErrorCodes = new NonFatalErrorCodesType();
         nonFatalErrorCodes.getCodes().addAll(externalExchangeConfig.getNetworkConfig().getNonFatalErrorCodes());
@@ -114,6 +180,10 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
         networkConfig.setConnectionTimeout(externalExchangeConfig.getNetworkConfig().getConnectionTimeout());
         networkConfig.setNonFatalErrorCodes(nonFatalErrorCodes);
         networkConfig.setNonFatalErrorMessages(nonFatalErrorMessages);
+        networkConfig.setMaxRetries(externalExchangeConfig.getNetworkConfig().getMaxRetries());
+        networkConfig.setRetryBackoff(externalExchangeConfig.getNetworkConfig().getRetryBackoff());
+        networkConfig.setCallDeadline(externalExchangeConfig.getNetworkConfig().getCallDeadline());
+        networkConfig.setKeepAliveInterval(externalExchangeConfig.getNetworkConfig().getKeepAliveInterval());
 
         final OptionalConfigType optionalConfig = new OptionalConfigType();
         externalExchangeConfig.getOptionalConfig().getItems().forEach((key, value) -> {
@@ -124,15 +194,14 @@ public class ExchangeConfigRepositoryXmlDatastore implements ExchangeConfigRepos
         });
 
         final ExchangeType exchangeConfig = new ExchangeType();
+        exchangeConfig.setId(existingExchangeConfig.getId());
         exchangeConfig.setName(externalExchangeConfig.getExchangeName());
         exchangeConfig.setAdapter(externalExchangeConfig.getExchangeAdapter());
         exchangeConfig.setNetworkConfig(networkConfig);
         exchangeConfig.setOptionalConfig(optionalConfig);
 
         // TODO - Currently, we don't accept AuthenticationConfig - security risk?
-        // We load the existing auth config and merge it in with the updated stuff...
-        final ExchangeType existingExchangeConfig = ConfigurationManager.loadConfig(ExchangeType.class,
-                EXCHANGE_CONFIG_XML_FILENAME, EXCHANGE_CONFIG_XSD_FILENAME);
+        // We use the existing auth config and merge it in with the updated stuff...
         exchangeConfig.setAuthenticationConfig(existingExchangeConfig.getAuthenticationConfig());
 
         return exchangeConfig;
@@ -195,6 +195,7 @@ public class MarketConfigRepositoryXmlDatastore implements MarketConfigRepositor
             marketConfig.setBaseCurrency(item.getBaseCurrency());
             marketConfig.setCounterCurrency(item.getCounterCurrency());
             marketConfig.setTradingStrategyId(item.getTradingStrategyId());
+            marketConfig.setExchangeId(item.getExchangeId());
 
             marketConfigItems.add(marketConfig);
         });
@@ -216,6 +217,7 @@ public class MarketConfigRepositoryXmlDatastore implements MarketConfigRepositor
             marketConfig.setBaseCurrency(internalMarketConfig.getBaseCurrency());
             marketConfig.setCounterCurrency(internalMarketConfig.getCounterCurrency());
             marketConfig.setTradingStrategyId(internalMarketConfig.getTradingStrategyId());
+            marketConfig.setExchangeId(internalMarketConfig.getExchangeId());
 
             return marketConfig;
         }
@@ -231,6 +233,7 @@ public class MarketConfigRepositoryXmlDatastore implements MarketConfigRepositor
         marketType.setBaseCurrency(externalMarketConfig.getBaseCurrency());
         marketType.setCounterCurrency(externalMarketConfig.getCounterCurrency());
         marketType.setTradingStrategyId(externalMarketConfig.getTradingStrategyId());
+        marketType.setExchangeId(externalMarketConfig.getExchangeId());
         return marketType;
     }
 
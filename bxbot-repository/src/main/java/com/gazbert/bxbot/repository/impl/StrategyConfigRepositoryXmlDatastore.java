@@ -193,6 +193,7 @@ public class StrategyConfigRepositoryXmlDatastore implements StrategyConfigRepos
             strategyConfig.setName(item.getName());
             strategyConfig.setDescription(item.getDescription());
             strategyConfig.setClassName(item.getClassName());
+            strategyConfig.setExecutionTimeout(item.getExecutionTimeout());
 
             item.getOptionalConfig().getConfigItem().forEach(internalConfigItem ->
                     strategyConfig.getConfigItems().put(internalConfigItem.getName(), internalConfigItem.getValue()));
@@ -215,6 +216,7 @@ public class StrategyConfigRepositoryXmlDatastore implements StrategyConfigRepos
             strategyConfig.setName(internalStrategyConfig.getName());
             strategyConfig.setDescription(internalStrategyConfig.getDescription());
             strategyConfig.setClassName(internalStrategyConfig.getClassName());
+            strategyConfig.setExecutionTimeout(internalStrategyConfig.getExecutionTimeout());
 
             internalStrategyConfig.getOptionalConfig().getConfigItem().forEach(internalConfigItem ->
                     strategyConfig.getConfigItems().put(internalConfigItem.getName(), internalConfigItem.getValue()));
@@ -239,6 +241,7 @@ public class StrategyConfigRepositoryXmlDatastore implements StrategyConfigRepos
         strategyType.setName(externalStrategyConfig.getName());
         strategyType.setDescription(externalStrategyConfig.getDescription());
         strategyType.setClassName(externalStrategyConfig.getClassName());
+        strategyType.setExecutionTimeout(externalStrategyConfig.getExecutionTimeout());
         strategyType.setOptionalConfig(configurationType);
         return strategyType;
     }
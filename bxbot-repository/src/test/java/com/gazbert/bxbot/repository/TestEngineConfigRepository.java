@@ -57,6 +57,10 @@ public class TestEngineConfigRepository {
     private static final String ENGINE_EMERGENCY_STOP_CURRENCY = "BTC";
     private static final BigDecimal ENGINE_EMERGENCY_STOP_BALANCE = new BigDecimal("0.5");
     private static final int ENGINE_TRADE_CYCLE_INTERVAL = 60;
+    private static final Integer ENGINE_MAX_CONCURRENT_STRATEGIES = 4;
+    private static final Integer ENGINE_MIN_TRADE_CYCLE_INTERVAL = 10;
+    private static final Integer ENGINE_MAX_TRADE_CYCLE_INTERVAL = 300;
+    private static final Integer ENGINE_MARKET_DATA_PREFETCH_LEAD_TIME = 500;
 
 
     @Before
@@ -82,6 +86,10 @@ public class TestEngineConfigRepository {
         assertThat(engineConfig.getEmergencyStopCurrency()).isEqualTo(ENGINE_EMERGENCY_STOP_CURRENCY);
         assertThat(engineConfig.getEmergencyStopBalance()).isEqualTo(ENGINE_EMERGENCY_STOP_BALANCE);
         assertThat(engineConfig.getTradeCycleInterval()).isEqualTo(ENGINE_TRADE_CYCLE_INTERVAL);
+        assertThat(engineConfig.getMaxConcurrentStrategies()).isEqualTo(ENGINE_MAX_CONCURRENT_STRATEGIES);
+        assertThat(engineConfig.getMinTradeCycleInterval()).isEqualTo(ENGINE_MIN_TRADE_CYCLE_INTERVAL);
+        assertThat(engineConfig.getMaxTradeCycleInterval()).isEqualTo(ENGINE_MAX_TRADE_CYCLE_INTERVAL);
+        assertThat(engineConfig.getMarketDataPrefetchLeadTime()).isEqualTo(ENGINE_MARKET_DATA_PREFETCH_LEAD_TIME);
 
         PowerMock.verifyAll();
     }
@@ -107,6 +115,10 @@ public class TestEngineConfigRepository {
         assertThat(savedConfig.getEmergencyStopCurrency()).isEqualTo(ENGINE_EMERGENCY_STOP_CURRENCY);
         assertThat(savedConfig.getEmergencyStopBalance()).isEqualTo(ENGINE_EMERGENCY_STOP_BALANCE);
         assertThat(savedConfig.getTradeCycleInterval()).isEqualTo(ENGINE_TRADE_CYCLE_INTERVAL);
+        assertThat(savedConfig.getMaxConcurrentStrategies()).isEqualTo(ENGINE_MAX_CONCURRENT_STRATEGIES);
+        assertThat(savedConfig.getMinTradeCycleInterval()).isEqualTo(ENGINE_MIN_TRADE_CYCLE_INTERVAL);
+        assertThat(savedConfig.getMaxTradeCycleInterval()).isEqualTo(ENGINE_MAX_TRADE_CYCLE_INTERVAL);
+        assertThat(savedConfig.getMarketDataPrefetchLeadTime()).isEqualTo(ENGINE_MARKET_DATA_PREFETCH_LEAD_TIME);
 
         PowerMock.verifyAll();
     }
@@ -122,6 +134,10 @@ public class TestEngineConfigRepository {
         internalConfig.setEmergencyStopBalance(ENGINE_EMERGENCY_STOP_BALANCE);
         internalConfig.setEmergencyStopCurrency(ENGINE_EMERGENCY_STOP_CURRENCY);
         internalConfig.setTradeCycleInterval(ENGINE_TRADE_CYCLE_INTERVAL);
+        internalConfig.setMaxConcurrentStrategies(ENGINE_MAX_CONCURRENT_STRATEGIES);
+        internalConfig.setMinTradeCycleInterval(ENGINE_MIN_TRADE_CYCLE_INTERVAL);
+        internalConfig.setMaxTradeCycleInterval(ENGINE_MAX_TRADE_CYCLE_INTERVAL);
+        internalConfig.setMarketDataPrefetchLeadTime(ENGINE_MARKET_DATA_PREFETCH_LEAD_TIME);
         return internalConfig;
     }
 
@@ -132,6 +148,10 @@ public class TestEngineConfigRepository {
         externalConfig.setEmergencyStopBalance(ENGINE_EMERGENCY_STOP_BALANCE);
         externalConfig.setEmergencyStopCurrency(ENGINE_EMERGENCY_STOP_CURRENCY);
         externalConfig.setTradeCycleInterval(ENGINE_TRADE_CYCLE_INTERVAL);
+        externalConfig.setMaxConcurrentStrategies(ENGINE_MAX_CONCURRENT_STRATEGIES);
+        externalConfig.setMinTradeCycleInterval(ENGINE_MIN_TRADE_CYCLE_INTERVAL);
+        externalConfig.setMaxTradeCycleInterval(ENGINE_MAX_TRADE_CYCLE_INTERVAL);
+        externalConfig.setMarketDataPrefetchLeadTime(ENGINE_MARKET_DATA_PREFETCH_LEAD_TIME);
         return externalConfig;
     }
 }
@@ -56,7 +56,10 @@ import static org.easymock.EasyMock.*;
 @PowerMockIgnore({"javax.management.*"})
 public class TestExchangeConfigRepository {
 
+    private static final String EXCHANGE_ID = "bitstamp";
     private static final String EXCHANGE_NAME = "Bitstamp";
+    private static final String EXCHANGE_2_ID = "gdax";
+    private static final String EXCHANGE_2_NAME = "GDAX";
     private static final String EXCHANGE_ADAPTER = "com.gazbert.bxbot.exchanges.TestExchangeAdapter";
 
     private static final String API_KEY_CONFIG_ITEM_KEY = "api-key";
@@ -66,6 +69,10 @@ public class TestExchangeConfigRepository {
     private static final String SECRET_CONFIG_ITEM_VALUE = "secret-key";
 
     private static final Integer CONNECTION_TIMEOUT = 30;
+    private static final Integer MAX_RETRIES = 2;
+    private static final Integer RETRY_BACKOFF = 250;
+    private static final Integer CALL_DEADLINE = 10000;
+    private static final Integer KEEP_ALIVE_INTERVAL = 4000;
     private static final List<Integer> NON_FATAL_ERROR_CODES = Arrays.asList(502, 503, 504);
     private static final List<String> NON_FATAL_ERROR_MESSAGES = Arrays.asList(
             "Connection refused", "Connection reset", "Remote host closed connection during handshake");
@@ -84,7 +91,7 @@ public class TestExchangeConfigRepository {
     @Test
     public void whenGetCalledThenReturnExchangeConfig() throws Exception {
 
-        expect(ConfigurationManager.loadConfig(
+        expect(ConfigurationManager.loadConfigRootElement(
                 eq(ExchangeType.class),
                 eq(EXCHANGE_CONFIG_XML_FILENAME),
                 eq(EXCHANGE_CONFIG_XSD_FILENAME))).
@@ -104,6 +111,10 @@ public class TestExchangeConfigRepository {
         assertThat(exchangeConfig.getNetworkConfig().getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT);
         assertThat(exchangeConfig.getNetworkConfig().getNonFatalErrorCodes()).isEqualTo(NON_FATAL_ERROR_CODES);
         assertThat(exchangeConfig.getNetworkConfig().getNonFatalErrorMessages()).isEqualTo(NON_FATAL_ERROR_MESSAGES);
+        assertThat(exchangeConfig.getNetworkConfig().getMaxRetries()).isEqualTo(MAX_RETRIES);
+        assertThat(exchangeConfig.getNetworkConfig().getRetryBackoff()).isEqualTo(RETRY_BACKOFF);
+        assertThat(exchangeConfig.getNetworkConfig().getCallDeadline()).isEqualTo(CALL_DEADLINE);
+        assertThat(exchangeConfig.getNetworkConfig().getKeepAliveInterval()).isEqualTo(KEEP_ALIVE_INTERVAL);
         assertThat(exchangeConfig.getOptionalConfig().getItems().get(BUY_FEE_CONFIG_ITEM_KEY)).isEqualTo(BUY_FEE_CONFIG_ITEM_VALUE);
         assertThat(exchangeConfig.getOptionalConfig().getItems().get(SELL_FEE_CONFIG_ITEM_KEY)).isEqualTo(SELL_FEE_CONFIG_ITEM_VALUE);
 
@@ -113,7 +124,7 @@ public class TestExchangeConfigRepository {
     @Test
     public void whenSaveCalledThenExpectRepositoryToSaveItAndReturnSavedExchangeConfig() throws Exception {
 
-        expect(ConfigurationManager.loadConfig(
+        expect(ConfigurationManager.loadConfigRootElement(
                 eq(ExchangeType.class),
                 eq(EXCHANGE_CONFIG_XML_FILENAME),
                 eq(EXCHANGE_CONFIG_XSD_FILENAME))).
@@ -121,7 +132,7 @@ public class TestExchangeConfigRepository {
 
         ConfigurationManager.saveConfig(eq(ExchangeType.class), anyObject(ExchangeType.class), eq(EXCHANGE_CONFIG_XML_FILENAME));
 
-        expect(ConfigurationManager.loadConfig(
+        expect(ConfigurationManager.loadConfigRootElement(
                 eq(ExchangeType.class),
                 eq(EXCHANGE_CONFIG_XML_FILENAME),
                 eq(EXCHANGE_CONFIG_XSD_FILENAME))).
@@ -141,12 +152,113 @@ public class TestExchangeConfigRepository {
         assertThat(savedExchangeConfig.getNetworkConfig().getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT);
         assertThat(savedExchangeConfig.getNetworkConfig().getNonFatalErrorCodes()).isEqualTo(NON_FATAL_ERROR_CODES);
         assertThat(savedExchangeConfig.getNetworkConfig().getNonFatalErrorMessages()).isEqualTo(NON_FATAL_ERROR_MESSAGES);
+        assertThat(savedExchangeConfig.getNetworkConfig().getMaxRetries()).isEqualTo(MAX_RETRIES);
+        assertThat(savedExchangeConfig.getNetworkConfig().getRetryBackoff()).isEqualTo(RETRY_BACKOFF);
+        assertThat(savedExchangeConfig.getNetworkConfig().getCallDeadline()).isEqualTo(CALL_DEADLINE);
+        assertThat(savedExchangeConfig.getNetworkConfig().getKeepAliveInterval()).isEqualTo(KEEP_ALIVE_INTERVAL);
         assertThat(savedExchangeConfig.getOptionalConfig().getItems().get(BUY_FEE_CONFIG_ITEM_KEY)).isEqualTo(BUY_FEE_CONFIG_ITEM_VALUE);
         assertThat(savedExchangeConfig.getOptionalConfig().getItems().get(SELL_FEE_CONFIG_ITEM_KEY)).isEqualTo(SELL_FEE_CONFIG_ITEM_VALUE);
 
         PowerMock.verifyAll();
     }
 
+    @Test
+    public void whenFindAllCalledThenReturnAllExchangeConfig() throws Exception {
+
+        expect(ConfigurationManager.loadConfigRootElement(
+                eq(ExchangeType.class),
+                eq(EXCHANGE_CONFIG_XML_FILENAME),
+                eq(EXCHANGE_CONFIG_XSD_FILENAME))).
+                andReturn(someInternalExchangesConfig());
+
+        PowerMock.replayAll();
+
+        final ExchangeConfigRepository exchangeConfigRepository = new ExchangeConfigRepositoryXmlDatastore();
+        final List<ExchangeConfig> exchangeConfigs = exchangeConfigRepository.findAll();
+
+        assertThat(exchangeConfigs.size()).isEqualTo(2);
+        assertThat(exchangeConfigs.get(0).getId()).isEqualTo(EXCHANGE_ID);
+        assertThat(exchangeConfigs.get(0).getExchangeName()).isEqualTo(EXCHANGE_NAME);
+        assertThat(exchangeConfigs.get(1).getId()).isEqualTo(EXCHANGE_2_ID);
+        assertThat(exchangeConfigs.get(1).getExchangeName()).isEqualTo(EXCHANGE_2_NAME);
+        assertThat(exchangeConfigs.get(1).getAuthenticationConfig().getItems().get(API_KEY_CONFIG_ITEM_KEY))
+                .isEqualTo(API_KEY_CONFIG_ITEM_VALUE);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void whenFindAllCalledForSingleExchangeConfigThenReturnIt() throws Exception {
+
+        expect(ConfigurationManager.loadConfigRootElement(
+                eq(ExchangeType.class),
+                eq(EXCHANGE_CONFIG_XML_FILENAME),
+                eq(EXCHANGE_CONFIG_XSD_FILENAME))).
+                andReturn(someInternalExchangeConfig());
+
+        PowerMock.replayAll();
+
+        final ExchangeConfigRepository exchangeConfigRepository = new ExchangeConfigRepositoryXmlDatastore();
+        final List<ExchangeConfig> exchangeConfigs = exchangeConfigRepository.findAll();
+
+        assertThat(exchangeConfigs.size()).isEqualTo(1);
+        assertThat(exchangeConfigs.get(0).getId()).isNull();
+        assertThat(exchangeConfigs.get(0).getExchangeName()).isEqualTo(EXCHANGE_NAME);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test
+    public void whenSaveCalledForMultiExchangeConfigThenExpectRepositoryToUpdateMatchingExchange() throws Exception {
+
+        expect(ConfigurationManager.loadConfigRootElement(
+                eq(ExchangeType.class),
+                eq(EXCHANGE_CONFIG_XML_FILENAME),
+                eq(EXCHANGE_CONFIG_XSD_FILENAME))).
+                andReturn(someInternalExchangesConfig());
+
+        ConfigurationManager.saveConfig(eq(ExchangesType.class), anyObject(ExchangesType.class), eq(EXCHANGE_CONFIG_XML_FILENAME));
+
+        expect(ConfigurationManager.loadConfigRootElement(
+                eq(ExchangeType.class),
+                eq(EXCHANGE_CONFIG_XML_FILENAME),
+                eq(EXCHANGE_CONFIG_XSD_FILENAME))).
+                andReturn(someInternalExchangesConfig());
+
+        PowerMock.replayAll();
+
+        final ExchangeConfig updatedExchangeConfig = withSomeExternalExchangeConfig();
+        updatedExchangeConfig.setId(EXCHANGE_2_ID);
+
+        final ExchangeConfigRepository exchangeConfigRepository = new ExchangeConfigRepositoryXmlDatastore();
+        final ExchangeConfig savedExchangeConfig = exchangeConfigRepository.save(updatedExchangeConfig);
+
+        assertThat(savedExchangeConfig.getId()).isEqualTo(EXCHANGE_2_ID);
+        assertThat(savedExchangeConfig.getExchangeName()).isEqualTo(EXCHANGE_2_NAME);
+        assertThat(savedExchangeConfig.getAuthenticationConfig().getItems().get(API_KEY_CONFIG_ITEM_KEY))
+                .isEqualTo(API_KEY_CONFIG_ITEM_VALUE);
+
+        PowerMock.verifyAll();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenSaveCalledWithUnknownExchangeIdThenExpectIllegalArgumentException() throws Exception {
+
+        expect(ConfigurationManager.loadConfigRootElement(
+                eq(ExchangeType.class),
+                eq(EXCHANGE_CONFIG_XML_FILENAME),
+                eq(EXCHANGE_CONFIG_XSD_FILENAME))).
+                andReturn(someInternalExchangesConfig());
+
+        PowerMock.replayAll();
+
+        final ExchangeConfig updatedExchangeConfig = withSomeExternalExchangeConfig();
+        updatedExchangeConfig.setId("unknown-exchange-id");
+
+        final ExchangeConfigRepository exchangeConfigRepository = new ExchangeConfigRepositoryXmlDatastore();
+        exchangeConfigRepository.save(updatedExchangeConfig);
+    }
+
     // ------------------------------------------------------------------------------------------------
     // Private utils
     // ------------------------------------------------------------------------------------------------
@@ -171,6 +283,10 @@ public class TestExchangeConfigRepository {
         networkConfig.setConnectionTimeout(CONNECTION_TIMEOUT);
         networkConfig.setNonFatalErrorCodes(nonFatalErrorCodes);
         networkConfig.setNonFatalErrorMessages(nonFatalErrorMessages);
+        networkConfig.setMaxRetries(MAX_RETRIES);
+        networkConfig.setRetryBackoff(RETRY_BACKOFF);
+        networkConfig.setCallDeadline(CALL_DEADLINE);
+        networkConfig.setKeepAliveInterval(KEEP_ALIVE_INTERVAL);
 
         final ConfigItemType buyFee = new ConfigItemType();
         buyFee.setName(BUY_FEE_CONFIG_ITEM_KEY);
@@ -191,6 +307,21 @@ public class TestExchangeConfigRepository {
         return exchangeConfig;
     }
 
+    private static ExchangesType someInternalExchangesConfig() {
+
+        final ExchangeType exchange1Config = someInternalExchangeConfig();
+        exchange1Config.setId(EXCHANGE_ID);
+
+        final ExchangeType exchange2Config = someInternalExchangeConfig();
+        exchange2Config.setId(EXCHANGE_2_ID);
+        exchange2Config.setName(EXCHANGE_2_NAME);
+
+        final ExchangesType exchangesConfig = new ExchangesType();
+        exchangesConfig.getExchanges().add(exchange1Config);
+        exchangesConfig.getExchanges().add(exchange2Config);
+        return exchangesConfig;
+    }
+
     private static ExchangeConfig withSomeExternalExchangeConfig() {
 
         // We don't permit updating of AuthenticationConfig in the service - security risk
@@ -203,6 +334,10 @@ public class TestExchangeConfigRepository {
         networkConfig.setConnectionTimeout(CONNECTION_TIMEOUT);
         networkConfig.setNonFatalErrorCodes(NON_FATAL_ERROR_CODES);
         networkConfig.setNonFatalErrorMessages(NON_FATAL_ERROR_MESSAGES);
+        networkConfig.setMaxRetries(MAX_RETRIES);
+        networkConfig.setRetryBackoff(RETRY_BACKOFF);
+        networkConfig.setCallDeadline(CALL_DEADLINE);
+        networkConfig.setKeepAliveInterval(KEEP_ALIVE_INTERVAL);
 
         final OptionalConfig optionalConfig = new OptionalConfig();
         optionalConfig.getItems().put(BUY_FEE_CONFIG_ITEM_KEY, BUY_FEE_CONFIG_ITEM_VALUE);
@@ -72,6 +72,7 @@ public class TestMarketConfigRepository {
     private static final String MARKET_2_COUNTER_CURRENCY = "GBP";
     private static final boolean MARKET_2_IS_ENABLED = false;
     private static final String MARKET_2_TRADING_STRATEGY_ID = "scalper";
+    private static final String MARKET_2_EXCHANGE_ID = "gdax";
 
     private static final String NEW_MARKET_NAME = "BTC/ETH";
     private static final String NEW_MARKET_BASE_CURRENCY = "BTC";
@@ -107,6 +108,7 @@ public class TestMarketConfigRepository {
         assertThat(marketConfigItems.get(0).getBaseCurrency()).isEqualTo(MARKET_1_BASE_CURRENCY);
         assertThat(marketConfigItems.get(0).getCounterCurrency()).isEqualTo(MARKET_1_COUNTER_CURRENCY);
         assertThat(marketConfigItems.get(0).getTradingStrategyId()).isEqualTo(MARKET_1_TRADING_STRATEGY_ID);
+        assertThat(marketConfigItems.get(0).getExchangeId()).isNull();
 
         assertThat(marketConfigItems.get(1).getId()).isEqualTo(MARKET_2_ID);
         assertThat(marketConfigItems.get(1).getName()).isEqualTo(MARKET_2_NAME);
@@ -114,6 +116,7 @@ public class TestMarketConfigRepository {
         assertThat(marketConfigItems.get(1).getBaseCurrency()).isEqualTo(MARKET_2_BASE_CURRENCY);
         assertThat(marketConfigItems.get(1).getCounterCurrency()).isEqualTo(MARKET_2_COUNTER_CURRENCY);
         assertThat(marketConfigItems.get(1).getTradingStrategyId()).isEqualTo(MARKET_2_TRADING_STRATEGY_ID);
+        assertThat(marketConfigItems.get(1).getExchangeId()).isEqualTo(MARKET_2_EXCHANGE_ID);
 
         PowerMock.verifyAll();
     }
@@ -319,6 +322,7 @@ public class TestMarketConfigRepository {
         marketType2.setBaseCurrency(MARKET_2_BASE_CURRENCY);
         marketType2.setCounterCurrency(MARKET_2_COUNTER_CURRENCY);
         marketType2.setTradingStrategyId(MARKET_2_TRADING_STRATEGY_ID);
+        marketType2.setExchangeId(MARKET_2_EXCHANGE_ID);
 
         final MarketsType marketsType = new MarketsType();
         marketsType.getMarkets().add(marketType1);
@@ -67,6 +67,7 @@ public class TestStrategyConfigRepository {
     private static final String STRAT_NAME_1 = "MACD Long Position Algo";
     private static final String STRAT_DESCRIPTION_1 = "Uses MACD as indicator and takes long position in base currency.";
     private static final String STRAT_CLASSNAME_1 = "com.gazbert.nova.algos.MacdLongBase";
+    private static final Integer STRAT_EXECUTION_TIMEOUT_1 = 20;
 
     private static final String STRAT_ID_2 = "long-scalper";
     private static final String STRAT_NAME_2 = "Long Position Scalper Algo";
@@ -108,6 +109,7 @@ public class TestStrategyConfigRepository {
         assertThat(strategyConfigItems.get(0).getName()).isEqualTo(STRAT_NAME_1);
         assertThat(strategyConfigItems.get(0).getDescription()).isEqualTo(STRAT_DESCRIPTION_1);
         assertThat(strategyConfigItems.get(0).getClassName()).isEqualTo(STRAT_CLASSNAME_1);
+        assertThat(strategyConfigItems.get(0).getExecutionTimeout()).isEqualTo(STRAT_EXECUTION_TIMEOUT_1);
         assertThat(strategyConfigItems.get(0).getConfigItems().containsKey(BUY_PRICE_CONFIG_ITEM_KEY));
         assertThat(strategyConfigItems.get(0).getConfigItems().containsValue(BUY_PRICE_CONFIG_ITEM_VALUE));
         assertThat(strategyConfigItems.get(0).getConfigItems().containsKey(AMOUNT_TO_BUY_CONFIG_ITEM_KEY));
@@ -117,6 +119,7 @@ public class TestStrategyConfigRepository {
         assertThat(strategyConfigItems.get(1).getName()).isEqualTo(STRAT_NAME_2);
         assertThat(strategyConfigItems.get(1).getDescription()).isEqualTo(STRAT_DESCRIPTION_2);
         assertThat(strategyConfigItems.get(1).getClassName()).isEqualTo(STRAT_CLASSNAME_2);
+        assertThat(strategyConfigItems.get(1).getExecutionTimeout()).isNull();
         assertThat(strategyConfigItems.get(1).getConfigItems().containsKey(BUY_PRICE_CONFIG_ITEM_KEY));
         assertThat(strategyConfigItems.get(1).getConfigItems().containsValue(BUY_PRICE_CONFIG_ITEM_VALUE));
         assertThat(strategyConfigItems.get(1).getConfigItems().containsKey(AMOUNT_TO_BUY_CONFIG_ITEM_KEY));
@@ -143,6 +146,7 @@ public class TestStrategyConfigRepository {
         assertThat(strategyConfig.getName()).isEqualTo(STRAT_NAME_1);
         assertThat(strategyConfig.getDescription()).isEqualTo(STRAT_DESCRIPTION_1);
         assertThat(strategyConfig.getClassName()).isEqualTo(STRAT_CLASSNAME_1);
+        assertThat(strategyConfig.getExecutionTimeout()).isEqualTo(STRAT_EXECUTION_TIMEOUT_1);
         assertThat(strategyConfig.getConfigItems().containsKey(BUY_PRICE_CONFIG_ITEM_KEY));
         assertThat(strategyConfig.getConfigItems().containsValue(BUY_PRICE_CONFIG_ITEM_VALUE));
         assertThat(strategyConfig.getConfigItems().containsKey(AMOUNT_TO_BUY_CONFIG_ITEM_KEY));
@@ -339,6 +343,7 @@ public class TestStrategyConfigRepository {
         strategyType1.setName(STRAT_NAME_1);
         strategyType1.setDescription(STRAT_DESCRIPTION_1);
         strategyType1.setClassName(STRAT_CLASSNAME_1);
+        strategyType1.setExecutionTimeout(STRAT_EXECUTION_TIMEOUT_1);
         strategyType1.setOptionalConfig(configurationType);
 
         final StrategyType strategyType2 = new StrategyType();
@@ -23,6 +23,7 @@
 
 package com.gazbert.bxbot.rest.api.v1.runtime;
 
+import com.gazbert.bxbot.core.engine.TradingEngine;
 import com.gazbert.bxbot.domain.bot.BotStatus;
 import com.gazbert.bxbot.domain.engine.EngineConfig;
 import com.gazbert.bxbot.services.EngineConfigService;
@@ -49,11 +50,15 @@ public class BotStatusController extends AbstractRuntimeController {
 
     private static final Logger LOG = LogManager.getLogger();
     private static final String STATUS_RESOURCE_PATH = "/status";
+    private static final String RUNNING_STATUS = "running";
+    private static final String STOPPED_STATUS = "stopped";
     private final EngineConfigService engineConfigService;
+    private final TradingEngine tradingEngine;
 
     @Autowired
-    public BotStatusController(EngineConfigService engineConfigService) {
+    public BotStatusController(EngineConfigService engineConfigService, TradingEngine tradingEngine) {
         this.engineConfigService = engineConfigService;
+        this.tradingEngine = tradingEngine;
     }
 
     /**
@@ -69,11 +74,10 @@ public class BotStatusController extends AbstractRuntimeController {
 
         final EngineConfig engineConfig = engineConfigService.getEngineConfig();
 
-        // TODO - hacked up for now until work properly starts on runtime features ;-)
         final BotStatus botStatus = new BotStatus();
         botStatus.setBotId(engineConfig.getBotId());
         botStatus.setDisplayName(engineConfig.getBotName());
-        botStatus.setStatus("running"); // use enum for defining states at some point
+        botStatus.setStatus(tradingEngine.isRunning() ? RUNNING_STATUS : STOPPED_STATUS);
 
         LOG.info("Response: " + botStatus);
         return botStatus;
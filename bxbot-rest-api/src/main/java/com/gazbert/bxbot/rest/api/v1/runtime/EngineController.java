@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.rest.api.v1.runtime;
+
+import com.gazbert.bxbot.core.engine.TradingEngine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.gazbert.bxbot.rest.api.v1.runtime.AbstractRuntimeController.RUNTIME_ENDPOINT_BASE_URI;
+
+/**
+ * Controller for directing Trading Engine control requests.
+ *
+ * @author gazbert
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(RUNTIME_ENDPOINT_BASE_URI)
+public class EngineController extends AbstractRuntimeController {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private static final String SHUTDOWN_RESOURCE_PATH = "/engine/shutdown";
+    private static final String TRADE_CYCLE_RESOURCE_PATH = "/engine/trade-cycle";
+    private final TradingEngine tradingEngine;
+
+    @Autowired
+    public EngineController(TradingEngine tradingEngine) {
+        this.tradingEngine = tradingEngine;
+    }
+
+    /**
+     * Gracefully shuts down the Trading Engine. The Trading Strategy currently executing is allowed to finish.
+     *
+     * @param user the authenticated user.
+     * @return 202 'Accepted' HTTP status code if the engine is running, 409 'Conflict' HTTP status code if it is not.
+     */
+    @RequestMapping(value = SHUTDOWN_RESOURCE_PATH, method = RequestMethod.POST)
+    public ResponseEntity<?> shutdown(@AuthenticationPrincipal User user) {
+
+        LOG.info("POST " + SHUTDOWN_RESOURCE_PATH + " - shutdown() - caller: " + user.getUsername());
+
+        if (!tradingEngine.isRunning()) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+
+        tradingEngine.shutdown();
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Requests an immediate trade cycle, i.e. the engine does not wait for the trade cycle interval to elapse.
+     *
+     * @param user the authenticated user.
+     * @return 202 'Accepted' HTTP status code if the engine is running, 409 'Conflict' HTTP status code if it is not.
+     */
+    @RequestMapping(value = TRADE_CYCLE_RESOURCE_PATH, method = RequestMethod.POST)
+    public ResponseEntity<?> triggerTradeCycle(@AuthenticationPrincipal User user) {
+
+        LOG.info("POST " + TRADE_CYCLE_RESOURCE_PATH + " - triggerTradeCycle() - caller: " + user.getUsername());
+
+        if (!tradingEngine.isRunning()) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+
+        tradingEngine.triggerTradeCycle();
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.rest.api.v1.runtime;
+
+import com.gazbert.bxbot.core.events.EngineEventBus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import static com.gazbert.bxbot.rest.api.v1.runtime.AbstractRuntimeController.RUNTIME_ENDPOINT_BASE_URI;
+
+/**
+ * Controller for streaming Trading Engine events to clients using Server-Sent Events.
+ * <p>
+ * Each event is sent with the event type as the SSE event name, and the event as JSON data. Clients that cannot keep
+ * up miss the oldest events; they never slow down the Trading Engine.
+ *
+ * @author gazbert
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(RUNTIME_ENDPOINT_BASE_URI)
+public class EngineEventsController extends AbstractRuntimeController {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private static final String EVENTS_RESOURCE_PATH = "/events";
+
+    /*
+     * Clients are expected to reconnect when the stream times out - the SSE EventSource API does this automatically.
+     */
+    private static final long EVENT_STREAM_TIMEOUT_IN_MILLIS = 30 * 60 * 1000L;
+
+    private final EngineEventBus engineEventBus;
+
+    @Autowired
+    public EngineEventsController(EngineEventBus engineEventBus) {
+        this.engineEventBus = engineEventBus;
+    }
+
+    /**
+     * Streams the Trading Engine events: trade cycles starting/finishing, Emergency Stop checks, orders placed,
+     * fills detected, and top-of-book updates.
+     *
+     * @param user the authenticated user.
+     * @return the event stream.
+     */
+    @RequestMapping(value = EVENTS_RESOURCE_PATH, method = RequestMethod.GET,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@AuthenticationPrincipal User user) {
+
+        LOG.info("GET " + EVENTS_RESOURCE_PATH + " - streamEvents() - caller: " + user.getUsername());
+
+        final SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT_IN_MILLIS);
+        final EngineEventBus.Subscription subscription = engineEventBus.subscribe(event -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(event, MediaType.APPLICATION_JSON));
+            } catch (IOException e) {
+                LOG.info("Failed to send event to " + user.getUsername() + " - client has probably gone away.");
+                emitter.completeWithError(e);
+                throw e;
+            }
+        });
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        return emitter;
+    }
+}
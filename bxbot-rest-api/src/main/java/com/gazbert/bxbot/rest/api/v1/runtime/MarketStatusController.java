@@ -0,0 +1,209 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.rest.api.v1.runtime;
+
+import com.gazbert.bxbot.core.engine.TradingEngine;
+import com.gazbert.bxbot.domain.bot.MarketStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.gazbert.bxbot.rest.api.v1.runtime.AbstractRuntimeController.RUNTIME_ENDPOINT_BASE_URI;
+
+/**
+ * Controller for directing Market runtime requests.
+ * <p>
+ * Markets can be paused, resumed, and re-prioritised while the bot is running. Changes take effect at the next
+ * trade cycle and are not persisted - use the Market config endpoint to change the bot's startup config.
+ * <p>
+ * The same Market id can be traded on more than 1 exchange, so Markets are addressed as
+ * {@code /markets/{exchangeId}/{marketId}}. The shorter {@code /markets/{marketId}} form still works for a Market id
+ * the bot only trades on 1 exchange; it returns 409 'Conflict' if the id is traded on more than 1.
+ *
+ * @author gazbert
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(RUNTIME_ENDPOINT_BASE_URI)
+public class MarketStatusController extends AbstractRuntimeController {
+
+    private static final Logger LOG = LogManager.getLogger();
+    private static final String MARKETS_RESOURCE_PATH = "/markets";
+    private final TradingEngine tradingEngine;
+
+    @Autowired
+    public MarketStatusController(TradingEngine tradingEngine) {
+        this.tradingEngine = tradingEngine;
+    }
+
+    /**
+     * Returns the runtime status of all the Markets the bot is trading on.
+     *
+     * @param user the authenticated user.
+     * @return the Market statuses.
+     */
+    @RequestMapping(value = MARKETS_RESOURCE_PATH, method = RequestMethod.GET)
+    public List<MarketStatus> getAllMarketStatuses(@AuthenticationPrincipal User user) {
+
+        LOG.info("GET " + MARKETS_RESOURCE_PATH + " - getAllMarketStatuses() - caller: " + user.getUsername());
+
+        final List<MarketStatus> marketStatuses = tradingEngine.getMarketStatuses();
+        LOG.info("Response: " + marketStatuses);
+        return marketStatuses;
+    }
+
+    /**
+     * Returns the runtime status for a given Market id. The Market id must only be traded on 1 exchange.
+     *
+     * @param user     the authenticated user.
+     * @param marketId the id of the Market to fetch.
+     * @return 200 'OK' HTTP status code and the Market status in response body, 404 'Not Found' HTTP status code if
+     * Market not found, 409 'Conflict' HTTP status code if the Market id is traded on more than 1 exchange.
+     */
+    @RequestMapping(value = MARKETS_RESOURCE_PATH + "/{marketId}", method = RequestMethod.GET)
+    public ResponseEntity<?> getMarketStatus(@AuthenticationPrincipal User user, @PathVariable String marketId) {
+
+        LOG.info("GET " + MARKETS_RESOURCE_PATH + "/" + marketId + " - getMarketStatus() - caller: "
+                + user.getUsername());
+
+        final List<MarketStatus> marketStatuses = findMarketStatuses(marketId);
+        if (marketStatuses.size() != 1) {
+            return new ResponseEntity<>(marketStatuses.isEmpty() ? HttpStatus.NOT_FOUND : HttpStatus.CONFLICT);
+        }
+        return buildResponseEntity(marketStatuses.get(0), HttpStatus.OK);
+    }
+
+    /**
+     * Returns the runtime status for a given Market on a given exchange.
+     *
+     * @param user       the authenticated user.
+     * @param exchangeId the id of the exchange the Market is traded on.
+     * @param marketId   the id of the Market to fetch.
+     * @return the Market status.
+     */
+    @RequestMapping(value = MARKETS_RESOURCE_PATH + "/{exchangeId}/{marketId}", method = RequestMethod.GET)
+    public ResponseEntity<?> getMarketStatus(@AuthenticationPrincipal User user, @PathVariable String exchangeId,
+                                             @PathVariable String marketId) {
+
+        LOG.info("GET " + MARKETS_RESOURCE_PATH + "/" + exchangeId + "/" + marketId + " - getMarketStatus() - caller: "
+                + user.getUsername());
+
+        final MarketStatus marketStatus = tradingEngine.getMarketStatus(exchangeId, marketId);
+        return marketStatus == null
+                ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
+                : buildResponseEntity(marketStatus, HttpStatus.OK);
+    }
+
+    /**
+     * Updates the runtime status of a given Market, i.e. pauses/resumes it and sets its priority. The Market id must
+     * only be traded on 1 exchange.
+     *
+     * @param user         the authenticated user.
+     * @param marketId     id of the Market to update.
+     * @param marketStatus the updated Market status. The paused flag and priority must be set.
+     * @return 200 'OK' HTTP status code and updated Market status in response body if update successful,
+     * 400 'Bad Request' HTTP status code if the paused flag or priority is missing, 404 'Not Found' HTTP status code if
+     * Market not found, 409 'Conflict' HTTP status code if the Market id is traded on more than 1 exchange.
+     */
+    @RequestMapping(value = MARKETS_RESOURCE_PATH + "/{marketId}", method = RequestMethod.PUT)
+    public ResponseEntity<?> updateMarketStatus(@AuthenticationPrincipal User user, @PathVariable String marketId,
+                                                @RequestBody MarketStatus marketStatus) {
+
+        LOG.info("PUT " + MARKETS_RESOURCE_PATH + "/" + marketId + " - updateMarketStatus() - caller: "
+                + user.getUsername());
+        LOG.info("Request: " + marketStatus);
+
+        if (!isValidUpdate(marketId, marketStatus)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        final List<MarketStatus> marketStatuses = findMarketStatuses(marketId);
+        if (marketStatuses.size() != 1) {
+            return new ResponseEntity<>(marketStatuses.isEmpty() ? HttpStatus.NOT_FOUND : HttpStatus.CONFLICT);
+        }
+        return applyUpdate(marketStatuses.get(0).getExchangeId(), marketId, marketStatus);
+    }
+
+    /**
+     * Updates the runtime status of a given Market on a given exchange, i.e. pauses/resumes it and sets its priority.
+     *
+     * @param user         the authenticated user.
+     * @param exchangeId   id of the exchange the Market is traded on.
+     * @param marketId     id of the Market to update.
+     * @param marketStatus the updated Market status. The paused flag and priority must be set.
+     * @return 200 'OK' HTTP status code and updated Market status in response body if update successful,
+     * 400 'Bad Request' HTTP status code if the paused flag or priority is missing, 404 'Not Found' HTTP status code if
+     * Market not found.
+     */
+    @RequestMapping(value = MARKETS_RESOURCE_PATH + "/{exchangeId}/{marketId}", method = RequestMethod.PUT)
+    public ResponseEntity<?> updateMarketStatus(@AuthenticationPrincipal User user, @PathVariable String exchangeId,
+                                                @PathVariable String marketId,
+                                                @RequestBody MarketStatus marketStatus) {
+
+        LOG.info("PUT " + MARKETS_RESOURCE_PATH + "/" + exchangeId + "/" + marketId
+                + " - updateMarketStatus() - caller: " + user.getUsername());
+        LOG.info("Request: " + marketStatus);
+
+        if (!isValidUpdate(marketId, marketStatus)
+                || (marketStatus.getExchangeId() != null && !exchangeId.equals(marketStatus.getExchangeId()))) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return applyUpdate(exchangeId, marketId, marketStatus);
+    }
+
+    // ------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------
+
+    /*
+     * A missing paused flag must not silently resume a paused market, nor a missing priority silently reset it to 0, so
+     * both are rejected.
+     */
+    private static boolean isValidUpdate(String marketId, MarketStatus marketStatus) {
+        return marketStatus.getMarketId() != null && marketId.equals(marketStatus.getMarketId())
+                && marketStatus.getPaused() != null && marketStatus.getPriority() != null;
+    }
+
+    private ResponseEntity<?> applyUpdate(String exchangeId, String marketId, MarketStatus marketStatus) {
+        if (!tradingEngine.updateMarketStatus(exchangeId, marketId, marketStatus.getPaused(),
+                marketStatus.getPriority())) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return buildResponseEntity(tradingEngine.getMarketStatus(exchangeId, marketId), HttpStatus.OK);
+    }
+
+    private List<MarketStatus> findMarketStatuses(String marketId) {
+        return tradingEngine.getMarketStatuses().stream()
+                .filter(marketStatus -> marketId.equals(marketStatus.getMarketId()))
+                .collect(Collectors.toList());
+    }
+}
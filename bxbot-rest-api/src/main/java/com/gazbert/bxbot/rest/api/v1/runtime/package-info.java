@@ -1,7 +1,8 @@
 /**
  * <h2>BX-bot Runtime REST API</h2>
  * <p>
- * This is the REST API for stopping/starting the bot and querying the its runtime status.
+ * This is the REST API for stopping the bot, controlling its Markets, querying its runtime status, and streaming
+ * its events.
  *
  * @author gazbert
  * @since 1.0
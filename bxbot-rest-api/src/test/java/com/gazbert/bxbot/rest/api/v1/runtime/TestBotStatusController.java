@@ -62,6 +62,7 @@ public class TestBotStatusController extends AbstractRuntimeControllerTest {
     private static final String BOT_ID = "avro-707_1";
     private static final String BOT_NAME = "Avro 707";
     private static final String BOT_STATUS = "running";
+    private static final String BOT_STOPPED_STATUS = "stopped";
 
     private static final String ENGINE_EMERGENCY_STOP_CURRENCY = "BTC";
     private static final BigDecimal ENGINE_EMERGENCY_STOP_BALANCE = new BigDecimal("0.9232320");
@@ -70,7 +71,6 @@ public class TestBotStatusController extends AbstractRuntimeControllerTest {
     @MockBean
     private EngineConfigService engineConfigService;
 
-    // Need this even though not used in the test directly because Spring loads it on startup...
     @MockBean
     private TradingEngine tradingEngine;
 
@@ -87,6 +87,7 @@ public class TestBotStatusController extends AbstractRuntimeControllerTest {
     public void testGetBotStatus() throws Exception {
 
         given(engineConfigService.getEngineConfig()).willReturn(someEngineConfig());
+        given(tradingEngine.isRunning()).willReturn(true);
 
         mockMvc.perform(get(STATUS_ENDPOINT_URI)
                 .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
@@ -97,6 +98,20 @@ public class TestBotStatusController extends AbstractRuntimeControllerTest {
                 .andExpect(jsonPath("$.status").value(BOT_STATUS));
 
         verify(engineConfigService, times(1)).getEngineConfig();
+        verify(tradingEngine, times(1)).isRunning();
+    }
+
+    @Test
+    public void testGetBotStatusWhenEngineStopped() throws Exception {
+
+        given(engineConfigService.getEngineConfig()).willReturn(someEngineConfig());
+        given(tradingEngine.isRunning()).willReturn(false);
+
+        mockMvc.perform(get(STATUS_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(BOT_STOPPED_STATUS));
     }
 
     @Test
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.rest.api.v1.runtime;
+
+import com.gazbert.bxbot.core.engine.TradingEngine;
+import com.gazbert.bxbot.core.mail.EmailAlerter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the Engine controller behaviour.
+ *
+ * @author gazbert
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@WebAppConfiguration
+public class TestEngineController extends AbstractRuntimeControllerTest {
+
+    private static final String SHUTDOWN_ENDPOINT_URI = RUNTIME_ENDPOINT_BASE_URI + "/engine/shutdown";
+    private static final String TRADE_CYCLE_ENDPOINT_URI = RUNTIME_ENDPOINT_BASE_URI + "/engine/trade-cycle";
+
+    @MockBean
+    private TradingEngine tradingEngine;
+
+    // Need this even though not used in the test directly because Spring loads it on startup...
+    @MockBean
+    private EmailAlerter emailAlerter;
+
+    @Before
+    public void setupBeforeEachTest() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(ctx).addFilter(springSecurityFilterChain).build();
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+
+        given(tradingEngine.isRunning()).willReturn(true);
+
+        mockMvc.perform(post(SHUTDOWN_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isAccepted());
+
+        verify(tradingEngine, times(1)).shutdown();
+    }
+
+    @Test
+    public void testShutdownWhenEngineNotRunning() throws Exception {
+
+        given(tradingEngine.isRunning()).willReturn(false);
+
+        mockMvc.perform(post(SHUTDOWN_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andExpect(status().isConflict());
+
+        verify(tradingEngine, never()).shutdown();
+    }
+
+    @Test
+    public void testShutdownWhenUnauthorizedWithInvalidCredentials() throws Exception {
+
+        mockMvc.perform(post(SHUTDOWN_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, INVALID_USER_PASSWORD)))
+                .andExpect(status().isUnauthorized());
+
+        verify(tradingEngine, never()).shutdown();
+    }
+
+    @Test
+    public void testTriggerTradeCycle() throws Exception {
+
+        given(tradingEngine.isRunning()).willReturn(true);
+
+        mockMvc.perform(post(TRADE_CYCLE_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isAccepted());
+
+        verify(tradingEngine, times(1)).triggerTradeCycle();
+    }
+
+    @Test
+    public void testTriggerTradeCycleWhenEngineNotRunning() throws Exception {
+
+        given(tradingEngine.isRunning()).willReturn(false);
+
+        mockMvc.perform(post(TRADE_CYCLE_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andExpect(status().isConflict());
+
+        verify(tradingEngine, never()).triggerTradeCycle();
+    }
+
+    @Test
+    public void testTriggerTradeCycleWhenUnauthorizedWithInvalidCredentials() throws Exception {
+
+        mockMvc.perform(post(TRADE_CYCLE_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, INVALID_USER_PASSWORD)))
+                .andExpect(status().isUnauthorized());
+
+        verify(tradingEngine, never()).triggerTradeCycle();
+    }
+}
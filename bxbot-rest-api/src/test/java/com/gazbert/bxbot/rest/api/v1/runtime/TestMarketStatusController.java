@@ -0,0 +1,332 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.rest.api.v1.runtime;
+
+import com.gazbert.bxbot.core.engine.TradingEngine;
+import com.gazbert.bxbot.core.mail.EmailAlerter;
+import com.gazbert.bxbot.domain.bot.MarketStatus;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the Market Status controller behaviour.
+ *
+ * @author gazbert
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@WebAppConfiguration
+public class TestMarketStatusController extends AbstractRuntimeControllerTest {
+
+    private static final String MARKETS_ENDPOINT_URI = RUNTIME_ENDPOINT_BASE_URI + "/markets/";
+
+    private static final String UNKNOWN_MARKET_ID = "unknown-or-new-market-id";
+
+    private static final String MARKET_1_ID = "btc_usd";
+    private static final String MARKET_1_NAME = "BTC/USD";
+    private static final String MARKET_1_EXCHANGE_ID = "bitstamp";
+    private static final int MARKET_1_PRIORITY = 10;
+
+    private static final String MARKET_2_ID = "ltc_usd";
+    private static final String MARKET_2_NAME = "LTC/USD";
+    private static final String MARKET_2_EXCHANGE_ID = "gdax";
+    private static final int MARKET_2_PRIORITY = 0;
+
+    @MockBean
+    private TradingEngine tradingEngine;
+
+    // Need this even though not used in the test directly because Spring loads it on startup...
+    @MockBean
+    private EmailAlerter emailAlerter;
+
+    @Before
+    public void setupBeforeEachTest() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(ctx).addFilter(springSecurityFilterChain).build();
+    }
+
+    @Test
+    public void testGetAllMarketStatuses() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(allTheMarketStatuses());
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].marketId").value(MARKET_1_ID))
+                .andExpect(jsonPath("$[0].marketName").value(MARKET_1_NAME))
+                .andExpect(jsonPath("$[0].exchangeId").value(MARKET_1_EXCHANGE_ID))
+                .andExpect(jsonPath("$[0].paused").value(false))
+                .andExpect(jsonPath("$[0].priority").value(MARKET_1_PRIORITY))
+                .andExpect(jsonPath("$[1].marketId").value(MARKET_2_ID))
+                .andExpect(jsonPath("$[1].marketName").value(MARKET_2_NAME))
+                .andExpect(jsonPath("$[1].exchangeId").value(MARKET_2_EXCHANGE_ID))
+                .andExpect(jsonPath("$[1].paused").value(true))
+                .andExpect(jsonPath("$[1].priority").value(MARKET_2_PRIORITY));
+
+        verify(tradingEngine, times(1)).getMarketStatuses();
+    }
+
+    @Test
+    public void testGetAllMarketStatusesWhenUnauthorizedWithInvalidCredentials() throws Exception {
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, INVALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testGetMarketStatusById() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(allTheMarketStatuses());
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marketId").value(MARKET_1_ID))
+                .andExpect(jsonPath("$.marketName").value(MARKET_1_NAME))
+                .andExpect(jsonPath("$.exchangeId").value(MARKET_1_EXCHANGE_ID))
+                .andExpect(jsonPath("$.paused").value(false))
+                .andExpect(jsonPath("$.priority").value(MARKET_1_PRIORITY));
+
+        verify(tradingEngine, times(1)).getMarketStatuses();
+    }
+
+    @Test
+    public void testGetMarketStatusByIdWhenTradedOnMoreThanOneExchange() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(sameMarketOnTwoExchanges());
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    public void testGetMarketStatusByExchangeIdAndId() throws Exception {
+
+        given(tradingEngine.getMarketStatus(MARKET_1_EXCHANGE_ID, MARKET_1_ID)).willReturn(someMarketStatus());
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI + MARKET_1_EXCHANGE_ID + "/" + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marketId").value(MARKET_1_ID))
+                .andExpect(jsonPath("$.exchangeId").value(MARKET_1_EXCHANGE_ID));
+
+        verify(tradingEngine, times(1)).getMarketStatus(MARKET_1_EXCHANGE_ID, MARKET_1_ID);
+    }
+
+    @Test
+    public void testGetMarketStatusByIdWhenNotRecognized() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(allTheMarketStatuses());
+
+        mockMvc.perform(get(MARKETS_ENDPOINT_URI + UNKNOWN_MARKET_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testUpdateMarketStatus() throws Exception {
+
+        final MarketStatus pausedMarketStatus =
+                new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_1_EXCHANGE_ID, true, MARKET_1_PRIORITY);
+
+        given(tradingEngine.getMarketStatuses()).willReturn(allTheMarketStatuses());
+        given(tradingEngine.updateMarketStatus(MARKET_1_EXCHANGE_ID, MARKET_1_ID, true, MARKET_1_PRIORITY))
+                .willReturn(true);
+        given(tradingEngine.getMarketStatus(MARKET_1_EXCHANGE_ID, MARKET_1_ID)).willReturn(pausedMarketStatus);
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(pausedMarketStatus)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.marketId").value(MARKET_1_ID))
+                .andExpect(jsonPath("$.paused", is(true)))
+                .andExpect(jsonPath("$.priority").value(MARKET_1_PRIORITY));
+
+        verify(tradingEngine, times(1)).updateMarketStatus(MARKET_1_EXCHANGE_ID, MARKET_1_ID, true, MARKET_1_PRIORITY);
+    }
+
+    @Test
+    public void testUpdateMarketStatusByExchangeIdAndId() throws Exception {
+
+        final MarketStatus pausedMarketStatus =
+                new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_2_EXCHANGE_ID, true, MARKET_1_PRIORITY);
+
+        given(tradingEngine.updateMarketStatus(MARKET_2_EXCHANGE_ID, MARKET_1_ID, true, MARKET_1_PRIORITY))
+                .willReturn(true);
+        given(tradingEngine.getMarketStatus(MARKET_2_EXCHANGE_ID, MARKET_1_ID)).willReturn(pausedMarketStatus);
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_2_EXCHANGE_ID + "/" + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(pausedMarketStatus)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exchangeId").value(MARKET_2_EXCHANGE_ID))
+                .andExpect(jsonPath("$.paused", is(true)));
+
+        verify(tradingEngine, times(1)).updateMarketStatus(MARKET_2_EXCHANGE_ID, MARKET_1_ID, true, MARKET_1_PRIORITY);
+    }
+
+    @Test
+    public void testUpdateMarketStatusByIdWhenTradedOnMoreThanOneExchange() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(sameMarketOnTwoExchanges());
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(someMarketStatus())))
+                .andExpect(status().isConflict());
+
+        verify(tradingEngine, never()).updateMarketStatus(anyString(), anyString(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testUpdateMarketStatusWhenUnauthorizedWithInvalidCredentials() throws Exception {
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, INVALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(someMarketStatus())))
+                .andExpect(status().isUnauthorized());
+
+        verify(tradingEngine, never()).updateMarketStatus(anyString(), anyString(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testUpdateMarketStatusWhenIdNotRecognized() throws Exception {
+
+        given(tradingEngine.getMarketStatuses()).willReturn(allTheMarketStatuses());
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + UNKNOWN_MARKET_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(new MarketStatus(UNKNOWN_MARKET_ID, MARKET_1_NAME, MARKET_1_EXCHANGE_ID, false, MARKET_1_PRIORITY))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testUpdateMarketStatusWhenIdDoesNotMatchPath() throws Exception {
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_2_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(someMarketStatus())))
+                .andExpect(status().isBadRequest());
+
+        verify(tradingEngine, never()).updateMarketStatus(anyString(), anyString(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testUpdateMarketStatusWhenPausedMissing() throws Exception {
+
+        final MarketStatus marketStatusWithoutPaused =
+                new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_1_EXCHANGE_ID, null, MARKET_1_PRIORITY);
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(marketStatusWithoutPaused)))
+                .andExpect(status().isBadRequest());
+
+        verify(tradingEngine, never()).updateMarketStatus(anyString(), anyString(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testUpdateMarketStatusWhenPriorityMissing() throws Exception {
+
+        final MarketStatus marketStatusWithoutPriority =
+                new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_1_EXCHANGE_ID, true, null);
+
+        mockMvc.perform(put(MARKETS_ENDPOINT_URI + MARKET_1_EXCHANGE_ID + "/" + MARKET_1_ID)
+                .header("Authorization", buildAuthorizationHeaderValue(VALID_USER_LOGINID, VALID_USER_PASSWORD))
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(CONTENT_TYPE)
+                .content(jsonify(marketStatusWithoutPriority)))
+                .andExpect(status().isBadRequest());
+
+        verify(tradingEngine, never()).updateMarketStatus(anyString(), anyString(), anyBoolean(), anyInt());
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Private utils
+    // ------------------------------------------------------------------------------------------------
+
+    private static List<MarketStatus> allTheMarketStatuses() {
+        final List<MarketStatus> marketStatuses = new ArrayList<>();
+        marketStatuses.add(someMarketStatus());
+        marketStatuses.add(new MarketStatus(MARKET_2_ID, MARKET_2_NAME, MARKET_2_EXCHANGE_ID, true, MARKET_2_PRIORITY));
+        return marketStatuses;
+    }
+
+    private static List<MarketStatus> sameMarketOnTwoExchanges() {
+        final List<MarketStatus> marketStatuses = new ArrayList<>();
+        marketStatuses.add(someMarketStatus());
+        marketStatuses.add(new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_2_EXCHANGE_ID, false, MARKET_1_PRIORITY));
+        return marketStatuses;
+    }
+
+    private static MarketStatus someMarketStatus() {
+        return new MarketStatus(MARKET_1_ID, MARKET_1_NAME, MARKET_1_EXCHANGE_ID, false, MARKET_1_PRIORITY);
+    }
+}
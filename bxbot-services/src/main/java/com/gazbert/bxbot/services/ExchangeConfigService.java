@@ -24,6 +24,8 @@ package com.gazbert.bxbot.services;
 
 import com.gazbert.bxbot.domain.exchange.ExchangeConfig;
 
+import java.util.List;
+
 /**
  * The Exchange configuration service.
  *
@@ -33,5 +35,7 @@ public interface ExchangeConfigService {
 
     ExchangeConfig getExchangeConfig();
 
+    List<ExchangeConfig> getAllExchangeConfig();
+
     ExchangeConfig updateExchangeConfig(ExchangeConfig config);
 }
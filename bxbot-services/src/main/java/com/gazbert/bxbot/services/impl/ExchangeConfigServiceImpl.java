@@ -34,6 +34,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 /**
  * Implementation of the Exchange config service.
  *
@@ -58,6 +60,11 @@ public class ExchangeConfigServiceImpl implements ExchangeConfigService {
         return exchangeConfigRepository.get();
     }
 
+    @Override
+    public List<ExchangeConfig> getAllExchangeConfig() {
+        return exchangeConfigRepository.findAll();
+    }
+
     @Override
     public ExchangeConfig updateExchangeConfig(ExchangeConfig config) {
         LOG.info(() -> "About to update Exchange config: " + config);
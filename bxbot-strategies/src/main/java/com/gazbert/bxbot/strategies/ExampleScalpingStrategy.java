@@ -30,6 +30,8 @@ import com.gazbert.bxbot.trading.api.*;
 import com.google.common.base.MoreObjects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -119,6 +121,17 @@ public class ExampleScalpingStrategy implements TradingStrategy {
 
     private static final Logger LOG = LogManager.getLogger();
 
+    /**
+     * Marks the routine messages logged every trade cycle. The production log config rate-limits these.
+     */
+    private static final Marker TRADE_CYCLE = MarkerManager.getMarker("TRADE_CYCLE");
+
+    /**
+     * Used to format prices and amounts for logging. The Trading Engine calls the strategy from a single thread, so a
+     * single instance can be safely reused - DecimalFormat is not thread safe.
+     */
+    private final DecimalFormat decimalFormat = new DecimalFormat("#.########");
+
     /**
      * Reference to the main Trading API.
      */
@@ -134,6 +147,12 @@ public class ExampleScalpingStrategy implements TradingStrategy {
      */
     private OrderState lastOrder;
 
+    /**
+     * The order we last tried to place that failed with a network error. It may or may not have made it to the
+     * exchange; we check at the next trade cycle, using its client order id if the exchange takes them.
+     */
+    private OrderState pendingOrder;
+
     /**
      * The counter currency amount to use when placing the buy order.
      * This was loaded from the strategy entry in the {project-root}/config/strategies.xml config file.
@@ -184,7 +203,7 @@ public class ExampleScalpingStrategy implements TradingStrategy {
     @Override
     public void execute() throws StrategyException {
 
-        LOG.info(() -> market.getName() + " Checking order status...");
+        LOG.info(TRADE_CYCLE, "{} Checking order status...", market.getName());
 
         try {
             // Grab the latest order book for the market.
@@ -192,13 +211,13 @@ public class ExampleScalpingStrategy implements TradingStrategy {
 
             final List<MarketOrder> buyOrders = orderBook.getBuyOrders();
             if (buyOrders.size() == 0) {
-                LOG.warn("Exchange returned empty Buy Orders. Ignoring this trade window. OrderBook: " + orderBook);
+                LOG.warn("Exchange returned empty Buy Orders. Ignoring this trade window. OrderBook: {}", orderBook);
                 return;
             }
 
             final List<MarketOrder> sellOrders = orderBook.getSellOrders();
             if (sellOrders.size() == 0) {
-                LOG.warn("Exchange returned empty Sell Orders. Ignoring this trade window. OrderBook: " + orderBook);
+                LOG.warn("Exchange returned empty Sell Orders. Ignoring this trade window. OrderBook: {}", orderBook);
                 return;
             }
 
@@ -206,23 +225,27 @@ public class ExampleScalpingStrategy implements TradingStrategy {
             final BigDecimal currentBidPrice = buyOrders.get(0).getPrice();
             final BigDecimal currentAskPrice = sellOrders.get(0).getPrice();
 
-            LOG.info(() -> market.getName() + " Current BID price=" +
-                    new DecimalFormat("#.########").format(currentBidPrice));
-            LOG.info(() -> market.getName() + " Current ASK price=" +
-                    new DecimalFormat("#.########").format(currentAskPrice));
+            if (LOG.isInfoEnabled(TRADE_CYCLE)) {
+                LOG.info(TRADE_CYCLE, "{} Current BID price={}", market.getName(), decimalFormat.format(currentBidPrice));
+                LOG.info(TRADE_CYCLE, "{} Current ASK price={}", market.getName(), decimalFormat.format(currentAskPrice));
+            }
 
             /*
              * Is this the first time the Strategy has been called? If yes, we initialise the OrderState so we can keep
              * track of orders during later trace cycles.
              */
             if (lastOrder == null) {
-                LOG.info(() -> market.getName() +
-                        " First time Strategy has been called - creating new OrderState object.");
+                LOG.info("{} First time Strategy has been called - creating new OrderState object.", market.getName());
                 lastOrder = new OrderState();
             }
 
             // Always handy to log what the last order was during each trace cycle.
-            LOG.info(() -> market.getName() + " Last Order was: " + lastOrder);
+            LOG.info(TRADE_CYCLE, "{} Last Order was: {}", market.getName(), lastOrder);
+
+            // Did the order we tried to place last trade cycle make it to the exchange after all?
+            if (pendingOrder != null) {
+                reconcilePendingOrder();
+            }
 
             /*
              * Execute the appropriate algorithm based on the last order type.
@@ -240,18 +263,79 @@ public class ExampleScalpingStrategy implements TradingStrategy {
         } catch (ExchangeNetworkException e) {
             // Your timeout handling code could go here.
             // We are just going to log it and swallow it, and wait for next trade cycle.
-            LOG.error(market.getName() + " Failed to get market orders because Exchange threw network exception. " +
-                    "Waiting until next trade cycle.", e);
+            LOG.error("{} Failed to get market orders because Exchange threw network exception. " +
+                    "Waiting until next trade cycle.", market.getName(), e);
 
         } catch (TradingApiException e) {
             // Your error handling code could go here...
             // We are just going to re-throw as StrategyException for engine to deal with - it will shutdown the bot.
-            LOG.error(market.getName() + " Failed to get market orders because Exchange threw TradingApi exception. " +
-                    " Telling Trading Engine to shutdown bot!", e);
+            LOG.error("{} Failed to get market orders because Exchange threw TradingApi exception. " +
+                    " Telling Trading Engine to shutdown bot!", market.getName(), e);
             throw new StrategyException(e);
         }
     }
 
+    /**
+     * Checks if the order we tried to place last trade cycle made it to the exchange, by looking it up with its client
+     * order id - or, if the exchange does not take client order ids, by looking for it in our open orders. If it did,
+     * it becomes the last order. If it did not, the algo carries on and places it again.
+     *
+     * @throws ExchangeNetworkException if the exchange could not be reached; we check again next trade cycle.
+     * @throws TradingApiException      if the lookup failed for any other reason.
+     */
+    private void reconcilePendingOrder() throws ExchangeNetworkException, TradingApiException {
+
+        final String orderId = tradingApi.supportsClientOrderIds()
+                ? tradingApi.getOrderIdByClientOrderId(pendingOrder.clientOrderId, market.getId())
+                : findPendingOrderInOpenOrders();
+
+        if (orderId != null) {
+            LOG.info("{} Pending order {} made it to the exchange after all. ID: {}", market.getName(), pendingOrder,
+                    orderId);
+            lastOrder.id = orderId;
+            lastOrder.type = pendingOrder.type;
+            lastOrder.price = pendingOrder.price;
+            lastOrder.amount = pendingOrder.amount;
+        } else {
+            LOG.info("{} Pending order {} did not make it to the exchange - it will be placed again.",
+                    market.getName(), pendingOrder);
+        }
+        pendingOrder = null;
+    }
+
+    /**
+     * Looks for the pending order in our open orders, matching on its type, price and amount. The price and amount are
+     * rounded to the market's tick and step sizes first, as they were when the order was sent.
+     * <p>
+     * An order that was filled before we looked is no longer open, so it is not found. If you need to catch those,
+     * check your balances as well.
+     *
+     * @return the id of the open order, or null if none matches.
+     * @throws ExchangeNetworkException if the exchange could not be reached; we check again next trade cycle.
+     * @throws TradingApiException      if the open orders could not be fetched for any other reason.
+     */
+    private String findPendingOrderInOpenOrders() throws ExchangeNetworkException, TradingApiException {
+
+        BigDecimal price = pendingOrder.price;
+        BigDecimal amount = pendingOrder.amount;
+        final MarketInfo marketInfo = tradingApi.getMarketInfo(market.getId());
+        if (marketInfo != null) {
+            price = marketInfo.roundPrice(price, pendingOrder.type == OrderType.BUY ? RoundingMode.DOWN : RoundingMode.UP);
+            amount = marketInfo.roundQuantity(amount);
+        }
+
+        for (final OpenOrder openOrder : tradingApi.getYourOpenOrders(market.getId())) {
+            final BigDecimal openOrderAmount = openOrder.getOriginalQuantity() != null
+                    ? openOrder.getOriginalQuantity() : openOrder.getQuantity();
+            if (openOrder.getType() == pendingOrder.type
+                    && openOrder.getPrice().compareTo(price) == 0
+                    && openOrderAmount.compareTo(amount) == 0) {
+                return openOrder.getId();
+            }
+        }
+        return null;
+    }
+
     /**
      * Algo for executing when the Trading Strategy is invoked for the first time.
      * We start off with a buy order at current BID price.
@@ -262,8 +346,8 @@ public class ExampleScalpingStrategy implements TradingStrategy {
      */
     private void executeAlgoForWhenLastOrderWasNone(BigDecimal currentBidPrice) throws StrategyException {
 
-        LOG.info(() -> market.getName() + " OrderType is NONE - placing new BUY order at ["
-                + new DecimalFormat("#.########").format(currentBidPrice) + "]");
+        LOG.info("{} OrderType is NONE - placing new BUY order at [{}]", market.getName(),
+                decimalFormat.format(currentBidPrice));
 
         try {
 
@@ -272,11 +356,14 @@ public class ExampleScalpingStrategy implements TradingStrategy {
                     getAmountOfBaseCurrencyToBuyForGivenCounterCurrencyAmount(counterCurrencyBuyOrderAmount);
 
             // Send the order to the exchange
-            LOG.info(() -> market.getName() + " Sending initial BUY order to exchange --->");
+            LOG.info("{} Sending initial BUY order to exchange --->", market.getName());
 
-            lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.BUY, amountOfBaseCurrencyToBuy, currentBidPrice);
+            pendingOrder = newPendingOrder(OrderType.BUY, currentBidPrice, amountOfBaseCurrencyToBuy);
+            lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.BUY, amountOfBaseCurrencyToBuy, currentBidPrice,
+                    pendingOrder.clientOrderId);
+            pendingOrder = null;
 
-            LOG.info(() -> market.getName() + " Initial BUY Order sent successfully. ID: " + lastOrder.id);
+            LOG.info("{} Initial BUY Order sent successfully. ID: {}", market.getName(), lastOrder.id);
 
             // update last order details
             lastOrder.price = currentBidPrice;
@@ -284,17 +371,16 @@ public class ExampleScalpingStrategy implements TradingStrategy {
             lastOrder.amount = amountOfBaseCurrencyToBuy;
 
         } catch (ExchangeNetworkException e) {
-            // Your timeout handling code could go here, e.g. you might want to check if the order actually
-            // made it to the exchange? And if not, resend it...
-            // We are just going to log it and swallow it, and wait for next trade cycle.
-            LOG.error(market.getName() + " Initial order to BUY base currency failed because Exchange threw network exception. " +
-                    "Waiting until next trade cycle.", e);
+            // The order might have made it to the exchange. We keep hold of it as the pending order, log the
+            // exception and swallow it, and check using its client order id at the next trade cycle.
+            LOG.error("{} Initial order to BUY base currency failed because Exchange threw network exception. " +
+                    "Waiting until next trade cycle.", market.getName(), e);
 
         } catch (TradingApiException e) {
             // Your error handling code could go here...
             // We are just going to re-throw as StrategyException for engine to deal with - it will shutdown the bot.
-            LOG.error(market.getName() + " Initial order to BUY base currency failed because Exchange threw TradingApi exception. " +
-                    " Telling Trading Engine to shutdown bot!", e);
+            LOG.error("{} Initial order to BUY base currency failed because Exchange threw TradingApi exception. " +
+                    " Telling Trading Engine to shutdown bot!", market.getName(), e);
             throw new StrategyException(e);
         }
     }
@@ -314,21 +400,11 @@ public class ExampleScalpingStrategy implements TradingStrategy {
 
         try {
 
-            // Fetch our current open orders and see if the buy order is still outstanding/open on the exchange
-            final List<OpenOrder> myOrders = tradingApi.getYourOpenOrders(market.getId());
-            boolean lastOrderFound = false;
-            for (final OpenOrder myOrder : myOrders) {
-                if (myOrder.getId().equals(lastOrder.id)) {
-                    lastOrderFound = true;
-                    break;
-                }
-            }
+            // If the buy order is no longer outstanding/open on the exchange, it must have all filled.
+            if (!tradingApi.isOrderOpen(lastOrder.id, market.getId())) {
 
-            // If the order is not there, it must have all filled.
-            if (!lastOrderFound) {
-
-                LOG.info(() -> market.getName() +
-                        " ^^^ Yay!!! Last BUY Order Id [" + lastOrder.id + "] filled at [" + lastOrder.price + "]");
+                LOG.info("{} ^^^ Yay!!! Last BUY Order Id [{}] filled at [{}]", market.getName(), lastOrder.id,
+                        lastOrder.price);
 
                 /*
                  * The last buy order was filled, so lets see if we can send a new sell order.
@@ -348,25 +424,27 @@ public class ExampleScalpingStrategy implements TradingStrategy {
                  * TradingApi#getPercentageOfSellOrderTakenForExchangeFee() when calculating the order to send to the
                  * exchange...
                  */
-                LOG.info(() -> market.getName() + " Percentage profit (in decimal) to make for the sell order is: "
-                        + minimumPercentageGain);
+                LOG.info("{} Percentage profit (in decimal) to make for the sell order is: {}", market.getName(),
+                        minimumPercentageGain);
 
                 final BigDecimal amountToAdd = lastOrder.price.multiply(minimumPercentageGain);
-                LOG.info(() -> market.getName() + " Amount to add to last buy order fill price: " + amountToAdd);
+                LOG.info("{} Amount to add to last buy order fill price: {}", market.getName(), amountToAdd);
 
                 /*
-                 * Most exchanges (if not all) use 8 decimal places.
                  * It's usually best to round up the ASK price in your calculations to maximise gains.
                  */
-                final BigDecimal newAskPrice = lastOrder.price.add(amountToAdd).setScale(8, RoundingMode.HALF_UP);
-                LOG.info(() -> market.getName() + " Placing new SELL order at ask price [" +
-                        new DecimalFormat("#.########").format(newAskPrice) + "]");
+                final BigDecimal newAskPrice = roundUpAskPrice(lastOrder.price.add(amountToAdd));
+                LOG.info("{} Placing new SELL order at ask price [{}]", market.getName(),
+                        decimalFormat.format(newAskPrice));
 
-                LOG.info(() -> market.getName() + " Sending new SELL order to exchange --->");
+                LOG.info("{} Sending new SELL order to exchange --->", market.getName());
 
                 // Build the new sell order
-                lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.SELL, lastOrder.amount, newAskPrice);
-                LOG.info(() -> market.getName() + " New SELL Order sent successfully. ID: " + lastOrder.id);
+                pendingOrder = newPendingOrder(OrderType.SELL, newAskPrice, lastOrder.amount);
+                lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.SELL, lastOrder.amount, newAskPrice,
+                        pendingOrder.clientOrderId);
+                pendingOrder = null;
+                LOG.info("{} New SELL Order sent successfully. ID: {}", market.getName(), lastOrder.id);
 
                 // update last order state
                 lastOrder.price = newAskPrice;
@@ -380,22 +458,21 @@ public class ExampleScalpingStrategy implements TradingStrategy {
                  * fall for the order to fill... or you could tweak this code to cancel the current order and raise your bid -
                  * remember to deal with any part-filled orders!
                  */
-                LOG.info(() -> market.getName() + " !!! Still have BUY Order " + lastOrder.id
-                        + " waiting to fill at [" + lastOrder.price + "] - holding last BUY order...");
+                LOG.info(TRADE_CYCLE, "{} !!! Still have BUY Order {} waiting to fill at [{}] - holding last BUY order...",
+                        market.getName(), lastOrder.id, lastOrder.price);
             }
 
         } catch (ExchangeNetworkException e) {
-            // Your timeout handling code could go here, e.g. you might want to check if the order actually
-            // made it to the exchange? And if not, resend it...
-            // We are just going to log it and swallow it, and wait for next trade cycle.
-            LOG.error(market.getName() + " New Order to SELL base currency failed because Exchange threw network exception. " +
-                    "Waiting until next trade cycle. Last Order: " + lastOrder, e);
+            // The order might have made it to the exchange. We keep hold of it as the pending order, log the
+            // exception and swallow it, and check using its client order id at the next trade cycle.
+            LOG.error("{} New Order to SELL base currency failed because Exchange threw network exception. " +
+                    "Waiting until next trade cycle. Last Order: {}", market.getName(), lastOrder, e);
 
         } catch (TradingApiException e) {
             // Your error handling code could go here...
             // We are just going to re-throw as StrategyException for engine to deal with - it will shutdown the bot.
-            LOG.error(market.getName() + " New order to SELL base currency failed because Exchange threw TradingApi exception. " +
-                    " Telling Trading Engine to shutdown bot! Last Order: " + lastOrder, e);
+            LOG.error("{} New order to SELL base currency failed because Exchange threw TradingApi exception. " +
+                    " Telling Trading Engine to shutdown bot! Last Order: {}", market.getName(), lastOrder, e);
             throw new StrategyException(e);
         }
     }
@@ -418,34 +495,27 @@ public class ExampleScalpingStrategy implements TradingStrategy {
 
         try {
 
-            // Fetch our current open orders and see if the sell order is still outstanding/unfilled on the exchange
-            final List<OpenOrder> myOrders = tradingApi.getYourOpenOrders(market.getId());
-            boolean lastOrderFound = false;
-            for (final OpenOrder myOrder : myOrders) {
-                if (myOrder.getId().equals(lastOrder.id)) {
-                    lastOrderFound = true;
-                    break;
-                }
-            }
-
-            // if the order is not there, it must have all filled.
-            if (!lastOrderFound) {
+            // If the sell order is no longer outstanding/unfilled on the exchange, it must have all filled.
+            if (!tradingApi.isOrderOpen(lastOrder.id, market.getId())) {
 
-                LOG.info(() -> market.getName() +
-                        " ^^^ Yay!!! Last SELL Order Id [" + lastOrder.id + "] filled at [" + lastOrder.price + "]");
+                LOG.info("{} ^^^ Yay!!! Last SELL Order Id [{}] filled at [{}]", market.getName(), lastOrder.id,
+                        lastOrder.price);
 
                 // Get amount of base currency (BTC) we can buy for given counter currency (USD) amount.
                 final BigDecimal amountOfBaseCurrencyToBuy =
                         getAmountOfBaseCurrencyToBuyForGivenCounterCurrencyAmount(counterCurrencyBuyOrderAmount);
 
-                LOG.info(() -> market.getName() + " Placing new BUY order at bid price [" +
-                        new DecimalFormat("#.########").format(currentBidPrice) + "]");
+                LOG.info("{} Placing new BUY order at bid price [{}]", market.getName(),
+                        decimalFormat.format(currentBidPrice));
 
-                LOG.info(() -> market.getName() + " Sending new BUY order to exchange --->");
+                LOG.info("{} Sending new BUY order to exchange --->", market.getName());
 
                 // Send the buy order to the exchange.
-                lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.BUY, amountOfBaseCurrencyToBuy, currentBidPrice);
-                LOG.info(() -> market.getName() + " New BUY Order sent successfully. ID: " + lastOrder.id);
+                pendingOrder = newPendingOrder(OrderType.BUY, currentBidPrice, amountOfBaseCurrencyToBuy);
+                lastOrder.id = tradingApi.createOrder(market.getId(), OrderType.BUY, amountOfBaseCurrencyToBuy,
+                        currentBidPrice, pendingOrder.clientOrderId);
+                pendingOrder = null;
+                LOG.info("{} New BUY Order sent successfully. ID: {}", market.getName(), lastOrder.id);
 
                 // update last order details
                 lastOrder.price = currentBidPrice;
@@ -461,37 +531,69 @@ public class ExampleScalpingStrategy implements TradingStrategy {
                  * - remember to deal with any part-filled orders!
                  */
                 if (currentAskPrice.compareTo(lastOrder.price) < 0) {
-                    LOG.info(() -> market.getName() + " <<< Current ask price [" + currentAskPrice
-                            + "] is LOWER then last order price ["
-                            + lastOrder.price + "] - holding last SELL order...");
+                    LOG.info(TRADE_CYCLE, "{} <<< Current ask price [{}] is LOWER then last order price [{}] - "
+                            + "holding last SELL order...", market.getName(), currentAskPrice, lastOrder.price);
 
                 } else if (currentAskPrice.compareTo(lastOrder.price) > 0) {
-                    LOG.error(market.getName() + " >>> Current ask price [" + currentAskPrice
-                            + "] is HIGHER than last order price ["
-                            + lastOrder.price + "] - IMPOSSIBLE! BX-bot must have sold?????");
+                    LOG.error("{} >>> Current ask price [{}] is HIGHER than last order price [{}] - "
+                            + "IMPOSSIBLE! BX-bot must have sold?????", market.getName(), currentAskPrice, lastOrder.price);
 
                 } else if (currentAskPrice.compareTo(lastOrder.price) == 0) {
-                    LOG.info(() -> market.getName() + " === Current ask price [" + currentAskPrice
-                            + "] is EQUAL to last order price ["
-                            + lastOrder.price + "] - holding last SELL order...");
+                    LOG.info(TRADE_CYCLE, "{} === Current ask price [{}] is EQUAL to last order price [{}] - "
+                            + "holding last SELL order...", market.getName(), currentAskPrice, lastOrder.price);
                 }
             }
         } catch (ExchangeNetworkException e) {
-            // Your timeout handling code could go here, e.g. you might want to check if the order actually
-            // made it to the exchange? And if not, resend it...
-            // We are just going to log it and swallow it, and wait for next trade cycle.
-            LOG.error(market.getName() + " New Order to BUY base currency failed because Exchange threw network exception. " +
-                    "Waiting until next trade cycle. Last Order: " + lastOrder, e);
+            // The order might have made it to the exchange. We keep hold of it as the pending order, log the
+            // exception and swallow it, and check using its client order id at the next trade cycle.
+            LOG.error("{} New Order to BUY base currency failed because Exchange threw network exception. " +
+                    "Waiting until next trade cycle. Last Order: {}", market.getName(), lastOrder, e);
 
         } catch (TradingApiException e) {
             // Your error handling code could go here...
             // We are just going to re-throw as StrategyException for engine to deal with - it will shutdown the bot.
-            LOG.error(market.getName() + " New order to BUY base currency failed because Exchange threw TradingApi exception. " +
-                    " Telling Trading Engine to shutdown bot! Last Order: " + lastOrder, e);
+            LOG.error("{} New order to BUY base currency failed because Exchange threw TradingApi exception. " +
+                    " Telling Trading Engine to shutdown bot! Last Order: {}", market.getName(), lastOrder, e);
             throw new StrategyException(e);
         }
     }
 
+    /**
+     * Creates the state for an order we are about to place, with a new client order id for it.
+     *
+     * @param type   the order type.
+     * @param price  the price to buy/sell at.
+     * @param amount the number of units to buy/sell.
+     * @return the order state.
+     */
+    private OrderState newPendingOrder(OrderType type, BigDecimal price, BigDecimal amount) {
+        final OrderState order = new OrderState();
+        order.clientOrderId = tradingApi.newClientOrderId();
+        order.type = type;
+        order.price = price;
+        order.amount = amount;
+        return order;
+    }
+
+    /**
+     * Rounds an ASK price up to the market's price tick size - the exchange rejects prices that are not a multiple of
+     * it. If the exchange does not provide the tick size, it is rounded to 8 decimal places; most exchanges (if not
+     * all) use 8 decimal places.
+     *
+     * @param askPrice the ASK price.
+     * @return the rounded ASK price.
+     * @throws TradingApiException      if an unexpected error occurred contacting the exchange.
+     * @throws ExchangeNetworkException if a request to the exchange has timed out.
+     */
+    private BigDecimal roundUpAskPrice(BigDecimal askPrice) throws TradingApiException, ExchangeNetworkException {
+
+        final MarketInfo marketInfo = tradingApi.getMarketInfo(market.getId());
+        if (marketInfo != null && marketInfo.getPriceTickSize() != null) {
+            return marketInfo.roundPrice(askPrice, RoundingMode.UP);
+        }
+        return askPrice.setScale(8, RoundingMode.HALF_UP);
+    }
+
     /**
      * Returns amount of base currency (BTC) to buy for a given amount of counter currency (USD) based on last
      * market trade price.
@@ -504,13 +606,13 @@ public class ExampleScalpingStrategy implements TradingStrategy {
     private BigDecimal getAmountOfBaseCurrencyToBuyForGivenCounterCurrencyAmount(BigDecimal amountOfCounterCurrencyToTrade) throws
             TradingApiException, ExchangeNetworkException {
 
-        LOG.info(() -> market.getName() + " Calculating amount of base currency (BTC) to buy for amount of counter currency " +
-                new DecimalFormat("#.########").format(amountOfCounterCurrencyToTrade) + " " + market.getCounterCurrency());
+        LOG.info("{} Calculating amount of base currency (BTC) to buy for amount of counter currency {} {}",
+                market.getName(), decimalFormat.format(amountOfCounterCurrencyToTrade), market.getCounterCurrency());
 
         // Fetch the last trade price
         final BigDecimal lastTradePriceInUsdForOneBtc = tradingApi.getLatestMarketPrice(market.getId());
-        LOG.info(() -> market.getName() + " Last trade price for 1 " + market.getBaseCurrency() + " was: " +
-                new DecimalFormat("#.########").format(lastTradePriceInUsdForOneBtc) + " " + market.getCounterCurrency());
+        LOG.info("{} Last trade price for 1 {} was: {} {}", market.getName(), market.getBaseCurrency(),
+                decimalFormat.format(lastTradePriceInUsdForOneBtc), market.getCounterCurrency());
 
         /*
          * Most exchanges (if not all) use 8 decimal places and typically round in favour of the exchange.
@@ -519,9 +621,9 @@ public class ExampleScalpingStrategy implements TradingStrategy {
         final BigDecimal amountOfBaseCurrencyToBuy = amountOfCounterCurrencyToTrade.divide(
                 lastTradePriceInUsdForOneBtc, 8, RoundingMode.HALF_DOWN);
 
-        LOG.info(() -> market.getName() + " Amount of base currency (" + market.getBaseCurrency() + ") to BUY for "
-                + new DecimalFormat("#.########").format(amountOfCounterCurrencyToTrade) +
-                " " + market.getCounterCurrency() + " based on last market trade price: " + amountOfBaseCurrencyToBuy);
+        LOG.info("{} Amount of base currency ({}) to BUY for {} {} based on last market trade price: {}",
+                market.getName(), market.getBaseCurrency(), decimalFormat.format(amountOfCounterCurrencyToTrade),
+                market.getCounterCurrency(), amountOfBaseCurrencyToBuy);
 
         return amountOfBaseCurrencyToBuy;
     }
@@ -595,6 +697,11 @@ public class ExampleScalpingStrategy implements TradingStrategy {
          */
         private BigDecimal amount = BigDecimal.ZERO;
 
+        /**
+         * Our id for the order, so it can be looked up if placing it fails - default to null.
+         */
+        private String clientOrderId = null;
+
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(this)
@@ -602,6 +709,7 @@ public class ExampleScalpingStrategy implements TradingStrategy {
                     .add("type", type)
                     .add("price", price)
                     .add("amount", amount)
+                    .add("clientOrderId", clientOrderId)
                     .toString();
         }
     }
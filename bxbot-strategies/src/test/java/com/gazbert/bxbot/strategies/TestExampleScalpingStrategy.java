@@ -53,6 +53,7 @@ public class TestExampleScalpingStrategy {
     private final static String MARKET_ID = "btc_usd";
     private final static String BASE_CURRENCY = "BTC";
     private final static String COUNTER_CURRENCY = "USD";
+    private final static String CLIENT_ORDER_ID = "d50ec984-77a8-460a-b958-66f114b0de9b";
 
     // Mocked Strategy init() arguments
     private TradingApi tradingApi;
@@ -133,7 +134,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID);
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andReturn(orderId);
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andReturn(orderId);
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
 
@@ -172,14 +174,16 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the buy order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to send new sell order to exchange
         final BigDecimal requiredProfitInPercent = new BigDecimal("0.02");
         final BigDecimal newAskPrice = lastOrderPrice.multiply(requiredProfitInPercent).add(lastOrderPrice).setScale(8, RoundingMode.HALF_UP);
         final String orderId = "4239407234";
         expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice)).andReturn(orderId);
+        expect(tradingApi.getMarketInfo(MARKET_ID)).andReturn(null); // tick size not known, so 8 decimal places
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice, CLIENT_ORDER_ID)).andReturn(orderId);
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
 
@@ -223,15 +227,9 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the buy order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        final OpenOrder unfilledOrder = createMock(OpenOrder.class);
-        final List<OpenOrder> openOrders = new ArrayList<>();
-        openOrders.add(unfilledOrder); // still have open order
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(openOrders);
-
-        // expect strategy to find existing open order and hold current position
-        expect(openOrders.get(0).getId()).andReturn("45345346");
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(true); // still have open order - hold position
 
-        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState, unfilledOrder);
+        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
 
         final ExampleScalpingStrategy strategy = new ExampleScalpingStrategy();
 
@@ -242,7 +240,7 @@ public class TestExampleScalpingStrategy {
         strategy.init(tradingApi, market, config);
         strategy.execute();
 
-        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState, unfilledOrder);
+        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
     }
 
     /*
@@ -273,7 +271,7 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the sell order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to get amount of base currency to buy for given counter currency amount
         expect(market.getId()).andReturn(MARKET_ID);
@@ -286,7 +284,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID);
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andReturn(orderId);
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andReturn(orderId);
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
 
@@ -330,15 +329,9 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the sell order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        final OpenOrder unfilledOrder = createMock(OpenOrder.class);
-        final List<OpenOrder> openOrders = new ArrayList<>();
-        openOrders.add(unfilledOrder); // still have open order
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(openOrders);
-
-        // expect strategy to find existing open order and hold current position
-        expect(openOrders.get(0).getId()).andReturn("45345346");
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(true); // still have open order - hold position
 
-        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState, unfilledOrder);
+        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
 
         final ExampleScalpingStrategy strategy = new ExampleScalpingStrategy();
 
@@ -349,7 +342,7 @@ public class TestExampleScalpingStrategy {
         strategy.init(tradingApi, market, config);
         strategy.execute();
 
-        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState, unfilledOrder);
+        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
     }
 
     // ------------------------------------------------------------------------
@@ -383,7 +376,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID);
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andThrow(
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
                 new ExchangeNetworkException("Timeout waiting for exchange!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
@@ -395,6 +389,115 @@ public class TestExampleScalpingStrategy {
         verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
     }
 
+    /*
+     * When the initial buy order timed out, but made it to the exchange after all, we expect the strategy to find it
+     * by its client order id at the next trade cycle, and not send another one.
+     *
+     * - Given the initial buy order timed out
+     * - When the strategy is invoked at the next trade cycle
+     * - Then the buy order is looked up by its client order id and becomes the last order
+     */
+    @Test
+    public void testStrategyFindsInitialBuyOrderThatTimedOutAtNextTradeCycle() throws Exception {
+
+        // expect to get current bid and ask spot prices for both trade cycles
+        final BigDecimal bidSpotPrice = new BigDecimal("1453.014");
+        expect(marketBuyOrders.get(0).getPrice()).andReturn(bidSpotPrice).times(2);
+        final BigDecimal askSpotPrice = new BigDecimal("1455.016");
+        expect(marketSellOrders.get(0).getPrice()).andReturn(askSpotPrice).times(2);
+        expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
+        expect(tradingApi.getMarketOrders(MARKET_ID)).andReturn(marketOrderBook);
+        expect(marketOrderBook.getBuyOrders()).andReturn(marketBuyOrders);
+        expect(marketOrderBook.getSellOrders()).andReturn(marketSellOrders);
+
+        // expect to send initial buy order to exchange and receive timeout exception
+        final BigDecimal lastTradePrice = new BigDecimal("1454.018");
+        expect(tradingApi.getLatestMarketPrice(MARKET_ID)).andReturn(lastTradePrice);
+        final BigDecimal amountOfUnitsToBuy = new BigDecimal("0.01375499");
+        expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
+        expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
+                new ExchangeNetworkException("Timeout waiting for exchange!"));
+
+        // expect to find the order at the next trade cycle, and check if it has filled
+        final String orderId = "4239407233";
+        expect(tradingApi.supportsClientOrderIds()).andReturn(true);
+        expect(tradingApi.getOrderIdByClientOrderId(CLIENT_ORDER_ID, MARKET_ID)).andReturn(orderId);
+        expect(tradingApi.isOrderOpen(orderId, MARKET_ID)).andReturn(true);
+
+        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
+
+        final ExampleScalpingStrategy strategy = new ExampleScalpingStrategy();
+        strategy.init(tradingApi, market, config);
+        strategy.execute();
+        strategy.execute();
+
+        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
+    }
+
+    /*
+     * Tests the strategy finds a buy order that timed out, but made it to an exchange that does not take client order
+     * ids.
+     *
+     * - Given the initial buy order timed out
+     * - And the exchange does not take client order ids
+     * - When the strategy is invoked at the next trade cycle
+     * - Then the buy order is found in the open orders and becomes the last order
+     */
+    @Test
+    public void testStrategyFindsInitialBuyOrderThatTimedOutInOpenOrdersAtNextTradeCycle() throws Exception {
+
+        // expect to get current bid and ask spot prices for both trade cycles
+        final BigDecimal bidSpotPrice = new BigDecimal("1453.014");
+        expect(marketBuyOrders.get(0).getPrice()).andReturn(bidSpotPrice).times(2);
+        final BigDecimal askSpotPrice = new BigDecimal("1455.016");
+        expect(marketSellOrders.get(0).getPrice()).andReturn(askSpotPrice).times(2);
+        expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
+        expect(tradingApi.getMarketOrders(MARKET_ID)).andReturn(marketOrderBook);
+        expect(marketOrderBook.getBuyOrders()).andReturn(marketBuyOrders);
+        expect(marketOrderBook.getSellOrders()).andReturn(marketSellOrders);
+
+        // expect to send initial buy order to exchange and receive timeout exception
+        final BigDecimal lastTradePrice = new BigDecimal("1454.018");
+        expect(tradingApi.getLatestMarketPrice(MARKET_ID)).andReturn(lastTradePrice);
+        final BigDecimal amountOfUnitsToBuy = new BigDecimal("0.01375499");
+        expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
+        expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
+                new ExchangeNetworkException("Timeout waiting for exchange!"));
+
+        // expect to find the order in the open orders at the next trade cycle, and check if it has filled
+        final String orderId = "4239407233";
+        final OpenOrder otherOpenOrder = createMock(OpenOrder.class);
+        expect(otherOpenOrder.getType()).andStubReturn(OrderType.SELL);
+        expect(otherOpenOrder.getPrice()).andStubReturn(bidSpotPrice);
+        expect(otherOpenOrder.getOriginalQuantity()).andStubReturn(amountOfUnitsToBuy);
+        final OpenOrder openOrder = createMock(OpenOrder.class);
+        expect(openOrder.getId()).andReturn(orderId);
+        expect(openOrder.getType()).andStubReturn(OrderType.BUY);
+        expect(openOrder.getPrice()).andStubReturn(new BigDecimal("1453.01400"));
+        expect(openOrder.getOriginalQuantity()).andStubReturn(amountOfUnitsToBuy);
+        final List<OpenOrder> openOrders = new ArrayList<>();
+        openOrders.add(otherOpenOrder);
+        openOrders.add(openOrder);
+
+        expect(tradingApi.supportsClientOrderIds()).andReturn(false);
+        expect(tradingApi.getMarketInfo(MARKET_ID)).andReturn(null); // tick and step sizes not known, so no rounding
+        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(openOrders);
+        expect(tradingApi.isOrderOpen(orderId, MARKET_ID)).andReturn(true);
+
+        replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, otherOpenOrder, openOrder);
+
+        final ExampleScalpingStrategy strategy = new ExampleScalpingStrategy();
+        strategy.init(tradingApi, market, config);
+        strategy.execute();
+        strategy.execute();
+
+        verify(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, otherOpenOrder, openOrder);
+    }
+
     /*
      * When attempting to send a buy order to the exchange, a timeout exception is received. We expect the strategy to
      * swallow it and exit until the next trade cycle.
@@ -424,7 +527,7 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the sell order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to get amount of base currency to buy for given counter currency amount
         expect(market.getId()).andReturn(MARKET_ID);
@@ -436,7 +539,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID);
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andThrow(
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
                 new ExchangeNetworkException("Timeout waiting for exchange!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
@@ -482,13 +586,15 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the buy order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to send new sell order to exchange and receive timeout exception
         final BigDecimal requiredProfitInPercent = new BigDecimal("0.02");
         final BigDecimal newAskPrice = lastOrderPrice.multiply(requiredProfitInPercent).add(lastOrderPrice).setScale(8, RoundingMode.HALF_UP);
         expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice)).andThrow(
+        expect(tradingApi.getMarketInfo(MARKET_ID)).andReturn(null); // tick size not known, so 8 decimal places
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice, CLIENT_ORDER_ID)).andThrow(
                 new ExchangeNetworkException("Timeout waiting for exchange!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
@@ -536,7 +642,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andThrow(
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
                 new TradingApiException("Exchange returned a 500 status code!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder);
@@ -577,7 +684,7 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the sell order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to get amount of base currency to buy for given counter currency amount
         expect(market.getId()).andReturn(MARKET_ID);
@@ -589,7 +696,8 @@ public class TestExampleScalpingStrategy {
         expect(market.getId()).andReturn(MARKET_ID);
         expect(market.getCounterCurrency()).andReturn(COUNTER_CURRENCY).atLeastOnce();
         expect(market.getBaseCurrency()).andReturn(BASE_CURRENCY).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice)).andThrow(
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.BUY, amountOfUnitsToBuy, bidSpotPrice, CLIENT_ORDER_ID)).andThrow(
                 new TradingApiException("Exchange returned a 500 status code!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
@@ -635,13 +743,15 @@ public class TestExampleScalpingStrategy {
 
         // expect to check if the buy order has filled
         expect(market.getId()).andReturn(MARKET_ID);
-        expect(tradingApi.getYourOpenOrders(MARKET_ID)).andReturn(new ArrayList<>()); // empty list; order has filled
+        expect(tradingApi.isOrderOpen("45345346", MARKET_ID)).andReturn(false); // no longer open; order has filled
 
         // expect to send new sell order to exchange and receive timeout exception
         final BigDecimal requiredProfitInPercent = new BigDecimal("0.02");
         final BigDecimal newAskPrice = lastOrderPrice.multiply(requiredProfitInPercent).add(lastOrderPrice).setScale(8, RoundingMode.HALF_UP);
         expect(market.getId()).andReturn(MARKET_ID).atLeastOnce();
-        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice)).andThrow(
+        expect(tradingApi.getMarketInfo(MARKET_ID)).andReturn(null); // tick size not known, so 8 decimal places
+        expect(tradingApi.newClientOrderId()).andReturn(CLIENT_ORDER_ID);
+        expect(tradingApi.createOrder(MARKET_ID, OrderType.SELL, lastOrderAmount, newAskPrice, CLIENT_ORDER_ID)).andThrow(
                 new TradingApiException("Exchange returned a 500 status code!"));
 
         replay(tradingApi, market, config, marketOrderBook, marketBuyOrder, marketSellOrder, orderState);
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Represents a Fill (trade) of one of your orders on the exchange. An order can be filled by several trades.
+ * <p>
+ * Not all exchanges provide all of the information returned in these methods - you'll need to check the relevant
+ * Exchange Adapter code/Javadoc and online Exchange API documentation. If the exchange does not provide the
+ * information, a null value is returned.
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public interface Fill {
+
+    /**
+     * Returns the exchange's ID for this trade.
+     *
+     * @return the ID of the trade.
+     */
+    String getId();
+
+    /**
+     * Returns the ID of your order that was filled.
+     *
+     * @return the ID of the order.
+     */
+    String getOrderId();
+
+    /**
+     * Returns the id of the market the trade happened on.
+     *
+     * @return the id of the market.
+     */
+    String getMarketId();
+
+    /**
+     * Returns the type of the order that was filled. Value will be {@link OrderType#BUY} or {@link OrderType#SELL}.
+     *
+     * @return the type of order.
+     */
+    OrderType getType();
+
+    /**
+     * Returns the exchange date/time of the trade.
+     *
+     * @return the exchange date/time.
+     */
+    Date getCreationDate();
+
+    /**
+     * Returns the price per unit the trade happened at. This is usually in BTC or USD.
+     *
+     * @return the price per unit.
+     */
+    BigDecimal getPrice();
+
+    /**
+     * Returns the quantity traded.
+     *
+     * @return the quantity traded.
+     */
+    BigDecimal getQuantity();
+
+    /**
+     * Returns the fee the exchange charged for the trade.
+     *
+     * @return the fee if the exchange provides it, null otherwise.
+     */
+    BigDecimal getFee();
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Holds the trading rules an exchange applies to orders placed on one of its markets: the price tick size, the
+ * quantity step (lot) size, and the minimum quantity and value of an order.
+ * <p>
+ * An order that breaks these rules is rejected by the exchange. Use {@link #roundPrice(BigDecimal, RoundingMode)} and
+ * {@link #roundQuantity(BigDecimal)} to make your prices and quantities fit before you place your orders.
+ * <p>
+ * Not all exchanges provide all of the information returned in these methods - you'll need to check the relevant
+ * Exchange Adapter code/Javadoc and online Exchange API documentation. If the exchange does not provide the
+ * information, a null value is returned, and no rounding is done.
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public interface MarketInfo {
+
+    /**
+     * Returns the id of the market.
+     *
+     * @return the id of the market.
+     */
+    String getMarketId();
+
+    /**
+     * Returns the smallest amount an order's price can move by, e.g. 0.01. Prices must be a multiple of it.
+     *
+     * @return the price tick size if the exchange provides it, null otherwise.
+     */
+    BigDecimal getPriceTickSize();
+
+    /**
+     * Returns the smallest amount an order's quantity can move by, e.g. 0.00000001. Quantities must be a multiple
+     * of it.
+     *
+     * @return the quantity step size if the exchange provides it, null otherwise.
+     */
+    BigDecimal getQuantityStepSize();
+
+    /**
+     * Returns the smallest quantity an order can be for.
+     *
+     * @return the minimum quantity if the exchange provides it, null otherwise.
+     */
+    BigDecimal getMinQuantity();
+
+    /**
+     * Returns the smallest value (quantity x price) an order can be for, in the counter currency.
+     *
+     * @return the minimum order value if the exchange provides it, null otherwise.
+     */
+    BigDecimal getMinNotional();
+
+    /**
+     * Rounds a price to a multiple of the price tick size.
+     *
+     * @param price        the price to round.
+     * @param roundingMode how to round, e.g. {@link RoundingMode#DOWN} for a buy order so you never pay more than you
+     *                     wanted to.
+     * @return the rounded price, or the price as it is if the tick size is not known.
+     */
+    default BigDecimal roundPrice(BigDecimal price, RoundingMode roundingMode) {
+        return roundToMultiple(price, getPriceTickSize(), roundingMode);
+    }
+
+    /**
+     * Rounds a quantity down to a multiple of the quantity step size, so you never order more than you wanted to.
+     *
+     * @param quantity the quantity to round.
+     * @return the rounded quantity, or the quantity as it is if the step size is not known.
+     */
+    default BigDecimal roundQuantity(BigDecimal quantity) {
+        return roundToMultiple(quantity, getQuantityStepSize(), RoundingMode.DOWN);
+    }
+
+    /**
+     * Rounds a value to a multiple of an increment.
+     *
+     * @param value        the value to round.
+     * @param increment    the increment; the value is returned as it is if null or not positive.
+     * @param roundingMode how to round.
+     * @return the rounded value.
+     */
+    static BigDecimal roundToMultiple(BigDecimal value, BigDecimal increment, RoundingMode roundingMode) {
+        if (value == null || increment == null || increment.signum() <= 0) {
+            return value;
+        }
+        return value.divide(increment, 0, roundingMode).multiply(increment);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+/**
+ * <p>
+ * This exception is thrown by {@link TradingApi#amendOrder(String, String, OrderType, java.math.BigDecimal,
+ * java.math.BigDecimal)} when the old order was cancelled, but the new order could not be placed. You no longer have
+ * an order on the book.
+ * </p>
+ * <p>
+ * The cause is the exception placing the new order failed with. If that was an {@link ExchangeNetworkException}, the
+ * exchange may still have placed it - check your open orders at the next trade cycle before placing it again.
+ * </p>
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public class OrderNotReplacedException extends TradingApiException {
+
+    private static final long serialVersionUID = -3290418764215598637L;
+
+    private final String cancelledOrderId;
+
+    /**
+     * Constructor builds exception with error message, the id of the cancelled order, and original throwable.
+     *
+     * @param msg              the error message.
+     * @param cancelledOrderId the id of the order that was cancelled.
+     * @param e                the exception placing the new order failed with, or null if the exchange did not
+     *                         return an id for it.
+     */
+    public OrderNotReplacedException(String msg, String cancelledOrderId, Throwable e) {
+        super(msg, e);
+        this.cancelledOrderId = cancelledOrderId;
+    }
+
+    /**
+     * Returns the id of the order that was cancelled.
+     *
+     * @return the id of the cancelled order.
+     */
+    public String getCancelledOrderId() {
+        return cancelledOrderId;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+/**
+ * <p>
+ * This exception is thrown when an order breaks the trading rules of the market it is for, e.g. it is for less than
+ * the minimum quantity. The order is rejected before it is sent to the exchange.
+ * </p>
+ * <p>
+ * Unlike its parent {@link TradingApiException}, it does not mean something bad has happened; your Trading Strategy
+ * can catch it and carry on, e.g. by waiting until it has enough to place the order.
+ * </p>
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public class OrderRejectedException extends TradingApiException {
+
+    private static final long serialVersionUID = 4620817370934560918L;
+
+    /**
+     * Constructor builds exception with error message.
+     *
+     * @param msg the error message.
+     */
+    public OrderRejectedException(String msg) {
+        super(msg);
+    }
+}
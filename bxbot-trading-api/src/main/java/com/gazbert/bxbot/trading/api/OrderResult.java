@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.List;
+
+/**
+ * The result of placing or cancelling 1 order in a batch - see {@link TradingApi#createOrders(List)},
+ * {@link TradingApi#cancelOrders(List, String)}, and {@link TradingApi#cancelAllOrders(String)}.
+ * <p>
+ * A batch carries on when one of its orders fails, so each order gets its own result. If the order failed, the
+ * exception that failed it is returned: an {@link ExchangeNetworkException} means the order may or may not have been
+ * placed or cancelled, and you should check with {@link TradingApi#getOrderStatus(String, String)} or
+ * {@link TradingApi#getYourOpenOrders(String)} before retrying it.
+ * <p>
+ * Instances are immutable.
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public final class OrderResult {
+
+    private final String orderId;
+    private final Exception failure;
+
+    private OrderResult(String orderId, Exception failure) {
+        this.orderId = orderId;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates the result of an order that was placed or cancelled.
+     *
+     * @param orderId the id of the order.
+     * @return the result.
+     */
+    public static OrderResult succeeded(String orderId) {
+        return new OrderResult(orderId, null);
+    }
+
+    /**
+     * Creates the result of an order that failed to be placed or cancelled.
+     *
+     * @param orderId the id of the order, or null if it failed to be placed.
+     * @param failure the {@link ExchangeNetworkException} or {@link TradingApiException} that failed the order.
+     * @return the result.
+     */
+    public static OrderResult failed(String orderId, Exception failure) {
+        return new OrderResult(orderId, failure);
+    }
+
+    /**
+     * Returns the id of the order.
+     *
+     * @return the id of the order, or null if it failed to be placed.
+     */
+    public String getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * Returns true if the order was placed or cancelled.
+     *
+     * @return true if the order succeeded, false if it failed.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the {@link ExchangeNetworkException} or {@link TradingApiException} that failed the order.
+     *
+     * @return the failure, or null if the order succeeded.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("orderId", orderId)
+                .add("failure", failure)
+                .toString();
+    }
+}
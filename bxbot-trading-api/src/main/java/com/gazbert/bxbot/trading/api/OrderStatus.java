@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents the current status of an order on the exchange, whether it is still open or not.
+ * <p>
+ * Not all exchanges provide all of the information returned in these methods - you'll need to check the relevant
+ * Exchange Adapter code/Javadoc and online Exchange API documentation. If the exchange does not provide the
+ * information, a null value is returned.
+ *
+ * @author gazbert
+ * @since 1.2
+ */
+public interface OrderStatus {
+
+    /**
+     * Returns the ID for this order.
+     *
+     * @return the ID of the order.
+     */
+    String getId();
+
+    /**
+     * Returns the id of the market this order was placed on.
+     *
+     * @return the id of the market.
+     */
+    String getMarketId();
+
+    /**
+     * Returns the type of order. Value will be {@link OrderType#BUY} or {@link OrderType#SELL}.
+     *
+     * @return the type of order if the exchange provides it, null otherwise.
+     */
+    OrderType getType();
+
+    /**
+     * Returns the state of the order.
+     *
+     * @return the state of the order.
+     */
+    OrderState getState();
+
+    /**
+     * Returns the price per unit for this order. This is usually in BTC or USD.
+     *
+     * @return the price per unit for this order if the exchange provides it, null otherwise.
+     */
+    BigDecimal getPrice();
+
+    /**
+     * Returns the Original total order quantity.
+     *
+     * @return the Original total order quantity if the exchange provides it, null otherwise.
+     */
+    BigDecimal getOriginalQuantity();
+
+    /**
+     * Returns the quantity of this order that has been filled.
+     *
+     * @return the quantity filled.
+     */
+    BigDecimal getFilledQuantity();
+
+    /**
+     * Returns the average price the filled quantity was traded at.
+     *
+     * @return the average fill price if the exchange provides it and some of the order has been filled, null otherwise.
+     */
+    BigDecimal getAverageFillPrice();
+}
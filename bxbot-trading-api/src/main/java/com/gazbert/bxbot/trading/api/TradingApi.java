@@ -24,7 +24,13 @@
 package com.gazbert.bxbot.trading.api;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 /**
  * <p>
@@ -54,7 +60,7 @@ public interface TradingApi {
      * @since 1.0
      */
     default String getVersion() {
-        return "1.1";
+        return "1.2";
     }
 
     /**
@@ -82,6 +88,34 @@ public interface TradingApi {
      */
     MarketOrderBook getMarketOrders(String marketId) throws ExchangeNetworkException, TradingApiException;
 
+    /**
+     * Fetches latest <em>market</em> orders for several markets.
+     * <p>
+     * The default implementation calls {@link #getMarketOrders(String)} for each market. Exchange Adapters for
+     * exchanges that return the order books for several markets in a single request override it to make just 1 call.
+     *
+     * @param marketIds the ids of the markets.
+     * @return the market order book for each market, keyed by market id, in the order the markets were given.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default Map<String, MarketOrderBook> getMarketOrders(Collection<String> marketIds)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final Map<String, MarketOrderBook> orderBooksByMarket = new LinkedHashMap<>();
+        for (final String marketId : marketIds) {
+            orderBooksByMarket.put(marketId, getMarketOrders(marketId));
+        }
+        return orderBooksByMarket;
+    }
+
     /**
      * Fetches <em>your</em> current open orders, i.e. the orders placed by the bot.
      *
@@ -99,6 +133,67 @@ public interface TradingApi {
      */
     List<OpenOrder> getYourOpenOrders(String marketId) throws ExchangeNetworkException, TradingApiException;
 
+    /**
+     * Fetches <em>your</em> current open orders for several markets.
+     * <p>
+     * The default implementation calls {@link #getYourOpenOrders(String)} for each market. Exchange Adapters for
+     * exchanges that return the open orders for all markets in a single request override it to make just 1 call.
+     *
+     * @param marketIds the ids of the markets.
+     * @return your current open orders for each market, keyed by market id. There is an entry for every market asked
+     * for, even if it has no open orders.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default Map<String, List<OpenOrder>> getYourOpenOrders(Collection<String> marketIds)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final Map<String, List<OpenOrder>> openOrdersByMarket = new LinkedHashMap<>();
+        for (final String marketId : marketIds) {
+            openOrdersByMarket.put(marketId, getYourOpenOrders(marketId));
+        }
+        return openOrdersByMarket;
+    }
+
+    /**
+     * Checks if one of <em>your</em> orders is still open on the exchange.
+     * <p>
+     * The default implementation looks for the order in {@link #getYourOpenOrders(String)}. The Trading API handed to
+     * Trading Strategies by the Trading Engine answers from an index of your open orders that it refreshes once per
+     * trade cycle, so you can call this as often as you like.
+     * <p>
+     * An order that is no longer open has either been filled or cancelled.
+     *
+     * @param orderId  your order id.
+     * @param marketId the id of the market the order was placed on.
+     * @return true if the order is still open, false otherwise.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default boolean isOrderOpen(String orderId, String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        for (final OpenOrder openOrder : getYourOpenOrders(marketId)) {
+            if (openOrder.getId().equals(orderId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Places an order on the exchange.
      *
@@ -120,6 +215,96 @@ public interface TradingApi {
     String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price)
             throws ExchangeNetworkException, TradingApiException;
 
+    /**
+     * Places an order on the exchange, tagged with a client order id you generated for it with
+     * {@link #newClientOrderId()}.
+     * <p>
+     * If the call fails with an {@link ExchangeNetworkException}, e.g. a timeout, the order may or may not have been
+     * placed. Do not just place it again: look it up with {@link #getOrderIdByClientOrderId(String, String)} first,
+     * e.g. at the next trade cycle, and only place it again - with a new client order id - if it was not found.
+     * <p>
+     * Exchange Adapters for exchanges that take client order ids should override it, and
+     * {@link #supportsClientOrderIds()}. The default implementation ignores the client order id and calls
+     * {@link #createOrder(String, OrderType, BigDecimal, BigDecimal)}.
+     *
+     * @param marketId      the id of the market.
+     * @param orderType     Value must be {@link OrderType#BUY} or {@link OrderType#SELL}.
+     * @param quantity      amount of units you are buying/selling in this order.
+     * @param price         the price per unit you are buying/selling at.
+     * @param clientOrderId your id for the order, from {@link #newClientOrderId()}.
+     * @return the id of the order.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price,
+                               String clientOrderId) throws ExchangeNetworkException, TradingApiException {
+        return createOrder(marketId, orderType, quantity, price);
+    }
+
+    /**
+     * Generates a new client order id for {@link #createOrder(String, OrderType, BigDecimal, BigDecimal, String)}, in
+     * the format the exchange wants, e.g. a UUID or a number.
+     * <p>
+     * The default implementation returns a random UUID.
+     *
+     * @return a new client order id.
+     * @since 1.2
+     */
+    default String newClientOrderId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Tells you if the exchange takes client order ids, i.e. if an order placed with
+     * {@link #createOrder(String, OrderType, BigDecimal, BigDecimal, String)} can be looked up with
+     * {@link #getOrderIdByClientOrderId(String, String)}. If not, look for the order in
+     * {@link #getYourOpenOrders(String)} instead.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if orders can be looked up by their client order id, false otherwise.
+     * @since 1.2
+     */
+    default boolean supportsClientOrderIds() {
+        return false;
+    }
+
+    /**
+     * Looks up an order you placed with {@link #createOrder(String, OrderType, BigDecimal, BigDecimal, String)} by its
+     * client order id. It finds the order whether it is still open or not; depending on the exchange, that can take
+     * more than 1 call, e.g. searching the open orders and then the closed ones.
+     * <p>
+     * Use it to find out if an order whose placement failed with an {@link ExchangeNetworkException} made it to the
+     * exchange.
+     * <p>
+     * Only call it if {@link #supportsClientOrderIds()} returns true. The default implementation throws a
+     * {@link TradingApiException}; Exchange Adapters for exchanges that take client order ids override it.
+     *
+     * @param clientOrderId your id for the order.
+     * @param marketId      the id of the market the order was placed on, e.g. btc_usd
+     * @return the id of the order, or null if no order with the client order id was placed.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default String getOrderIdByClientOrderId(String clientOrderId, String marketId)
+            throws ExchangeNetworkException, TradingApiException {
+        throw new TradingApiException("getOrderIdByClientOrderId is not supported by " + getImplName());
+    }
+
     /**
      * Cancels your existing order on the exchange.
      *
@@ -138,6 +323,166 @@ public interface TradingApi {
      */
     boolean cancelOrder(String orderId, String marketId) throws ExchangeNetworkException, TradingApiException;
 
+    /**
+     * Moves one of your orders to a new price and quantity, replacing it with a new order.
+     * <p>
+     * Exchange Adapters for exchanges that can replace an order in 1 call should override it; the exchange then
+     * cancels the order and places the new one together, so there is no gap with no order on the book. The default
+     * implementation calls {@link #cancelOrder(String, String)} and then, if the order was cancelled,
+     * {@link #createOrder(String, OrderType, BigDecimal, BigDecimal)} straight after it. If the new order cannot be
+     * placed, the old one is gone all the same, and an {@link OrderNotReplacedException} is thrown.
+     * <p>
+     * Most exchanges give the new order a new id, so use the returned id from now on.
+     *
+     * @param orderId     your order Id.
+     * @param marketId    the id of the market the order was placed on, e.g. btc_usd
+     * @param orderType   the type of the order, {@link OrderType#BUY} or {@link OrderType#SELL}. Exchanges need it to
+     *                    place the new order.
+     * @param newPrice    the new price per unit you are buying/selling at.
+     * @param newQuantity the new amount of units you are buying/selling.
+     * @return the id of the new order, or null if the order could not be cancelled, e.g. because it had already been
+     * filled - no new order is placed then.
+     * @throws OrderNotReplacedException if the order was cancelled, but the new order could not be placed.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default String amendOrder(String orderId, String marketId, OrderType orderType, BigDecimal newPrice,
+                              BigDecimal newQuantity) throws ExchangeNetworkException, TradingApiException {
+
+        if (!cancelOrder(orderId, marketId)) {
+            return null;
+        }
+
+        final String newOrderId;
+        try {
+            newOrderId = createOrder(marketId, orderType, newQuantity, newPrice);
+        } catch (ExchangeNetworkException | TradingApiException e) {
+            throw new OrderNotReplacedException("Cancelled order, but failed to place the new order. "
+                    + "Cancelled order id: " + orderId, orderId, e);
+        }
+        if (newOrderId == null) {
+            throw new OrderNotReplacedException("Cancelled order, but the exchange did not return an id for the new "
+                    + "order. Cancelled order id: " + orderId, orderId, null);
+        }
+        return newOrderId;
+    }
+
+    /**
+     * Places a batch of orders on the exchange, e.g. when re-quoting a ladder of orders.
+     * <p>
+     * Each order gets its own result, in the same order as the requests. An order that fails does not stop the rest of
+     * the batch being placed; its result holds the exception that failed it. The exceptions below are only thrown if
+     * the batch as a whole could not be submitted.
+     * <p>
+     * The default implementation calls {@link #createOrder(String, OrderType, BigDecimal, BigDecimal)} for each order.
+     * Exchange Adapters for exchanges that can place several orders in 1 call should override it.
+     *
+     * @param orderRequests the orders to place.
+     * @return the result of each order.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default List<OrderResult> createOrders(List<OrderRequest> orderRequests)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        for (final OrderRequest orderRequest : orderRequests) {
+            try {
+                orderResults.add(OrderResult.succeeded(createOrder(orderRequest.getMarketId(), orderRequest.getType(),
+                        orderRequest.getQuantity(), orderRequest.getPrice())));
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                orderResults.add(OrderResult.failed(null, e));
+            }
+        }
+        return orderResults;
+    }
+
+    /**
+     * Cancels a batch of your orders on a given market.
+     * <p>
+     * Each order gets its own result, in the same order as the order ids. An order that fails to be cancelled does not
+     * stop the rest of the batch being cancelled; its result holds the exception that failed it. The exceptions below
+     * are only thrown if the batch as a whole could not be submitted.
+     * <p>
+     * The default implementation calls {@link #cancelOrder(String, String)} for each order. Exchange Adapters for
+     * exchanges that can cancel several orders in 1 call should override it.
+     *
+     * @param orderIds your order ids.
+     * @param marketId the id of the market the orders were placed on, e.g. btc_usd
+     * @return the result of each order.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default List<OrderResult> cancelOrders(List<String> orderIds, String marketId)
+            throws ExchangeNetworkException, TradingApiException {
+
+        final List<OrderResult> orderResults = new ArrayList<>();
+        for (final String orderId : orderIds) {
+            try {
+                if (cancelOrder(orderId, marketId)) {
+                    orderResults.add(OrderResult.succeeded(orderId));
+                } else {
+                    orderResults.add(OrderResult.failed(orderId,
+                            new TradingApiException("Exchange did not cancel order " + orderId)));
+                }
+            } catch (ExchangeNetworkException | TradingApiException e) {
+                orderResults.add(OrderResult.failed(orderId, e));
+            }
+        }
+        return orderResults;
+    }
+
+    /**
+     * Cancels all your open orders on a given market.
+     * <p>
+     * Each order gets its own result; see {@link #cancelOrders(List, String)}.
+     * <p>
+     * The default implementation fetches your open orders with {@link #getYourOpenOrders(String)} and cancels them with
+     * {@link #cancelOrders(List, String)}. Exchange Adapters for exchanges that can cancel all the orders on a market in
+     * 1 call should override it.
+     *
+     * @param marketId the id of the market.
+     * @return the result of each order.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default List<OrderResult> cancelAllOrders(String marketId) throws ExchangeNetworkException, TradingApiException {
+
+        final List<String> orderIds = new ArrayList<>();
+        for (final OpenOrder openOrder : getYourOpenOrders(marketId)) {
+            orderIds.add(openOrder.getId());
+        }
+        return orderIds.isEmpty() ? new ArrayList<>() : cancelOrders(orderIds, marketId);
+    }
+
     /**
      * Fetches the latest price for a given market.
      * This is usually in BTC for altcoin markets and USD for BTC/USD markets - see the Exchange Adapter documentation.
@@ -281,4 +626,157 @@ public interface TradingApi {
             }
         };
     }
+
+    /**
+     * Returns the exchange Tickers for several markets.
+     * <p>
+     * The default implementation calls {@link #getTicker(String)} for each market. Exchange Adapters for exchanges that
+     * return the Tickers for several markets in a single request override it to make just 1 call.
+     *
+     * @param marketIds the ids of the markets.
+     * @return the exchange Ticker for each market, keyed by market id, in the order the markets were given.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default Map<String, Ticker> getTickers(Collection<String> marketIds)
+            throws TradingApiException, ExchangeNetworkException {
+
+        final Map<String, Ticker> tickersByMarket = new LinkedHashMap<>();
+        for (final String marketId : marketIds) {
+            tickersByMarket.put(marketId, getTicker(marketId));
+        }
+        return tickersByMarket;
+    }
+
+    /**
+     * Returns the status of one of your orders on the exchange, whether it is still open, filled, or cancelled.
+     * <p>
+     * This is a single targeted call to the exchange; use it instead of looking for the order in
+     * {@link #getYourOpenOrders(String)} when you need to know how much of the order has been filled, or whether it
+     * was filled or cancelled.
+     * <p>
+     * Only call it if {@link #supportsOrderStatus()} returns true. The default implementation throws a
+     * {@link TradingApiException}; all the inbuilt Exchange Adapters override it.
+     *
+     * @param orderId  your order Id.
+     * @param marketId the id of the market the order was placed on, e.g. btc_usd
+     * @return the status of the order.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default OrderStatus getOrderStatus(String orderId, String marketId)
+            throws ExchangeNetworkException, TradingApiException {
+        throw new TradingApiException("getOrderStatus is not supported by " + getImplName());
+    }
+
+    /**
+     * Tells you if {@link #getOrderStatus(String, String)} can be called. If not, look for the order in
+     * {@link #getYourOpenOrders(String)} instead.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if the status of an order can be fetched, false otherwise.
+     * @since 1.2
+     */
+    default boolean supportsOrderStatus() {
+        return false;
+    }
+
+    /**
+     * Returns the Fills (trades) of your orders on a given market since a given date/time, oldest first.
+     * <p>
+     * Exchanges limit how many trades they return in a single call, so keep the since date/time recent, e.g. the
+     * time of your last check.
+     * <p>
+     * Only call it if {@link #supportsFills()} returns true. The default implementation throws a
+     * {@link TradingApiException}; all the inbuilt Exchange Adapters override it.
+     *
+     * @param marketId the id of the market.
+     * @param since    only Fills at or after this date/time are returned.
+     * @return your Fills on the market.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default List<Fill> getFills(String marketId, Date since) throws ExchangeNetworkException, TradingApiException {
+        throw new TradingApiException("getFills is not supported by " + getImplName());
+    }
+
+    /**
+     * Tells you if {@link #getFills(String, Date)} can be called.
+     * <p>
+     * The default implementation returns false.
+     *
+     * @return true if your Fills can be fetched, false otherwise.
+     * @since 1.2
+     */
+    default boolean supportsFills() {
+        return false;
+    }
+
+    /**
+     * Returns the trading rules for all the exchange's markets - the price tick size, quantity step size, and the
+     * minimum quantity and value of an order - keyed by market id.
+     * <p>
+     * The rules rarely change, so the Trading Engine fetches them when it starts and refreshes them periodically;
+     * your Trading Strategy gets them from its cache without a call to the exchange. Orders placed through the
+     * Trading Engine are rounded to the market's tick and step sizes, and an {@link OrderRejectedException} is thrown
+     * without calling the exchange if they are too small.
+     * <p>
+     * The default implementation returns an empty map, i.e. the rules are not known and orders are sent to the
+     * exchange as they are.
+     *
+     * @return the trading rules for each market, keyed by market id.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default Map<String, MarketInfo> getMarketInfo() throws ExchangeNetworkException, TradingApiException {
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns the trading rules for a given market. See {@link #getMarketInfo()}.
+     *
+     * @param marketId the id of the market.
+     * @return the market's trading rules, or null if they are not known.
+     * @throws ExchangeNetworkException if a network error occurred trying to connect to the exchange. This is
+     *                                  implementation specific for each Exchange Adapter - see the documentation for the
+     *                                  adapter you are using. You could retry the API call, or exit from your Trading Strategy
+     *                                  and let the Trading Engine execute your Trading Strategy at the next trade cycle.
+     * @throws TradingApiException      if the API call failed for any reason other than a network error. This means something
+     *                                  bad as happened; you would probably want to wrap this exception in a
+     *                                  StrategyException and let the Trading Engine shutdown the bot immediately
+     *                                  to prevent unexpected losses.
+     * @since 1.2
+     */
+    default MarketInfo getMarketInfo(String marketId) throws ExchangeNetworkException, TradingApiException {
+        return getMarketInfo().get(marketId);
+    }
 }
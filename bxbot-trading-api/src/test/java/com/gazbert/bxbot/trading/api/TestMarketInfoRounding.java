@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests Market Info rounds prices and quantities to the market's tick and step sizes as expected.
+ *
+ * @author gazbert
+ */
+public class TestMarketInfoRounding {
+
+    @Test
+    public void testPriceIsRoundedToTickSize() {
+        final MarketInfo marketInfo = marketInfo(new BigDecimal("0.05"), null);
+        assertEquals(new BigDecimal("672.35"), marketInfo.roundPrice(new BigDecimal("672.3712"), RoundingMode.DOWN));
+        assertEquals(new BigDecimal("672.40"), marketInfo.roundPrice(new BigDecimal("672.3712"), RoundingMode.UP));
+    }
+
+    @Test
+    public void testQuantityIsRoundedDownToStepSize() {
+        final MarketInfo marketInfo = marketInfo(null, new BigDecimal("0.001"));
+        assertEquals(new BigDecimal("0.014"), marketInfo.roundQuantity(new BigDecimal("0.01499999")));
+    }
+
+    @Test
+    public void testNothingIsRoundedWhenSizesAreNotKnown() {
+        final MarketInfo marketInfo = marketInfo(null, null);
+        final BigDecimal price = new BigDecimal("672.3712");
+        assertEquals(price, marketInfo.roundPrice(price, RoundingMode.HALF_UP));
+        assertEquals(price, marketInfo.roundQuantity(price));
+    }
+
+    private static MarketInfo marketInfo(BigDecimal priceTickSize, BigDecimal quantityStepSize) {
+        return new MarketInfo() {
+            @Override
+            public String getMarketId() {
+                return "BTC_USD";
+            }
+
+            @Override
+            public BigDecimal getPriceTickSize() {
+                return priceTickSize;
+            }
+
+            @Override
+            public BigDecimal getQuantityStepSize() {
+                return quantityStepSize;
+            }
+
+            @Override
+            public BigDecimal getMinQuantity() {
+                return null;
+            }
+
+            @Override
+            public BigDecimal getMinNotional() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.gazbert.bxbot.trading.api;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests Order Not Replaced Exception is created as expected.
+ *
+ * @author gazbert
+ */
+public class TestOrderNotReplacedExceptionCreation {
+
+    private static final String ERROR_MSG = "Failed to place the new order. Cancelled order id: 1234";
+    private static final String CANCELLED_ORDER_ID = "1234";
+    private static final ExchangeNetworkException CAUSE = new ExchangeNetworkException("Exchange timed out");
+
+    @Test
+    public void testCreationOfExceptionIsAsExpected() {
+        final OrderNotReplacedException exception = new OrderNotReplacedException(ERROR_MSG, CANCELLED_ORDER_ID, CAUSE);
+        assertEquals(ERROR_MSG, exception.getMessage());
+        assertEquals(CANCELLED_ORDER_ID, exception.getCancelledOrderId());
+        assertEquals(CAUSE, exception.getCause());
+        assertTrue(exception instanceof TradingApiException);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests Order Result is created as expected.
+ *
+ * @author gazbert
+ */
+public class TestOrderResultCreation {
+
+    private static final String ORDER_ID = "12345";
+    private static final TradingApiException FAILURE = new TradingApiException("Order rejected by exchange");
+
+    @Test
+    public void testCreationOfSucceededResultIsAsExpected() {
+        final OrderResult orderResult = OrderResult.succeeded(ORDER_ID);
+        assertEquals(ORDER_ID, orderResult.getOrderId());
+        assertTrue(orderResult.isSuccessful());
+        assertNull(orderResult.getFailure());
+    }
+
+    @Test
+    public void testCreationOfFailedResultIsAsExpected() {
+        final OrderResult orderResult = OrderResult.failed(null, FAILURE);
+        assertNull(orderResult.getOrderId());
+        assertFalse(orderResult.isSuccessful());
+        assertEquals(FAILURE, orderResult.getFailure());
+    }
+}
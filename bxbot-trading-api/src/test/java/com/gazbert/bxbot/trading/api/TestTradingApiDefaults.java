@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2017 Gareth Jon Lynch
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+ * FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+ * IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+ * CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.gazbert.bxbot.trading.api;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests a Trading API implementation that only implements the original calls still works, and the newer calls it
+ * does not support fail as expected.
+ *
+ * @author gazbert
+ */
+public class TestTradingApiDefaults {
+
+    private static final String IMPL_NAME = "Dummy Exchange";
+    private static final String ORDER_ID = "8196e0f6-e2d8-4b3b-a8f6-1f1ee1a2e8a0";
+    private static final String MARKET_ID = "btc_usd";
+
+    private final TradingApi tradingApi = new OriginalTradingApi();
+
+    @Test
+    public void testUnsupportedCallsAreReportedAsNotSupported() {
+        assertFalse(tradingApi.supportsOrderStatus());
+        assertFalse(tradingApi.supportsFills());
+        assertFalse(tradingApi.supportsClientOrderIds());
+    }
+
+    @Test
+    public void testGetOrderStatusThrowsTradingApiExceptionIfNotSupported() throws Exception {
+        try {
+            tradingApi.getOrderStatus(ORDER_ID, MARKET_ID);
+            fail("Expected TradingApiException");
+        } catch (TradingApiException e) {
+            assertEquals("getOrderStatus is not supported by " + IMPL_NAME, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetFillsThrowsTradingApiExceptionIfNotSupported() throws Exception {
+        try {
+            tradingApi.getFills(MARKET_ID, new Date());
+            fail("Expected TradingApiException");
+        } catch (TradingApiException e) {
+            assertEquals("getFills is not supported by " + IMPL_NAME, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetOrderIdByClientOrderIdThrowsTradingApiExceptionIfNotSupported() throws Exception {
+        try {
+            tradingApi.getOrderIdByClientOrderId(ORDER_ID, MARKET_ID);
+            fail("Expected TradingApiException");
+        } catch (TradingApiException e) {
+            assertEquals("getOrderIdByClientOrderId is not supported by " + IMPL_NAME, e.getMessage());
+        }
+    }
+
+    /*
+     * Only implements the calls from version 1.0 of the Trading API.
+     */
+    private static class OriginalTradingApi implements TradingApi {
+
+        @Override
+        public String getImplName() {
+            return IMPL_NAME;
+        }
+
+        @Override
+        public MarketOrderBook getMarketOrders(String marketId) {
+            return null;
+        }
+
+        @Override
+        public List<OpenOrder> getYourOpenOrders(String marketId) {
+            return null;
+        }
+
+        @Override
+        public String createOrder(String marketId, OrderType orderType, BigDecimal quantity, BigDecimal price) {
+            return null;
+        }
+
+        @Override
+        public boolean cancelOrder(String orderId, String marketId) {
+            return false;
+        }
+
+        @Override
+        public BigDecimal getLatestMarketPrice(String marketId) {
+            return null;
+        }
+
+        @Override
+        public BalanceInfo getBalanceInfo() {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getPercentageOfBuyOrderTakenForExchangeFee(String marketId) {
+            return null;
+        }
+
+        @Override
+        public BigDecimal getPercentageOfSellOrderTakenForExchangeFee(String marketId) {
+            return null;
+        }
+    }
+}
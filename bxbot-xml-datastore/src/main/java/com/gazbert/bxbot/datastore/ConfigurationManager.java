@@ -51,6 +51,14 @@ public final class ConfigurationManager {
      * Loads and returns the requested configuration.
      */
     public static <T> T loadConfig(Class<T> configClass, String xmlConfigFile, String xmlSchemaFile) {
+        return (T) loadConfigRootElement(configClass, xmlConfigFile, xmlSchemaFile);
+    }
+
+    /*
+     * Loads and returns the root element of the requested configuration. For XML Schemas that allow more than one
+     * root element - the caller checks which one it got back.
+     */
+    public static Object loadConfigRootElement(Class<?> configClass, String xmlConfigFile, String xmlSchemaFile) {
 
         LOG.info(() -> "Loading configuration for [" + configClass + "] from: " + xmlConfigFile + " ...");
 
@@ -70,7 +78,7 @@ public final class ConfigurationManager {
             synchronized (MUTEX) {
                 final FileInputStream fileInputStream = new FileInputStream(xmlConfigFile);
                 final JAXBElement<?> requestedConfigRootXmlElement = (JAXBElement<?>) unmarshaller.unmarshal(fileInputStream);
-                final T requestedConfig = (T) requestedConfigRootXmlElement.getValue();
+                final Object requestedConfig = requestedConfigRootXmlElement.getValue();
                 fileInputStream.close();
 
                 LOG.info(() -> "Loaded and set configuration for [" + configClass + "] successfully!");
@@ -57,6 +57,34 @@ import java.math.BigDecimal;
  *             &lt;/restriction&gt;
  *           &lt;/simpleType&gt;
  *         &lt;/element&gt;
+ *         &lt;element name="max-concurrent-strategies" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="min-trade-cycle-interval" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="max-trade-cycle-interval" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="market-data-prefetch-lead-time" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
  *       &lt;/sequence&gt;
  *     &lt;/restriction&gt;
  *   &lt;/complexContent&gt;
@@ -71,7 +99,11 @@ import java.math.BigDecimal;
     "botName",
     "emergencyStopCurrency",
     "emergencyStopBalance",
-    "tradeCycleInterval"
+    "tradeCycleInterval",
+    "maxConcurrentStrategies",
+    "minTradeCycleInterval",
+    "maxTradeCycleInterval",
+    "marketDataPrefetchLeadTime"
 })
 @XmlRootElement(name="engine")
 public class EngineType {
@@ -86,6 +118,14 @@ public class EngineType {
     protected BigDecimal emergencyStopBalance;
     @XmlElement(name = "trade-cycle-interval")
     protected int tradeCycleInterval;
+    @XmlElement(name = "max-concurrent-strategies")
+    protected Integer maxConcurrentStrategies;
+    @XmlElement(name = "min-trade-cycle-interval")
+    protected Integer minTradeCycleInterval;
+    @XmlElement(name = "max-trade-cycle-interval")
+    protected Integer maxTradeCycleInterval;
+    @XmlElement(name = "market-data-prefetch-lead-time")
+    protected Integer marketDataPrefetchLeadTime;
 
     /**
      * Gets the value of the botId property.
@@ -199,4 +239,100 @@ public class EngineType {
         this.tradeCycleInterval = value;
     }
 
+    /**
+     * Gets the value of the maxConcurrentStrategies property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getMaxConcurrentStrategies() {
+        return maxConcurrentStrategies;
+    }
+
+    /**
+     * Sets the value of the maxConcurrentStrategies property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setMaxConcurrentStrategies(Integer value) {
+        this.maxConcurrentStrategies = value;
+    }
+
+    /**
+     * Gets the value of the minTradeCycleInterval property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getMinTradeCycleInterval() {
+        return minTradeCycleInterval;
+    }
+
+    /**
+     * Sets the value of the minTradeCycleInterval property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setMinTradeCycleInterval(Integer value) {
+        this.minTradeCycleInterval = value;
+    }
+
+    /**
+     * Gets the value of the maxTradeCycleInterval property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getMaxTradeCycleInterval() {
+        return maxTradeCycleInterval;
+    }
+
+    /**
+     * Sets the value of the maxTradeCycleInterval property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setMaxTradeCycleInterval(Integer value) {
+        this.maxTradeCycleInterval = value;
+    }
+
+    /**
+     * Gets the value of the marketDataPrefetchLeadTime property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getMarketDataPrefetchLeadTime() {
+        return marketDataPrefetchLeadTime;
+    }
+
+    /**
+     * Sets the value of the marketDataPrefetchLeadTime property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setMarketDataPrefetchLeadTime(Integer value) {
+        this.marketDataPrefetchLeadTime = value;
+    }
+
 }
@@ -32,6 +32,34 @@ import javax.xml.bind.annotation.XmlType;
  *         &lt;/element&gt;
  *         &lt;element name="non-fatal-error-codes" type="{}non-fatal-error-codesType" minOccurs="0"/&gt;
  *         &lt;element name="non-fatal-error-messages" type="{}non-fatal-error-messagesType" minOccurs="0"/&gt;
+ *         &lt;element name="max-retries" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="0"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="retry-backoff" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="call-deadline" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
+ *         &lt;element name="keep-alive-interval" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
  *       &lt;/sequence&gt;
  *     &lt;/restriction&gt;
  *   &lt;/complexContent&gt;
@@ -44,7 +72,11 @@ import javax.xml.bind.annotation.XmlType;
 @XmlType(name = "network-configType", propOrder = {
     "connectionTimeout",
     "nonFatalErrorCodes",
-    "nonFatalErrorMessages"
+    "nonFatalErrorMessages",
+    "maxRetries",
+    "retryBackoff",
+    "callDeadline",
+    "keepAliveInterval"
 })
 public class NetworkConfigType {
 
@@ -54,6 +86,14 @@ public class NetworkConfigType {
     protected NonFatalErrorCodesType nonFatalErrorCodes;
     @XmlElement(name = "non-fatal-error-messages")
     protected NonFatalErrorMessagesType nonFatalErrorMessages;
+    @XmlElement(name = "max-retries")
+    protected Integer maxRetries;
+    @XmlElement(name = "retry-backoff")
+    protected Integer retryBackoff;
+    @XmlElement(name = "call-deadline")
+    protected Integer callDeadline;
+    @XmlElement(name = "keep-alive-interval")
+    protected Integer keepAliveInterval;
 
     /**
      * Gets the value of the connectionTimeout property.
@@ -127,4 +167,100 @@ public class NetworkConfigType {
         this.nonFatalErrorMessages = value;
     }
 
+    /**
+     * Gets the value of the maxRetries property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Sets the value of the maxRetries property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setMaxRetries(Integer value) {
+        this.maxRetries = value;
+    }
+
+    /**
+     * Gets the value of the retryBackoff property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    /**
+     * Sets the value of the retryBackoff property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setRetryBackoff(Integer value) {
+        this.retryBackoff = value;
+    }
+
+    /**
+     * Gets the value of the callDeadline property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getCallDeadline() {
+        return callDeadline;
+    }
+
+    /**
+     * Sets the value of the callDeadline property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setCallDeadline(Integer value) {
+        this.callDeadline = value;
+    }
+
+    /**
+     * Gets the value of the keepAliveInterval property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the value of the keepAliveInterval property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setKeepAliveInterval(Integer value) {
+        this.keepAliveInterval = value;
+    }
+
 }
@@ -32,6 +32,7 @@ import javax.xml.namespace.QName;
 public class ObjectFactory {
 
     private final static QName _Exchange_QNAME = new QName("", "exchange");
+    private final static QName _Exchanges_QNAME = new QName("", "exchanges");
 
     /**
      * Create a new ObjectFactory that can be used to create new instances of schema derived classes for package: generated
@@ -40,6 +41,14 @@ public class ObjectFactory {
     public ObjectFactory() {
     }
 
+    /**
+     * Create an instance of {@link ExchangesType }
+     * 
+     */
+    public ExchangesType createExchangesType() {
+        return new ExchangesType();
+    }
+
     /**
      * Create an instance of {@link ExchangeType }
      * 
@@ -105,4 +114,13 @@ public class ObjectFactory {
         return new JAXBElement<ExchangeType>(_Exchange_QNAME, ExchangeType.class, null, value);
     }
 
+    /**
+     * Create an instance of {@link JAXBElement }{@code <}{@link ExchangesType }{@code >}}
+     * 
+     */
+    @XmlElementDecl(namespace = "", name = "exchanges")
+    public JAXBElement<ExchangesType> createExchanges(ExchangesType value) {
+        return new JAXBElement<ExchangesType>(_Exchanges_QNAME, ExchangesType.class, null, value);
+    }
+
 }
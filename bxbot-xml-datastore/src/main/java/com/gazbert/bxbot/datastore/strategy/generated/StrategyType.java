@@ -47,6 +47,13 @@ import javax.xml.bind.annotation.XmlType;
  *             &lt;/restriction&gt;
  *           &lt;/simpleType&gt;
  *         &lt;/element&gt;
+ *         &lt;element name="execution-timeout" minOccurs="0"&gt;
+ *           &lt;simpleType&gt;
+ *             &lt;restriction base="{http://www.w3.org/2001/XMLSchema}int"&gt;
+ *               &lt;minInclusive value="1"/&gt;
+ *             &lt;/restriction&gt;
+ *           &lt;/simpleType&gt;
+ *         &lt;/element&gt;
  *         &lt;element name="optional-config" type="{}optional-configType" minOccurs="0"/&gt;
  *       &lt;/sequence&gt;
  *     &lt;/restriction&gt;
@@ -62,6 +69,7 @@ import javax.xml.bind.annotation.XmlType;
     "name",
     "description",
     "className",
+    "executionTimeout",
     "optionalConfig"
 })
 public class StrategyType {
@@ -73,6 +81,8 @@ public class StrategyType {
     protected String description;
     @XmlElement(name = "class-name", required = true)
     protected String className;
+    @XmlElement(name = "execution-timeout")
+    protected Integer executionTimeout;
     @XmlElement(name = "optional-config")
     protected OptionalConfigType optionalConfig;
 
@@ -172,6 +182,30 @@ public class StrategyType {
         this.className = value;
     }
 
+    /**
+     * Gets the value of the executionTimeout property.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Integer }
+     *     
+     */
+    public Integer getExecutionTimeout() {
+        return executionTimeout;
+    }
+
+    /**
+     * Sets the value of the executionTimeout property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Integer }
+     *     
+     */
+    public void setExecutionTimeout(Integer value) {
+        this.executionTimeout = value;
+    }
+
     /**
      * Gets the value of the optionalConfig property.
      * 
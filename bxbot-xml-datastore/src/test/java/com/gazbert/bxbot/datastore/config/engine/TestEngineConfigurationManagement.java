@@ -55,6 +55,10 @@ public class TestEngineConfigurationManagement {
     private static final String EMERGENCY_STOP_CURRENCY = "BTC";
     private static final BigDecimal EMERGENCY_STOP_BALANCE = new BigDecimal("0.5");
     private static final int TRADE_CYCLE_INTERVAL = 60;
+    private static final Integer MAX_CONCURRENT_STRATEGIES = 4;
+    private static final Integer MIN_TRADE_CYCLE_INTERVAL = 10;
+    private static final Integer MAX_TRADE_CYCLE_INTERVAL = 300;
+    private static final Integer MARKET_DATA_PREFETCH_LEAD_TIME = 500;
 
 
     @Test
@@ -68,6 +72,10 @@ public class TestEngineConfigurationManagement {
         assertEquals(EMERGENCY_STOP_CURRENCY, engine.getEmergencyStopCurrency());
         assertTrue(EMERGENCY_STOP_BALANCE.compareTo(engine.getEmergencyStopBalance()) == 0);
         assertTrue(TRADE_CYCLE_INTERVAL == engine.getTradeCycleInterval());
+        assertEquals(MAX_CONCURRENT_STRATEGIES, engine.getMaxConcurrentStrategies());
+        assertEquals(MIN_TRADE_CYCLE_INTERVAL, engine.getMinTradeCycleInterval());
+        assertEquals(MAX_TRADE_CYCLE_INTERVAL, engine.getMaxTradeCycleInterval());
+        assertEquals(MARKET_DATA_PREFETCH_LEAD_TIME, engine.getMarketDataPrefetchLeadTime());
     }
 
     @Test(expected = IllegalStateException.class)
@@ -89,6 +97,10 @@ public class TestEngineConfigurationManagement {
         engineConfig.setEmergencyStopCurrency(EMERGENCY_STOP_CURRENCY);
         engineConfig.setEmergencyStopBalance(EMERGENCY_STOP_BALANCE);
         engineConfig.setTradeCycleInterval(TRADE_CYCLE_INTERVAL);
+        engineConfig.setMaxConcurrentStrategies(MAX_CONCURRENT_STRATEGIES);
+        engineConfig.setMinTradeCycleInterval(MIN_TRADE_CYCLE_INTERVAL);
+        engineConfig.setMaxTradeCycleInterval(MAX_TRADE_CYCLE_INTERVAL);
+        engineConfig.setMarketDataPrefetchLeadTime(MARKET_DATA_PREFETCH_LEAD_TIME);
 
         ConfigurationManager.saveConfig(EngineType.class, engineConfig, XML_CONFIG_TO_SAVE_FILENAME);
 
@@ -101,6 +113,10 @@ public class TestEngineConfigurationManagement {
         assertEquals(EMERGENCY_STOP_CURRENCY, engineReloaded.getEmergencyStopCurrency());
         assertTrue(EMERGENCY_STOP_BALANCE.compareTo(engineReloaded.getEmergencyStopBalance()) == 0);
         assertTrue(TRADE_CYCLE_INTERVAL == engineReloaded.getTradeCycleInterval());
+        assertEquals(MAX_CONCURRENT_STRATEGIES, engineReloaded.getMaxConcurrentStrategies());
+        assertEquals(MIN_TRADE_CYCLE_INTERVAL, engineReloaded.getMinTradeCycleInterval());
+        assertEquals(MAX_TRADE_CYCLE_INTERVAL, engineReloaded.getMaxTradeCycleInterval());
+        assertEquals(MARKET_DATA_PREFETCH_LEAD_TIME, engineReloaded.getMarketDataPrefetchLeadTime());
 
         // cleanup
         Files.delete(FileSystems.getDefault().getPath(XML_CONFIG_TO_SAVE_FILENAME));
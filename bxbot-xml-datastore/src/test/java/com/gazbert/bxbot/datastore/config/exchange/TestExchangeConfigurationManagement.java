@@ -48,6 +48,9 @@ public class TestExchangeConfigurationManagement {
     /* Test XML config */
     private static final String VALID_XML_CONFIG_FILENAME = "src/test/config/exchange/valid-exchange.xml";
     private static final String INVALID_XML_CONFIG_FILENAME = "src/test/config/exchange/invalid-exchange.xml";
+    private static final String VALID_MULTI_EXCHANGE_XML_CONFIG_FILENAME = "src/test/config/exchange/valid-exchanges.xml";
+    private static final String DUPLICATE_EXCHANGE_IDS_XML_CONFIG_FILENAME =
+            "src/test/config/exchange/invalid-duplicate-exchange-ids.xml";
     private static final String MISSING_XML_CONFIG_FILENAME = "src/test/config/exchange-/missing-exchange.xml";
     private static final String XML_CONFIG_TO_SAVE_FILENAME = "src/test/config/exchange/saved-exchange.xml";
 
@@ -62,6 +65,10 @@ public class TestExchangeConfigurationManagement {
     private static final String SECRET_CONFIG_ITEM_VALUE = "your-secret-key";
 
     private static final Integer CONNECTION_TIMEOUT = 30;
+    private static final Integer MAX_RETRIES = 2;
+    private static final Integer RETRY_BACKOFF = 250;
+    private static final Integer CALL_DEADLINE = 10000;
+    private static final Integer KEEP_ALIVE_INTERVAL = 4000;
     private static final List<Integer> NON_FATAL_ERROR_CODES = Arrays.asList(502, 503, 504, 520, 522, 525);
     private static final List<String> NON_FATAL_ERROR_MESSAGES = Arrays.asList(
             "Connection refused",
@@ -94,6 +101,10 @@ public class TestExchangeConfigurationManagement {
         assertThat(exchangeType.getNetworkConfig().getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT);
         assertTrue(exchangeType.getNetworkConfig().getNonFatalErrorCodes().getCodes().containsAll(NON_FATAL_ERROR_CODES));
         assertTrue(exchangeType.getNetworkConfig().getNonFatalErrorMessages().getMessages().containsAll(NON_FATAL_ERROR_MESSAGES));
+        assertThat(exchangeType.getNetworkConfig().getMaxRetries()).isEqualTo(MAX_RETRIES);
+        assertThat(exchangeType.getNetworkConfig().getRetryBackoff()).isEqualTo(RETRY_BACKOFF);
+        assertThat(exchangeType.getNetworkConfig().getCallDeadline()).isEqualTo(CALL_DEADLINE);
+        assertThat(exchangeType.getNetworkConfig().getKeepAliveInterval()).isEqualTo(KEEP_ALIVE_INTERVAL);
 
         assertThat(exchangeType.getOptionalConfig().getConfigItems().get(0).getName()).isEqualTo(BUY_FEE_CONFIG_ITEM_KEY);
         assertThat(exchangeType.getOptionalConfig().getConfigItems().get(0).getValue()).isEqualTo(BUY_FEE_CONFIG_ITEM_VALUE);
@@ -101,6 +112,45 @@ public class TestExchangeConfigurationManagement {
         assertThat(exchangeType.getOptionalConfig().getConfigItems().get(1).getValue()).isEqualTo(SELL_FEE_CONFIG_ITEM_VALUE);
     }
 
+    @Test
+    public void testLoadingValidMultiExchangeXmlConfigFileIsSuccessful() {
+
+        final Object rootElement = ConfigurationManager.loadConfigRootElement(ExchangesType.class,
+                VALID_MULTI_EXCHANGE_XML_CONFIG_FILENAME, XML_SCHEMA_FILENAME);
+        assertTrue(rootElement instanceof ExchangesType);
+
+        final List<ExchangeType> exchanges = ((ExchangesType) rootElement).getExchanges();
+        assertThat(exchanges.size()).isEqualTo(2);
+
+        assertThat(exchanges.get(0).getId()).isEqualTo("bitstamp");
+        assertThat(exchanges.get(0).getName()).isEqualTo(EXCHANGE_NAME);
+        assertThat(exchanges.get(0).getAdapter()).isEqualTo(EXCHANGE_ADAPTER);
+        assertThat(exchanges.get(0).getNetworkConfig().getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT);
+        assertThat(exchanges.get(0).getOptionalConfig()).isNull();
+
+        assertThat(exchanges.get(1).getId()).isEqualTo("gdax");
+        assertThat(exchanges.get(1).getName()).isEqualTo("GDAX");
+        assertThat(exchanges.get(1).getAdapter()).isEqualTo("com.gazbert.bxbot.exchanges.GdaxExchangeAdapter");
+        assertThat(exchanges.get(1).getAuthenticationConfig().getConfigItems().get(0).getName()).isEqualTo("passphrase");
+        assertThat(exchanges.get(1).getNetworkConfig().getConnectionTimeout()).isEqualTo(20);
+        assertThat(exchanges.get(1).getOptionalConfig().getConfigItems().get(0).getName()).isEqualTo(BUY_FEE_CONFIG_ITEM_KEY);
+    }
+
+    @Test
+    public void testLoadingSingleExchangeXmlConfigFileReturnsExchangeRootElement() {
+
+        final Object rootElement = ConfigurationManager.loadConfigRootElement(ExchangesType.class,
+                VALID_XML_CONFIG_FILENAME, XML_SCHEMA_FILENAME);
+        assertTrue(rootElement instanceof ExchangeType);
+        assertThat(((ExchangeType) rootElement).getId()).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoadingXmlConfigFileWithDuplicateExchangeIdsThrowsException() {
+        ConfigurationManager.loadConfigRootElement(ExchangesType.class,
+                DUPLICATE_EXCHANGE_IDS_XML_CONFIG_FILENAME, XML_SCHEMA_FILENAME);
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testLoadingMissingXmlConfigFileThrowsException() {
         ConfigurationManager.loadConfig(ExchangeType.class, MISSING_XML_CONFIG_FILENAME, XML_SCHEMA_FILENAME);
@@ -137,6 +187,10 @@ public class TestExchangeConfigurationManagement {
         networkConfig.setConnectionTimeout(CONNECTION_TIMEOUT);
         networkConfig.setNonFatalErrorCodes(nonFatalErrorCodes);
         networkConfig.setNonFatalErrorMessages(nonFatalErrorMessages);
+        networkConfig.setMaxRetries(MAX_RETRIES);
+        networkConfig.setRetryBackoff(RETRY_BACKOFF);
+        networkConfig.setCallDeadline(CALL_DEADLINE);
+        networkConfig.setKeepAliveInterval(KEEP_ALIVE_INTERVAL);
 
         final ConfigItemType buyFee = new ConfigItemType();
         buyFee.setName(BUY_FEE_CONFIG_ITEM_KEY);
@@ -173,6 +227,10 @@ public class TestExchangeConfigurationManagement {
         assertThat(exchangeReloaded.getNetworkConfig().getConnectionTimeout()).isEqualTo(CONNECTION_TIMEOUT);
         assertTrue(exchangeReloaded.getNetworkConfig().getNonFatalErrorCodes().getCodes().containsAll(NON_FATAL_ERROR_CODES));
         assertTrue(exchangeReloaded.getNetworkConfig().getNonFatalErrorMessages().getMessages().containsAll(NON_FATAL_ERROR_MESSAGES));
+        assertThat(exchangeReloaded.getNetworkConfig().getMaxRetries()).isEqualTo(MAX_RETRIES);
+        assertThat(exchangeReloaded.getNetworkConfig().getRetryBackoff()).isEqualTo(RETRY_BACKOFF);
+        assertThat(exchangeReloaded.getNetworkConfig().getCallDeadline()).isEqualTo(CALL_DEADLINE);
+        assertThat(exchangeReloaded.getNetworkConfig().getKeepAliveInterval()).isEqualTo(KEEP_ALIVE_INTERVAL);
 
         assertThat(exchangeReloaded.getOptionalConfig().getConfigItems().get(0).getName()).isEqualTo(BUY_FEE_CONFIG_ITEM_KEY);
         assertThat(exchangeReloaded.getOptionalConfig().getConfigItems().get(0).getValue()).isEqualTo(BUY_FEE_CONFIG_ITEM_VALUE);
@@ -63,6 +63,7 @@ public class TestMarketConfigurationManagement {
     private static final String MARKET_2_COUNTER_CURRENCY = "GBP";
     private static final boolean MARKET_2_IS_ENABLED = false;
     private static final String MARKET_2_TRADING_STRATEGY_ID = "scalper";
+    private static final String MARKET_2_EXCHANGE_ID = "gdax";
 
 
     @Test
@@ -79,6 +80,7 @@ public class TestMarketConfigurationManagement {
         assertEquals("USD", marketsType.getMarkets().get(0).getCounterCurrency());
         assertTrue(marketsType.getMarkets().get(0).isEnabled());
         assertEquals("scalping-strategy", marketsType.getMarkets().get(0).getTradingStrategyId());
+        assertNull(marketsType.getMarkets().get(0).getExchangeId());
 
         assertEquals("ltc_usd", marketsType.getMarkets().get(1).getId());
         assertEquals("LTC/BTC", marketsType.getMarkets().get(1).getName());
@@ -86,6 +88,7 @@ public class TestMarketConfigurationManagement {
         assertEquals("BTC", marketsType.getMarkets().get(1).getCounterCurrency());
         assertFalse(marketsType.getMarkets().get(1).isEnabled());
         assertEquals("scalping-strategy", marketsType.getMarkets().get(1).getTradingStrategyId());
+        assertEquals("gdax", marketsType.getMarkets().get(1).getExchangeId());
     }
 
     @Test(expected = IllegalStateException.class)
@@ -120,6 +123,7 @@ public class TestMarketConfigurationManagement {
         market2.setBaseCurrency(MARKET_2_BASE_CURRENCY);
         market2.setCounterCurrency(MARKET_2_COUNTER_CURRENCY);
         market2.setTradingStrategyId(MARKET_2_TRADING_STRATEGY_ID);
+        market2.setExchangeId(MARKET_2_EXCHANGE_ID);
 
         final MarketsType marketsConfig = new MarketsType();
         marketsConfig.getMarkets().add(market1);
@@ -144,6 +148,7 @@ public class TestMarketConfigurationManagement {
         assertThat(marketsReloaded.getMarkets().get(1).getBaseCurrency()).isEqualTo(MARKET_2_BASE_CURRENCY);
         assertThat(marketsReloaded.getMarkets().get(1).getCounterCurrency()).isEqualTo(MARKET_2_COUNTER_CURRENCY);
         assertThat(marketsReloaded.getMarkets().get(1).getTradingStrategyId()).isEqualTo(MARKET_2_TRADING_STRATEGY_ID);
+        assertThat(marketsReloaded.getMarkets().get(1).getExchangeId()).isEqualTo(MARKET_2_EXCHANGE_ID);
 
         // cleanup
         Files.delete(FileSystems.getDefault().getPath(XML_CONFIG_TO_SAVE_FILENAME));
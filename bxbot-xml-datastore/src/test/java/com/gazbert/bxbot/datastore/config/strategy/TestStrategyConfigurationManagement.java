@@ -56,6 +56,7 @@ public class TestStrategyConfigurationManagement {
     private static final String STRAT_NAME_1 = "MACD Long Position Algo";
     private static final String STRAT_DESCRIPTION_1 = "Uses MACD as indicator and takes long position in base currency.";
     private static final String STRAT_CLASSNAME_1 = "com.gazbert.nova.algos.MacdLongBase";
+    private static final Integer STRAT_EXECUTION_TIMEOUT_1 = 20;
 
     private static final String STRAT_ID_2 = "long-scalper";
     private static final String STRAT_NAME_2 = "Long Position Scalper Algo";
@@ -86,6 +87,7 @@ public class TestStrategyConfigurationManagement {
                 "price has reached a configurable minimum percentage gain, and then sells at current ASK price, thereby " +
                 "taking profit from the spread. Don't forget to factor in the exchange fees!"));
         assertEquals("com.gazbert.bxbot.strategies.ExampleScalpingStrategy", tradingStrategiesType.getStrategies().get(0).getClassName());
+        assertNull(tradingStrategiesType.getStrategies().get(0).getExecutionTimeout()); // optional element check
 
         assertTrue(2 == tradingStrategiesType.getStrategies().get(0).getOptionalConfig().getConfigItem().size());
         assertEquals("counter-currency-buy-order-amount", tradingStrategiesType.getStrategies().get(0).getOptionalConfig().getConfigItem().get(0).getName());
@@ -123,6 +125,7 @@ public class TestStrategyConfigurationManagement {
         assertTrue(tradingStrategiesType.getStrategies().get(2).getDescription().trim().equals(
                 "Strat uses MACD data to take long position in USD."));
         assertEquals("com.gazbert.bxbot.strategies.YourMacdStrategy", tradingStrategiesType.getStrategies().get(2).getClassName());
+        assertEquals(Integer.valueOf(30), tradingStrategiesType.getStrategies().get(2).getExecutionTimeout());
         assertNull(tradingStrategiesType.getStrategies().get(2).getOptionalConfig()); // optional element check
     }
 
@@ -161,6 +164,7 @@ public class TestStrategyConfigurationManagement {
         strategy1.setName(STRAT_NAME_1);
         strategy1.setDescription(STRAT_DESCRIPTION_1);
         strategy1.setClassName(STRAT_CLASSNAME_1);
+        strategy1.setExecutionTimeout(STRAT_EXECUTION_TIMEOUT_1);
         strategy1.setOptionalConfig(strat1Config);
 
         // Strat 2
@@ -190,6 +194,7 @@ public class TestStrategyConfigurationManagement {
         assertThat(strategiesReloaded.getStrategies().get(0).getName()).isEqualTo(STRAT_NAME_1);
         assertThat(strategiesReloaded.getStrategies().get(0).getDescription()).isEqualTo(STRAT_DESCRIPTION_1);
         assertThat(strategiesReloaded.getStrategies().get(0).getClassName()).isEqualTo(STRAT_CLASSNAME_1);
+        assertThat(strategiesReloaded.getStrategies().get(0).getExecutionTimeout()).isEqualTo(STRAT_EXECUTION_TIMEOUT_1);
 
         assertThat(strategiesReloaded.getStrategies().get(0).getOptionalConfig().getConfigItem().get(0).getName())
                 .isEqualTo(BUY_PRICE_CONFIG_ITEM_KEY);
@@ -205,6 +210,7 @@ public class TestStrategyConfigurationManagement {
         assertThat(strategiesReloaded.getStrategies().get(1).getName()).isEqualTo(STRAT_NAME_2);
         assertThat(strategiesReloaded.getStrategies().get(1).getDescription()).isEqualTo(STRAT_DESCRIPTION_2);
         assertThat(strategiesReloaded.getStrategies().get(1).getClassName()).isEqualTo(STRAT_CLASSNAME_2);
+        assertThat(strategiesReloaded.getStrategies().get(1).getExecutionTimeout()).isNull();
 
         assertThat(strategiesReloaded.getStrategies().get(1).getOptionalConfig().getConfigItem().get(0).getName())
                 .isEqualTo(BUY_PRICE_CONFIG_ITEM_KEY);